@@ -301,6 +301,7 @@ public class ClientProxyBean implements Bean {
                 Exchange exchangeIn = createExchange(_service, method, inOutHandler);
                 //copy the properties from the current exchange to the new exchange that will be invoked
                 //copyProperties(exchangeIn);
+                propagateDeadline(exchangeIn);
                 // Don't set the message content as an array unless there are multiple arguments
                 if (args != null && args.length == 1) {
                     exchangeIn.send(exchangeIn.createMessage().setContent(args[0]));
@@ -308,7 +309,7 @@ public class ClientProxyBean implements Bean {
                     exchangeIn.send(exchangeIn.createMessage().setContent(args));
                 }
 
-                Exchange exchangeOut = inOutHandler.waitForOut();
+                Exchange exchangeOut = inOutHandler.waitForOut(exchangeIn);
                 if (exchangeOut.getState() == ExchangeState.OK) {
                     return exchangeOut.getMessage().getContent(method.getReturnType());
                 } else {
@@ -318,6 +319,7 @@ public class ClientProxyBean implements Bean {
                 Exchange exchange = createExchange(_service, method, null);
                 //copy the properties from the current exchange to the new exchange that will be invoked
                 //copyProperties(exchange);
+                propagateDeadline(exchange);
                 // Don't set the message content as an array unless there are multiple arguments
                 if (args == null) {
                     exchange.send(exchange.createMessage());
@@ -363,6 +365,21 @@ public class ClientProxyBean implements Bean {
             }
         }
 
+        /**
+         * Carries the deadline of the exchange being processed over to the
+         * new exchange, so work for an expired request is not started.
+         *
+         * @param newExchange
+         *            the new exchange object
+         */
+        private void propagateDeadline(Exchange newExchange) {
+            Context context = ContextProxy.getCurrentContext();
+            Property deadline = context == null ? null : context.getProperty(Exchange.DEADLINE, Scope.EXCHANGE);
+            if (deadline != null && newExchange.getContext().getProperty(Exchange.DEADLINE, Scope.EXCHANGE) == null) {
+                newExchange.getContext().setProperty(Exchange.DEADLINE, deadline.getValue(), Scope.EXCHANGE);
+            }
+        }
+
         /**
          * This method allows to copy the properties from the current context to
          * the new exchange context
@@ -17,7 +17,6 @@ package org.switchyard.component.bean.config.model;
 import java.io.IOException;
 import java.lang.reflect.Field;
 import java.lang.reflect.Modifier;
-import java.net.URL;
 import java.util.HashSet;
 import java.util.List;
 import java.util.Set;
@@ -197,9 +196,7 @@ public class BeanSwitchYardScanner implements Scanner<SwitchYardModel> {
         CompositeFilter filter = new CompositeFilter(annoFilter, pkgFilter);
         ClasspathScanner serviceScanner = new ClasspathScanner(filter);
 
-        for (URL url : input.getURLs()) {
-            serviceScanner.scan(url);
-        }
+        serviceScanner.scan(input.getURLs());
 
         return filter.getMatchedTypes();
     }
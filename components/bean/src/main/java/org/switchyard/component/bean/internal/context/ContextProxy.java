@@ -21,6 +21,7 @@ import javax.enterprise.inject.Alternative;
 
 import org.switchyard.Context;
 import org.switchyard.Property;
+import org.switchyard.PropertyVisitor;
 import org.switchyard.Scope;
 import org.switchyard.component.bean.BeanMessages;
 
@@ -141,6 +142,30 @@ public class ContextProxy implements Context {
         return getContext().getProperties(label);
     }
 
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public void visitProperties(PropertyVisitor visitor) {
+        getContext().visitProperties(visitor);
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public void visitProperties(Scope scope, PropertyVisitor visitor) {
+        getContext().visitProperties(scope, visitor);
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public void visitProperties(String label, PropertyVisitor visitor) {
+        getContext().visitProperties(label, visitor);
+    }
+
     /**
      * {@inheritDoc}
      */
@@ -149,6 +174,14 @@ public class ContextProxy implements Context {
         getContext().removeProperties(label);
     }
 
+    /**
+     * Gets the {@link Context} for the current thread, if there is one.
+     * @return the context, or null outside of an exchange handler chain
+     */
+    public static Context getCurrentContext() {
+        return CONTEXT.get();
+    }
+
     /**
      * Gets the {@link Context} for the current thread.
      * @return the context
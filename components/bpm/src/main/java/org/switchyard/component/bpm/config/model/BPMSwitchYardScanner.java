@@ -15,7 +15,6 @@ package org.switchyard.component.bpm.config.model;
 
 import java.io.IOException;
 import java.lang.reflect.Method;
-import java.net.URL;
 import java.util.List;
 
 import org.jbpm.services.task.wih.AbstractHTWorkItemHandler;
@@ -89,9 +88,7 @@ public class BPMSwitchYardScanner extends KnowledgeSwitchYardScanner {
         CompositeModel compositeModel = new V1CompositeModel();
         compositeModel.setName(input.getCompositeName());
         ClasspathScanner bpmScanner = new ClasspathScanner(_bpmFilter);
-        for (URL url : input.getURLs()) {
-            bpmScanner.scan(url);
-        }
+        bpmScanner.scan(input.getURLs());
         List<Class<?>> bpmClasses = _bpmFilter.getMatchedTypes();
         for (Class<?> bpmClass : bpmClasses) {
             compositeModel.addComponent(scan(bpmClass, switchyardNamespace));
@@ -18,6 +18,7 @@ import java.util.List;
 
 import org.switchyard.component.camel.common.QueryString;
 import org.switchyard.component.camel.common.model.file.GenericFileProducerBindingModel;
+import org.switchyard.component.camel.common.model.file.GenericFileSplitModel;
 import org.switchyard.component.camel.common.model.file.v1.V1GenericFileBindingModel;
 import org.switchyard.component.camel.common.model.file.v1.V1GenericFileProducerBindingModel;
 import org.switchyard.component.camel.common.model.v1.V1CamelScheduledPollConsumer;
@@ -127,7 +128,7 @@ public class V1CamelFileBindingModel extends V1GenericFileBindingModel
         List<Configuration> children = modelConfiguration.getChildren();
 
         QueryString queryString = new QueryString();
-        traverseConfiguration(children, queryString, DIRECTORY);
+        traverseConfiguration(children, queryString, DIRECTORY, GenericFileSplitModel.SPLIT);
 
         URI newURI = URI.create(FILE + "://" + getDirectory() + queryString);
         return newURI;
@@ -0,0 +1,88 @@
+/*
+ * Copyright 2013 Red Hat Inc. and/or its affiliates and other contributors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * http://www.apache.org/licenses/LICENSE-2.0
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,  
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.switchyard.component.camel.file.v2;
+
+import static junit.framework.Assert.assertEquals;
+
+import org.apache.camel.component.file.FileEndpoint;
+import org.switchyard.component.camel.common.model.file.GenericFileSplitModel;
+import org.switchyard.component.camel.common.model.file.GenericFileSplitModel.Mode;
+import org.switchyard.component.camel.common.model.file.v1.V1GenericFileSplitModel;
+import org.switchyard.component.camel.config.test.v1.V1BaseCamelServiceBindingModelTest;
+import org.switchyard.component.camel.file.model.CamelFileNamespace;
+import org.switchyard.component.camel.file.model.v1.V1CamelFileBindingModel;
+import org.switchyard.component.camel.file.model.v1.V1CamelFileConsumerBindingModel;
+
+/**
+ * Test for the split configuration of file consumers.
+ */
+public class V2CamelFileSplitBindingModelTest extends V1BaseCamelServiceBindingModelTest<V1CamelFileBindingModel, FileEndpoint> {
+
+    private static final String CAMEL_XML = "/v2/switchyard-file-binding-split-beans.xml";
+
+    private static final String DIRECTORY = "/input/directory";
+    private static final String MOVE = ".done";
+    private static final Mode MODE = Mode.XML;
+    private static final String ELEMENT = "order";
+    private static final String PARENT = "orders";
+    private static final Integer CHUNK_SIZE = 10;
+    private static final Integer PARALLELISM = 4;
+    private static final Boolean ORDERED = false;
+    private static final String THREAD_POOL = "orderPool";
+    // split options are not endpoint options
+    private static final String CAMEL_URI = "file:///input/directory?move=.done";
+
+    public V2CamelFileSplitBindingModelTest() {
+        super(FileEndpoint.class, CAMEL_XML);
+    }
+
+    @Override
+    protected V1CamelFileBindingModel createTestModel() {
+        V1CamelFileBindingModel fileModel = new V1CamelFileBindingModel(CamelFileNamespace.V_2_0.uri());
+        fileModel.setDirectory(DIRECTORY);
+
+        V1GenericFileSplitModel split = new V1GenericFileSplitModel(CamelFileNamespace.V_2_0.uri())
+            .setMode(MODE)
+            .setElement(ELEMENT)
+            .setParent(PARENT)
+            .setChunkSize(CHUNK_SIZE)
+            .setParallelism(PARALLELISM)
+            .setOrdered(ORDERED)
+            .setThreadPool(THREAD_POOL);
+        V1CamelFileConsumerBindingModel model = new V1CamelFileConsumerBindingModel(CamelFileNamespace.V_2_0.uri());
+        model.setMove(MOVE)
+            .setSplit(split);
+        return fileModel.setConsumer(model);
+    }
+
+    @Override
+    protected void createModelAssertions(V1CamelFileBindingModel model) {
+        GenericFileSplitModel split = model.getConsumer().getSplit();
+
+        assertEquals(MOVE, model.getConsumer().getMove());
+        assertEquals(MODE, split.getMode());
+        assertEquals(ELEMENT, split.getElement());
+        assertEquals(PARENT, split.getParent());
+        assertEquals(CHUNK_SIZE, split.getChunkSize());
+        assertEquals(PARALLELISM, split.getParallelism());
+        assertEquals(ORDERED, split.isOrdered());
+        assertEquals(THREAD_POOL, split.getThreadPool());
+    }
+
+    @Override
+    protected String createEndpointUri() {
+        return CAMEL_URI;
+    }
+
+}
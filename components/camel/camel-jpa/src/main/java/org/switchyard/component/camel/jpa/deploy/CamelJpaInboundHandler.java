@@ -18,16 +18,22 @@ import java.util.HashMap;
 import javax.persistence.EntityManagerFactory;
 import javax.xml.namespace.QName;
 
+import org.apache.camel.component.jpa.JpaEndpoint;
 import org.apache.camel.model.RouteDefinition;
 import org.switchyard.ServiceDomain;
 import org.switchyard.common.camel.SwitchYardCamelContext;
-import org.switchyard.component.camel.common.handler.InboundHandler;
+import org.switchyard.component.camel.common.handler.StreamCursor;
+import org.switchyard.component.camel.common.handler.StreamingInboundHandler;
+import org.switchyard.component.camel.common.model.consumer.CamelStreamConsumerModel;
 import org.switchyard.component.camel.jpa.model.CamelJpaBindingModel;
+import org.switchyard.component.camel.jpa.model.CamelJpaConsumerBindingModel;
 
 /**
  * Inbound handler for JPA binding. Resolve EntityManagerFactory instance in case it runs on OSGi container.
+ * When the consumer has a stream configuration, the entities of a poll are read in pages and sent to the
+ * service while they are being read, instead of being loaded into one list by the JPA consumer.
  */
-public class CamelJpaInboundHandler extends InboundHandler<CamelJpaBindingModel> {
+public class CamelJpaInboundHandler extends StreamingInboundHandler<CamelJpaBindingModel> {
 
     /**
      * Sole constructor.
@@ -53,4 +59,23 @@ public class CamelJpaInboundHandler extends InboundHandler<CamelJpaBindingModel>
         return super.createRouteDefinition();
     }
 
+    @Override
+    protected CamelStreamConsumerModel getStream() {
+        if (getBindingModel().getModelConfiguration().getFirstChild(CamelJpaBindingModel.CONSUME) == null) {
+            return null;
+        }
+        return getBindingModel().getConsumer().getStream();
+    }
+
+    @Override
+    protected StreamCursor openCursor(CamelStreamConsumerModel stream) throws Exception {
+        CamelJpaConsumerBindingModel consumer = getBindingModel().getConsumer();
+        JpaEndpoint endpoint = getSwitchYardCamelContext().getEndpoint(getBindingUri().toString(), JpaEndpoint.class);
+        Class<?> resultClass = consumer.getResultClass() == null ? null
+            : getSwitchYardCamelContext().getClassResolver().resolveMandatoryClass(consumer.getResultClass());
+        return new JpaStreamCursor(endpoint.getEntityManagerFactory(), endpoint.getTransactionManager(), consumer,
+            endpoint.getEntityType(), resultClass, endpoint.isConsumeDelete(), stream.getFetchSize(),
+            stream.getChunkSize(), stream.getConsumeBatchSize());
+    }
+
 }
@@ -0,0 +1,243 @@
+/*
+ * Copyright 2013 Red Hat Inc. and/or its affiliates and other contributors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * http://www.apache.org/licenses/LICENSE-2.0
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,  
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.switchyard.component.camel.jpa.deploy;
+
+import java.lang.reflect.Method;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.NoSuchElementException;
+
+import javax.persistence.Entity;
+import javax.persistence.EntityManager;
+import javax.persistence.EntityManagerFactory;
+import javax.persistence.Query;
+import javax.persistence.metamodel.EntityType;
+import javax.persistence.metamodel.Type;
+
+import org.apache.camel.component.jpa.Consumed;
+import org.apache.camel.util.ObjectHelper;
+import org.springframework.orm.jpa.EntityManagerFactoryUtils;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionStatus;
+import org.springframework.transaction.support.TransactionCallbackWithoutResult;
+import org.springframework.transaction.support.TransactionTemplate;
+import org.switchyard.component.camel.common.handler.StreamCursor;
+import org.switchyard.component.camel.jpa.model.CamelJpaConsumerBindingModel;
+
+/**
+ * Reads the entities of a poll in pages of the fetch size, each page with an
+ * entity manager of its own which is closed once the page is read, so only
+ * one page of entities is held by the cursor.
+ * <br><br>
+ * Pages are read by key: the entities are ordered by their id and each page
+ * starts after the id of the last entity read, so every entity is read once
+ * per poll whether or not marking it removes it from the query, and each
+ * page is an index range scan rather than a scan of the rows before it.
+ * This needs the default query of the entity type and a single, basic id.
+ * A custom query, or an entity with a composite id, cannot be paged this way
+ * and is read in one page, as the JPA consumer reads it.
+ * <br><br>
+ * Consumed entities are marked as the JPA consumer marks them: methods
+ * annotated with {@link Consumed} are invoked on them, or they are deleted
+ * when the endpoint consumes by deleting.  The marks of a consume batch are
+ * applied in one transaction of the endpoint transaction manager.
+ */
+final class JpaStreamCursor extends StreamCursor {
+
+    private final EntityManagerFactory _entityManagerFactory;
+    private final PlatformTransactionManager _transactionManager;
+    private final CamelJpaConsumerBindingModel _consumer;
+    private final Class<?> _entityType;
+    private final Class<?> _resultClass;
+    private final boolean _consumeDelete;
+    private final List<Method> _consumedMethods;
+    private final int _fetchSize;
+    private final int _maximumResults;
+    private final boolean _marking;
+    private final String _idAttribute;
+    private List<?> _page = Collections.emptyList();
+    private int _index;
+    private boolean _lastPage;
+    private int _read;
+    private Object _lastId;
+
+    JpaStreamCursor(EntityManagerFactory entityManagerFactory, PlatformTransactionManager transactionManager,
+        CamelJpaConsumerBindingModel consumer, Class<?> entityType, Class<?> resultClass, boolean consumeDelete,
+        int fetchSize, int chunkSize, int consumeBatchSize) {
+        super(chunkSize, consumeBatchSize);
+        _entityManagerFactory = entityManagerFactory;
+        _transactionManager = transactionManager;
+        _consumer = consumer;
+        _entityType = entityType;
+        _resultClass = resultClass;
+        _consumeDelete = consumeDelete;
+        _fetchSize = Math.max(1, fetchSize);
+        Integer maximumResults = consumer.getMaximumResults();
+        _maximumResults = maximumResults != null && maximumResults > 0 ? maximumResults : Integer.MAX_VALUE;
+        _consumedMethods = getConsumedMethods(entityType);
+        _marking = consumeDelete || !_consumedMethods.isEmpty();
+        _idAttribute = consumer.getNamedQuery() == null && consumer.getNativeQuery() == null && consumer.getQuery() == null
+            ? getIdAttribute(entityManagerFactory, entityType) : null;
+    }
+
+    @Override
+    protected boolean hasNextResult() {
+        if (_index < _page.size()) {
+            return true;
+        }
+        if (_lastPage || _read >= _maximumResults) {
+            return false;
+        }
+        fetchPage();
+        return _index < _page.size();
+    }
+
+    @Override
+    protected Object nextResult() {
+        if (!hasNextResult()) {
+            throw new NoSuchElementException();
+        }
+        _read++;
+        return _page.get(_index++);
+    }
+
+    private void fetchPage() {
+        int pageSize = _maximumResults - _read;
+        EntityManager entityManager = _entityManagerFactory.createEntityManager();
+        try {
+            Query query;
+            if (_idAttribute != null) {
+                pageSize = Math.min(_fetchSize, pageSize);
+                query = createPageQuery(entityManager);
+            } else {
+                query = createQuery(entityManager);
+            }
+            if (pageSize < Integer.MAX_VALUE) {
+                query.setMaxResults(pageSize);
+            }
+            _page = query.getResultList();
+            if (_idAttribute != null && !_page.isEmpty()) {
+                _lastId = _entityManagerFactory.getPersistenceUnitUtil().getIdentifier(_page.get(_page.size() - 1));
+            }
+        } finally {
+            // detaches the page
+            entityManager.close();
+        }
+        _index = 0;
+        _lastPage = _idAttribute == null || _page.size() < pageSize;
+    }
+
+    private Query createPageQuery(EntityManager entityManager) {
+        StringBuilder jpql = new StringBuilder("select x from ").append(getEntityName(_entityType)).append(" x");
+        if (_lastId != null) {
+            jpql.append(" where x.").append(_idAttribute).append(" > :lastId");
+        }
+        jpql.append(" order by x.").append(_idAttribute);
+        Query query = entityManager.createQuery(jpql.toString());
+        if (_lastId != null) {
+            query.setParameter("lastId", _lastId);
+        }
+        return query;
+    }
+
+    private Query createQuery(EntityManager entityManager) {
+        if (_consumer.getNamedQuery() != null) {
+            return entityManager.createNamedQuery(_consumer.getNamedQuery());
+        } else if (_consumer.getNativeQuery() != null) {
+            return _resultClass != null ? entityManager.createNativeQuery(_consumer.getNativeQuery(), _resultClass)
+                : entityManager.createNativeQuery(_consumer.getNativeQuery());
+        } else if (_consumer.getQuery() != null) {
+            return entityManager.createQuery(_consumer.getQuery());
+        }
+        return entityManager.createQuery("select x from " + getEntityName(_entityType) + " x");
+    }
+
+    @Override
+    protected void markConsumed(final List<Object> entities) {
+        if (!_marking) {
+            return;
+        }
+        new TransactionTemplate(_transactionManager).execute(
+            new TransactionCallbackWithoutResult() {
+                @Override
+                protected void doInTransactionWithoutResult(TransactionStatus status) {
+                    EntityManager entityManager = EntityManagerFactoryUtils.getTransactionalEntityManager(_entityManagerFactory);
+                    boolean owned = entityManager == null;
+                    if (owned) {
+                        entityManager = _entityManagerFactory.createEntityManager();
+                        entityManager.joinTransaction();
+                    }
+                    try {
+                        for (Object entity : entities) {
+                            Object managed = entityManager.merge(entity);
+                            if (!_consumedMethods.isEmpty()) {
+                                for (Method method : _consumedMethods) {
+                                    ObjectHelper.invokeMethod(method, managed);
+                                }
+                            } else {
+                                entityManager.remove(managed);
+                            }
+                        }
+                        entityManager.flush();
+                    } finally {
+                        if (owned) {
+                            entityManager.close();
+                        }
+                    }
+                }
+            });
+    }
+
+    @Override
+    protected void release() {
+        _page = Collections.emptyList();
+    }
+
+    private static List<Method> getConsumedMethods(Class<?> entityType) {
+        List<Method> methods = new ArrayList<Method>();
+        for (Method method : entityType.getMethods()) {
+            if (method.getAnnotation(Consumed.class) != null && method.getParameterTypes().length == 0) {
+                methods.add(method);
+            }
+        }
+        return methods;
+    }
+
+    private static String getIdAttribute(EntityManagerFactory entityManagerFactory, Class<?> entityType) {
+        EntityType<?> type;
+        try {
+            type = entityManagerFactory.getMetamodel().entity(entityType);
+        } catch (IllegalArgumentException e) {
+            return null;
+        }
+        if (!type.hasSingleIdAttribute() || type.getIdType().getPersistenceType() != Type.PersistenceType.BASIC) {
+            return null;
+        }
+        Class<?> idType = type.getIdType().getJavaType();
+        if (!idType.isPrimitive() && !Comparable.class.isAssignableFrom(idType)) {
+            return null;
+        }
+        return type.getId(idType).getName();
+    }
+
+    private static String getEntityName(Class<?> entityType) {
+        Entity entity = entityType.getAnnotation(Entity.class);
+        if (entity != null && entity.name() != null && entity.name().length() > 0) {
+            return entity.name();
+        }
+        return entityType.getSimpleName();
+    }
+
+}
@@ -14,6 +14,7 @@
 package org.switchyard.component.camel.jpa.model;
 
 import org.switchyard.component.camel.common.model.consumer.CamelScheduledBatchPollConsumer;
+import org.switchyard.component.camel.common.model.consumer.CamelStreamConsumerModel;
 
 /**
  * Camel based jpa consumer configuration. 
@@ -148,4 +149,21 @@ public interface CamelJpaConsumerBindingModel extends CamelScheduledBatchPollCon
      */
     CamelJpaConsumerBindingModel setTransacted(Boolean transacted);
 
+    /**
+     * Get the stream configuration of the consumer.
+     * 
+     * @return Stream configuration, or null if polled entities are not streamed.
+     */
+    CamelStreamConsumerModel getStream();
+
+    /**
+     * Specifies the stream configuration of the consumer, which reads the
+     * entities of a poll in pages of the fetch size and sends them to the
+     * service while they are being read.
+     * 
+     * @param stream Stream configuration.
+     * @return a reference to this binding model
+     */
+    CamelJpaConsumerBindingModel setStream(CamelStreamConsumerModel stream);
+
 }
@@ -18,6 +18,7 @@ import java.util.List;
 
 import org.apache.camel.util.UnsafeUriCharactersEncoder;
 import org.switchyard.component.camel.common.QueryString;
+import org.switchyard.component.camel.common.model.consumer.CamelStreamConsumerModel;
 import org.switchyard.component.camel.common.model.v1.V1BaseCamelBindingModel;
 import org.switchyard.component.camel.jpa.model.CamelJpaBindingModel;
 import org.switchyard.component.camel.jpa.model.CamelJpaConsumerBindingModel;
@@ -154,7 +155,7 @@ public class V1CamelJpaBindingModel extends V1BaseCamelBindingModel
         String baseUri = JPA + "://" + getEntityClassName();
 
         QueryString queryStr = new QueryString();
-        traverseConfiguration(children, queryStr, ENTITY_CLASS_NAME);
+        traverseConfiguration(children, queryStr, ENTITY_CLASS_NAME, CamelStreamConsumerModel.STREAM);
 
         return URI.create(baseUri + UnsafeUriCharactersEncoder.encode(queryStr.toString()));
     }
@@ -13,7 +13,9 @@
  */
 package org.switchyard.component.camel.jpa.model.v1;
 
+import org.switchyard.component.camel.common.model.consumer.CamelStreamConsumerModel;
 import org.switchyard.component.camel.common.model.v1.V1CamelScheduledBatchPollConsumer;
+import org.switchyard.component.camel.common.model.v1.V1CamelStreamConsumerModel;
 import org.switchyard.component.camel.jpa.model.CamelJpaConsumerBindingModel;
 import org.switchyard.config.Configuration;
 import org.switchyard.config.model.Descriptor;
@@ -35,6 +37,8 @@ public class V1CamelJpaConsumerBindingModel extends V1CamelScheduledBatchPollCon
     private static final String RESULT_CLASS = "consumer.resultClass";
     private static final String TRANSACTED = "consumer.transacted";
 
+    private CamelStreamConsumerModel _stream;
+
     /**
      * Create a binding from the specified configuration and descriptor.
      * 
@@ -45,7 +49,7 @@ public class V1CamelJpaConsumerBindingModel extends V1CamelScheduledBatchPollCon
         super(config, desc);
 
         setModelChildrenOrder(CONSUME_DELETE, CONSUME_LOCK_ENTITY, MAXIMUM_RESULTS, QUERY,
-            NAMED_QUERY, NATIVE_QUERY, RESULT_CLASS, TRANSACTED);
+            NAMED_QUERY, NATIVE_QUERY, RESULT_CLASS, TRANSACTED, CamelStreamConsumerModel.STREAM);
     }
 
     /**
@@ -136,4 +140,30 @@ public class V1CamelJpaConsumerBindingModel extends V1CamelScheduledBatchPollCon
         return setConfig(TRANSACTED, transacted);
     }
 
+    @Override
+    public CamelStreamConsumerModel getStream() {
+        if (_stream == null) {
+            Configuration config = getModelConfiguration().getFirstChild(CamelStreamConsumerModel.STREAM);
+            if (config == null) {
+                return null;
+            }
+            _stream = new V1CamelStreamConsumerModel(config, getModelDescriptor());
+        }
+        return _stream;
+    }
+
+    @Override
+    public V1CamelJpaConsumerBindingModel setStream(CamelStreamConsumerModel stream) {
+        Configuration config = getModelConfiguration().getFirstChild(CamelStreamConsumerModel.STREAM);
+        if (config != null) {
+            // set an existing config value
+            getModelConfiguration().removeChildren(CamelStreamConsumerModel.STREAM);
+            getModelConfiguration().addChild(stream.getModelConfiguration());
+        } else {
+            setChildModel(stream);
+        }
+        _stream = stream;
+        return this;
+    }
+
 }
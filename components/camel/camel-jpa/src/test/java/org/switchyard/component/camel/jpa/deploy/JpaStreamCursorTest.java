@@ -0,0 +1,234 @@
+/*
+ * Copyright 2013 Red Hat Inc. and/or its affiliates and other contributors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * http://www.apache.org/licenses/LICENSE-2.0
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.switchyard.component.camel.jpa.deploy;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+import static org.mockito.Matchers.anyInt;
+import static org.mockito.Matchers.anyObject;
+import static org.mockito.Matchers.anyString;
+import static org.mockito.Matchers.eq;
+import static org.mockito.Mockito.doReturn;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+import javax.persistence.Entity;
+import javax.persistence.EntityManager;
+import javax.persistence.EntityManagerFactory;
+import javax.persistence.PersistenceUnitUtil;
+import javax.persistence.Query;
+import javax.persistence.metamodel.EntityType;
+import javax.persistence.metamodel.Metamodel;
+import javax.persistence.metamodel.SingularAttribute;
+import javax.persistence.metamodel.Type;
+
+import org.apache.camel.component.jpa.Consumed;
+import org.junit.Before;
+import org.junit.Test;
+import org.mockito.invocation.InvocationOnMock;
+import org.mockito.stubbing.Answer;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.switchyard.component.camel.jpa.model.CamelJpaConsumerBindingModel;
+
+/**
+ * Unit test for {@link JpaStreamCursor}, against an in-memory table whose
+ * consumed entities keep matching the query.
+ */
+public class JpaStreamCursorTest {
+
+    private final List<Item> _table = new ArrayList<Item>();
+    private final List<String> _queries = new ArrayList<String>();
+    private EntityManagerFactory _entityManagerFactory;
+    private CamelJpaConsumerBindingModel _consumer;
+
+    @Before
+    @SuppressWarnings({"unchecked", "rawtypes"})
+    public void setUp() {
+        for (long id = 1; id <= 5; id++) {
+            _table.add(new Item(id));
+        }
+        _entityManagerFactory = mock(EntityManagerFactory.class);
+        Metamodel metamodel = mock(Metamodel.class);
+        EntityType entityType = mock(EntityType.class);
+        Type idType = mock(Type.class);
+        SingularAttribute idAttribute = mock(SingularAttribute.class);
+        when(_entityManagerFactory.getMetamodel()).thenReturn(metamodel);
+        doReturn(entityType).when(metamodel).entity(Item.class);
+        when(entityType.hasSingleIdAttribute()).thenReturn(true);
+        when(entityType.getIdType()).thenReturn(idType);
+        when(idType.getPersistenceType()).thenReturn(Type.PersistenceType.BASIC);
+        when(idType.getJavaType()).thenReturn(Long.class);
+        when(entityType.getId(Long.class)).thenReturn(idAttribute);
+        when(idAttribute.getName()).thenReturn("id");
+
+        PersistenceUnitUtil util = mock(PersistenceUnitUtil.class);
+        when(_entityManagerFactory.getPersistenceUnitUtil()).thenReturn(util);
+        when(util.getIdentifier(anyObject())).thenAnswer(new Answer<Object>() {
+            @Override
+            public Object answer(InvocationOnMock invocation) {
+                return ((Item) invocation.getArguments()[0]).getId();
+            }
+        });
+
+        EntityManager entityManager = mock(EntityManager.class);
+        when(_entityManagerFactory.createEntityManager()).thenReturn(entityManager);
+        when(entityManager.merge(anyObject())).thenAnswer(new Answer<Object>() {
+            @Override
+            public Object answer(InvocationOnMock invocation) {
+                return invocation.getArguments()[0];
+            }
+        });
+        when(entityManager.createQuery(anyString())).thenAnswer(new Answer<Query>() {
+            @Override
+            public Query answer(InvocationOnMock invocation) {
+                return query((String) invocation.getArguments()[0]);
+            }
+        });
+        _consumer = mock(CamelJpaConsumerBindingModel.class);
+    }
+
+    @Test
+    public void consumedEntitiesStillMatchingAreReadOnce() throws Exception {
+        JpaStreamCursor cursor = cursor(2, 1, 2);
+        List<Long> read = new ArrayList<Long>();
+        while (cursor.hasNext()) {
+            Item item = (Item) cursor.next();
+            read.add(item.getId());
+            cursor.consumed(item);
+        }
+        cursor.close();
+        assertEquals(Arrays.asList(1L, 2L, 3L, 4L, 5L), read);
+        for (Item item : _table) {
+            assertEquals(1, item._consumed);
+        }
+        assertEquals(Arrays.asList(
+            "select x from Item x order by x.id",
+            "select x from Item x where x.id > :lastId order by x.id",
+            "select x from Item x where x.id > :lastId order by x.id"), _queries);
+    }
+
+    @Test
+    public void chunksSpanPages() throws Exception {
+        JpaStreamCursor cursor = cursor(2, 3, 10);
+        List<Object> chunks = new ArrayList<Object>();
+        while (cursor.hasNext()) {
+            Object chunk = cursor.next();
+            chunks.add(chunk);
+            cursor.consumed(chunk);
+        }
+        cursor.close();
+        assertEquals(2, chunks.size());
+        assertEquals(3, ((List<?>) chunks.get(0)).size());
+        assertEquals(2, ((List<?>) chunks.get(1)).size());
+        for (Item item : _table) {
+            assertEquals(1, item._consumed);
+        }
+    }
+
+    @Test
+    public void maximumResultsEndsThePoll() throws Exception {
+        when(_consumer.getMaximumResults()).thenReturn(3);
+        JpaStreamCursor cursor = cursor(2, 1, 1);
+        int read = 0;
+        while (cursor.hasNext()) {
+            cursor.next();
+            read++;
+        }
+        cursor.close();
+        assertEquals(3, read);
+        assertEquals(2, _queries.size());
+    }
+
+    @Test
+    public void customQueryIsReadInOnePage() throws Exception {
+        when(_consumer.getQuery()).thenReturn("select x from Item x where x.consumed = 0");
+        JpaStreamCursor cursor = cursor(2, 1, 1);
+        int read = 0;
+        while (cursor.hasNext()) {
+            cursor.consumed(cursor.next());
+            read++;
+        }
+        cursor.close();
+        assertEquals(5, read);
+        assertEquals(Arrays.asList("select x from Item x where x.consumed = 0"), _queries);
+        assertTrue(_table.get(4)._consumed == 1);
+    }
+
+    private JpaStreamCursor cursor(int fetchSize, int chunkSize, int consumeBatchSize) {
+        return new JpaStreamCursor(_entityManagerFactory, mock(PlatformTransactionManager.class), _consumer,
+            Item.class, null, false, fetchSize, chunkSize, consumeBatchSize);
+    }
+
+    private Query query(String jpql) {
+        _queries.add(jpql);
+        final Query query = mock(Query.class);
+        final Object[] lastId = new Object[1];
+        final int[] maxResults = {Integer.MAX_VALUE};
+        when(query.setParameter(eq("lastId"), anyObject())).thenAnswer(new Answer<Query>() {
+            @Override
+            public Query answer(InvocationOnMock invocation) {
+                lastId[0] = invocation.getArguments()[1];
+                return query;
+            }
+        });
+        when(query.setMaxResults(anyInt())).thenAnswer(new Answer<Query>() {
+            @Override
+            public Query answer(InvocationOnMock invocation) {
+                maxResults[0] = (Integer) invocation.getArguments()[0];
+                return query;
+            }
+        });
+        when(query.getResultList()).thenAnswer(new Answer<List<Item>>() {
+            @Override
+            public List<Item> answer(InvocationOnMock invocation) {
+                List<Item> result = new ArrayList<Item>();
+                for (Item item : _table) {
+                    if (result.size() < maxResults[0] && (lastId[0] == null || item.getId() > (Long) lastId[0])) {
+                        result.add(item);
+                    }
+                }
+                return result;
+            }
+        });
+        return query;
+    }
+
+    /**
+     * Entity marked consumed by a {@link Consumed} method, which does not
+     * take it out of the default query.
+     */
+    @Entity
+    public static class Item {
+        private final Long _id;
+        private int _consumed;
+
+        Item(Long id) {
+            _id = id;
+        }
+
+        public Long getId() {
+            return _id;
+        }
+
+        @Consumed
+        public void markConsumed() {
+            _consumed++;
+        }
+    }
+
+}
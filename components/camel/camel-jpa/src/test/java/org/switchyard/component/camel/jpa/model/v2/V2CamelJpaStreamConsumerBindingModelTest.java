@@ -0,0 +1,90 @@
+/*
+ * Copyright 2013 Red Hat Inc. and/or its affiliates and other contributors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * http://www.apache.org/licenses/LICENSE-2.0
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,  
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.switchyard.component.camel.jpa.model.v2;
+
+import static junit.framework.Assert.assertEquals;
+
+import org.apache.camel.component.jpa.JpaEndpoint;
+import org.switchyard.component.camel.common.model.consumer.CamelStreamConsumerModel;
+import org.switchyard.component.camel.common.model.v1.V1CamelStreamConsumerModel;
+import org.switchyard.component.camel.config.test.v1.V1BaseCamelServiceBindingModelTest;
+import org.switchyard.component.camel.jpa.model.CamelJpaConsumerBindingModel;
+import org.switchyard.component.camel.jpa.model.CamelJpaNamespace;
+import org.switchyard.component.camel.jpa.model.v1.V1CamelJpaBindingModel;
+import org.switchyard.component.camel.jpa.model.v1.V1CamelJpaConsumerBindingModel;
+
+/**
+ * Test for the stream configuration of {@link V1CamelJpaConsumerBindingModel}.
+ */
+public class V2CamelJpaStreamConsumerBindingModelTest extends V1BaseCamelServiceBindingModelTest<V1CamelJpaBindingModel, JpaEndpoint> {
+
+    private static final String CAMEL_XML = "/v2/switchyard-jpa-binding-stream-consumer-beans.xml";
+    // stream options are not endpoint options
+    private static final String CAMEL_URI = "jpa://some.clazz.Name?persistenceUnit=MyPU&" +
+        "consumeDelete=true&maximumResults=10000&consumer.query=select u from User u order by u.id";
+
+    private static final String ENTITY_CLASS_NAME = "some.clazz.Name";
+    private static final String PERSISTENCE_UNIT = "MyPU";
+    private static final Boolean CONSUME_DELETE = true;
+    private static final Integer MAXIMUM_RESULTS = 10000;
+    private static final String QUERY = "select u from User u order by u.id";
+    private static final Integer FETCH_SIZE = 250;
+    private static final Integer CHUNK_SIZE = 10;
+    private static final Integer PARALLELISM = 2;
+    private static final Integer CONSUME_BATCH_SIZE = 50;
+
+    public V2CamelJpaStreamConsumerBindingModelTest() {
+        super(JpaEndpoint.class, CAMEL_XML);
+
+        setSkipCamelEndpointTesting(true);
+    }
+
+    @Override
+    protected V1CamelJpaBindingModel createTestModel() {
+        V1CamelJpaBindingModel model = new V1CamelJpaBindingModel(CamelJpaNamespace.V_2_0.uri());
+        model.setEntityClassName(ENTITY_CLASS_NAME);
+        model.setPersistenceUnit(PERSISTENCE_UNIT);
+
+        CamelStreamConsumerModel stream = new V1CamelStreamConsumerModel(CamelJpaNamespace.V_2_0.uri())
+            .setFetchSize(FETCH_SIZE)
+            .setChunkSize(CHUNK_SIZE)
+            .setParallelism(PARALLELISM)
+            .setConsumeBatchSize(CONSUME_BATCH_SIZE);
+        CamelJpaConsumerBindingModel consumer = (CamelJpaConsumerBindingModel) new V1CamelJpaConsumerBindingModel(CamelJpaNamespace.V_2_0.uri())
+            .setConsumeDelete(CONSUME_DELETE)
+            .setMaximumResults(MAXIMUM_RESULTS)
+            .setQuery(QUERY)
+            .setStream(stream);
+        return model.setConsumer(consumer);
+    }
+
+    @Override
+    protected void createModelAssertions(V1CamelJpaBindingModel model) {
+        CamelJpaConsumerBindingModel consumer = model.getConsumer();
+        assertEquals(CONSUME_DELETE, consumer.isConsumeDelete());
+        assertEquals(MAXIMUM_RESULTS, consumer.getMaximumResults());
+        assertEquals(QUERY, consumer.getQuery());
+        CamelStreamConsumerModel stream = consumer.getStream();
+        assertEquals(FETCH_SIZE, stream.getFetchSize());
+        assertEquals(CHUNK_SIZE, stream.getChunkSize());
+        assertEquals(PARALLELISM, stream.getParallelism());
+        assertEquals(CONSUME_BATCH_SIZE, stream.getConsumeBatchSize());
+    }
+
+    @Override
+    protected String createEndpointUri() {
+        return CAMEL_URI;
+    }
+
+}
@@ -13,6 +13,8 @@
  */
 package org.switchyard.component.camel.sql.deploy;
 
+import org.switchyard.common.camel.SwitchYardCamelContext;
+import org.switchyard.component.camel.common.deploy.BaseBindingActivator;
 import org.switchyard.component.camel.common.deploy.BaseBindingComponent;
 import org.switchyard.component.camel.sql.model.v1.V1CamelSqlBindingModel;
 
@@ -28,4 +30,9 @@ public class CamelSqlComponent extends BaseBindingComponent {
         super("CamelSqlComponent", V1CamelSqlBindingModel.SQL);
     }
 
+    @Override
+    protected BaseBindingActivator createActivator(SwitchYardCamelContext context, String... types) {
+        return new CamelSqlActivator(context, types);
+    }
+
 }
@@ -0,0 +1,67 @@
+/*
+ * Copyright 2013 Red Hat Inc. and/or its affiliates and other contributors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * http://www.apache.org/licenses/LICENSE-2.0
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,  
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.switchyard.component.camel.sql.deploy;
+
+import javax.xml.namespace.QName;
+
+import org.apache.camel.component.sql.SqlEndpoint;
+import org.switchyard.ServiceDomain;
+import org.switchyard.common.camel.SwitchYardCamelContext;
+import org.switchyard.component.camel.common.handler.StreamCursor;
+import org.switchyard.component.camel.common.handler.StreamingInboundHandler;
+import org.switchyard.component.camel.common.model.consumer.CamelStreamConsumerModel;
+import org.switchyard.component.camel.sql.model.CamelSqlBindingModel;
+import org.switchyard.component.camel.sql.model.CamelSqlStreamModel;
+
+/**
+ * Inbound handler for SQL binding. When the binding has a stream
+ * configuration, the rows of a poll are read through a database cursor and
+ * sent to the service while they are being read, instead of being loaded
+ * into one list by the SQL consumer.
+ */
+public class CamelSqlInboundHandler extends StreamingInboundHandler<CamelSqlBindingModel> {
+
+    /**
+     * Sole constructor.
+     * 
+     * @param camelBindingModel The CamelBindingModel.
+     * @param camelContext The camel context instance.
+     * @param serviceName The target service name.
+     * @param domain the service domain.
+     */
+    public CamelSqlInboundHandler(CamelSqlBindingModel camelBindingModel,
+        SwitchYardCamelContext camelContext, QName serviceName, ServiceDomain domain) {
+        super(camelBindingModel, camelContext, serviceName, domain);
+    }
+
+    @Override
+    protected CamelStreamConsumerModel getStream() {
+        return getBindingModel().getStream();
+    }
+
+    @Override
+    protected StreamCursor openCursor(CamelStreamConsumerModel stream) throws Exception {
+        SqlEndpoint endpoint = getSwitchYardCamelContext().getEndpoint(getBindingUri().toString(), SqlEndpoint.class);
+        String onConsume = ((CamelSqlStreamModel) stream).getOnConsume();
+        if (onConsume != null) {
+            // the SQL component substitutes the placeholder of its own statements the same way
+            String placeholder = getBindingModel().getPlaceholder();
+            onConsume = onConsume.replaceAll(placeholder != null ? placeholder : "#", "?");
+        }
+        return new SqlStreamCursor(getSwitchYardCamelContext(), endpoint.getJdbcTemplate().getDataSource(),
+            endpoint.getPrepareStatementStrategy(), endpoint.isAllowNamedParameters(), endpoint.getQuery(),
+            onConsume, stream.getFetchSize(), stream.getChunkSize(), stream.getConsumeBatchSize());
+    }
+
+}
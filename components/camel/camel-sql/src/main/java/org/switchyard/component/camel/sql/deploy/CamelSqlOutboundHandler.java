@@ -0,0 +1,191 @@
+/*
+ * Copyright 2013 Red Hat Inc. and/or its affiliates and other contributors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * http://www.apache.org/licenses/LICENSE-2.0
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,  
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.switchyard.component.camel.sql.deploy;
+
+import java.sql.SQLException;
+import java.util.concurrent.ExecutorService;
+
+import org.apache.camel.ProducerTemplate;
+import org.apache.camel.component.sql.SqlConstants;
+import org.apache.camel.component.sql.SqlEndpoint;
+import org.switchyard.Exchange;
+import org.switchyard.HandlerException;
+import org.switchyard.Scope;
+import org.switchyard.ServiceDomain;
+import org.switchyard.common.camel.SwitchYardCamelContext;
+import org.switchyard.component.camel.common.composer.CamelBindingData;
+import org.switchyard.component.camel.common.handler.OutboundHandler;
+import org.switchyard.component.camel.sql.model.CamelSqlBindingModel;
+import org.switchyard.component.common.composer.MessageComposer;
+import org.switchyard.runtime.executor.ExecutorRegistry;
+import org.switchyard.runtime.executor.ThreadPoolConfig;
+
+/**
+ * Outbound handler for SQL binding. When a batch size is configured, in-only
+ * exchanges are collected into JDBC batches executed by a {@link SqlBatcher}
+ * instead of running one statement each; every exchange still completes with
+ * the update count of its own row.
+ */
+public class CamelSqlOutboundHandler extends OutboundHandler {
+
+    /**
+     * Name prefix of the thread pools executing the batches, followed by the
+     * reference name and the binding name.
+     */
+    public static final String THREAD_POOL_PREFIX = "org.switchyard.camel.sql.batch.";
+
+    private static final long DEFAULT_BATCH_TIMEOUT = 100;
+    private static final long STOP_TIMEOUT = 30000;
+
+    private final CamelSqlBindingModel _binding;
+    private SqlEndpoint _endpoint;
+    private ExecutorService _executor;
+    private String _pool;
+    private SqlBatcher _batcher;
+
+    /**
+     * A constructor. @see OutboundHandler#OutboundHandler(CamelBindingModel, SwitchYardCamelContext, MessageComposer, ProducerTemplate, ServiceDomain)
+     * @param binding binding model
+     * @param context camel context
+     * @param messageComposer message composer
+     * @param producerTemplate producer template
+     * @param domain service domain
+     */
+    public CamelSqlOutboundHandler(CamelSqlBindingModel binding,
+            SwitchYardCamelContext context,
+            MessageComposer<CamelBindingData> messageComposer,
+            ProducerTemplate producerTemplate, ServiceDomain domain) {
+        super(binding, context, messageComposer, producerTemplate, domain);
+        _binding = binding;
+    }
+
+    /**
+     * A constructor. @see OutboundHandler#OutboundHandler(CamelBindingModel, SwitchYardCamelContext, MessageComposer, ServiceDomain)
+     * @param binding binding
+     * @param context camel context
+     * @param messageComposer message composer
+     * @param domain service domain
+     */
+    public CamelSqlOutboundHandler(CamelSqlBindingModel binding,
+            SwitchYardCamelContext context,
+            MessageComposer<CamelBindingData> messageComposer,
+            ServiceDomain domain) {
+        this(binding, context, messageComposer, null, domain);
+    }
+
+    /**
+     * Verifies if in-only exchanges are executed in batches.  Batching is off
+     * for a batch size below two and when the endpoint itself runs each
+     * message as a batch.
+     * 
+     * @return true if exchanges are batched
+     */
+    public boolean isBatching() {
+        Integer batchSize = _binding.getBatchSize();
+        return batchSize != null && batchSize > 1 && !Boolean.TRUE.equals(_binding.isBatch());
+    }
+
+    @Override
+    protected void doStart() {
+        super.doStart();
+        if (!isBatching()) {
+            return;
+        }
+        _endpoint = getCamelContext().getEndpoint(getUri(), SqlEndpoint.class);
+        Long batchTimeout = _binding.getBatchTimeout();
+        try {
+            _batcher = new SqlBatcher(_binding.getName(), _endpoint.getJdbcTemplate().getDataSource(),
+                _endpoint.getPrepareStatementStrategy(), _endpoint.getQuery(), _endpoint.isAllowNamedParameters(),
+                _endpoint.getParametersCount(), _binding.getBatchSize(),
+                batchTimeout != null ? batchTimeout : DEFAULT_BATCH_TIMEOUT);
+        } catch (SQLException e) {
+            throw SQLCamelComponentMessages.MESSAGES.batchNotStarted(_binding.getName(), e);
+        }
+        _executor = createExecutor();
+        _executor.execute(_batcher);
+    }
+
+    @Override
+    protected void doStop() {
+        if (_batcher != null) {
+            _batcher.stop(STOP_TIMEOUT);
+            if (getServiceDomain() == null) {
+                getCamelContext().getExecutorServiceManager().shutdown(_executor);
+            } else if (_pool != null) {
+                // a pool configured by the domain lives as long as the domain
+                ExecutorRegistry.getRegistry(getServiceDomain()).remove(_pool);
+                _pool = null;
+            }
+            _batcher = null;
+            _executor = null;
+        }
+        super.doStop();
+    }
+
+    @Override
+    protected void handleInOnly(final Exchange exchange) throws HandlerException {
+        SqlBatcher batcher = _batcher;
+        if (batcher == null) {
+            super.handleInOnly(exchange);
+            return;
+        }
+        org.apache.camel.Exchange camelExchange = _endpoint.createExchange();
+        try {
+            createProcessor(exchange).process(camelExchange);
+        } catch (Exception e) {
+            throw new HandlerException(e);
+        }
+        if (camelExchange.getIn().getHeader(SqlConstants.SQL_QUERY) != null) {
+            // a statement of its own, it cannot join the batch
+            super.handleInOnly(exchange);
+            return;
+        }
+
+        SqlBatcher.Entry entry;
+        try {
+            entry = batcher.execute(camelExchange);
+        } catch (InterruptedException ie) {
+            Thread.currentThread().interrupt();
+            throw new HandlerException(ie);
+        }
+        if (entry.getFailure() != null) {
+            // failures are propagated unless the domain says otherwise
+            ServiceDomain domain = getServiceDomain();
+            Object propagateException = domain != null ? domain.getProperty(Exchange.PROPAGATE_EXCEPTION_ON_IN_ONLY) : null;
+            if (propagateException == null || Boolean.parseBoolean(propagateException.toString())) {
+                throw new HandlerException(entry.getFailure());
+            }
+            return;
+        }
+        exchange.getContext().setProperty(SqlConstants.SQL_UPDATE_COUNT, entry.getUpdateCount(), Scope.EXCHANGE);
+    }
+
+    private ExecutorService createExecutor() {
+        ServiceDomain domain = getServiceDomain();
+        // binding names are only unique within their reference
+        String name = THREAD_POOL_PREFIX + _binding.getReference().getQName() + '.' + _binding.getName();
+        if (domain != null) {
+            ExecutorRegistry registry = ExecutorRegistry.getRegistry(domain);
+            if (!registry.hasThreadPool(name)) {
+                registry.register(new ThreadPoolConfig(name).setCoreSize(1).setMaxSize(1)
+                    .setQueueType(ThreadPoolConfig.QueueType.SYNCHRONOUS));
+                _pool = name;
+            }
+            return registry.getExecutor(name);
+        }
+        // outside of a domain the thread belongs to the camel context
+        return getCamelContext().getExecutorServiceManager().newSingleThreadExecutor(this, name);
+    }
+
+}
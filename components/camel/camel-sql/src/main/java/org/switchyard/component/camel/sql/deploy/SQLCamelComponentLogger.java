@@ -14,6 +14,7 @@
 package org.switchyard.component.camel.sql.deploy;
 
 import static org.jboss.logging.Logger.Level.ERROR;
+import static org.jboss.logging.Logger.Level.WARN;
 
 import org.jboss.logging.Logger;
 import org.jboss.logging.annotations.Cause;
@@ -41,4 +42,14 @@ public interface SQLCamelComponentLogger {
     @LogMessage(level = ERROR)
     @Message(id = 33400, value = "Cannot lookup operation using custom operation selector. Returning empty name")
     void cannotLookupOperation(@Cause Exception e);
+
+    /**
+     * batchFailed method definition.
+     * @param size size
+     * @param binding binding
+     * @param e e
+     */
+    @LogMessage(level = WARN)
+    @Message(id = 33401, value = "SQL batch of %d exchanges of binding %s failed")
+    void batchFailed(int size, String binding, @Cause Exception e);
 }
@@ -13,7 +13,10 @@
  */
 package org.switchyard.component.camel.sql.deploy;
 
+import java.sql.SQLException;
+
 import org.jboss.logging.Messages;
+import org.jboss.logging.annotations.Cause;
 import org.jboss.logging.annotations.Message;
 import org.jboss.logging.annotations.MessageBundle;
 import org.switchyard.SwitchYardException;
@@ -39,5 +42,23 @@ public interface SQLCamelComponentMessages {
     @Message(id = 34000, value = "Period attribute is mandatory for SQL service bindings")
     SwitchYardException periodAttributeMandatory();
 
+    /**
+     * batchStopped method definition.
+     *
+     * @param binding binding
+     * @return SwitchYardException
+     */
+    @Message(id = 34002, value = "SQL batch of binding %s was stopped before the exchange was executed")
+    SwitchYardException batchStopped(String binding);
+
+    /**
+     * batchNotStarted method definition.
+     *
+     * @param binding binding
+     * @param e cause
+     * @return SwitchYardException
+     */
+    @Message(id = 34003, value = "Failed to start SQL batches of binding %s")
+    SwitchYardException batchNotStarted(String binding, @Cause SQLException e);
 
 }
@@ -0,0 +1,329 @@
+/*
+ * Copyright 2013 Red Hat Inc. and/or its affiliates and other contributors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * http://www.apache.org/licenses/LICENSE-2.0
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.switchyard.component.camel.sql.deploy;
+
+import java.sql.BatchUpdateException;
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Iterator;
+import java.util.List;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.TimeUnit;
+
+import javax.sql.DataSource;
+
+import org.apache.camel.Exchange;
+import org.apache.camel.component.sql.SqlPrepareStatementStrategy;
+
+/**
+ * Collects Camel exchanges carrying the parameters of one SQL statement and
+ * executes them as JDBC batches.  A batch is executed when it holds the
+ * batch size or when its first exchange has waited for the batch timeout,
+ * and it is committed once.
+ * <br><br>
+ * Each exchange gets the update count of its own row.  When the driver
+ * reports failed rows, the batch is rolled back and only their exchanges
+ * fail; the other rows, including those after the row the driver stopped
+ * at, are executed again in a new batch and transaction.  Any other failure
+ * rolls the batch back and fails all of its exchanges.
+ */
+final class SqlBatcher implements Runnable {
+
+    private static final long POLL_INTERVAL = 500;
+
+    private final String _bindingName;
+    private final DataSource _dataSource;
+    private final SqlPrepareStatementStrategy _strategy;
+    private final String _query;
+    private final String _preparedQuery;
+    private final int _parametersCount;
+    private final int _batchSize;
+    private final long _batchTimeout;
+    private final BlockingQueue<Entry> _queue;
+    private final CountDownLatch _finished = new CountDownLatch(1);
+    private volatile boolean _stopped;
+
+    /**
+     * An exchange waiting for its batch.
+     */
+    static final class Entry {
+        private final Exchange _exchange;
+        private final CountDownLatch _done = new CountDownLatch(1);
+        private int _updateCount;
+        private Exception _failure;
+
+        Entry(Exchange exchange) {
+            _exchange = exchange;
+        }
+
+        Exchange getExchange() {
+            return _exchange;
+        }
+
+        int getUpdateCount() {
+            return _updateCount;
+        }
+
+        Exception getFailure() {
+            return _failure;
+        }
+
+        boolean isDone() {
+            return _done.getCount() == 0;
+        }
+
+        void complete(int updateCount) {
+            _updateCount = updateCount;
+            _done.countDown();
+        }
+
+        void fail(Exception failure) {
+            _failure = failure;
+            _done.countDown();
+        }
+    }
+
+    SqlBatcher(String bindingName, DataSource dataSource, SqlPrepareStatementStrategy strategy, String query,
+        boolean allowNamedParameters, int parametersCount, int batchSize, long batchTimeout) throws SQLException {
+        _bindingName = bindingName;
+        _dataSource = dataSource;
+        _strategy = strategy;
+        _query = query;
+        _preparedQuery = strategy.prepareQuery(query, allowNamedParameters);
+        _parametersCount = parametersCount;
+        _batchSize = batchSize;
+        _batchTimeout = batchTimeout;
+        // room for the batch being filled while the previous one executes
+        _queue = new LinkedBlockingQueue<Entry>(batchSize * 2);
+    }
+
+    /**
+     * Adds an exchange to the next batch and waits until the batch has been
+     * executed.
+     * 
+     * @param exchange Camel exchange with the statement parameters.
+     * @return the completed entry
+     * @throws InterruptedException the caller was interrupted while waiting
+     */
+    Entry execute(Exchange exchange) throws InterruptedException {
+        Entry entry = new Entry(exchange);
+        _queue.put(entry);
+        while (!entry._done.await(POLL_INTERVAL, TimeUnit.MILLISECONDS)) {
+            if (_finished.getCount() == 0 && _queue.remove(entry)) {
+                // added after the batcher drained the queue for the last time
+                entry.fail(SQLCamelComponentMessages.MESSAGES.batchStopped(_bindingName));
+            }
+        }
+        return entry;
+    }
+
+    /**
+     * Stops the batcher once the exchanges already added are executed.  The
+     * batch being filled is executed at once, without waiting for the batch
+     * timeout.
+     * 
+     * @param timeout time in millis to wait for the pending batches
+     * @return true if the batcher stopped within the timeout
+     */
+    boolean stop(long timeout) {
+        _stopped = true;
+        try {
+            return _finished.await(timeout, TimeUnit.MILLISECONDS);
+        } catch (InterruptedException ie) {
+            Thread.currentThread().interrupt();
+            return false;
+        }
+    }
+
+    @Override
+    public void run() {
+        List<Entry> batch = new ArrayList<Entry>(_batchSize);
+        try {
+            while (!_stopped || !_queue.isEmpty()) {
+                Entry first = _queue.poll(POLL_INTERVAL, TimeUnit.MILLISECONDS);
+                if (first == null) {
+                    continue;
+                }
+                batch.add(first);
+                long deadline = System.currentTimeMillis() + _batchTimeout;
+                while (batch.size() < _batchSize) {
+                    // once stopped, the partial batch is executed without waiting for the timeout
+                    long wait = _stopped ? 0 : deadline - System.currentTimeMillis();
+                    Entry next = wait > 0 ? _queue.poll(Math.min(wait, POLL_INTERVAL), TimeUnit.MILLISECONDS)
+                        : _queue.poll();
+                    if (next != null) {
+                        batch.add(next);
+                    } else if (wait <= 0) {
+                        break;
+                    }
+                }
+                execute(batch);
+                batch.clear();
+            }
+        } catch (InterruptedException ie) {
+            // the pool is shutting down
+            _stopped = true;
+        } finally {
+            _finished.countDown();
+            Exception stopped = SQLCamelComponentMessages.MESSAGES.batchStopped(_bindingName);
+            fail(batch, stopped);
+            List<Entry> left = new ArrayList<Entry>();
+            _queue.drainTo(left);
+            fail(left, stopped);
+        }
+    }
+
+    private void execute(List<Entry> batch) {
+        Connection connection = null;
+        try {
+            connection = _dataSource.getConnection();
+            boolean autoCommit = connection.getAutoCommit();
+            connection.setAutoCommit(false);
+            try {
+                List<Entry> pending = batch;
+                while (!pending.isEmpty()) {
+                    pending = execute(connection, pending);
+                }
+            } finally {
+                connection.setAutoCommit(autoCommit);
+            }
+        } catch (SQLException e) {
+            SQLCamelComponentLogger.ROOT_LOGGER.batchFailed(batch.size(), _bindingName, e);
+            rollback(connection);
+            fail(batch, e);
+        } finally {
+            close(connection);
+        }
+    }
+
+    /**
+     * Executes one batch on a connection and commits it.  A batch with failed
+     * rows is rolled back.
+     * 
+     * @return the entries of the rows which did not fail, to be executed
+     * again in a new transaction
+     */
+    private List<Entry> execute(Connection connection, List<Entry> entries) throws SQLException {
+        PreparedStatement statement = connection.prepareStatement(_preparedQuery);
+        try {
+            int expected = _parametersCount > 0 ? _parametersCount : statement.getParameterMetaData().getParameterCount();
+            List<Entry> batched = new ArrayList<Entry>(entries.size());
+            for (Entry entry : entries) {
+                Exchange exchange = entry.getExchange();
+                try {
+                    Iterator<?> parameters = _strategy.createPopulateIterator(_query, _preparedQuery, expected,
+                        exchange, exchange.getIn().getBody());
+                    _strategy.populateStatement(statement, parameters, expected);
+                    statement.addBatch();
+                    batched.add(entry);
+                } catch (Exception e) {
+                    // parameters of this exchange do not fit the statement
+                    statement.clearParameters();
+                    entry.fail(e);
+                }
+            }
+            if (batched.isEmpty()) {
+                return Collections.emptyList();
+            }
+
+            int[] updateCounts;
+            try {
+                updateCounts = statement.executeBatch();
+            } catch (BatchUpdateException bue) {
+                // rows the driver reported as executed are rolled back too
+                rollback(connection);
+                return retryable(batched, bue);
+            }
+            connection.commit();
+
+            for (int i = 0; i < batched.size(); i++) {
+                batched.get(i).complete(i < updateCounts.length ? updateCounts[i] : Statement.SUCCESS_NO_INFO);
+            }
+            return Collections.emptyList();
+        } finally {
+            close(statement);
+        }
+    }
+
+    /**
+     * Fails the entries of the rows a batch failed on.
+     * 
+     * @return the other entries, to be executed again
+     */
+    private List<Entry> retryable(List<Entry> batched, BatchUpdateException failure) {
+        int[] updateCounts = failure.getUpdateCounts() != null ? failure.getUpdateCounts() : new int[0];
+        int executed = Math.min(updateCounts.length, batched.size());
+        List<Entry> retry = new ArrayList<Entry>(batched.size());
+        for (int i = 0; i < executed; i++) {
+            if (updateCounts[i] == Statement.EXECUTE_FAILED) {
+                batched.get(i).fail(failure);
+            } else {
+                retry.add(batched.get(i));
+            }
+        }
+        if (executed < batched.size()) {
+            // the driver stopped at the failed row
+            batched.get(executed).fail(failure);
+            retry.addAll(batched.subList(executed + 1, batched.size()));
+        } else if (retry.size() == batched.size()) {
+            // no failed row was reported, so there is nothing to leave out
+            fail(batched, failure);
+            return Collections.emptyList();
+        }
+        return retry;
+    }
+
+    private void fail(List<Entry> entries, Exception failure) {
+        for (Entry entry : entries) {
+            if (!entry.isDone()) {
+                entry.fail(failure);
+            }
+        }
+    }
+
+    private void rollback(Connection connection) {
+        if (connection != null) {
+            try {
+                connection.rollback();
+            } catch (SQLException e) {
+                e.getMessage(); // the connection is failing already
+            }
+        }
+    }
+
+    private void close(Connection connection) {
+        if (connection != null) {
+            try {
+                connection.close();
+            } catch (SQLException e) {
+                e.getMessage(); // ignore but keep checkstyle happy
+            }
+        }
+    }
+
+    private void close(Statement statement) {
+        try {
+            statement.close();
+        } catch (SQLException e) {
+            e.getMessage(); // ignore but keep checkstyle happy
+        }
+    }
+
+}
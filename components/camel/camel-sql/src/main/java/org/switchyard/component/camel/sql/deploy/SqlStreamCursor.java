@@ -0,0 +1,162 @@
+/*
+ * Copyright 2013 Red Hat Inc. and/or its affiliates and other contributors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * http://www.apache.org/licenses/LICENSE-2.0
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,  
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.switchyard.component.camel.sql.deploy;
+
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.ResultSetMetaData;
+import java.sql.SQLException;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.NoSuchElementException;
+
+import javax.sql.DataSource;
+
+import org.apache.camel.CamelContext;
+import org.apache.camel.Exchange;
+import org.apache.camel.component.sql.SqlPrepareStatementStrategy;
+import org.apache.camel.impl.DefaultExchange;
+import org.switchyard.component.camel.common.handler.StreamCursor;
+
+/**
+ * Reads the rows of a poll through a forward-only database cursor, fetching
+ * the configured number of rows at a time.  Each row is returned as a map of
+ * column labels to values.
+ * <br><br>
+ * Consumed rows are marked by running the consume statement of the binding
+ * for each of them, with the columns of the row as named parameters, as one
+ * JDBC batch per consume batch.  Marks are committed on a connection of their
+ * own, because committing the connection reading the rows closes its cursor
+ * on some databases.
+ */
+final class SqlStreamCursor extends StreamCursor {
+
+    private final CamelContext _camelContext;
+    private final DataSource _dataSource;
+    private final SqlPrepareStatementStrategy _strategy;
+    private final String _onConsume;
+    private final String _preparedOnConsume;
+    private final Connection _connection;
+    private final boolean _autoCommit;
+    private PreparedStatement _statement;
+    private ResultSet _resultSet;
+    private String[] _columns;
+    private Boolean _hasNext;
+
+    SqlStreamCursor(CamelContext camelContext, DataSource dataSource, SqlPrepareStatementStrategy strategy,
+        boolean allowNamedParameters, String query, String onConsume, int fetchSize, int chunkSize,
+        int consumeBatchSize) throws SQLException {
+        super(chunkSize, consumeBatchSize);
+        _camelContext = camelContext;
+        _dataSource = dataSource;
+        _strategy = strategy;
+        _onConsume = onConsume;
+        _preparedOnConsume = onConsume != null ? strategy.prepareQuery(onConsume, allowNamedParameters) : null;
+
+        _connection = dataSource.getConnection();
+        _autoCommit = _connection.getAutoCommit();
+        try {
+            // some drivers only use a cursor within a transaction
+            _connection.setAutoCommit(false);
+            _statement = _connection.prepareStatement(strategy.prepareQuery(query, allowNamedParameters),
+                ResultSet.TYPE_FORWARD_ONLY, ResultSet.CONCUR_READ_ONLY);
+            _statement.setFetchSize(fetchSize);
+            _resultSet = _statement.executeQuery();
+            ResultSetMetaData metaData = _resultSet.getMetaData();
+            _columns = new String[metaData.getColumnCount()];
+            for (int i = 0; i < _columns.length; i++) {
+                _columns[i] = metaData.getColumnLabel(i + 1);
+            }
+        } catch (SQLException e) {
+            release();
+            throw e;
+        }
+    }
+
+    @Override
+    protected boolean hasNextResult() throws SQLException {
+        if (_hasNext == null) {
+            _hasNext = _resultSet.next();
+        }
+        return _hasNext;
+    }
+
+    @Override
+    protected Object nextResult() throws SQLException {
+        if (!hasNextResult()) {
+            throw new NoSuchElementException();
+        }
+        _hasNext = null;
+        Map<String, Object> row = new LinkedHashMap<String, Object>(_columns.length * 2);
+        for (int i = 0; i < _columns.length; i++) {
+            row.put(_columns[i], _resultSet.getObject(i + 1));
+        }
+        return row;
+    }
+
+    @Override
+    protected void markConsumed(List<Object> rows) throws SQLException {
+        if (_onConsume == null) {
+            return;
+        }
+        Connection connection = _dataSource.getConnection();
+        boolean autoCommit = connection.getAutoCommit();
+        try {
+            connection.setAutoCommit(false);
+            PreparedStatement statement = connection.prepareStatement(_preparedOnConsume);
+            try {
+                int expected = statement.getParameterMetaData().getParameterCount();
+                for (Object row : rows) {
+                    Exchange exchange = new DefaultExchange(_camelContext);
+                    exchange.getIn().setBody(row);
+                    Iterator<?> parameters = _strategy.createPopulateIterator(_onConsume, _preparedOnConsume,
+                        expected, exchange, row);
+                    _strategy.populateStatement(statement, parameters, expected);
+                    statement.addBatch();
+                }
+                statement.executeBatch();
+                connection.commit();
+            } catch (SQLException e) {
+                connection.rollback();
+                throw e;
+            } finally {
+                statement.close();
+            }
+        } finally {
+            connection.setAutoCommit(autoCommit);
+            connection.close();
+        }
+    }
+
+    @Override
+    protected void release() throws SQLException {
+        try {
+            if (_resultSet != null) {
+                _resultSet.close();
+            }
+            if (_statement != null) {
+                _statement.close();
+            }
+            // nothing was written on this connection
+            _connection.rollback();
+            _connection.setAutoCommit(_autoCommit);
+        } finally {
+            _connection.close();
+        }
+    }
+
+}
@@ -112,5 +112,54 @@ public interface CamelSqlBindingModel extends CamelBindingModel {
      */
     Long getInitialDelay();
 
+    /**
+     * Get the number of in-only exchanges executed as one JDBC batch.
+     *
+     * @return Batch size, or null if exchanges are not batched.
+     */
+    Integer getBatchSize();
+
+    /**
+     * Specifies the number of in-only exchanges collected into one JDBC batch
+     * and committed together.  Exchanges are batched when the size is greater
+     * than one.
+     *
+     * @param batchSize Batch size.
+     * @return a reference to this Camel binding model
+     */
+    CamelSqlBindingModel setBatchSize(Integer batchSize);
+
+    /**
+     * Get the longest time in millis an exchange waits for its batch to fill.
+     *
+     * @return Batch timeout.
+     */
+    Long getBatchTimeout();
+
+    /**
+     * Specifies the longest time in millis an exchange waits for its batch to
+     * fill before the batch is executed anyway.
+     *
+     * @param batchTimeout Batch timeout.
+     * @return a reference to this Camel binding model
+     */
+    CamelSqlBindingModel setBatchTimeout(Long batchTimeout);
+
+    /**
+     * Get the stream configuration of a service binding.
+     *
+     * @return Stream configuration, or null if polled rows are not streamed.
+     */
+    CamelSqlStreamModel getStream();
+
+    /**
+     * Specifies the stream configuration of a service binding, which reads
+     * the rows of a poll through a database cursor and sends them to the
+     * service while they are being read.
+     *
+     * @param stream Stream configuration.
+     * @return a reference to this Camel binding model
+     */
+    CamelSqlBindingModel setStream(CamelSqlStreamModel stream);
 
 }
@@ -0,0 +1,41 @@
+/*
+ * Copyright 2013 Red Hat Inc. and/or its affiliates and other contributors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * http://www.apache.org/licenses/LICENSE-2.0
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.switchyard.component.camel.sql.model;
+
+import org.switchyard.component.camel.common.model.consumer.CamelStreamConsumerModel;
+
+/**
+ * Stream configuration of a SQL service binding, which reads the rows of
+ * a poll through a database cursor.
+ */
+public interface CamelSqlStreamModel extends CamelStreamConsumerModel {
+
+    /**
+     * Statement run for every consumed row, with the columns of the row as
+     * named parameters; the statements of a consume batch run as one JDBC
+     * batch.
+     * 
+     * @return the consume statement
+     */
+    String getOnConsume();
+
+    /**
+     * Specify the statement run for every consumed row.
+     * 
+     * @param onConsume the consume statement
+     * @return a reference to this stream model
+     */
+    CamelSqlStreamModel setOnConsume(String onConsume);
+
+}
@@ -19,6 +19,7 @@ import org.apache.camel.util.UnsafeUriCharactersEncoder;
 import org.switchyard.component.camel.common.QueryString;
 import org.switchyard.component.camel.common.model.v1.V1BaseCamelBindingModel;
 import org.switchyard.component.camel.sql.model.CamelSqlBindingModel;
+import org.switchyard.component.camel.sql.model.CamelSqlStreamModel;
 import org.switchyard.config.Configuration;
 import org.switchyard.config.model.Descriptor;
 
@@ -37,10 +38,16 @@ public class V1CamelSqlBindingModel extends V1BaseCamelBindingModel
     private static final String DATA_SOURCE_REF = "dataSourceRef";
     private static final String BATCH = "batch";
     private static final String PLACEHOLDER = "placeholder";
+    // exchange batching and streaming, not endpoint options
+    private static final String BATCH_SIZE = "batchSize";
+    private static final String BATCH_TIMEOUT = "batchTimeout";
+    private static final String STREAM = CamelSqlStreamModel.STREAM;
     // timer related attributes
     private static final String PERIOD = "period";
     private static final String INITIAL_DELAY = "initialDelay";
 
+    private CamelSqlStreamModel _stream;
+
     /**
      * Create a new CamelSqlBindingModel.
      *
@@ -49,7 +56,7 @@ public class V1CamelSqlBindingModel extends V1BaseCamelBindingModel
      */
     public V1CamelSqlBindingModel(String namespace) {
         super(SQL, namespace);
-        setModelChildrenOrder(QUERY, DATA_SOURCE_REF, BATCH, PLACEHOLDER);
+        setModelChildrenOrder(QUERY, DATA_SOURCE_REF, BATCH, PLACEHOLDER, BATCH_SIZE, BATCH_TIMEOUT, STREAM);
     }
 
     /**
@@ -128,6 +135,52 @@ public class V1CamelSqlBindingModel extends V1BaseCamelBindingModel
         return value == null ? null : Long.valueOf(value);
     }
 
+    @Override
+    public Integer getBatchSize() {
+        return getIntegerConfig(BATCH_SIZE);
+    }
+
+    @Override
+    public V1CamelSqlBindingModel setBatchSize(Integer batchSize) {
+        return setConfig(BATCH_SIZE, batchSize);
+    }
+
+    @Override
+    public Long getBatchTimeout() {
+        return getLongConfig(BATCH_TIMEOUT);
+    }
+
+    @Override
+    public V1CamelSqlBindingModel setBatchTimeout(Long batchTimeout) {
+        return setConfig(BATCH_TIMEOUT, batchTimeout);
+    }
+
+    @Override
+    public CamelSqlStreamModel getStream() {
+        if (_stream == null) {
+            Configuration config = getModelConfiguration().getFirstChild(STREAM);
+            if (config == null) {
+                return null;
+            }
+            _stream = new V1CamelSqlStreamModel(config, getModelDescriptor());
+        }
+        return _stream;
+    }
+
+    @Override
+    public V1CamelSqlBindingModel setStream(CamelSqlStreamModel stream) {
+        Configuration config = getModelConfiguration().getFirstChild(STREAM);
+        if (config != null) {
+            // set an existing config value
+            getModelConfiguration().removeChildren(STREAM);
+            getModelConfiguration().addChild(stream.getModelConfiguration());
+        } else {
+            setChildModel(stream);
+        }
+        _stream = stream;
+        return this;
+    }
+
 
     @Override
     public URI getComponentURI() {
@@ -137,7 +190,7 @@ public class V1CamelSqlBindingModel extends V1BaseCamelBindingModel
         QueryString queryStr = new QueryString();
         queryStr.add("consumer.delay", getPeriod());
         queryStr.add("consumer.initialDelay", getInitialDelay());
-        traverseConfiguration(children, queryStr, QUERY);
+        traverseConfiguration(children, queryStr, QUERY, BATCH_SIZE, BATCH_TIMEOUT, STREAM);
         return URI.create(UnsafeUriCharactersEncoder.encode(baseUri + queryStr.toString()));
     }
 
@@ -0,0 +1,62 @@
+/*
+ * Copyright 2013 Red Hat Inc. and/or its affiliates and other contributors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * http://www.apache.org/licenses/LICENSE-2.0
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.switchyard.component.camel.sql.model.v1;
+
+import org.switchyard.component.camel.common.model.v1.V1CamelStreamConsumerModel;
+import org.switchyard.component.camel.sql.model.CamelSqlStreamModel;
+import org.switchyard.config.Configuration;
+import org.switchyard.config.model.Descriptor;
+
+/**
+ * Implementation of sql stream configuration.
+ */
+public class V1CamelSqlStreamModel extends V1CamelStreamConsumerModel implements CamelSqlStreamModel {
+
+    /**
+     * The name of the 'onConsume' element.
+     */
+    public static final String ON_CONSUME = "onConsume";
+
+    /**
+     * Creates model bound to given namespace.
+     * 
+     * @param namespace Namespace to bound.
+     */
+    public V1CamelSqlStreamModel(String namespace) {
+        super(namespace);
+
+        setModelChildrenOrder(FETCH_SIZE, CHUNK_SIZE, PARALLELISM, THREAD_POOL, CONSUME_BATCH_SIZE, ON_CONSUME);
+    }
+
+    /**
+     * Create a stream model from the specified configuration and descriptor.
+     * 
+     * @param config The switchyard configuration instance.
+     * @param desc The switchyard descriptor instance.
+     */
+    public V1CamelSqlStreamModel(Configuration config, Descriptor desc) {
+        super(config, desc);
+    }
+
+    @Override
+    public String getOnConsume() {
+        return getConfig(ON_CONSUME);
+    }
+
+    @Override
+    public V1CamelSqlStreamModel setOnConsume(String onConsume) {
+        return setConfig(ON_CONSUME, onConsume);
+    }
+
+}
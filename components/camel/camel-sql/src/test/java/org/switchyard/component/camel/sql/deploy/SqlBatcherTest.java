@@ -0,0 +1,227 @@
+/*
+ * Copyright 2013 Red Hat Inc. and/or its affiliates and other contributors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * http://www.apache.org/licenses/LICENSE-2.0
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.switchyard.component.camel.sql.deploy;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNotNull;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertTrue;
+import static org.mockito.Matchers.anyString;
+import static org.mockito.Mockito.inOrder;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import java.sql.BatchUpdateException;
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+
+import javax.sql.DataSource;
+
+import org.apache.camel.CamelContext;
+import org.apache.camel.component.sql.DefaultSqlPrepareStatementStrategy;
+import org.apache.camel.impl.DefaultCamelContext;
+import org.apache.camel.impl.DefaultExchange;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+import org.mockito.InOrder;
+
+/**
+ * Unit test for {@link SqlBatcher} with a mocked JDBC driver.
+ */
+public class SqlBatcherTest {
+
+    private static final String QUERY = "insert into ITEMS values (?)";
+
+    private final CamelContext _camelContext = new DefaultCamelContext();
+    private ExecutorService _senders;
+    private Thread _thread;
+    private SqlBatcher _batcher;
+    private DataSource _dataSource;
+    private Connection _connection;
+    private PreparedStatement _statement;
+
+    @Before
+    public void setUp() throws Exception {
+        _senders = Executors.newCachedThreadPool();
+        _dataSource = mock(DataSource.class);
+        _connection = mock(Connection.class);
+        _statement = mock(PreparedStatement.class);
+        when(_dataSource.getConnection()).thenReturn(_connection);
+        when(_connection.getAutoCommit()).thenReturn(true);
+        when(_connection.prepareStatement(anyString())).thenReturn(_statement);
+    }
+
+    @After
+    public void tearDown() throws Exception {
+        if (_batcher != null) {
+            _batcher.stop(5000);
+        }
+        _senders.shutdownNow();
+    }
+
+    @Test
+    public void rowsGetTheirOwnUpdateCounts() throws Exception {
+        when(_statement.executeBatch()).thenReturn(new int[] {1, 2, 0});
+        start(3, 5000);
+        List<SqlBatcher.Entry> entries = send(3);
+        for (SqlBatcher.Entry entry : entries) {
+            assertNull(entry.getFailure());
+        }
+        assertEquals(3, sum(entries));
+        verify(_statement, times(3)).addBatch();
+        verify(_statement).executeBatch();
+        InOrder order = inOrder(_connection);
+        order.verify(_connection).setAutoCommit(false);
+        order.verify(_connection).commit();
+        order.verify(_connection).setAutoCommit(true);
+        order.verify(_connection).close();
+    }
+
+    @Test
+    public void failedRowIsLeftOutAndTheOthersRetried() throws Exception {
+        when(_statement.executeBatch())
+            .thenThrow(new BatchUpdateException("duplicate", new int[] {1, Statement.EXECUTE_FAILED, 1}))
+            .thenReturn(new int[] {1, 1});
+        start(3, 5000);
+        List<SqlBatcher.Entry> entries = send(3);
+        assertFailed(entries, 1);
+        verify(_connection).rollback();
+        verify(_connection).commit();
+        verify(_statement, times(5)).addBatch();
+    }
+
+    @Test
+    public void rowsAfterTheDriverStoppedAreRetried() throws Exception {
+        when(_statement.executeBatch())
+            .thenThrow(new BatchUpdateException("duplicate", new int[] {1}))
+            .thenReturn(new int[] {1, 1});
+        start(3, 5000);
+        List<SqlBatcher.Entry> entries = send(3);
+        assertFailed(entries, 1);
+        verify(_statement, times(2)).executeBatch();
+        verify(_connection).commit();
+    }
+
+    @Test
+    public void otherFailuresRollBackTheWholeBatch() throws Exception {
+        SQLException failure = new SQLException("connection reset");
+        when(_statement.executeBatch()).thenThrow(failure);
+        start(2, 5000);
+        for (SqlBatcher.Entry entry : send(2)) {
+            assertSame(failure, entry.getFailure());
+        }
+        verify(_connection).rollback();
+        verify(_connection, never()).commit();
+        verify(_connection).close();
+    }
+
+    @Test
+    public void partialBatchIsExecutedAfterTheTimeout() throws Exception {
+        when(_statement.executeBatch()).thenReturn(new int[] {1});
+        start(10, 50);
+        long start = System.currentTimeMillis();
+        List<SqlBatcher.Entry> entries = send(1);
+        assertEquals(1, entries.get(0).getUpdateCount());
+        assertTrue(System.currentTimeMillis() - start < 5000);
+    }
+
+    @Test
+    public void stopExecutesPendingRowsAndRejectsLaterOnes() throws Exception {
+        when(_statement.executeBatch()).thenReturn(new int[] {1, 1});
+        start(10, 60000);
+        List<Future<SqlBatcher.Entry>> pending = submit(2);
+        Thread.sleep(100);
+        // the partial batch does not wait for its timeout
+        assertTrue(_batcher.stop(5000));
+        for (Future<SqlBatcher.Entry> entry : pending) {
+            assertEquals(1, entry.get(5, TimeUnit.SECONDS).getUpdateCount());
+        }
+        SqlBatcher.Entry late = _batcher.execute(exchange(3));
+        assertNotNull(late.getFailure());
+        _thread.join(5000);
+        assertFalse(_thread.isAlive());
+    }
+
+    private void start(int batchSize, long batchTimeout) throws SQLException {
+        _batcher = new SqlBatcher("test", _dataSource, new DefaultSqlPrepareStatementStrategy(), QUERY, false, 1,
+            batchSize, batchTimeout);
+        _thread = new Thread(_batcher, "SqlBatcherTest");
+        _thread.start();
+    }
+
+    private List<SqlBatcher.Entry> send(int count) throws Exception {
+        List<SqlBatcher.Entry> entries = new ArrayList<SqlBatcher.Entry>();
+        for (Future<SqlBatcher.Entry> entry : submit(count)) {
+            entries.add(entry.get(10, TimeUnit.SECONDS));
+        }
+        return entries;
+    }
+
+    // rows are added one at a time, so they reach the batch in order
+    private List<Future<SqlBatcher.Entry>> submit(int count) throws Exception {
+        List<Future<SqlBatcher.Entry>> entries = new ArrayList<Future<SqlBatcher.Entry>>();
+        for (int i = 0; i < count; i++) {
+            final int row = i;
+            entries.add(_senders.submit(new Callable<SqlBatcher.Entry>() {
+                @Override
+                public SqlBatcher.Entry call() throws Exception {
+                    return _batcher.execute(exchange(row));
+                }
+            }));
+            Thread.sleep(20);
+        }
+        return entries;
+    }
+
+    private org.apache.camel.Exchange exchange(int row) {
+        org.apache.camel.Exchange exchange = new DefaultExchange(_camelContext);
+        exchange.getIn().setBody(row);
+        return exchange;
+    }
+
+    private static int sum(List<SqlBatcher.Entry> entries) {
+        int sum = 0;
+        for (SqlBatcher.Entry entry : entries) {
+            sum += entry.getUpdateCount();
+        }
+        return sum;
+    }
+
+    private static void assertFailed(List<SqlBatcher.Entry> entries, int failed) {
+        for (int i = 0; i < entries.size(); i++) {
+            if (i == failed) {
+                assertTrue(entries.get(i).getFailure() instanceof BatchUpdateException);
+            } else {
+                assertNull(entries.get(i).getFailure());
+                assertEquals(1, entries.get(i).getUpdateCount());
+            }
+        }
+    }
+
+}
@@ -0,0 +1,171 @@
+/*
+ * Copyright 2013 Red Hat Inc. and/or its affiliates and other contributors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * http://www.apache.org/licenses/LICENSE-2.0
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.switchyard.component.camel.sql.deploy;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.fail;
+import static org.mockito.Matchers.anyInt;
+import static org.mockito.Matchers.anyString;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import java.sql.Connection;
+import java.sql.ParameterMetaData;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.ResultSetMetaData;
+import java.sql.SQLException;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+
+import javax.sql.DataSource;
+
+import org.apache.camel.component.sql.DefaultSqlPrepareStatementStrategy;
+import org.apache.camel.impl.DefaultCamelContext;
+import org.junit.Before;
+import org.junit.Test;
+import org.mockito.invocation.InvocationOnMock;
+import org.mockito.stubbing.Answer;
+
+/**
+ * Unit test for {@link SqlStreamCursor} with a mocked JDBC driver.
+ */
+public class SqlStreamCursorTest {
+
+    private static final String QUERY = "select ID from ITEMS";
+    private static final String ON_CONSUME = "update ITEMS set DONE = 1 where ID = :?ID";
+
+    private DataSource _dataSource;
+    private Connection _readConnection;
+    private PreparedStatement _readStatement;
+    private ResultSet _resultSet;
+    private Connection _markConnection;
+    private PreparedStatement _markStatement;
+
+    @Before
+    public void setUp() throws Exception {
+        _dataSource = mock(DataSource.class);
+        _readConnection = mock(Connection.class);
+        _readStatement = mock(PreparedStatement.class);
+        _resultSet = mock(ResultSet.class);
+        _markConnection = mock(Connection.class);
+        _markStatement = mock(PreparedStatement.class);
+        when(_dataSource.getConnection()).thenReturn(_readConnection, _markConnection);
+        when(_readConnection.getAutoCommit()).thenReturn(true);
+        when(_readConnection.prepareStatement(anyString(), anyInt(), anyInt())).thenReturn(_readStatement);
+        when(_readStatement.executeQuery()).thenReturn(_resultSet);
+        ResultSetMetaData metaData = mock(ResultSetMetaData.class);
+        when(_resultSet.getMetaData()).thenReturn(metaData);
+        when(metaData.getColumnCount()).thenReturn(1);
+        when(metaData.getColumnLabel(1)).thenReturn("ID");
+        final int[] row = {0};
+        when(_resultSet.next()).thenAnswer(new Answer<Boolean>() {
+            @Override
+            public Boolean answer(InvocationOnMock invocation) {
+                return ++row[0] <= 3;
+            }
+        });
+        when(_resultSet.getObject(1)).thenAnswer(new Answer<Object>() {
+            @Override
+            public Object answer(InvocationOnMock invocation) {
+                return row[0];
+            }
+        });
+        when(_markConnection.getAutoCommit()).thenReturn(true);
+        when(_markConnection.prepareStatement(anyString())).thenReturn(_markStatement);
+        ParameterMetaData parameters = mock(ParameterMetaData.class);
+        when(_markStatement.getParameterMetaData()).thenReturn(parameters);
+        when(parameters.getParameterCount()).thenReturn(1);
+    }
+
+    @Test
+    public void rowsAreReadThroughAForwardOnlyCursor() throws Exception {
+        SqlStreamCursor cursor = cursor(2, 1);
+        List<Object> chunks = new ArrayList<Object>();
+        while (cursor.hasNext()) {
+            chunks.add(cursor.next());
+        }
+        cursor.close();
+        assertEquals(2, chunks.size());
+        assertEquals(Collections.singletonMap("ID", 1), ((List<?>) chunks.get(0)).get(0));
+        assertEquals(Collections.singletonMap("ID", 3), ((List<?>) chunks.get(1)).get(0));
+        verify(_readConnection).prepareStatement(QUERY, ResultSet.TYPE_FORWARD_ONLY, ResultSet.CONCUR_READ_ONLY);
+        verify(_readStatement).setFetchSize(50);
+        verify(_readConnection).rollback();
+        verify(_readConnection).setAutoCommit(true);
+        verify(_readConnection).close();
+    }
+
+    @Test
+    public void marksAreRunAsOneBatchPerConsumeBatch() throws Exception {
+        SqlStreamCursor cursor = cursor(1, 2);
+        while (cursor.hasNext()) {
+            cursor.consumed(cursor.next());
+        }
+        verify(_markStatement, times(1)).executeBatch();
+        cursor.close();
+        verify(_markConnection, times(2)).prepareStatement("update ITEMS set DONE = 1 where ID = ?");
+        verify(_markStatement, times(3)).addBatch();
+        verify(_markStatement).setObject(1, 1);
+        verify(_markStatement).setObject(1, 3);
+        verify(_markStatement, times(2)).executeBatch();
+        verify(_markConnection, times(2)).commit();
+        verify(_markConnection, times(2)).close();
+    }
+
+    @Test
+    public void failedMarksAreRolledBackAndTheCursorIsReleased() throws Exception {
+        when(_markStatement.executeBatch()).thenThrow(new SQLException("locked"));
+        SqlStreamCursor cursor = cursor(1, 10);
+        @SuppressWarnings("unchecked")
+        Map<String, Object> row = (Map<String, Object>) cursor.next();
+        cursor.consumed(row);
+        try {
+            cursor.close();
+            fail("Expected the marks to fail");
+        } catch (SQLException e) {
+            assertEquals("locked", e.getMessage());
+        }
+        verify(_markConnection).rollback();
+        verify(_markConnection, never()).commit();
+        verify(_markConnection).close();
+        verify(_resultSet).close();
+        verify(_readStatement).close();
+        verify(_readConnection).close();
+    }
+
+    @Test
+    public void failedQueryReleasesTheConnection() throws Exception {
+        when(_readStatement.executeQuery()).thenThrow(new SQLException("no table"));
+        try {
+            cursor(1, 1);
+            fail("Expected the query to fail");
+        } catch (SQLException e) {
+            assertEquals("no table", e.getMessage());
+        }
+        verify(_readStatement).close();
+        verify(_readConnection).close();
+    }
+
+    private SqlStreamCursor cursor(int chunkSize, int consumeBatchSize) throws SQLException {
+        return new SqlStreamCursor(new DefaultCamelContext(), _dataSource, new DefaultSqlPrepareStatementStrategy(),
+            true, QUERY, ON_CONSUME, 50, chunkSize, consumeBatchSize);
+    }
+
+}
@@ -0,0 +1,82 @@
+/*
+ * Copyright 2013 Red Hat Inc. and/or its affiliates and other contributors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * http://www.apache.org/licenses/LICENSE-2.0
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,  
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.switchyard.component.camel.sql.model.v2;
+
+import static junit.framework.Assert.assertEquals;
+
+import org.apache.camel.component.sql.SqlEndpoint;
+import org.switchyard.component.camel.config.test.v1.V1BaseCamelServiceBindingModelTest;
+import org.switchyard.component.camel.sql.model.CamelSqlNamespace;
+import org.switchyard.component.camel.sql.model.CamelSqlStreamModel;
+import org.switchyard.component.camel.sql.model.v1.V1CamelSqlBindingModel;
+import org.switchyard.component.camel.sql.model.v1.V1CamelSqlStreamModel;
+
+/**
+ * Test for the stream configuration of {@link V1CamelSqlBindingModel}.
+ */
+public class V2CamelSqlStreamBindingModelTest extends V1BaseCamelServiceBindingModelTest<V1CamelSqlBindingModel, SqlEndpoint> {
+
+    private static final String CAMEL_XML = "/v2/switchyard-sql-binding-stream-beans.xml";
+    // stream options are not endpoint options
+    private static final String CAMEL_URI = "sql://SELECT * FROM events WHERE processed = false?dataSourceRef=myDS";
+
+    private static final String QUERY = "SELECT * FROM events WHERE processed = false";
+    private static final String DATA_SOURCE_REF = "myDS";
+    private static final Integer FETCH_SIZE = 500;
+    private static final Integer CHUNK_SIZE = 20;
+    private static final Integer PARALLELISM = 4;
+    private static final String THREAD_POOL = "sqlStream";
+    private static final Integer CONSUME_BATCH_SIZE = 200;
+    private static final String ON_CONSUME = "UPDATE events SET processed = true WHERE id = :#id";
+
+    public V2CamelSqlStreamBindingModelTest() {
+        super(SqlEndpoint.class, CAMEL_XML);
+
+        setSkipCamelEndpointTesting(true);
+    }
+
+    @Override
+    protected V1CamelSqlBindingModel createTestModel() {
+        V1CamelSqlStreamModel stream = new V1CamelSqlStreamModel(CamelSqlNamespace.V_2_0.uri());
+        stream.setFetchSize(FETCH_SIZE)
+            .setChunkSize(CHUNK_SIZE)
+            .setParallelism(PARALLELISM)
+            .setThreadPool(THREAD_POOL)
+            .setConsumeBatchSize(CONSUME_BATCH_SIZE);
+        stream.setOnConsume(ON_CONSUME);
+        return new V1CamelSqlBindingModel(CamelSqlNamespace.V_2_0.uri())
+            .setQuery(QUERY)
+            .setDataSourceRef(DATA_SOURCE_REF)
+            .setStream(stream);
+    }
+
+    @Override
+    protected void createModelAssertions(V1CamelSqlBindingModel model) {
+        assertEquals(QUERY, model.getQuery());
+        assertEquals(DATA_SOURCE_REF, model.getDataSourceRef());
+        CamelSqlStreamModel stream = model.getStream();
+        assertEquals(FETCH_SIZE, stream.getFetchSize());
+        assertEquals(CHUNK_SIZE, stream.getChunkSize());
+        assertEquals(PARALLELISM, stream.getParallelism());
+        assertEquals(THREAD_POOL, stream.getThreadPool());
+        assertEquals(CONSUME_BATCH_SIZE, stream.getConsumeBatchSize());
+        assertEquals(ON_CONSUME, stream.getOnConsume());
+    }
+
+    @Override
+    protected String createEndpointUri() {
+        return CAMEL_URI;
+    }
+
+}
@@ -19,6 +19,7 @@ import java.net.URL;
 import java.util.List;
 
 import org.switchyard.common.type.classpath.AbstractTypeFilter;
+import org.switchyard.common.type.classpath.ClassInfo;
 import org.switchyard.common.type.classpath.ClasspathScanner;
 import org.switchyard.component.camel.Route;
 import org.switchyard.component.camel.model.v1.V1CamelImplementationModel;
@@ -104,14 +105,17 @@ public class RouteScanner implements Scanner<SwitchYardModel> {
         AbstractTypeFilter filter = new RouteFilter();
         ClasspathScanner scanner = new ClasspathScanner(filter);
 
-        for (URL url : urls) {
-            scanner.scan(url);
-        }
+        scanner.scan(urls);
 
         return filter.getMatchedTypes();
     }
 
     private class RouteFilter extends AbstractTypeFilter {
+        @Override
+        public boolean mayMatch(ClassInfo info) {
+            return !info.isInterface() && !info.isAbstract() && info.getAnnotations().contains(Route.class.getName());
+        }
+
         @Override
         public boolean matches(Class<?> clazz) {
             // Check to see if it's been excluded from scans
@@ -0,0 +1,128 @@
+/*
+ * Copyright 2013 Red Hat Inc. and/or its affiliates and other contributors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * http://www.apache.org/licenses/LICENSE-2.0
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.switchyard.component.common.benchmarks;
+
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.switchyard.common.xml.XMLHelper;
+import org.switchyard.component.common.composer.BaseRegexContextMapper;
+import org.switchyard.component.common.composer.BindingData;
+
+/**
+ * Header name matching of the regex context mappers, over the header names
+ * a Camel or HTTP binding typically sees on one message.  Every operation
+ * checks all the headers once, as mapFrom/mapTo do.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 10, time = 1)
+@Fork(1)
+public class ContextMapperBenchmark {
+
+    private static final String[] HEADER_NAMES = {
+        "breadcrumbId", "CamelHttpMethod", "CamelHttpUri", "CamelHttpPath", "CamelHttpQuery",
+        "CamelHttpResponseCode", "CamelHttpCharacterEncoding", "CamelFileName", "CamelFileLength",
+        "CamelToEndpoint", "CamelCreatedTimestamp", "Content-Type", "Content-Length", "Accept",
+        "Accept-Encoding", "Authorization", "Host", "User-Agent", "Connection", "Cookie",
+        "JMSMessageID", "JMSCorrelationID", "JMSTimestamp", "JMSRedelivered", "JMSDestination",
+        "X-Request-Id", "X-Forwarded-For", "org.switchyard.messageId", "org.switchyard.relatesTo",
+        "{urn:switchyard-quickstart:orders:1.0}orderId"
+    };
+
+    private static final class Data implements BindingData {}
+
+    /** Number of headers on each message. */
+    @Param({"10", "30"})
+    public int headers;
+
+    private String[] _names;
+    private BaseRegexContextMapper<Data> _unfiltered;
+    private BaseRegexContextMapper<Data> _filtered;
+
+    /**
+     * Creates the mappers.
+     */
+    @Setup
+    public void setUp() {
+        _names = new String[headers];
+        for (int i = 0; i < headers; i++) {
+            // copies, so the cache lookups don't get away with identity checks
+            _names[i] = new String(HEADER_NAMES[i % HEADER_NAMES.length]);
+        }
+        _unfiltered = new BaseRegexContextMapper<Data>();
+        _filtered = new BaseRegexContextMapper<Data>();
+        _filtered.setIncludes("Camel.*,JMS.*,Content-.*,X-.*,org\\.switchyard\\..*,orderId");
+        _filtered.setExcludes("CamelHttp.*,JMSRedelivered,Authorization,Cookie");
+        _filtered.setIncludeNamespaces(".*");
+    }
+
+    /**
+     * Matches the headers against a mapper without patterns.
+     * @return the number of matching headers
+     */
+    @Benchmark
+    public int matchUnfiltered() {
+        int matched = 0;
+        for (String name : _names) {
+            if (_unfiltered.matches(name)) {
+                matched++;
+            }
+        }
+        return matched;
+    }
+
+    /**
+     * Matches the headers against include and exclude patterns.
+     * @return the number of matching headers
+     */
+    @Benchmark
+    public int matchFiltered() {
+        int matched = 0;
+        for (String name : _names) {
+            if (_filtered.matches(name)) {
+                matched++;
+            }
+        }
+        return matched;
+    }
+
+    /**
+     * Matches the headers against include and exclude patterns, parsing and
+     * evaluating every name as if no decision had been made before.
+     * @return the number of matching headers
+     */
+    @Benchmark
+    public int matchFilteredUncached() {
+        int matched = 0;
+        for (String name : _names) {
+            if (_filtered.matches(XMLHelper.createQName(name))) {
+                matched++;
+            }
+        }
+        return matched;
+    }
+}
@@ -45,4 +45,14 @@ public interface CamelConstants {
      */
     String TRANSACTED_REF = "transactionPolicy";
 
+    /**
+     * Cursor of the results of a streaming consumer poll.
+     */
+    String STREAM_CURSOR = "org.switchyard.component.camel.streamCursor";
+
+    /**
+     * Results of a streaming consumer poll sent in one message.
+     */
+    String STREAM_RESULTS = "org.switchyard.component.camel.streamResults";
+
 }
@@ -28,5 +28,13 @@ public interface CommonCamelLogger {
     @Message(id = 34200, value = "Failed to remove route for service %s")
     void failedToRemoveRouteForService(String serviceName, @Cause Exception ex);
 
-}
+    /**
+     * failedToCloseStream method definition.
+     * @param binding the binding name
+     * @param ex the ex
+     */
+    @LogMessage(level = Level.WARN)
+    @Message(id = 34201, value = "Failed to close the results of a poll of binding %s")
+    void failedToCloseStream(String binding, @Cause Exception ex);
 
+}
@@ -154,5 +154,14 @@ public interface CommonCamelMessages {
     @Message(id = 34320, value = "Unexpected error closing InitialContext.")
     SwitchYardException unexpectedErrorClosingInitialContext(@Cause Exception e);
 
-}
+    /**
+     * fileSplitRequiresOption method definition.
+     * @param mode the split mode
+     * @param option the missing option
+     * @param binding the binding name
+     * @return SwitchYardException
+     */
+    @Message(id = 34321, value = "Split mode %s requires the %s option in binding %s")
+    SwitchYardException fileSplitRequiresOption(String mode, String option, String binding);
 
+}
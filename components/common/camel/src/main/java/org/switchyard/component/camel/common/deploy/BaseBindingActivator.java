@@ -17,9 +17,11 @@ import javax.xml.namespace.QName;
 
 import org.switchyard.common.camel.SwitchYardCamelContext;
 import org.switchyard.component.camel.common.composer.CamelComposition;
+import org.switchyard.component.camel.common.handler.GenericFileInboundHandler;
 import org.switchyard.component.camel.common.handler.InboundHandler;
 import org.switchyard.component.camel.common.handler.OutboundHandler;
 import org.switchyard.component.camel.common.model.CamelBindingModel;
+import org.switchyard.component.camel.common.model.file.GenericFileBindingModel;
 import org.switchyard.config.model.composite.BindingModel;
 import org.switchyard.deploy.ServiceHandler;
 
@@ -46,7 +48,12 @@ public class BaseBindingActivator extends BaseCamelActivator {
         }
     }
 
+    @SuppressWarnings({"unchecked", "rawtypes"})
     protected <T extends CamelBindingModel> InboundHandler<T> createInboundHandler(QName serviceName, T binding) {
+        if (binding instanceof GenericFileBindingModel) {
+            // file bindings may split files into records
+            return new GenericFileInboundHandler((GenericFileBindingModel) binding, getCamelContext(), serviceName, getServiceDomain());
+        }
         return new InboundHandler<T>(binding, getCamelContext(), serviceName, getServiceDomain());
     }
 
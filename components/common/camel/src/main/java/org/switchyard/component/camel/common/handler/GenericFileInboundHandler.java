@@ -0,0 +1,148 @@
+/*
+ * Copyright 2013 Red Hat Inc. and/or its affiliates and other contributors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * http://www.apache.org/licenses/LICENSE-2.0
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,  
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.switchyard.component.camel.common.handler;
+
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.io.Reader;
+
+import javax.xml.namespace.QName;
+
+import org.apache.camel.Exchange;
+import org.apache.camel.Expression;
+import org.apache.camel.model.ProcessorDefinition;
+import org.apache.camel.model.RouteDefinition;
+import org.apache.camel.language.tokenizer.TokenizeLanguage;
+import org.apache.camel.model.SplitDefinition;
+import org.apache.camel.support.ExpressionAdapter;
+import org.apache.camel.util.IOHelper;
+import org.switchyard.ServiceDomain;
+import org.switchyard.common.camel.SwitchYardCamelContext;
+import org.switchyard.component.camel.common.CommonCamelMessages;
+import org.switchyard.component.camel.common.model.file.GenericFileBindingModel;
+import org.switchyard.component.camel.common.model.file.GenericFileConsumerBindingModel;
+import org.switchyard.component.camel.common.model.file.GenericFileSplitModel;
+import org.switchyard.component.camel.common.model.file.GenericFileSplitModel.Mode;
+
+/**
+ * Inbound handler of file based bindings, which splits consumed files into
+ * records when the consumer has a split configuration.
+ * <br><br>
+ * Files are split with a streaming splitter, so records are sent to the
+ * service while the file is still being read.  Records are processed one at
+ * a time unless a parallelism is configured; parallel records are handed to a
+ * pool whose queue holds as many records as it has threads, and once the
+ * queue is full the thread reading the file processes the next record itself,
+ * which keeps reading paced by processing.  The file consumer commits the
+ * file after the splitter returns, so a file is moved or deleted only when
+ * every record has completed; the first failed record fails the file.
+ * 
+ * @param <T> Type of the binding.
+ */
+public class GenericFileInboundHandler<T extends GenericFileBindingModel> extends InboundHandler<T> {
+
+    /**
+     * Sole constructor.
+     * 
+     * @param camelBindingModel The file binding model.
+     * @param camelContext The camel context instance.
+     * @param serviceName The target service name.
+     * @param domain the service domain.
+     */
+    public GenericFileInboundHandler(final T camelBindingModel, final SwitchYardCamelContext camelContext,
+        final QName serviceName, final ServiceDomain domain) {
+        super(camelBindingModel, camelContext, serviceName, domain);
+    }
+
+    @Override
+    protected ProcessorDefinition<?> addSplitter(final RouteDefinition route) {
+        GenericFileSplitModel split = getSplit();
+        if (split == null) {
+            return route;
+        }
+
+        SplitDefinition splitter = route.split(createSplitExpression(split)).streaming().stopOnException();
+        int parallelism = split.getParallelism();
+        if (!split.isOrdered() && (parallelism > 1 || split.getThreadPool() != null)) {
+            splitter.parallelProcessing().executorService(getSplitExecutor(split.getThreadPool(), parallelism));
+        }
+        return splitter;
+    }
+
+    private GenericFileSplitModel getSplit() {
+        if (getBindingModel().getModelConfiguration().getFirstChild(GenericFileBindingModel.CONSUME) == null) {
+            return null;
+        }
+        GenericFileConsumerBindingModel consumer = getBindingModel().getConsumer();
+        return consumer != null ? consumer.getSplit() : null;
+    }
+
+    private Expression createSplitExpression(final GenericFileSplitModel split) {
+        final Mode mode = split.getMode();
+        final int chunkSize = split.getChunkSize();
+        switch (mode) {
+        case XML:
+            if (split.getElement() == null) {
+                throw CommonCamelMessages.MESSAGES.fileSplitRequiresOption(mode.name(), "element", getBindingModel().getName());
+            }
+            TokenizeLanguage xml = new TokenizeLanguage();
+            xml.setToken(split.getElement());
+            xml.setInheritNamespaceTagName(split.getParent());
+            xml.setXml(true);
+            xml.setGroup(chunkSize);
+            return xml.createExpression();
+        case DELIMITER:
+            if (split.getDelimiter() == null || split.getDelimiter().isEmpty()) {
+                throw CommonCamelMessages.MESSAGES.fileSplitRequiresOption(mode.name(), "delimiter", getBindingModel().getName());
+            }
+            break;
+        case FIXED_LENGTH:
+            if (split.getLength() == null || split.getLength() <= 0) {
+                throw CommonCamelMessages.MESSAGES.fileSplitRequiresOption(mode.name(), "length", getBindingModel().getName());
+            }
+            break;
+        default:
+            break;
+        }
+
+        final String delimiter = split.getDelimiter();
+        final Integer length = split.getLength();
+        return new ExpressionAdapter() {
+            @Override
+            public Object evaluate(Exchange exchange) {
+                try {
+                    InputStream in = exchange.getIn().getMandatoryBody(InputStream.class);
+                    Reader reader = IOHelper.buffered(new InputStreamReader(in, IOHelper.getCharsetName(exchange)));
+                    switch (mode) {
+                    case DELIMITER:
+                        return RecordIterator.delimited(reader, delimiter, chunkSize);
+                    case FIXED_LENGTH:
+                        return RecordIterator.fixedLength(reader, length, chunkSize);
+                    default:
+                        return RecordIterator.lines(reader, chunkSize);
+                    }
+                } catch (Exception e) {
+                    exchange.setException(e);
+                    return null;
+                }
+            }
+
+            @Override
+            public String toString() {
+                return "split" + mode;
+            }
+        };
+    }
+
+}
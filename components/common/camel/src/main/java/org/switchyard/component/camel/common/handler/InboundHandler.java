@@ -14,9 +14,13 @@
 package org.switchyard.component.camel.common.handler;
 
 import java.net.URI;
+import java.util.concurrent.ExecutorService;
 
 import javax.xml.namespace.QName;
 
+import org.apache.camel.ThreadPoolRejectedPolicy;
+import org.apache.camel.builder.ThreadPoolProfileBuilder;
+import org.apache.camel.model.ProcessorDefinition;
 import org.apache.camel.model.RouteDefinition;
 import org.switchyard.Exchange;
 import org.switchyard.ServiceDomain;
@@ -29,6 +33,8 @@ import org.switchyard.component.camel.common.model.CamelBindingModel;
 import org.switchyard.component.camel.common.transaction.TransactionHelper;
 import org.switchyard.deploy.BaseServiceHandler;
 import org.switchyard.runtime.event.ExchangeCompletionEvent;
+import org.switchyard.runtime.executor.ExecutorRegistry;
+import org.switchyard.runtime.executor.ThreadPoolConfig;
 
 /**
  * An ExchangeHandler that acts as a gateway/entrypoint for Camel Components.
@@ -46,6 +52,7 @@ import org.switchyard.runtime.event.ExchangeCompletionEvent;
 public class InboundHandler<T extends CamelBindingModel> extends BaseServiceHandler {
 
     private static final String NAMESPACE_POLICY_REF = "org.switchyard.namespaceContextPolicy";
+    private static final String THREAD_POOL_PREFIX = "org.switchyard.camel.split.";
 
     private final T _camelBindingModel;
     private final SwitchYardCamelContext _camelContext;
@@ -84,11 +91,11 @@ public class InboundHandler<T extends CamelBindingModel> extends BaseServiceHand
         addTransactionPolicy(route);
         addNamespacePolicy(route);
         
-        route.setProperty(ExchangeCompletionEvent.GATEWAY_NAME).simple(getBindingModel().getName(), String.class)
+        addSplitCompletion(addSplitter(route).setProperty(ExchangeCompletionEvent.GATEWAY_NAME).simple(getBindingModel().getName(), String.class)
             .setProperty(CamelConstants.APPLICATION_NAMESPACE).constant(_serviceName.getNamespaceURI())
             .process(new MessageComposerProcessor(getBindingModel()))
             .process(new OperationSelectorProcessor(getServiceName(), getBindingModel()))
-            .to(getSwitchyardEndpointUri());
+            .to(getSwitchyardEndpointUri()));
         
         return route;
     }
@@ -125,6 +132,59 @@ public class InboundHandler<T extends CamelBindingModel> extends BaseServiceHand
         return route;
     }
     
+    /**
+     * Adds the processing which turns one consumed message into the messages
+     * sent to the service.  Bindings consuming a payload of many records
+     * split it here; by default every consumed message is sent as it is.
+     * 
+     * @param route Route definition.
+     * @return the definition the service invocation is added to
+     */
+    protected ProcessorDefinition<?> addSplitter(final RouteDefinition route) {
+        return route;
+    }
+
+    /**
+     * Adds the processing run once the service has accepted a message sent
+     * by {@link #addSplitter(RouteDefinition)}, such as marking the records
+     * of the message consumed.  Nothing is added by default.
+     * 
+     * @param definition Definition ending with the service invocation.
+     */
+    protected void addSplitCompletion(final ProcessorDefinition<?> definition) {
+    }
+
+    /**
+     * Returns the executor processing split messages in parallel.  Within a
+     * service domain it is the named domain thread pool, or a pool created for
+     * the route with as many threads as the parallelism, a queue of the same
+     * size and caller-runs rejection, so the thread splitting the payload
+     * processes the next message itself once the queue is full.
+     * 
+     * @param threadPool Name of a domain thread pool, may be null.
+     * @param parallelism Number of messages processed at the same time.
+     * @return the executor
+     */
+    protected ExecutorService getSplitExecutor(final String threadPool, final int parallelism) {
+        ServiceDomain domain = _camelContext.getServiceDomain();
+        String name = threadPool;
+        if (domain != null) {
+            ExecutorRegistry registry = ExecutorRegistry.getRegistry(domain);
+            if (name == null) {
+                name = THREAD_POOL_PREFIX + getRouteId();
+                if (!registry.hasThreadPool(name)) {
+                    registry.register(new ThreadPoolConfig(name).setCoreSize(parallelism).setMaxSize(parallelism)
+                        .setQueueSize(parallelism).setRejectionPolicy(ThreadPoolConfig.RejectionPolicy.CALLER_RUNS));
+                }
+            }
+            return registry.getExecutor(name, getServiceName());
+        }
+        // outside of a domain the pool belongs to the camel context
+        return _camelContext.getExecutorServiceManager().newThreadPool(this, getRouteId(),
+            new ThreadPoolProfileBuilder(getRouteId()).poolSize(parallelism).maxPoolSize(parallelism)
+                .maxQueueSize(parallelism).rejectedPolicy(ThreadPoolRejectedPolicy.CallerRuns).build());
+    }
+
     /**
      * Only add a namespace policy if the policy ref can be resolved, which will
      * be the case on EAP but not on Karaf.
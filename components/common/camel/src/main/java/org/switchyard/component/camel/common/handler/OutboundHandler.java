@@ -152,7 +152,14 @@ public class OutboundHandler extends BaseServiceHandler {
         return exchange.getContract().getConsumerOperation().getExchangePattern() == ExchangePattern.IN_ONLY;
     }
 
-    private void handleInOnly(final Exchange exchange) throws HandlerException {
+    /**
+     * Sends an in-only exchange to the Camel endpoint.
+     * 
+     * @param exchange SwitchYard exchange.
+     * @throws HandlerException the Camel exchange failed and failures of in-only
+     * exchanges are propagated
+     */
+    protected void handleInOnly(final Exchange exchange) throws HandlerException {
         try {
             final org.apache.camel.Exchange camelExchange = _producerTemplate.send(_uri, createProcessor(exchange));
             Object propagateException = _domain.getProperty(Exchange.PROPAGATE_EXCEPTION_ON_IN_ONLY);
@@ -220,7 +227,14 @@ public class OutboundHandler extends BaseServiceHandler {
         switchyardExchange.send(msg);
     }
 
-    private Processor createProcessor(final Exchange switchyardExchange) {
+    /**
+     * Creates the processor which turns a SwitchYard exchange into the Camel
+     * exchange sent to the endpoint.
+     * 
+     * @param switchyardExchange SwitchYard exchange.
+     * @return the processor
+     */
+    protected Processor createProcessor(final Exchange switchyardExchange) {
         return new DefaultProcessor(_messageComposer, switchyardExchange);
     }
 
@@ -240,4 +254,12 @@ public class OutboundHandler extends BaseServiceHandler {
         return _uri;
     }
 
+    /**
+     * Return the service domain of this handler.
+     * @return service domain
+     */
+    protected ServiceDomain getServiceDomain() {
+        return _domain;
+    }
+
 }
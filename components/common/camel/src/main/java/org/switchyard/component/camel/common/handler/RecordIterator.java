@@ -0,0 +1,194 @@
+/*
+ * Copyright 2013 Red Hat Inc. and/or its affiliates and other contributors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * http://www.apache.org/licenses/LICENSE-2.0
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,  
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.switchyard.component.camel.common.handler;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.io.Reader;
+import java.util.Iterator;
+import java.util.NoSuchElementException;
+
+import org.apache.camel.RuntimeCamelException;
+import org.apache.camel.util.IOHelper;
+
+/**
+ * Reads text records from a reader one chunk at a time, so a file of any
+ * size is split while holding only the current chunk in memory.  Records are
+ * either separated by a delimiter or have a fixed length; a chunk joins up to
+ * a given number of records with their delimiter.
+ * <br><br>
+ * The reader is closed when the last record has been read or when the
+ * iterator is closed.
+ */
+public class RecordIterator implements Iterator<String>, Closeable {
+
+    private static final String LINE_DELIMITER = "\n";
+
+    private final Reader _reader;
+    private final String _delimiter;
+    private final int _length;
+    private final boolean _lines;
+    private final int _chunkSize;
+    private String _next;
+    private boolean _eof;
+
+    private RecordIterator(Reader reader, String delimiter, int length, boolean lines, int chunkSize) {
+        _reader = reader;
+        _delimiter = delimiter;
+        _length = length;
+        _lines = lines;
+        _chunkSize = Math.max(1, chunkSize);
+    }
+
+    /**
+     * Splits text into lines, ended by either \n or \r\n.
+     * 
+     * @param reader the text
+     * @param chunkSize number of lines in a chunk
+     * @return the iterator
+     */
+    public static RecordIterator lines(Reader reader, int chunkSize) {
+        return new RecordIterator(reader, LINE_DELIMITER, 0, true, chunkSize);
+    }
+
+    /**
+     * Splits text into records separated by a delimiter.
+     * 
+     * @param reader the text
+     * @param delimiter the record delimiter
+     * @param chunkSize number of records in a chunk
+     * @return the iterator
+     */
+    public static RecordIterator delimited(Reader reader, String delimiter, int chunkSize) {
+        return new RecordIterator(reader, delimiter, 0, false, chunkSize);
+    }
+
+    /**
+     * Splits text into records of a fixed length; the last record may be
+     * shorter.
+     * 
+     * @param reader the text
+     * @param length the record length in characters
+     * @param chunkSize number of records in a chunk
+     * @return the iterator
+     */
+    public static RecordIterator fixedLength(Reader reader, int length, int chunkSize) {
+        return new RecordIterator(reader, null, length, false, chunkSize);
+    }
+
+    @Override
+    public boolean hasNext() {
+        if (_next == null && !_eof) {
+            try {
+                _next = readChunk();
+            } catch (IOException ioe) {
+                close();
+                throw new RuntimeCamelException(ioe);
+            }
+            if (_next == null) {
+                close();
+            }
+        }
+        return _next != null;
+    }
+
+    @Override
+    public String next() {
+        if (!hasNext()) {
+            throw new NoSuchElementException();
+        }
+        String chunk = _next;
+        _next = null;
+        return chunk;
+    }
+
+    @Override
+    public void remove() {
+        throw new UnsupportedOperationException();
+    }
+
+    @Override
+    public void close() {
+        _eof = true;
+        IOHelper.close(_reader);
+    }
+
+    private String readChunk() throws IOException {
+        StringBuilder chunk = null;
+        for (int i = 0; i < _chunkSize; i++) {
+            String record = _length > 0 ? readFixed() : readDelimited();
+            if (record == null) {
+                break;
+            }
+            if (chunk == null) {
+                chunk = new StringBuilder(record);
+            } else {
+                if (_delimiter != null) {
+                    chunk.append(_delimiter);
+                }
+                chunk.append(record);
+            }
+        }
+        return chunk == null ? null : chunk.toString();
+    }
+
+    private String readFixed() throws IOException {
+        char[] record = new char[_length];
+        int read = 0;
+        while (read < _length) {
+            int count = _reader.read(record, read, _length - read);
+            if (count < 0) {
+                break;
+            }
+            read += count;
+        }
+        return read == 0 ? null : new String(record, 0, read);
+    }
+
+    private String readDelimited() throws IOException {
+        StringBuilder record = new StringBuilder();
+        int last = _delimiter.charAt(_delimiter.length() - 1);
+        int c;
+        while ((c = _reader.read()) >= 0) {
+            record.append((char) c);
+            if (c == last && endsWithDelimiter(record)) {
+                record.setLength(record.length() - _delimiter.length());
+                return trim(record);
+            }
+        }
+        // the text does not end with a delimiter
+        return record.length() == 0 ? null : trim(record);
+    }
+
+    private boolean endsWithDelimiter(StringBuilder record) {
+        int offset = record.length() - _delimiter.length();
+        if (offset < 0) {
+            return false;
+        }
+        for (int i = 0; i < _delimiter.length(); i++) {
+            if (record.charAt(offset + i) != _delimiter.charAt(i)) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private String trim(StringBuilder record) {
+        if (_lines && record.length() > 0 && record.charAt(record.length() - 1) == '\r') {
+            record.setLength(record.length() - 1);
+        }
+        return record.toString();
+    }
+
+}
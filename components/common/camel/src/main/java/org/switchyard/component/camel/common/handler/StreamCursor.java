@@ -0,0 +1,168 @@
+/*
+ * Copyright 2013 Red Hat Inc. and/or its affiliates and other contributors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * http://www.apache.org/licenses/LICENSE-2.0
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,  
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.switchyard.component.camel.common.handler;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Iterator;
+import java.util.List;
+import java.util.NoSuchElementException;
+
+import org.apache.camel.util.ObjectHelper;
+
+/**
+ * Results of one poll of a streaming consumer, read while they are sent to
+ * the service.  Results are returned one at a time, or in lists of the
+ * chunk size, and only the results of the current fetch are held in memory.
+ * <br><br>
+ * Results are marked consumed once the service has accepted their message.
+ * Marks are collected and applied in batches of the consume batch size; the
+ * last batch is applied when the cursor is closed at the end of the poll.
+ * Reading and marking are serialized, and the resources of the cursor are
+ * released on close even when the last batch could not be marked.
+ */
+public abstract class StreamCursor implements Iterator<Object> {
+
+    private final int _chunkSize;
+    private final int _consumeBatchSize;
+    private final List<Object> _consumed = new ArrayList<Object>();
+    private boolean _closed;
+
+    /**
+     * Creates a cursor.
+     * 
+     * @param chunkSize Number of results returned together.
+     * @param consumeBatchSize Number of consumed results marked together.
+     */
+    protected StreamCursor(final int chunkSize, final int consumeBatchSize) {
+        _chunkSize = Math.max(1, chunkSize);
+        _consumeBatchSize = Math.max(1, consumeBatchSize);
+    }
+
+    /**
+     * Verifies if there is a next result, fetching it if necessary.
+     * 
+     * @return true if there is a next result
+     * @throws Exception the results could not be read
+     */
+    protected abstract boolean hasNextResult() throws Exception;
+
+    /**
+     * Returns the next result.
+     * 
+     * @return the result
+     * @throws Exception the results could not be read
+     */
+    protected abstract Object nextResult() throws Exception;
+
+    /**
+     * Marks results consumed, in one batch.
+     * 
+     * @param results the consumed results
+     * @throws Exception the results could not be marked
+     */
+    protected abstract void markConsumed(List<Object> results) throws Exception;
+
+    /**
+     * Releases the resources used to read the results.
+     * 
+     * @throws Exception the resources could not be released
+     */
+    protected abstract void release() throws Exception;
+
+    @Override
+    public synchronized boolean hasNext() {
+        if (_closed) {
+            return false;
+        }
+        try {
+            return hasNextResult();
+        } catch (Exception e) {
+            throw ObjectHelper.wrapRuntimeCamelException(e);
+        }
+    }
+
+    @Override
+    public synchronized Object next() {
+        if (!hasNext()) {
+            throw new NoSuchElementException();
+        }
+        try {
+            if (_chunkSize == 1) {
+                return nextResult();
+            }
+            List<Object> chunk = new ArrayList<Object>(_chunkSize);
+            do {
+                chunk.add(nextResult());
+            } while (chunk.size() < _chunkSize && hasNextResult());
+            return chunk;
+        } catch (Exception e) {
+            throw ObjectHelper.wrapRuntimeCamelException(e);
+        }
+    }
+
+    @Override
+    public void remove() {
+        throw new UnsupportedOperationException();
+    }
+
+    /**
+     * Marks the results of a message consumed, applying the marks once a
+     * batch is complete.
+     * 
+     * @param message A result, or a chunk of results, returned by this cursor.
+     * @throws Exception a batch of marks could not be applied
+     */
+    public synchronized void consumed(final Object message) throws Exception {
+        if (_closed) {
+            // the poll has ended, the results are read again by the next one
+            return;
+        } else if (_chunkSize == 1) {
+            _consumed.add(message);
+        } else {
+            _consumed.addAll((Collection<?>) message);
+        }
+        if (_consumed.size() >= _consumeBatchSize) {
+            flush();
+        }
+    }
+
+    /**
+     * Applies the pending marks and releases the cursor.  Messages still
+     * being processed are not marked.
+     * 
+     * @throws Exception the marks could not be applied or the resources released
+     */
+    public synchronized void close() throws Exception {
+        if (_closed) {
+            return;
+        }
+        _closed = true;
+        try {
+            flush();
+        } finally {
+            release();
+        }
+    }
+
+    private void flush() throws Exception {
+        if (_consumed.isEmpty()) {
+            return;
+        }
+        List<Object> batch = new ArrayList<Object>(_consumed);
+        _consumed.clear();
+        markConsumed(batch);
+    }
+
+}
@@ -0,0 +1,191 @@
+/*
+ * Copyright 2013 Red Hat Inc. and/or its affiliates and other contributors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * http://www.apache.org/licenses/LICENSE-2.0
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,  
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.switchyard.component.camel.common.handler;
+
+import java.net.URI;
+import java.net.URISyntaxException;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+
+import javax.xml.namespace.QName;
+
+import org.apache.camel.Exchange;
+import org.apache.camel.Processor;
+import org.apache.camel.builder.ExpressionBuilder;
+import org.apache.camel.model.ProcessorDefinition;
+import org.apache.camel.model.RouteDefinition;
+import org.apache.camel.model.SplitDefinition;
+import org.apache.camel.support.ExpressionAdapter;
+import org.apache.camel.support.SynchronizationAdapter;
+import org.apache.camel.util.URISupport;
+import org.switchyard.ServiceDomain;
+import org.switchyard.SwitchYardException;
+import org.switchyard.common.camel.SwitchYardCamelContext;
+import org.switchyard.component.camel.common.CamelConstants;
+import org.switchyard.component.camel.common.CommonCamelLogger;
+import org.switchyard.component.camel.common.QueryString;
+import org.switchyard.component.camel.common.model.CamelBindingModel;
+import org.switchyard.component.camel.common.model.consumer.CamelStreamConsumerModel;
+
+/**
+ * Inbound handler of polling bindings which stream their results when the
+ * binding has a stream configuration.
+ * <br><br>
+ * A streaming binding does not start the consumer of its Camel component,
+ * which would load the whole result of a poll into memory.  Polls are run
+ * by a scheduler endpoint with the schedule of the binding instead, and each
+ * poll opens a {@link StreamCursor} iterated by a streaming splitter, so
+ * results are sent to the service while they are being read.  Messages are
+ * processed one at a time unless a parallelism is configured, and parallel
+ * messages are bounded as described in
+ * {@link #getSplitExecutor(String, int)}.  The results of a message are
+ * marked consumed once the service has accepted it, and the cursor is
+ * closed when the poll ends; the first failed message ends the poll.
+ * 
+ * @param <T> Type of the binding.
+ */
+public abstract class StreamingInboundHandler<T extends CamelBindingModel> extends InboundHandler<T> {
+
+    private static final String SCHEDULER = "scheduler";
+    private static final String CONSUMER_PREFIX = "consumer.";
+    private static final List<String> SCHEDULE_OPTIONS = Arrays.asList("initialDelay", "delay", "timeUnit", "useFixedDelay");
+
+    /**
+     * Sole constructor.
+     * 
+     * @param camelBindingModel The CamelBindingModel.
+     * @param camelContext The camel context instance.
+     * @param serviceName The target service name.
+     * @param domain the service domain.
+     */
+    public StreamingInboundHandler(final T camelBindingModel, final SwitchYardCamelContext camelContext,
+        final QName serviceName, final ServiceDomain domain) {
+        super(camelBindingModel, camelContext, serviceName, domain);
+    }
+
+    /**
+     * Returns the stream configuration of the binding.
+     * 
+     * @return the stream configuration, or null if the binding does not stream
+     */
+    protected abstract CamelStreamConsumerModel getStream();
+
+    /**
+     * Opens the cursor of a poll.
+     * 
+     * @param stream Stream configuration of the binding.
+     * @return the cursor
+     * @throws Exception the poll could not be started
+     */
+    protected abstract StreamCursor openCursor(CamelStreamConsumerModel stream) throws Exception;
+
+    /**
+     * The scheduler endpoint running the polls of a streaming binding, with
+     * the schedule options of the binding endpoint.
+     * 
+     * @return the endpoint uri
+     */
+    @Override
+    protected URI getComponentUri() {
+        URI uri = super.getComponentUri();
+        if (getStream() == null) {
+            return uri;
+        }
+        QueryString schedule = new QueryString();
+        try {
+            Map<String, Object> parameters = URISupport.parseQuery(uri.getRawQuery());
+            for (Map.Entry<String, Object> parameter : parameters.entrySet()) {
+                String name = parameter.getKey();
+                if (name.startsWith(CONSUMER_PREFIX)) {
+                    name = name.substring(CONSUMER_PREFIX.length());
+                }
+                if (SCHEDULE_OPTIONS.contains(name)) {
+                    schedule.add(name, parameter.getValue());
+                }
+            }
+        } catch (URISyntaxException e) {
+            throw new SwitchYardException(e);
+        }
+        return URI.create(SCHEDULER + "://" + getServiceName().getLocalPart() + "-" + getBindingModel().getName() + schedule);
+    }
+
+    /**
+     * Returns the endpoint uri of the binding, which the cursor reads from.
+     * 
+     * @return the endpoint uri
+     */
+    protected URI getBindingUri() {
+        return super.getComponentUri();
+    }
+
+    @Override
+    protected ProcessorDefinition<?> addSplitter(final RouteDefinition route) {
+        final CamelStreamConsumerModel stream = getStream();
+        if (stream == null) {
+            return route;
+        }
+
+        SplitDefinition splitter = route.split(new ExpressionAdapter() {
+            @Override
+            public Object evaluate(Exchange exchange) {
+                try {
+                    final StreamCursor cursor = openCursor(stream);
+                    exchange.setProperty(CamelConstants.STREAM_CURSOR, cursor);
+                    exchange.addOnCompletion(new SynchronizationAdapter() {
+                        @Override
+                        public void onDone(Exchange exchange) {
+                            try {
+                                cursor.close();
+                            } catch (Exception e) {
+                                CommonCamelLogger.ROOT_LOGGER.failedToCloseStream(getBindingModel().getName(), e);
+                            }
+                        }
+                    });
+                    return cursor;
+                } catch (Exception e) {
+                    exchange.setException(e);
+                    return null;
+                }
+            }
+
+            @Override
+            public String toString() {
+                return "stream";
+            }
+        }).streaming().stopOnException();
+        int parallelism = stream.getParallelism();
+        if (parallelism > 1 || stream.getThreadPool() != null) {
+            splitter.parallelProcessing().executorService(getSplitExecutor(stream.getThreadPool(), parallelism));
+        }
+        return splitter.setProperty(CamelConstants.STREAM_RESULTS, ExpressionBuilder.bodyExpression());
+    }
+
+    @Override
+    protected void addSplitCompletion(final ProcessorDefinition<?> definition) {
+        if (getStream() == null) {
+            return;
+        }
+        definition.process(new Processor() {
+            @Override
+            public void process(Exchange exchange) throws Exception {
+                StreamCursor cursor = exchange.getProperty(CamelConstants.STREAM_CURSOR, StreamCursor.class);
+                if (cursor != null) {
+                    cursor.consumed(exchange.getProperty(CamelConstants.STREAM_RESULTS));
+                }
+            }
+        });
+    }
+
+}
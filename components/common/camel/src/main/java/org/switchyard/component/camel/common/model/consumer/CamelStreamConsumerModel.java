@@ -0,0 +1,111 @@
+/*
+ * Copyright 2013 Red Hat Inc. and/or its affiliates and other contributors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * http://www.apache.org/licenses/LICENSE-2.0
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,  
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.switchyard.component.camel.common.model.consumer;
+
+import org.switchyard.config.model.Model;
+
+/**
+ * Streams the results of a polling consumer, so that the service is invoked
+ * once per result, or per chunk of results, while the results are still
+ * being read, instead of once per poll with the whole result.  Consumed
+ * results are marked in batches, so memory use does not depend on the size
+ * of a poll.
+ */
+public interface CamelStreamConsumerModel extends Model {
+
+    /**
+     * The name of the 'stream' element.
+     */
+    String STREAM = "stream";
+
+    /**
+     * Number of results fetched from the database at a time, 100 if not
+     * specified.
+     * 
+     * @return the fetch size
+     */
+    Integer getFetchSize();
+
+    /**
+     * Specify the number of results fetched from the database at a time.
+     * 
+     * @param fetchSize the fetch size
+     * @return a reference to this stream model
+     */
+    CamelStreamConsumerModel setFetchSize(Integer fetchSize);
+
+    /**
+     * Number of results sent to the service in one message, 1 if not
+     * specified.
+     * 
+     * @return the chunk size
+     */
+    Integer getChunkSize();
+
+    /**
+     * Specify the number of results sent to the service in one message.
+     * 
+     * @param chunkSize the chunk size
+     * @return a reference to this stream model
+     */
+    CamelStreamConsumerModel setChunkSize(Integer chunkSize);
+
+    /**
+     * Number of messages of a poll processed at the same time, 1 if not
+     * specified.
+     * 
+     * @return the parallelism
+     */
+    Integer getParallelism();
+
+    /**
+     * Specify the number of messages of a poll processed at the same time.
+     * 
+     * @param parallelism the parallelism
+     * @return a reference to this stream model
+     */
+    CamelStreamConsumerModel setParallelism(Integer parallelism);
+
+    /**
+     * Name of a domain thread pool processing the messages, instead of a pool
+     * sized by the parallelism.
+     * 
+     * @return the thread pool name
+     */
+    String getThreadPool();
+
+    /**
+     * Specify the name of a domain thread pool processing the messages.
+     * 
+     * @param threadPool the thread pool name
+     * @return a reference to this stream model
+     */
+    CamelStreamConsumerModel setThreadPool(String threadPool);
+
+    /**
+     * Number of consumed results marked together, 100 if not specified.
+     * 
+     * @return the consume batch size
+     */
+    Integer getConsumeBatchSize();
+
+    /**
+     * Specify the number of consumed results marked together.
+     * 
+     * @param consumeBatchSize the consume batch size
+     * @return a reference to this stream model
+     */
+    CamelStreamConsumerModel setConsumeBatchSize(Integer consumeBatchSize);
+
+}
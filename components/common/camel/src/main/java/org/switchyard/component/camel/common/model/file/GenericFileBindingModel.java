@@ -106,4 +106,10 @@ public interface GenericFileBindingModel extends CamelBindingModel {
      */
     GenericFileBindingModel setCharset(String charset);
 
+    /**
+     * Options of the file consumer.
+     * @return the consumer options
+     */
+    GenericFileConsumerBindingModel getConsumer();
+
 }
@@ -406,4 +406,20 @@ public interface GenericFileConsumerBindingModel extends CamelScheduledBatchPoll
      */
     GenericFileConsumerBindingModel setDoneFileName(String doneFileName);
 
+    /**
+     * Splits each file into records sent to the service one by one.
+     * 
+     * @return the split configuration, or null if files are not split
+     */
+    GenericFileSplitModel getSplit();
+
+    /**
+     * Specify how each file is split into records.
+     * 
+     * @param split
+     *            the split configuration
+     * @return a reference to this Camel File binding model
+     */
+    GenericFileConsumerBindingModel setSplit(GenericFileSplitModel split);
+
 }
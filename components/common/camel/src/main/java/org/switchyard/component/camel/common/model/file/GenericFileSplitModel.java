@@ -0,0 +1,186 @@
+/*
+ * Copyright 2013 Red Hat Inc. and/or its affiliates and other contributors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * http://www.apache.org/licenses/LICENSE-2.0
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,  
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.switchyard.component.camel.common.model.file;
+
+import org.switchyard.config.model.Model;
+
+/**
+ * Splits consumed files into records, so that the service is invoked once
+ * per record, or per chunk of records, instead of once per file.  The file
+ * is read sequentially while records are dispatched, and it is committed
+ * (moved or deleted) only when every record has been processed.
+ */
+public interface GenericFileSplitModel extends Model {
+
+    /**
+     * The name of the 'split' element.
+     */
+    String SPLIT = "split";
+
+    /**
+     * How a file is divided into records.
+     */
+    enum Mode {
+        /** One record per line; both \n and \r\n end a line. */
+        LINE,
+        /** Records are separated by the configured delimiter. */
+        DELIMITER,
+        /** Records have the configured length in characters. */
+        FIXED_LENGTH,
+        /** One record per occurrence of the configured XML element. */
+        XML
+    }
+
+    /**
+     * How a file is divided into records, LINE if not specified.
+     * 
+     * @return the split mode
+     */
+    Mode getMode();
+
+    /**
+     * Specify how a file is divided into records.
+     * 
+     * @param mode the split mode
+     * @return a reference to this split model
+     */
+    GenericFileSplitModel setMode(Mode mode);
+
+    /**
+     * Record delimiter used by the DELIMITER mode.
+     * 
+     * @return the delimiter
+     */
+    String getDelimiter();
+
+    /**
+     * Specify the record delimiter used by the DELIMITER mode.
+     * 
+     * @param delimiter the delimiter
+     * @return a reference to this split model
+     */
+    GenericFileSplitModel setDelimiter(String delimiter);
+
+    /**
+     * Record length in characters used by the FIXED_LENGTH mode.
+     * 
+     * @return the record length
+     */
+    Integer getLength();
+
+    /**
+     * Specify the record length in characters used by the FIXED_LENGTH mode.
+     * 
+     * @param length the record length
+     * @return a reference to this split model
+     */
+    GenericFileSplitModel setLength(Integer length);
+
+    /**
+     * Name of the record element used by the XML mode, such as order or
+     * ns:order.
+     * 
+     * @return the record element name
+     */
+    String getElement();
+
+    /**
+     * Specify the name of the record element used by the XML mode.
+     * 
+     * @param element the record element name
+     * @return a reference to this split model
+     */
+    GenericFileSplitModel setElement(String element);
+
+    /**
+     * Name of the element enclosing the records in the XML mode, whose
+     * namespace declarations are copied into each record.
+     * 
+     * @return the enclosing element name
+     */
+    String getParent();
+
+    /**
+     * Specify the name of the element enclosing the records in the XML mode.
+     * 
+     * @param parent the enclosing element name
+     * @return a reference to this split model
+     */
+    GenericFileSplitModel setParent(String parent);
+
+    /**
+     * Number of records sent to the service in one message, 1 if not
+     * specified.
+     * 
+     * @return the chunk size
+     */
+    Integer getChunkSize();
+
+    /**
+     * Specify the number of records sent to the service in one message.
+     * 
+     * @param chunkSize the chunk size
+     * @return a reference to this split model
+     */
+    GenericFileSplitModel setChunkSize(Integer chunkSize);
+
+    /**
+     * Number of records of a file processed at the same time, 1 if not
+     * specified.
+     * 
+     * @return the parallelism
+     */
+    Integer getParallelism();
+
+    /**
+     * Specify the number of records of a file processed at the same time.
+     * 
+     * @param parallelism the parallelism
+     * @return a reference to this split model
+     */
+    GenericFileSplitModel setParallelism(Integer parallelism);
+
+    /**
+     * Whether records are processed one at a time in file order, whatever
+     * the parallelism.
+     * 
+     * @return true if records are processed in file order
+     */
+    Boolean isOrdered();
+
+    /**
+     * Specify whether records are processed one at a time in file order.
+     * 
+     * @param ordered true to process records in file order
+     * @return a reference to this split model
+     */
+    GenericFileSplitModel setOrdered(Boolean ordered);
+
+    /**
+     * Name of a domain thread pool processing the records, instead of a pool
+     * sized by the parallelism.
+     * 
+     * @return the thread pool name
+     */
+    String getThreadPool();
+
+    /**
+     * Specify the name of a domain thread pool processing the records.
+     * 
+     * @param threadPool the thread pool name
+     * @return a reference to this split model
+     */
+    GenericFileSplitModel setThreadPool(String threadPool);
+
+}
@@ -14,6 +14,7 @@
 package org.switchyard.component.camel.common.model.file.v1;
 
 import org.switchyard.component.camel.common.model.file.GenericFileConsumerBindingModel;
+import org.switchyard.component.camel.common.model.file.GenericFileSplitModel;
 import org.switchyard.component.camel.common.model.v1.V1CamelScheduledBatchPollConsumer;
 import org.switchyard.config.Configuration;
 import org.switchyard.config.model.Descriptor;
@@ -136,6 +137,8 @@ public class V1GenericFileConsumerBindingModel extends V1CamelScheduledBatchPoll
      */
     public static final String DONE_FILE_NAME = "doneFileName";
 
+    private GenericFileSplitModel _split;
+
     /**
      * Creates model bound to given namespace.
      * 
@@ -152,7 +155,7 @@ public class V1GenericFileConsumerBindingModel extends V1CamelScheduledBatchPoll
                 READ_LOCK_CHECK_INTERVAL, EXCLUSIVE_READ_LOCK_STRATEGY,
                 PROCESS_STRATEGY,
                 STARTING_DIRECTORY_MUST_EXIST, DIRECTORY_MUST_EXIST,
-                DONE_FILE_NAME);
+                DONE_FILE_NAME, GenericFileSplitModel.SPLIT);
     }
 
     /**
@@ -385,4 +388,30 @@ public class V1GenericFileConsumerBindingModel extends V1CamelScheduledBatchPoll
         return setConfig(DONE_FILE_NAME, doneFileName);
     }
 
+    @Override
+    public GenericFileSplitModel getSplit() {
+        if (_split == null) {
+            Configuration config = getModelConfiguration().getFirstChild(GenericFileSplitModel.SPLIT);
+            if (config == null) {
+                return null;
+            }
+            _split = new V1GenericFileSplitModel(config, getModelDescriptor());
+        }
+        return _split;
+    }
+
+    @Override
+    public V1GenericFileConsumerBindingModel setSplit(GenericFileSplitModel split) {
+        Configuration config = getModelConfiguration().getFirstChild(GenericFileSplitModel.SPLIT);
+        if (config != null) {
+            // set an existing config value
+            getModelConfiguration().removeChildren(GenericFileSplitModel.SPLIT);
+            getModelConfiguration().addChild(split.getModelConfiguration());
+        } else {
+            setChildModel(split);
+        }
+        _split = split;
+        return this;
+    }
+
 }
@@ -0,0 +1,185 @@
+/*
+ * Copyright 2013 Red Hat Inc. and/or its affiliates and other contributors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * http://www.apache.org/licenses/LICENSE-2.0
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,  
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.switchyard.component.camel.common.model.file.v1;
+
+import org.switchyard.component.camel.common.model.file.GenericFileSplitModel;
+import org.switchyard.component.camel.common.model.v1.V1BaseCamelModel;
+import org.switchyard.config.Configuration;
+import org.switchyard.config.model.Descriptor;
+
+/**
+ * Implementation of 1st version for file split configuration.
+ */
+public class V1GenericFileSplitModel extends V1BaseCamelModel implements GenericFileSplitModel {
+
+    /**
+     * The name of the 'mode' element.
+     */
+    public static final String MODE = "mode";
+
+    /**
+     * The name of the 'delimiter' element.
+     */
+    public static final String DELIMITER = "delimiter";
+
+    /**
+     * The name of the 'length' element.
+     */
+    public static final String LENGTH = "length";
+
+    /**
+     * The name of the 'element' element.
+     */
+    public static final String ELEMENT = "element";
+
+    /**
+     * The name of the 'parent' element.
+     */
+    public static final String PARENT = "parent";
+
+    /**
+     * The name of the 'chunkSize' element.
+     */
+    public static final String CHUNK_SIZE = "chunkSize";
+
+    /**
+     * The name of the 'parallelism' element.
+     */
+    public static final String PARALLELISM = "parallelism";
+
+    /**
+     * The name of the 'ordered' element.
+     */
+    public static final String ORDERED = "ordered";
+
+    /**
+     * The name of the 'threadPool' element.
+     */
+    public static final String THREAD_POOL = "threadPool";
+
+    /**
+     * Creates model bound to given namespace.
+     * 
+     * @param namespace Namespace to bound.
+     */
+    public V1GenericFileSplitModel(String namespace) {
+        super(namespace, SPLIT);
+
+        setModelChildrenOrder(MODE, DELIMITER, LENGTH, ELEMENT, PARENT, CHUNK_SIZE, PARALLELISM, ORDERED, THREAD_POOL);
+    }
+
+    /**
+     * Create a split model from the specified configuration and descriptor.
+     * 
+     * @param config The switchyard configuration instance.
+     * @param desc The switchyard descriptor instance.
+     */
+    public V1GenericFileSplitModel(Configuration config, Descriptor desc) {
+        super(config, desc);
+    }
+
+    @Override
+    public Mode getMode() {
+        Mode mode = getEnumerationConfig(MODE, Mode.class);
+        return mode != null ? mode : Mode.LINE;
+    }
+
+    @Override
+    public V1GenericFileSplitModel setMode(Mode mode) {
+        return setConfig(MODE, mode.name());
+    }
+
+    @Override
+    public String getDelimiter() {
+        return getConfig(DELIMITER);
+    }
+
+    @Override
+    public V1GenericFileSplitModel setDelimiter(String delimiter) {
+        return setConfig(DELIMITER, delimiter);
+    }
+
+    @Override
+    public Integer getLength() {
+        return getIntegerConfig(LENGTH);
+    }
+
+    @Override
+    public V1GenericFileSplitModel setLength(Integer length) {
+        return setConfig(LENGTH, length);
+    }
+
+    @Override
+    public String getElement() {
+        return getConfig(ELEMENT);
+    }
+
+    @Override
+    public V1GenericFileSplitModel setElement(String element) {
+        return setConfig(ELEMENT, element);
+    }
+
+    @Override
+    public String getParent() {
+        return getConfig(PARENT);
+    }
+
+    @Override
+    public V1GenericFileSplitModel setParent(String parent) {
+        return setConfig(PARENT, parent);
+    }
+
+    @Override
+    public Integer getChunkSize() {
+        Integer chunkSize = getIntegerConfig(CHUNK_SIZE);
+        return chunkSize != null ? chunkSize : 1;
+    }
+
+    @Override
+    public V1GenericFileSplitModel setChunkSize(Integer chunkSize) {
+        return setConfig(CHUNK_SIZE, chunkSize);
+    }
+
+    @Override
+    public Integer getParallelism() {
+        Integer parallelism = getIntegerConfig(PARALLELISM);
+        return parallelism != null ? parallelism : 1;
+    }
+
+    @Override
+    public V1GenericFileSplitModel setParallelism(Integer parallelism) {
+        return setConfig(PARALLELISM, parallelism);
+    }
+
+    @Override
+    public Boolean isOrdered() {
+        return getBooleanConfig(ORDERED);
+    }
+
+    @Override
+    public V1GenericFileSplitModel setOrdered(Boolean ordered) {
+        return setConfig(ORDERED, ordered);
+    }
+
+    @Override
+    public String getThreadPool() {
+        return getConfig(THREAD_POOL);
+    }
+
+    @Override
+    public V1GenericFileSplitModel setThreadPool(String threadPool) {
+        return setConfig(THREAD_POOL, threadPool);
+    }
+
+}
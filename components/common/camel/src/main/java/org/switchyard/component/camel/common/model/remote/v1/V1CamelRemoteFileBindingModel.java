@@ -18,6 +18,7 @@ import java.util.List;
 
 import org.switchyard.component.camel.common.CommonCamelMessages;
 import org.switchyard.component.camel.common.QueryString;
+import org.switchyard.component.camel.common.model.file.GenericFileSplitModel;
 import org.switchyard.component.camel.common.model.file.v1.V1GenericFileBindingModel;
 import org.switchyard.component.camel.common.model.remote.CamelRemoteFileBindingModel;
 import org.switchyard.component.camel.common.model.remote.CamelRemoteFileConsumerBindingModel;
@@ -333,7 +334,7 @@ public abstract class V1CamelRemoteFileBindingModel extends V1GenericFileBinding
         baseUri += getDirectory() != null ? "/" + getDirectory() : "";
 
         QueryString queryStr = new QueryString();
-        traverseConfiguration(children, queryStr, HOST, PORT, USERNAME, PASSWORD, DIRECTORY);
+        traverseConfiguration(children, queryStr, HOST, PORT, USERNAME, PASSWORD, DIRECTORY, GenericFileSplitModel.SPLIT);
 
         return URI.create(baseUri + queryStr.toString());
     }
@@ -0,0 +1,128 @@
+/*
+ * Copyright 2013 Red Hat Inc. and/or its affiliates and other contributors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * http://www.apache.org/licenses/LICENSE-2.0
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,  
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.switchyard.component.camel.common.model.v1;
+
+import org.switchyard.component.camel.common.model.consumer.CamelStreamConsumerModel;
+import org.switchyard.config.Configuration;
+import org.switchyard.config.model.Descriptor;
+
+/**
+ * Implementation of 1st version for stream consumer configuration.
+ */
+public class V1CamelStreamConsumerModel extends V1BaseCamelModel implements CamelStreamConsumerModel {
+
+    /**
+     * The name of the 'fetchSize' element.
+     */
+    public static final String FETCH_SIZE = "fetchSize";
+
+    /**
+     * The name of the 'chunkSize' element.
+     */
+    public static final String CHUNK_SIZE = "chunkSize";
+
+    /**
+     * The name of the 'parallelism' element.
+     */
+    public static final String PARALLELISM = "parallelism";
+
+    /**
+     * The name of the 'threadPool' element.
+     */
+    public static final String THREAD_POOL = "threadPool";
+
+    /**
+     * The name of the 'consumeBatchSize' element.
+     */
+    public static final String CONSUME_BATCH_SIZE = "consumeBatchSize";
+
+    private static final int DEFAULT_FETCH_SIZE = 100;
+    private static final int DEFAULT_CONSUME_BATCH_SIZE = 100;
+
+    /**
+     * Creates model bound to given namespace.
+     * 
+     * @param namespace Namespace to bound.
+     */
+    public V1CamelStreamConsumerModel(String namespace) {
+        super(namespace, STREAM);
+
+        setModelChildrenOrder(FETCH_SIZE, CHUNK_SIZE, PARALLELISM, THREAD_POOL, CONSUME_BATCH_SIZE);
+    }
+
+    /**
+     * Create a stream model from the specified configuration and descriptor.
+     * 
+     * @param config The switchyard configuration instance.
+     * @param desc The switchyard descriptor instance.
+     */
+    public V1CamelStreamConsumerModel(Configuration config, Descriptor desc) {
+        super(config, desc);
+    }
+
+    @Override
+    public Integer getFetchSize() {
+        Integer fetchSize = getIntegerConfig(FETCH_SIZE);
+        return fetchSize != null ? fetchSize : DEFAULT_FETCH_SIZE;
+    }
+
+    @Override
+    public V1CamelStreamConsumerModel setFetchSize(Integer fetchSize) {
+        return setConfig(FETCH_SIZE, fetchSize);
+    }
+
+    @Override
+    public Integer getChunkSize() {
+        Integer chunkSize = getIntegerConfig(CHUNK_SIZE);
+        return chunkSize != null ? chunkSize : 1;
+    }
+
+    @Override
+    public V1CamelStreamConsumerModel setChunkSize(Integer chunkSize) {
+        return setConfig(CHUNK_SIZE, chunkSize);
+    }
+
+    @Override
+    public Integer getParallelism() {
+        Integer parallelism = getIntegerConfig(PARALLELISM);
+        return parallelism != null ? parallelism : 1;
+    }
+
+    @Override
+    public V1CamelStreamConsumerModel setParallelism(Integer parallelism) {
+        return setConfig(PARALLELISM, parallelism);
+    }
+
+    @Override
+    public String getThreadPool() {
+        return getConfig(THREAD_POOL);
+    }
+
+    @Override
+    public V1CamelStreamConsumerModel setThreadPool(String threadPool) {
+        return setConfig(THREAD_POOL, threadPool);
+    }
+
+    @Override
+    public Integer getConsumeBatchSize() {
+        Integer consumeBatchSize = getIntegerConfig(CONSUME_BATCH_SIZE);
+        return consumeBatchSize != null ? consumeBatchSize : DEFAULT_CONSUME_BATCH_SIZE;
+    }
+
+    @Override
+    public V1CamelStreamConsumerModel setConsumeBatchSize(Integer consumeBatchSize) {
+        return setConfig(CONSUME_BATCH_SIZE, consumeBatchSize);
+    }
+
+}
@@ -0,0 +1,87 @@
+/*
+ * Copyright 2013 Red Hat Inc. and/or its affiliates and other contributors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * http://www.apache.org/licenses/LICENSE-2.0
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,  
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.switchyard.component.camel.common.handler;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+import java.io.StringReader;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+import org.junit.Test;
+
+/**
+ * Unit test for {@link RecordIterator}.
+ */
+public class RecordIteratorTest {
+
+    @Test
+    public void linesEndWithEitherLineSeparator() {
+        assertEquals(Arrays.asList("a", "b", "", "c"), records(RecordIterator.lines(new StringReader("a\nb\r\n\nc\n"), 1)));
+    }
+
+    @Test
+    public void lastRecordWithoutDelimiter() {
+        assertEquals(Arrays.asList("a;b", "c"), records(RecordIterator.delimited(new StringReader("a;b||c"), "||", 1)));
+    }
+
+    @Test
+    public void fixedLengthRecords() {
+        assertEquals(Arrays.asList("abc", "def", "g"), records(RecordIterator.fixedLength(new StringReader("abcdefg"), 3, 1)));
+    }
+
+    @Test
+    public void chunksJoinRecords() {
+        assertEquals(Arrays.asList("a\nb", "c"), records(RecordIterator.lines(new StringReader("a\r\nb\nc"), 2)));
+        assertEquals(Arrays.asList("1,2", "3"), records(RecordIterator.delimited(new StringReader("1,2,3,"), ",", 2)));
+        assertEquals(Arrays.asList("abcd", "ef"), records(RecordIterator.fixedLength(new StringReader("abcdef"), 2, 2)));
+    }
+
+    @Test
+    public void readerIsClosedAfterLastRecord() {
+        ClosingReader reader = new ClosingReader("a\nb");
+        RecordIterator records = RecordIterator.lines(reader, 1);
+        records.next();
+        assertFalse(reader._closed);
+        records.next();
+        assertFalse(records.hasNext());
+        assertTrue(reader._closed);
+    }
+
+    private List<String> records(RecordIterator iterator) {
+        List<String> records = new ArrayList<String>();
+        while (iterator.hasNext()) {
+            records.add(iterator.next());
+        }
+        return records;
+    }
+
+    private static class ClosingReader extends StringReader {
+        private boolean _closed;
+
+        ClosingReader(String text) {
+            super(text);
+        }
+
+        @Override
+        public void close() {
+            _closed = true;
+            super.close();
+        }
+    }
+
+}
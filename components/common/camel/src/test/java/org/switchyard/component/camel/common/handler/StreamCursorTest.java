@@ -0,0 +1,128 @@
+/*
+ * Copyright 2013 Red Hat Inc. and/or its affiliates and other contributors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * http://www.apache.org/licenses/LICENSE-2.0
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.switchyard.component.camel.common.handler;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+import static org.junit.Assert.fail;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Iterator;
+import java.util.List;
+
+import org.junit.Test;
+
+/**
+ * Unit test for {@link StreamCursor}.
+ */
+public class StreamCursorTest {
+
+    @Test
+    public void resultsAreReturnedInChunks() throws Exception {
+        ListCursor cursor = new ListCursor(2, 10, 1, 2, 3, 4, 5);
+        List<Object> messages = new ArrayList<Object>();
+        while (cursor.hasNext()) {
+            messages.add(cursor.next());
+        }
+        assertEquals(Arrays.<Object>asList(Arrays.asList(1, 2), Arrays.asList(3, 4), Arrays.asList(5)), messages);
+    }
+
+    @Test
+    public void marksAreAppliedInBatches() throws Exception {
+        ListCursor cursor = new ListCursor(1, 2, 1, 2, 3, 4, 5);
+        while (cursor.hasNext()) {
+            cursor.consumed(cursor.next());
+        }
+        assertEquals(Arrays.<Object>asList(Arrays.asList(1, 2), Arrays.asList(3, 4)), cursor._batches);
+        cursor.close();
+        assertEquals(Arrays.<Object>asList(Arrays.asList(1, 2), Arrays.asList(3, 4), Arrays.asList(5)), cursor._batches);
+        assertTrue(cursor._released);
+    }
+
+    @Test
+    public void chunksAreMarkedResultByResult() throws Exception {
+        ListCursor cursor = new ListCursor(2, 3, 1, 2, 3, 4, 5);
+        while (cursor.hasNext()) {
+            cursor.consumed(cursor.next());
+        }
+        cursor.close();
+        assertEquals(Arrays.<Object>asList(Arrays.asList(1, 2, 3, 4), Arrays.asList(5)), cursor._batches);
+    }
+
+    @Test
+    public void closeReleasesWhenMarkingFails() throws Exception {
+        ListCursor cursor = new ListCursor(1, 10, 1, 2);
+        cursor._failMarks = true;
+        cursor.consumed(cursor.next());
+        try {
+            cursor.close();
+            fail("Expected the marks to fail");
+        } catch (IllegalStateException e) {
+            assertEquals("marks failed", e.getMessage());
+        }
+        assertTrue(cursor._released);
+        assertFalse(cursor.hasNext());
+        // marks of messages completing after the poll ended are dropped
+        cursor.consumed(2);
+        cursor.close();
+        assertEquals(1, cursor._batches.size());
+    }
+
+    @Test
+    public void unconsumedResultsAreNotMarked() throws Exception {
+        ListCursor cursor = new ListCursor(1, 10, 1, 2, 3);
+        cursor.consumed(cursor.next());
+        cursor.next();
+        cursor.close();
+        assertEquals(Arrays.<Object>asList(Arrays.asList(1)), cursor._batches);
+    }
+
+    private static final class ListCursor extends StreamCursor {
+        private final Iterator<Integer> _results;
+        private final List<Object> _batches = new ArrayList<Object>();
+        private boolean _failMarks;
+        private boolean _released;
+
+        ListCursor(int chunkSize, int consumeBatchSize, Integer... results) {
+            super(chunkSize, consumeBatchSize);
+            _results = Arrays.asList(results).iterator();
+        }
+
+        @Override
+        protected boolean hasNextResult() {
+            return _results.hasNext();
+        }
+
+        @Override
+        protected Object nextResult() {
+            return _results.next();
+        }
+
+        @Override
+        protected void markConsumed(List<Object> results) {
+            _batches.add(results);
+            if (_failMarks) {
+                throw new IllegalStateException("marks failed");
+            }
+        }
+
+        @Override
+        protected void release() {
+            _released = true;
+        }
+    }
+
+}
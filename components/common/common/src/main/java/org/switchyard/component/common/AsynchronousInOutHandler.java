@@ -0,0 +1,148 @@
+/*
+ * Copyright 2013 Red Hat Inc. and/or its affiliates and other contributors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * http://www.apache.org/licenses/LICENSE-2.0
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.switchyard.component.common;
+
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.ScheduledThreadPoolExecutor;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+import org.switchyard.Exchange;
+import org.switchyard.ExchangeHandler;
+import org.switchyard.HandlerException;
+
+/**
+ * Asynchronous IN_OUT exchange handler.
+ * <p/>
+ * Hands the OUT exchange message to a {@link ReplyListener} on the thread
+ * which delivers the reply, so the gateway thread which sent the IN message
+ * does not have to wait for it.  Exactly one of the listener methods is
+ * called: either the reply arrives first, or the timeout expires first and
+ * a later reply is logged and dropped, as {@link SynchronousInOutHandler} does.
+ */
+public class AsynchronousInOutHandler implements ExchangeHandler {
+
+    private static final ScheduledThreadPoolExecutor TIMER = new ScheduledThreadPoolExecutor(1, new ThreadFactory() {
+        @Override
+        public Thread newThread(Runnable task) {
+            Thread thread = new Thread(task, "SwitchYard-async-reply-timeout");
+            thread.setDaemon(true);
+            return thread;
+        }
+    });
+
+    static {
+        // most replies arrive in time, so cancelled timeouts must not pile up in the queue
+        TIMER.setRemoveOnCancelPolicy(true);
+    }
+
+    private final ReplyListener _listener;
+    private final AtomicBoolean _done = new AtomicBoolean();
+    private volatile ScheduledFuture<?> _timeout;
+
+    /**
+     * Create a new handler.
+     * @param listener the listener receiving the reply
+     */
+    public AsynchronousInOutHandler(ReplyListener listener) {
+        _listener = listener;
+    }
+
+    /**
+     * Starts waiting for the OUT message.  May be called before the IN
+     * message is sent, so the timeout also covers a send which runs the
+     * service on the sending thread.
+     * @param timeout time to wait in milliseconds; zero or less waits indefinitely
+     */
+    public void waitForOut(long timeout) {
+        if (timeout > 0 && !_done.get()) {
+            _timeout = TIMER.schedule(new Runnable() {
+                @Override
+                public void run() {
+                    if (_done.compareAndSet(false, true)) {
+                        _listener.onTimeout();
+                    }
+                }
+            }, timeout, TimeUnit.MILLISECONDS);
+            if (_done.get()) {
+                // completed while the timeout was being scheduled
+                _timeout.cancel(false);
+            }
+        }
+    }
+
+    /**
+     * Indicates whether the reply arrived or the timeout expired.
+     * @return true if the listener was notified
+     */
+    public boolean isDone() {
+        return _done.get();
+    }
+
+    /**
+     * Stops waiting for the OUT message, for instance when sending the IN
+     * message failed.  The listener is not notified afterwards.
+     * @return true if the listener had not been notified yet
+     */
+    public boolean cancel() {
+        return complete();
+    }
+
+    @Override
+    public void handleMessage(Exchange exchange) throws HandlerException {
+        if (complete()) {
+            _listener.onReply(exchange);
+        } else {
+            CommonCommonLogger.ROOT_LOGGER.replyArrivedAfterTimeout(exchange.getConsumer().getName().toString());
+        }
+    }
+
+    @Override
+    public void handleFault(Exchange exchange) {
+        if (complete()) {
+            _listener.onReply(exchange);
+        } else {
+            CommonCommonLogger.ROOT_LOGGER.faultArrivedAfterTimeout(exchange.getConsumer().getName().toString());
+        }
+    }
+
+    private boolean complete() {
+        if (!_done.compareAndSet(false, true)) {
+            return false;
+        }
+        ScheduledFuture<?> timeout = _timeout;
+        if (timeout != null) {
+            timeout.cancel(false);
+        }
+        return true;
+    }
+
+    /**
+     * Receives the outcome of an IN_OUT exchange.
+     */
+    public interface ReplyListener {
+
+        /**
+         * Called with the exchange once the OUT or fault message arrived.
+         * @param exchange the exchange
+         */
+        void onReply(Exchange exchange);
+
+        /**
+         * Called when no reply arrived within the timeout.
+         */
+        void onTimeout();
+    }
+}
@@ -2,6 +2,7 @@ package org.switchyard.component.common;
 
 import org.jboss.logging.Logger;
 import org.jboss.logging.Logger.Level;
+import org.jboss.logging.annotations.Cause;
 import org.jboss.logging.annotations.LogMessage;
 import org.jboss.logging.annotations.Message;
 import org.jboss.logging.annotations.MessageLogger;
@@ -61,5 +62,13 @@ public interface CommonCommonLogger {
     @Message(id = 34404, value = "Fault message arrived after timeout has elapsed for service: %s")
     void faultArrivedAfterTimeout(String serviceName);
 
-}
+    /**
+     * unableToRegisterEngineMBean method definition.
+     * @param objectName objectName
+     * @param e e
+     */
+    @LogMessage(level = Level.WARN)
+    @Message(id = 34405, value = "Unable to register management bean %s for the standalone HTTP engine")
+    void unableToRegisterEngineMBean(String objectName, @Cause Throwable e);
 
+}
@@ -21,6 +21,7 @@ import org.jboss.logging.Logger;
 import org.switchyard.Exchange;
 import org.switchyard.ExchangeHandler;
 import org.switchyard.HandlerException;
+import org.switchyard.metadata.qos.Deadline;
 
 /**
  * Synchronous IN_OUT exchange handler.
@@ -52,6 +53,25 @@ public class SynchronousInOutHandler implements ExchangeHandler {
         return waitForOut(DEFAULT_TIMEOUT);
     }
 
+    /**
+     * Wait for an OUT Exchange message, no longer than the deadline of the
+     * exchange allows.
+     * <p/>
+     * Uses the {@link #DEFAULT_TIMEOUT} if the exchange has no {@link Exchange#DEADLINE}.
+     *
+     * @param exchange The IN Exchange.
+     * @return The OUT Exchange instance.
+     * @throws DeliveryException Timeout or interrupt while waiting on OUT message.
+     */
+    public Exchange waitForOut(Exchange exchange) throws DeliveryException {
+        long timeout = DEFAULT_TIMEOUT;
+        Long remaining = Deadline.getRemaining(exchange);
+        if (remaining != null) {
+            timeout = Math.max(1, Math.min(timeout, remaining));
+        }
+        return waitForOut(timeout);
+    }
+
     /**
      * Wait for an OUT Exchange message.
      *
@@ -16,6 +16,8 @@ package org.switchyard.component.common.composer;
 import java.util.ArrayList;
 import java.util.List;
 import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
 import java.util.regex.Pattern;
 import java.util.regex.PatternSyntaxException;
 
@@ -38,11 +40,18 @@ import org.switchyard.common.xml.XMLHelper;
  */
 public class BaseRegexContextMapper<D extends BindingData> extends BaseContextMapper<D> implements RegexContextMapper<D> {
 
+    /** Most header names whose match decision is remembered. */
+    static final int MAX_CACHED_NAMES = 512;
+
+    private static final Pattern RTGOV_RESUBMISSION_PATTERN = Pattern.compile(PropertyConstants.RTGOV_HEADER_RESUBMITTED_ID_PATTERN);
+
     private final List<Pattern> _includes = new ArrayList<Pattern>();
     private final List<Pattern> _excludes = new ArrayList<Pattern>();
     private final List<Pattern> _includeNamespaces = new ArrayList<Pattern>();
     private final List<Pattern> _excludeNamespaces = new ArrayList<Pattern>();
-
+    // match decisions per header name, replaced whenever the patterns change
+    private volatile ConcurrentMap<String, Boolean> _nameMatches = new ConcurrentHashMap<String, Boolean>();
+    private volatile boolean _matchAll = true;
 
     // RTGOV Resubmission ID / property propagation
     private boolean _prefixPropagationSet = false;
@@ -64,6 +73,15 @@ public class BaseRegexContextMapper<D extends BindingData> extends BaseContextMa
             patternList.clear();
             patternList.addAll(tmpList);
         }
+        if (patternList != _includeRegexes) {
+            resetMatches();
+        }
+    }
+
+    private void resetMatches() {
+        _matchAll = _includes.isEmpty() && _excludes.isEmpty() && _includeNamespaces.isEmpty() && _excludeNamespaces.isEmpty();
+        // decisions still being made against the old patterns go to the discarded map
+        _nameMatches = new ConcurrentHashMap<String, Boolean>();
     }
 
     /**
@@ -107,7 +125,21 @@ public class BaseRegexContextMapper<D extends BindingData> extends BaseContextMa
      */
     @Override
     public boolean matches(String name) {
-        return matches(XMLHelper.createQName(name));
+        if (_matchAll) {
+            return Strings.trimToNull(name) != null;
+        }
+        if (name == null) {
+            return false;
+        }
+        ConcurrentMap<String, Boolean> nameMatches = _nameMatches;
+        Boolean matches = nameMatches.get(name);
+        if (matches == null) {
+            matches = Boolean.valueOf(matches(XMLHelper.createQName(name)));
+            if (nameMatches.size() < MAX_CACHED_NAMES) {
+                nameMatches.putIfAbsent(name, matches);
+            }
+        }
+        return matches.booleanValue();
     }
 
     /**
@@ -115,6 +147,9 @@ public class BaseRegexContextMapper<D extends BindingData> extends BaseContextMa
      */
     @Override
     public boolean matches(QName qname) {
+        if (_matchAll) {
+            return qname != null;
+        }
         return qname != null && matches(qname.getLocalPart(), _includes, _excludes) && matches(qname.getNamespaceURI(), _includeNamespaces, _excludeNamespaces);
     }
 
@@ -181,7 +216,6 @@ public class BaseRegexContextMapper<D extends BindingData> extends BaseContextMa
             }
             _prefixPropagationSet = true;
         }
-        Pattern rtGovResubmissionPattern = Pattern.compile(PropertyConstants.RTGOV_HEADER_RESUBMITTED_ID_PATTERN);
-        _includeRegexes.add(rtGovResubmissionPattern);
+        _includeRegexes.add(RTGOV_RESUBMISSION_PATTERN);
     }
 }
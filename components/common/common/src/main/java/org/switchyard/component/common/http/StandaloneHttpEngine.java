@@ -0,0 +1,222 @@
+/*
+ * Copyright 2013 Red Hat Inc. and/or its affiliates and other contributors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * http://www.apache.org/licenses/LICENSE-2.0
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.switchyard.component.common.http;
+
+import java.lang.management.ManagementFactory;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.Executor;
+import java.util.concurrent.RejectedExecutionHandler;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+import javax.management.MBeanServer;
+import javax.management.ObjectName;
+
+import org.switchyard.component.common.CommonCommonLogger;
+
+/**
+ * Worker pool and connection settings shared by the standalone HTTP servers
+ * of the HTTP and RESTEasy gateways.  The servers accept connections and
+ * parse requests on their selector thread and hand every request to the
+ * bounded worker pool of the engine; once the pool and its queue are full,
+ * requests run on the selector thread, which stops it from accepting more
+ * connections until a worker frees up.
+ * <p>
+ * The engine is configured through system properties which are read when
+ * it is first used.  Keep-alive settings are passed on to the servers
+ * through the properties of the JDK server implementation unless those are
+ * set explicitly.
+ * </p>
+ */
+public final class StandaloneHttpEngine implements StandaloneHttpEngineMXBean {
+
+    /** System property holding the number of worker threads. */
+    public static final String WORKERS_PROPERTY = "org.switchyard.component.http.standalone.workers";
+
+    /** System property holding the number of requests which may wait for a worker. */
+    public static final String QUEUE_SIZE_PROPERTY = "org.switchyard.component.http.standalone.queueSize";
+
+    /** System property holding the accept backlog of the servers. */
+    public static final String BACKLOG_PROPERTY = "org.switchyard.component.http.standalone.backlog";
+
+    /** System property holding the seconds a keep-alive connection may stay idle. */
+    public static final String IDLE_INTERVAL_PROPERTY = "org.switchyard.component.http.standalone.idleInterval";
+
+    /** System property holding the maximum number of idle keep-alive connections. */
+    public static final String MAX_IDLE_CONNECTIONS_PROPERTY = "org.switchyard.component.http.standalone.maxIdleConnections";
+
+    /** Default number of requests which may wait for a worker. */
+    public static final int DEFAULT_QUEUE_SIZE = 1000;
+
+    /** Default accept backlog. */
+    public static final int DEFAULT_BACKLOG = 128;
+
+    /** Name under which the engine is registered with the platform MBean server. */
+    public static final String OBJECT_NAME = "org.switchyard.component:type=StandaloneHttpEngine";
+
+    private static final String SERVER_IDLE_INTERVAL = "sun.net.httpserver.idleInterval";
+    private static final String SERVER_MAX_IDLE_CONNECTIONS = "sun.net.httpserver.maxIdleConnections";
+
+    private static StandaloneHttpEngine _engine;
+
+    private final WorkerPool _workers;
+    private final int _queueCapacity;
+    private final int _backlog;
+    private final AtomicLong _rejected = new AtomicLong();
+
+    /**
+     * Create a new engine.
+     * @param workers number of worker threads
+     * @param queueSize number of requests which may wait for a worker
+     * @param backlog accept backlog
+     */
+    public StandaloneHttpEngine(int workers, int queueSize, int backlog) {
+        _queueCapacity = Math.max(1, queueSize);
+        _backlog = backlog;
+        _workers = new WorkerPool(Math.max(1, workers), _queueCapacity, new RejectedExecutionHandler() {
+            @Override
+            public void rejectedExecution(Runnable task, ThreadPoolExecutor executor) {
+                _rejected.incrementAndGet();
+                if (!executor.isShutdown()) {
+                    task.run();
+                }
+            }
+        });
+    }
+
+    /**
+     * Returns the engine shared by all standalone HTTP servers in this VM,
+     * creating it if necessary.
+     * @return the engine
+     */
+    public static synchronized StandaloneHttpEngine getEngine() {
+        if (_engine == null) {
+            configureKeepAlive();
+            int workers = Integer.getInteger(WORKERS_PROPERTY, Math.max(4, Runtime.getRuntime().availableProcessors() * 2));
+            _engine = new StandaloneHttpEngine(workers,
+                    Integer.getInteger(QUEUE_SIZE_PROPERTY, DEFAULT_QUEUE_SIZE),
+                    Integer.getInteger(BACKLOG_PROPERTY, DEFAULT_BACKLOG));
+            _engine.register();
+        }
+        return _engine;
+    }
+
+    /**
+     * Returns the executor the servers hand requests to.
+     * @return executor
+     */
+    public Executor getExecutor() {
+        return _workers;
+    }
+
+    /**
+     * Stops the worker threads once the requests in progress are done.
+     */
+    public void shutdown() {
+        _workers.shutdown();
+    }
+
+    @Override
+    public int getQueueDepth() {
+        return _workers.getQueue().size();
+    }
+
+    @Override
+    public int getQueueCapacity() {
+        return _queueCapacity;
+    }
+
+    @Override
+    public int getActiveRequests() {
+        return _workers._active.get();
+    }
+
+    @Override
+    public int getWorkers() {
+        return _workers.getMaximumPoolSize();
+    }
+
+    @Override
+    public long getCompletedRequests() {
+        return _workers.getCompletedTaskCount();
+    }
+
+    @Override
+    public long getRejectedRequests() {
+        return _rejected.get();
+    }
+
+    @Override
+    public int getBacklog() {
+        return _backlog;
+    }
+
+    private void register() {
+        try {
+            MBeanServer server = ManagementFactory.getPlatformMBeanServer();
+            ObjectName name = new ObjectName(OBJECT_NAME);
+            if (!server.isRegistered(name)) {
+                server.registerMBean(this, name);
+            }
+        } catch (Exception e) {
+            CommonCommonLogger.ROOT_LOGGER.unableToRegisterEngineMBean(OBJECT_NAME, e);
+        }
+    }
+
+    private static void configureKeepAlive() {
+        copyProperty(IDLE_INTERVAL_PROPERTY, SERVER_IDLE_INTERVAL);
+        copyProperty(MAX_IDLE_CONNECTIONS_PROPERTY, SERVER_MAX_IDLE_CONNECTIONS);
+    }
+
+    private static void copyProperty(String from, String to) {
+        String value = System.getProperty(from);
+        if (value != null && System.getProperty(to) == null) {
+            System.setProperty(to, value);
+        }
+    }
+
+    private static final class WorkerPool extends ThreadPoolExecutor {
+        private final AtomicInteger _active = new AtomicInteger();
+
+        private WorkerPool(int workers, int queueSize, RejectedExecutionHandler rejectionHandler) {
+            super(workers, workers, 60, TimeUnit.SECONDS, new ArrayBlockingQueue<Runnable>(queueSize),
+                    new WorkerThreadFactory(), rejectionHandler);
+            allowCoreThreadTimeOut(true);
+        }
+
+        @Override
+        protected void beforeExecute(Thread thread, Runnable task) {
+            _active.incrementAndGet();
+        }
+
+        @Override
+        protected void afterExecute(Runnable task, Throwable thrown) {
+            _active.decrementAndGet();
+        }
+    }
+
+    private static final class WorkerThreadFactory implements ThreadFactory {
+        private final AtomicInteger _count = new AtomicInteger();
+
+        @Override
+        public Thread newThread(Runnable task) {
+            Thread thread = new Thread(task, "SwitchYard-http-worker-" + _count.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        }
+    }
+}
@@ -0,0 +1,63 @@
+/*
+ * Copyright 2013 Red Hat Inc. and/or its affiliates and other contributors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * http://www.apache.org/licenses/LICENSE-2.0
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.switchyard.component.common.http;
+
+/**
+ * Management interface of the {@link StandaloneHttpEngine}.
+ */
+public interface StandaloneHttpEngineMXBean {
+
+    /**
+     * Number of requests waiting for a worker thread.
+     * @return queue depth
+     */
+    int getQueueDepth();
+
+    /**
+     * Maximum number of requests which may wait for a worker thread.
+     * @return queue capacity
+     */
+    int getQueueCapacity();
+
+    /**
+     * Number of requests being handled by worker threads.
+     * @return active requests
+     */
+    int getActiveRequests();
+
+    /**
+     * Number of worker threads.
+     * @return worker threads
+     */
+    int getWorkers();
+
+    /**
+     * Number of requests handled since the engine started.
+     * @return completed requests
+     */
+    long getCompletedRequests();
+
+    /**
+     * Number of requests which found the queue full and were handled on the
+     * accepting thread instead.
+     * @return rejected requests
+     */
+    long getRejectedRequests();
+
+    /**
+     * Accept backlog of the servers using the engine.
+     * @return backlog
+     */
+    int getBacklog();
+}
@@ -0,0 +1,136 @@
+/*
+ * Copyright 2013 Red Hat Inc. and/or its affiliates and other contributors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * http://www.apache.org/licenses/LICENSE-2.0
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.switchyard.component.common;
+
+import java.lang.reflect.Field;
+import java.lang.reflect.InvocationHandler;
+import java.lang.reflect.Method;
+import java.lang.reflect.Proxy;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ScheduledThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import javax.xml.namespace.QName;
+
+import org.junit.Assert;
+import org.junit.Before;
+import org.junit.Test;
+import org.switchyard.Exchange;
+import org.switchyard.ServiceReference;
+
+public class AsynchronousInOutHandlerTest {
+
+    private CountingListener _listener;
+    private AsynchronousInOutHandler _handler;
+
+    @Before
+    public void setUp() {
+        _listener = new CountingListener();
+        _handler = new AsynchronousInOutHandler(_listener);
+    }
+
+    @Test
+    public void replyBeforeTimeout() throws Exception {
+        _handler.waitForOut(5000);
+        Exchange exchange = newExchange();
+        _handler.handleMessage(exchange);
+        Assert.assertTrue(_handler.isDone());
+        Assert.assertSame(exchange, _listener._exchange);
+        Assert.assertEquals(1, _listener._replies.get());
+        Assert.assertEquals(0, _listener._timeouts.get());
+    }
+
+    @Test
+    public void replyBeforeWaiting() throws Exception {
+        _handler.handleFault(newExchange());
+        _handler.waitForOut(10);
+        Thread.sleep(100);
+        Assert.assertEquals(1, _listener._replies.get());
+        Assert.assertEquals(0, _listener._timeouts.get());
+    }
+
+    @Test
+    public void lateReplyIsDropped() throws Exception {
+        _handler.waitForOut(10);
+        Assert.assertTrue(_listener._timedOut.await(5, TimeUnit.SECONDS));
+        _handler.handleMessage(newExchange());
+        _handler.handleFault(newExchange());
+        Assert.assertEquals(0, _listener._replies.get());
+        Assert.assertEquals(1, _listener._timeouts.get());
+    }
+
+    @Test
+    public void cancelStopsNotifications() throws Exception {
+        _handler.waitForOut(10);
+        Assert.assertTrue(_handler.cancel());
+        Thread.sleep(100);
+        _handler.handleMessage(newExchange());
+        Assert.assertFalse(_handler.cancel());
+        Assert.assertEquals(0, _listener._replies.get());
+        Assert.assertEquals(0, _listener._timeouts.get());
+    }
+
+    @Test
+    public void answeredTimeoutsLeaveTheTimerQueue() throws Exception {
+        Field field = AsynchronousInOutHandler.class.getDeclaredField("TIMER");
+        field.setAccessible(true);
+        ScheduledThreadPoolExecutor timer = (ScheduledThreadPoolExecutor) field.get(null);
+        int queued = timer.getQueue().size();
+        for (int i = 0; i < 1000; i++) {
+            AsynchronousInOutHandler handler = new AsynchronousInOutHandler(new CountingListener());
+            handler.waitForOut(60000);
+            handler.handleMessage(newExchange());
+        }
+        Assert.assertEquals(queued, timer.getQueue().size());
+    }
+
+    private static Exchange newExchange() {
+        final ServiceReference consumer = proxy(ServiceReference.class, new InvocationHandler() {
+            @Override
+            public Object invoke(Object proxy, Method method, Object[] args) {
+                return "getName".equals(method.getName()) ? new QName("urn:test", "Consumer") : null;
+            }
+        });
+        return proxy(Exchange.class, new InvocationHandler() {
+            @Override
+            public Object invoke(Object proxy, Method method, Object[] args) {
+                return "getConsumer".equals(method.getName()) ? consumer : null;
+            }
+        });
+    }
+
+    private static <T> T proxy(Class<T> type, InvocationHandler handler) {
+        return type.cast(Proxy.newProxyInstance(type.getClassLoader(), new Class<?>[] {type}, handler));
+    }
+
+    private static class CountingListener implements AsynchronousInOutHandler.ReplyListener {
+        private final AtomicInteger _replies = new AtomicInteger();
+        private final AtomicInteger _timeouts = new AtomicInteger();
+        private final CountDownLatch _timedOut = new CountDownLatch(1);
+        private volatile Exchange _exchange;
+
+        @Override
+        public void onReply(Exchange exchange) {
+            _exchange = exchange;
+            _replies.incrementAndGet();
+        }
+
+        @Override
+        public void onTimeout() {
+            _timeouts.incrementAndGet();
+            _timedOut.countDown();
+        }
+    }
+}
@@ -135,4 +135,33 @@ public class RegexContextMapperTests {
         assertFalse(_regexContextMapper.matches(XMLHelper.createQName("urn:foo:2.0", "keith")));
     }
 
+    @Test
+    public void testNameWithoutPatterns() throws Exception {
+        assertTrue(_regexContextMapper.matches("{urn:foo:1.0}foo"));
+        assertFalse(_regexContextMapper.matches((String)null));
+        assertFalse(_regexContextMapper.matches(" "));
+    }
+
+    @Test
+    public void testNameMatchesFollowPatternChanges() throws Exception {
+        _regexContextMapper.setIncludes("foo.*");
+        assertTrue(_regexContextMapper.matches("foobar"));
+        assertTrue(_regexContextMapper.matches("foobar"));
+        assertFalse(_regexContextMapper.matches("barfoo"));
+        _regexContextMapper.setExcludes(".*bar");
+        assertFalse(_regexContextMapper.matches("foobar"));
+        _regexContextMapper.setIncludes(null);
+        _regexContextMapper.setExcludes(null);
+        assertTrue(_regexContextMapper.matches("barfoo"));
+    }
+
+    @Test
+    public void testNameMatchesBeyondCache() throws Exception {
+        _regexContextMapper.setExcludes("odd.*");
+        for (int i = 0; i < BaseRegexContextMapper.MAX_CACHED_NAMES * 2; i++) {
+            assertTrue(_regexContextMapper.matches("even" + i));
+            assertFalse(_regexContextMapper.matches("odd" + i));
+        }
+    }
+
 }
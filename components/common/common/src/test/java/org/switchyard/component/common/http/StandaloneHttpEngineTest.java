@@ -0,0 +1,93 @@
+/*
+ * Copyright 2013 Red Hat Inc. and/or its affiliates and other contributors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * http://www.apache.org/licenses/LICENSE-2.0
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.switchyard.component.common.http;
+
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import org.junit.After;
+import org.junit.Assert;
+import org.junit.Before;
+import org.junit.Test;
+
+public class StandaloneHttpEngineTest {
+
+    private StandaloneHttpEngine _engine;
+    private CountDownLatch _release;
+    private CountDownLatch _started;
+
+    @Before
+    public void setUp() {
+        _engine = new StandaloneHttpEngine(2, 2, 50);
+        _release = new CountDownLatch(1);
+        _started = new CountDownLatch(2);
+    }
+
+    @After
+    public void tearDown() {
+        _release.countDown();
+        _engine.shutdown();
+    }
+
+    @Test
+    public void gaugesTrackBusyWorkersAndQueue() throws Exception {
+        for (int i = 0; i < 4; i++) {
+            _engine.getExecutor().execute(new BlockingRequest());
+        }
+        Assert.assertTrue(_started.await(5, TimeUnit.SECONDS));
+        Assert.assertEquals(2, _engine.getActiveRequests());
+        Assert.assertEquals(2, _engine.getQueueDepth());
+        Assert.assertEquals(50, _engine.getBacklog());
+
+        _release.countDown();
+        long deadline = System.currentTimeMillis() + 5000;
+        while (_engine.getCompletedRequests() < 4 && System.currentTimeMillis() < deadline) {
+            Thread.sleep(10);
+        }
+        Assert.assertEquals(4, _engine.getCompletedRequests());
+        Assert.assertEquals(0, _engine.getQueueDepth());
+        Assert.assertEquals(0, _engine.getActiveRequests());
+    }
+
+    @Test
+    public void fullQueueRunsOnCallingThread() throws Exception {
+        for (int i = 0; i < 4; i++) {
+            _engine.getExecutor().execute(new BlockingRequest());
+        }
+        Assert.assertTrue(_started.await(5, TimeUnit.SECONDS));
+
+        final Thread caller = Thread.currentThread();
+        final Thread[] ranOn = new Thread[1];
+        _engine.getExecutor().execute(new Runnable() {
+            @Override
+            public void run() {
+                ranOn[0] = Thread.currentThread();
+            }
+        });
+        Assert.assertSame(caller, ranOn[0]);
+        Assert.assertEquals(1, _engine.getRejectedRequests());
+    }
+
+    private class BlockingRequest implements Runnable {
+        @Override
+        public void run() {
+            _started.countDown();
+            try {
+                _release.await(10, TimeUnit.SECONDS);
+            } catch (InterruptedException ie) {
+                Thread.currentThread().interrupt();
+            }
+        }
+    }
+}
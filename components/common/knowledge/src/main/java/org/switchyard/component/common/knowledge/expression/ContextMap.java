@@ -22,6 +22,7 @@ import java.util.Set;
 
 import org.switchyard.Context;
 import org.switchyard.Property;
+import org.switchyard.PropertyVisitor;
 import org.switchyard.Scope;
 
 /**
@@ -143,6 +144,21 @@ public class ContextMap implements Context, Map<String, Object> {
         return _context.getProperties(label);
     }
 
+    @Override
+    public void visitProperties(PropertyVisitor visitor) {
+        _context.visitProperties(visitor);
+    }
+
+    @Override
+    public void visitProperties(Scope scope, PropertyVisitor visitor) {
+        _context.visitProperties(scope, visitor);
+    }
+
+    @Override
+    public void visitProperties(String label, PropertyVisitor visitor) {
+        _context.visitProperties(label, visitor);
+    }
+
     @Override
     public void removeProperties(String label) {
         _context.removeProperties(label);
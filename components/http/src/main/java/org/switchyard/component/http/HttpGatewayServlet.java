@@ -21,7 +21,9 @@ import java.util.Iterator;
 import java.util.List;
 import java.util.Map;
 import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicBoolean;
 
+import javax.servlet.AsyncContext;
 import javax.servlet.ServletException;
 import javax.servlet.http.HttpServlet;
 import javax.servlet.http.HttpServletRequest;
@@ -150,41 +152,29 @@ public class HttpGatewayServlet extends HttpServlet {
                 HttpLogger.ROOT_LOGGER.unexpectedExceptionWhileReadingRequest(e);
             }
             ClassLoader origCl = null;
+            AsyncResponse asyncResponse = null;
             try {
                 if (_classLoader != null) {
                     origCl = Classes.setTCCL(_classLoader);
                     
                 }
 
-                HttpResponseBindingData httpResponse = _handler.invoke(httpRequest);
-                if (httpResponse != null) {
-                    Iterator<Map.Entry<String, List<String>>> entries = httpResponse.getHeaders().entrySet().iterator();
-                    while (entries.hasNext()) {
-                        Map.Entry<String, List<String>> entry = entries.next();
-                        String name = entry.getKey();
-                        List<String> values = entry.getValue();
-                        for (String value : values) {
-                            response.addHeader(name, value);
-                        }
-                    }
-                    if (httpResponse.getBodyBytes() != null) {
-                        response.setStatus(httpResponse.getStatus());
-                        httpResponse.writeBodyToStream(response.getOutputStream());
-                    } else {
-                        if (httpResponse.getStatus() != null) {
-                            response.setStatus(httpResponse.getStatus());
-                        } else {
-                            // Consider it as a One-Way MEP
-                            response.setStatus(HttpServletResponse.SC_ACCEPTED);
-                            response.setContentLength(0);
-                        }
-                    }
+                if (_handler.isAsync() && request.isAsyncSupported()) {
+                    // release the container thread, the reply completes the request
+                    AsyncContext asyncContext = request.startAsync();
+                    asyncContext.setTimeout(0);
+                    asyncResponse = new AsyncResponse(asyncContext, response);
+                    _handler.invokeAsync(httpRequest, asyncResponse);
                 } else {
-                    response.setStatus(HttpServletResponse.SC_INTERNAL_SERVER_ERROR);
+                    writeResponse(_handler.invoke(httpRequest), response);
                 }
             } catch (Exception e) {
-                response.setStatus(HttpServletResponse.SC_INTERNAL_SERVER_ERROR);
                 HttpLogger.ROOT_LOGGER.unexpectedExceptionWhileWritingResponse(e);
+                if (asyncResponse != null) {
+                    asyncResponse.onResponse(null);
+                } else {
+                    response.setStatus(HttpServletResponse.SC_INTERNAL_SERVER_ERROR);
+                }
             } finally {
                 if (origCl != null) {
                     Classes.setTCCL(origCl);
@@ -192,6 +182,39 @@ public class HttpGatewayServlet extends HttpServlet {
             }
     }
 
+    private void writeResponse(HttpResponseBindingData httpResponse, HttpServletResponse response) {
+        try {
+            if (httpResponse != null) {
+                Iterator<Map.Entry<String, List<String>>> entries = httpResponse.getHeaders().entrySet().iterator();
+                while (entries.hasNext()) {
+                    Map.Entry<String, List<String>> entry = entries.next();
+                    String name = entry.getKey();
+                    List<String> values = entry.getValue();
+                    for (String value : values) {
+                        response.addHeader(name, value);
+                    }
+                }
+                if (httpResponse.getBodyBytes() != null) {
+                    response.setStatus(httpResponse.getStatus());
+                    httpResponse.writeBodyToStream(response.getOutputStream());
+                } else {
+                    if (httpResponse.getStatus() != null) {
+                        response.setStatus(httpResponse.getStatus());
+                    } else {
+                        // Consider it as a One-Way MEP
+                        response.setStatus(HttpServletResponse.SC_ACCEPTED);
+                        response.setContentLength(0);
+                    }
+                }
+            } else {
+                response.setStatus(HttpServletResponse.SC_INTERNAL_SERVER_ERROR);
+            }
+        } catch (Exception e) {
+            response.setStatus(HttpServletResponse.SC_INTERNAL_SERVER_ERROR);
+            HttpLogger.ROOT_LOGGER.unexpectedExceptionWhileWritingResponse(e);
+        }
+    }
+
    /**
      * Method for get request information from a servlet request.
      *
@@ -252,4 +275,29 @@ public class HttpGatewayServlet extends HttpServlet {
         }
         return requestInfo;
     }
+
+    /**
+     * Writes the response of an asynchronous request and completes it, once.
+     */
+    private final class AsyncResponse implements HttpResponseCallback {
+        private final AsyncContext _asyncContext;
+        private final HttpServletResponse _response;
+        private final AtomicBoolean _done = new AtomicBoolean();
+
+        private AsyncResponse(AsyncContext asyncContext, HttpServletResponse response) {
+            _asyncContext = asyncContext;
+            _response = response;
+        }
+
+        @Override
+        public void onResponse(HttpResponseBindingData httpResponse) {
+            if (_done.compareAndSet(false, true)) {
+                try {
+                    writeResponse(httpResponse, _response);
+                } finally {
+                    _asyncContext.complete();
+                }
+            }
+        }
+    }
 }
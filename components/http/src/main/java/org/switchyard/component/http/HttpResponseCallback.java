@@ -0,0 +1,30 @@
+/*
+ * Copyright 2013 Red Hat Inc. and/or its affiliates and other contributors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * http://www.apache.org/licenses/LICENSE-2.0
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.switchyard.component.http;
+
+import org.switchyard.component.http.composer.HttpResponseBindingData;
+
+/**
+ * Receives the HTTP response of an asynchronous service invocation.
+ *
+ * @see InboundHandler#invokeAsync(org.switchyard.component.http.composer.HttpRequestBindingData, HttpResponseCallback)
+ */
+public interface HttpResponseCallback {
+
+    /**
+     * Called once with the response of the invocation.
+     * @param response the HTTP response message, or null if the invocation failed
+     */
+    void onResponse(HttpResponseBindingData response);
+}
@@ -15,6 +15,10 @@
 package org.switchyard.component.http;
 
 import java.util.Set;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.RejectedExecutionException;
+
+import javax.servlet.http.HttpServletResponse;
 
 import org.switchyard.Exchange;
 import org.switchyard.ExchangePattern;
@@ -24,6 +28,9 @@ import org.switchyard.Message;
 import org.switchyard.Scope;
 import org.switchyard.ServiceDomain;
 import org.switchyard.ServiceReference;
+import org.switchyard.common.type.Classes;
+import org.switchyard.component.common.AsynchronousInOutHandler;
+import org.switchyard.component.common.AsynchronousInOutHandler.ReplyListener;
 import org.switchyard.component.common.Endpoint;
 import org.switchyard.component.common.SynchronousInOutHandler;
 import org.switchyard.component.common.composer.MessageComposer;
@@ -38,6 +45,8 @@ import org.switchyard.deploy.BaseServiceHandler;
 import org.switchyard.label.BehaviorLabel;
 import org.switchyard.metadata.ServiceOperation;
 import org.switchyard.runtime.event.ExchangeCompletionEvent;
+import org.switchyard.runtime.executor.ExecutorRegistry;
+import org.switchyard.runtime.executor.ThreadPoolConfig;
 import org.switchyard.security.context.SecurityContextManager;
 import org.switchyard.selector.OperationSelector;
 
@@ -48,6 +57,12 @@ import org.switchyard.selector.OperationSelector;
  */
 public class InboundHandler extends BaseServiceHandler {
 
+    /**
+     * Prefix of the domain thread pools which send the requests of
+     * asynchronous bindings, followed by the binding name.
+     */
+    public static final String THREAD_POOL_PREFIX = "org.switchyard.http.async.";
+
     private final HttpBindingModel _config;
     private final String _gatewayName;
     private SecurityContextManager _securityContextManager;
@@ -56,6 +71,8 @@ public class InboundHandler extends BaseServiceHandler {
     private MessageComposer<HttpBindingData> _messageComposer;
     private final OperationSelector<HttpBindingData> _operationSelector;
     private Endpoint _endpoint;
+    private ExecutorService _sendExecutor;
+    private String _sendPool;
 
     /**
      * Constructor.
@@ -89,6 +106,9 @@ public class InboundHandler extends BaseServiceHandler {
             _endpoint = EndpointPublisherFactory.getPublisher().publish(_domain, contextPath, this);
             // Create and configure the HTTP message composer
             _messageComposer = HttpComposition.getMessageComposer(_config);
+            if (isAsync()) {
+                _sendExecutor = getSendExecutor();
+            }
         } catch (Exception e) {
             throw HttpMessages.MESSAGES.unableToPublish(e);
         }
@@ -106,24 +126,14 @@ public class InboundHandler extends BaseServiceHandler {
         try {
             SynchronousInOutHandler inOutHandler = new SynchronousInOutHandler();
             Exchange exchange = _serviceRef.createExchange(getOperationName(input), inOutHandler);
-
-            // identify ourselves
-            exchange.getContext().setProperty(ExchangeCompletionEvent.GATEWAY_NAME, _gatewayName, Scope.EXCHANGE)
-                    .addLabels(BehaviorLabel.TRANSIENT.label());
-
-            Message message = _messageComposer.compose(input, exchange);
-            _securityContextManager.addCredentials(exchange, input.extractCredentials());
+            Message message = compose(input, exchange);
             if (exchange.getContract().getConsumerOperation().getExchangePattern() == ExchangePattern.IN_ONLY) {
                 exchange.send(message);
-                if (exchange.getState().equals(ExchangeState.FAULT)) {
-                    response = (HttpResponseBindingData) _messageComposer.decompose(exchange, new HttpResponseBindingData());
-                } else {
-                    response = new HttpResponseBindingData();
-                }
+                response = getInOnlyResponse(exchange);
             } else {
                 exchange.send(message);
                 exchange = inOutHandler.waitForOut();
-                response = (HttpResponseBindingData) _messageComposer.decompose(exchange, new HttpResponseBindingData());
+                response = decompose(exchange);
             }
         } catch (Exception e) {
             HttpLogger.ROOT_LOGGER.unexpectedExceptionInvokingSwitchyardServcie(e);
@@ -131,12 +141,145 @@ public class InboundHandler extends BaseServiceHandler {
         return response;
     }
 
+    /**
+     * Indicates whether requests should be handled asynchronously, which is
+     * the case when the binding specifies an asyncTimeout.
+     *
+     * @return true if {@link #invokeAsync(HttpRequestBindingData, HttpResponseCallback)} should be used
+     */
+    public boolean isAsync() {
+        return _config.getAsyncTimeout() != null;
+    }
+
+    /**
+     * Invokes the SwitchYard service without waiting for the reply.  The
+     * request is composed on the calling thread and sent from the domain
+     * thread pool {@value #THREAD_POOL_PREFIX}&lt;binding name&gt;, so the
+     * calling thread returns at once.  The pool is created with the default
+     * settings unless the domain configures it, and removed when the binding
+     * stops.  A request the pool cannot take gets a 503
+     * (Service Unavailable) response.
+     * <br><br>
+     * The callback is called exactly once, either on the thread delivering
+     * the reply or with a 504 (Gateway Timeout) response when no reply
+     * arrived within the asyncTimeout of the binding, counted from the call.
+     *
+     * @param input the HTTP request message
+     * @param callback the callback receiving the HTTP response message
+     */
+    public void invokeAsync(final HttpRequestBindingData input, final HttpResponseCallback callback) {
+        final AsynchronousInOutHandler inOutHandler = new AsynchronousInOutHandler(new ReplyListener() {
+            @Override
+            public void onReply(Exchange exchange) {
+                HttpResponseBindingData response = null;
+                try {
+                    response = decompose(exchange);
+                } catch (Exception e) {
+                    HttpLogger.ROOT_LOGGER.unexpectedExceptionInvokingSwitchyardServcie(e);
+                }
+                callback.onResponse(response);
+            }
+
+            @Override
+            public void onTimeout() {
+                callback.onResponse(getStatusResponse(HttpServletResponse.SC_GATEWAY_TIMEOUT));
+            }
+        });
+        try {
+            final Exchange exchange = _serviceRef.createExchange(getOperationName(input), inOutHandler);
+            final Message message = compose(input, exchange);
+            final ClassLoader loader = Thread.currentThread().getContextClassLoader();
+            // the timeout also covers the wait for a pool thread and a provider running on it
+            inOutHandler.waitForOut(_config.getAsyncTimeout());
+            _sendExecutor.execute(new Runnable() {
+                @Override
+                public void run() {
+                    send(exchange, message, inOutHandler, callback, loader);
+                }
+            });
+        } catch (RejectedExecutionException ree) {
+            HttpLogger.ROOT_LOGGER.unexpectedExceptionInvokingSwitchyardServcie(ree);
+            if (inOutHandler.cancel()) {
+                callback.onResponse(getStatusResponse(HttpServletResponse.SC_SERVICE_UNAVAILABLE));
+            }
+        } catch (Exception e) {
+            HttpLogger.ROOT_LOGGER.unexpectedExceptionInvokingSwitchyardServcie(e);
+            if (inOutHandler.cancel()) {
+                callback.onResponse(null);
+            }
+        }
+    }
+
+    private void send(Exchange exchange, Message message, AsynchronousInOutHandler inOutHandler,
+            HttpResponseCallback callback, ClassLoader loader) {
+        ClassLoader origCl = Classes.setTCCL(loader);
+        try {
+            exchange.send(message);
+            if (exchange.getContract().getConsumerOperation().getExchangePattern() == ExchangePattern.IN_ONLY) {
+                // a fault raised while sending has already been handed to the callback
+                if (inOutHandler.cancel()) {
+                    callback.onResponse(getInOnlyResponse(exchange));
+                }
+            }
+        } catch (Exception e) {
+            HttpLogger.ROOT_LOGGER.unexpectedExceptionInvokingSwitchyardServcie(e);
+            if (inOutHandler.cancel()) {
+                callback.onResponse(null);
+            }
+        } finally {
+            Classes.setTCCL(origCl);
+        }
+    }
+
+    private ExecutorService getSendExecutor() {
+        ExecutorRegistry registry = ExecutorRegistry.getRegistry(_domain);
+        String name = THREAD_POOL_PREFIX + _gatewayName;
+        if (!registry.hasThreadPool(name)) {
+            registry.register(new ThreadPoolConfig(name));
+            _sendPool = name;
+        }
+        return registry.getExecutor(name);
+    }
+
+    private static HttpResponseBindingData getStatusResponse(int status) {
+        HttpResponseBindingData response = new HttpResponseBindingData();
+        response.setStatus(status);
+        return response;
+    }
+
+    private Message compose(HttpRequestBindingData input, Exchange exchange) throws Exception {
+        // identify ourselves
+        exchange.getContext().setProperty(ExchangeCompletionEvent.GATEWAY_NAME, _gatewayName, Scope.EXCHANGE)
+                .addLabels(BehaviorLabel.TRANSIENT.label());
+
+        Message message = _messageComposer.compose(input, exchange);
+        _securityContextManager.addCredentials(exchange, input.extractCredentials());
+        return message;
+    }
+
+    private HttpResponseBindingData getInOnlyResponse(Exchange exchange) throws Exception {
+        if (exchange.getState().equals(ExchangeState.FAULT)) {
+            return decompose(exchange);
+        }
+        return new HttpResponseBindingData();
+    }
+
+    private HttpResponseBindingData decompose(Exchange exchange) throws Exception {
+        return (HttpResponseBindingData) _messageComposer.decompose(exchange, new HttpResponseBindingData());
+    }
+
     /**
      * Stop lifecycle.
      */
     @Override
     protected void doStop() {
         _endpoint.stop();
+        if (_sendPool != null) {
+            // a pool configured by the domain lives as long as the domain
+            ExecutorRegistry.getRegistry(_domain).remove(_sendPool);
+            _sendPool = null;
+        }
+        _sendExecutor = null;
     }
 
     @Override
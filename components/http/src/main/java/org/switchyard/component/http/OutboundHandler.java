@@ -73,6 +73,7 @@ import org.switchyard.component.http.composer.HttpResponseBindingData;
 import org.switchyard.component.http.config.model.HttpBindingModel;
 import org.switchyard.deploy.BaseServiceHandler;
 import org.switchyard.label.BehaviorLabel;
+import org.switchyard.metadata.qos.Deadline;
 import org.switchyard.runtime.event.ExchangeCompletionEvent;
 
 /**
@@ -321,10 +322,12 @@ public class OutboundHandler extends BaseServiceHandler {
         }
 
         HttpClient httpclient = new DefaultHttpClient();
-        if (_timeout != null) {
+        // never wait past the deadline of the exchange
+        Integer timeout = Deadline.capTimeout(exchange, _timeout);
+        if (timeout != null) {
             HttpParams httpParams = httpclient.getParams();
-            HttpConnectionParams.setConnectionTimeout(httpParams, _timeout);
-            HttpConnectionParams.setSoTimeout(httpParams, _timeout);
+            HttpConnectionParams.setConnectionTimeout(httpParams, timeout);
+            HttpConnectionParams.setSoTimeout(httpParams, timeout);
         }
         try {
             String address = composeAddress(exchange.getMessage().getContext());
@@ -25,6 +25,7 @@ import java.io.StringWriter;
 import java.io.UnsupportedEncodingException;
 import java.nio.charset.Charset;
 import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
@@ -39,6 +40,8 @@ import org.switchyard.component.http.ContentType;
  */
 public abstract class HttpBindingData implements BindingData {
 
+    private static final int BUFFER_SIZE = 8192;
+
     private Map<String, List<String>> _headers;
     private byte[] _body;
     private ContentType _contentType;
@@ -121,6 +124,14 @@ public abstract class HttpBindingData implements BindingData {
         return body;
     }
 
+    /**
+     * Get the length of the HTTP body.
+     * @return the number of bytes in the body, or -1 if there is no body
+     */
+    public int getBodyLength() {
+        return _body != null ? _body.length : -1;
+    }
+
     /**
      * Get the HTTP body as byte array.
      * @return the body
@@ -139,14 +150,35 @@ public abstract class HttpBindingData implements BindingData {
      * @throws IOException if content could not be read
      */
     public void setBodyFromStream(InputStream is) throws IOException {
+        setBodyFromStream(is, -1);
+    }
+
+    /**
+     * Set the HTTP body using a stream whose length is known up front, which
+     * lets the body be read straight into a buffer of the right size.
+     * @param is the body as InputStream
+     * @param length the number of bytes in the stream, or -1 if unknown
+     * @throws IOException if content could not be read
+     */
+    public void setBodyFromStream(InputStream is, long length) throws IOException {
         if (is != null) {
-            ByteArrayOutputStream tmp = new ByteArrayOutputStream();
-            byte[] buff = new byte[512];
-            int buffSize = 0;
-            while ((buffSize = is.read(buff)) >= 0) {
-                tmp.write(buff, 0, buffSize);
+            if (length >= 0 && length <= Integer.MAX_VALUE) {
+                byte[] body = new byte[(int) length];
+                int read = 0;
+                int count = 0;
+                while (read < body.length && (count = is.read(body, read, body.length - read)) >= 0) {
+                    read += count;
+                }
+                _body = read == body.length ? body : Arrays.copyOf(body, read);
+            } else {
+                ByteArrayOutputStream tmp = new ByteArrayOutputStream();
+                byte[] buff = new byte[BUFFER_SIZE];
+                int buffSize = 0;
+                while ((buffSize = is.read(buff)) >= 0) {
+                    tmp.write(buff, 0, buffSize);
+                }
+                _body = tmp.toByteArray();
             }
-            _body = tmp.toByteArray();
             is.close();
         } else {
             _body = null;
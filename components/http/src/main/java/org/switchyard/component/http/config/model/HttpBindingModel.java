@@ -121,6 +121,25 @@ public interface HttpBindingModel extends BindingModel {
      */
     public HttpBindingModel setTimeout(Integer timeout);
 
+    /**
+     * Gets the time in milliseconds an inbound request may wait for the
+     * service reply.  When set, the request thread is released while the
+     * exchange is in progress and the response is written once the reply
+     * arrives.
+     * 
+     * @return the asynchronous time-out value
+     */
+    public Long getAsyncTimeout();
+
+    /**
+     * Sets the time in milliseconds an inbound request may wait for the
+     * service reply.
+     * 
+     * @param asyncTimeout the asynchronous time-out value
+     * @return this HttpBindingModel
+     */
+    public HttpBindingModel setAsyncTimeout(Long asyncTimeout);
+
     /**
      * Sets the global configuration.
      * 
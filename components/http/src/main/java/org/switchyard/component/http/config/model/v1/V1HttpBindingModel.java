@@ -36,6 +36,7 @@ public class V1HttpBindingModel extends V1BindingModel implements HttpBindingMod
     private static final String[] MODEL_CHILDREN_ORDER = new String[]{
         HttpName.address.name(),
         HttpName.contextPath.name(),
+        HttpName.asyncTimeout.name(),
         HttpName.method.name(),
         HttpName.contentType.name(),
         HttpName.timeout.name(),
@@ -53,6 +54,7 @@ public class V1HttpBindingModel extends V1BindingModel implements HttpBindingMod
     private HttpNameValueModel _method;
     private HttpNameValueModel _contentType;
     private HttpNameValueModel _timeout;
+    private HttpNameValueModel _asyncTimeout;
     private BasicAuthModel _basicAuth;
     private NtlmAuthModel _ntlmAuth;
     private ProxyModel _proxyConfig;
@@ -185,6 +187,24 @@ public class V1HttpBindingModel extends V1BindingModel implements HttpBindingMod
         return this;
     }
 
+    /**
+     * {@inheritDoc}
+     */
+    public Long getAsyncTimeout() {
+        if (_asyncTimeout == null) {
+            _asyncTimeout = getNameValue(HttpName.asyncTimeout);
+        }
+        return _asyncTimeout != null ? Long.valueOf(_asyncTimeout.getValue()) : null;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    public HttpBindingModel setAsyncTimeout(Long asyncTimeout) {
+        _asyncTimeout = setNameValue(_asyncTimeout, HttpName.asyncTimeout, String.valueOf(asyncTimeout));
+        return this;
+    }
+
     /**
      * {@inheritDoc}
      */
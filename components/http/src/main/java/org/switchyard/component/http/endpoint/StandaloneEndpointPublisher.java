@@ -33,8 +33,10 @@ import org.jboss.com.sun.net.httpserver.HttpHandler;
 import org.jboss.com.sun.net.httpserver.HttpServer;
 import org.switchyard.ServiceDomain;
 import org.switchyard.component.common.Endpoint;
+import org.switchyard.component.common.http.StandaloneHttpEngine;
 import org.switchyard.component.http.ContentType;
 import org.switchyard.component.http.HttpLogger;
+import org.switchyard.component.http.HttpResponseCallback;
 import org.switchyard.component.http.InboundHandler;
 import org.switchyard.component.http.composer.HttpRequestBindingData;
 import org.switchyard.component.http.composer.HttpRequestInfo;
@@ -47,6 +49,11 @@ import org.switchyard.security.jboss.credential.extractor.HttpExchangeCredential
  *     By default it will be published in port {@value #DEFAULT_PORT}. This can be configured making use of
  *     <i>{@value #DEFAULT_PORT_PROPERTY}</i> system property.
  * </p>
+ * <p>
+ *     Requests are handled by the worker pool of the shared {@link StandaloneHttpEngine}, which also
+ *     supplies the accept backlog and keep-alive settings.  Bindings with an asyncTimeout
+ *     return the worker to the pool while the exchange is in progress and the reply writes the response.
+ * </p>
  *
  * @author Magesh Kumar B <mageshbk@jboss.com> (C) 2012 Red Hat Inc.
  */
@@ -66,13 +73,19 @@ public class StandaloneEndpointPublisher implements EndpointPublisher {
 
     private static final String CONTENT_TYPE = "Content-Type";
 
+    private static final String CONTENT_LENGTH = "Content-Length";
+
+    // response length which tells the server there is no response body
+    private static final long NO_BODY = -1;
+
     // The global standalone HttpServer
     private static HttpServer _httpServer;
 
     static {
         try {
-            _httpServer = HttpServer.create(new InetSocketAddress(getPort()), 10);
-            _httpServer.setExecutor(null); // creates a default executor
+            StandaloneHttpEngine engine = StandaloneHttpEngine.getEngine();
+            _httpServer = HttpServer.create(new InetSocketAddress(getPort()), engine.getBacklog());
+            _httpServer.setExecutor(engine.getExecutor());
             _httpServer.start();
         } catch (IOException ioe) {
             HttpLogger.ROOT_LOGGER.unableToLaunchStandaloneHttpServer(ioe);
@@ -101,44 +114,80 @@ public class StandaloneEndpointPublisher implements EndpointPublisher {
             _handler = handler;
         }
 
-        public void handle(HttpExchange exchange) {
+        public void handle(final HttpExchange exchange) {
+            boolean async = false;
             try {
                 HttpRequestBindingData httpRequest = new HttpRequestBindingData();
-                byte[] responseBody = null;
                 try {
                     String contentTypeStr = exchange.getRequestHeaders().getFirst(CONTENT_TYPE);
                     ContentType contentType = new ContentType(contentTypeStr);
                     httpRequest.setContentType(contentType);
-                    httpRequest.setBodyFromStream(exchange.getRequestBody());
+                    httpRequest.setBodyFromStream(exchange.getRequestBody(), getContentLength(exchange));
                     httpRequest.setHeaders(exchange.getRequestHeaders());
                     httpRequest.setRequestInfo(getRequestInfo(exchange, contentType));
                 } catch (IOException e) {
                     HttpLogger.ROOT_LOGGER.unexpectedExceptionWhileReadingRequest(e);
                 }
-                HttpResponseBindingData httpResponse = _handler.invoke(httpRequest);
-                try {
-                    if (httpResponse != null) {
-                        exchange.getResponseHeaders().putAll(httpResponse.getHeaders());
-                        if (httpResponse.getBodyBytes() != null) {
-                            exchange.sendResponseHeaders(httpResponse.getStatus(), httpResponse.getBodyBytes().available());
-                            httpResponse.writeBodyToStream(exchange.getResponseBody());
-                        } else {
-                            if (httpResponse.getStatus() != null) {
-                                exchange.sendResponseHeaders(httpResponse.getStatus(), 0);
-                            } else {
-                                exchange.sendResponseHeaders(HttpServletResponse.SC_ACCEPTED, 0);
+                if (_handler.isAsync()) {
+                    // release the worker thread, the reply writes the response
+                    async = true;
+                    _handler.invokeAsync(httpRequest, new HttpResponseCallback() {
+                        @Override
+                        public void onResponse(HttpResponseBindingData httpResponse) {
+                            try {
+                                writeResponse(httpResponse, exchange);
+                            } finally {
+                                exchange.close();
                             }
                         }
-                    } else {
-                        exchange.sendResponseHeaders(HttpServletResponse.SC_INTERNAL_SERVER_ERROR, 0);
-                    }
-                } catch (IOException e) {
-                    HttpLogger.ROOT_LOGGER.unexpectedExceptionWhileWritingResponse(e);
+                    });
+                } else {
+                    writeResponse(_handler.invoke(httpRequest), exchange);
                 }
             } catch (Exception e) {
                 HttpLogger.ROOT_LOGGER.unexpectedExceptionWhileHandlingHttpRequest(e);
+            } finally {
+                if (!async) {
+                    exchange.close();
+                }
+            }
+        }
+    }
+
+    private static void writeResponse(HttpResponseBindingData httpResponse, HttpExchange exchange) {
+        try {
+            if (httpResponse != null) {
+                exchange.getResponseHeaders().putAll(httpResponse.getHeaders());
+                if (httpResponse.getBodyLength() >= 0) {
+                    // a known length keeps the connection open for the next request
+                    int length = httpResponse.getBodyLength();
+                    exchange.sendResponseHeaders(httpResponse.getStatus(), length > 0 ? length : NO_BODY);
+                    httpResponse.writeBodyToStream(exchange.getResponseBody());
+                } else {
+                    if (httpResponse.getStatus() != null) {
+                        exchange.sendResponseHeaders(httpResponse.getStatus(), NO_BODY);
+                    } else {
+                        exchange.sendResponseHeaders(HttpServletResponse.SC_ACCEPTED, NO_BODY);
+                    }
+                }
+            } else {
+                exchange.sendResponseHeaders(HttpServletResponse.SC_INTERNAL_SERVER_ERROR, NO_BODY);
+            }
+        } catch (IOException e) {
+            HttpLogger.ROOT_LOGGER.unexpectedExceptionWhileWritingResponse(e);
+        }
+    }
+
+    private static long getContentLength(HttpExchange exchange) {
+        String length = exchange.getRequestHeaders().getFirst(CONTENT_LENGTH);
+        if (length != null) {
+            try {
+                return Long.parseLong(length.trim());
+            } catch (NumberFormatException nfe) {
+                LOGGER.debug(nfe);
             }
         }
+        return -1;
     }
 
     /**
@@ -176,7 +225,7 @@ public class StandaloneEndpointPublisher implements EndpointPublisher {
         if (request.getHttpContext().getAuthenticator() instanceof BasicAuthenticator) {
             requestInfo.setRemoteUser(request.getPrincipal().getUsername());
         }
-        requestInfo.setContentLength(request.getRequestBody().available());
+        requestInfo.setContentLength((int) getContentLength(request));
         // requestInfo.setRequestSessionId(request.getRequestedSessionId());
         if (requestURI != null) {
             requestInfo.setRequestURI(requestURI.toString());
@@ -32,6 +32,7 @@ public class HttpConfigModelTest {
     private static final String HTTP_BINDING2 = "http-binding2.xml";
     private static final String HTTP_BINDING_AUTH = "http-binding-auth.xml";
     private static final String HTTP_BINDING_PROXY = "http-binding-proxy.xml";
+    private static final String HTTP_BINDING_ASYNC = "http-binding-async.xml";
 
     @Test
     public void testReadConfigBinding() throws Exception {
@@ -68,4 +69,15 @@ public class HttpConfigModelTest {
         Assert.assertEquals("Beal", proxyConfig.getUser());
         Assert.assertEquals("conjecture", proxyConfig.getPassword());
     }
+
+    @Test
+    public void asyncConfigBinding() throws Exception {
+        ModelPuller<HttpBindingModel> puller = new ModelPuller<HttpBindingModel>();
+        HttpBindingModel model = puller.pull(HTTP_BINDING_ASYNC, getClass());
+        Assert.assertTrue(model.isModelValid());
+        Assert.assertEquals("/", model.getContextPath());
+        Assert.assertEquals(Long.valueOf(30000), model.getAsyncTimeout());
+        model = puller.pull(HTTP_BINDING, getClass());
+        Assert.assertNull(model.getAsyncTimeout());
+    }
 }
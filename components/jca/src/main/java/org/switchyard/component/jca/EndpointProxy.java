@@ -15,7 +15,7 @@ package org.switchyard.component.jca;
 
 import java.lang.reflect.Method;
 import java.lang.reflect.InvocationHandler;
-import java.util.concurrent.Executors;
+import java.util.concurrent.RejectedExecutionException;
 import java.util.concurrent.ScheduledExecutorService;
 import java.util.concurrent.ScheduledFuture;
 import java.util.concurrent.TimeUnit;
@@ -52,6 +52,7 @@ public class EndpointProxy implements InvocationHandler, MessageEndpoint {
     private final TransactionManager _transactionManager;
     private final XAResource _xaResource;
     private final ClassLoader _appClassLoader;
+    private final InflowController _inflowController;
 
     private Transaction _suspendedTx;
     private Transaction _startedTx;
@@ -59,6 +60,7 @@ public class EndpointProxy implements InvocationHandler, MessageEndpoint {
     private Thread _inUseThread = null;
     private boolean _beforeDeliveryInvoked;
     private ClassLoader _origClassLoader;
+    private boolean _deliverySlot;
     
     private boolean _useBatchCommit;
     private int _batchSize;
@@ -66,7 +68,7 @@ public class EndpointProxy implements InvocationHandler, MessageEndpoint {
     private static ThreadLocal<BatchTransactionHelper> _batchHelper = new ThreadLocal<BatchTransactionHelper>();
         
     private ReentrantLock _deliveryThreadLock = new ReentrantLock();
-    private ScheduledExecutorService _scheduler = Executors.newScheduledThreadPool(1);
+    private final ScheduledExecutorService _scheduler;
 
     /**
      * Constructor.
@@ -81,9 +83,11 @@ public class EndpointProxy implements InvocationHandler, MessageEndpoint {
         _transactionManager = metadata.getTransactionManager();
         _xaResource = xaResource;
         _appClassLoader = metadata.getApplicationClassLoader();
+        _inflowController = metadata.getInflowController();
         _useBatchCommit = metadata.useBatchCommit();
         _batchSize = metadata.getBatchSize();
         _batchTimeout = metadata.getBatchTimeout();
+        _scheduler = metadata.getBatchScheduler();
     }
     
     @Override
@@ -172,12 +176,15 @@ public class EndpointProxy implements InvocationHandler, MessageEndpoint {
     }
 
     private void before(Method method) throws Exception {
+        // wait for a delivery slot before starting the transaction, so a paused delivery holds no resources
+        acquireDeliverySlot();
         switchToApplicationClassLoader();
 
         try {
             startTransaction(method);
         } catch (Exception e) {
             resetContextClassLoader();
+            releaseDeliverySlot();
            throw e;
         }
     }
@@ -199,6 +206,7 @@ public class EndpointProxy implements InvocationHandler, MessageEndpoint {
             endTransaction(commit);
         } finally {
             resetContextClassLoader();
+            releaseDeliverySlot();
             releaseThreadLock();
         }
     }
@@ -215,6 +223,20 @@ public class EndpointProxy implements InvocationHandler, MessageEndpoint {
         }
     }
     
+    private void acquireDeliverySlot() throws ResourceException {
+        if (_inflowController != null && !_deliverySlot) {
+            _inflowController.acquire();
+            _deliverySlot = true;
+        }
+    }
+
+    private void releaseDeliverySlot() {
+        if (_deliverySlot) {
+            _deliverySlot = false;
+            _inflowController.release();
+        }
+    }
+
     private void acquireThreadLock() {
         if (_deliveryThreadLock.isHeldByCurrentThread()) {
             return;
@@ -329,6 +351,9 @@ public class EndpointProxy implements InvocationHandler, MessageEndpoint {
                         } else {
                             _transactionManager.commit();
                             helper.cancelScheduledReaperThread();
+                            if (_inflowController != null) {
+                                _inflowController.batchCommitted(helper.getCounter() + 1, false);
+                            }
                         }
                         _startedTx = null;
                         return;
@@ -385,9 +410,12 @@ public class EndpointProxy implements InvocationHandler, MessageEndpoint {
     }
         
     private class BatchTransactionHelper extends Thread {
+        private static final long RETRY_DELAY = 100L;
         private Transaction _transaction;
         private int _counter = 0;
-        private ScheduledFuture<?> _future;
+        private ScheduledExecutorService _service;
+        private volatile ScheduledFuture<?> _future;
+        private volatile boolean _cancelled;
         
         public BatchTransactionHelper(Transaction tx) {
             _transaction = tx;
@@ -415,22 +443,39 @@ public class EndpointProxy implements InvocationHandler, MessageEndpoint {
         }
         
         public void scheduleReaperThread(ScheduledExecutorService service, long delay, TimeUnit unit) {
+            _service = service;
             _future = service.schedule(this, delay, unit);
         }
         
         public void cancelScheduledReaperThread() {
-            if (_future != null) {
-                _future.cancel(true);
+            _cancelled = true;
+            ScheduledFuture<?> future = _future;
+            if (future != null) {
+                // the scheduler is shared by the whole domain, never interrupt its thread
+                future.cancel(false);
             }
         }
         
          public void run() {
-             _deliveryThreadLock.lock();
+             // don't hold the shared scheduler thread while a delivery is in progress, come back later instead
+             if (!_deliveryThreadLock.tryLock()) {
+                 if (!_cancelled && !_service.isShutdown()) {
+                     try {
+                         _future = _service.schedule(this, RETRY_DELAY, TimeUnit.MILLISECONDS);
+                     } catch (RejectedExecutionException ree) {
+                         JCALogger.ROOT_LOGGER.failedToCommitExpiringTransaction(ree);
+                     }
+                 }
+                 return;
+             }
              try {
-                 if (_transaction.getStatus() == Status.STATUS_ACTIVE) {
+                 if (!_cancelled && _transaction.getStatus() == Status.STATUS_ACTIVE) {
                      _transactionManager.resume(_transaction);
                      _transactionManager.commit();
                      JCALogger.ROOT_LOGGER.transactionHasBeenCommittedByReaperThread(_counter);
+                     if (_inflowController != null) {
+                         _inflowController.batchCommitted(_counter, true);
+                     }
                      _counter = 0;
                  }
              } catch (Exception e) {
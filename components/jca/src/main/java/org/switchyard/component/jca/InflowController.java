@@ -0,0 +1,209 @@
+/*
+ * Copyright 2013 Red Hat Inc. and/or its affiliates and other contributors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * http://www.apache.org/licenses/LICENSE-2.0
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,  
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.switchyard.component.jca;
+
+import java.lang.management.ManagementFactory;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+import javax.management.MBeanServer;
+import javax.management.ObjectName;
+import javax.resource.ResourceException;
+import javax.xml.namespace.QName;
+
+/**
+ * Delivery concurrency and statistics of a JCA service binding, shared by
+ * all the message endpoints the resource adapter creates for it.
+ * <p/>
+ * When a maximum number of deliveries is set, a delivery which finds every
+ * slot taken waits for one to become free, holding back the resource
+ * adapter thread which brought the message in.  Inflow thus pauses while the
+ * services downstream are saturated, and a delivery still waiting after the
+ * pause timeout is rejected, leaving the message to the redelivery of the
+ * resource adapter.
+ */
+public class InflowController implements InflowControllerMXBean {
+
+    /** Domain of the object names the controllers are registered under. */
+    public static final String OBJECT_NAME_DOMAIN = "org.switchyard.component.jca";
+
+    private final QName _serviceName;
+    private final int _maxDeliveries;
+    private final long _pauseTimeout;
+    private final Semaphore _slots;
+    private final AtomicInteger _inFlight = new AtomicInteger();
+    private final AtomicInteger _waiting = new AtomicInteger();
+    private final AtomicLong _deliveries = new AtomicLong();
+    private final AtomicLong _paused = new AtomicLong();
+    private final AtomicLong _rejected = new AtomicLong();
+    private final AtomicLong _batches = new AtomicLong();
+    private final AtomicLong _timedOutBatches = new AtomicLong();
+    private final AtomicLong _batchedMessages = new AtomicLong();
+    private volatile int _lastBatchSize;
+    private ObjectName _objectName;
+
+    /**
+     * Constructor.
+     * @param serviceName the service the binding delivers to
+     * @param maxDeliveries maximum concurrent deliveries, 0 for no limit
+     * @param pauseTimeout how long a delivery waits for a free slot in milliseconds, 0 for no limit
+     */
+    public InflowController(QName serviceName, int maxDeliveries, long pauseTimeout) {
+        _serviceName = serviceName;
+        _maxDeliveries = Math.max(0, maxDeliveries);
+        _pauseTimeout = Math.max(0L, pauseTimeout);
+        _slots = _maxDeliveries > 0 ? new Semaphore(_maxDeliveries, true) : null;
+    }
+
+    /**
+     * Takes a delivery slot, waiting for one if they are all taken.
+     * @throws ResourceException if no slot became free within the pause timeout
+     */
+    public void acquire() throws ResourceException {
+        if (_slots != null && !_slots.tryAcquire()) {
+            _paused.incrementAndGet();
+            _waiting.incrementAndGet();
+            try {
+                if (_pauseTimeout == 0) {
+                    _slots.acquire();
+                } else if (!_slots.tryAcquire(_pauseTimeout, TimeUnit.MILLISECONDS)) {
+                    _rejected.incrementAndGet();
+                    throw JCAMessages.MESSAGES.deliveryRejectedAfterWaiting(_serviceName.toString(), _maxDeliveries, _pauseTimeout);
+                }
+            } catch (InterruptedException ie) {
+                Thread.currentThread().interrupt();
+                _rejected.incrementAndGet();
+                throw JCAMessages.MESSAGES.interruptedWhileWaitingForDeliverySlot(_serviceName.toString());
+            } finally {
+                _waiting.decrementAndGet();
+            }
+        }
+        _inFlight.incrementAndGet();
+        _deliveries.incrementAndGet();
+    }
+
+    /**
+     * Gives back a slot taken by {@link #acquire()}.
+     */
+    public void release() {
+        _inFlight.decrementAndGet();
+        if (_slots != null) {
+            _slots.release();
+        }
+    }
+
+    /**
+     * Records a committed batch.
+     * @param size number of messages in the batch
+     * @param timedOut true if the batch timeout rather than the batch size ended the batch
+     */
+    public void batchCommitted(int size, boolean timedOut) {
+        _batches.incrementAndGet();
+        _batchedMessages.addAndGet(size);
+        _lastBatchSize = size;
+        if (timedOut) {
+            _timedOutBatches.incrementAndGet();
+        }
+    }
+
+    /**
+     * Registers the controller with the platform MBean server.
+     */
+    public synchronized void register() {
+        String name = OBJECT_NAME_DOMAIN + ":type=Inflow,name=" + ObjectName.quote(_serviceName.toString());
+        try {
+            MBeanServer server = ManagementFactory.getPlatformMBeanServer();
+            ObjectName objectName = new ObjectName(name);
+            if (!server.isRegistered(objectName)) {
+                server.registerMBean(this, objectName);
+                _objectName = objectName;
+            }
+        } catch (Exception e) {
+            JCALogger.ROOT_LOGGER.unableToRegisterInflowMBean(name, e);
+        }
+    }
+
+    /**
+     * Removes the controller from the platform MBean server.
+     */
+    public synchronized void unregister() {
+        if (_objectName != null) {
+            try {
+                ManagementFactory.getPlatformMBeanServer().unregisterMBean(_objectName);
+            } catch (Exception e) {
+                // already gone
+            } finally {
+                _objectName = null;
+            }
+        }
+    }
+
+    @Override
+    public String getServiceName() {
+        return _serviceName.toString();
+    }
+
+    @Override
+    public int getMaxDeliveries() {
+        return _maxDeliveries;
+    }
+
+    @Override
+    public int getInFlightDeliveries() {
+        return _inFlight.get();
+    }
+
+    @Override
+    public int getWaitingDeliveries() {
+        return _waiting.get();
+    }
+
+    @Override
+    public long getDeliveryCount() {
+        return _deliveries.get();
+    }
+
+    @Override
+    public long getPausedCount() {
+        return _paused.get();
+    }
+
+    @Override
+    public long getRejectedCount() {
+        return _rejected.get();
+    }
+
+    @Override
+    public long getBatchCount() {
+        return _batches.get();
+    }
+
+    @Override
+    public long getTimedOutBatchCount() {
+        return _timedOutBatches.get();
+    }
+
+    @Override
+    public int getLastBatchSize() {
+        return _lastBatchSize;
+    }
+
+    @Override
+    public double getMeanBatchSize() {
+        long batches = _batches.get();
+        return batches == 0 ? 0d : (double)_batchedMessages.get() / batches;
+    }
+}
@@ -0,0 +1,86 @@
+/*
+ * Copyright 2013 Red Hat Inc. and/or its affiliates and other contributors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * http://www.apache.org/licenses/LICENSE-2.0
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,  
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.switchyard.component.jca;
+
+/**
+ * Management interface of the {@link InflowController} of a JCA service binding.
+ */
+public interface InflowControllerMXBean {
+
+    /**
+     * Name of the service the binding delivers to.
+     * @return service name
+     */
+    String getServiceName();
+
+    /**
+     * Maximum number of messages delivered at the same time.
+     * @return maximum deliveries, or 0 if deliveries are not limited
+     */
+    int getMaxDeliveries();
+
+    /**
+     * Number of messages being delivered.
+     * @return in-flight deliveries
+     */
+    int getInFlightDeliveries();
+
+    /**
+     * Number of deliveries waiting for a free slot.
+     * @return waiting deliveries
+     */
+    int getWaitingDeliveries();
+
+    /**
+     * Number of deliveries since the binding started.
+     * @return deliveries
+     */
+    long getDeliveryCount();
+
+    /**
+     * Number of deliveries which found every slot taken and had to wait.
+     * @return paused deliveries
+     */
+    long getPausedCount();
+
+    /**
+     * Number of deliveries rejected because no slot became free in time.
+     * @return rejected deliveries
+     */
+    long getRejectedCount();
+
+    /**
+     * Number of batches committed.
+     * @return committed batches
+     */
+    long getBatchCount();
+
+    /**
+     * Number of batches committed by the batch timeout rather than by reaching the batch size.
+     * @return timed out batches
+     */
+    long getTimedOutBatchCount();
+
+    /**
+     * Number of messages in the last committed batch.
+     * @return last batch size
+     */
+    int getLastBatchSize();
+
+    /**
+     * Mean number of messages in committed batches.
+     * @return mean batch size
+     */
+    double getMeanBatchSize();
+}
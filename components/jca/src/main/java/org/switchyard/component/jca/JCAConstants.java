@@ -67,6 +67,13 @@ public final class JCAConstants {
     public static final String BATCH_TIMEOUT = "batchTimeout";
     /** batch size. */
     public static final String BATCH_SIZE = "batchSize";
+
+    /** delivery concurrency. */
+    public static final String CONCURRENCY = "concurrency";
+    /** maximum concurrent deliveries. */
+    public static final String MAX_DELIVERIES = "maxDeliveries";
+    /** time a delivery waits for a free slot. */
+    public static final String PAUSE_TIMEOUT = "pauseTimeout";
     
     /** property. */
     public static final String PROPERTY = "property";
@@ -140,5 +140,13 @@ public interface JCALogger {
     @Message(id = 36813, value = "Invalid destination type '%s' - using '%s' instead")
     void invalidDestinationType(String type, String alternative);
 
-}
+    /**
+     * unableToRegisterInflowMBean method definition.
+     * @param name the object name
+     * @param e the e
+     */
+    @LogMessage(level = Level.WARN)
+    @Message(id = 36814, value = "Unable to register inflow management bean %s")
+    void unableToRegisterInflowMBean(String name, @Cause Exception e);
 
+}
@@ -1,6 +1,7 @@
 package org.switchyard.component.jca;
 
 import javax.naming.NamingException;
+import javax.resource.ResourceException;
 
 import org.jboss.logging.Cause;
 import org.jboss.logging.Messages;
@@ -305,5 +306,22 @@ public interface JCAMessages {
     @Message(id = 37246, value = "No outboundConnection was configured for the JCA Component")
     IllegalArgumentException noOutboundConnectionConfigured();
 
-}
+    /**
+     * deliveryRejectedAfterWaiting method definition.
+     * @param service the service name
+     * @param maxDeliveries the maximum concurrent deliveries
+     * @param timeout the pause timeout
+     * @return ResourceException
+     */
+    @Message(id = 37247, value = "Inflow to %s is saturated: no delivery slot out of %s became free within %s ms")
+    ResourceException deliveryRejectedAfterWaiting(String service, int maxDeliveries, long timeout);
 
+    /**
+     * interruptedWhileWaitingForDeliverySlot method definition.
+     * @param service the service name
+     * @return ResourceException
+     */
+    @Message(id = 37248, value = "Interrupted while waiting for a delivery slot for %s")
+    ResourceException interruptedWhileWaitingForDeliverySlot(String service);
+
+}
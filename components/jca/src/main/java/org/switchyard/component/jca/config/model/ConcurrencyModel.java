@@ -0,0 +1,49 @@
+/*
+ * Copyright 2013 Red Hat Inc. and/or its affiliates and other contributors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * http://www.apache.org/licenses/LICENSE-2.0
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,  
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.switchyard.component.jca.config.model;
+
+import org.switchyard.config.model.Model;
+
+/**
+ * binding.jca/inboundInteraction/concurrency model.
+ */
+public interface ConcurrencyModel extends Model {
+
+    /**
+     * get the maximum number of messages delivered at the same time.
+     * @return maximum concurrent deliveries
+     */
+    int getMaxDeliveries();
+
+    /**
+     * set the maximum number of messages delivered at the same time.
+     * @param maxDeliveries maximum concurrent deliveries
+     * @return {@link ConcurrencyModel} to support method chaining
+     */
+    ConcurrencyModel setMaxDeliveries(int maxDeliveries);
+
+    /**
+     * get how long a delivery waits for a free slot before it is rejected.
+     * @return pause timeout in milliseconds, 0 to wait without limit
+     */
+    long getPauseTimeout();
+
+    /**
+     * set how long a delivery waits for a free slot before it is rejected.
+     * @param timeout pause timeout in milliseconds, 0 to wait without limit
+     * @return {@link ConcurrencyModel} to support method chaining
+     */
+    ConcurrencyModel setPauseTimeout(long timeout);
+
+}
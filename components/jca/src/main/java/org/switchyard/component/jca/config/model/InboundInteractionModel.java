@@ -80,4 +80,17 @@ public interface InboundInteractionModel extends Model {
      * @return {@link InboundInteractionModel} to support method chaining
      */
     InboundInteractionModel setBatchCommit(final BatchCommitModel batchCommit);
+
+    /**
+     * get delivery concurrency.
+     * @return {@link ConcurrencyModel}
+     */
+    ConcurrencyModel getConcurrency();
+
+    /**
+     * set delivery concurrency.
+     * @param concurrency {@link ConcurrencyModel}
+     * @return {@link InboundInteractionModel} to support method chaining
+     */
+    InboundInteractionModel setConcurrency(final ConcurrencyModel concurrency);
 }
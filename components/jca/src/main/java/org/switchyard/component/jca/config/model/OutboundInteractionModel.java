@@ -81,4 +81,19 @@ public interface OutboundInteractionModel extends Model {
      * @return {@link OutboundInteractionModel} to support method chaining
      */
     OutboundInteractionModel setProcessor(ProcessorModel model);
+
+    /**
+     * get BatchCommit model.
+     * 
+     * @return {@link BatchCommitModel}
+     */
+    BatchCommitModel getBatchCommit();
+
+    /**
+     * set BatchCommit model.
+     * 
+     * @param model {@link BatchCommitModel} to set
+     * @return {@link OutboundInteractionModel} to support method chaining
+     */
+    OutboundInteractionModel setBatchCommit(BatchCommitModel model);
 }
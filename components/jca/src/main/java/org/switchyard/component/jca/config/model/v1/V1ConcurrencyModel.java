@@ -0,0 +1,67 @@
+/*
+ * Copyright 2013 Red Hat Inc. and/or its affiliates and other contributors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * http://www.apache.org/licenses/LICENSE-2.0
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,  
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.switchyard.component.jca.config.model.v1;
+
+import org.switchyard.component.jca.JCAConstants;
+import org.switchyard.component.jca.config.model.ConcurrencyModel;
+import org.switchyard.config.Configuration;
+import org.switchyard.config.model.BaseModel;
+import org.switchyard.config.model.Descriptor;
+
+/**
+ * V1 ConcurrencyModel.
+ */
+public class V1ConcurrencyModel extends BaseModel implements ConcurrencyModel {
+
+    /**
+     * Constructor.
+     * @param namespace namespace
+     */
+    public V1ConcurrencyModel(String namespace) {
+        super(namespace, JCAConstants.CONCURRENCY);
+    }
+
+    /**
+     * Constructor.
+     * @param config configuration
+     * @param desc description
+     */
+    public V1ConcurrencyModel(Configuration config, Descriptor desc) {
+        super(config, desc);
+    }
+
+    @Override
+    public int getMaxDeliveries() {
+        return Integer.parseInt(getModelAttribute(JCAConstants.MAX_DELIVERIES));
+    }
+
+    @Override
+    public ConcurrencyModel setMaxDeliveries(int maxDeliveries) {
+        setModelAttribute(JCAConstants.MAX_DELIVERIES, Integer.toString(maxDeliveries));
+        return this;
+    }
+
+    @Override
+    public long getPauseTimeout() {
+        String timeout = getModelAttribute(JCAConstants.PAUSE_TIMEOUT);
+        return timeout != null ? Long.parseLong(timeout) : 0L;
+    }
+
+    @Override
+    public ConcurrencyModel setPauseTimeout(long timeout) {
+        setModelAttribute(JCAConstants.PAUSE_TIMEOUT, Long.toString(timeout));
+        return this;
+    }
+
+}
@@ -15,6 +15,7 @@ package org.switchyard.component.jca.config.model.v1;
 
 import org.switchyard.component.jca.JCAConstants;
 import org.switchyard.component.jca.config.model.BatchCommitModel;
+import org.switchyard.component.jca.config.model.ConcurrencyModel;
 import org.switchyard.component.jca.config.model.EndpointModel;
 import org.switchyard.component.jca.config.model.InboundInteractionModel;
 import org.switchyard.component.jca.config.model.ListenerModel;
@@ -36,7 +37,8 @@ public class V1InboundInteractionModel extends BaseModel implements InboundInter
      */
     public V1InboundInteractionModel(String namespace) {
         super(namespace, JCAConstants.INBOUND_INTERACTION);
-        setModelChildrenOrder(JCAConstants.LISTENER, JCAConstants.ENDPOINT, JCAConstants.TRANSACTED, JCAConstants.BATCH_COMMIT);
+        setModelChildrenOrder(JCAConstants.LISTENER, JCAConstants.ENDPOINT, JCAConstants.TRANSACTED, JCAConstants.BATCH_COMMIT,
+                JCAConstants.CONCURRENCY);
     }
     
     /**
@@ -101,4 +103,15 @@ public class V1InboundInteractionModel extends BaseModel implements InboundInter
         return this;
     }
 
+    @Override
+    public ConcurrencyModel getConcurrency() {
+        return (ConcurrencyModel) getFirstChildModel(JCAConstants.CONCURRENCY);
+    }
+
+    @Override
+    public InboundInteractionModel setConcurrency(ConcurrencyModel concurrency) {
+        setChildModel(concurrency);
+        return this;
+    }
+
 }
@@ -96,6 +96,9 @@ public class V1JCAModelMarshaller extends BaseMarshaller {
         if (name.equals(JCAConstants.BATCH_COMMIT)) {
             return new V1BatchCommitModel(config, getDescriptor());
         }
+        if (name.equals(JCAConstants.CONCURRENCY)) {
+            return new V1ConcurrencyModel(config, getDescriptor());
+        }
         return null;
     }
 
@@ -14,6 +14,7 @@
 package org.switchyard.component.jca.config.model.v1;
 
 import org.switchyard.component.jca.JCAConstants;
+import org.switchyard.component.jca.config.model.BatchCommitModel;
 import org.switchyard.component.jca.config.model.ConnectionSpecModel;
 import org.switchyard.component.jca.config.model.InteractionSpecModel;
 import org.switchyard.component.jca.config.model.OperationModel;
@@ -40,7 +41,8 @@ public class V1OutboundInteractionModel extends BaseModel implements OutboundInt
         setModelChildrenOrder(JCAConstants.CONNECTION_SPEC,
                                 JCAConstants.INTERACTION_SPEC,
                                 JCAConstants.OPERATION,
-                                JCAConstants.PROCESSOR);
+                                JCAConstants.PROCESSOR,
+                                JCAConstants.BATCH_COMMIT);
     }
     
     /**
@@ -97,4 +99,14 @@ public class V1OutboundInteractionModel extends BaseModel implements OutboundInt
         return this;
     }
 
+    @Override
+    public BatchCommitModel getBatchCommit() {
+        return (BatchCommitModel) getFirstChildModel(JCAConstants.BATCH_COMMIT);
+    }
+
+    @Override
+    public OutboundInteractionModel setBatchCommit(BatchCommitModel model) {
+        setChildModel(model);
+        return this;
+    }
 }
@@ -54,6 +54,7 @@ public class InboundHandler extends BaseServiceHandler implements MessageEndpoin
     @Override
     protected void doStart() {
         _metadata.getMessageEndpoint().initialize();
+        _metadata.getInflowController().register();
         try {
             _metadata.getResourceAdapter().endpointActivation(this, _metadata.getActivationSpec());
         } catch (ResourceException e) {
@@ -65,6 +66,7 @@ public class InboundHandler extends BaseServiceHandler implements MessageEndpoin
     protected void doStop() {
         _metadata.getResourceAdapter().endpointDeactivation(this, _metadata.getActivationSpec());
         _metadata.getMessageEndpoint().uninitialize();
+        _metadata.getInflowController().unregister();
     }
 
     @Override
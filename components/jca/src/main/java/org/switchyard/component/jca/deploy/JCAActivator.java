@@ -15,6 +15,10 @@ package org.switchyard.component.jca.deploy;
 
 import java.util.List;
 import java.util.Properties;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.atomic.AtomicInteger;
 
 import javax.xml.namespace.QName;
 import javax.naming.InitialContext;
@@ -23,10 +27,12 @@ import javax.resource.spi.ActivationSpec;
 import javax.resource.spi.ResourceAdapter;
 import javax.transaction.TransactionManager;
 
+import org.switchyard.component.jca.InflowController;
 import org.switchyard.component.jca.JCAMessages;
 import org.switchyard.component.jca.JCAConstants;
 import org.switchyard.component.jca.config.model.ActivationSpecModel;
 import org.switchyard.component.jca.config.model.BatchCommitModel;
+import org.switchyard.component.jca.config.model.ConcurrencyModel;
 import org.switchyard.component.jca.config.model.ConnectionModel;
 import org.switchyard.component.jca.config.model.ConnectionSpecModel;
 import org.switchyard.component.jca.config.model.EndpointModel;
@@ -69,6 +75,8 @@ public class JCAActivator extends BaseActivator {
     
     private ResourceAdapterRepository _raRepository;
 
+    private ScheduledExecutorService _batchScheduler;
+
     /**
      * Sole constructor .
      */
@@ -227,6 +235,14 @@ public class JCAActivator extends BaseActivator {
             inflowMetaData.setUseBatchCommit(true);
             inflowMetaData.setBatchTimeout(batchCommit.getBatchTimeout());
             inflowMetaData.setBatchSize(batchCommit.getBatchSize());
+            inflowMetaData.setBatchScheduler(getBatchScheduler());
+        }
+
+        ConcurrencyModel concurrency = inboundInteractionModel.getConcurrency();
+        if (concurrency != null) {
+            inflowMetaData.setInflowController(new InflowController(name, concurrency.getMaxDeliveries(), concurrency.getPauseTimeout()));
+        } else {
+            inflowMetaData.setInflowController(new InflowController(name, 0, 0));
         }
 
         return new InboundHandler(inflowMetaData, getServiceDomain());
@@ -309,10 +325,41 @@ public class JCAActivator extends BaseActivator {
             Properties interactSpecProps = interactionSpecModel.getProperties();
             processor.setInteractionSpec(interactSpecClassName, interactSpecProps);
         }
+        BatchCommitModel batchCommit = outboundInteractionModel.getBatchCommit();
+        if (batchCommit != null) {
+            processor.setBatchCommit(batchCommit.getBatchSize(), batchCommit.getBatchTimeout());
+        }
 
         return new OutboundHandler(processor, getServiceDomain());
     }
     
+    @Override
+    public void destroy() {
+        synchronized (this) {
+            if (_batchScheduler != null) {
+                // let the commits already scheduled run, they hold transactions open
+                _batchScheduler.shutdown();
+                _batchScheduler = null;
+            }
+        }
+        super.destroy();
+    }
+
+    private synchronized ScheduledExecutorService getBatchScheduler() {
+        if (_batchScheduler == null) {
+            _batchScheduler = Executors.newScheduledThreadPool(1, new ThreadFactory() {
+                private final AtomicInteger _count = new AtomicInteger();
+                @Override
+                public Thread newThread(Runnable r) {
+                    Thread thread = new Thread(r, "SwitchYard-JCA-batch-commit-" + _count.incrementAndGet());
+                    thread.setDaemon(true);
+                    return thread;
+                }
+            });
+        }
+        return _batchScheduler;
+    }
+
     private String stripDotRarSuffix(final String raName) {
         if (raName == null) {
             return null;
@@ -13,10 +13,13 @@
  */
 package org.switchyard.component.jca.deploy;
 
+import java.util.concurrent.ScheduledExecutorService;
+
 import javax.resource.spi.ActivationSpec;
 import javax.resource.spi.ResourceAdapter;
 import javax.transaction.TransactionManager;
 
+import org.switchyard.component.jca.InflowController;
 import org.switchyard.component.jca.endpoint.AbstractInflowEndpoint;
 
 /**
@@ -45,6 +48,10 @@ public class JCAInflowDeploymentMetaData {
     private int _batchSize = 0;
     
     private long _batchTimeout = 0;
+
+    private ScheduledExecutorService _batchScheduler = null;
+
+    private InflowController _inflowController = null;
     
     /**
      * get listener interface.
@@ -234,4 +241,36 @@ public class JCAInflowDeploymentMetaData {
         this._batchTimeout = batchTimeout;
     }
 
+    /**
+     * get the scheduler which commits batches on timeout.
+     * @return batch scheduler
+     */
+    public ScheduledExecutorService getBatchScheduler() {
+        return _batchScheduler;
+    }
+
+    /**
+     * set the scheduler which commits batches on timeout.
+     * @param batchScheduler batch scheduler shared within the service domain
+     */
+    public void setBatchScheduler(ScheduledExecutorService batchScheduler) {
+        this._batchScheduler = batchScheduler;
+    }
+
+    /**
+     * get {@link InflowController}.
+     * @return inflow controller
+     */
+    public InflowController getInflowController() {
+        return _inflowController;
+    }
+
+    /**
+     * set {@link InflowController}.
+     * @param inflowController inflow controller
+     */
+    public void setInflowController(InflowController inflowController) {
+        this._inflowController = inflowController;
+    }
+
 }
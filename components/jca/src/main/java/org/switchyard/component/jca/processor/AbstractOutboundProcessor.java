@@ -42,6 +42,8 @@ public abstract class AbstractOutboundProcessor {
     private Properties _jndiProperties;
     private ClassLoader _appClassLoader;
     private JCABindingModel _jcaBindingModel;
+    private int _batchSize;
+    private long _batchTimeout;
     
     /**
      * process outbound delivery.
@@ -158,6 +160,35 @@ public abstract class AbstractOutboundProcessor {
         return _jcaBindingModel;
     }
     
+    /**
+     * set batch commit. Processors which can't send several messages in one
+     * transaction ignore it.
+     * @param batchSize maximum number of messages committed together
+     * @param batchTimeout how long a message waits for the batch to fill up in milliseconds
+     * @return {@link AbstractOutboundProcessor} to support method chaining
+     */
+    public AbstractOutboundProcessor setBatchCommit(int batchSize, long batchTimeout) {
+        _batchSize = batchSize;
+        _batchTimeout = batchTimeout;
+        return this;
+    }
+
+    /**
+     * get batch size.
+     * @return batch size, 0 if batch commit is disabled
+     */
+    public int getBatchSize() {
+        return _batchSize;
+    }
+
+    /**
+     * get batch timeout.
+     * @return batch timeout in milliseconds
+     */
+    public long getBatchTimeout() {
+        return _batchTimeout;
+    }
+
     protected <D extends JCABindingData> MessageComposer<D> getMessageComposer(Class<D> clazz) {
         return JCAComposition.getMessageComposer(_jcaBindingModel, clazz);
     }
@@ -14,7 +14,13 @@
 package org.switchyard.component.jca.processor;
 
 import java.io.InputStream;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
 import java.util.Properties;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
 
 import javax.jms.Connection;
 import javax.jms.ConnectionFactory;
@@ -28,15 +34,25 @@ import javax.naming.InitialContext;
 import org.jboss.logging.Logger;
 import org.switchyard.Context;
 import org.switchyard.Exchange;
+import org.switchyard.ExchangePattern;
 import org.switchyard.HandlerException;
 import org.switchyard.common.type.Classes;
 import org.switchyard.component.common.composer.MessageComposer;
 import org.switchyard.component.jca.JCALogger;
 import org.switchyard.component.jca.JCAMessages;
 import org.switchyard.component.jca.composer.JMSBindingData;
+import org.switchyard.policy.PolicyUtil;
+import org.switchyard.policy.TransactionPolicy;
 
 /**
  * A concrete outbound processor class for JMS.
+ * <p/>
+ * When batch commit is configured, transacted IN_ONLY exchanges which don't carry
+ * a global transaction are collected per destination and acknowledge mode until the
+ * batch is full or the batch timeout expires, then sent on one transacted session
+ * and committed together.  Each exchange waits for the commit of its batch, so all
+ * of them succeed or fail together.  Exchanges which aren't transacted are sent on
+ * a session of their own, as a batch commit would change what they ask for.
  * 
  * @author <a href="mailto:tm.igarashi@gmail.com">Tomohisa Igarashi</a>
  *
@@ -82,6 +98,7 @@ public class JMSProcessor extends AbstractOutboundProcessor {
     private MessageType _defaultOutMessageType = MessageType.Object;
     private String _destinationJndiPropertiesFileName;
     private Properties _destinationJndiProperties;
+    private final Map<String, SendBatch> _openBatches = new HashMap<String, SendBatch>();
     
     private enum DestinationType {
         Queue, Topic, JNDI
@@ -167,45 +184,20 @@ public class JMSProcessor extends AbstractOutboundProcessor {
 
     @Override
     public org.switchyard.Message process(Exchange exchange) throws HandlerException {
+        if (isBatched(exchange)) {
+            sendInBatch(exchange);
+            return null;
+        }
+
         Connection connection = null;
         Session session = null;
         try {
-            if (_userName != null) {
-                connection = _connectionFactory.createConnection(_userName, _password);
-            } else {
-                connection = _connectionFactory.createConnection();
-            }
-            connection.start();
+            connection = createConnection();
             
             Context context = exchange.getContext();
             session = connection.createSession(getTxEnabledFromContext(context), getAcknowledgeModeFromContext(context));
             MessageProducer producer = session.createProducer(getDestinationFromContext(session, context));
-            
-            Message msg;
-            switch (getOutputMessageTypeFromContext(context)) {
-            case Stream:
-                msg = session.createStreamMessage();
-                break;
-            case Map:
-                msg = session.createMapMessage();
-                break;
-            case Text:
-                msg = session.createTextMessage();
-                break;
-            case Bytes:
-                msg = session.createBytesMessage();
-                break;
-            case Plain:
-                msg = session.createMessage();
-                break;
-            default:
-                    msg = session.createObjectMessage();
-            }
-            
-            producer.send(_composer.decompose(exchange, new JMSBindingData(msg)).getMessage(),
-                    getDeliveryModeFromContext(context, producer),
-                    getPriorityFromContext(context, producer),
-                    getTimeToLiveFromContext(context, producer));
+            send(session, producer, exchange);
             
             if (session.getTransacted()) {
                 try {
@@ -219,34 +211,163 @@ public class JMSProcessor extends AbstractOutboundProcessor {
             }
             return null;
         } catch (Exception e) {
-            try {
-                if (session != null && session.getTransacted()) {
-                    session.rollback();
-                }
-            } catch (Exception e2) {
-                // managed by global transaction. ignoring...
-                if (_logger.isDebugEnabled()) {
-                    e2.printStackTrace();
-                }
-            }
+            rollback(session);
             throw JCAMessages.MESSAGES.failedToProcessJMSOutboundInteraction(e);
         } finally {
-            try {
-                if (session != null) {
-                    session.close();
-                }
-                if (connection != null) {
-                    connection.close();
-                }
-            } catch (JMSException e) {
-                JCALogger.ROOT_LOGGER.failedToCloseJMSSessionconnection(e.getMessage());
-                if (_logger.isDebugEnabled()) {
-                    e.printStackTrace();
+            close(session, connection);
+        }
+    }
+
+    private Connection createConnection() throws JMSException {
+        Connection connection;
+        if (_userName != null) {
+            connection = _connectionFactory.createConnection(_userName, _password);
+        } else {
+            connection = _connectionFactory.createConnection();
+        }
+        connection.start();
+        return connection;
+    }
+
+    private void send(Session session, MessageProducer producer, Exchange exchange) throws Exception {
+        Context context = exchange.getContext();
+        Message msg;
+        switch (getOutputMessageTypeFromContext(context)) {
+        case Stream:
+            msg = session.createStreamMessage();
+            break;
+        case Map:
+            msg = session.createMapMessage();
+            break;
+        case Text:
+            msg = session.createTextMessage();
+            break;
+        case Bytes:
+            msg = session.createBytesMessage();
+            break;
+        case Plain:
+            msg = session.createMessage();
+            break;
+        default:
+                msg = session.createObjectMessage();
+        }
+        
+        producer.send(_composer.decompose(exchange, new JMSBindingData(msg)).getMessage(),
+                getDeliveryModeFromContext(context, producer),
+                getPriorityFromContext(context, producer),
+                getTimeToLiveFromContext(context, producer));
+    }
+
+    private void rollback(Session session) {
+        try {
+            if (session != null && session.getTransacted()) {
+                session.rollback();
+            }
+        } catch (Exception e) {
+            // managed by global transaction. ignoring...
+            if (_logger.isDebugEnabled()) {
+                e.printStackTrace();
+            }
+        }
+    }
+
+    private void close(Session session, Connection connection) {
+        try {
+            if (session != null) {
+                session.close();
+            }
+            if (connection != null) {
+                connection.close();
+            }
+        } catch (JMSException e) {
+            JCALogger.ROOT_LOGGER.failedToCloseJMSSessionconnection(e.getMessage());
+            if (_logger.isDebugEnabled()) {
+                e.printStackTrace();
+            }
+        }
+    }
+
+    private boolean isBatched(Exchange exchange) {
+        // a global transaction decides itself when the message is committed
+        return getBatchSize() > 1
+                && exchange.getPattern() == ExchangePattern.IN_ONLY
+                && !PolicyUtil.isProvided(exchange, TransactionPolicy.PROPAGATES_TRANSACTION)
+                && getTxEnabledFromContext(exchange.getContext());
+    }
+
+    private void sendInBatch(Exchange exchange) throws HandlerException {
+        Context context = exchange.getContext();
+        Object destination = context.getPropertyValue(CONTEXT_PROPERTY_PREFIX + KEY_DESTINATION);
+        int ackMode = getAcknowledgeModeFromContext(context);
+        String key = getDestinationTypeFromContext(context) + ":" + (destination != null ? destination : _defaultDestination)
+                + ":" + ackMode;
+        SendBatch batch;
+        boolean opened = false;
+        boolean full = false;
+        synchronized (_openBatches) {
+            batch = _openBatches.get(key);
+            if (batch == null) {
+                batch = new SendBatch(ackMode);
+                _openBatches.put(key, batch);
+                opened = true;
+            }
+            batch._exchanges.add(exchange);
+            if (batch._exchanges.size() >= getBatchSize()) {
+                _openBatches.remove(key);
+                full = true;
+            }
+        }
+
+        if (full) {
+            flush(batch);
+        } else if (opened && !batch.await(getBatchTimeout())) {
+            // the batch didn't fill up in time, send what has been collected so far
+            boolean expired = false;
+            synchronized (_openBatches) {
+                if (_openBatches.get(key) == batch) {
+                    _openBatches.remove(key);
+                    expired = true;
                 }
             }
+            if (expired) {
+                flush(batch);
+            } else {
+                batch.await(-1);
+            }
+        } else {
+            batch.await(-1);
+        }
+
+        if (batch._failure != null) {
+            throw JCAMessages.MESSAGES.failedToProcessJMSOutboundInteraction(batch._failure);
         }
     }
-    
+
+    private void flush(SendBatch batch) {
+        Connection connection = null;
+        Session session = null;
+        try {
+            connection = createConnection();
+            session = connection.createSession(true, batch._ackMode);
+            // every exchange of the batch has the same destination
+            MessageProducer producer = session.createProducer(
+                    getDestinationFromContext(session, batch._exchanges.get(0).getContext()));
+            for (Exchange exchange : batch._exchanges) {
+                send(session, producer, exchange);
+            }
+            session.commit();
+            if (_logger.isDebugEnabled()) {
+                _logger.debug("Committed a batch of " + batch._exchanges.size() + " messages");
+            }
+        } catch (Exception e) {
+            rollback(session);
+            batch._failure = e;
+        } finally {
+            close(session, connection);
+            batch._done.countDown();
+        }
+    }
+
     protected boolean getTxEnabledFromContext(Context ctx) {
         String key = CONTEXT_PROPERTY_PREFIX + KEY_TRANSACTED;
         if (ctx.getProperty(key) != null) {
@@ -511,4 +632,41 @@ public class JMSProcessor extends AbstractOutboundProcessor {
         }
         return _destinationJndiProperties;
     }
+
+    private static final class SendBatch {
+        private final int _ackMode;
+        private final List<Exchange> _exchanges = new ArrayList<Exchange>();
+        private final CountDownLatch _done = new CountDownLatch(1);
+        private volatile Exception _failure;
+
+        private SendBatch(int ackMode) {
+            _ackMode = ackMode;
+        }
+
+        /**
+         * Waits for the batch to be committed or rolled back.  The message may already be
+         * on its way, so the wait isn't cut short by an interrupt.
+         */
+        private boolean await(long timeout) {
+            boolean interrupted = false;
+            long deadline = System.nanoTime() + TimeUnit.MILLISECONDS.toNanos(timeout);
+            try {
+                while (true) {
+                    try {
+                        if (timeout < 0) {
+                            _done.await();
+                            return true;
+                        }
+                        return _done.await(deadline - System.nanoTime(), TimeUnit.NANOSECONDS);
+                    } catch (InterruptedException ie) {
+                        interrupted = true;
+                    }
+                }
+            } finally {
+                if (interrupted) {
+                    Thread.currentThread().interrupt();
+                }
+            }
+        }
+    }
 }
@@ -67,6 +67,8 @@ public class V1JCABindingModelInboundTest {
         Assert.assertEquals(true, jbm.getInboundInteraction().isTransacted());
         Assert.assertEquals(5, jbm.getInboundInteraction().getBatchCommit().getBatchSize());
         Assert.assertEquals(5000, jbm.getInboundInteraction().getBatchCommit().getBatchTimeout());
+        Assert.assertEquals(4, jbm.getInboundInteraction().getConcurrency().getMaxDeliveries());
+        Assert.assertEquals(30000, jbm.getInboundInteraction().getConcurrency().getPauseTimeout());
     }
     
 }
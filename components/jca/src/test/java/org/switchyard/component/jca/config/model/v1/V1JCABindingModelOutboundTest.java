@@ -68,5 +68,7 @@ public class V1JCABindingModelOutboundTest {
         Assert.assertNotNull(jbm.getOutboundInteraction().getOperation().getInteractionSpec());
         Assert.assertEquals("value5", jbm.getOutboundInteraction().getOperation().getInteractionSpec().getProperty("prop5"));
         Assert.assertEquals("value6", jbm.getOutboundInteraction().getProcessor().getProperty("prop6"));
+        Assert.assertEquals(10, jbm.getOutboundInteraction().getBatchCommit().getBatchSize());
+        Assert.assertEquals(200, jbm.getOutboundInteraction().getBatchCommit().getBatchTimeout());
     }
 }
@@ -0,0 +1,235 @@
+/*
+ * Copyright 2013 Red Hat Inc. and/or its affiliates and other contributors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * http://www.apache.org/licenses/LICENSE-2.0
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.switchyard.component.jca.processor;
+
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertTrue;
+import static org.mockito.Matchers.any;
+import static org.mockito.Matchers.anyBoolean;
+import static org.mockito.Matchers.anyInt;
+import static org.mockito.Matchers.anyLong;
+import static org.mockito.Matchers.anyString;
+import static org.mockito.Mockito.doNothing;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import java.util.ArrayList;
+import java.util.Hashtable;
+import java.util.List;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+
+import javax.jms.Connection;
+import javax.jms.ConnectionFactory;
+import javax.jms.JMSException;
+import javax.jms.Message;
+import javax.jms.MessageProducer;
+import javax.jms.ObjectMessage;
+import javax.jms.Queue;
+import javax.jms.Session;
+import javax.naming.NamingException;
+import javax.naming.spi.InitialContextFactory;
+
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+import org.mockito.invocation.InvocationOnMock;
+import org.mockito.stubbing.Answer;
+import org.switchyard.Exchange;
+import org.switchyard.ExchangePattern;
+import org.switchyard.HandlerException;
+import org.switchyard.Scope;
+import org.switchyard.component.common.composer.MessageComposer;
+import org.switchyard.component.jca.composer.JCABindingData;
+import org.switchyard.component.jca.composer.JMSBindingData;
+import org.switchyard.internal.DefaultContext;
+
+/**
+ * Unit test for the batch commit of {@link JMSProcessor} with a mocked JMS provider.
+ */
+public class JMSProcessorTest {
+
+    private static final String CONNECTION_FACTORY = "ConnectionFactory";
+    private static final String JNDI_PROPERTIES = "org/switchyard/component/jca/processor/jms-processor-jndi.properties";
+
+    private static volatile ConnectionFactory _connectionFactory;
+
+    private ExecutorService _senders;
+    private Connection _connection;
+    private Session _session;
+    private MessageProducer _producer;
+    private MessageComposer<JMSBindingData> _composer;
+
+    @Before
+    @SuppressWarnings("unchecked")
+    public void setUp() throws Exception {
+        _senders = Executors.newCachedThreadPool();
+        _connectionFactory = mock(ConnectionFactory.class);
+        _connection = mock(Connection.class);
+        _session = mock(Session.class);
+        _producer = mock(MessageProducer.class);
+        when(_connectionFactory.createConnection()).thenReturn(_connection);
+        when(_connection.createSession(anyBoolean(), anyInt())).thenReturn(_session);
+        when(_session.getTransacted()).thenReturn(true);
+        when(_session.createQueue(anyString())).thenReturn(mock(Queue.class));
+        when(_session.createObjectMessage()).thenReturn(mock(ObjectMessage.class));
+        when(_session.createProducer(any(Queue.class))).thenReturn(_producer);
+        _composer = mock(MessageComposer.class);
+        when(_composer.decompose(any(Exchange.class), any(JMSBindingData.class))).thenAnswer(new Answer<JMSBindingData>() {
+            @Override
+            public JMSBindingData answer(InvocationOnMock invocation) {
+                return (JMSBindingData) invocation.getArguments()[1];
+            }
+        });
+    }
+
+    @After
+    public void tearDown() {
+        _senders.shutdownNow();
+        _connectionFactory = null;
+    }
+
+    @Test
+    public void fullBatchIsCommittedOnOneSession() throws Exception {
+        JMSProcessor processor = processor(3, 60000);
+        for (Throwable failure : send(processor, exchange(null, null), exchange(null, null), exchange(null, null))) {
+            assertNull(failure);
+        }
+        verify(_connectionFactory).createConnection();
+        verify(_connection).createSession(true, Session.AUTO_ACKNOWLEDGE);
+        verify(_producer, times(3)).send(any(Message.class), anyInt(), anyInt(), anyLong());
+        verify(_session).commit();
+        verify(_session).close();
+        verify(_connection).close();
+    }
+
+    @Test
+    public void partialBatchIsCommittedAfterTheTimeout() throws Exception {
+        JMSProcessor processor = processor(10, 50);
+        long start = System.currentTimeMillis();
+        assertNull(send(processor, exchange(null, null)).get(0));
+        assertTrue(System.currentTimeMillis() - start < 5000);
+        verify(_producer).send(any(Message.class), anyInt(), anyInt(), anyLong());
+        verify(_session).commit();
+    }
+
+    @Test
+    public void failureIsReportedToEveryExchangeOfTheBatch() throws Exception {
+        doNothing().doThrow(new JMSException("queue full"))
+            .when(_producer).send(any(Message.class), anyInt(), anyInt(), anyLong());
+        JMSProcessor processor = processor(3, 60000);
+        for (Throwable failure : send(processor, exchange(null, null), exchange(null, null), exchange(null, null))) {
+            assertTrue(failure instanceof HandlerException);
+        }
+        verify(_session).rollback();
+        verify(_session, never()).commit();
+        verify(_connection).close();
+    }
+
+    @Test
+    public void exchangesWhichAreNotTransactedAreSentOnTheirOwn() throws Exception {
+        when(_session.getTransacted()).thenReturn(false);
+        JMSProcessor processor = processor(3, 60000);
+        assertNull(send(processor, exchange("false", null)).get(0));
+        verify(_connection).createSession(false, Session.AUTO_ACKNOWLEDGE);
+        verify(_connection, never()).createSession(true, Session.AUTO_ACKNOWLEDGE);
+        verify(_session, never()).commit();
+    }
+
+    @Test
+    public void exchangesWithOtherAcknowledgeModesAreBatchedApart() throws Exception {
+        JMSProcessor processor = processor(2, 200);
+        for (Throwable failure : send(processor, exchange(null, null),
+                exchange(null, String.valueOf(Session.CLIENT_ACKNOWLEDGE)))) {
+            assertNull(failure);
+        }
+        verify(_connection).createSession(true, Session.AUTO_ACKNOWLEDGE);
+        verify(_connection).createSession(true, Session.CLIENT_ACKNOWLEDGE);
+        verify(_session, times(2)).commit();
+    }
+
+    private JMSProcessor processor(int batchSize, long batchTimeout) {
+        JMSProcessor processor = new JMSProcessor() {
+            @Override
+            @SuppressWarnings("unchecked")
+            protected <D extends JCABindingData> MessageComposer<D> getMessageComposer(Class<D> clazz) {
+                return (MessageComposer<D>) _composer;
+            }
+        };
+        processor.setConnectionFactoryJNDIName(CONNECTION_FACTORY);
+        processor.setJndiPropertiesFileName(JNDI_PROPERTIES);
+        processor.setDestinationType("Queue");
+        processor.setDestination("ITEMS");
+        processor.setTransacted("true");
+        processor.setBatchCommit(batchSize, batchTimeout);
+        processor.initialize();
+        return processor;
+    }
+
+    private Exchange exchange(String transacted, String acknowledgeMode) {
+        DefaultContext context = new DefaultContext(Scope.EXCHANGE);
+        if (transacted != null) {
+            context.setProperty(JMSProcessor.CONTEXT_PROPERTY_PREFIX + JMSProcessor.KEY_TRANSACTED, transacted);
+        }
+        if (acknowledgeMode != null) {
+            context.setProperty(JMSProcessor.CONTEXT_PROPERTY_PREFIX + JMSProcessor.KEY_ACKNOWLEDGE_MODE, acknowledgeMode);
+        }
+        Exchange exchange = mock(Exchange.class);
+        when(exchange.getContext()).thenReturn(context);
+        when(exchange.getPattern()).thenReturn(ExchangePattern.IN_ONLY);
+        return exchange;
+    }
+
+    // sends every exchange on a thread of its own, returns what each send threw
+    private List<Throwable> send(final JMSProcessor processor, Exchange... exchanges) throws Exception {
+        List<Future<Throwable>> futures = new ArrayList<Future<Throwable>>();
+        for (final Exchange exchange : exchanges) {
+            futures.add(_senders.submit(new Callable<Throwable>() {
+                @Override
+                public Throwable call() {
+                    try {
+                        processor.process(exchange);
+                        return null;
+                    } catch (Throwable t) {
+                        return t;
+                    }
+                }
+            }));
+        }
+        List<Throwable> failures = new ArrayList<Throwable>();
+        for (Future<Throwable> future : futures) {
+            failures.add(future.get(10, TimeUnit.SECONDS));
+        }
+        return failures;
+    }
+
+    /**
+     * Hands the mocked connection factory to the processor.
+     */
+    public static final class MockInitialContextFactory implements InitialContextFactory {
+        @Override
+        public javax.naming.Context getInitialContext(Hashtable<?, ?> environment) throws NamingException {
+            javax.naming.Context context = mock(javax.naming.Context.class);
+            when(context.lookup(CONNECTION_FACTORY)).thenReturn(_connectionFactory);
+            return context;
+        }
+    }
+
+}
@@ -16,6 +16,8 @@ package org.switchyard.component.resteasy;
 
 import java.util.List;
 import java.util.Map;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.RejectedExecutionException;
 
 import javax.ws.rs.WebApplicationException;
 
@@ -26,6 +28,9 @@ import org.switchyard.Message;
 import org.switchyard.Scope;
 import org.switchyard.ServiceDomain;
 import org.switchyard.ServiceReference;
+import org.switchyard.common.type.Classes;
+import org.switchyard.component.common.AsynchronousInOutHandler;
+import org.switchyard.component.common.AsynchronousInOutHandler.ReplyListener;
 import org.switchyard.component.common.Endpoint;
 import org.switchyard.component.common.SynchronousInOutHandler;
 import org.switchyard.component.common.composer.MessageComposer;
@@ -38,6 +43,8 @@ import org.switchyard.component.resteasy.util.RESTEasyUtil;
 import org.switchyard.deploy.BaseServiceHandler;
 import org.switchyard.label.BehaviorLabel;
 import org.switchyard.runtime.event.ExchangeCompletionEvent;
+import org.switchyard.runtime.executor.ExecutorRegistry;
+import org.switchyard.runtime.executor.ThreadPoolConfig;
 import org.switchyard.security.context.SecurityContextManager;
 
 /**
@@ -47,6 +54,15 @@ import org.switchyard.security.context.SecurityContextManager;
  */
 public class InboundHandler extends BaseServiceHandler {
 
+    /**
+     * Prefix of the domain thread pools which send the requests of
+     * asynchronous bindings, followed by the binding name.
+     */
+    public static final String THREAD_POOL_PREFIX = "org.switchyard.resteasy.async.";
+
+    private static final int SERVICE_UNAVAILABLE = 503;
+    private static final int GATEWAY_TIMEOUT = 504;
+
     private final RESTEasyBindingModel _config;
     private final String _gatewayName;
     private ServiceDomain _domain;
@@ -55,6 +71,8 @@ public class InboundHandler extends BaseServiceHandler {
     private MessageComposer<RESTEasyBindingData> _messageComposer;
     private SecurityContextManager _securityContextManager;
     private Map<Class<?>, Class<?>> _exceptionMappers;
+    private ExecutorService _sendExecutor;
+    private String _sendPool;
 
     /**
      * Constructor for unit test.
@@ -98,6 +116,9 @@ public class InboundHandler extends BaseServiceHandler {
             _resource = ResourcePublisherFactory.getPublisher().publish(_domain, contextPath, instances, contextParams);
             // Create and configure the RESTEasy message composer
             _messageComposer = RESTEasyComposition.getMessageComposer(_config);
+            if (isAsync()) {
+                _sendExecutor = getSendExecutor();
+            }
         } catch (Exception e) {
             throw new RESTEasyPublishException(e);
         }
@@ -156,12 +177,132 @@ public class InboundHandler extends BaseServiceHandler {
         return output;
     }
 
+    /**
+     * Indicates whether requests should be suspended while the exchange is
+     * in progress, which is the case when the binding specifies an asyncTimeout.
+     *
+     * @return true if {@link #invokeAsync(RESTEasyBindingData, RESTEasyResponseCallback)} should be used
+     */
+    public boolean isAsync() {
+        return _config != null && _config.getAsyncTimeout() != null;
+    }
+
+    /**
+     * Invokes the SwitchYard service without waiting for the reply.  The
+     * request is composed on the calling thread and sent from the domain
+     * thread pool {@value #THREAD_POOL_PREFIX}&lt;binding name&gt;, so the
+     * calling thread returns at once.  The pool is created with the default
+     * settings unless the domain configures it, and removed when the binding
+     * stops.  A request the pool cannot take fails with
+     * status 503 (Service Unavailable).
+     * <br><br>
+     * The callback is called on the thread delivering the reply, or with a
+     * WebApplicationException carrying status 504 (Gateway Timeout) when
+     * no reply arrived within the asyncTimeout of the binding, counted from
+     * the call.
+     *
+     * @param restMessageRequest the request RESTEasyMessage
+     * @param callback the callback receiving the response
+     */
+    public void invokeAsync(final RESTEasyBindingData restMessageRequest, final RESTEasyResponseCallback callback) {
+        final AsynchronousInOutHandler inOutHandler = new AsynchronousInOutHandler(new ReplyListener() {
+            @Override
+            public void onReply(Exchange exchange) {
+                RESTEasyBindingData output = null;
+                try {
+                    output = _messageComposer.decompose(exchange, new RESTEasyBindingData());
+                } catch (Exception e) {
+                    callback.onFailure(toResponseException(e));
+                    return;
+                }
+                callback.onResponse(output);
+            }
+
+            @Override
+            public void onTimeout() {
+                callback.onFailure(new WebApplicationException(GATEWAY_TIMEOUT));
+            }
+        });
+        try {
+            final Exchange exchange = _service.createExchange(restMessageRequest.getOperationName(), inOutHandler);
+
+            // identify ourselves
+            exchange.getContext().setProperty(ExchangeCompletionEvent.GATEWAY_NAME, _gatewayName, Scope.EXCHANGE)
+                    .addLabels(BehaviorLabel.TRANSIENT.label());
+
+            _securityContextManager.addCredentials(exchange, restMessageRequest.extractCredentials());
+
+            Message composed = null;
+            try {
+                composed = _messageComposer.compose(restMessageRequest, exchange);
+            } catch (Exception e) {
+                if (_exceptionMappers.containsKey(e.getClass()) || (e instanceof WebApplicationException)) {
+                    throw e;
+                } else {
+                    RestEasyLogger.ROOT_LOGGER.unexpectedExceptionComposingInboundMessage(e);
+                    throw new WebApplicationException(e);
+                }
+            }
+            final Message message = composed;
+            final ClassLoader loader = Thread.currentThread().getContextClassLoader();
+            // the timeout also covers the wait for a pool thread and a provider running on it
+            inOutHandler.waitForOut(_config.getAsyncTimeout());
+            _sendExecutor.execute(new Runnable() {
+                @Override
+                public void run() {
+                    ClassLoader origCl = Classes.setTCCL(loader);
+                    try {
+                        exchange.send(message);
+                    } catch (Exception e) {
+                        if (inOutHandler.cancel()) {
+                            callback.onFailure(toResponseException(e));
+                        }
+                    } finally {
+                        Classes.setTCCL(origCl);
+                    }
+                }
+            });
+        } catch (RejectedExecutionException ree) {
+            if (inOutHandler.cancel()) {
+                callback.onFailure(new WebApplicationException(ree, SERVICE_UNAVAILABLE));
+            }
+        } catch (Exception e) {
+            if (inOutHandler.cancel()) {
+                callback.onFailure(toResponseException(e));
+            }
+        }
+    }
+
+    private ExecutorService getSendExecutor() {
+        ExecutorRegistry registry = ExecutorRegistry.getRegistry(_domain);
+        String name = THREAD_POOL_PREFIX + _gatewayName;
+        if (!registry.hasThreadPool(name)) {
+            registry.register(new ThreadPoolConfig(name));
+            _sendPool = name;
+        }
+        return registry.getExecutor(name);
+    }
+
+    private Exception toResponseException(Exception e) {
+        if (_exceptionMappers.containsKey(e.getClass()) || (e instanceof WebApplicationException)) {
+            return e;
+        }
+        RestEasyLogger.ROOT_LOGGER.unexpectedExceptionComposingOutboundRESTResponse(e);
+        return new WebApplicationException(e);
+    }
+
     /**
      * Stop lifecycle.
      */
     @Override
     protected void doStop() {
         _resource.stop();
+        if (_sendPool != null) {
+            // a pool configured by the domain lives as long as the domain
+            ExecutorRegistry.getRegistry(_domain).remove(_sendPool);
+            _sendPool = null;
+        }
+        _sendExecutor = null;
     }
 
     @Override
@@ -0,0 +1,39 @@
+/*
+ * Copyright 2013 Red Hat Inc. and/or its affiliates and other contributors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * http://www.apache.org/licenses/LICENSE-2.0
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.switchyard.component.resteasy;
+
+import org.switchyard.component.resteasy.composer.RESTEasyBindingData;
+
+/**
+ * Receives the outcome of an asynchronous service invocation.  Exactly one
+ * of the methods is called.
+ *
+ * @see InboundHandler#invokeAsync(RESTEasyBindingData, RESTEasyResponseCallback)
+ */
+public interface RESTEasyResponseCallback {
+
+    /**
+     * Called with the response of the invocation.
+     * @param response the response data
+     */
+    void onResponse(RESTEasyBindingData response);
+
+    /**
+     * Called when the invocation failed or timed out.  The exception is
+     * either a WebApplicationException or one for which an exception mapper
+     * is configured.
+     * @param e the failure
+     */
+    void onFailure(Exception e);
+}
@@ -116,6 +116,24 @@ public interface RESTEasyBindingModel extends BindingModel {
      */
     public RESTEasyBindingModel setTimeout(Integer timeout);
 
+    /**
+     * Gets the time in milliseconds an inbound request may wait for the
+     * service reply.  When set, the request is suspended while the exchange
+     * is in progress and resumed once the reply arrives.
+     * 
+     * @return the asynchronous time-out value
+     */
+    public Long getAsyncTimeout();
+
+    /**
+     * Sets the time in milliseconds an inbound request may wait for the
+     * service reply.
+     * 
+     * @param asyncTimeout the asynchronous time-out value
+     * @return this RESTEasyBindingModel
+     */
+    public RESTEasyBindingModel setAsyncTimeout(Long asyncTimeout);
+
     /**
      * Gets the proxy config.
      * @return the proxy config
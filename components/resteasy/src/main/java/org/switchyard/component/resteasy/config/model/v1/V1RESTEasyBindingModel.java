@@ -39,6 +39,7 @@ public class V1RESTEasyBindingModel extends V1BindingModel implements RESTEasyBi
     private static final String[] MODEL_CHILDREN_ORDER = new String[]{
         RESTEasyName.interfaces.name(),
         RESTEasyName.contextPath.name(),
+        RESTEasyName.asyncTimeout.name(),
         RESTEasyName.address.name(),
         RESTEasyName.timeout.name(),
         RESTEasyName.basic.name(),
@@ -54,6 +55,7 @@ public class V1RESTEasyBindingModel extends V1BindingModel implements RESTEasyBi
     private RESTEasyNameValueModel _interfaces;
     private RESTEasyNameValueModel _contextPath;
     private RESTEasyNameValueModel _timeout;
+    private RESTEasyNameValueModel _asyncTimeout;
     private BasicAuthModel _basicAuth;
     private NtlmAuthModel _ntlmAuth;
     private ProxyModel _proxyConfig;
@@ -178,6 +180,24 @@ public class V1RESTEasyBindingModel extends V1BindingModel implements RESTEasyBi
         return this;
     }
 
+    /**
+     * {@inheritDoc}
+     */
+    public Long getAsyncTimeout() {
+        if (_asyncTimeout == null) {
+            _asyncTimeout = getNameValue(RESTEasyName.asyncTimeout);
+        }
+        return _asyncTimeout != null ? Long.valueOf(_asyncTimeout.getValue()) : null;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    public RESTEasyBindingModel setAsyncTimeout(Long asyncTimeout) {
+        _asyncTimeout = setNameValue(_asyncTimeout, RESTEasyName.asyncTimeout, String.valueOf(asyncTimeout));
+        return this;
+    }
+
     /**
      * {@inheritDoc}
      */
@@ -28,6 +28,7 @@ import org.jboss.resteasy.plugins.server.servlet.ResteasyContextParameters;
 import org.jboss.resteasy.plugins.server.sun.http.HttpContextBuilder;
 import org.switchyard.ServiceDomain;
 import org.switchyard.component.common.Endpoint;
+import org.switchyard.component.common.http.StandaloneHttpEngine;
 import org.switchyard.component.resteasy.RestEasyLogger;
 import org.switchyard.component.resteasy.util.RESTEasyUtil;
 
@@ -37,6 +38,10 @@ import org.switchyard.component.resteasy.util.RESTEasyUtil;
  *     By default it will be published in port {@value #DEFAULT_PORT}. This can be configured making use of
  *     <i>{@value #DEFAULT_PORT_PROPERTY}</i> system property.
  * </p>
+ * <p>
+ *     Requests are handled by the worker pool of the {@link StandaloneHttpEngine} shared with the
+ *     standalone HTTP gateway, which also supplies the accept backlog and keep-alive settings.
+ * </p>
  *
  * @author Magesh Kumar B <mageshbk@jboss.com> (C) 2012 Red Hat Inc.
  */
@@ -52,8 +57,9 @@ public class StandaloneResourcePublisher implements ResourcePublisher {
     static {
         try {
             _contextBuilder = new HttpContextBuilder();
-            _httpServer = HttpServer.create(new InetSocketAddress(getPort()), 10);
-            _httpServer.setExecutor(null); // creates a default executor
+            StandaloneHttpEngine engine = StandaloneHttpEngine.getEngine();
+            _httpServer = HttpServer.create(new InetSocketAddress(getPort()), engine.getBacklog());
+            _httpServer.setExecutor(engine.getExecutor());
             _httpServer.start();
             if (LOGGER.isTraceEnabled()) {
                 LOGGER.trace("Started Sun HttpServer at port " + getPort());
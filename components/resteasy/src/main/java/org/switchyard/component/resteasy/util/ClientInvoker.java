@@ -45,6 +45,7 @@ import org.apache.http.auth.NTCredentials;
 import org.apache.http.auth.UsernamePasswordCredentials;
 import org.apache.http.client.AuthCache;
 import org.apache.http.client.HttpClient;
+import org.apache.http.client.methods.HttpRequestBase;
 import org.apache.http.client.protocol.ClientContext;
 import org.apache.http.conn.params.ConnRoutePNames;
 import org.apache.http.conn.scheme.PlainSocketFactory;
@@ -94,6 +95,7 @@ import org.switchyard.component.resteasy.composer.RESTEasyBindingData;
 import org.switchyard.component.resteasy.config.model.ProxyModel;
 import org.switchyard.component.resteasy.config.model.RESTEasyBindingModel;
 import org.switchyard.component.resteasy.config.model.SSLContextModel;
+import org.switchyard.metadata.qos.Deadline;
 
 /**
  * Client Invoker for RESTEasy gateway. Code lifted from RESTEasy.
@@ -112,6 +114,7 @@ public class ClientInvoker extends ClientInterceptorRepositoryImpl implements Me
 
     private static final String AS7_URIBUILDER = "org.jboss.resteasy.specimpl.UriBuilderImpl";
     private static final String WFLY_URIBUILDER = "org.jboss.resteasy.specimpl.ResteasyUriBuilder";
+    private static final String TIMEOUT_ATTRIBUTE = CONTEXT_PROPERTY_PREFIX + "timeout";
     private static final String ANY = "ANY";
     private static final String BROWSER = "BROWSER";
     private static final String STRICT = "STRICT";
@@ -125,6 +128,7 @@ public class ClientInvoker extends ClientInterceptorRepositoryImpl implements Me
     private MediaType _accepts;
     private Marshaller[] _marshallers;
     private ClientExecutor _executor;
+    private Integer _timeout;
     private boolean _followRedirects;
     private EntityExtractor _extractor;
     private EntityExtractorFactory _extractorFactory;
@@ -246,7 +250,7 @@ public class ClientInvoker extends ClientInterceptorRepositoryImpl implements Me
         cm.setMaxTotal(200);
         cm.setDefaultMaxPerRoute(20);
         HttpClient httpClient = new DefaultHttpClient(cm);
-        _executor = new ApacheHttpClient4Executor(httpClient);
+        _executor = new DeadlineAwareExecutor(httpClient);
         // register ApacheHttpClient4ExceptionMapper manually for local instance of ResteasyProviderFactory
         Type exceptionType = Types.getActualTypeArgumentsOfAnInterface(ApacheHttpClient4ExceptionMapper.class, ClientExceptionMapper.class)[0];
         _providerFactory.addClientExceptionMapper(new ApacheHttpClient4ExceptionMapper(), exceptionType);
@@ -309,11 +313,11 @@ public class ClientInvoker extends ClientInterceptorRepositoryImpl implements Me
 
             }
         }
-        Integer timeout = model.getTimeout();
-        if (timeout != null) {
+        _timeout = model.getTimeout();
+        if (_timeout != null) {
             HttpParams httpParams = httpClient.getParams();
-            HttpConnectionParams.setConnectionTimeout(httpParams, timeout);
-            HttpConnectionParams.setSoTimeout(httpParams, timeout);
+            HttpConnectionParams.setConnectionTimeout(httpParams, _timeout);
+            HttpConnectionParams.setSoTimeout(httpParams, _timeout);
         }
     }
     
@@ -530,6 +534,10 @@ public class ClientInvoker extends ClientInterceptorRepositoryImpl implements Me
             uriBuilder = UriBuilder.fromUri(String.format(_subResourcePath, args));
         }
         ClientRequest request = new ClientRequest(uriBuilder, _executor, _providerFactory);
+        // never wait past the deadline of the exchange
+        if (Deadline.getRemaining(exchange) != null) {
+            request.getAttributes().put(TIMEOUT_ATTRIBUTE, Deadline.capTimeout(exchange, _timeout));
+        }
         if (_accepts != null) {
             request.header(HttpHeaders.ACCEPT, RESTEasyUtil.mediaTypeToString(_accepts));
         }
@@ -575,4 +583,26 @@ public class ClientInvoker extends ClientInterceptorRepositoryImpl implements Me
     public void followRedirects() {
         setFollowRedirects(true);
     }*/
+
+    /**
+     * Applies the timeout left by the deadline of an exchange to a single
+     * request, on top of the timeouts of the shared client.
+     */
+    private static class DeadlineAwareExecutor extends ApacheHttpClient4Executor {
+
+        DeadlineAwareExecutor(HttpClient httpClient) {
+            super(httpClient);
+        }
+
+        @Override
+        public void loadHttpMethod(ClientRequest request, HttpRequestBase httpMethod) throws Exception {
+            super.loadHttpMethod(request, httpMethod);
+            Object timeout = request.getAttributes().get(TIMEOUT_ATTRIBUTE);
+            if (timeout instanceof Integer) {
+                HttpParams httpParams = httpMethod.getParams();
+                HttpConnectionParams.setConnectionTimeout(httpParams, (Integer) timeout);
+                HttpConnectionParams.setSoTimeout(httpParams, (Integer) timeout);
+            }
+        }
+    }
 }
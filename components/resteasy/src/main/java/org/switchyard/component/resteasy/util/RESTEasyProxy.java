@@ -21,20 +21,28 @@ import java.util.List;
 import java.util.Map;
 
 import javax.servlet.http.HttpServletRequest;
+import javax.ws.rs.Produces;
+import javax.ws.rs.WebApplicationException;
 import javax.ws.rs.core.HttpHeaders;
 import javax.ws.rs.core.Response;
 import javax.ws.rs.core.SecurityContext;
+import javax.ws.rs.ext.ExceptionMapper;
 
 import org.jboss.logging.Logger;
 import org.jboss.resteasy.plugins.server.servlet.ServletSecurityContext;
+import org.jboss.resteasy.spi.AsynchronousResponse;
+import org.jboss.resteasy.spi.HttpRequest;
 import org.jboss.resteasy.spi.ResteasyProviderFactory;
 import org.switchyard.common.type.reflect.Access;
 import org.switchyard.common.type.reflect.FieldAccess;
 import org.switchyard.component.resteasy.InboundHandler;
+import org.switchyard.component.resteasy.RESTEasyResponseCallback;
 import org.switchyard.component.resteasy.composer.RESTEasyBindingData;
 
 /**
- * A proxy for RESTEasy instances.
+ * A proxy for RESTEasy instances.  When the binding specifies an asyncTimeout
+ * and the server supports it, the request is suspended while the exchange is
+ * in progress and resumed by the reply; otherwise the request thread waits.
  *
  * @author Magesh Kumar B <mageshbk@jboss.com> (C) 2013 Red Hat Inc.
  */
@@ -117,7 +125,19 @@ public final class RESTEasyProxy implements InvocationHandler {
                 LOGGER.trace(args);
             }
         }
-        RESTEasyBindingData responseData = _serviceConsumer.invoke(requestData, method.getReturnType().equals(Void.TYPE));
+        boolean oneWay = method.getReturnType().equals(Void.TYPE);
+        if (!oneWay && !method.getReturnType().isPrimitive() && _serviceConsumer.isAsync()) {
+            AsynchronousResponse asyncResponse = suspend();
+            if (asyncResponse != null) {
+                _serviceConsumer.invokeAsync(requestData, new AsyncResponseCallback(method, asyncResponse));
+                return null;
+            }
+        }
+        RESTEasyBindingData responseData = _serviceConsumer.invoke(requestData, oneWay);
+        return toResult(method, responseData);
+    }
+
+    private static Object toResult(Method method, RESTEasyBindingData responseData) {
         Response.ResponseBuilder builder = Response.ok();
         if (responseData != null) {
             if (method.getReturnType().equals(Response.class)) {
@@ -155,6 +175,70 @@ public final class RESTEasyProxy implements InvocationHandler {
         return builder.build();
     }
 
+    // suspends the current request, returns null if the server cannot suspend requests
+    private AsynchronousResponse suspend() {
+        HttpRequest request = ResteasyProviderFactory.getContextData(HttpRequest.class);
+        if (request != null) {
+            try {
+                // the handler enforces the binding's asyncTimeout
+                return request.createAsynchronousResponse(0);
+            } catch (UnsupportedOperationException uoe) {
+                LOGGER.debug("Request cannot be suspended, handling it synchronously", uoe);
+            }
+        }
+        return null;
+    }
+
+    /**
+     * Resumes a suspended request with the reply of the service.
+     */
+    private static final class AsyncResponseCallback implements RESTEasyResponseCallback {
+
+        private final Method _method;
+        private final AsynchronousResponse _asyncResponse;
+        private final ResteasyProviderFactory _providerFactory;
+
+        private AsyncResponseCallback(Method method, AsynchronousResponse asyncResponse) {
+            _method = method;
+            _asyncResponse = asyncResponse;
+            // the reply arrives on a thread without RESTEasy's context
+            _providerFactory = ResteasyProviderFactory.getInstance();
+        }
+
+        @Override
+        public void onResponse(RESTEasyBindingData response) {
+            Object result = toResult(_method, response);
+            if (result instanceof Response) {
+                _asyncResponse.setResponse((Response)result);
+            } else {
+                Response.ResponseBuilder builder = result != null ? Response.ok(result) : Response.noContent();
+                Produces produces = _method.getAnnotation(Produces.class);
+                if (produces == null) {
+                    produces = _method.getDeclaringClass().getAnnotation(Produces.class);
+                }
+                if (result != null && produces != null && produces.value().length > 0) {
+                    builder.type(produces.value()[0]);
+                }
+                _asyncResponse.setResponse(builder.build());
+            }
+        }
+
+        @Override
+        @SuppressWarnings({"unchecked", "rawtypes"})
+        public void onFailure(Exception e) {
+            if (e instanceof WebApplicationException) {
+                _asyncResponse.setResponse(((WebApplicationException)e).getResponse());
+                return;
+            }
+            ExceptionMapper mapper = _providerFactory.getExceptionMapper(e.getClass());
+            if (mapper != null) {
+                _asyncResponse.setResponse(mapper.toResponse(e));
+            } else {
+                _asyncResponse.setResponse(Response.serverError().build());
+            }
+        }
+    }
+
     /**
      * Trace log header keys and values.
      * @param logger The Logger
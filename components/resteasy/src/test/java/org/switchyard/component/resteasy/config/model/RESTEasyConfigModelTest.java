@@ -34,6 +34,7 @@ public class RESTEasyConfigModelTest {
     private static final String REST_BINDING_PROXY = "rest-binding-proxy.xml";
     private static final String REST_BINDING_CONTEXT_PARAMS = "rest-binding-context-params.xml";
     private static final String REST_BINDING_SSL_CONTEXT = "rest-binding-ssl-context.xml";
+    private static final String REST_BINDING_ASYNC = "rest-binding-async.xml";
 
     @Test
     public void testReadConfigBinding() throws Exception {
@@ -52,6 +53,17 @@ public class RESTEasyConfigModelTest {
         Assert.assertEquals(new Integer(5000), model.getTimeout());
     }
 
+    @Test
+    public void asyncBinding() throws Exception {
+        ModelPuller<RESTEasyBindingModel> puller = new ModelPuller<RESTEasyBindingModel>();
+        RESTEasyBindingModel model = puller.pull(REST_BINDING_ASYNC, getClass());
+        model.assertModelValid();
+        Assert.assertEquals("rest-binding", model.getContextPath());
+        Assert.assertEquals(Long.valueOf(30000), model.getAsyncTimeout());
+        model = puller.pull(REST_BINDING, getClass());
+        Assert.assertNull(model.getAsyncTimeout());
+    }
+
     @Test
     public void authBinding() throws Exception {
         ModelPuller<RESTEasyBindingModel> puller = new ModelPuller<RESTEasyBindingModel>();
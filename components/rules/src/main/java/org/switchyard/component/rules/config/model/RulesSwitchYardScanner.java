@@ -15,7 +15,6 @@ package org.switchyard.component.rules.config.model;
 
 import java.io.IOException;
 import java.lang.reflect.Method;
-import java.net.URL;
 import java.util.List;
 
 import org.switchyard.common.lang.Strings;
@@ -78,9 +77,7 @@ public class RulesSwitchYardScanner extends KnowledgeSwitchYardScanner {
         CompositeModel compositeModel = new V1CompositeModel();
         compositeModel.setName(input.getCompositeName());
         ClasspathScanner rulesScanner = new ClasspathScanner(_rulesFilter);
-        for (URL url : input.getURLs()) {
-            rulesScanner.scan(url);
-        }
+        rulesScanner.scan(input.getURLs());
         List<Class<?>> rulesClasses = _rulesFilter.getMatchedTypes();
         for (Class<?> rulesClass : rulesClasses) {
             compositeModel.addComponent(scan(rulesClass, switchyardNamespace));
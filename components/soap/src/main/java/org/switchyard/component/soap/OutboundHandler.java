@@ -60,6 +60,7 @@ import org.switchyard.component.soap.util.SOAPUtil;
 import org.switchyard.component.soap.util.WSDLUtil;
 import org.switchyard.deploy.BaseServiceHandler;
 import org.switchyard.label.BehaviorLabel;
+import org.switchyard.metadata.qos.Deadline;
 import org.switchyard.runtime.event.ExchangeCompletionEvent;
 
 /**
@@ -267,6 +268,16 @@ public class OutboundHandler extends BaseServiceHandler {
             if (LOGGER.isTraceEnabled()) {
                 LOGGER.trace("Outbound ---> Request:[" + _referenceName + "][" + SOAPUtil.soapMessageToString(request.getSOAPMessage()) + "]" + (oneWay ? " oneWay " : ""));
             }
+            // never wait past the deadline of the exchange; the request context is per thread
+            Long remaining = Deadline.getRemaining(exchange);
+            if (remaining != null) {
+                Integer timeout = Deadline.capTimeout(exchange, _config.getTimeout());
+                _dispatcher.getRequestContext().put(org.apache.cxf.message.Message.CONNECTION_TIMEOUT, timeout);
+                _dispatcher.getRequestContext().put(org.apache.cxf.message.Message.RECEIVE_TIMEOUT, timeout);
+            } else {
+                _dispatcher.getRequestContext().remove(org.apache.cxf.message.Message.CONNECTION_TIMEOUT);
+                _dispatcher.getRequestContext().remove(org.apache.cxf.message.Message.RECEIVE_TIMEOUT);
+            }
             SOAPMessage response = invokeService(request, oneWay, action);
             if (LOGGER.isTraceEnabled()) {
                 LOGGER.trace("Outbound <--- Response:[" + _referenceName + "][" + SOAPUtil.soapMessageToString(response) + "]");
@@ -14,6 +14,8 @@
  
 package org.switchyard.component.soap.util;
 
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
 import java.io.File;
 import java.io.IOException;
 import java.io.InputStream;
@@ -49,6 +51,7 @@ import javax.wsdl.extensions.soap12.SOAP12Address;
 import javax.wsdl.extensions.soap12.SOAP12Binding;
 import javax.wsdl.extensions.soap12.SOAP12Operation;
 import javax.wsdl.factory.WSDLFactory;
+import javax.wsdl.xml.WSDLLocator;
 import javax.wsdl.xml.WSDLReader;
 import javax.xml.XMLConstants;
 import javax.xml.namespace.QName;
@@ -63,6 +66,7 @@ import org.switchyard.common.xml.XMLHelper;
 import org.switchyard.component.soap.Feature;
 import org.switchyard.component.soap.PortName;
 import org.switchyard.component.soap.SOAPMessages;
+import org.switchyard.extensions.wsdl.WSDLCache;
 import org.w3c.dom.Document;
 import org.w3c.dom.Element;
 import org.w3c.dom.Node;
@@ -130,38 +134,113 @@ public final class WSDLUtil {
     private static final QName WSDL_MTOM_QNAME = new QName(WS_MTOM_URI, ELE_MTOM);
     private static final QName MTOM_EXPT_QNAME = new QName(WSDL_XMIME_URI, ATTR_EXP_CT);
 
+    private static final String DOCUMENT_KEY = "document";
+
     private WSDLUtil() {
     }
 
     /**
-     * Read the WSDL document and create a WSDL Definition.
+     * Read the WSDL document and create a WSDL Definition.  The raw bytes of
+     * the WSDL document and of the documents it imports are shared through
+     * the {@link WSDLCache}, but every call returns a new Definition, so
+     * callers are free to modify it.
      *
      * @param wsdlLocation location pointing to a WSDL XML definition.
      * @return the Definition.
      * @throws WSDLException If unable to read the WSDL
      */
     public static Definition readWSDL(final String wsdlLocation) throws WSDLException {
-        InputStream inputStream = null;
         try {
             URL url = getURL(wsdlLocation);
-            inputStream = url.openStream();
-            InputSource source = new InputSource(inputStream);
-            source.setSystemId(url.toString());
-            Document wsdlDoc = XMLHelper.getDocument(source);
+            CachingLocator locator = new CachingLocator(url);
+            Document wsdlDoc = XMLHelper.getDocument(locator.getBaseInputSource());
             WSDLFactory wsdlFactory = WSDLFactory.newInstance();
             WSDLReader reader = wsdlFactory.newWSDLReader();
             reader.setFeature("javax.wsdl.verbose", false);
-            return reader.readWSDL(url.toString(), wsdlDoc);
+            return reader.readWSDL(locator, wsdlDoc.getDocumentElement());
         } catch (Exception e) {
             throw new WSDLException(WSDLException.OTHER_ERROR,
                     SOAPMessages.MESSAGES.unableToReadWSDL(wsdlLocation), e);
+        }
+    }
+
+    private static byte[] getDocumentBytes(final URL url) throws IOException {
+        byte[] bytes = WSDLCache.get(url, DOCUMENT_KEY, byte[].class);
+        if (bytes != null) {
+            return bytes;
+        }
+        InputStream inputStream = url.openStream();
+        try {
+            ByteArrayOutputStream outputStream = new ByteArrayOutputStream();
+            byte[] buffer = new byte[4096];
+            int read;
+            while ((read = inputStream.read(buffer)) != -1) {
+                outputStream.write(buffer, 0, read);
+            }
+            bytes = outputStream.toByteArray();
         } finally {
-            if (inputStream != null) {
-                try {
-                    inputStream.close();
-                } catch (IOException ioe) {
-                    LOGGER.error(ioe);
-                }
+            try {
+                inputStream.close();
+            } catch (IOException ioe) {
+                LOGGER.error(ioe);
+            }
+        }
+        WSDLCache.put(url, DOCUMENT_KEY, bytes);
+        return bytes;
+    }
+
+    /**
+     * Resolves the WSDL document and its imports, WSDL and schema alike,
+     * from the bytes held in the WSDLCache.  The cached bytes are only ever
+     * read, never handed out.
+     */
+    private static final class CachingLocator implements WSDLLocator {
+        private final URL _baseURL;
+        private String _latestImportURI;
+
+        private CachingLocator(URL baseURL) {
+            _baseURL = baseURL;
+        }
+
+        @Override
+        public InputSource getBaseInputSource() {
+            return getInputSource(_baseURL);
+        }
+
+        @Override
+        public InputSource getImportInputSource(String parentLocation, String importLocation) {
+            try {
+                URL url = parentLocation != null ? new URL(new URL(parentLocation), importLocation) : getURL(importLocation);
+                _latestImportURI = url.toString();
+                return getInputSource(url);
+            } catch (MalformedURLException mue) {
+                LOGGER.debug(mue);
+                return null;
+            }
+        }
+
+        @Override
+        public String getBaseURI() {
+            return _baseURL.toString();
+        }
+
+        @Override
+        public String getLatestImportURI() {
+            return _latestImportURI;
+        }
+
+        @Override
+        public void close() {
+        }
+
+        private InputSource getInputSource(URL url) {
+            try {
+                InputSource source = new InputSource(new ByteArrayInputStream(getDocumentBytes(url)));
+                source.setSystemId(url.toString());
+                return source;
+            } catch (IOException ioe) {
+                LOGGER.debug(ioe);
+                return null;
             }
         }
     }
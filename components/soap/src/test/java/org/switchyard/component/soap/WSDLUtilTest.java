@@ -198,6 +198,15 @@ public class WSDLUtilTest {
         Assert.assertNotNull(service);
     }
 
+    @Test
+    public void importedWSDLIsReadPerCall() throws Exception {
+        Definition first = WSDLUtil.readWSDL("HelloWebServiceImport.wsdl");
+        Definition second = WSDLUtil.readWSDL("HelloWebServiceImport.wsdl");
+        Assert.assertNotSame(first, second);
+        Assert.assertEquals(first.getImports().keySet(), second.getImports().keySet());
+        Assert.assertNotNull(WSDLUtil.getService(second, new PortName("HelloWebService:")));
+    }
+
     @Test
     public void soapMtomImportTypes() throws Exception {
         // Document policy ref
@@ -20,10 +20,13 @@ import java.io.InputStream;
 import java.io.InputStreamReader;
 import java.io.ObjectInputStream;
 import java.io.Reader;
+import java.io.Serializable;
 import java.io.StringWriter;
 import java.io.Writer;
+import java.util.ArrayList;
 import java.util.Collection;
 import java.util.HashMap;
+import java.util.List;
 import java.util.Map;
 
 import javax.jms.BytesMessage;
@@ -59,6 +62,7 @@ import org.hornetq.jms.client.HornetQConnectionFactory;
 import org.hornetq.jms.client.HornetQQueue;
 import org.hornetq.jms.client.HornetQTopic;
 import org.hornetq.jms.server.embedded.EmbeddedJMS;
+import org.switchyard.test.LoadTask;
 import org.switchyard.test.MixInDependencies;
 import org.switchyard.test.mixins.AbstractTestMixIn;
 import org.switchyard.component.test.mixins.naming.NamingMixIn;
@@ -93,6 +97,7 @@ public class HornetQMixIn extends AbstractTestMixIn {
     private HornetQConnectionFactory _jmsConnectionFactory;
     private Connection _jmsConnection;
     private Session _jmsSession;
+    private final List<Session> _loadSessions = new ArrayList<Session>();
 
     /**
      * Default constructor.
@@ -229,6 +234,12 @@ public class HornetQMixIn extends AbstractTestMixIn {
             HornetQMixIn.closeServerLocator(_serverLocator);
             
             HornetQMixIn.closeJMSSession(_jmsSession);
+            synchronized (_loadSessions) {
+                for (Session session : _loadSessions) {
+                    HornetQMixIn.closeJMSSession(session);
+                }
+                _loadSessions.clear();
+            }
             HornetQMixIn.closeJMSConnection(_jmsConnection);
             HornetQMixIn.closeJMSConnectionFactory(_jmsConnectionFactory);
             
@@ -394,6 +405,38 @@ public class HornetQMixIn extends AbstractTestMixIn {
         }
     }
     
+    /**
+     * Creates a {@link LoadTask} sending its payloads as JMS {@link ObjectMessage}s to
+     * the passed-in queue, for use with {@link org.switchyard.test.SwitchYardTestKit#newLoadDriver()}.
+     * Every load thread sends through a session of its own.
+     * 
+     * @param queueName core queue name
+     * @return the load task
+     */
+    public LoadTask newLoadTask(final String queueName) {
+        // opens the connection the load sessions are created from
+        getJMSSession();
+        final ThreadLocal<MessageProducer> producers = new ThreadLocal<MessageProducer>();
+        final ThreadLocal<Session> sessions = new ThreadLocal<Session>();
+        return new LoadTask() {
+            @Override
+            public void execute(Object payload) throws Exception {
+                Session session = sessions.get();
+                MessageProducer producer = producers.get();
+                if (session == null) {
+                    session = _jmsConnection.createSession(false, Session.AUTO_ACKNOWLEDGE);
+                    synchronized (_loadSessions) {
+                        _loadSessions.add(session);
+                    }
+                    producer = session.createProducer(getJMSQueue(queueName));
+                    sessions.set(session);
+                    producers.set(producer);
+                }
+                producer.send(session.createObjectMessage((Serializable)payload));
+            }
+        };
+    }
+
     /**
      * Creates a JMS {@link ObjectMessage} with the passed-in String as the body.
      * 
@@ -44,6 +44,7 @@ import org.apache.http.message.BasicHeader;
 import org.apache.http.util.EntityUtils;
 import org.apache.log4j.Logger;
 import org.junit.Assert;
+import org.switchyard.test.LoadTask;
 import org.switchyard.test.SwitchYardTestKit;
 import org.switchyard.test.mixins.AbstractTestMixIn;
 
@@ -86,6 +87,11 @@ public class HTTPMixIn extends AbstractTestMixIn {
      */
     public static final String HTTP_OPTIONS = "OPTIONS";
 
+    /**
+     * Connections kept per route, enough for the threads of a load test.
+     */
+    private static final int MAX_CONNECTIONS = 64;
+
     private HttpClient _httpClient;
     private String _contentType = "text/xml";
     private HashMap<String,String> _requestHeaders = new HashMap<String,String>();
@@ -125,7 +131,8 @@ public class HTTPMixIn extends AbstractTestMixIn {
 
     @Override
     public void initialize() {
-        _httpClient = HttpClientBuilder.create().setSslcontext(_sslContext).build();
+        _httpClient = HttpClientBuilder.create().setSslcontext(_sslContext)
+                .setMaxConnPerRoute(MAX_CONNECTIONS).setMaxConnTotal(MAX_CONNECTIONS).build();
     }
 
     /**
@@ -201,6 +208,26 @@ public class HTTPMixIn extends AbstractTestMixIn {
         return response;
     }
 
+    /**
+     * Create a {@link LoadTask} sending its payloads to the specified HTTP endpoint, for use
+     * with {@link SwitchYardTestKit#newLoadDriver()}.  Responses with an error status count
+     * as failed requests.
+     * @param endpointURL The HTTP endpoint URL.
+     * @param method The request method.
+     * @return The load task.
+     */
+    public LoadTask newLoadTask(final String endpointURL, final String method) {
+        return new LoadTask() {
+            @Override
+            public void execute(Object payload) throws Exception {
+                int status = sendStringAndGetStatus(endpointURL, payload != null ? payload.toString() : "", method);
+                if (status >= 400) {
+                    throw new IOException("HTTP " + method + " to '" + endpointURL + "' returned status " + status);
+                }
+            }
+        };
+    }
+
     /**
      * POST the specified request payload to the specified HTTP endpoint.
      * @param endpointURL The HTTP endpoint URL.
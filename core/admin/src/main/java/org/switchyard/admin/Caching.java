@@ -0,0 +1,73 @@
+/*
+ * Copyright 2013 Red Hat Inc. and/or its affiliates and other contributors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * http://www.apache.org/licenses/LICENSE-2.0
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,  
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.switchyard.admin;
+
+/**
+ * Caching
+ * <p/>
+ * Response cache details associated with a management object.
+ */
+public interface Caching {
+
+    /**
+     * @return true if replies are cached.
+     */
+    boolean isEnabled();
+
+    /**
+     * @return the maximum number of cached replies.
+     */
+    int getMaxEntries();
+
+    /**
+     * @return the time, in milliseconds, a cached reply stays valid; zero
+     *         or less if replies never expire.
+     */
+    long getTimeToLive();
+
+    /**
+     * @return the number of replies currently held in the cache.
+     */
+    int getSize();
+
+    /**
+     * @return the number of requests answered from the cache.
+     */
+    long getHitCount();
+
+    /**
+     * @return the number of requests passed on to the provider.
+     */
+    long getMissCount();
+
+    /**
+     * @return the number of replies evicted to make room for new ones.
+     */
+    long getEvictionCount();
+
+    /**
+     * @return the number of replies dropped because they expired.
+     */
+    long getExpirationCount();
+
+    /**
+     * Remove all cached replies.
+     */
+    void clear();
+
+    /**
+     * Reset the cache statistics.
+     */
+    void resetStatistics();
+}
@@ -0,0 +1,62 @@
+/*
+ * Copyright 2013 Red Hat Inc. and/or its affiliates and other contributors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * http://www.apache.org/licenses/LICENSE-2.0
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,  
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.switchyard.admin;
+
+/**
+ * CircuitBreaker
+ * <p/>
+ * Circuit breaker details associated with a management object.
+ */
+public interface CircuitBreaker {
+
+    /**
+     * @return true if calls are guarded by a circuit breaker.
+     */
+    boolean isEnabled();
+
+    /**
+     * @return the state of the circuit: CLOSED, OPEN or HALF_OPEN.
+     */
+    String getState();
+
+    /**
+     * @return the failure rate, in percent, over the calls in the window.
+     */
+    float getFailureRate();
+
+    /**
+     * @return the slow call rate, in percent, over the calls in the window.
+     */
+    float getSlowCallRate();
+
+    /**
+     * @return the number of calls in the window.
+     */
+    int getCallCount();
+
+    /**
+     * @return the number of calls rejected while the circuit was not closed.
+     */
+    long getRejectedCount();
+
+    /**
+     * @return the number of times the circuit opened.
+     */
+    long getOpenCount();
+
+    /**
+     * Close the circuit and clear the recorded calls.
+     */
+    void reset();
+}
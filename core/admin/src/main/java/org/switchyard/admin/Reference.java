@@ -67,4 +67,14 @@ public interface Reference extends MessageMetricsAware {
      * @return the named gateway
      */
     Binding getGateway(String gatewayName);
+
+    /**
+     * @return response cache details associated with this reference.
+     */
+    Caching getCaching();
+
+    /**
+     * @return circuit breaker details associated with this reference.
+     */
+    CircuitBreaker getCircuitBreaker();
 }
@@ -60,4 +60,14 @@ public interface Service extends MessageMetricsAware {
      * @return throttling details associated with this service.
      */
     Throttling getThrottling();
+
+    /**
+     * @return response cache details associated with this service.
+     */
+    Caching getCaching();
+
+    /**
+     * @return per-stage latency details associated with this service.
+     */
+    PipelineTiming getPipelineTiming();
 }
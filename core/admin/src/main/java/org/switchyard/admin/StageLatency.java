@@ -0,0 +1,58 @@
+/*
+ * Copyright 2013 Red Hat Inc. and/or its affiliates and other contributors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * http://www.apache.org/licenses/LICENSE-2.0
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,  
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.switchyard.admin;
+
+/**
+ * StageLatency
+ * <p/>
+ * Latency details of a single exchange bus stage.  All times are in
+ * nanoseconds; percentiles are estimates within 25% of the recorded value.
+ */
+public interface StageLatency {
+
+    /**
+     * @return the name of the stage.
+     */
+    String getStage();
+
+    /**
+     * @return the exchange phase the stage runs in, IN or OUT.
+     */
+    String getPhase();
+
+    /**
+     * @return the number of times the stage ran.
+     */
+    long getCount();
+
+    /**
+     * @return the mean time spent in the stage.
+     */
+    long getMeanTime();
+
+    /**
+     * @return the median time spent in the stage.
+     */
+    long getMedianTime();
+
+    /**
+     * @return the 99th percentile of the time spent in the stage.
+     */
+    long getP99Time();
+
+    /**
+     * @return the longest time spent in the stage.
+     */
+    long getMaxTime();
+}
@@ -58,4 +58,43 @@ public interface Throttling {
      * @param maxRequests maxRequests; null for no change.
      */
     void update(Boolean enabled, Integer maxRequests);
+
+    /**
+     * @return the maximum number of exchanges in flight, zero if concurrency
+     *         is not limited.
+     */
+    int getMaxConcurrent();
+
+    /**
+     * @param maxConcurrent the maximum number of exchanges in flight; zero
+     *            removes the limit.
+     */
+    void setMaxConcurrent(int maxConcurrent);
+
+    /**
+     * @return the current concurrency limit, which differs from the maximum
+     *         if the limit is adaptive.
+     */
+    int getConcurrencyLimit();
+
+    /**
+     * @return the number of exchanges in flight.
+     */
+    int getInFlightCount();
+
+    /**
+     * @return the number of exchanges rejected because the concurrency limit
+     *         was reached.
+     */
+    long getRejectedCount();
+
+    /**
+     * Update the throttling details.
+     * 
+     * @param enabled true to enable, false to disable, null for no change.
+     * @param maxRequests maxRequests; null for no change.
+     * @param maxConcurrent maxConcurrent; zero removes the limit, null for no
+     *            change.
+     */
+    void update(Boolean enabled, Integer maxRequests, Integer maxConcurrent);
 }
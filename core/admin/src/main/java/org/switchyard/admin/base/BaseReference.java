@@ -27,6 +27,8 @@ import javax.xml.namespace.QName;
 import org.switchyard.Exchange;
 import org.switchyard.admin.Application;
 import org.switchyard.admin.Binding;
+import org.switchyard.admin.Caching;
+import org.switchyard.admin.CircuitBreaker;
 import org.switchyard.admin.Reference;
 import org.switchyard.admin.ServiceOperation;
 import org.switchyard.common.type.Classes;
@@ -50,6 +52,8 @@ public class BaseReference extends BaseMessageMetricsAware implements Reference
     private String _promotedReference;
     private Map<String, Binding> _gateways = new LinkedHashMap<String, Binding>();
     private List<ServiceOperation> _operations = new LinkedList<ServiceOperation>();;
+    private Caching _caching;
+    private CircuitBreaker _circuitBreaker;
     
     /**
      * Create a new BaseReference.
@@ -71,6 +75,8 @@ public class BaseReference extends BaseMessageMetricsAware implements Reference
         _application = application;
         _promotedReference = reference;
         _gateways = gateways;
+        _caching = new ResponseCaching(application, name, null);
+        _circuitBreaker = new ReferenceCircuitBreaker(application, name, null);
     }
     
     /**
@@ -100,6 +106,8 @@ public class BaseReference extends BaseMessageMetricsAware implements Reference
         for (org.switchyard.metadata.ServiceOperation so : getInterfaceOperations(referenceConfig.getInterface())) {
             _operations.add(new BaseServiceOperation(so.getName(), so.getExchangePattern().name(), so.getInputType(), so.getOutputType(), so.getFaultType()));
         }
+        _caching = new ResponseCaching(application, _name, referenceConfig.getExtensions());
+        _circuitBreaker = new ReferenceCircuitBreaker(application, _name, referenceConfig.getExtensions());
     }
 
     private Collection<org.switchyard.metadata.ServiceOperation> getInterfaceOperations(InterfaceModel interfaceModel) {
@@ -147,6 +155,16 @@ public class BaseReference extends BaseMessageMetricsAware implements Reference
         return _referenceInterface;
     }
 
+    @Override
+    public Caching getCaching() {
+        return _caching;
+    }
+
+    @Override
+    public CircuitBreaker getCircuitBreaker() {
+        return _circuitBreaker;
+    }
+
     @Override
     public QName getName() {
         return _name;
@@ -24,8 +24,10 @@ import javax.xml.namespace.QName;
 import org.switchyard.Exchange;
 import org.switchyard.admin.Application;
 import org.switchyard.admin.Binding;
+import org.switchyard.admin.Caching;
 import org.switchyard.admin.ComponentService;
 import org.switchyard.admin.MessageMetrics;
+import org.switchyard.admin.PipelineTiming;
 import org.switchyard.admin.Service;
 import org.switchyard.admin.Throttling;
 import org.switchyard.config.model.composite.BindingModel;
@@ -44,6 +46,8 @@ public class BaseService implements Service {
     private ComponentService _promotedService;
     private Map<String, Binding> _gateways = new LinkedHashMap<String, Binding>();
     private Throttling _throttling;
+    private Caching _caching;
+    private PipelineTiming _pipelineTiming;
     
     /**
      * Create a new BaseService.
@@ -66,6 +70,8 @@ public class BaseService implements Service {
         _promotedService = implementation;
         _gateways = gateways;
         _throttling = new ServiceThrottling(this, null);
+        _caching = new ResponseCaching(application, name, null);
+        _pipelineTiming = new ServicePipelineTiming(application, name);
     }
     
     /**
@@ -92,6 +98,8 @@ public class BaseService implements Service {
             _gateways.put(name, new BaseBinding(_application, _name, bindingModel.getType(), name, bindingModel.toString()));
         }
         _throttling = new ServiceThrottling(this, serviceConfig.getExtensions());
+        _caching = new ResponseCaching(application, _name, serviceConfig.getExtensions());
+        _pipelineTiming = new ServicePipelineTiming(application, _name);
     }
     
     @Override
@@ -132,6 +140,16 @@ public class BaseService implements Service {
         return _throttling;
     }
 
+    @Override
+    public Caching getCaching() {
+        return _caching;
+    }
+
+    @Override
+    public PipelineTiming getPipelineTiming() {
+        return _pipelineTiming;
+    }
+
     private ComponentService getPromotedService(Application application, CompositeServiceModel compositeService) {
         ComponentServiceModel componentServiceModel = compositeService.getComponentService();
         if (componentServiceModel == null) {
@@ -0,0 +1,104 @@
+/*
+ * Copyright 2013 Red Hat Inc. and/or its affiliates and other contributors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * http://www.apache.org/licenses/LICENSE-2.0
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,  
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.switchyard.admin.base;
+
+import javax.xml.namespace.QName;
+
+import org.switchyard.ServiceDomain;
+import org.switchyard.admin.CircuitBreaker;
+import org.switchyard.config.model.composite.ExtensionsModel;
+import org.switchyard.runtime.qos.Circuit;
+import org.switchyard.runtime.qos.CircuitBreakerRegistry;
+
+/**
+ * ReferenceCircuitBreaker
+ * <p/>
+ * Circuit breaker details for Reference objects.
+ */
+public class ReferenceCircuitBreaker implements CircuitBreaker {
+
+    private final BaseApplication _application;
+    private final QName _name;
+    private final boolean _enabled;
+
+    /**
+     * Create a new ReferenceCircuitBreaker.
+     * 
+     * @param application the application containing the reference
+     * @param name the name of the reference
+     * @param extensions configuration details
+     */
+    public ReferenceCircuitBreaker(final BaseApplication application, final QName name, final ExtensionsModel extensions) {
+        _application = application;
+        _name = name;
+        _enabled = extensions != null && extensions.getCircuitBreaker() != null;
+    }
+
+    @Override
+    public boolean isEnabled() {
+        return _enabled;
+    }
+
+    @Override
+    public String getState() {
+        final Circuit circuit = getCircuit();
+        return circuit == null ? Circuit.State.CLOSED.name() : circuit.getState().name();
+    }
+
+    @Override
+    public float getFailureRate() {
+        final Circuit circuit = getCircuit();
+        return circuit == null ? 0 : circuit.getFailureRate();
+    }
+
+    @Override
+    public float getSlowCallRate() {
+        final Circuit circuit = getCircuit();
+        return circuit == null ? 0 : circuit.getSlowCallRate();
+    }
+
+    @Override
+    public int getCallCount() {
+        final Circuit circuit = getCircuit();
+        return circuit == null ? 0 : circuit.getCallCount();
+    }
+
+    @Override
+    public long getRejectedCount() {
+        final Circuit circuit = getCircuit();
+        return circuit == null ? 0 : circuit.getRejectedCount();
+    }
+
+    @Override
+    public long getOpenCount() {
+        final Circuit circuit = getCircuit();
+        return circuit == null ? 0 : circuit.getOpenCount();
+    }
+
+    @Override
+    public void reset() {
+        final Circuit circuit = getCircuit();
+        if (circuit != null) {
+            circuit.reset();
+        }
+    }
+
+    private Circuit getCircuit() {
+        if (!_enabled || _application == null || _application.getDeployment() == null) {
+            return null;
+        }
+        final ServiceDomain domain = _application.getDeployment().getDomain();
+        return domain == null ? null : CircuitBreakerRegistry.getRegistry(domain).getCircuit(_name);
+    }
+}
@@ -0,0 +1,133 @@
+/*
+ * Copyright 2013 Red Hat Inc. and/or its affiliates and other contributors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * http://www.apache.org/licenses/LICENSE-2.0
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,  
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.switchyard.admin.base;
+
+import javax.xml.namespace.QName;
+
+import org.switchyard.ServiceDomain;
+import org.switchyard.admin.Caching;
+import org.switchyard.config.model.composite.ExtensionsModel;
+import org.switchyard.config.model.switchyard.CachingModel;
+import org.switchyard.runtime.qos.ResponseCache;
+import org.switchyard.runtime.qos.ResponseCacheRegistry;
+
+/**
+ * ResponseCaching
+ * <p/>
+ * Response cache details for Service and Reference objects.
+ */
+public class ResponseCaching implements Caching {
+
+    private final BaseApplication _application;
+    private final QName _name;
+    private boolean _enabled = false;
+    private int _maxEntries = org.switchyard.metadata.qos.Caching.DEFAULT_MAX_ENTRIES;
+    private long _timeToLive = org.switchyard.metadata.qos.Caching.DEFAULT_TIME_TO_LIVE;
+
+    /**
+     * Create a new ResponseCaching.
+     * 
+     * @param application the application containing the service or reference
+     * @param name the name of the service or reference
+     * @param extensions configuration details
+     */
+    public ResponseCaching(final BaseApplication application, final QName name, final ExtensionsModel extensions) {
+        _application = application;
+        _name = name;
+
+        if (extensions == null) {
+            return;
+        }
+        final CachingModel caching = extensions.getCaching();
+        if (caching == null) {
+            return;
+        }
+        _enabled = true;
+        if (caching.getMaxEntries() != null) {
+            _maxEntries = caching.getMaxEntries();
+        }
+        if (caching.getTimeToLive() != null) {
+            _timeToLive = caching.getTimeToLive();
+        }
+    }
+
+    @Override
+    public boolean isEnabled() {
+        return _enabled;
+    }
+
+    @Override
+    public int getMaxEntries() {
+        return _maxEntries;
+    }
+
+    @Override
+    public long getTimeToLive() {
+        return _timeToLive;
+    }
+
+    @Override
+    public int getSize() {
+        final ResponseCache cache = getCache();
+        return cache == null ? 0 : cache.size();
+    }
+
+    @Override
+    public long getHitCount() {
+        final ResponseCache cache = getCache();
+        return cache == null ? 0 : cache.getHitCount();
+    }
+
+    @Override
+    public long getMissCount() {
+        final ResponseCache cache = getCache();
+        return cache == null ? 0 : cache.getMissCount();
+    }
+
+    @Override
+    public long getEvictionCount() {
+        final ResponseCache cache = getCache();
+        return cache == null ? 0 : cache.getEvictionCount();
+    }
+
+    @Override
+    public long getExpirationCount() {
+        final ResponseCache cache = getCache();
+        return cache == null ? 0 : cache.getExpirationCount();
+    }
+
+    @Override
+    public void clear() {
+        final ResponseCache cache = getCache();
+        if (cache != null) {
+            cache.clear();
+        }
+    }
+
+    @Override
+    public void resetStatistics() {
+        final ResponseCache cache = getCache();
+        if (cache != null) {
+            cache.resetStatistics();
+        }
+    }
+
+    private ResponseCache getCache() {
+        if (!_enabled || _application == null || _application.getDeployment() == null) {
+            return null;
+        }
+        final ServiceDomain domain = _application.getDeployment().getDomain();
+        return domain == null ? null : ResponseCacheRegistry.getRegistry(domain).getCache(_name);
+    }
+}
@@ -0,0 +1,156 @@
+/*
+ * Copyright 2013 Red Hat Inc. and/or its affiliates and other contributors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * http://www.apache.org/licenses/LICENSE-2.0
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,  
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.switchyard.admin.base;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+
+import javax.xml.namespace.QName;
+
+import org.switchyard.ServiceDomain;
+import org.switchyard.admin.PipelineTiming;
+import org.switchyard.admin.StageLatency;
+import org.switchyard.runtime.timing.LatencyHistogram;
+import org.switchyard.runtime.timing.StageTimingRegistry;
+import org.switchyard.runtime.timing.StageTimings;
+
+/**
+ * ServicePipelineTiming
+ * <p/>
+ * Per-stage latency details for Service objects.
+ */
+public class ServicePipelineTiming implements PipelineTiming {
+
+    private final BaseApplication _application;
+    private final QName _name;
+
+    /**
+     * Create a new ServicePipelineTiming.
+     * 
+     * @param application the application containing the service
+     * @param name the name of the service
+     */
+    public ServicePipelineTiming(final BaseApplication application, final QName name) {
+        _application = application;
+        _name = name;
+    }
+
+    @Override
+    public boolean isEnabled() {
+        final StageTimingRegistry registry = getRegistry();
+        return registry != null && registry.isEnabled();
+    }
+
+    @Override
+    public void enable() {
+        final StageTimingRegistry registry = getRegistry();
+        if (registry != null) {
+            registry.setEnabled(true);
+        }
+    }
+
+    @Override
+    public void disable() {
+        final StageTimingRegistry registry = getRegistry();
+        if (registry != null) {
+            registry.setEnabled(false);
+        }
+    }
+
+    @Override
+    public List<StageLatency> getStages() {
+        final StageTimingRegistry registry = getRegistry();
+        if (registry == null) {
+            return Collections.emptyList();
+        }
+        final List<StageLatency> stages = new ArrayList<StageLatency>();
+        for (StageTimings.Stage stage : registry.getTimings(_name).getStages()) {
+            stages.add(new Latency(stage));
+        }
+        return stages;
+    }
+
+    @Override
+    public void reset() {
+        final StageTimingRegistry registry = getRegistry();
+        if (registry != null) {
+            registry.getTimings(_name).reset();
+        }
+    }
+
+    private StageTimingRegistry getRegistry() {
+        if (_application == null || _application.getDeployment() == null) {
+            return null;
+        }
+        final ServiceDomain domain = _application.getDeployment().getDomain();
+        return domain == null ? null : StageTimingRegistry.getRegistry(domain);
+    }
+
+    private static final class Latency implements StageLatency {
+        private final String _stage;
+        private final String _phase;
+        private final long _count;
+        private final long _meanTime;
+        private final long _medianTime;
+        private final long _p99Time;
+        private final long _maxTime;
+
+        private Latency(StageTimings.Stage stage) {
+            final LatencyHistogram histogram = stage.getHistogram();
+            _stage = stage.getName();
+            _phase = stage.getPhase().toString();
+            _count = histogram.getCount();
+            _meanTime = histogram.getMean();
+            _medianTime = histogram.getValueAtPercentile(50);
+            _p99Time = histogram.getValueAtPercentile(99);
+            _maxTime = histogram.getMax();
+        }
+
+        @Override
+        public String getStage() {
+            return _stage;
+        }
+
+        @Override
+        public String getPhase() {
+            return _phase;
+        }
+
+        @Override
+        public long getCount() {
+            return _count;
+        }
+
+        @Override
+        public long getMeanTime() {
+            return _meanTime;
+        }
+
+        @Override
+        public long getMedianTime() {
+            return _medianTime;
+        }
+
+        @Override
+        public long getP99Time() {
+            return _p99Time;
+        }
+
+        @Override
+        public long getMaxTime() {
+            return _maxTime;
+        }
+    }
+}
@@ -18,6 +18,9 @@ import org.switchyard.admin.Throttling;
 import org.switchyard.config.model.composite.ExtensionsModel;
 import org.switchyard.config.model.switchyard.ThrottlingModel;
 import org.switchyard.metadata.ServiceMetadataBuilder;
+import org.switchyard.metadata.qos.Bulkhead;
+import org.switchyard.runtime.qos.BulkheadRegistry;
+import org.switchyard.runtime.qos.ConcurrencyLimiter;
 
 /**
  * ServiceThrottling
@@ -103,6 +106,76 @@ public class ServiceThrottling implements Throttling {
         }
     }
 
+    @Override
+    public int getMaxConcurrent() {
+        final Bulkhead bulkhead = getBulkhead();
+        return bulkhead == null ? 0 : bulkhead.getMaxConcurrent();
+    }
+
+    @Override
+    public void setMaxConcurrent(int maxConcurrent) {
+        update(null, null, maxConcurrent);
+    }
+
+    @Override
+    public int getConcurrencyLimit() {
+        final ConcurrencyLimiter limiter = getLimiter();
+        return limiter == null ? getMaxConcurrent() : limiter.getLimit();
+    }
+
+    @Override
+    public int getInFlightCount() {
+        final ConcurrencyLimiter limiter = getLimiter();
+        return limiter == null ? 0 : limiter.getInFlight();
+    }
+
+    @Override
+    public long getRejectedCount() {
+        final ConcurrencyLimiter limiter = getLimiter();
+        return limiter == null ? 0 : limiter.getRejectedCount();
+    }
+
+    @Override
+    public void update(Boolean enabled, Integer maxRequests, Integer maxConcurrent) {
+        update(enabled, maxRequests);
+        if (maxConcurrent != null && maxConcurrent != getMaxConcurrent()) {
+            updateBulkhead(maxConcurrent);
+        }
+    }
+
+    private void updateBulkhead(int maxConcurrent) {
+        final ServiceReference serviceReference = getServiceReference();
+        final Bulkhead current = serviceReference.getServiceMetadata().getBulkhead();
+        final Bulkhead bulkhead;
+        if (maxConcurrent > 0) {
+            // keep the queue and limit settings from the configuration
+            bulkhead = (current == null ? new Bulkhead() : current.copy()).setMaxConcurrent(maxConcurrent);
+        } else {
+            bulkhead = null;
+        }
+        ServiceMetadataBuilder.update(serviceReference.getServiceMetadata()).bulkhead(bulkhead);
+        final ConcurrencyLimiter limiter = getLimiter();
+        if (limiter != null && bulkhead != null) {
+            // apply right away, so the current limit reflects the change
+            limiter.configure(bulkhead);
+        }
+    }
+
+    private Bulkhead getBulkhead() {
+        final ServiceReference serviceReference = getServiceReference();
+        return serviceReference == null ? null : serviceReference.getServiceMetadata().getBulkhead();
+    }
+
+    private ConcurrencyLimiter getLimiter() {
+        final BaseApplication application = (BaseApplication) _service.getApplication();
+        return BulkheadRegistry.getRegistry(application.getDeployment().getDomain()).getLimiter(_service.getName());
+    }
+
+    private ServiceReference getServiceReference() {
+        final BaseApplication application = (BaseApplication) _service.getApplication();
+        return application.getDeployment().getDomain().getServiceReference(_service.getName());
+    }
+
     private void updateThrottler() {
         final org.switchyard.metadata.qos.Throttling throttling;
         if (_enabled) {
@@ -112,8 +185,6 @@ public class ServiceThrottling implements Throttling {
         } else {
             throttling = null;
         }
-        final BaseApplication application = (BaseApplication) _service.getApplication();
-        final ServiceReference serviceReference = application.getDeployment().getDomain().getServiceReference(_service.getName());
-        ServiceMetadataBuilder.update(serviceReference.getServiceMetadata()).throttling(throttling);
+        ServiceMetadataBuilder.update(getServiceReference().getServiceMetadata()).throttling(throttling);
     }
 }
@@ -0,0 +1,51 @@
+/*
+ * Copyright 2013 Red Hat Inc. and/or its affiliates and other contributors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * http://www.apache.org/licenses/LICENSE-2.0
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,  
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.switchyard.admin.mbean;
+
+import java.util.List;
+
+import org.switchyard.admin.StageLatency;
+
+/**
+ * PipelineTimingMXBean
+ * <p/>
+ * Management interface for the per-stage latency of a service.
+ */
+public interface PipelineTimingMXBean {
+
+    /**
+     * @return true if stage latencies are recorded for the domain.
+     */
+    boolean isEnabled();
+
+    /**
+     * Start recording stage latencies for every service in the domain.
+     */
+    void enable();
+
+    /**
+     * Stop recording stage latencies for every service in the domain.
+     */
+    void disable();
+
+    /**
+     * @return latency details of the stages seen so far, in pipeline order.
+     */
+    List<StageLatency> getStages();
+
+    /**
+     * Clear the recorded stage latencies.
+     */
+    void reset();
+}
@@ -50,4 +50,14 @@ public interface ReferenceMXBean extends MessageMetricsMXBean {
      * @return the application which exports this reference.
      */
     ApplicationMXBean getApplication();
+
+    /**
+     * @return response cache details associated with this reference.
+     */
+    CachingMXBean getCaching();
+
+    /**
+     * @return circuit breaker details associated with this reference.
+     */
+    CircuitBreakerMXBean getCircuitBreaker();
 }
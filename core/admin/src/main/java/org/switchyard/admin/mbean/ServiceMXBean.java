@@ -55,4 +55,14 @@ public interface ServiceMXBean {
      * @return throttling details associated with this service.
      */
     ThrottlingMXBean getThrottling();
+
+    /**
+     * @return response cache details associated with this service.
+     */
+    CachingMXBean getCaching();
+
+    /**
+     * @return per-stage latency details associated with this service.
+     */
+    PipelineTimingMXBean getPipelineTiming();
 }
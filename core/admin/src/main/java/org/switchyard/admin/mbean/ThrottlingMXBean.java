@@ -50,4 +50,33 @@ public interface ThrottlingMXBean {
      *         counted.
      */
     long getTimePeriod();
+
+    /**
+     * @return the maximum number of exchanges in flight, zero if concurrency
+     *         is not limited.
+     */
+    int getMaxConcurrent();
+
+    /**
+     * @param maxConcurrent the maximum number of exchanges in flight; zero
+     *            removes the limit.
+     */
+    void setMaxConcurrent(int maxConcurrent);
+
+    /**
+     * @return the current concurrency limit, which differs from the maximum
+     *         if the limit is adaptive.
+     */
+    int getConcurrencyLimit();
+
+    /**
+     * @return the number of exchanges in flight.
+     */
+    int getInFlightCount();
+
+    /**
+     * @return the number of exchanges rejected because the concurrency limit
+     *         was reached.
+     */
+    long getRejectedCount();
 }
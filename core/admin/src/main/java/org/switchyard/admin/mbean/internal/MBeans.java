@@ -23,8 +23,11 @@ import org.jboss.logging.Logger;
 import org.switchyard.SwitchYardException;
 import org.switchyard.admin.Application;
 import org.switchyard.admin.Binding;
+import org.switchyard.admin.Caching;
+import org.switchyard.admin.CircuitBreaker;
 import org.switchyard.admin.ComponentReference;
 import org.switchyard.admin.ComponentService;
+import org.switchyard.admin.PipelineTiming;
 import org.switchyard.admin.Reference;
 import org.switchyard.admin.Service;
 import org.switchyard.admin.Throttling;
@@ -51,6 +54,10 @@ public final class MBeans {
     static final String COMPONENT_REFERENCE = "type=ComponentReference,name=";
     static final String LOCAL_MANAGEMENT = "type=Management.Local";
     static final String THROTTLING = "type=Throttling,service=";
+    static final String SERVICE_CACHING = "type=Caching,service=";
+    static final String REFERENCE_CACHING = "type=Caching,reference=";
+    static final String REFERENCE_CIRCUIT_BREAKER = "type=CircuitBreaker,reference=";
+    static final String PIPELINE_TIMING = "type=PipelineTiming,service=";
     
     private static MBeanServer _server = ManagementFactory.getPlatformMBeanServer();
     private static Logger _log = Logger.getLogger(MBeans.class);
@@ -88,6 +95,8 @@ public final class MBeans {
             ManagedService mSvc = new ManagedService(service, mApp);
             registerMBean(mSvc, getObjectName(service));
             registerMBean(mSvc.getThrottling(), getObjectName(service, service.getThrottling()));
+            registerMBean(mSvc.getCaching(), getObjectName(service, service.getCaching()));
+            registerMBean(mSvc.getPipelineTiming(), getObjectName(service, service.getPipelineTiming()));
             // register service bindings
             for (Binding binding : service.getGateways()) {
                 ManagedBinding mBind = new ManagedBinding(binding);
@@ -100,6 +109,8 @@ public final class MBeans {
         for (Reference reference : application.getReferences()) {
             ManagedReference mRef = new ManagedReference(reference, mApp);
             registerMBean(mRef, getObjectName(reference));
+            registerMBean(mRef.getCaching(), getObjectName(reference, reference.getCaching()));
+            registerMBean(mRef.getCircuitBreaker(), getObjectName(reference, reference.getCircuitBreaker()));
             // register service bindings
             for (Binding binding : reference.getGateways()) {
                 ManagedBinding mBind = new ManagedBinding(binding);
@@ -143,6 +154,8 @@ public final class MBeans {
         for (Service service : application.getServices()) {
             unregisterMBean(getObjectName(service));
             unregisterMBean(getObjectName(service, service.getThrottling()));
+            unregisterMBean(getObjectName(service, service.getCaching()));
+            unregisterMBean(getObjectName(service, service.getPipelineTiming()));
             for (Binding binding : service.getGateways()) {
                 unregisterMBean(getObjectName(service, binding));
             }
@@ -150,6 +163,8 @@ public final class MBeans {
         // Unregister composite references
         for (Reference reference : application.getReferences()) {
             unregisterMBean(getObjectName(reference));
+            unregisterMBean(getObjectName(reference, reference.getCaching()));
+            unregisterMBean(getObjectName(reference, reference.getCircuitBreaker()));
             for (Binding binding : reference.getGateways()) {
                 unregisterMBean(getObjectName(reference, binding));
             }
@@ -237,6 +252,26 @@ public final class MBeans {
                 + THROTTLING + ObjectName.quote(service.getName().toString()));
     }
     
+    static ObjectName getObjectName(Service service, Caching caching) {
+        return toName(DOMAIN + ":" 
+                + SERVICE_CACHING + ObjectName.quote(service.getName().toString()));
+    }
+    
+    static ObjectName getObjectName(Service service, PipelineTiming pipelineTiming) {
+        return toName(DOMAIN + ":" 
+                + PIPELINE_TIMING + ObjectName.quote(service.getName().toString()));
+    }
+    
+    static ObjectName getObjectName(Reference reference, Caching caching) {
+        return toName(DOMAIN + ":" 
+                + REFERENCE_CACHING + ObjectName.quote(reference.getName().toString()));
+    }
+    
+    static ObjectName getObjectName(Reference reference, CircuitBreaker circuitBreaker) {
+        return toName(DOMAIN + ":" 
+                + REFERENCE_CIRCUIT_BREAKER + ObjectName.quote(reference.getName().toString()));
+    }
+    
     private static ObjectName toName(String nameStr) {
         try {
             return new ObjectName(nameStr);
@@ -0,0 +1,86 @@
+/*
+ * Copyright 2013 Red Hat Inc. and/or its affiliates and other contributors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * http://www.apache.org/licenses/LICENSE-2.0
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,  
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.switchyard.admin.mbean.internal;
+
+import org.switchyard.admin.Caching;
+import org.switchyard.admin.mbean.CachingMXBean;
+
+/**
+ * ManagedCaching
+ * <p/>
+ * Implementation for {@link CachingMXBean}.
+ */
+public class ManagedCaching implements CachingMXBean {
+
+    private final Caching _delegate;
+    /**
+     * Create a new ManagedCaching.
+     * 
+     * @param delegate the delegate admin object.
+     */
+    public ManagedCaching(Caching delegate) {
+        _delegate = delegate;
+    }
+
+    @Override
+    public boolean isEnabled() {
+        return _delegate.isEnabled();
+    }
+
+    @Override
+    public int getMaxEntries() {
+        return _delegate.getMaxEntries();
+    }
+
+    @Override
+    public long getTimeToLive() {
+        return _delegate.getTimeToLive();
+    }
+
+    @Override
+    public int getSize() {
+        return _delegate.getSize();
+    }
+
+    @Override
+    public long getHitCount() {
+        return _delegate.getHitCount();
+    }
+
+    @Override
+    public long getMissCount() {
+        return _delegate.getMissCount();
+    }
+
+    @Override
+    public long getEvictionCount() {
+        return _delegate.getEvictionCount();
+    }
+
+    @Override
+    public long getExpirationCount() {
+        return _delegate.getExpirationCount();
+    }
+
+    @Override
+    public void clear() {
+        _delegate.clear();
+    }
+
+    @Override
+    public void resetStatistics() {
+        _delegate.resetStatistics();
+    }
+
+}
@@ -0,0 +1,77 @@
+/*
+ * Copyright 2013 Red Hat Inc. and/or its affiliates and other contributors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * http://www.apache.org/licenses/LICENSE-2.0
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,  
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.switchyard.admin.mbean.internal;
+
+import org.switchyard.admin.CircuitBreaker;
+import org.switchyard.admin.mbean.CircuitBreakerMXBean;
+
+/**
+ * ManagedCircuitBreaker
+ * <p/>
+ * Implementation for {@link CircuitBreakerMXBean}.
+ */
+public class ManagedCircuitBreaker implements CircuitBreakerMXBean {
+
+    private final CircuitBreaker _delegate;
+
+    /**
+     * Create a new ManagedCircuitBreaker.
+     * 
+     * @param delegate the delegate admin object.
+     */
+    public ManagedCircuitBreaker(CircuitBreaker delegate) {
+        _delegate = delegate;
+    }
+
+    @Override
+    public boolean isEnabled() {
+        return _delegate.isEnabled();
+    }
+
+    @Override
+    public String getState() {
+        return _delegate.getState();
+    }
+
+    @Override
+    public float getFailureRate() {
+        return _delegate.getFailureRate();
+    }
+
+    @Override
+    public float getSlowCallRate() {
+        return _delegate.getSlowCallRate();
+    }
+
+    @Override
+    public int getCallCount() {
+        return _delegate.getCallCount();
+    }
+
+    @Override
+    public long getRejectedCount() {
+        return _delegate.getRejectedCount();
+    }
+
+    @Override
+    public long getOpenCount() {
+        return _delegate.getOpenCount();
+    }
+
+    @Override
+    public void reset() {
+        _delegate.reset();
+    }
+
+}
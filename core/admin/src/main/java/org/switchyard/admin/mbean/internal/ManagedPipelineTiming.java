@@ -0,0 +1,64 @@
+/*
+ * Copyright 2013 Red Hat Inc. and/or its affiliates and other contributors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * http://www.apache.org/licenses/LICENSE-2.0
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,  
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.switchyard.admin.mbean.internal;
+
+import java.util.List;
+
+import org.switchyard.admin.PipelineTiming;
+import org.switchyard.admin.StageLatency;
+import org.switchyard.admin.mbean.PipelineTimingMXBean;
+
+/**
+ * ManagedPipelineTiming
+ * <p/>
+ * Implementation for {@link PipelineTimingMXBean}.
+ */
+public class ManagedPipelineTiming implements PipelineTimingMXBean {
+
+    private final PipelineTiming _delegate;
+    /**
+     * Create a new ManagedPipelineTiming.
+     * 
+     * @param delegate the delegate admin object.
+     */
+    public ManagedPipelineTiming(PipelineTiming delegate) {
+        _delegate = delegate;
+    }
+
+    @Override
+    public boolean isEnabled() {
+        return _delegate.isEnabled();
+    }
+
+    @Override
+    public void enable() {
+        _delegate.enable();
+    }
+
+    @Override
+    public void disable() {
+        _delegate.disable();
+    }
+
+    @Override
+    public List<StageLatency> getStages() {
+        return _delegate.getStages();
+    }
+
+    @Override
+    public void reset() {
+        _delegate.reset();
+    }
+
+}
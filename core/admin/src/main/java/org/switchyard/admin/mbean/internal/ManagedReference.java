@@ -19,6 +19,8 @@ import java.util.List;
 import org.switchyard.admin.Reference;
 import org.switchyard.admin.mbean.ApplicationMXBean;
 import org.switchyard.admin.mbean.BindingMXBean;
+import org.switchyard.admin.mbean.CachingMXBean;
+import org.switchyard.admin.mbean.CircuitBreakerMXBean;
 import org.switchyard.admin.mbean.ReferenceMXBean;
 
 /**
@@ -29,6 +31,8 @@ public class ManagedReference implements ReferenceMXBean {
     private Reference _reference;
     private ManagedApplication _application;
     private List<BindingMXBean> _bindings = new ArrayList<BindingMXBean>();
+    private CachingMXBean _caching;
+    private CircuitBreakerMXBean _circuitBreaker;
     
     /**
      * Create a new ManagedReference.
@@ -38,6 +42,8 @@ public class ManagedReference implements ReferenceMXBean {
     public ManagedReference(Reference reference, ManagedApplication application) {
         _reference = reference;
         _application = application;
+        _caching = new ManagedCaching(reference.getCaching());
+        _circuitBreaker = new ManagedCircuitBreaker(reference.getCircuitBreaker());
     }
 
     @Override
@@ -108,6 +114,16 @@ public class ManagedReference implements ReferenceMXBean {
         return _reference.getMessageMetrics().getMaxProcessingTime();
     }
 
+    @Override
+    public CachingMXBean getCaching() {
+        return _caching;
+    }
+
+    @Override
+    public CircuitBreakerMXBean getCircuitBreaker() {
+        return _circuitBreaker;
+    }
+
     @Override
     public void reset() {
         _reference.resetMessageMetrics();
@@ -19,6 +19,8 @@ import java.util.List;
 import org.switchyard.admin.Service;
 import org.switchyard.admin.mbean.ApplicationMXBean;
 import org.switchyard.admin.mbean.BindingMXBean;
+import org.switchyard.admin.mbean.CachingMXBean;
+import org.switchyard.admin.mbean.PipelineTimingMXBean;
 import org.switchyard.admin.mbean.ServiceMXBean;
 import org.switchyard.admin.mbean.ThrottlingMXBean;
 
@@ -31,6 +33,8 @@ public class ManagedService implements ServiceMXBean {
     private ManagedApplication _parent;
     private List<BindingMXBean> _bindings = new ArrayList<BindingMXBean>();
     private ThrottlingMXBean _throttling;
+    private CachingMXBean _caching;
+    private PipelineTimingMXBean _pipelineTiming;
     
     /**
      * Creates a new ManagedService.
@@ -41,6 +45,8 @@ public class ManagedService implements ServiceMXBean {
         _service = service;
         _parent = parent;
         _throttling = new ManagedThrottling(service.getThrottling());
+        _caching = new ManagedCaching(service.getCaching());
+        _pipelineTiming = new ManagedPipelineTiming(service.getPipelineTiming());
     }
 
     @Override
@@ -81,4 +87,14 @@ public class ManagedService implements ServiceMXBean {
         return _throttling;
     }
 
+    @Override
+    public CachingMXBean getCaching() {
+        return _caching;
+    }
+
+    @Override
+    public PipelineTimingMXBean getPipelineTiming() {
+        return _pipelineTiming;
+    }
+
 }
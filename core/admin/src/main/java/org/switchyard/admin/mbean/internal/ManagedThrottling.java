@@ -63,4 +63,29 @@ public class ManagedThrottling implements ThrottlingMXBean {
         return _delegate.getTimePeriod();
     }
 
+    @Override
+    public int getMaxConcurrent() {
+        return _delegate.getMaxConcurrent();
+    }
+
+    @Override
+    public void setMaxConcurrent(int maxConcurrent) {
+        _delegate.setMaxConcurrent(maxConcurrent);
+    }
+
+    @Override
+    public int getConcurrencyLimit() {
+        return _delegate.getConcurrencyLimit();
+    }
+
+    @Override
+    public int getInFlightCount() {
+        return _delegate.getInFlightCount();
+    }
+
+    @Override
+    public long getRejectedCount() {
+        return _delegate.getRejectedCount();
+    }
+
 }
@@ -89,6 +89,30 @@ public interface Context {
      */
     Set<Property> getProperties(String label);
 
+    /**
+     * Visits all properties in this context without copying them.
+     * @param visitor visitor called with each property
+     */
+    void visitProperties(PropertyVisitor visitor);
+
+    /**
+     * Visits the properties in this context in the specified scope without
+     * copying them.
+     * @param scope scope from which properties will be visited
+     * @param visitor visitor called with each property
+     */
+    void visitProperties(Scope scope, PropertyVisitor visitor);
+
+    /**
+     * Visits the properties with a given label without copying them.  The
+     * properties are looked up by label, so the cost of the visit depends on
+     * the number of properties with the label rather than on the size of
+     * this context.
+     * @param label the label each property must have
+     * @param visitor visitor called with each property
+     */
+    void visitProperties(String label, PropertyVisitor visitor);
+
     /**
      * Removes the named property from this context.
      * @param property property to remove
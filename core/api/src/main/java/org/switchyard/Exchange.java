@@ -68,6 +68,13 @@ public interface Exchange {
      */
     String PROPAGATE_EXCEPTION_ON_IN_ONLY = "org.switchyard.propagateExceptionOnInOnly";
 
+    /**
+     * Context property name used for the exchange deadline, the time in
+     * milliseconds since the epoch after which the exchange is not worth
+     * processing anymore.
+     */
+    String DEADLINE = "org.switchyard.deadline";
+
     /**
      * Retrieves the exchange context.
      * @return the exchange context
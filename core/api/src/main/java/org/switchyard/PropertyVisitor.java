@@ -0,0 +1,33 @@
+/*
+ * Copyright 2013 Red Hat Inc. and/or its affiliates and other contributors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * http://www.apache.org/licenses/LICENSE-2.0
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.switchyard;
+
+/**
+ * Visits the properties of a {@link Context} in place, without the context
+ * copying them into a new set first.
+ * <br><br>
+ * A visitor must not add or remove properties, or labels of properties, in
+ * the context it is visiting; it can collect them and make the changes once
+ * the visit returns.
+ */
+public interface PropertyVisitor {
+
+    /**
+     * Visits a property.
+     * @param property the property
+     * @return true to visit the next property, false to end the visit
+     */
+    boolean visit(Property property);
+}
@@ -17,6 +17,13 @@ package org.switchyard;
 import java.util.List;
 
 import org.switchyard.metadata.Registrant;
+import org.switchyard.metadata.qos.AsyncDispatch;
+import org.switchyard.metadata.qos.Bulkhead;
+import org.switchyard.metadata.qos.Caching;
+import org.switchyard.metadata.qos.CircuitBreaker;
+import org.switchyard.metadata.qos.Coalescing;
+import org.switchyard.metadata.qos.Deadline;
+import org.switchyard.metadata.qos.Priority;
 import org.switchyard.metadata.qos.Throttling;
 import org.switchyard.policy.Policy;
 
@@ -57,4 +64,50 @@ public interface ServiceMetadata {
      * @return throttling config
      */
     Throttling getThrottling();
+    
+    /**
+     * Return the response caching configuration associated with a service or service
+     * reference.
+     * @return caching config, or null if replies are not cached
+     */
+    Caching getCaching();
+
+    /**
+     * Return the request coalescing configuration for a service or reference.
+     * @return request coalescing configuration, or null if requests are not coalesced
+     */
+    Coalescing getCoalescing();
+
+    /**
+     * Return the bulkhead configuration for a service or reference.
+     * @return bulkhead configuration, or null if concurrency is not limited
+     */
+    Bulkhead getBulkhead();
+
+    /**
+     * Return the circuit breaker configuration for a service or reference.
+     * @return circuit breaker configuration, or null if there is no breaker
+     */
+    CircuitBreaker getCircuitBreaker();
+
+    /**
+     * Return the deadline configuration for exchanges entering a service.
+     * @return deadline configuration, or null if exchanges have no deadline
+     */
+    Deadline getDeadline();
+
+    /**
+     * Return the asynchronous dispatch configuration for IN_ONLY exchanges
+     * sent through a service reference.
+     * @return asynchronous dispatch configuration, or null if exchanges are
+     * dispatched on the sending thread
+     */
+    AsyncDispatch getAsyncDispatch();
+
+    /**
+     * Return the priority of exchanges sent through a service or service
+     * reference.
+     * @return priority configuration, or null if exchanges have the normal priority
+     */
+    Priority getPriority();
 }
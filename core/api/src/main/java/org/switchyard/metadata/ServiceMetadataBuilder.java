@@ -20,6 +20,13 @@ import java.util.List;
 import org.switchyard.APIMessages;
 import org.switchyard.ServiceMetadata;
 import org.switchyard.ServiceSecurity;
+import org.switchyard.metadata.qos.AsyncDispatch;
+import org.switchyard.metadata.qos.Bulkhead;
+import org.switchyard.metadata.qos.Caching;
+import org.switchyard.metadata.qos.CircuitBreaker;
+import org.switchyard.metadata.qos.Coalescing;
+import org.switchyard.metadata.qos.Deadline;
+import org.switchyard.metadata.qos.Priority;
 import org.switchyard.metadata.qos.Throttling;
 import org.switchyard.policy.Policy;
 
@@ -91,6 +98,76 @@ public final class ServiceMetadataBuilder {
         return this;
     } 
     
+    /**
+     * Specifies response caching for IN_OUT operations of a service or service reference.
+     * @param caching caching setting
+     * @return this builder
+     */
+    public ServiceMetadataBuilder caching(Caching caching) {
+        _metadata._caching = caching;
+        return this;
+    }
+    
+    /**
+     * Specifies coalescing of concurrent, identical IN_OUT requests.
+     * @param coalescing coalescing setting
+     * @return this builder
+     */
+    public ServiceMetadataBuilder coalescing(Coalescing coalescing) {
+        _metadata._coalescing = coalescing;
+        return this;
+    }
+    
+    /**
+     * Specifies the bulkhead limiting the exchanges in flight.
+     * @param bulkhead bulkhead setting
+     * @return this builder
+     */
+    public ServiceMetadataBuilder bulkhead(Bulkhead bulkhead) {
+        _metadata._bulkhead = bulkhead;
+        return this;
+    }
+    
+    /**
+     * Specifies the circuit breaker guarding calls.
+     * @param circuitBreaker circuit breaker setting
+     * @return this builder
+     */
+    public ServiceMetadataBuilder circuitBreaker(CircuitBreaker circuitBreaker) {
+        _metadata._circuitBreaker = circuitBreaker;
+        return this;
+    }
+    
+    /**
+     * Specifies the deadline of exchanges entering the service.
+     * @param deadline deadline setting
+     * @return this builder
+     */
+    public ServiceMetadataBuilder deadline(Deadline deadline) {
+        _metadata._deadline = deadline;
+        return this;
+    }
+    
+    /**
+     * Specifies the asynchronous dispatch of IN_ONLY exchanges.
+     * @param asyncDispatch asynchronous dispatch setting
+     * @return this builder
+     */
+    public ServiceMetadataBuilder asyncDispatch(AsyncDispatch asyncDispatch) {
+        _metadata._asyncDispatch = asyncDispatch;
+        return this;
+    }
+    
+    /**
+     * Specifies the priority of exchanges.
+     * @param priority priority setting
+     * @return this builder
+     */
+    public ServiceMetadataBuilder priority(Priority priority) {
+        _metadata._priority = priority;
+        return this;
+    }
+    
     /**
      * Returns a configured ServiceMetadata instance.
      * @return ServiceMetadata
@@ -142,6 +219,13 @@ public final class ServiceMetadataBuilder {
         private List<Policy> _providedPolicies = Collections.emptyList();
         private Registrant _registrant;
         private Throttling _throttling;
+        private Caching _caching;
+        private Coalescing _coalescing;
+        private Bulkhead _bulkhead;
+        private CircuitBreaker _circuitBreaker;
+        private Deadline _deadline;
+        private AsyncDispatch _asyncDispatch;
+        private Priority _priority;
 
         @Override
         public ServiceSecurity getSecurity() {
@@ -167,6 +251,41 @@ public final class ServiceMetadataBuilder {
         public Throttling getThrottling() {
             return _throttling;
         }
+
+        @Override
+        public Caching getCaching() {
+            return _caching;
+        }
+
+        @Override
+        public Coalescing getCoalescing() {
+            return _coalescing;
+        }
+
+        @Override
+        public Bulkhead getBulkhead() {
+            return _bulkhead;
+        }
+
+        @Override
+        public CircuitBreaker getCircuitBreaker() {
+            return _circuitBreaker;
+        }
+
+        @Override
+        public Deadline getDeadline() {
+            return _deadline;
+        }
+
+        @Override
+        public AsyncDispatch getAsyncDispatch() {
+            return _asyncDispatch;
+        }
+
+        @Override
+        public Priority getPriority() {
+            return _priority;
+        }
         
     }
 }
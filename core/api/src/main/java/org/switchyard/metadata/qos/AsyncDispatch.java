@@ -0,0 +1,246 @@
+/*
+ * Copyright 2013 Red Hat Inc. and/or its affiliates and other contributors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * http://www.apache.org/licenses/LICENSE-2.0
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.switchyard.metadata.qos;
+
+/**
+ * Represents configuration for the asynchronous dispatch of IN_ONLY exchanges
+ * sent to a service.  Exchanges are put on a bounded queue and the sender
+ * returns at once; worker threads take them off the queue and run the
+ * provider pipeline with the security context and context class loader of
+ * the sender.  The sender's transaction is not propagated, so the provider
+ * runs outside of it.
+ * <br><br>
+ * With a journal directory the exchanges are written to a memory-mapped
+ * journal instead of the queue.  The sender's exchange is complete once it is
+ * written, the workers replay exchanges from the journal at the rate the
+ * provider sustains, and exchanges left in the journal when the service stops
+ * are replayed when it starts again.
+ */
+public class AsyncDispatch {
+
+    /**
+     * What happens to an exchange sent while the queue is full.
+     */
+    public enum Overflow {
+        /** The sender waits for room in the queue, up to the overflow timeout. */
+        BLOCK,
+        /** The send fails at once. */
+        REJECT,
+        /** The exchange is dispatched on the sending thread. */
+        CALLER_RUNS
+    }
+
+    /**
+     * Default capacity of the queue.
+     */
+    public static final int DEFAULT_QUEUE_SIZE = 1000;
+
+    /**
+     * Default number of worker threads.
+     */
+    public static final int DEFAULT_WORKERS = 1;
+
+    /**
+     * Default time in milliseconds a blocked sender waits for room in the queue.
+     */
+    public static final long DEFAULT_OVERFLOW_TIMEOUT = 30000;
+
+    /**
+     * Default size in bytes of a journal segment.
+     */
+    public static final int DEFAULT_JOURNAL_SEGMENT_SIZE = 16 * 1024 * 1024;
+
+    /**
+     * Default number of times a journaled exchange is replayed before it is
+     * moved to the dead-letter journal.
+     */
+    public static final int DEFAULT_JOURNAL_MAX_ATTEMPTS = 10;
+
+    private int _queueSize = DEFAULT_QUEUE_SIZE;
+    private int _workers = DEFAULT_WORKERS;
+    private Overflow _overflow = Overflow.BLOCK;
+    private long _overflowTimeout = DEFAULT_OVERFLOW_TIMEOUT;
+    private String _threadPool;
+    private String _journal;
+    private int _journalSegmentSize = DEFAULT_JOURNAL_SEGMENT_SIZE;
+    private boolean _journalSync;
+    private int _journalMaxAttempts = DEFAULT_JOURNAL_MAX_ATTEMPTS;
+
+    /**
+     * Returns the capacity of the queue.
+     * @return queue size
+     */
+    public int getQueueSize() {
+        return _queueSize;
+    }
+
+    /**
+     * Returns the number of worker threads taking exchanges off the queue.
+     * @return worker count
+     */
+    public int getWorkers() {
+        return _workers;
+    }
+
+    /**
+     * Returns what happens to an exchange sent while the queue is full.
+     * @return overflow handling
+     */
+    public Overflow getOverflow() {
+        return _overflow;
+    }
+
+    /**
+     * Returns the time in milliseconds a blocked sender waits for room in the
+     * queue before the send fails.  Zero waits without limit.
+     * @return overflow timeout in milliseconds
+     */
+    public long getOverflowTimeout() {
+        return _overflowTimeout;
+    }
+
+    /**
+     * Returns the name of the domain thread pool the workers run on.
+     * @return thread pool name, or null if the service gets a pool of its own
+     */
+    public String getThreadPool() {
+        return _threadPool;
+    }
+
+    /**
+     * Returns the directory exchanges are journaled in.
+     * @return journal directory, or null if exchanges are queued in memory
+     */
+    public String getJournal() {
+        return _journal;
+    }
+
+    /**
+     * Returns the size in bytes of the files the journal is written to.
+     * @return journal segment size
+     */
+    public int getJournalSegmentSize() {
+        return _journalSegmentSize;
+    }
+
+    /**
+     * Returns whether each journaled exchange is forced to disk before the
+     * send returns.
+     * @return true if journal writes are synchronous
+     */
+    public boolean isJournalSync() {
+        return _journalSync;
+    }
+
+    /**
+     * Returns the number of times a journaled exchange is replayed before it
+     * is moved to the dead-letter journal.  Zero replays it without limit.
+     * @return maximum replay attempts
+     */
+    public int getJournalMaxAttempts() {
+        return _journalMaxAttempts;
+    }
+
+    /**
+     * Specifies the capacity of the queue.
+     * @param queueSize queue size
+     * @return a reference to this AsyncDispatch instance
+     */
+    public AsyncDispatch setQueueSize(int queueSize) {
+        _queueSize = queueSize;
+        return this;
+    }
+
+    /**
+     * Specifies the number of worker threads.
+     * @param workers worker count
+     * @return a reference to this AsyncDispatch instance
+     */
+    public AsyncDispatch setWorkers(int workers) {
+        _workers = workers;
+        return this;
+    }
+
+    /**
+     * Specifies what happens to an exchange sent while the queue is full.
+     * @param overflow overflow handling
+     * @return a reference to this AsyncDispatch instance
+     */
+    public AsyncDispatch setOverflow(Overflow overflow) {
+        _overflow = overflow == null ? Overflow.BLOCK : overflow;
+        return this;
+    }
+
+    /**
+     * Specifies the time in milliseconds a blocked sender waits for room in the queue.
+     * @param timeMS overflow timeout in milliseconds
+     * @return a reference to this AsyncDispatch instance
+     */
+    public AsyncDispatch setOverflowTimeout(long timeMS) {
+        _overflowTimeout = timeMS;
+        return this;
+    }
+
+    /**
+     * Specifies the domain thread pool the workers run on.
+     * @param threadPool thread pool name
+     * @return a reference to this AsyncDispatch instance
+     */
+    public AsyncDispatch setThreadPool(String threadPool) {
+        _threadPool = threadPool;
+        return this;
+    }
+
+    /**
+     * Specifies the directory exchanges are journaled in.
+     * @param journal journal directory
+     * @return a reference to this AsyncDispatch instance
+     */
+    public AsyncDispatch setJournal(String journal) {
+        _journal = journal;
+        return this;
+    }
+
+    /**
+     * Specifies the size in bytes of the files the journal is written to.
+     * @param journalSegmentSize journal segment size
+     * @return a reference to this AsyncDispatch instance
+     */
+    public AsyncDispatch setJournalSegmentSize(int journalSegmentSize) {
+        _journalSegmentSize = journalSegmentSize;
+        return this;
+    }
+
+    /**
+     * Specifies whether each journaled exchange is forced to disk before the
+     * send returns.
+     * @param journalSync true if journal writes are synchronous
+     * @return a reference to this AsyncDispatch instance
+     */
+    public AsyncDispatch setJournalSync(boolean journalSync) {
+        _journalSync = journalSync;
+        return this;
+    }
+
+    /**
+     * Specifies the number of times a journaled exchange is replayed before
+     * it is moved to the dead-letter journal.
+     * @param journalMaxAttempts maximum replay attempts, zero for no limit
+     * @return a reference to this AsyncDispatch instance
+     */
+    public AsyncDispatch setJournalMaxAttempts(int journalMaxAttempts) {
+        _journalMaxAttempts = journalMaxAttempts;
+        return this;
+    }
+}
@@ -0,0 +1,161 @@
+/*
+ * Copyright 2013 Red Hat Inc. and/or its affiliates and other contributors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * http://www.apache.org/licenses/LICENSE-2.0
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.switchyard.metadata.qos;
+
+/**
+ * Represents configuration for a bulkhead, which limits the number of
+ * exchanges in flight on a service or service reference.
+ */
+public class Bulkhead {
+
+    /**
+     * The way the concurrency limit is maintained.
+     */
+    public enum Limit {
+        /** The limit stays at the configured maximum. */
+        FIXED,
+        /** Additive increase while requests succeed, multiplicative decrease on faults. */
+        AIMD,
+        /** The limit follows the ratio between the lowest and the current observed latency. */
+        GRADIENT
+    }
+
+    /**
+     * Default number of exchanges which may wait for a free slot.
+     */
+    public static final int DEFAULT_MAX_QUEUED = 0;
+
+    /**
+     * Default time in milliseconds an exchange waits for a free slot.
+     */
+    public static final long DEFAULT_QUEUE_TIMEOUT = 1000;
+
+    /**
+     * Default lower bound of an adaptive limit.
+     */
+    public static final int DEFAULT_MIN_CONCURRENT = 1;
+
+    private int _maxConcurrent;
+    private int _minConcurrent = DEFAULT_MIN_CONCURRENT;
+    private int _maxQueued = DEFAULT_MAX_QUEUED;
+    private long _queueTimeout = DEFAULT_QUEUE_TIMEOUT;
+    private Limit _limit = Limit.FIXED;
+
+    /**
+     * Returns the maximum number of exchanges in flight.  For an adaptive
+     * limit this is the upper bound the limit may grow to.
+     * @return max concurrent exchanges
+     */
+    public int getMaxConcurrent() {
+        return _maxConcurrent;
+    }
+
+    /**
+     * Returns the lower bound of an adaptive limit.
+     * @return min concurrent exchanges
+     */
+    public int getMinConcurrent() {
+        return _minConcurrent;
+    }
+
+    /**
+     * Returns the maximum number of exchanges waiting for a free slot.  Once
+     * the wait queue is full further exchanges are rejected immediately.
+     * @return max queued exchanges
+     */
+    public int getMaxQueued() {
+        return _maxQueued;
+    }
+
+    /**
+     * Returns the time in milliseconds a queued exchange waits for a free slot
+     * before it is rejected.
+     * @return queue timeout in milliseconds
+     */
+    public long getQueueTimeout() {
+        return _queueTimeout;
+    }
+
+    /**
+     * Returns the way the concurrency limit is maintained.
+     * @return limit algorithm
+     */
+    public Limit getLimit() {
+        return _limit;
+    }
+
+    /**
+     * Specifies the maximum number of exchanges in flight.
+     * @param maxConcurrent max concurrent exchanges
+     * @return a reference to this Bulkhead instance
+     */
+    public Bulkhead setMaxConcurrent(int maxConcurrent) {
+        _maxConcurrent = maxConcurrent;
+        return this;
+    }
+
+    /**
+     * Specifies the lower bound of an adaptive limit.
+     * @param minConcurrent min concurrent exchanges
+     * @return a reference to this Bulkhead instance
+     */
+    public Bulkhead setMinConcurrent(int minConcurrent) {
+        _minConcurrent = minConcurrent;
+        return this;
+    }
+
+    /**
+     * Specifies the maximum number of exchanges waiting for a free slot.
+     * @param maxQueued max queued exchanges
+     * @return a reference to this Bulkhead instance
+     */
+    public Bulkhead setMaxQueued(int maxQueued) {
+        _maxQueued = maxQueued;
+        return this;
+    }
+
+    /**
+     * Specifies the time in milliseconds a queued exchange waits for a free slot.
+     * @param timeMS queue timeout in milliseconds
+     * @return a reference to this Bulkhead instance
+     */
+    public Bulkhead setQueueTimeout(long timeMS) {
+        _queueTimeout = timeMS;
+        return this;
+    }
+
+    /**
+     * Specifies the way the concurrency limit is maintained.
+     * @param limit limit algorithm
+     * @return a reference to this Bulkhead instance
+     */
+    public Bulkhead setLimit(Limit limit) {
+        _limit = limit == null ? Limit.FIXED : limit;
+        return this;
+    }
+
+    /**
+     * Returns a copy of this configuration.
+     * @return copy
+     */
+    public Bulkhead copy() {
+        return new Bulkhead()
+            .setMaxConcurrent(_maxConcurrent)
+            .setMinConcurrent(_minConcurrent)
+            .setMaxQueued(_maxQueued)
+            .setQueueTimeout(_queueTimeout)
+            .setLimit(_limit);
+    }
+}
@@ -0,0 +1,137 @@
+/*
+ * Copyright 2013 Red Hat Inc. and/or its affiliates and other contributors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * http://www.apache.org/licenses/LICENSE-2.0
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.switchyard.metadata.qos;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Set;
+
+/**
+ * Represents configuration for caching of replies to IN_OUT operations on a
+ * service or service reference.
+ */
+public class Caching {
+
+    /**
+     * Key token which refers to the content of the request message.
+     */
+    public static final String CONTENT_KEY = "content";
+
+    /**
+     * Default maximum number of cached replies.
+     */
+    public static final int DEFAULT_MAX_ENTRIES = 1000;
+
+    /**
+     * Default time to live is zero, i.e. cached replies never expire.
+     */
+    public static final long DEFAULT_TIME_TO_LIVE = 0;
+
+    private int _maxEntries = DEFAULT_MAX_ENTRIES;
+    private long _timeToLive = DEFAULT_TIME_TO_LIVE;
+    private List<String> _key = Collections.singletonList(CONTENT_KEY);
+    private Set<String> _operations = Collections.emptySet();
+
+    /**
+     * Returns the maximum number of replies held in the cache.
+     * @return max entries
+     */
+    public int getMaxEntries() {
+        return _maxEntries;
+    }
+
+    /**
+     * Returns the time in milliseconds a cached reply stays valid.  A value of
+     * zero or less means that entries are only removed when the cache is full.
+     * @return time to live in milliseconds
+     */
+    public long getTimeToLive() {
+        return _timeToLive;
+    }
+
+    /**
+     * Returns the tokens which make up the cache key in addition to the operation
+     * name.  The token {@link #CONTENT_KEY} refers to the request content, any
+     * other token is treated as the name of a context property.
+     * @return key tokens
+     */
+    public List<String> getKey() {
+        return _key;
+    }
+
+    /**
+     * Returns the names of the operations which are cached.  An empty set means
+     * that all IN_OUT operations are cached.
+     * @return cached operation names
+     */
+    public Set<String> getOperations() {
+        return _operations;
+    }
+
+    /**
+     * Returns whether replies for the specified operation are cached.
+     * @param operation operation name
+     * @return true if the operation is cached
+     */
+    public boolean isCached(String operation) {
+        return _operations.isEmpty() || _operations.contains(operation);
+    }
+
+    /**
+     * Specifies the maximum number of replies held in the cache.
+     * @param maxEntries max entries
+     * @return a reference to this Caching instance
+     */
+    public Caching setMaxEntries(int maxEntries) {
+        _maxEntries = maxEntries;
+        return this;
+    }
+
+    /**
+     * Specifies the time in milliseconds a cached reply stays valid.
+     * @param timeMS time to live in milliseconds
+     * @return a reference to this Caching instance
+     */
+    public Caching setTimeToLive(long timeMS) {
+        _timeToLive = timeMS;
+        return this;
+    }
+
+    /**
+     * Specifies the tokens which make up the cache key.
+     * @param key key tokens
+     * @return a reference to this Caching instance
+     */
+    public Caching setKey(String... key) {
+        _key = key == null || key.length == 0
+                ? Collections.singletonList(CONTENT_KEY)
+                : Collections.unmodifiableList(Arrays.asList(key));
+        return this;
+    }
+
+    /**
+     * Specifies the names of the operations which are cached.
+     * @param operations operation names
+     * @return a reference to this Caching instance
+     */
+    public Caching setOperations(String... operations) {
+        _operations = operations == null
+                ? Collections.<String>emptySet()
+                : Collections.unmodifiableSet(new LinkedHashSet<String>(Arrays.asList(operations)));
+        return this;
+    }
+}
@@ -0,0 +1,197 @@
+/*
+ * Copyright 2013 Red Hat Inc. and/or its affiliates and other contributors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * http://www.apache.org/licenses/LICENSE-2.0
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.switchyard.metadata.qos;
+
+/**
+ * Represents configuration for a circuit breaker on a service reference.  The
+ * breaker opens when the rate of failed or slow calls within a rolling window
+ * reaches a threshold, rejects calls while open and lets a few trial calls
+ * through once the open duration has passed.
+ */
+public class CircuitBreaker {
+
+    /**
+     * Default failure rate, in percent, which opens the breaker.
+     */
+    public static final int DEFAULT_FAILURE_RATE_THRESHOLD = 50;
+
+    /**
+     * Default slow call rate, in percent, which opens the breaker.
+     */
+    public static final int DEFAULT_SLOW_CALL_RATE_THRESHOLD = 100;
+
+    /**
+     * Default duration in milliseconds from which a call counts as slow.
+     */
+    public static final long DEFAULT_SLOW_CALL_DURATION = 60000;
+
+    /**
+     * Default number of calls in the rolling window.
+     */
+    public static final int DEFAULT_WINDOW_SIZE = 100;
+
+    /**
+     * Default number of calls needed before rates are evaluated.
+     */
+    public static final int DEFAULT_MINIMUM_CALLS = 10;
+
+    /**
+     * Default time in milliseconds the breaker stays open.
+     */
+    public static final long DEFAULT_OPEN_DURATION = 60000;
+
+    /**
+     * Default number of trial calls while half-open.
+     */
+    public static final int DEFAULT_HALF_OPEN_CALLS = 5;
+
+    private int _failureRateThreshold = DEFAULT_FAILURE_RATE_THRESHOLD;
+    private int _slowCallRateThreshold = DEFAULT_SLOW_CALL_RATE_THRESHOLD;
+    private long _slowCallDuration = DEFAULT_SLOW_CALL_DURATION;
+    private int _windowSize = DEFAULT_WINDOW_SIZE;
+    private int _minimumCalls = DEFAULT_MINIMUM_CALLS;
+    private long _openDuration = DEFAULT_OPEN_DURATION;
+    private int _halfOpenCalls = DEFAULT_HALF_OPEN_CALLS;
+
+    /**
+     * Returns the failure rate, in percent, which opens the breaker.
+     * @return failure rate threshold
+     */
+    public int getFailureRateThreshold() {
+        return _failureRateThreshold;
+    }
+
+    /**
+     * Returns the slow call rate, in percent, which opens the breaker.
+     * @return slow call rate threshold
+     */
+    public int getSlowCallRateThreshold() {
+        return _slowCallRateThreshold;
+    }
+
+    /**
+     * Returns the duration in milliseconds from which a call counts as slow.
+     * @return slow call duration in milliseconds
+     */
+    public long getSlowCallDuration() {
+        return _slowCallDuration;
+    }
+
+    /**
+     * Returns the number of most recent calls the rates are computed from.
+     * @return window size
+     */
+    public int getWindowSize() {
+        return _windowSize;
+    }
+
+    /**
+     * Returns the number of calls needed in the window before rates are
+     * evaluated.
+     * @return minimum calls
+     */
+    public int getMinimumCalls() {
+        return _minimumCalls;
+    }
+
+    /**
+     * Returns the time in milliseconds the breaker stays open before trial
+     * calls are let through.
+     * @return open duration in milliseconds
+     */
+    public long getOpenDuration() {
+        return _openDuration;
+    }
+
+    /**
+     * Returns the number of trial calls let through while half-open.  The
+     * breaker closes once all of them succeeded and opens again on the first
+     * failure.
+     * @return half-open calls
+     */
+    public int getHalfOpenCalls() {
+        return _halfOpenCalls;
+    }
+
+    /**
+     * Specifies the failure rate, in percent, which opens the breaker.
+     * @param percent failure rate threshold
+     * @return a reference to this CircuitBreaker instance
+     */
+    public CircuitBreaker setFailureRateThreshold(int percent) {
+        _failureRateThreshold = percent;
+        return this;
+    }
+
+    /**
+     * Specifies the slow call rate, in percent, which opens the breaker.
+     * @param percent slow call rate threshold
+     * @return a reference to this CircuitBreaker instance
+     */
+    public CircuitBreaker setSlowCallRateThreshold(int percent) {
+        _slowCallRateThreshold = percent;
+        return this;
+    }
+
+    /**
+     * Specifies the duration in milliseconds from which a call counts as slow.
+     * @param timeMS slow call duration in milliseconds
+     * @return a reference to this CircuitBreaker instance
+     */
+    public CircuitBreaker setSlowCallDuration(long timeMS) {
+        _slowCallDuration = timeMS;
+        return this;
+    }
+
+    /**
+     * Specifies the number of most recent calls the rates are computed from.
+     * @param windowSize window size
+     * @return a reference to this CircuitBreaker instance
+     */
+    public CircuitBreaker setWindowSize(int windowSize) {
+        _windowSize = windowSize;
+        return this;
+    }
+
+    /**
+     * Specifies the number of calls needed before rates are evaluated.
+     * @param minimumCalls minimum calls
+     * @return a reference to this CircuitBreaker instance
+     */
+    public CircuitBreaker setMinimumCalls(int minimumCalls) {
+        _minimumCalls = minimumCalls;
+        return this;
+    }
+
+    /**
+     * Specifies the time in milliseconds the breaker stays open.
+     * @param timeMS open duration in milliseconds
+     * @return a reference to this CircuitBreaker instance
+     */
+    public CircuitBreaker setOpenDuration(long timeMS) {
+        _openDuration = timeMS;
+        return this;
+    }
+
+    /**
+     * Specifies the number of trial calls while half-open.
+     * @param halfOpenCalls half-open calls
+     * @return a reference to this CircuitBreaker instance
+     */
+    public CircuitBreaker setHalfOpenCalls(int halfOpenCalls) {
+        _halfOpenCalls = halfOpenCalls;
+        return this;
+    }
+}
@@ -0,0 +1,115 @@
+/*
+ * Copyright 2013 Red Hat Inc. and/or its affiliates and other contributors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * http://www.apache.org/licenses/LICENSE-2.0
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.switchyard.metadata.qos;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Set;
+
+/**
+ * Represents configuration for coalescing concurrent, identical IN_OUT
+ * requests into a single invocation of a service reference.
+ */
+public class Coalescing {
+
+    /**
+     * Key token which refers to the content of the request message.
+     */
+    public static final String CONTENT_KEY = "content";
+
+    /**
+     * Default time in milliseconds a request waits for the reply of an
+     * identical in-flight request before it is sent on its own.
+     */
+    public static final long DEFAULT_TIMEOUT = 30000;
+
+    private long _timeout = DEFAULT_TIMEOUT;
+    private List<String> _key = Collections.singletonList(CONTENT_KEY);
+    private Set<String> _operations = Collections.emptySet();
+
+    /**
+     * Returns the time in milliseconds a request waits for the reply of an
+     * identical in-flight request.
+     * @return timeout in milliseconds
+     */
+    public long getTimeout() {
+        return _timeout;
+    }
+
+    /**
+     * Returns the tokens which make up the request key in addition to the
+     * operation name.  The token {@link #CONTENT_KEY} refers to the request
+     * content, any other token is treated as the name of a context property.
+     * @return key tokens
+     */
+    public List<String> getKey() {
+        return _key;
+    }
+
+    /**
+     * Returns the names of the operations which are coalesced.  An empty set
+     * means that all IN_OUT operations are coalesced.
+     * @return coalesced operation names
+     */
+    public Set<String> getOperations() {
+        return _operations;
+    }
+
+    /**
+     * Returns whether requests for the specified operation are coalesced.
+     * @param operation operation name
+     * @return true if the operation is coalesced
+     */
+    public boolean isCoalesced(String operation) {
+        return _operations.isEmpty() || _operations.contains(operation);
+    }
+
+    /**
+     * Specifies the time in milliseconds a request waits for the reply of an
+     * identical in-flight request.
+     * @param timeMS timeout in milliseconds
+     * @return a reference to this Coalescing instance
+     */
+    public Coalescing setTimeout(long timeMS) {
+        _timeout = timeMS;
+        return this;
+    }
+
+    /**
+     * Specifies the tokens which make up the request key.
+     * @param key key tokens
+     * @return a reference to this Coalescing instance
+     */
+    public Coalescing setKey(String... key) {
+        _key = key == null || key.length == 0
+                ? Collections.singletonList(CONTENT_KEY)
+                : Collections.unmodifiableList(Arrays.asList(key));
+        return this;
+    }
+
+    /**
+     * Specifies the names of the operations which are coalesced.
+     * @param operations operation names
+     * @return a reference to this Coalescing instance
+     */
+    public Coalescing setOperations(String... operations) {
+        _operations = operations == null
+                ? Collections.<String>emptySet()
+                : Collections.unmodifiableSet(new LinkedHashSet<String>(Arrays.asList(operations)));
+        return this;
+    }
+}
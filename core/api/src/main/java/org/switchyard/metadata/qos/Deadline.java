@@ -0,0 +1,92 @@
+/*
+ * Copyright 2013 Red Hat Inc. and/or its affiliates and other contributors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * http://www.apache.org/licenses/LICENSE-2.0
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.switchyard.metadata.qos;
+
+import org.switchyard.Exchange;
+import org.switchyard.Property;
+import org.switchyard.Scope;
+
+/**
+ * Represents configuration for the deadline of exchanges entering through a
+ * service.  The deadline is set in the {@link Exchange#DEADLINE} context
+ * property when the gateway creates the exchange, and exchanges which reach
+ * a provider after it has passed are dropped.
+ * <p/>
+ * Bean client proxies copy the deadline onto the exchanges they send, and the
+ * HTTP, SOAP and RESTEasy reference bindings cap their timeouts at the time
+ * left.  Camel based bindings only get the check before the provider.
+ */
+public class Deadline {
+
+    private long _timeout;
+
+    /**
+     * Returns the time in milliseconds an exchange may take from the moment
+     * it enters the service.
+     * @return timeout in milliseconds
+     */
+    public long getTimeout() {
+        return _timeout;
+    }
+
+    /**
+     * Specifies the time in milliseconds an exchange may take.
+     * @param timeMS timeout in milliseconds
+     * @return a reference to this Deadline instance
+     */
+    public Deadline setTimeout(long timeMS) {
+        _timeout = timeMS;
+        return this;
+    }
+
+    /**
+     * Returns the time left until the {@link Exchange#DEADLINE} of an exchange.
+     * @param exchange the exchange
+     * @return milliseconds left, 0 or less once the deadline has passed, or
+     * null if the exchange has no deadline
+     */
+    public static Long getRemaining(Exchange exchange) {
+        Property property = exchange.getContext().getProperty(Exchange.DEADLINE, Scope.EXCHANGE);
+        Object value = property != null ? property.getValue() : null;
+        if (value == null) {
+            return null;
+        }
+        long deadline = value instanceof Number ? ((Number) value).longValue() : Long.parseLong(value.toString());
+        if (deadline <= 0) {
+            return null;
+        }
+        return deadline - System.currentTimeMillis();
+    }
+
+    /**
+     * Caps a configured timeout at the time left until the deadline of an
+     * exchange.
+     * @param exchange the exchange
+     * @param timeout configured timeout in milliseconds, null or 0 if none
+     * @return the timeout to use, at least 1 millisecond when the exchange has
+     * a deadline, otherwise the configured timeout
+     */
+    public static Integer capTimeout(Exchange exchange, Integer timeout) {
+        Long remaining = getRemaining(exchange);
+        if (remaining == null) {
+            return timeout;
+        }
+        long capped = Math.max(1, remaining);
+        if (timeout != null && timeout > 0) {
+            capped = Math.min(capped, timeout);
+        }
+        return (int) Math.min(capped, Integer.MAX_VALUE);
+    }
+}
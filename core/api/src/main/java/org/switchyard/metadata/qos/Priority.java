@@ -0,0 +1,139 @@
+/*
+ * Copyright 2013 Red Hat Inc. and/or its affiliates and other contributors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * http://www.apache.org/licenses/LICENSE-2.0
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,  
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.switchyard.metadata.qos;
+
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * Represents configuration for the priority of exchanges sent through a
+ * service or service reference.  Exchanges of a higher priority class get a
+ * larger share of the slots of a bulkhead and of the workers of a dispatch
+ * queue when exchanges of several classes wait for them; a class that does
+ * not wait leaves its share to the others.
+ * <br><br>
+ * The priority resolved for an exchange is carried in its context as the
+ * {@link #PROPERTY} property, so it follows the exchange across queues and
+ * can be set explicitly by a consumer.
+ */
+public class Priority {
+
+    /**
+     * Priority classes.
+     */
+    public enum Level {
+        /** Latency sensitive traffic, such as requests from SOAP or REST gateways. */
+        HIGH(16),
+        /** Traffic without a configured priority. */
+        NORMAL(4),
+        /** Background traffic, such as batches from polling bindings. */
+        LOW(1);
+
+        private final int _weight;
+
+        private Level(int weight) {
+            _weight = weight;
+        }
+
+        /**
+         * Returns the share of contended capacity given to the class relative
+         * to the other classes.
+         * @return weight
+         */
+        public int getWeight() {
+            return _weight;
+        }
+
+        /**
+         * Returns the class with the specified name, ignoring case.
+         * @param value class name
+         * @return priority class, or null if the name is null or unknown
+         */
+        public static Level fromValue(Object value) {
+            if (value instanceof Level) {
+                return (Level) value;
+            }
+            if (value != null) {
+                for (Level level : values()) {
+                    if (level.name().equalsIgnoreCase(value.toString().trim())) {
+                        return level;
+                    }
+                }
+            }
+            return null;
+        }
+    }
+
+    /**
+     * Exchange context property holding the name of the priority class of an exchange.
+     */
+    public static final String PROPERTY = "org.switchyard.priority";
+
+    private Level _level = Level.NORMAL;
+    private Map<String, Level> _gateways = new HashMap<String, Level>();
+
+    /**
+     * Returns the priority class of exchanges.
+     * @return priority class
+     */
+    public Level getLevel() {
+        return _level;
+    }
+
+    /**
+     * Returns the priority class of exchanges that entered through a gateway binding.
+     * @param gateway name of the gateway binding
+     * @return the priority class configured for the gateway, or the priority
+     * class of exchanges if the gateway has none
+     */
+    public Level getLevel(String gateway) {
+        Level level = gateway == null ? null : _gateways.get(gateway);
+        return level == null ? _level : level;
+    }
+
+    /**
+     * Returns the priority classes configured for gateway bindings.
+     * @return unmodifiable map of gateway binding names to priority classes
+     */
+    public Map<String, Level> getGateways() {
+        return Collections.unmodifiableMap(_gateways);
+    }
+
+    /**
+     * Specifies the priority class of exchanges.
+     * @param level priority class
+     * @return a reference to this Priority instance
+     */
+    public Priority setLevel(Level level) {
+        _level = level == null ? Level.NORMAL : level;
+        return this;
+    }
+
+    /**
+     * Specifies the priority class of exchanges that enter through a gateway binding.
+     * @param gateway name of the gateway binding
+     * @param level priority class
+     * @return a reference to this Priority instance
+     */
+    public Priority setLevel(String gateway, Level level) {
+        if (level == null) {
+            _gateways.remove(gateway);
+        } else {
+            _gateways.put(gateway, level);
+        }
+        return this;
+    }
+}
@@ -0,0 +1,80 @@
+/*
+ * Copyright 2013 Red Hat Inc. and/or its affiliates and other contributors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * http://www.apache.org/licenses/LICENSE-2.0
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.switchyard.policy;
+
+import javax.xml.namespace.QName;
+
+/**
+ * Supported types for response caching policy.  The policy is provided by the
+ * runtime for every service or reference which has a response cache configured,
+ * so a consumer can require that its invocations are answered through a cache.
+ */
+public enum CachingPolicy implements Policy {
+
+    /**
+     * Replies to IN_OUT operations may be served from a response cache.
+     */
+    RESPONSE_CACHING("responseCaching");
+
+    private final QName _qname;
+
+    private CachingPolicy(String name) {
+        _qname = new QName("urn:switchyard-config:switchyard:2.0", name, "sy");
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public QName getQName() {
+        return _qname;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public String getName() {
+        return getQName().getLocalPart();
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public String toString() {
+        return getQName().toString();
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public boolean supports(PolicyType type) {
+        return type == PolicyType.INTERACTION;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public boolean isCompatibleWith(Policy target) {
+        return true;
+    }
+
+    @Override
+    public Policy getPolicyDependency() {
+        return null;
+    }
+}
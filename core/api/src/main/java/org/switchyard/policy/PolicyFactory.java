@@ -36,6 +36,7 @@ public final class PolicyFactory {
         _policies = new HashSet<Policy>();
         _policies.addAll(Arrays.asList(TransactionPolicy.values()));
         _policies.addAll(Arrays.asList(SecurityPolicy.values()));
+        _policies.addAll(Arrays.asList(CachingPolicy.values()));
     }
 
     /**
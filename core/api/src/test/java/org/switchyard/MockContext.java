@@ -168,6 +168,33 @@ public class MockContext implements Context {
         return props;
     }
 
+    @Override
+    public void visitProperties(PropertyVisitor visitor) {
+        for (Property p : getProperties()) {
+            if (!visitor.visit(p)) {
+                return;
+            }
+        }
+    }
+
+    @Override
+    public void visitProperties(Scope scope, PropertyVisitor visitor) {
+        for (Property p : getProperties(scope)) {
+            if (!visitor.visit(p)) {
+                return;
+            }
+        }
+    }
+
+    @Override
+    public void visitProperties(String label, PropertyVisitor visitor) {
+        for (Property p : getProperties(label)) {
+            if (!visitor.visit(p)) {
+                return;
+            }
+        }
+    }
+
     @Override
     public void removeProperties(String label) {
         for (Property p : getProperties()) {
@@ -0,0 +1,156 @@
+/*
+ * Copyright 2013 Red Hat Inc. and/or its affiliates and other contributors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * http://www.apache.org/licenses/LICENSE-2.0
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.switchyard.benchmarks;
+
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+
+import org.apache.camel.impl.DefaultCamelContext;
+import org.apache.camel.impl.DefaultExchange;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.switchyard.Property;
+import org.switchyard.PropertyVisitor;
+import org.switchyard.bus.camel.CamelCompositeContext;
+
+/**
+ * Property access on the context the Camel exchange bus hands to handlers,
+ * with exchange properties and message headers populated the way a binding
+ * and the bus handlers populate them.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 10, time = 1)
+@Fork(1)
+public class ContextBenchmark {
+
+    private static final String LABEL = "org.switchyard.label.benchmark";
+
+    /** Number of properties in each scope. */
+    @Param({"10", "50"})
+    public int properties;
+
+    private CamelCompositeContext _context;
+    private String _exchangeProperty;
+    private String _messageProperty;
+
+    /**
+     * Populates the context.
+     */
+    @Setup
+    public void setUp() {
+        DefaultExchange exchange = new DefaultExchange(new DefaultCamelContext());
+        _context = new CamelCompositeContext(exchange);
+        for (int i = 0; i < properties; i++) {
+            Property property = _context.setProperty("exchange.property." + i, i, org.switchyard.Scope.EXCHANGE);
+            if (i % 5 == 0) {
+                property.addLabels(LABEL);
+            }
+            _context.setProperty("message.header." + i, "value-" + i, org.switchyard.Scope.MESSAGE);
+        }
+        _exchangeProperty = "exchange.property." + (properties / 2);
+        _messageProperty = "message.header." + (properties / 2);
+    }
+
+    /**
+     * Reads an exchange property without giving the scope.
+     * @return the property
+     */
+    @Benchmark
+    public Property getExchangeProperty() {
+        return _context.getProperty(_exchangeProperty);
+    }
+
+    /**
+     * Reads a message header without giving the scope.
+     * @return the property
+     */
+    @Benchmark
+    public Property getMessageProperty() {
+        return _context.getProperty(_messageProperty);
+    }
+
+    /**
+     * Reads a message header in its scope.
+     * @return the property
+     */
+    @Benchmark
+    public Property getScopedMessageProperty() {
+        return _context.getProperty(_messageProperty, org.switchyard.Scope.MESSAGE);
+    }
+
+    /**
+     * Looks up a property which does not exist.
+     * @return null
+     */
+    @Benchmark
+    public Property getMissingProperty() {
+        return _context.getProperty("missing.property");
+    }
+
+    /**
+     * Overwrites an exchange property.
+     * @return the property
+     */
+    @Benchmark
+    public Property setExchangeProperty() {
+        return _context.setProperty(_exchangeProperty, Boolean.TRUE, org.switchyard.Scope.EXCHANGE);
+    }
+
+    /**
+     * Collects the properties carrying a label.
+     * @return the properties
+     */
+    @Benchmark
+    public Set<Property> getLabeledProperties() {
+        return _context.getProperties(LABEL);
+    }
+
+    /**
+     * Visits the properties carrying a label without collecting them.
+     * @return the number of properties visited
+     */
+    @Benchmark
+    public int visitLabeledProperties() {
+        final int[] count = new int[1];
+        _context.visitProperties(LABEL, new PropertyVisitor() {
+            @Override
+            public boolean visit(Property property) {
+                count[0]++;
+                return true;
+            }
+        });
+        return count[0];
+    }
+
+    /**
+     * Collects all properties of both scopes.
+     * @return the properties
+     */
+    @Benchmark
+    public Set<Property> getAllProperties() {
+        return _context.getProperties();
+    }
+}
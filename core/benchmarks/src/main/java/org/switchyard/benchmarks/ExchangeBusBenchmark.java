@@ -0,0 +1,146 @@
+/*
+ * Copyright 2013 Red Hat Inc. and/or its affiliates and other contributors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * http://www.apache.org/licenses/LICENSE-2.0
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.switchyard.benchmarks;
+
+import java.util.concurrent.TimeUnit;
+
+import javax.xml.namespace.QName;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.switchyard.BaseHandler;
+import org.switchyard.Exchange;
+import org.switchyard.ExchangePattern;
+import org.switchyard.HandlerException;
+import org.switchyard.ServiceReference;
+import org.switchyard.bus.camel.CamelExchangeBus;
+import org.switchyard.bus.camel.CamelExchangeBusRouteBuilder;
+import org.switchyard.common.camel.SwitchYardCamelContextImpl;
+import org.switchyard.internal.DefaultServiceRegistry;
+import org.switchyard.internal.DomainImpl;
+import org.switchyard.internal.EventManager;
+import org.switchyard.internal.LocalExchangeBus;
+import org.switchyard.internal.transform.BaseTransformerRegistry;
+import org.switchyard.internal.validate.BaseValidatorRegistry;
+import org.switchyard.metadata.InOnlyService;
+import org.switchyard.metadata.InOutService;
+import org.switchyard.metadata.ServiceInterface;
+import org.switchyard.security.service.DefaultServiceDomainSecurity;
+import org.switchyard.spi.ExchangeBus;
+
+/**
+ * Sends exchanges through a service reference to a provider which does no
+ * work of its own, so the measured cost is that of the exchange bus and its
+ * handler pipeline.  Both exchange buses are measured for IN_ONLY and IN_OUT,
+ * the camel bus with its fused route and with one route step per processor.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode({Mode.Throughput, Mode.SampleTime})
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 10, time = 1)
+@Fork(1)
+public class ExchangeBusBenchmark {
+
+    private static final QName DOMAIN_NAME = new QName("urn:switchyard-benchmarks", "BenchmarkDomain");
+    private static final QName SERVICE_NAME = new QName("urn:switchyard-benchmarks", "EchoService");
+    private static final String PAYLOAD = "<order id=\"1\"/>";
+
+    /** Exchange bus implementation, "local", "camel" or "camel-pipeline". */
+    @Param({"local", "camel", "camel-pipeline"})
+    public String bus;
+
+    /** Exchange pattern of the service. */
+    @Param({"IN_ONLY", "IN_OUT"})
+    public ExchangePattern pattern;
+
+    private DomainImpl _domain;
+    private ServiceReference _reference;
+    private final BaseHandler _consumer = new BaseHandler();
+
+    /**
+     * Creates the domain and registers the service.
+     */
+    @Setup
+    public void setUp() {
+        _domain = createDomain(bus.startsWith("camel"));
+        if ("camel-pipeline".equals(bus)) {
+            _domain.setProperty(CamelExchangeBusRouteBuilder.FUSED_ROUTE, "false");
+        }
+        ServiceInterface intf = pattern == ExchangePattern.IN_OUT ? new InOutService() : new InOnlyService();
+        _domain.registerService(SERVICE_NAME, intf, new EchoProvider());
+        _reference = _domain.registerServiceReference(SERVICE_NAME, intf);
+    }
+
+    /**
+     * Stops the exchange bus.
+     */
+    @TearDown
+    public void tearDown() {
+        _domain.destroy();
+    }
+
+    /**
+     * Sends a single exchange; IN_OUT exchanges are replied to before send returns.
+     * @return the exchange
+     */
+    @Benchmark
+    public Exchange send() {
+        Exchange exchange = _reference.createExchange(_consumer);
+        exchange.send(exchange.createMessage().setContent(PAYLOAD));
+        return exchange;
+    }
+
+    static DomainImpl createDomain(boolean camel) {
+        SwitchYardCamelContextImpl camelContext = null;
+        ExchangeBus exchangeBus;
+        if (camel) {
+            camelContext = new SwitchYardCamelContextImpl(false);
+            exchangeBus = new CamelExchangeBus(camelContext);
+        } else {
+            exchangeBus = new LocalExchangeBus();
+        }
+        DomainImpl domain = new DomainImpl(DOMAIN_NAME,
+                new DefaultServiceRegistry(),
+                exchangeBus,
+                new BaseTransformerRegistry(),
+                new BaseValidatorRegistry(),
+                new EventManager(),
+                new DefaultServiceDomainSecurity());
+        if (camelContext != null) {
+            camelContext.setServiceDomain(domain);
+        }
+        domain.init();
+        return domain;
+    }
+
+    private static final class EchoProvider extends BaseHandler {
+        @Override
+        public void handleMessage(Exchange exchange) throws HandlerException {
+            if (exchange.getContract().getProviderOperation().getExchangePattern() == ExchangePattern.IN_OUT) {
+                exchange.send(exchange.createMessage().setContent(exchange.getMessage().getContent()));
+            }
+        }
+    }
+}
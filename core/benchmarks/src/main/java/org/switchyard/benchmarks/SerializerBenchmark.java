@@ -0,0 +1,104 @@
+/*
+ * Copyright 2013 Red Hat Inc. and/or its affiliates and other contributors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * http://www.apache.org/licenses/LICENSE-2.0
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.switchyard.benchmarks;
+
+import java.io.IOException;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.switchyard.benchmarks.model.Order;
+import org.switchyard.serial.CompressionType;
+import org.switchyard.serial.FormatType;
+import org.switchyard.serial.Serializer;
+import org.switchyard.serial.SerializerFactory;
+
+/**
+ * Round trips an order through every serializer format which has a provider
+ * in the build, with and without graph serialization and compression.  The
+ * protostuff formats and JSON_NUMERIC can be passed with -p format=... once
+ * their providers are enabled.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 10, time = 1)
+@Fork(1)
+public class SerializerBenchmark {
+
+    /** Serialization format. */
+    @Param({"SER_OBJECT", "XML_BEAN", "JSON"})
+    public FormatType format;
+
+    /** Compression, NONE for uncompressed. */
+    @Param({"NONE", "GZIP", "ZIP"})
+    public String compression;
+
+    /** Whether the payload is serialized as a graph. */
+    @Param({"false", "true"})
+    public boolean graph;
+
+    /** Number of items in the order. */
+    @Param({"1", "50"})
+    public int items;
+
+    private Serializer _serializer;
+    private Order _order;
+    private byte[] _bytes;
+
+    /**
+     * Creates the serializer and the payloads.
+     * @throws IOException if the order cannot be serialized
+     */
+    @Setup
+    public void setUp() throws IOException {
+        CompressionType compressionType = "NONE".equals(compression) ? null : CompressionType.valueOf(compression);
+        _serializer = SerializerFactory.create(format, compressionType, graph);
+        if (_serializer == null) {
+            throw new IllegalStateException("No serialization provider for " + format);
+        }
+        _order = Order.create(items);
+        _bytes = _serializer.serialize(_order, Order.class);
+    }
+
+    /**
+     * Serializes the order.
+     * @return the serialized form
+     * @throws IOException if serialization fails
+     */
+    @Benchmark
+    public byte[] serialize() throws IOException {
+        return _serializer.serialize(_order, Order.class);
+    }
+
+    /**
+     * Deserializes the order.
+     * @return the order
+     * @throws IOException if deserialization fails
+     */
+    @Benchmark
+    public Order deserialize() throws IOException {
+        return _serializer.deserialize(_bytes, Order.class);
+    }
+}
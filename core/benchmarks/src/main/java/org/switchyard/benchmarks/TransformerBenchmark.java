@@ -0,0 +1,157 @@
+/*
+ * Copyright 2013 Red Hat Inc. and/or its affiliates and other contributors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * http://www.apache.org/licenses/LICENSE-2.0
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.switchyard.benchmarks;
+
+import java.io.IOException;
+import java.io.StringReader;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import javax.xml.transform.stream.StreamSource;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.switchyard.Message;
+import org.switchyard.benchmarks.model.Order;
+import org.switchyard.config.model.ModelPuller;
+import org.switchyard.config.model.switchyard.SwitchYardModel;
+import org.switchyard.config.model.transform.TransformModel;
+import org.switchyard.internal.DefaultMessage;
+import org.switchyard.internal.transform.BaseTransformerRegistry;
+import org.switchyard.transform.Transformer;
+import org.switchyard.transform.internal.TransformerRegistryLoader;
+
+/**
+ * The XSLT, JAXB and JSON transformers applied to an order payload, created
+ * from transform models the same way a deployment creates them.  Messages
+ * carry a registry with the out-of-the-box transforms so that content type
+ * conversions are part of the measurement, as they are at runtime.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 10, time = 1)
+@Fork(1)
+public class TransformerBenchmark {
+
+    /** Configuration holding the transforms. */
+    public static final String CONFIG = "org/switchyard/benchmarks/transforms.xml";
+
+    /** Number of items in the order. */
+    @Param({"1", "50"})
+    public int items;
+
+    private BaseTransformerRegistry _registry;
+    private Transformer<?, ?> _xslt;
+    private Transformer<?, ?> _jaxbMarshal;
+    private Transformer<?, ?> _jaxbUnmarshal;
+    private Transformer<?, ?> _java2json;
+    private Transformer<?, ?> _json2java;
+    private Order _order;
+    private String _orderXml;
+    private String _orderJson;
+
+    /**
+     * Creates the transformers and the payloads.
+     * @throws IOException if the configuration cannot be read
+     */
+    @Setup
+    public void setUp() throws IOException {
+        _registry = new BaseTransformerRegistry();
+        TransformerRegistryLoader loader = new TransformerRegistryLoader(_registry);
+        loader.loadOOTBTransforms();
+
+        SwitchYardModel config = new ModelPuller<SwitchYardModel>().pull(CONFIG, TransformerBenchmark.class);
+        List<TransformModel> transforms = config.getTransforms().getTransforms();
+        _xslt = loader.newTransformer(transforms.get(0));
+        _jaxbMarshal = loader.newTransformer(transforms.get(1));
+        _jaxbUnmarshal = loader.newTransformer(transforms.get(2));
+        _java2json = loader.newTransformer(transforms.get(3));
+        _json2java = loader.newTransformer(transforms.get(4));
+
+        _order = Order.create(items);
+        _orderXml = apply(_jaxbMarshal, newMessage(_order)).getContent(String.class);
+        _orderJson = apply(_java2json, newMessage(_order)).getContent(String.class);
+    }
+
+    /**
+     * Applies the XSLT transformer to the XML form of the order.
+     * @return the transformed message
+     */
+    @Benchmark
+    public Message xslt() {
+        return apply(_xslt, newMessage(_orderXml));
+    }
+
+    /**
+     * Marshals the order with JAXB.
+     * @return the transformed message
+     */
+    @Benchmark
+    public Message jaxbMarshal() {
+        return apply(_jaxbMarshal, newMessage(_order));
+    }
+
+    /**
+     * Unmarshals the XML form of the order with JAXB.
+     * @return the transformed message
+     */
+    @Benchmark
+    public Message jaxbUnmarshal() {
+        return apply(_jaxbUnmarshal, newMessage(new StreamSource(new StringReader(_orderXml))));
+    }
+
+    /**
+     * Writes the order as JSON.
+     * @return the transformed message
+     */
+    @Benchmark
+    public Message java2json() {
+        return apply(_java2json, newMessage(_order));
+    }
+
+    /**
+     * Reads the order from JSON.
+     * @return the transformed message
+     */
+    @Benchmark
+    public Message json2java() {
+        return apply(_json2java, newMessage(_orderJson));
+    }
+
+    private Message newMessage(Object content) {
+        return new DefaultMessage().setTransformerRegistry(_registry).setContent(content);
+    }
+
+    // mirrors TransformSequence.apply() for a single transformer
+    @SuppressWarnings({"unchecked", "rawtypes"})
+    private static Message apply(Transformer transformer, Message message) {
+        if (Message.class.isAssignableFrom(transformer.getFromType())) {
+            transformer.transform(message);
+        } else {
+            message.setContent(transformer.transform(message.getContent(transformer.getFromType())));
+        }
+        return message;
+    }
+}
@@ -0,0 +1,159 @@
+/*
+ * Copyright 2013 Red Hat Inc. and/or its affiliates and other contributors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * http://www.apache.org/licenses/LICENSE-2.0
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.switchyard.benchmarks;
+
+import java.util.concurrent.TimeUnit;
+
+import javax.xml.namespace.QName;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.switchyard.benchmarks.model.Order;
+import org.switchyard.internal.transform.BaseTransformResolver;
+import org.switchyard.internal.transform.BaseTransformerRegistry;
+import org.switchyard.metadata.JavaTypes;
+import org.switchyard.transform.BaseTransformer;
+import org.switchyard.transform.TransformSequence;
+import org.switchyard.transform.Transformer;
+
+/**
+ * Transformer lookups against a registry holding a chain of transformers
+ * between generated types: direct hits, misses, Java super type fallbacks
+ * and multi-hop sequences resolved by the transform resolver.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 10, time = 1)
+@Fork(1)
+public class TransformerRegistryBenchmark {
+
+    private static final String NAMESPACE = "urn:switchyard-benchmarks";
+    private static final QName JAVA_OBJECT = JavaTypes.toMessageType(Object.class);
+    private static final QName JAVA_ORDER = JavaTypes.toMessageType(Order.class);
+
+    /** Number of transformers in the registry. */
+    @Param({"10", "100", "1000"})
+    public int transformers;
+
+    private BaseTransformerRegistry _registry;
+    private BaseTransformResolver _resolver;
+    private QName _hitFrom;
+    private QName _hitTo;
+    private QName _missTo;
+    private QName _hopFrom;
+    private QName _hopTo;
+    private QName _first;
+
+    /**
+     * Populates the registry.
+     */
+    @Setup
+    public void setUp() {
+        _registry = new BaseTransformerRegistry();
+        for (int i = 0; i < transformers; i++) {
+            _registry.addTransformer(new NoopTransformer(type(i), type(i + 1)));
+        }
+        _first = type(0);
+        _registry.addTransformer(new NoopTransformer(JAVA_OBJECT, _first));
+        _resolver = new BaseTransformResolver(_registry);
+
+        int middle = transformers / 2;
+        _hitFrom = type(middle);
+        _hitTo = type(middle + 1);
+        _missTo = new QName(NAMESPACE, "missing");
+        _hopFrom = type(middle);
+        _hopTo = type(Math.min(transformers, middle + 2));
+    }
+
+    /**
+     * Looks up a registered transformer.
+     * @return the transformer
+     */
+    @Benchmark
+    public Transformer<?, ?> lookupHit() {
+        return _registry.getTransformer(_hitFrom, _hitTo);
+    }
+
+    /**
+     * Looks up a transformer which is not registered.
+     * @return null
+     */
+    @Benchmark
+    public Transformer<?, ?> lookupMiss() {
+        return _registry.getTransformer(_hitFrom, _missTo);
+    }
+
+    /**
+     * Looks up a transformer from a Java type which is only registered for
+     * its super type; the result is cached by the registry after the first call.
+     * @return the fallback transformer
+     */
+    @Benchmark
+    public Transformer<?, ?> lookupJavaFallback() {
+        return _registry.getTransformer(JAVA_ORDER, _first);
+    }
+
+    /**
+     * Resolves a sequence with a direct transformer.
+     * @return the sequence
+     */
+    @Benchmark
+    public TransformSequence resolveDirect() {
+        return _resolver.resolveSequence(_hitFrom, _hitTo);
+    }
+
+    /**
+     * Resolves a sequence which needs two transformers.
+     * @return the sequence
+     */
+    @Benchmark
+    public TransformSequence resolveTwoHops() {
+        return _resolver.resolveSequence(_hopFrom, _hopTo);
+    }
+
+    /**
+     * Resolves a sequence between types which are not connected.
+     * @return null
+     */
+    @Benchmark
+    public TransformSequence resolveMiss() {
+        return _resolver.resolveSequence(_hitFrom, _missTo);
+    }
+
+    private static QName type(int index) {
+        return new QName(NAMESPACE, "type" + index);
+    }
+
+    private static final class NoopTransformer extends BaseTransformer<Object, Object> {
+        private NoopTransformer(QName from, QName to) {
+            super(from, to);
+        }
+
+        @Override
+        public Object transform(Object from) {
+            return from;
+        }
+    }
+}
@@ -0,0 +1,96 @@
+/*
+ * Copyright 2013 Red Hat Inc. and/or its affiliates and other contributors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * http://www.apache.org/licenses/LICENSE-2.0
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.switchyard.benchmarks;
+
+import java.io.IOException;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.switchyard.Message;
+import org.switchyard.benchmarks.model.Order;
+import org.switchyard.config.model.ModelPuller;
+import org.switchyard.config.model.switchyard.SwitchYardModel;
+import org.switchyard.internal.DefaultMessage;
+import org.switchyard.internal.transform.BaseTransformerRegistry;
+import org.switchyard.internal.validate.BaseValidatorRegistry;
+import org.switchyard.transform.internal.TransformerRegistryLoader;
+import org.switchyard.validate.ValidationResult;
+import org.switchyard.validate.Validator;
+import org.switchyard.validate.internal.ValidatorRegistryLoader;
+
+/**
+ * Validates the XML form of an order against its XML schema with the
+ * validator created from a validate model.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 10, time = 1)
+@Fork(1)
+public class XmlValidatorBenchmark {
+
+    /** Configuration holding the validator. */
+    public static final String CONFIG = "org/switchyard/benchmarks/validates.xml";
+
+    /** Number of items in the order. */
+    @Param({"1", "50"})
+    public int items;
+
+    private BaseTransformerRegistry _transformers;
+    private Validator<Message> _validator;
+    private String _orderXml;
+
+    /**
+     * Creates the validator and the payload.
+     * @throws IOException if the configuration cannot be read
+     */
+    @Setup
+    @SuppressWarnings("unchecked")
+    public void setUp() throws IOException {
+        _transformers = new BaseTransformerRegistry();
+        new TransformerRegistryLoader(_transformers).loadOOTBTransforms();
+
+        SwitchYardModel config = new ModelPuller<SwitchYardModel>().pull(CONFIG, XmlValidatorBenchmark.class);
+        _validator = (Validator<Message>) new ValidatorRegistryLoader(new BaseValidatorRegistry())
+                .newValidator(config.getValidates().getValidates().get(0));
+
+        StringBuilder xml = new StringBuilder("<order xmlns=\"").append(Order.NAMESPACE).append("\">");
+        xml.append("<id>order-").append(items).append("</id><customer>Acme Corporation</customer>");
+        for (int i = 0; i < items; i++) {
+            xml.append("<item><sku>SKU-").append(i).append("</sku><quantity>").append(i + 1)
+                .append("</quantity><price>").append(9.99 + i).append("</price></item>");
+        }
+        _orderXml = xml.append("</order>").toString();
+    }
+
+    /**
+     * Validates the order.
+     * @return the validation result
+     */
+    @Benchmark
+    public ValidationResult validate() {
+        return _validator.validate(new DefaultMessage().setTransformerRegistry(_transformers).setContent(_orderXml));
+    }
+}
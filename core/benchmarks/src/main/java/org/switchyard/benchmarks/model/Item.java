@@ -0,0 +1,77 @@
+/*
+ * Copyright 2013 Red Hat Inc. and/or its affiliates and other contributors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * http://www.apache.org/licenses/LICENSE-2.0
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.switchyard.benchmarks.model;
+
+import java.io.Serializable;
+
+import javax.xml.bind.annotation.XmlElement;
+import javax.xml.bind.annotation.XmlType;
+
+/**
+ * Line item of an {@link Order}.
+ */
+@XmlType(propOrder = {"sku", "quantity", "price"})
+public class Item implements Serializable {
+
+    private static final long serialVersionUID = 1L;
+
+    private String _sku;
+    private int _quantity;
+    private double _price;
+
+    /**
+     * @return the stock keeping unit
+     */
+    @XmlElement(namespace = Order.NAMESPACE)
+    public String getSku() {
+        return _sku;
+    }
+
+    /**
+     * @param sku the stock keeping unit
+     */
+    public void setSku(String sku) {
+        _sku = sku;
+    }
+
+    /**
+     * @return the quantity
+     */
+    @XmlElement(namespace = Order.NAMESPACE)
+    public int getQuantity() {
+        return _quantity;
+    }
+
+    /**
+     * @param quantity the quantity
+     */
+    public void setQuantity(int quantity) {
+        _quantity = quantity;
+    }
+
+    /**
+     * @return the unit price
+     */
+    @XmlElement(namespace = Order.NAMESPACE)
+    public double getPrice() {
+        return _price;
+    }
+
+    /**
+     * @param price the unit price
+     */
+    public void setPrice(double price) {
+        _price = price;
+    }
+}
@@ -0,0 +1,103 @@
+/*
+ * Copyright 2013 Red Hat Inc. and/or its affiliates and other contributors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * http://www.apache.org/licenses/LICENSE-2.0
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.switchyard.benchmarks.model;
+
+import java.io.Serializable;
+import java.util.ArrayList;
+import java.util.List;
+
+import javax.xml.bind.annotation.XmlElement;
+import javax.xml.bind.annotation.XmlRootElement;
+import javax.xml.bind.annotation.XmlType;
+
+/**
+ * Order payload shared by the benchmarks.
+ */
+@XmlRootElement(name = "order", namespace = Order.NAMESPACE)
+@XmlType(propOrder = {"id", "customer", "items"})
+public class Order implements Serializable {
+
+    /** Namespace of the XML form of an order. */
+    public static final String NAMESPACE = "urn:switchyard-benchmarks:order:1.0";
+
+    private static final long serialVersionUID = 1L;
+
+    private String _id;
+    private String _customer;
+    private List<Item> _items = new ArrayList<Item>();
+
+    /**
+     * Creates an order with the specified number of items.
+     * @param items number of items
+     * @return order
+     */
+    public static Order create(int items) {
+        Order order = new Order();
+        order.setId("order-" + items);
+        order.setCustomer("Acme Corporation");
+        for (int i = 0; i < items; i++) {
+            Item item = new Item();
+            item.setSku("SKU-" + i);
+            item.setQuantity(i + 1);
+            item.setPrice(9.99 + i);
+            order.getItems().add(item);
+        }
+        return order;
+    }
+
+    /**
+     * @return the order id
+     */
+    @XmlElement(namespace = NAMESPACE)
+    public String getId() {
+        return _id;
+    }
+
+    /**
+     * @param id the order id
+     */
+    public void setId(String id) {
+        _id = id;
+    }
+
+    /**
+     * @return the customer
+     */
+    @XmlElement(namespace = NAMESPACE)
+    public String getCustomer() {
+        return _customer;
+    }
+
+    /**
+     * @param customer the customer
+     */
+    public void setCustomer(String customer) {
+        _customer = customer;
+    }
+
+    /**
+     * @return the order items
+     */
+    @XmlElement(name = "item", namespace = NAMESPACE)
+    public List<Item> getItems() {
+        return _items;
+    }
+
+    /**
+     * @param items the order items
+     */
+    public void setItems(List<Item> items) {
+        _items = items;
+    }
+}
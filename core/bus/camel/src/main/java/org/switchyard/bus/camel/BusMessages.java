@@ -147,4 +147,13 @@ public interface BusMessages {
      */
     @Message(id = 10817, value = "Fatal Error - a consumer for internal camel route '%s' not found. SwitchYard deployment is broken for some reason.")
     SwitchYardException consumerForinternalCamelRouteNotFound(String uri);
+
+    /**
+     * unableToJournalExchange method definition.
+     * @param service service name
+     * @param e e
+     * @return SwitchYardException
+     */
+    @Message(id = 10818, value = "Unable to write an IN_ONLY exchange for %s to the journal")
+    SwitchYardException unableToJournalExchange(String service, @Cause Exception e);
 }
@@ -13,15 +13,17 @@
  */
 package org.switchyard.bus.camel;
 
+import java.util.ArrayList;
+import java.util.Collection;
 import java.util.HashSet;
-import java.util.Iterator;
-import java.util.Map;
+import java.util.List;
 import java.util.Set;
 
 import org.apache.camel.Exchange;
 import org.apache.camel.Message;
 import org.switchyard.Context;
 import org.switchyard.Property;
+import org.switchyard.PropertyVisitor;
 import org.switchyard.Scope;
 import org.switchyard.common.camel.ContextPropertyUtil;
 import org.switchyard.label.BehaviorLabel;
@@ -58,17 +60,23 @@ public class CamelCompositeContext implements Context {
         this._message = message;
     }
 
+    Exchange getExchange() {
+        return _exchange;
+    }
+
     @Override
-    public void mergeInto(Context context) {
-        for (Property property : getProperties()) {
-            if (ContextPropertyUtil.isReservedProperty(property.getName(), property.getScope())
-                    || property.hasLabel(BehaviorLabel.TRANSIENT.label())) {
-                continue;
+    public void mergeInto(final Context context) {
+        visitProperties(new PropertyVisitor() {
+            @Override
+            public boolean visit(Property property) {
+                if (!ContextPropertyUtil.isReservedProperty(property.getName(), property.getScope())
+                        && !property.hasLabel(BehaviorLabel.TRANSIENT.label())) {
+                    context.setProperty(property.getName(), property.getValue(), property.getScope())
+                        .addLabels(property.getLabels());
+                }
+                return true;
             }
-
-            context.setProperty(property.getName(), property.getValue(), property.getScope())
-                .addLabels(property.getLabels());
-        }
+        });
     }
 
     @Override
@@ -111,45 +119,85 @@ public class CamelCompositeContext implements Context {
     @Override
     public Set<Property> getProperties() {
         Set<Property> properties = new HashSet<Property>();
-        properties.addAll(getProperties(Scope.EXCHANGE));
-        properties.addAll(getProperties(Scope.MESSAGE));
+        visitProperties(new Collector(properties));
         return properties;
     }
 
     @Override
     public Set<Property> getProperties(Scope scope) {
         Set<Property> properties = new HashSet<Property>();
+        visitProperties(scope, new Collector(properties));
+        return properties;
+    }
+
+    @Override
+    public Set<Property> getProperties(String label) {
+        Set<Property> properties = new HashSet<Property>();
+        visitProperties(label, new Collector(properties));
+        return properties;
+    }
+
+    @Override
+    public void visitProperties(PropertyVisitor visitor) {
+        if (visitExchangeProperties(visitor)) {
+            visitMessageProperties(visitor);
+        }
+    }
+
+    @Override
+    public void visitProperties(Scope scope, PropertyVisitor visitor) {
         switch (scope) {
         case EXCHANGE:
-            if (_exchange.hasProperties()) {
-                for (String prop : _exchange.getProperties().keySet()) {
-                    properties.add(new CamelExchangeProperty(_exchange, prop));
-                }
-            }
+            visitExchangeProperties(visitor);
             break;
         default:
-            if (_message.hasHeaders()) {
-                Set<Map.Entry<String, Object>> entrySet = _message.getHeaders().entrySet();
-                Iterator<Map.Entry<String, Object>> iter = entrySet.iterator();
-                while (iter.hasNext()) {
-                    String prop = iter.next().getKey();
-                    properties.add(new CamelMessageProperty(_message, prop));
+            visitMessageProperties(visitor);
+            break;
+        }
+    }
+
+    private boolean visitExchangeProperties(PropertyVisitor visitor) {
+        if (_exchange.hasProperties()) {
+            for (String prop : _exchange.getProperties().keySet()) {
+                if (!visitor.visit(new CamelExchangeProperty(_exchange, prop))) {
+                    return false;
                 }
             }
-            break;
         }
-        return properties;
+        return true;
+    }
+
+    private boolean visitMessageProperties(PropertyVisitor visitor) {
+        if (_message.hasHeaders()) {
+            for (String prop : _message.getHeaders().keySet()) {
+                if (!visitor.visit(new CamelMessageProperty(_message, prop))) {
+                    return false;
+                }
+            }
+        }
+        return true;
     }
 
     @Override
-    public Set<Property> getProperties(String label) {
-        Set<Property> properties = new HashSet<Property>();
-        for (Property property : getProperties()) {
-            if (property.hasLabel(label)) {
-                properties.add(property);
+    public void visitProperties(String label, PropertyVisitor visitor) {
+        CamelPropertyLabels labels = CamelPropertyLabels.of(_exchange, false);
+        if (labels != null) {
+            for (String name : labels.getNames(label)) {
+                if (_exchange.getProperties().containsKey(name)
+                        && !visitor.visit(new CamelExchangeProperty(_exchange, name))) {
+                    return;
+                }
+            }
+        }
+        labels = CamelPropertyLabels.of(_message, false);
+        if (labels != null) {
+            for (String name : labels.getNames(label)) {
+                if (_message.getHeaders().containsKey(name)
+                        && !visitor.visit(new CamelMessageProperty(_message, name))) {
+                    return;
+                }
             }
         }
-        return properties;
     }
 
     @Override
@@ -180,10 +228,10 @@ public class CamelCompositeContext implements Context {
 
     @Override
     public void removeProperties(String label) {
-        for (Property property : getProperties()) {
-            if (property.hasLabel(label)) {
-                removeProperty(property);
-            }
+        List<Property> properties = new ArrayList<Property>();
+        visitProperties(label, new Collector(properties));
+        for (Property property : properties) {
+            removeProperty(property);
         }
     }
 
@@ -215,4 +263,18 @@ public class CamelCompositeContext implements Context {
         return this;
     }
 
+    private static final class Collector implements PropertyVisitor {
+        private final Collection<Property> _properties;
+
+        private Collector(Collection<Property> properties) {
+            _properties = properties;
+        }
+
+        @Override
+        public boolean visit(Property property) {
+            _properties.add(property);
+            return true;
+        }
+    }
+
 }
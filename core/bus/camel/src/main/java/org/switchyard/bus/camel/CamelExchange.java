@@ -98,7 +98,7 @@ public class CamelExchange implements Exchange {
 
     @Override
     public Context getContext() {
-        return new CamelCompositeContext(_exchange, getMessage());
+        return getMessage().getContext(_exchange);
     }
 
     @Override
@@ -235,17 +235,27 @@ public class CamelExchange implements Exchange {
             domain.getEventPublisher().publish(new ExchangeInitiatedEvent(this));
         }
 
-        _exchange.getProperty(DISPATCHER, ExchangeDispatcher.class).dispatch(this);
+        ExchangeDispatcher dispatcher = _exchange.getProperty(DISPATCHER, ExchangeDispatcher.class);
+        // an asynchronous dispatch publishes the completion event once the provider is done
+        boolean async = dispatcher.isAsync(this);
+        dispatcher.dispatch(this);
 
-        if (isDone(sendPhase)) {
-         // Publish exchange completion event
-            long duration = System.nanoTime() - _exchange.getProperty(ExchangeInitiatedEvent.EXCHANGE_INITIATED_TIME, 0, Long.class);
-            getContext().setProperty(ExchangeCompletionEvent.EXCHANGE_DURATION, TimeUnit.NANOSECONDS.toMillis(duration))
-                .addLabels(BehaviorLabel.TRANSIENT.label());
-            domain.getEventPublisher().publish(new ExchangeCompletionEvent(this));
+        if (!async && isDone(sendPhase)) {
+            completed();
         }
     }
 
+    /**
+     * Publishes the exchange completion event.
+     */
+    void completed() {
+        ServiceDomain domain = ((SwitchYardCamelContext) _exchange.getContext()).getServiceDomain();
+        long duration = System.nanoTime() - _exchange.getProperty(ExchangeInitiatedEvent.EXCHANGE_INITIATED_TIME, 0, Long.class);
+        getContext().setProperty(ExchangeCompletionEvent.EXCHANGE_DURATION, TimeUnit.NANOSECONDS.toMillis(duration))
+            .addLabels(BehaviorLabel.TRANSIENT.label());
+        domain.getEventPublisher().publish(new ExchangeCompletionEvent(this));
+    }
+
     @Override
     public ExchangeState getState() {
         return isFault(_exchange) ? ExchangeState.FAULT : ExchangeState.OK;
@@ -14,6 +14,7 @@
 
 package org.switchyard.bus.camel;
 
+import java.util.EventObject;
 import java.util.HashMap;
 
 import javax.xml.namespace.QName;
@@ -26,6 +27,9 @@ import org.switchyard.ServiceDomain;
 import org.switchyard.ServiceReference;
 import org.switchyard.bus.camel.processors.Processors;
 import org.switchyard.common.camel.SwitchYardCamelContext;
+import org.switchyard.event.EventObserver;
+import org.switchyard.event.ReferenceUnregistrationEvent;
+import org.switchyard.runtime.timing.StageTimingRegistry;
 import org.switchyard.spi.Dispatcher;
 import org.switchyard.spi.ExchangeBus;
 
@@ -66,6 +70,13 @@ public class CamelExchangeBus implements ExchangeBus {
         // We need to ensure the applicationContextClassLoader is the bundle deployment class loader
         // for now. This will be unnecessary once CAMEL-7759 is merged.
         _camelContext.setApplicationContextClassLoader(Thread.currentThread().getContextClassLoader());
+
+        domain.addEventObserver(new EventObserver() {
+            @Override
+            public void notify(EventObject event) {
+                dropDispatcher(((ReferenceUnregistrationEvent) event).getReference());
+            }
+        }, ReferenceUnregistrationEvent.class);
     }
 
     /**
@@ -86,6 +97,10 @@ public class CamelExchangeBus implements ExchangeBus {
     @Override
     public synchronized void stop() {
         try {
+            for (ExchangeDispatcher dispatcher : _dispatchers.values()) {
+                dispatcher.stop();
+                removeTimings(dispatcher.getServiceReference());
+            }
             _dispatchers.clear();
             _camelContext.stop();
         } catch (Exception ex) {
@@ -112,6 +127,8 @@ public class CamelExchangeBus implements ExchangeBus {
             // to hot-replace a service endpoint.
             if (_camelContext.getRoute(endpoint) != null) {
                 _camelContext.removeRoute(endpoint);
+                // the route of the new reference starts with fresh timings
+                removeTimings(reference);
                 if (_logger.isInfoEnabled()) {
                     BusLogger.ROOT_LOGGER.removeRoute(endpoint);
                 }
@@ -127,9 +144,29 @@ public class CamelExchangeBus implements ExchangeBus {
         }
 
         ExchangeDispatcher dispatcher = new ExchangeDispatcher(_camelContext, reference);
-        _dispatchers.put(reference.getName(), dispatcher);
+        ExchangeDispatcher replaced = _dispatchers.put(reference.getName(), dispatcher);
+        if (replaced != null) {
+            replaced.stop();
+        }
+        dispatcher.start();
         return dispatcher;
     }
 
+    private synchronized void dropDispatcher(ServiceReference reference) {
+        ExchangeDispatcher dispatcher = _dispatchers.get(reference.getName());
+        // a reference registered later under the same name keeps its dispatcher
+        if (dispatcher != null && dispatcher.getServiceReference() == reference) {
+            _dispatchers.remove(reference.getName());
+            dispatcher.stop();
+            removeTimings(reference);
+        }
+    }
+
+    private static void removeTimings(ServiceReference reference) {
+        if (reference.getDomain() != null) {
+            StageTimingRegistry.getRegistry(reference.getDomain()).removeTimings(reference.getName());
+        }
+    }
+
 }
 
@@ -14,19 +14,26 @@
 package org.switchyard.bus.camel;
 
 import static org.switchyard.bus.camel.processors.Processors.ADDRESSING;
+import static org.switchyard.bus.camel.processors.Processors.BULKHEAD;
+import static org.switchyard.bus.camel.processors.Processors.CIRCUIT_BREAKER;
 import static org.switchyard.bus.camel.processors.Processors.CONSUMER_CALLBACK;
 import static org.switchyard.bus.camel.processors.Processors.CONSUMER_INTERCEPT;
+import static org.switchyard.bus.camel.processors.Processors.DEADLINE;
 import static org.switchyard.bus.camel.processors.Processors.ERROR_HANDLING;
 import static org.switchyard.bus.camel.processors.Processors.GENERIC_POLICY;
 import static org.switchyard.bus.camel.processors.Processors.PROVIDER_CALLBACK;
 import static org.switchyard.bus.camel.processors.Processors.PROVIDER_INTERCEPT;
+import static org.switchyard.bus.camel.processors.Processors.REQUEST_COALESCING;
+import static org.switchyard.bus.camel.processors.Processors.RESPONSE_CACHE;
 import static org.switchyard.bus.camel.processors.Processors.SECURITY_CLEANUP;
 import static org.switchyard.bus.camel.processors.Processors.SECURITY_PROCESS;
 import static org.switchyard.bus.camel.processors.Processors.TRANSACTION_HANDLER;
 import static org.switchyard.bus.camel.processors.Processors.TRANSFORMATION;
 import static org.switchyard.bus.camel.processors.Processors.VALIDATION;
 
+import java.util.Arrays;
 import java.util.Collections;
+import java.util.List;
 import java.util.Map;
 import java.util.Map.Entry;
 
@@ -43,16 +50,74 @@ import org.switchyard.ErrorListener;
 import org.switchyard.ExchangePattern;
 import org.switchyard.ServiceReference;
 import org.switchyard.bus.camel.audit.AuditInterceptStrategy;
+import org.switchyard.bus.camel.audit.Auditor;
 import org.switchyard.bus.camel.audit.FaultInterceptStrategy;
+import org.switchyard.bus.camel.audit.StageTimingInterceptStrategy;
+import org.switchyard.bus.camel.processors.FusedProcessor;
+import org.switchyard.bus.camel.processors.Processors;
 import org.switchyard.common.camel.SwitchYardCamelContext;
 import org.switchyard.metadata.ServiceOperation;
 import org.switchyard.metadata.qos.Throttling;
+import org.switchyard.runtime.timing.StageTimingRegistry;
+import org.switchyard.runtime.timing.StageTimings;
 
 /**
  * Route builder which creates mediation necessary to handle communication inside SwitchYard.
+ * <p/>
+ * Unless custom {@link Auditor}s or intercept strategies are registered, which
+ * need to see every processing step, the steps of each block of the route run
+ * in a single {@link FusedProcessor}.  Setting the {@link #FUSED_ROUTE} domain
+ * property to false always builds one processRef per step.
  */
 public class CamelExchangeBusRouteBuilder extends RouteBuilder {
 
+    /**
+     * Domain property which turns the fused route off when set to false.
+     */
+    public static final String FUSED_ROUTE = "org.switchyard.bus.camel.fusedRoute";
+
+    private static final List<Processors> REQUEST_STEPS = Arrays.asList(
+        CONSUMER_INTERCEPT,
+        ADDRESSING,
+        TRANSACTION_HANDLER,
+        SECURITY_PROCESS,
+        GENERIC_POLICY,
+        VALIDATION,
+        TRANSFORMATION,
+        VALIDATION,
+        PROVIDER_INTERCEPT,
+        RESPONSE_CACHE,
+        REQUEST_COALESCING,
+        DEADLINE,
+        CIRCUIT_BREAKER,
+        BULKHEAD,
+        PROVIDER_CALLBACK,
+        BULKHEAD,
+        CIRCUIT_BREAKER,
+        REQUEST_COALESCING,
+        RESPONSE_CACHE,
+        PROVIDER_INTERCEPT,
+        SECURITY_CLEANUP,
+        TRANSACTION_HANDLER);
+
+    private static final List<Processors> ERROR_STEPS = Arrays.asList(
+        ERROR_HANDLING,
+        BULKHEAD,
+        CIRCUIT_BREAKER,
+        REQUEST_COALESCING,
+        PROVIDER_INTERCEPT,
+        SECURITY_CLEANUP,
+        TRANSACTION_HANDLER);
+
+    private static final List<Processors> REPLY_STEPS = Arrays.asList(
+        VALIDATION,
+        TRANSFORMATION,
+        VALIDATION);
+
+    private static final List<Processors> FINALLY_STEPS = Arrays.asList(
+        CONSUMER_INTERCEPT,
+        CONSUMER_CALLBACK);
+
     private static final Predicate IN_OUT_CHECK = new Predicate() {
         @Override
         public boolean matches(Exchange exchange) {
@@ -110,9 +175,13 @@ public class CamelExchangeBusRouteBuilder extends RouteBuilder {
             throw BusMessages.MESSAGES.maxOneExceptionHandler(handlers.keySet());
         }
 
+        boolean fused = isFusedRoute();
+
         // add default intercept strategy using @Audit annotation
         definition.addInterceptStrategy(new FaultInterceptStrategy());
-        definition.addInterceptStrategy(new AuditInterceptStrategy());
+        if (!fused) {
+            definition.addInterceptStrategy(new AuditInterceptStrategy());
+        }
 
         for (Entry<String, InterceptStrategy> interceptEntry : lookup(InterceptStrategy.class).entrySet()) {
             if (log.isDebugEnabled()) {
@@ -121,6 +190,15 @@ public class CamelExchangeBusRouteBuilder extends RouteBuilder {
             definition.addInterceptStrategy(interceptEntry.getValue());
         }
 
+        StageTimings timings = null;
+        if (_reference.getDomain() != null) {
+            timings = StageTimingRegistry.getRegistry(_reference.getDomain()).getTimings(_reference.getName());
+            // added last so the recorded time covers the other interceptors
+            if (!fused) {
+                definition.addInterceptStrategy(new StageTimingInterceptStrategy(timings));
+            }
+        }
+
         Map<String, ErrorListener> errorListeners = lookup(ErrorListener.class);
         if (errorListeners.isEmpty()) {
             getContext().getWritebleRegistry().put("defaultErrorListener", new DefaultErrorListener());
@@ -132,41 +210,49 @@ public class CamelExchangeBusRouteBuilder extends RouteBuilder {
 
         TryDefinition tryDefinition = definition.doTry();
         addThrottling(tryDefinition);
-        
-        tryDefinition
-            .processRef(CONSUMER_INTERCEPT.name())
-            .processRef(ADDRESSING.name())
-            .processRef(TRANSACTION_HANDLER.name())
-            .processRef(SECURITY_PROCESS.name())
-            .processRef(GENERIC_POLICY.name())
-            .processRef(VALIDATION.name())
-            .processRef(TRANSFORMATION.name())
-            .processRef(VALIDATION.name())
-            .processRef(PROVIDER_INTERCEPT.name())
-            .processRef(PROVIDER_CALLBACK.name())
-            .processRef(PROVIDER_INTERCEPT.name())
-            .processRef(SECURITY_CLEANUP.name())
-            .processRef(TRANSACTION_HANDLER.name())
-            .addOutput(createFilterDefinition());
-        
-        tryDefinition
-            .doCatch(Exception.class)
-            .processRef(ERROR_HANDLING.name())
-            .processRef(PROVIDER_INTERCEPT.name())
-            .processRef(SECURITY_CLEANUP.name())
-            .processRef(TRANSACTION_HANDLER.name())
-            .addOutput(createFilterDefinition());
-        
-        tryDefinition.doFinally()
-            .processRef(CONSUMER_INTERCEPT.name())
-            .processRef(CONSUMER_CALLBACK.name());
+
+        if (fused) {
+            tryDefinition.process(new FusedProcessor(getContext(), REQUEST_STEPS, REPLY_STEPS, timings));
+            tryDefinition
+                .doCatch(Exception.class)
+                .process(new FusedProcessor(getContext(), ERROR_STEPS, REPLY_STEPS, timings));
+            tryDefinition
+                .doFinally()
+                .process(new FusedProcessor(getContext(), FINALLY_STEPS, Collections.<Processors>emptyList(), timings));
+            return;
+        }
+
+        addSteps(tryDefinition, REQUEST_STEPS);
+        tryDefinition.addOutput(createFilterDefinition());
+
+        tryDefinition.doCatch(Exception.class);
+        addSteps(tryDefinition, ERROR_STEPS);
+        tryDefinition.addOutput(createFilterDefinition());
+
+        tryDefinition.doFinally();
+        addSteps(tryDefinition, FINALLY_STEPS);
+    }
+
+    private boolean isFusedRoute() {
+        if (_reference.getDomain() != null
+            && "false".equalsIgnoreCase(String.valueOf(_reference.getDomain().getProperty(FUSED_ROUTE)))) {
+            return false;
+        }
+        return lookup(Auditor.class).isEmpty() && lookup(InterceptStrategy.class).isEmpty();
+    }
+
+    private void addSteps(TryDefinition definition, List<Processors> steps) {
+        for (Processors step : steps) {
+            definition.processRef(step.name());
+        }
     }
 
     private ExpressionNode createFilterDefinition() {
-        return new FilterDefinition(IN_OUT_CHECK)
-            .processRef(VALIDATION.name())
-            .processRef(TRANSFORMATION.name())
-            .processRef(VALIDATION.name());
+        FilterDefinition filter = new FilterDefinition(IN_OUT_CHECK);
+        for (Processors step : REPLY_STEPS) {
+            filter.processRef(step.name());
+        }
+        return filter;
     }
 
     /**
@@ -42,6 +42,9 @@ public class CamelMessage extends SwitchYardMessage implements Message {
 
     private static Logger _logger = Logger.getLogger(CamelMessage.class);
 
+    // view of the exchange and this message, kept while the message stays on the same exchange
+    private CamelCompositeContext _context;
+
     /**
      * Creates new Camel message with specified exchange.
      *
@@ -150,7 +153,16 @@ public class CamelMessage extends SwitchYardMessage implements Message {
 
     @Override
     public Context getContext() {
-        return new CamelCompositeContext(getExchange(), this);
+        return getContext(getExchange());
+    }
+
+    CamelCompositeContext getContext(Exchange exchange) {
+        CamelCompositeContext context = _context;
+        if (context == null || context.getExchange() != exchange) {
+            context = new CamelCompositeContext(exchange, this);
+            _context = context;
+        }
+        return context;
     }
 
     @Override
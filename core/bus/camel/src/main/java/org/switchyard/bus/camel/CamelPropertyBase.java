@@ -15,8 +15,6 @@ package org.switchyard.bus.camel;
 
 import java.util.Arrays;
 import java.util.Collections;
-import java.util.HashSet;
-import java.util.Map;
 import java.util.Set;
 
 import org.switchyard.Property;
@@ -28,50 +26,44 @@ public abstract class CamelPropertyBase implements Property {
 
     @Override
     public Set<String> getLabels() {
-        Set<String> labels = getLabelsBag().get(getName());
-        if (labels == null) {
-            labels = Collections.emptySet();
-        }
-        return labels;
+        CamelPropertyLabels labels = getLabelsBag(false);
+        return labels == null ? Collections.<String>emptySet() : labels.getLabels(getName());
     }
 
     @Override
     public Property addLabels(String... labels) {
-        if (!getLabelsBag().containsKey(getName())) {
-            getLabelsBag().put(getName(), new HashSet<String>());
-        }
-        getLabelsBag().get(getName()).addAll(Arrays.asList(labels));
+        getLabelsBag(true).addLabels(getName(), Arrays.asList(labels));
         return this;
     }
     
     @Override
     public Property addLabels(Set<String> labels) {
-        if (!getLabelsBag().containsKey(getName())) {
-            getLabelsBag().put(getName(), new HashSet<String>());
-        }
-        getLabelsBag().get(getName()).addAll(labels);
+        getLabelsBag(true).addLabels(getName(), labels);
         return this;
     }
 
     @Override
     public Property removeLabels(String... labels) {
-        if (getLabelsBag().containsKey(getName())) {
-            getLabelsBag().get(getName()).removeAll(Arrays.asList(labels));
+        CamelPropertyLabels bag = getLabelsBag(false);
+        if (bag != null) {
+            bag.removeLabels(getName(), Arrays.asList(labels));
         }
         return this;
     }
 
     @Override
     public boolean hasLabel(String label) {
-        return getLabelsBag().containsKey(getName()) ? getLabelsBag().get(getName()).contains(label) : false;
+        CamelPropertyLabels labels = getLabelsBag(false);
+        return labels != null && labels.hasLabel(getName(), label);
     }
 
     /**
      * Retrieves bag which allows to store map between property names and property labels.
      * 
-     * @return Map to keep property labels.
+     * @param create Whether the bag should be created if there is none yet.
+     * @return Labels of the properties in the scope, or null.
      */
-    protected abstract Map<String, Set<String>> getLabelsBag();
+    protected abstract CamelPropertyLabels getLabelsBag(boolean create);
 
     @Override
     public int hashCode() {
@@ -0,0 +1,171 @@
+/*
+ * Copyright 2013 Red Hat Inc. and/or its affiliates and other contributors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * http://www.apache.org/licenses/LICENSE-2.0
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.switchyard.bus.camel;
+
+import java.io.Serializable;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.Map;
+import java.util.Set;
+
+import org.apache.camel.Exchange;
+import org.apache.camel.Message;
+
+/**
+ * Labels of the properties in one scope of a Camel exchange, kept under
+ * {@link CamelExchange#LABELS} as an exchange property or a message header.
+ * <br><br>
+ * Labels are indexed both ways, so finding the properties with a label
+ * costs the number of matches rather than the number of properties.  Labels
+ * stay when their property is removed, as they always have; lookups by label
+ * check that the property still exists.
+ * <br><br>
+ * Both indexes are changed only by {@link #addLabels} and
+ * {@link #removeLabels}; lookups never change them.  Like the exchange it
+ * belongs to, an instance is not thread safe: lookups may run concurrently
+ * with each other, but not with label changes.
+ */
+public final class CamelPropertyLabels implements Serializable {
+
+    private static final long serialVersionUID = 1L;
+
+    private final Map<String, Set<String>> _labelsByName = new HashMap<String, Set<String>>();
+    private final Map<String, Set<String>> _namesByLabel = new HashMap<String, Set<String>>();
+
+    /**
+     * Retrieves the labels of exchange properties.
+     *
+     * @param exchange Exchange instance.
+     * @param create Whether labels should be created if the exchange has none yet.
+     * @return Labels, or null when there are none and create is false.
+     */
+    public static CamelPropertyLabels of(Exchange exchange, boolean create) {
+        Object labels = exchange.hasProperties() ? exchange.getProperty(CamelExchange.LABELS) : null;
+        if (labels instanceof CamelPropertyLabels) {
+            return (CamelPropertyLabels) labels;
+        }
+        if (!create) {
+            return null;
+        }
+        CamelPropertyLabels created = new CamelPropertyLabels();
+        exchange.setProperty(CamelExchange.LABELS, created);
+        return created;
+    }
+
+    /**
+     * Retrieves the labels of message headers.
+     *
+     * @param message Message instance.
+     * @param create Whether labels should be created if the message has none yet.
+     * @return Labels, or null when there are none and create is false.
+     */
+    public static CamelPropertyLabels of(Message message, boolean create) {
+        Object labels = message.hasHeaders() ? message.getHeader(CamelExchange.LABELS) : null;
+        if (labels instanceof CamelPropertyLabels) {
+            return (CamelPropertyLabels) labels;
+        }
+        if (!create) {
+            return null;
+        }
+        CamelPropertyLabels created = new CamelPropertyLabels();
+        message.setHeader(CamelExchange.LABELS, created);
+        return created;
+    }
+
+    /**
+     * Labels of a property.
+     *
+     * @param name Property name.
+     * @return Unmodifiable set of labels, empty if the property has none.
+     */
+    public Set<String> getLabels(String name) {
+        Set<String> labels = _labelsByName.get(name);
+        return labels == null ? Collections.<String>emptySet() : Collections.unmodifiableSet(labels);
+    }
+
+    /**
+     * Names of the properties with a label.
+     *
+     * @param label Label.
+     * @return Unmodifiable set of property names, empty if no property has the label.
+     */
+    public Set<String> getNames(String label) {
+        Set<String> names = _namesByLabel.get(label);
+        return names == null ? Collections.<String>emptySet() : Collections.unmodifiableSet(names);
+    }
+
+    /**
+     * Verifies if a property has a label.
+     *
+     * @param name Property name.
+     * @param label Label.
+     * @return True if the property has the label.
+     */
+    public boolean hasLabel(String name, String label) {
+        Set<String> labels = _labelsByName.get(name);
+        return labels != null && labels.contains(label);
+    }
+
+    /**
+     * Adds labels to a property.
+     *
+     * @param name Property name.
+     * @param labels Labels to add.
+     */
+    public void addLabels(String name, Collection<String> labels) {
+        Set<String> current = _labelsByName.get(name);
+        if (current == null) {
+            current = new HashSet<String>();
+            _labelsByName.put(name, current);
+        }
+        for (String label : labels) {
+            if (current.add(label)) {
+                Set<String> names = _namesByLabel.get(label);
+                if (names == null) {
+                    names = new HashSet<String>();
+                    _namesByLabel.put(label, names);
+                }
+                names.add(name);
+            }
+        }
+    }
+
+    /**
+     * Removes labels from a property.
+     *
+     * @param name Property name.
+     * @param labels Labels to remove.
+     */
+    public void removeLabels(String name, Collection<String> labels) {
+        Set<String> current = _labelsByName.get(name);
+        if (current == null) {
+            return;
+        }
+        for (String label : labels) {
+            if (current.remove(label)) {
+                Set<String> names = _namesByLabel.get(label);
+                if (names != null && names.remove(name) && names.isEmpty()) {
+                    _namesByLabel.remove(label);
+                }
+            }
+        }
+    }
+
+    @Override
+    public String toString() {
+        return _labelsByName.toString();
+    }
+}
@@ -14,6 +14,8 @@
 
 package org.switchyard.bus.camel;
 
+import java.io.IOException;
+
 import org.apache.camel.ProducerTemplate;
 import org.apache.camel.component.direct.DirectEndpoint;
 import org.apache.camel.impl.DefaultExchange;
@@ -22,20 +24,61 @@ import org.switchyard.Exchange;
 import org.switchyard.ExchangeHandler;
 import org.switchyard.ExchangePattern;
 import org.switchyard.ExchangePhase;
+import org.switchyard.Message;
+import org.switchyard.Scope;
 import org.switchyard.ServiceReference;
+import org.switchyard.common.camel.SwitchYardCamelContext;
 import org.switchyard.label.BehaviorLabel;
+import org.switchyard.metadata.qos.AsyncDispatch;
+import org.switchyard.metadata.qos.Priority;
 import org.switchyard.metadata.qos.Throttling;
+import org.switchyard.runtime.executor.DispatchQueue;
+import org.switchyard.runtime.executor.JournalDispatchQueue;
+import org.switchyard.runtime.qos.ExchangePriority;
+import org.switchyard.security.context.SecurityContext;
+import org.switchyard.security.context.SecurityContextManager;
+import org.switchyard.serial.FormatType;
+import org.switchyard.serial.Serializer;
+import org.switchyard.serial.SerializerFactory;
 import org.switchyard.spi.Dispatcher;
 
 /**
  * Creates a Dispatcher instance for handling message exchange for a SwitchYard
  * service.
+ * <br><br>
+ * IN_ONLY exchanges sent through a reference with an {@link AsyncDispatch}
+ * configuration are put on a {@link DispatchQueue} and routed on its worker
+ * threads; the sender returns once the exchange is queued.  The worker runs
+ * the route with the security context and context class loader the sender
+ * had when it dispatched the exchange.  The sender's transaction is not
+ * propagated: the route runs outside of it, and a rollback of the sender does
+ * not withdraw the queued exchange.  With a journal
+ * configured, the exchange is written to a {@link JournalDispatchQueue} and
+ * completed at once, and a new exchange carrying the same operation, content
+ * and context is sent for it when the journal is replayed.
+ * <br><br>
+ * The priority class of an exchange is resolved when it is dispatched, so it
+ * travels in the exchange context and orders the dispatch queue.
  */
 public class ExchangeDispatcher implements Dispatcher {
 
+    /**
+     * Time in milliseconds a stopping dispatcher waits for queued exchanges.
+     */
+    private static final long STOP_TIMEOUT = 5000;
+
+    /**
+     * Exchange property marking an exchange replayed from the journal.
+     */
+    static final String JOURNAL_REPLAY = "org.switchyard.bus.camel.journalReplay";
+
     private final ModelCamelContext _context;
     private ServiceReference _reference;
     private ProducerTemplate _producer;
+    private DispatchQueue _queue;
+    private JournalDispatchQueue _journal;
+    private Serializer _serializer;
+    private final SecurityContextManager _securityContextManager;
 
     /**
      * Create a new Dispatcher instance.
@@ -46,6 +89,7 @@ public class ExchangeDispatcher implements Dispatcher {
         _context = context;
         _reference = reference;
         _producer = context.createProducerTemplate();
+        _securityContextManager = new SecurityContextManager(reference.getDomain());
     }
 
     @Override
@@ -79,6 +123,7 @@ public class ExchangeDispatcher implements Dispatcher {
             return;
         }
 
+        Priority.Level priority = ExchangePriority.resolve(exchange);
         Throttling throttling = _reference.getServiceMetadata().getThrottling();
         if (throttling != null && throttling.getMaxRequests() > 0) {
             exchange.getMessage().getContext().setProperty(
@@ -87,12 +132,124 @@ public class ExchangeDispatcher implements Dispatcher {
         }
         
         String uri = "direct:" + exchange.getConsumer().getName();
-        DirectEndpoint ep = _context.getEndpoint(uri, DirectEndpoint.class);
+        final DirectEndpoint ep = _context.getEndpoint(uri, DirectEndpoint.class);
         if (ep.getConsumer() == null) {
             throw BusMessages.MESSAGES.consumerForinternalCamelRouteNotFound(uri);
         }
-        _producer.send(ep, camelEx.getExchange());
-        
+        if (isAsync(camelEx) && journaled()) {
+            getJournal().dispatch(write(camelEx));
+            camelEx.completed();
+        } else if (isAsync(camelEx)) {
+            final CamelExchange queued = camelEx;
+            final SecurityContext securityContext = _securityContextManager.getContext(camelEx, false);
+            final ClassLoader loader = Thread.currentThread().getContextClassLoader();
+            getQueue().dispatch(new Runnable() {
+                @Override
+                public void run() {
+                    Thread thread = Thread.currentThread();
+                    ClassLoader original = thread.getContextClassLoader();
+                    thread.setContextClassLoader(loader);
+                    _securityContextManager.setContext(queued, securityContext);
+                    try {
+                        _producer.send(ep, queued.getExchange());
+                        queued.completed();
+                    } finally {
+                        // the exchange is done, so the worker thread doesn't keep its credentials
+                        _securityContextManager.setContext(queued, null);
+                        thread.setContextClassLoader(original);
+                    }
+                }
+            }, priority);
+        } else {
+            _producer.send(ep, camelEx.getExchange());
+        }
+    }
+
+    /**
+     * Starts the dispatcher.  Exchanges left in the journal of the reference,
+     * if it has one, are replayed.
+     */
+    public synchronized void start() {
+        if (journaled()) {
+            getJournal();
+        }
+    }
+
+    /**
+     * Stops the dispatch queue of this dispatcher, if it has one.  Exchanges
+     * not replayed from the journal yet stay in it.
+     */
+    public synchronized void stop() {
+        if (_queue != null) {
+            _queue.stop(STOP_TIMEOUT);
+            _queue = null;
+        }
+        if (_journal != null) {
+            _journal.stop(STOP_TIMEOUT);
+            _journal = null;
+        }
+    }
+
+    /**
+     * Tells whether an exchange is dispatched asynchronously.
+     * @param exchange exchange being sent
+     * @return true if the exchange is queued rather than routed on the sending thread
+     */
+    boolean isAsync(CamelExchange exchange) {
+        return _reference.getServiceMetadata().getAsyncDispatch() != null
+                && ExchangePhase.IN.equals(exchange.getPhase())
+                && exchange.getContext().getProperty(JOURNAL_REPLAY, Scope.EXCHANGE) == null
+                && ExchangePattern.IN_ONLY.equals(exchange.getContract().getConsumerOperation().getExchangePattern());
+    }
+
+    private synchronized DispatchQueue getQueue() {
+        if (_queue == null) {
+            _queue = new DispatchQueue(((SwitchYardCamelContext) _context).getServiceDomain(),
+                    _reference.getName(), _reference.getServiceMetadata().getAsyncDispatch());
+        }
+        return _queue;
+    }
+
+    private boolean journaled() {
+        AsyncDispatch asyncDispatch = _reference.getServiceMetadata().getAsyncDispatch();
+        return asyncDispatch != null && asyncDispatch.getJournal() != null;
+    }
+
+    private synchronized JournalDispatchQueue getJournal() {
+        if (_journal == null) {
+            _serializer = SerializerFactory.create(FormatType.JSON, null, true);
+            _journal = new JournalDispatchQueue(((SwitchYardCamelContext) _context).getServiceDomain(),
+                    _reference.getName(), _reference.getServiceMetadata().getAsyncDispatch(),
+                    new JournalDispatchQueue.RecordHandler() {
+                        @Override
+                        public void handle(byte[] record) throws Exception {
+                            replay(record);
+                        }
+                    });
+        }
+        return _journal;
+    }
+
+    private byte[] write(CamelExchange exchange) {
+        JournaledExchange journaled = new JournaledExchange()
+            .setOperation(exchange.getContract().getConsumerOperation().getName())
+            .setContent(exchange.getMessage().getContent());
+        exchange.getContext().mergeInto(journaled.getContext());
+        try {
+            return _serializer.serialize(journaled, JournaledExchange.class);
+        } catch (IOException ioe) {
+            throw BusMessages.MESSAGES.unableToJournalExchange(_reference.getName().toString(), ioe);
+        }
+    }
+
+    private void replay(byte[] record) throws IOException {
+        JournaledExchange journaled = _serializer.deserialize(record, JournaledExchange.class);
+        Exchange exchange = _reference.createExchange(journaled.getOperation());
+        Message message = exchange.createMessage().setContent(journaled.getContent());
+        journaled.getContext().mergeInto(exchange.getContext(message));
+        exchange.getContext(message).setProperty(JOURNAL_REPLAY, Boolean.TRUE, Scope.EXCHANGE)
+            .addLabels(BehaviorLabel.TRANSIENT.label());
+        exchange.send(message);
     }
 
 }
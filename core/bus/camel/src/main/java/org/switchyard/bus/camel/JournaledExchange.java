@@ -0,0 +1,79 @@
+/*
+ * Copyright 2013 Red Hat Inc. and/or its affiliates and other contributors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * http://www.apache.org/licenses/LICENSE-2.0
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,  
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.switchyard.bus.camel;
+
+import org.switchyard.Context;
+import org.switchyard.internal.CompositeContext;
+import org.switchyard.serial.graph.AccessType;
+import org.switchyard.serial.graph.Strategy;
+
+/**
+ * An IN_ONLY exchange as it is written to the journal of an
+ * {@link ExchangeDispatcher}: the operation, the message content and the
+ * context properties not labelled transient.
+ */
+@Strategy(access=AccessType.FIELD)
+public class JournaledExchange {
+
+    private String _operation;
+    private Object _content;
+    private Context _context;
+
+    /**
+     * Create a new JournaledExchange.
+     */
+    public JournaledExchange() {
+        _context = new CompositeContext();
+    }
+
+    /**
+     * @return the name of the operation invoked
+     */
+    public String getOperation() {
+        return _operation;
+    }
+
+    /**
+     * @param operation the name of the operation invoked
+     * @return this JournaledExchange (useful for chaining)
+     */
+    public JournaledExchange setOperation(String operation) {
+        _operation = operation;
+        return this;
+    }
+
+    /**
+     * @return the message content
+     */
+    public Object getContent() {
+        return _content;
+    }
+
+    /**
+     * @param content the message content
+     * @return this JournaledExchange (useful for chaining)
+     */
+    public JournaledExchange setContent(Object content) {
+        _content = content;
+        return this;
+    }
+
+    /**
+     * @return the context properties of the exchange and its message
+     */
+    public Context getContext() {
+        return _context;
+    }
+}
@@ -0,0 +1,52 @@
+/*
+ * Copyright 2013 Red Hat Inc. and/or its affiliates and other contributors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * http://www.apache.org/licenses/LICENSE-2.0
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,  
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.switchyard.bus.camel.audit;
+
+import org.apache.camel.CamelContext;
+import org.apache.camel.Processor;
+import org.apache.camel.model.ProcessDefinition;
+import org.apache.camel.model.ProcessorDefinition;
+import org.apache.camel.spi.InterceptStrategy;
+import org.switchyard.runtime.timing.StageTimings;
+
+/**
+ * Intercept strategy which records the latency of every SwitchYard exchange
+ * bus processor in a route.  Stages are named after the processor reference,
+ * for example TRANSFORMATION or PROVIDER_CALLBACK.
+ */
+public class StageTimingInterceptStrategy implements InterceptStrategy {
+
+    private final StageTimings _timings;
+
+    /**
+     * Creates new intercept strategy.
+     * 
+     * @param timings Stage timings of the service handled by the route.
+     */
+    public StageTimingInterceptStrategy(StageTimings timings) {
+        _timings = timings;
+    }
+
+    @Override
+    public Processor wrapProcessorInInterceptors(CamelContext context,
+        ProcessorDefinition<?> definition, Processor target,
+        Processor nextTarget) throws Exception {
+
+        if (!(definition instanceof ProcessDefinition)) {
+            return target;
+        }
+        return new StageTimingProcessor(((ProcessDefinition) definition).getRef(), _timings, target);
+    }
+
+}
@@ -0,0 +1,69 @@
+/*
+ * Copyright 2013 Red Hat Inc. and/or its affiliates and other contributors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * http://www.apache.org/licenses/LICENSE-2.0
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,  
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.switchyard.bus.camel.audit;
+
+import org.apache.camel.AsyncCallback;
+import org.apache.camel.Exchange;
+import org.apache.camel.Processor;
+import org.apache.camel.processor.DelegateAsyncProcessor;
+import org.switchyard.ExchangePhase;
+import org.switchyard.bus.camel.CamelExchange;
+import org.switchyard.runtime.timing.StageTimings;
+
+/**
+ * Processor recording the time spent in a single exchange bus processing step.
+ * When stage timing is disabled the call is passed straight to the wrapped
+ * processor.
+ */
+public class StageTimingProcessor extends DelegateAsyncProcessor {
+
+    private final String _stage;
+    private final StageTimings _timings;
+
+    /**
+     * Creates new stage timing processor.
+     * 
+     * @param stage Name of the processing step.
+     * @param timings Stage timings of the service handled by the route.
+     * @param target Wrapped processor.
+     */
+    public StageTimingProcessor(String stage, StageTimings timings, Processor target) {
+        super(target);
+        _stage = stage;
+        _timings = timings;
+    }
+
+    @Override
+    public boolean process(final Exchange exchange, final AsyncCallback callback) {
+        if (!_timings.isEnabled()) {
+            return super.process(exchange, callback);
+        }
+
+        final ExchangePhase phase = new CamelExchange(exchange).getPhase();
+        final long start = System.nanoTime();
+        return super.process(exchange, new AsyncCallback() {
+            @Override
+            public void done(boolean doneSync) {
+                _timings.record(phase, _stage, System.nanoTime() - start);
+                callback.done(doneSync);
+            }
+        });
+    }
+
+    @Override
+    public String toString() {
+        return String.format("StageTimingProcessor [%s]", getProcessor());
+    }
+
+}
@@ -0,0 +1,158 @@
+/*
+ * Copyright 2013 Red Hat Inc. and/or its affiliates and other contributors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * http://www.apache.org/licenses/LICENSE-2.0
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,  
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.switchyard.bus.camel.processors;
+
+import java.util.List;
+
+import org.apache.camel.CamelContext;
+import org.apache.camel.Exchange;
+import org.apache.camel.Processor;
+import org.apache.camel.processor.PipelineHelper;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.switchyard.ExchangeHandler;
+import org.switchyard.ExchangePattern;
+import org.switchyard.ExchangePhase;
+import org.switchyard.ExchangeState;
+import org.switchyard.bus.camel.BusLogger;
+import org.switchyard.bus.camel.CamelExchange;
+import org.switchyard.runtime.timing.StageTimings;
+
+/**
+ * Runs a sequence of exchange bus processors as one Camel processor, in place
+ * of a pipeline of processRef steps.
+ * <p/>
+ * Every step sees the exchange as it would in the pipeline: processing stops
+ * once a step fails or the exchange is marked to stop, and a failure raised
+ * while the exchange is already in FAULT state is logged and dropped, like
+ * {@link org.switchyard.bus.camel.audit.FaultProcessor} does.  Handlers share a
+ * single {@link CamelExchange} rather than wrapping the Camel exchange once per
+ * step, and stage timings are recorded per step under the processor name.
+ */
+public class FusedProcessor implements Processor {
+
+    private static final Logger LOG = LoggerFactory.getLogger(FusedProcessor.class);
+
+    private final Step[] _steps;
+    private final Step[] _inOutSteps;
+    private final StageTimings _timings;
+
+    /**
+     * Creates new processor.
+     * 
+     * @param context Camel context the bus processors are registered in.
+     * @param steps Processors to run.
+     * @param inOutSteps Processors to run afterwards when the consumer expects a reply.
+     * @param timings Stage timings of the service handled by the route, may be null.
+     */
+    public FusedProcessor(CamelContext context, List<Processors> steps, List<Processors> inOutSteps, StageTimings timings) {
+        _steps = resolve(context, steps);
+        _inOutSteps = resolve(context, inOutSteps);
+        _timings = timings;
+    }
+
+    @Override
+    public void process(Exchange ex) throws Exception {
+        CamelExchange exchange = new CamelExchange(ex);
+        if (run(_steps, ex, exchange) && _inOutSteps.length > 0
+            && exchange.getContract().getConsumerOperation().getExchangePattern() == ExchangePattern.IN_OUT) {
+            run(_inOutSteps, ex, exchange);
+        }
+    }
+
+    private boolean run(Step[] steps, Exchange ex, CamelExchange exchange) throws Exception {
+        for (Step step : steps) {
+            invoke(step, ex, exchange);
+            if (!PipelineHelper.continueProcessing(ex, "so breaking out of the fused route", LOG)) {
+                return false;
+            }
+            PipelineHelper.createNextExchange(ex);
+        }
+        return true;
+    }
+
+    private void invoke(Step step, Exchange ex, CamelExchange exchange) throws Exception {
+        boolean timed = _timings != null && _timings.isEnabled();
+        ExchangePhase phase = timed ? exchange.getPhase() : null;
+        long start = timed ? System.nanoTime() : 0L;
+        try {
+            if (step._handlers != null) {
+                for (ExchangeHandler handler : step._handlers) {
+                    if (exchange.getState() == ExchangeState.FAULT) {
+                        handler.handleFault(exchange);
+                    } else {
+                        handler.handleMessage(exchange);
+                    }
+                }
+            } else {
+                step._processor.process(ex);
+            }
+        } catch (Exception e) {
+            if (!CamelExchange.isFault(ex)) {
+                throw e;
+            }
+            BusLogger.ROOT_LOGGER.exceptionDuringFaultResponse(e);
+        } finally {
+            if (timed) {
+                _timings.record(phase, step._stage, System.nanoTime() - start);
+            }
+        }
+        if (CamelExchange.isFault(ex) && ex.getException() != null) {
+            BusLogger.ROOT_LOGGER.exceptionDuringFaultResponse(ex.getException());
+            ex.setException(null);
+        }
+    }
+
+    private static Step[] resolve(CamelContext context, List<Processors> processors) {
+        Step[] steps = new Step[processors.size()];
+        for (int i = 0; i < steps.length; i++) {
+            String name = processors.get(i).name();
+            steps[i] = new Step(name, context.getRegistry().lookupByNameAndType(name, Processor.class));
+        }
+        return steps;
+    }
+
+    @Override
+    public String toString() {
+        StringBuilder sb = new StringBuilder("FusedProcessor [");
+        for (int i = 0; i < _steps.length; i++) {
+            sb.append(i > 0 ? ", " : "").append(_steps[i]._stage);
+        }
+        if (_inOutSteps.length > 0) {
+            sb.append(", IN_OUT [");
+            for (int i = 0; i < _inOutSteps.length; i++) {
+                sb.append(i > 0 ? ", " : "").append(_inOutSteps[i]._stage);
+            }
+            sb.append(']');
+        }
+        return sb.append(']').toString();
+    }
+
+    private static final class Step {
+        private final String _stage;
+        private final Processor _processor;
+        private final ExchangeHandler[] _handlers;
+
+        private Step(String stage, Processor processor) {
+            _stage = stage;
+            _processor = processor;
+            if (processor instanceof HandlerProcessor) {
+                List<ExchangeHandler> handlers = ((HandlerProcessor) processor).getHandlers();
+                _handlers = handlers.toArray(new ExchangeHandler[handlers.size()]);
+            } else {
+                _handlers = null;
+            }
+        }
+    }
+}
@@ -63,6 +63,15 @@ public class HandlerProcessor implements Processor {
         }
     }
 
+    /**
+     * Returns the wrapped handlers.
+     * 
+     * @return Exchange handlers in the order they are called.
+     */
+    public List<ExchangeHandler> getHandlers() {
+        return _handlers;
+    }
+
     @Override
     public String toString() {
         return String.format("HandlerProcessor [%s]", _handlers);
@@ -19,8 +19,13 @@ import org.switchyard.ExchangeInterceptor;
 import org.switchyard.ServiceDomain;
 import org.switchyard.bus.camel.BusMessages;
 import org.switchyard.handlers.AddressingHandler;
+import org.switchyard.handlers.BulkheadHandler;
+import org.switchyard.handlers.CircuitBreakerHandler;
+import org.switchyard.handlers.DeadlineHandler;
 import org.switchyard.handlers.PolicyHandler;
 import org.switchyard.handlers.ProviderHandler;
+import org.switchyard.handlers.RequestCoalescingHandler;
+import org.switchyard.handlers.ResponseCacheHandler;
 import org.switchyard.handlers.SecurityHandler;
 import org.switchyard.handlers.SecurityHandler.SecurityAction;
 import org.switchyard.handlers.TransactionHandler;
@@ -95,6 +100,51 @@ public enum Processors {
             return wrap(new TransformHandler(domain.getTransformerRegistry()));
         }
     },
+    /**
+     * Response cache handler.
+     */
+    RESPONSE_CACHE {
+        @Override
+        public Processor create(ServiceDomain domain) {
+            return wrap(new ResponseCacheHandler(domain));
+        }
+    },
+    /**
+     * Request coalescing handler.
+     */
+    REQUEST_COALESCING {
+        @Override
+        public Processor create(ServiceDomain domain) {
+            return wrap(new RequestCoalescingHandler(domain));
+        }
+    },
+    /**
+     * Deadline handler.
+     */
+    DEADLINE {
+        @Override
+        public Processor create(ServiceDomain domain) {
+            return wrap(new DeadlineHandler());
+        }
+    },
+    /**
+     * Circuit breaker handler.
+     */
+    CIRCUIT_BREAKER {
+        @Override
+        public Processor create(ServiceDomain domain) {
+            return wrap(new CircuitBreakerHandler(domain));
+        }
+    },
+    /**
+     * Bulkhead handler.
+     */
+    BULKHEAD {
+        @Override
+        public Processor create(ServiceDomain domain) {
+            return wrap(new BulkheadHandler(domain));
+        }
+    },
     /**
      * Processor calling service provider.
      */
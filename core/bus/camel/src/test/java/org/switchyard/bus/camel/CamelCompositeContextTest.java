@@ -1,5 +1,9 @@
 package org.switchyard.bus.camel;
 
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.Set;
+
 import javax.xml.namespace.QName;
 
 import org.apache.camel.impl.DefaultExchange;
@@ -13,6 +17,7 @@ import org.switchyard.Exchange;
 import org.switchyard.ExchangePattern;
 import org.switchyard.MockDomain;
 import org.switchyard.Property;
+import org.switchyard.PropertyVisitor;
 import org.switchyard.Scope;
 import org.switchyard.ServiceReference;
 import org.switchyard.common.camel.SwitchYardCamelContextImpl;
@@ -124,4 +129,44 @@ public class CamelCompositeContextTest {
             Assert.fail(failMessage.toString());
         }
     }
-}
\ No newline at end of file
+
+    @Test
+    public void testLabelQuery() throws Exception {
+        CamelCompositeContext ctx = new CamelCompositeContext(new DefaultExchange(new SwitchYardCamelContextImpl(false)));
+        String label = BehaviorLabel.TRANSIENT.label();
+        ctx.setProperty("exchange-prop", "exchange-val", Scope.EXCHANGE).addLabels(label);
+        ctx.setProperty("message-prop", "message-val", Scope.MESSAGE).addLabels(label, "other");
+        ctx.setProperty("plain-prop", "plain-val", Scope.MESSAGE);
+        Assert.assertEquals(2, ctx.getProperties(label).size());
+        Assert.assertEquals(1, ctx.getProperties("other").size());
+
+        ctx.getProperty("message-prop").removeLabels(label);
+        Assert.assertEquals(1, ctx.getProperties(label).size());
+
+        final Set<String> visited = new HashSet<String>();
+        ctx.visitProperties("other", new PropertyVisitor() {
+            @Override
+            public boolean visit(Property property) {
+                visited.add(property.getName());
+                return true;
+            }
+        });
+        Assert.assertEquals(Collections.singleton("message-prop"), visited);
+
+        // labels of a removed property are not visited
+        ctx.removeProperty(ctx.getProperty("exchange-prop"));
+        Assert.assertEquals(0, ctx.getProperties(label).size());
+    }
+
+    @Test
+    public void testMessageContextIsReused() throws Exception {
+        ServiceReference inOnly = new ServiceReferenceImpl(
+            new QName("context-view"), new InOnlyService(), _domain, null);
+        ExchangeDispatcher dispatch = _provider.createDispatcher(inOnly);
+
+        Exchange ex = dispatch.createExchange(null, ExchangePattern.IN_ONLY);
+        Assert.assertSame(ex.getContext(), ex.getContext());
+        Assert.assertSame(ex.getContext(), ex.getMessage().getContext());
+    }
+
+}
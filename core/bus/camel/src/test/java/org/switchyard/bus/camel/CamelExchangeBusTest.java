@@ -15,16 +15,29 @@ package org.switchyard.bus.camel;
 
 import static org.junit.Assert.assertEquals;
 import static org.junit.Assert.assertNotNull;
+import static org.junit.Assert.assertNotSame;
 import static org.junit.Assert.assertNull;
 import static org.junit.Assert.assertTrue;
 
+import java.io.File;
+import java.net.URL;
+import java.net.URLClassLoader;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.EventObject;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
 import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
 
 import javax.xml.namespace.QName;
 
 import junit.framework.Assert;
 import org.apache.camel.Processor;
 import org.apache.camel.builder.LoggingErrorHandlerBuilder;
+import org.apache.camel.model.ModelHelper;
 import org.apache.camel.spi.RouteContext;
 import org.junit.After;
 import org.junit.Before;
@@ -35,21 +48,41 @@ import org.switchyard.ErrorListener;
 import org.switchyard.Exchange;
 import org.switchyard.ExchangeHandler;
 import org.switchyard.ExchangeInterceptor;
+import org.switchyard.ExchangePhase;
 import org.switchyard.ExchangeState;
 import org.switchyard.HandlerException;
+import org.switchyard.Message;
 import org.switchyard.MockDomain;
 import org.switchyard.MockHandler;
+import org.switchyard.Scope;
 import org.switchyard.ServiceReference;
+import org.switchyard.SwitchYardException;
+import org.switchyard.bus.camel.audit.Audit;
+import org.switchyard.bus.camel.audit.Auditor;
 import org.switchyard.bus.camel.handler.ErrorInterceptor;
+import org.switchyard.bus.camel.processors.Processors;
 import org.switchyard.bus.camel.handler.RuntimeErrorInHandler;
 import org.switchyard.bus.camel.handler.RuntimeErrorInterceptor;
 import org.switchyard.bus.camel.handler.TypeInterceptor;
 import org.switchyard.common.camel.SwitchYardCamelContext;
 import org.switchyard.common.camel.SwitchYardCamelContextImpl;
+import org.switchyard.event.EventObserver;
 import org.switchyard.internal.ServiceReferenceImpl;
 import org.switchyard.metadata.InOnlyService;
 import org.switchyard.metadata.InOutOperation;
 import org.switchyard.metadata.InOutService;
+import org.switchyard.metadata.ServiceMetadataBuilder;
+import org.switchyard.metadata.qos.AsyncDispatch;
+import org.switchyard.metadata.qos.Caching;
+import org.switchyard.metadata.qos.Priority;
+import org.switchyard.runtime.event.ExchangeCompletionEvent;
+import org.switchyard.runtime.executor.ExecutorRegistry;
+import org.switchyard.runtime.executor.JournalDispatchQueue;
+import org.switchyard.runtime.timing.StageTimingRegistry;
+import org.switchyard.runtime.timing.StageTimings;
+import org.switchyard.security.context.SecurityContextManager;
+import org.switchyard.security.credential.Credential;
+import org.switchyard.security.credential.NameCredential;
 import org.switchyard.spi.Dispatcher;
 
 public class CamelExchangeBusTest {
@@ -270,6 +303,314 @@ public class CamelExchangeBusTest {
         Assert.assertEquals(outType, types.getOutType());
     }
 
+    /**
+     * Verify the provider is not invoked when a cached reply exists.
+     */
+    @Test
+    public void testResponseCaching() {
+        MockHandler provider = new MockHandler().forwardInToOut();
+        ServiceReferenceImpl ref = new ServiceReferenceImpl(new QName("cached"), new InOutService(), _domain,
+                ServiceMetadataBuilder.create().caching(new Caching()).build());
+        _domain.registerService(new QName("cached"), new InOutService(), provider);
+        ref.setDispatcher(_provider.createDispatcher(ref));
+
+        MockHandler consumer = new MockHandler();
+        Exchange exchange = ref.createExchange(consumer);
+        exchange.send(exchange.createMessage().setContent(TEST_CONTENT));
+        consumer.waitForOKMessage();
+        exchange = ref.createExchange(consumer);
+        exchange.send(exchange.createMessage().setContent(TEST_CONTENT));
+        consumer.waitForOKMessage();
+
+        assertEquals(2, consumer.getMessages().size());
+        assertEquals(TEST_CONTENT, consumer.getMessages().poll().getMessage().getContent());
+        assertEquals(TEST_CONTENT, consumer.getMessages().poll().getMessage().getContent());
+        assertEquals(1, provider.getMessages().size());
+    }
+
+    /**
+     * Verify each processing step is timed once stage timing is switched on.
+     */
+    @Test
+    public void testStageTiming() {
+        StageTimingRegistry registry = StageTimingRegistry.getRegistry(_domain);
+        registry.setEnabled(true);
+        ServiceReference ref = registerInOutService("timed");
+        MockHandler consumer = new MockHandler();
+        Exchange exchange = ref.createExchange(consumer);
+        exchange.send(exchange.createMessage().setContent(TEST_CONTENT));
+        consumer.waitForOKMessage();
+
+        StageTimings timings = registry.getTimings(new QName("timed"));
+        StageTimings.Stage provider = timings.getStage(ExchangePhase.IN, "PROVIDER_CALLBACK");
+        assertEquals(1, provider.getHistogram().getCount());
+        assertEquals(1, timings.getStage(ExchangePhase.OUT, "TRANSFORMATION").getHistogram().getCount());
+        assertEquals("ADDRESSING", timings.getStages().get(1).getName());
+    }
+
+    /**
+     * Verify an unregistered reference takes its dispatcher and timings along.
+     */
+    @Test
+    public void testUnregisterDropsDispatcherAndTimings() {
+        StageTimingRegistry registry = StageTimingRegistry.getRegistry(_domain);
+        ServiceReference ref = registerInOutService("dropped");
+        StageTimings timings = registry.getTimings(new QName("dropped"));
+        ref.unregister();
+        assertNull(_provider.getDispatcher(ref));
+        assertNotSame(timings, registry.getTimings(new QName("dropped")));
+    }
+
+    /**
+     * Without auditors the steps of the route run fused, with them every step is a processRef.
+     */
+    @Test
+    public void testAuditorSeesEveryStep() throws Exception {
+        registerInOutService("fused");
+        String fused = ModelHelper.dumpModelAsXml(_camelContext, _camelContext.getRouteDefinition("direct:fused"));
+        assertTrue(fused, !fused.contains("PROVIDER_CALLBACK"));
+
+        final AtomicInteger calls = new AtomicInteger();
+        _camelContext.getWritebleRegistry().put("auditor", new ProviderAuditor(calls));
+        ServiceReference ref = registerInOutService("audited");
+        MockHandler consumer = new MockHandler();
+        Exchange exchange = ref.createExchange(consumer);
+        exchange.send(exchange.createMessage().setContent(TEST_CONTENT));
+        consumer.waitForOKMessage();
+
+        assertEquals(1, calls.get());
+        String audited = ModelHelper.dumpModelAsXml(_camelContext, _camelContext.getRouteDefinition("direct:audited"));
+        assertTrue(audited, audited.contains("PROVIDER_CALLBACK"));
+    }
+
+    /**
+     * The fused route can be switched off through a domain property.
+     */
+    @Test
+    public void testFusedRouteDisabled() throws Exception {
+        _domain.setProperty(CamelExchangeBusRouteBuilder.FUSED_ROUTE, "false");
+        ServiceReference ref = registerInOutService("pipeline");
+        String pipeline = ModelHelper.dumpModelAsXml(_camelContext, _camelContext.getRouteDefinition("direct:pipeline"));
+        assertTrue(pipeline, pipeline.contains("PROVIDER_CALLBACK"));
+
+        MockHandler consumer = new MockHandler();
+        Exchange exchange = ref.createExchange(consumer);
+        exchange.send(exchange.createMessage().setContent(TEST_CONTENT));
+        consumer.waitForOKMessage();
+        assertEquals(TEST_CONTENT, consumer.getMessages().poll().getMessage().getContent());
+    }
+
+    /**
+     * An asynchronous IN_ONLY send returns before the provider runs, and the
+     * completion event follows the provider.
+     */
+    @Test
+    public void testAsyncInOnly() throws Exception {
+        final CountDownLatch release = new CountDownLatch(1);
+        final AtomicBoolean handled = new AtomicBoolean();
+        final CountDownLatch completed = new CountDownLatch(1);
+        _domain.addEventObserver(new EventObserver() {
+            @Override
+            public void notify(EventObject event) {
+                assertTrue(handled.get());
+                completed.countDown();
+            }
+        }, ExchangeCompletionEvent.class);
+        ServiceReference ref = registerAsyncInOnlyService("async", new AsyncDispatch(), new BaseHandler() {
+            @Override
+            public void handleMessage(Exchange exchange) throws HandlerException {
+                try {
+                    release.await(5, TimeUnit.SECONDS);
+                } catch (InterruptedException ie) {
+                    throw new HandlerException(ie);
+                }
+                handled.set(true);
+            }
+        });
+        try {
+            Exchange exchange = ref.createExchange();
+            exchange.send(exchange.createMessage().setContent(TEST_CONTENT));
+            assertEquals(1, completed.getCount());
+            release.countDown();
+            assertTrue(completed.await(5, TimeUnit.SECONDS));
+        } finally {
+            release.countDown();
+            ExecutorRegistry.getRegistry(_domain).shutdown();
+        }
+    }
+
+    /**
+     * Queued exchanges run with the security context and the context class
+     * loader their sender had, not with those of the worker thread.
+     */
+    @Test
+    public void testAsyncInOnlyRunsAsSender() throws Exception {
+        final SecurityContextManager securityContextManager = new SecurityContextManager(_domain);
+        final List<String> names = new CopyOnWriteArrayList<String>();
+        final List<ClassLoader> loaders = new CopyOnWriteArrayList<ClassLoader>();
+        final ServiceReference[] ref = new ServiceReference[1];
+        ref[0] = registerAsyncInOnlyService("asyncSender", new AsyncDispatch(), new BaseHandler() {
+            @Override
+            public void handleMessage(Exchange exchange) throws HandlerException {
+                // a nested call picks up the security context of the thread
+                Exchange nested = ref[0].createExchange();
+                for (NameCredential name : securityContextManager.getContext(nested).getCredentials(NameCredential.class)) {
+                    names.add(name.getName());
+                }
+                loaders.add(Thread.currentThread().getContextClassLoader());
+            }
+        });
+        ClassLoader original = Thread.currentThread().getContextClassLoader();
+        ClassLoader first = new URLClassLoader(new URL[0], original);
+        ClassLoader second = new URLClassLoader(new URL[0], original);
+        try {
+            // the worker thread is created by the first send and reused by the second
+            sendAs(ref[0], securityContextManager, "first", first);
+            awaitSize(loaders, 1);
+            sendAs(ref[0], securityContextManager, "second", second);
+            awaitSize(loaders, 2);
+            assertEquals(Arrays.asList("first", "second"), names);
+            assertEquals(Arrays.asList(first, second), loaders);
+        } finally {
+            Thread.currentThread().setContextClassLoader(original);
+            ExecutorRegistry.getRegistry(_domain).shutdown();
+        }
+    }
+
+    /**
+     * Faults of asynchronous IN_ONLY exchanges still reach the consumer.
+     */
+    @Test
+    public void testAsyncInOnlyFault() {
+        ServiceReference ref = registerAsyncInOnlyService("asyncFault", new AsyncDispatch(), new ErrorExchangeHandler());
+        try {
+            MockHandler consumer = new MockHandler();
+            Exchange exchange = ref.createExchange(consumer);
+            exchange.send(exchange.createMessage().setContent("test"));
+
+            Assert.assertEquals(1, consumer.waitForFaultMessage().getFaults().size());
+        } finally {
+            ExecutorRegistry.getRegistry(_domain).shutdown();
+        }
+    }
+
+    /**
+     * A full queue rejects further sends when configured to.
+     */
+    @Test
+    public void testAsyncInOnlyOverflow() throws Exception {
+        final CountDownLatch started = new CountDownLatch(1);
+        final CountDownLatch release = new CountDownLatch(1);
+        AsyncDispatch config = new AsyncDispatch().setQueueSize(1).setOverflow(AsyncDispatch.Overflow.REJECT);
+        ServiceReference ref = registerAsyncInOnlyService("asyncFull", config, new BaseHandler() {
+            @Override
+            public void handleMessage(Exchange exchange) throws HandlerException {
+                started.countDown();
+                try {
+                    release.await(5, TimeUnit.SECONDS);
+                } catch (InterruptedException ie) {
+                    throw new HandlerException(ie);
+                }
+            }
+        });
+        try {
+            Exchange first = ref.createExchange();
+            first.send(first.createMessage().setContent(TEST_CONTENT));
+            assertTrue(started.await(5, TimeUnit.SECONDS));
+            Exchange queued = ref.createExchange();
+            queued.send(queued.createMessage().setContent(TEST_CONTENT));
+            Exchange rejected = ref.createExchange();
+            try {
+                rejected.send(rejected.createMessage().setContent(TEST_CONTENT));
+                Assert.fail("Send to a full queue was accepted");
+            } catch (SwitchYardException expected) {
+                assertNotNull(expected.getMessage());
+            }
+        } finally {
+            release.countDown();
+            ExecutorRegistry.getRegistry(_domain).shutdown();
+        }
+    }
+
+    /**
+     * Journaled IN_ONLY exchanges complete once written and are replayed with
+     * their content and context.
+     */
+    @Test
+    public void testAsyncInOnlyJournal() throws Exception {
+        File journal = File.createTempFile("journal", "");
+        journal.delete();
+        final CountDownLatch release = new CountDownLatch(1);
+        final CountDownLatch handled = new CountDownLatch(2);
+        final List<String> received = new CopyOnWriteArrayList<String>();
+        ServiceReference ref = registerAsyncInOnlyService("journaled", new AsyncDispatch().setJournal(journal.getPath()),
+                new BaseHandler() {
+                    @Override
+                    public void handleMessage(Exchange exchange) throws HandlerException {
+                        try {
+                            release.await(5, TimeUnit.SECONDS);
+                        } catch (InterruptedException ie) {
+                            throw new HandlerException(ie);
+                        }
+                        received.add(exchange.getMessage().getContent(String.class)
+                                + ":" + exchange.getContext().getPropertyValue("customer"));
+                        handled.countDown();
+                    }
+                });
+        try {
+            for (int i = 0; i < 2; i++) {
+                Exchange exchange = ref.createExchange();
+                Message message = exchange.createMessage().setContent(TEST_CONTENT + i);
+                exchange.getContext(message).setProperty("customer", "acme-" + i);
+                exchange.send(message);
+                assertEquals(ExchangeState.OK, exchange.getState());
+            }
+            assertEquals(0, received.size());
+            release.countDown();
+            assertTrue(handled.await(5, TimeUnit.SECONDS));
+            assertEquals(TEST_CONTENT + "0:acme-0", received.get(0));
+            assertEquals(TEST_CONTENT + "1:acme-1", received.get(1));
+        } finally {
+            release.countDown();
+            _provider.stop();
+            ExecutorRegistry.getRegistry(_domain).shutdown();
+            for (File file : JournalDispatchQueue.getDirectory(new AsyncDispatch().setJournal(journal.getPath()),
+                    new QName("journaled")).listFiles()) {
+                file.delete();
+            }
+        }
+    }
+
+    /**
+     * The priority class configured for the gateway an exchange entered
+     * through is carried in the exchange context.
+     */
+    @Test
+    public void testPriorityIsCarried() {
+        final List<Object> received = new CopyOnWriteArrayList<Object>();
+        Priority priority = new Priority().setLevel(Priority.Level.LOW).setLevel("soap", Priority.Level.HIGH);
+        ServiceReferenceImpl reference = new ServiceReferenceImpl(new QName("prioritized"), new InOnlyService(), _domain,
+                ServiceMetadataBuilder.create().priority(priority).build());
+        _domain.registerService(new QName("prioritized"), new InOnlyService(), new BaseHandler() {
+            @Override
+            public void handleMessage(Exchange exchange) throws HandlerException {
+                received.add(exchange.getContext().getPropertyValue(Priority.PROPERTY));
+            }
+        });
+        reference.setDispatcher(_provider.createDispatcher(reference));
+
+        Exchange gateway = reference.createExchange();
+        Message message = gateway.createMessage().setContent(TEST_CONTENT);
+        gateway.getContext(message).setProperty(ExchangeCompletionEvent.GATEWAY_NAME, "soap", Scope.EXCHANGE);
+        gateway.send(message);
+        Exchange batch = reference.createExchange();
+        batch.send(batch.createMessage().setContent(TEST_CONTENT));
+
+        assertEquals(2, received.size());
+        assertEquals("HIGH", received.get(0));
+        assertEquals("LOW", received.get(1));
+    }
+
     @Test @Ignore
     public void testCustomErrorHandler() throws InterruptedException {
         final AtomicBoolean fired = new AtomicBoolean();
@@ -320,6 +661,14 @@ public class CamelExchangeBusTest {
         return reference;
     }
 
+    private ServiceReference registerAsyncInOnlyService(String name, AsyncDispatch config, ExchangeHandler handler) {
+        ServiceReferenceImpl reference = new ServiceReferenceImpl(new QName(name), new InOnlyService(), _domain,
+                ServiceMetadataBuilder.create().asyncDispatch(config).build());
+        _domain.registerService(new QName(name), new InOnlyService(), handler);
+        reference.setDispatcher(_provider.createDispatcher(reference));
+        return reference;
+    }
+
     private ServiceReference registerInOutService(String name, ExchangeHandler handler) {
         ServiceReferenceImpl reference = new ServiceReferenceImpl(
                 new QName(name), new InOutService(), _domain, null);
@@ -328,6 +677,24 @@ public class CamelExchangeBusTest {
         return reference;
     }
 
+    private void sendAs(ServiceReference ref, SecurityContextManager securityContextManager, String name,
+            ClassLoader loader) {
+        Thread.currentThread().setContextClassLoader(loader);
+        Exchange exchange = ref.createExchange();
+        // start from an empty security context rather than the one left on this thread
+        securityContextManager.setContext(exchange, null);
+        securityContextManager.addCredentials(exchange, Collections.<Credential>singleton(new NameCredential(name)));
+        exchange.send(exchange.createMessage().setContent(TEST_CONTENT));
+    }
+
+    private static void awaitSize(List<?> list, int size) throws InterruptedException {
+        long deadline = System.currentTimeMillis() + 5000;
+        while (list.size() < size && System.currentTimeMillis() < deadline) {
+            Thread.sleep(10);
+        }
+        assertEquals(size, list.size());
+    }
+
     private Exchange sendMessage(ServiceReference ref, Object content) {
         Exchange exchange = ref.createExchange(new MockHandler());
         exchange.send(exchange.createMessage().setContent(content));
@@ -345,4 +712,22 @@ public class CamelExchangeBusTest {
         return reference;
     }
 
+    @Audit(Processors.PROVIDER_CALLBACK)
+    private static final class ProviderAuditor implements Auditor {
+        private final AtomicInteger _calls;
+
+        private ProviderAuditor(AtomicInteger calls) {
+            _calls = calls;
+        }
+
+        @Override
+        public void beforeCall(Processors processor, org.apache.camel.Exchange exchange) {
+            _calls.incrementAndGet();
+        }
+
+        @Override
+        public void afterCall(Processors processor, org.apache.camel.Exchange exchange) {
+        }
+    }
+
 }
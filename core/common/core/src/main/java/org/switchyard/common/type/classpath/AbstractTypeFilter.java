@@ -52,6 +52,17 @@ public abstract class AbstractTypeFilter implements Filter {
      */
     public abstract boolean matches(Class<?> clazz);
 
+    /**
+     * Whether a class may be a filter match, judging from its class file only.
+     * Classes for which this returns false are not loaded; the default
+     * implementation returns true.
+     * @param info The class file information.
+     * @return false if the class cannot be a match, otherwise true.
+     */
+    public boolean mayMatch(ClassInfo info) {
+        return true;
+    }
+
     /**
      * Get the set of filtered (i.e. matching) types.
      * @return The set of filtered (i.e. matching) types.
@@ -0,0 +1,289 @@
+/*
+ * Copyright 2013 Red Hat Inc. and/or its affiliates and other contributors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * http://www.apache.org/licenses/LICENSE-2.0
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.switchyard.common.type.classpath;
+
+import java.io.DataInputStream;
+import java.io.EOFException;
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Set;
+
+/**
+ * What the class file of a type declares, read without loading the type:
+ * its modifiers, super types, and the annotations on the type and on its
+ * fields and methods.
+ */
+public final class ClassInfo {
+
+    private static final int MAGIC = 0xCAFEBABE;
+    private static final int ACC_INTERFACE = 0x0200;
+    private static final int ACC_ABSTRACT = 0x0400;
+    private static final int ACC_ANNOTATION = 0x2000;
+    private static final String VISIBLE_ANNOTATIONS = "RuntimeVisibleAnnotations";
+    private static final String INVISIBLE_ANNOTATIONS = "RuntimeInvisibleAnnotations";
+
+    private final String _name;
+    private final int _access;
+    private final String _superName;
+    private final List<String> _interfaces;
+    private final Set<String> _annotations;
+    private final Set<String> _memberAnnotations;
+
+    ClassInfo(String name, int access, String superName, List<String> interfaces,
+            Set<String> annotations, Set<String> memberAnnotations) {
+        _name = name;
+        _access = access;
+        _superName = superName;
+        _interfaces = Collections.unmodifiableList(interfaces);
+        _annotations = Collections.unmodifiableSet(annotations);
+        _memberAnnotations = Collections.unmodifiableSet(memberAnnotations);
+    }
+
+    /**
+     * The class name, as returned by {@link Class#getName()}.
+     * @return the class name
+     */
+    public String getName() {
+        return _name;
+    }
+
+    /**
+     * The package name.
+     * @return the package name, empty for the default package
+     */
+    public String getPackageName() {
+        int idx = _name.lastIndexOf('.');
+        return idx > 0 ? _name.substring(0, idx) : "";
+    }
+
+    /**
+     * The class access flags.
+     * @return the access flags
+     */
+    public int getAccess() {
+        return _access;
+    }
+
+    /**
+     * Whether the type is an interface or an annotation.
+     * @return true for interfaces
+     */
+    public boolean isInterface() {
+        return (_access & ACC_INTERFACE) != 0;
+    }
+
+    /**
+     * Whether the type is an annotation.
+     * @return true for annotations
+     */
+    public boolean isAnnotation() {
+        return (_access & ACC_ANNOTATION) != 0;
+    }
+
+    /**
+     * Whether the type is abstract.  Interfaces are abstract.
+     * @return true for abstract types
+     */
+    public boolean isAbstract() {
+        return (_access & ACC_ABSTRACT) != 0;
+    }
+
+    /**
+     * The name of the super class.
+     * @return the super class name, or null for java.lang.Object
+     */
+    public String getSuperName() {
+        return _superName;
+    }
+
+    /**
+     * Whether the type directly extends java.lang.Object and implements no
+     * interface, so it cannot be assignable to any type but itself and Object.
+     * @return true if the type has no super types
+     */
+    public boolean hasNoSuperTypes() {
+        return (_superName == null || Object.class.getName().equals(_superName)) && _interfaces.isEmpty();
+    }
+
+    /**
+     * The names of the directly implemented interfaces.
+     * @return the interface names
+     */
+    public List<String> getInterfaces() {
+        return _interfaces;
+    }
+
+    /**
+     * The names of the annotations on the type.
+     * @return the annotation names
+     */
+    public Set<String> getAnnotations() {
+        return _annotations;
+    }
+
+    /**
+     * The names of the annotations on the fields and methods of the type.
+     * @return the annotation names
+     */
+    public Set<String> getMemberAnnotations() {
+        return _memberAnnotations;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public String toString() {
+        return "ClassInfo[" + _name + "]";
+    }
+
+    /**
+     * Reads a class file.
+     * @param data the class file
+     * @return what the class file declares
+     * @throws IOException if the stream is not a readable class file
+     */
+    static ClassInfo read(DataInputStream data) throws IOException {
+        if (data.readInt() != MAGIC) {
+            throw new IOException("Not a class file");
+        }
+        // minor and major version
+        skip(data, 4);
+        int count = data.readUnsignedShort();
+        String[] utf8 = new String[count];
+        int[] classes = new int[count];
+        for (int i = 1; i < count; i++) {
+            int tag = data.readUnsignedByte();
+            switch (tag) {
+                case 1:
+                    utf8[i] = data.readUTF();
+                    break;
+                case 7:
+                    classes[i] = data.readUnsignedShort();
+                    break;
+                case 8: case 16: case 19: case 20:
+                    skip(data, 2);
+                    break;
+                case 15:
+                    skip(data, 3);
+                    break;
+                case 3: case 4: case 9: case 10: case 11: case 12: case 17: case 18:
+                    skip(data, 4);
+                    break;
+                case 5: case 6:
+                    // eight byte constants take two entries
+                    skip(data, 8);
+                    i++;
+                    break;
+                default:
+                    throw new IOException("Unknown constant pool tag " + tag);
+            }
+        }
+        int access = data.readUnsignedShort();
+        String name = getClassName(utf8, classes, data.readUnsignedShort());
+        String superName = getClassName(utf8, classes, data.readUnsignedShort());
+        int interfaceCount = data.readUnsignedShort();
+        List<String> interfaces = new ArrayList<String>(interfaceCount);
+        for (int i = 0; i < interfaceCount; i++) {
+            interfaces.add(getClassName(utf8, classes, data.readUnsignedShort()));
+        }
+        Set<String> memberAnnotations = new LinkedHashSet<String>();
+        // fields, then methods
+        for (int m = 0; m < 2; m++) {
+            int members = data.readUnsignedShort();
+            for (int i = 0; i < members; i++) {
+                // access, name and descriptor
+                skip(data, 6);
+                readAttributes(data, utf8, memberAnnotations);
+            }
+        }
+        Set<String> annotations = new LinkedHashSet<String>();
+        readAttributes(data, utf8, annotations);
+        return new ClassInfo(name, access, superName, interfaces, annotations, memberAnnotations);
+    }
+
+    private static void readAttributes(DataInputStream data, String[] utf8, Set<String> annotations) throws IOException {
+        int count = data.readUnsignedShort();
+        for (int i = 0; i < count; i++) {
+            String name = utf8[data.readUnsignedShort()];
+            int length = data.readInt();
+            if (VISIBLE_ANNOTATIONS.equals(name) || INVISIBLE_ANNOTATIONS.equals(name)) {
+                int num = data.readUnsignedShort();
+                for (int a = 0; a < num; a++) {
+                    readAnnotation(data, utf8, annotations);
+                }
+            } else {
+                skip(data, length);
+            }
+        }
+    }
+
+    private static void readAnnotation(DataInputStream data, String[] utf8, Set<String> annotations) throws IOException {
+        String type = utf8[data.readUnsignedShort()];
+        if (annotations != null && type != null && type.startsWith("L") && type.endsWith(";")) {
+            annotations.add(type.substring(1, type.length() - 1).replace('/', '.'));
+        }
+        int pairs = data.readUnsignedShort();
+        for (int i = 0; i < pairs; i++) {
+            skip(data, 2);
+            skipElementValue(data, utf8);
+        }
+    }
+
+    private static void skipElementValue(DataInputStream data, String[] utf8) throws IOException {
+        int tag = data.readUnsignedByte();
+        switch (tag) {
+            case 'e':
+                skip(data, 4);
+                break;
+            case '@':
+                // nested annotations are values, not present annotations
+                readAnnotation(data, utf8, null);
+                break;
+            case '[':
+                int values = data.readUnsignedShort();
+                for (int i = 0; i < values; i++) {
+                    skipElementValue(data, utf8);
+                }
+                break;
+            default:
+                skip(data, 2);
+                break;
+        }
+    }
+
+    private static String getClassName(String[] utf8, int[] classes, int index) throws IOException {
+        if (index == 0) {
+            return null;
+        }
+        if (index >= classes.length || utf8[classes[index]] == null) {
+            throw new IOException("Invalid class reference " + index);
+        }
+        return utf8[classes[index]].replace('/', '.');
+    }
+
+    private static void skip(DataInputStream data, int count) throws IOException {
+        int remaining = count;
+        while (remaining > 0) {
+            int skipped = data.skipBytes(remaining);
+            if (skipped <= 0) {
+                throw new EOFException();
+            }
+            remaining -= skipped;
+        }
+    }
+}
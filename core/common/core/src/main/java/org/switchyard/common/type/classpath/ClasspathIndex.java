@@ -0,0 +1,443 @@
+/*
+ * Copyright 2013 Red Hat Inc. and/or its affiliates and other contributors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * http://www.apache.org/licenses/LICENSE-2.0
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.switchyard.common.type.classpath;
+
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.File;
+import java.io.FileInputStream;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.Enumeration;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.zip.CRC32;
+import java.util.zip.ZipEntry;
+import java.util.zip.ZipFile;
+
+import org.jboss.logging.Logger;
+
+/**
+ * Index of the resources of a classpath element (a folder or an archive),
+ * holding the {@link ClassInfo} of every class file so that scanners can
+ * discard classes without loading them.
+ * <p/>
+ * Indexes are kept in memory and only the class files which changed since
+ * are read again.  An index can also be persisted in a folder as the
+ * {@value #INDEX_RESOURCE} resource, usually in the build output, so that it
+ * travels with the archive built from that folder.  A persisted index is
+ * reused for every class file which is unchanged: in a folder, whose size
+ * and modification time match, and in an archive, whose size and CRC-32
+ * match.
+ */
+public final class ClasspathIndex {
+
+    /**
+     * Name of the resource holding a persisted index.
+     */
+    public static final String INDEX_RESOURCE = "META-INF/switchyard/classpath.idx";
+
+    private static Logger _logger = Logger.getLogger(ClasspathIndex.class);
+
+    private static final int MAGIC = 0x53594349;
+    private static final int FORMAT = 2;
+    private static final long NO_CRC = -1L;
+    private static final int MAX_CACHED = 128;
+    private static final String CLASS_SUFFIX = ".class";
+
+    private static final Map<String, ClasspathIndex> CACHE = new LinkedHashMap<String, ClasspathIndex>(16, 0.75f, true) {
+        private static final long serialVersionUID = 1L;
+        @Override
+        protected boolean removeEldestEntry(Map.Entry<String, ClasspathIndex> eldest) {
+            return size() > MAX_CACHED;
+        }
+    };
+
+    private final long _time;
+    private final long _size;
+    private final Map<String, Resource> _resources;
+
+    private ClasspathIndex(long time, long size, Map<String, Resource> resources) {
+        _time = time;
+        _size = size;
+        _resources = resources;
+    }
+
+    /**
+     * The resource names, relative to the classpath element, in scanning order.
+     * @return the resource names
+     */
+    public Set<String> getResources() {
+        return Collections.unmodifiableSet(_resources.keySet());
+    }
+
+    /**
+     * The class file information of a resource.
+     * @param resourceName the resource name
+     * @return the class file information, or null if the resource is not a readable class file
+     */
+    public ClassInfo getClassInfo(String resourceName) {
+        Resource resource = _resources.get(resourceName);
+        return resource != null ? resource._info : null;
+    }
+
+    /**
+     * Gets the index of a classpath element, building or refreshing it if needed.
+     * @param file the folder or archive
+     * @return the index
+     * @throws IOException if the classpath element cannot be read
+     */
+    public static ClasspathIndex forFile(File file) throws IOException {
+        String key = file.getAbsolutePath();
+        ClasspathIndex previous;
+        synchronized (CACHE) {
+            previous = CACHE.get(key);
+        }
+        ClasspathIndex index;
+        if (file.isDirectory()) {
+            if (previous == null) {
+                previous = readPersisted(new File(file, INDEX_RESOURCE));
+            }
+            index = indexDirectory(file, previous);
+        } else {
+            if (previous != null && previous._time == file.lastModified() && previous._size == file.length()) {
+                return previous;
+            }
+            index = indexArchive(file);
+        }
+        synchronized (CACHE) {
+            CACHE.put(key, index);
+        }
+        return index;
+    }
+
+    /**
+     * Gets the indexes of several classpath elements, indexing up to one
+     * element per available processor at the same time.
+     * @param files the folders and archives
+     * @return the indexes, in the order of the files
+     * @throws IOException if a classpath element cannot be read
+     */
+    public static List<ClasspathIndex> forFiles(List<File> files) throws IOException {
+        int threads = Math.min(files.size(), Runtime.getRuntime().availableProcessors());
+        List<ClasspathIndex> indexes = new ArrayList<ClasspathIndex>(files.size());
+        if (threads < 2) {
+            for (File file : files) {
+                indexes.add(forFile(file));
+            }
+            return indexes;
+        }
+        ExecutorService executor = Executors.newFixedThreadPool(threads);
+        try {
+            List<Future<ClasspathIndex>> futures = new ArrayList<Future<ClasspathIndex>>(files.size());
+            for (final File file : files) {
+                futures.add(executor.submit(new Callable<ClasspathIndex>() {
+                    @Override
+                    public ClasspathIndex call() throws IOException {
+                        return forFile(file);
+                    }
+                }));
+            }
+            for (Future<ClasspathIndex> future : futures) {
+                indexes.add(future.get());
+            }
+            return indexes;
+        } catch (InterruptedException ie) {
+            Thread.currentThread().interrupt();
+            throw new IOException(ie);
+        } catch (ExecutionException ee) {
+            if (ee.getCause() instanceof IOException) {
+                throw (IOException) ee.getCause();
+            }
+            throw new IOException(ee.getCause());
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+    /**
+     * Indexes a folder and persists the index in it as the {@value #INDEX_RESOURCE} resource.
+     * @param directory the folder, usually the build output
+     * @return the persisted index file
+     * @throws IOException if the folder cannot be read or the index cannot be written
+     */
+    public static File persist(File directory) throws IOException {
+        File indexFile = new File(directory, INDEX_RESOURCE);
+        File parent = indexFile.getParentFile();
+        if (!parent.isDirectory() && !parent.mkdirs()) {
+            throw new IOException("Unable to create " + parent);
+        }
+        ClasspathIndex index = forFile(directory);
+        File temp = File.createTempFile("classpath", ".tmp", parent);
+        try {
+            DataOutputStream out = new DataOutputStream(new BufferedOutputStream(new FileOutputStream(temp)));
+            try {
+                index.write(out);
+            } finally {
+                out.close();
+            }
+            if (!temp.renameTo(indexFile)) {
+                indexFile.delete();
+                if (!temp.renameTo(indexFile)) {
+                    throw new IOException("Unable to rename " + temp + " to " + indexFile);
+                }
+            }
+        } finally {
+            temp.delete();
+        }
+        return indexFile;
+    }
+
+    /**
+     * Discards the indexes kept in memory.
+     */
+    public static void clear() {
+        synchronized (CACHE) {
+            CACHE.clear();
+        }
+    }
+
+    private static ClasspathIndex indexDirectory(File directory, ClasspathIndex previous) {
+        if (_logger.isDebugEnabled()) {
+            _logger.debug("Indexing directory: " + directory.getAbsolutePath());
+        }
+        Map<String, Resource> resources = new LinkedHashMap<String, Resource>();
+        indexDirectory(directory, null, previous, resources);
+        return new ClasspathIndex(0L, 0L, resources);
+    }
+
+    private static void indexDirectory(File directory, String path, ClasspathIndex previous, Map<String, Resource> resources) {
+        File[] children = directory.listFiles();
+        if (children == null) {
+            return;
+        }
+        for (File child : children) {
+            String name = path == null ? child.getName() : path + '/' + child.getName();
+            if (child.isDirectory()) {
+                indexDirectory(child, name, previous, resources);
+                continue;
+            }
+            long time = child.lastModified();
+            long size = child.length();
+            Resource known = previous != null ? previous._resources.get(name) : null;
+            if (known != null && known._time == time && known._size == size) {
+                resources.put(name, known);
+            } else if (name.endsWith(CLASS_SUFFIX)) {
+                resources.put(name, readClass(child, time, size));
+            } else {
+                resources.put(name, new Resource(time, size, NO_CRC, null));
+            }
+        }
+    }
+
+    // the checksum lets an archive built from the folder tell whether the entry is the same class file
+    private static Resource readClass(File file, long time, long size) {
+        try {
+            ByteArrayOutputStream bytes = new ByteArrayOutputStream((int) size);
+            InputStream in = new FileInputStream(file);
+            try {
+                byte[] buffer = new byte[8192];
+                int count;
+                while ((count = in.read(buffer)) != -1) {
+                    bytes.write(buffer, 0, count);
+                }
+            } finally {
+                in.close();
+            }
+            byte[] content = bytes.toByteArray();
+            CRC32 crc = new CRC32();
+            crc.update(content);
+            return new Resource(time, content.length, crc.getValue(),
+                readClass(new ByteArrayInputStream(content), file.getPath()));
+        } catch (IOException ioe) {
+            _logger.debug("Unable to read class file " + file, ioe);
+            return new Resource(time, size, NO_CRC, null);
+        }
+    }
+
+    private static ClasspathIndex indexArchive(File file) throws IOException {
+        if (_logger.isDebugEnabled()) {
+            _logger.debug("Indexing archive: " + file.getAbsolutePath());
+        }
+        long time = file.lastModified();
+        long size = file.length();
+        Map<String, Resource> resources = new LinkedHashMap<String, Resource>();
+        ZipFile zip = new ZipFile(file);
+        try {
+            ClasspathIndex persisted = null;
+            ZipEntry indexEntry = zip.getEntry(INDEX_RESOURCE);
+            if (indexEntry != null) {
+                persisted = readPersisted(zip.getInputStream(indexEntry), file + "!/" + INDEX_RESOURCE);
+            }
+            for (Enumeration<? extends ZipEntry> entries = zip.entries(); entries.hasMoreElements();) {
+                ZipEntry entry = entries.nextElement();
+                String name = entry.getName();
+                ClassInfo info = null;
+                if (name.endsWith(CLASS_SUFFIX)) {
+                    // archive entries are matched on size and checksum, as their times differ from those of the folder
+                    Resource known = persisted != null ? persisted._resources.get(name) : null;
+                    if (known != null && known._size == entry.getSize() && known._crc != NO_CRC
+                            && known._crc == entry.getCrc()) {
+                        info = known._info;
+                    } else {
+                        InputStream in = zip.getInputStream(entry);
+                        try {
+                            info = readClass(in, file + "!/" + name);
+                        } finally {
+                            in.close();
+                        }
+                    }
+                }
+                resources.put(name, new Resource(entry.getTime(), entry.getSize(), entry.getCrc(), info));
+            }
+        } catch (IllegalStateException ise) {
+            throw new IOException(ise);
+        } finally {
+            zip.close();
+        }
+        return new ClasspathIndex(time, size, resources);
+    }
+
+    private static ClassInfo readClass(InputStream in, String location) {
+        try {
+            return ClassInfo.read(new DataInputStream(new BufferedInputStream(in)));
+        } catch (IOException ioe) {
+            _logger.debug("Unable to read class file " + location, ioe);
+        } catch (RuntimeException re) {
+            _logger.debug("Unable to read class file " + location, re);
+        }
+        return null;
+    }
+
+    private static ClasspathIndex readPersisted(File file) {
+        if (!file.isFile()) {
+            return null;
+        }
+        try {
+            return readPersisted(new FileInputStream(file), file.getPath());
+        } catch (IOException ioe) {
+            _logger.debug("Unable to read classpath index " + file, ioe);
+            return null;
+        }
+    }
+
+    private static ClasspathIndex readPersisted(InputStream stream, String location) {
+        DataInputStream in = new DataInputStream(new BufferedInputStream(stream));
+        try {
+            if (in.readInt() != MAGIC || in.readInt() != FORMAT) {
+                return null;
+            }
+            int count = in.readInt();
+            Map<String, Resource> resources = new HashMap<String, Resource>();
+            for (int i = 0; i < count; i++) {
+                String name = in.readUTF();
+                long time = in.readLong();
+                long size = in.readLong();
+                long crc = in.readLong();
+                ClassInfo info = null;
+                if (in.readBoolean()) {
+                    String className = in.readUTF();
+                    int access = in.readInt();
+                    String superName = in.readUTF();
+                    List<String> interfaces = new ArrayList<String>(readStrings(in));
+                    Set<String> annotations = readStrings(in);
+                    Set<String> memberAnnotations = readStrings(in);
+                    info = new ClassInfo(className, access, superName.length() > 0 ? superName : null,
+                            interfaces, annotations, memberAnnotations);
+                }
+                resources.put(name, new Resource(time, size, crc, info));
+            }
+            return new ClasspathIndex(0L, 0L, resources);
+        } catch (IOException ioe) {
+            _logger.debug("Unable to read classpath index " + location, ioe);
+            return null;
+        } finally {
+            try {
+                in.close();
+            } catch (IOException ioe) {
+                _logger.debug(ioe);
+            }
+        }
+    }
+
+    private static Set<String> readStrings(DataInputStream in) throws IOException {
+        int count = in.readInt();
+        Set<String> strings = new LinkedHashSet<String>();
+        for (int i = 0; i < count; i++) {
+            strings.add(in.readUTF());
+        }
+        return strings;
+    }
+
+    private void write(DataOutputStream out) throws IOException {
+        out.writeInt(MAGIC);
+        out.writeInt(FORMAT);
+        out.writeInt(_resources.size());
+        for (Map.Entry<String, Resource> entry : _resources.entrySet()) {
+            Resource resource = entry.getValue();
+            out.writeUTF(entry.getKey());
+            out.writeLong(resource._time);
+            out.writeLong(resource._size);
+            out.writeLong(resource._crc);
+            ClassInfo info = resource._info;
+            out.writeBoolean(info != null);
+            if (info != null) {
+                out.writeUTF(info.getName());
+                out.writeInt(info.getAccess());
+                out.writeUTF(info.getSuperName() != null ? info.getSuperName() : "");
+                writeStrings(out, info.getInterfaces());
+                writeStrings(out, info.getAnnotations());
+                writeStrings(out, info.getMemberAnnotations());
+            }
+        }
+    }
+
+    private static void writeStrings(DataOutputStream out, Collection<String> strings) throws IOException {
+        out.writeInt(strings.size());
+        for (String string : strings) {
+            out.writeUTF(string);
+        }
+    }
+
+    private static final class Resource {
+        private final long _time;
+        private final long _size;
+        private final long _crc;
+        private final ClassInfo _info;
+
+        private Resource(long time, long size, long crc, ClassInfo info) {
+            _time = time;
+            _size = size;
+            _crc = crc;
+            _info = info;
+        }
+    }
+}
@@ -21,12 +21,15 @@ import java.io.File;
 import java.io.IOException;
 import java.net.URISyntaxException;
 import java.net.URL;
-import java.util.Enumeration;
-import java.util.zip.ZipEntry;
-import java.util.zip.ZipFile;
+import java.util.ArrayList;
+import java.util.List;
 
 /**
  * Classpath scanner.
+ * <p/>
+ * Folders and archives are scanned through their {@link ClasspathIndex}, so
+ * classes an {@link AbstractTypeFilter} rules out by their class file
+ * information are not loaded.
  *
  * @author <a href="mailto:tom.fennelly@gmail.com">tom.fennelly@gmail.com</a>
  */
@@ -65,16 +68,38 @@ public class ClasspathScanner {
         File file = toClassPathFile(url);
 
         if (file.exists()) {
-            if (file.isDirectory()) {
-                handleDirectory(file, url.getRef());
-            } else {
-                handleArchive(file);
-            }
+            handleIndex(file, ClasspathIndex.forFile(file), url.getRef());
         } else {
             CommonCoreLogger.ROOT_LOGGER.unknownClasspathURL(file.getAbsolutePath());
         }
     }
 
+    /**
+     * Scan the specified URLs, in order.  The URLs are indexed in parallel
+     * before the filter is applied to their resources.
+     *
+     * @param urls URLs to scan.
+     * @throws IOException Error reading from a URL target.
+     * @see #scan(URL)
+     */
+    public void scan(List<URL> urls) throws IOException {
+        List<URL> existing = new ArrayList<URL>();
+        List<File> files = new ArrayList<File>();
+        for (URL url : urls) {
+            File file = toClassPathFile(url);
+            if (file.exists()) {
+                existing.add(url);
+                files.add(file);
+            } else {
+                CommonCoreLogger.ROOT_LOGGER.unknownClasspathURL(file.getAbsolutePath());
+            }
+        }
+        List<ClasspathIndex> indexes = ClasspathIndex.forFiles(files);
+        for (int i = 0; i < indexes.size(); i++) {
+            handleIndex(files.get(i), indexes.get(i), existing.get(i).getRef());
+        }
+    }
+
     /**
      * Convert the supplied classpath URL to a File.
      * @param classPathURL The classpath URL.
@@ -104,48 +129,25 @@ public class ClasspathScanner {
         return urlRef == null || urlRef.length() == 0 ? new File(urlPath) : new File(urlPath, urlRef);
     }
 
-    private void handleArchive(File file) throws IOException {
+    private void handleIndex(File file, ClasspathIndex index, String ref) {
         if (_logger.isDebugEnabled()) {
-            _logger.debug("Scanning archive: " + file.getAbsolutePath());
+            _logger.debug("Scanning " + (file.isDirectory() ? "directory: " : "archive: ") + file.getAbsolutePath());
         }
+        // folder resources are named relative to the classpath root, not to the scanned sub folder
+        String prefix = file.isDirectory() && ref != null && !ref.isEmpty() ? ref + '/' : null;
+        AbstractTypeFilter typeFilter = _filter instanceof AbstractTypeFilter ? (AbstractTypeFilter) _filter : null;
 
-        ZipFile zip = new ZipFile(file);
-        try {
-            Enumeration<? extends ZipEntry> entries = zip.entries();
-
-            while (entries.hasMoreElements()) {
-                if (!_filter.continueScanning()) {
-                    break;
-                }
-
-                ZipEntry entry = entries.nextElement();
-                String name = entry.getName();
-                _filter.filter(name);
-            }
-        } catch (IllegalStateException ise) {
-            throw new IOException(ise);
-        } finally {
-            zip.close();
-        }
-    }
-
-    private void handleDirectory(File file, String path) {
-        if (_logger.isDebugEnabled()) {
-            _logger.debug("Scanning directory: " + file.getAbsolutePath());
-        }
-
-        for (File child : file.listFiles()) {
+        for (String name : index.getResources()) {
             if (!_filter.continueScanning()) {
                 break;
             }
-
-            String newPath = path == null || path.isEmpty() ? child.getName() : path + '/' + child.getName();
-
-            if (child.isDirectory()) {
-                handleDirectory(child, newPath);
-            } else {
-                _filter.filter(newPath);
+            if (typeFilter != null) {
+                ClassInfo info = index.getClassInfo(name);
+                if (info != null && !typeFilter.mayMatch(info)) {
+                    continue;
+                }
             }
+            _filter.filter(prefix == null ? name : prefix + name);
         }
     }
 
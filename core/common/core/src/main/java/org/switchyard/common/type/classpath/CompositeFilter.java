@@ -43,6 +43,19 @@ public class CompositeFilter extends AbstractTypeFilter {
         return this;
     }
 
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public boolean mayMatch(ClassInfo info) {
+        for (AbstractTypeFilter filter : _filters) {
+            if (!filter.mayMatch(info)) {
+                return false;
+            }
+        }
+        return true;
+    }
+
     /**
      * {@inheritDoc}
      */
@@ -31,6 +31,15 @@ public class InstanceOfFilter extends AbstractTypeFilter {
         this._searchType = searchType;
     }
 
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public boolean mayMatch(ClassInfo info) {
+        // a type without super types is only an instance of itself and Object
+        return !info.hasNoSuperTypes() || _searchType == Object.class || _searchType.getName().equals(info.getName());
+    }
+
     /**
      * {@inheritDoc}
      */
@@ -15,6 +15,7 @@
 package org.switchyard.common.type.classpath;
 
 import java.lang.annotation.Annotation;
+import java.lang.annotation.Inherited;
 import java.lang.reflect.Field;
 import java.lang.reflect.Method;
 import java.util.LinkedList;
@@ -48,6 +49,25 @@ public class IsAnnotationPresentFilter extends AbstractTypeFilter {
         return this;
     }
 
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public boolean mayMatch(ClassInfo info) {
+        for (Class<? extends Annotation> annotation : _searchTypes) {
+            String name = annotation.getName();
+            if (info.getAnnotations().contains(name) || info.getMemberAnnotations().contains(name)) {
+                return true;
+            }
+            // an inherited annotation may be declared by a super class
+            if (annotation.isAnnotationPresent(Inherited.class)
+                    && info.getSuperName() != null && !Object.class.getName().equals(info.getSuperName())) {
+                return true;
+            }
+        }
+        return false;
+    }
+
     /**
      * {@inheritDoc}
      */
@@ -54,6 +54,27 @@ public class PackageFilter extends AbstractTypeFilter {
         return this;
     }
 
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public boolean mayMatch(ClassInfo info) {
+        String name = info.getPackageName();
+        if (contains(_excludes, name)) {
+            return false;
+        }
+        return _includes.isEmpty() || contains(_includes, name);
+    }
+
+    private static boolean contains(List<Package> packages, String name) {
+        for (Package pkg : packages) {
+            if (pkg != null && pkg.getName().equals(name)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
     /**
      * {@inheritDoc}
      */
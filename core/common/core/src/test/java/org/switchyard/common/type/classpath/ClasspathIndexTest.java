@@ -0,0 +1,200 @@
+/*
+ * Copyright 2013 Red Hat Inc. and/or its affiliates and other contributors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * http://www.apache.org/licenses/LICENSE-2.0
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.switchyard.common.type.classpath;
+
+import java.io.ByteArrayOutputStream;
+import java.io.File;
+import java.io.FileInputStream;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.io.Serializable;
+import java.util.Arrays;
+import java.util.zip.ZipEntry;
+import java.util.zip.ZipOutputStream;
+
+import javax.activation.CommandMap;
+
+import org.junit.After;
+import org.junit.Assert;
+import org.junit.Before;
+import org.junit.Test;
+
+public class ClasspathIndexTest {
+
+    private static final String PATH = ClasspathIndexTest.class.getPackage().getName().replace('.', '/') + '/';
+    private static final String ANNOTATED = PATH + "ClasspathIndexTest$Annotated.class";
+    private static final String PLAIN = PATH + "ClasspathIndexTest$Plain.class";
+
+    private File _directory;
+
+    @Before
+    public void setUp() throws IOException {
+        ClasspathIndex.clear();
+        _directory = File.createTempFile("index", "");
+        _directory.delete();
+        File classes = new File(ClasspathIndexTest.class.getProtectionDomain().getCodeSource().getLocation().getPath());
+        copy(new File(classes, ANNOTATED), new File(_directory, ANNOTATED));
+        copy(new File(classes, PLAIN), new File(_directory, PLAIN));
+    }
+
+    @After
+    public void tearDown() {
+        ClasspathIndex.clear();
+        delete(_directory);
+    }
+
+    @Test
+    public void readsClassFilesWithoutLoading() throws IOException {
+        ClasspathIndex index = ClasspathIndex.forFile(_directory);
+        Assert.assertTrue(index.getResources().containsAll(Arrays.asList(ANNOTATED, PLAIN)));
+
+        ClassInfo annotated = index.getClassInfo(ANNOTATED);
+        Assert.assertEquals(Annotated.class.getName(), annotated.getName());
+        Assert.assertTrue(annotated.getAnnotations().contains(Deprecated.class.getName()));
+        Assert.assertTrue(annotated.getMemberAnnotations().contains(Deprecated.class.getName()));
+        Assert.assertEquals(Arrays.asList(Serializable.class.getName()), annotated.getInterfaces());
+        Assert.assertTrue(annotated.isAbstract());
+        Assert.assertFalse(annotated.hasNoSuperTypes());
+
+        ClassInfo plain = index.getClassInfo(PLAIN);
+        Assert.assertTrue(plain.getAnnotations().isEmpty());
+        Assert.assertTrue(plain.hasNoSuperTypes());
+        Assert.assertFalse(plain.isAbstract());
+    }
+
+    @Test
+    public void filtersRuleOutClassesFromTheirClassFiles() throws IOException {
+        ClasspathIndex index = ClasspathIndex.forFile(_directory);
+        IsAnnotationPresentFilter annotationFilter = new IsAnnotationPresentFilter(Deprecated.class);
+        Assert.assertTrue(annotationFilter.mayMatch(index.getClassInfo(ANNOTATED)));
+        Assert.assertFalse(annotationFilter.mayMatch(index.getClassInfo(PLAIN)));
+
+        InstanceOfFilter instanceOfFilter = new InstanceOfFilter(Serializable.class);
+        Assert.assertTrue(instanceOfFilter.mayMatch(index.getClassInfo(ANNOTATED)));
+        Assert.assertFalse(instanceOfFilter.mayMatch(index.getClassInfo(PLAIN)));
+
+        PackageFilter packageFilter = new PackageFilter(CommandMap.class.getPackage());
+        Assert.assertFalse(packageFilter.mayMatch(index.getClassInfo(PLAIN)));
+    }
+
+    @Test
+    public void persistedIndexIsReused() throws IOException {
+        File file = ClasspathIndex.persist(_directory);
+        Assert.assertTrue(file.isFile());
+        ClasspathIndex.clear();
+
+        // the class file is unreadable now, so its information can only come from the persisted index
+        File annotated = new File(_directory, ANNOTATED);
+        long time = annotated.lastModified();
+        byte[] zeros = new byte[(int) annotated.length()];
+        OutputStream out = new FileOutputStream(annotated);
+        out.write(zeros);
+        out.close();
+        annotated.setLastModified(time);
+
+        ClassInfo info = ClasspathIndex.forFile(_directory).getClassInfo(ANNOTATED);
+        Assert.assertNotNull(info);
+        Assert.assertTrue(info.getAnnotations().contains(Deprecated.class.getName()));
+    }
+
+    @Test
+    public void persistedIndexIsNotReusedForAChangedArchiveEntry() throws IOException {
+        File index = ClasspathIndex.persist(_directory);
+        // same size as the indexed class file, other content
+        byte[] plain = read(new File(_directory, PLAIN));
+        byte[] changed = Arrays.copyOf(plain, (int) new File(_directory, ANNOTATED).length());
+        File archive = new File(_directory, "changed.jar");
+        ZipOutputStream out = new ZipOutputStream(new FileOutputStream(archive));
+        try {
+            out.putNextEntry(new ZipEntry(ClasspathIndex.INDEX_RESOURCE));
+            out.write(read(index));
+            out.putNextEntry(new ZipEntry(ANNOTATED));
+            out.write(changed);
+            out.putNextEntry(new ZipEntry(PLAIN));
+            out.write(plain);
+        } finally {
+            out.close();
+        }
+
+        ClasspathIndex archiveIndex = ClasspathIndex.forFile(archive);
+        Assert.assertEquals(Plain.class.getName(), archiveIndex.getClassInfo(ANNOTATED).getName());
+        Assert.assertEquals(Plain.class.getName(), archiveIndex.getClassInfo(PLAIN).getName());
+    }
+
+    @Test
+    public void scansSeveralURLs() throws IOException {
+        InstanceOfFilter filter = new InstanceOfFilter(CommandMap.class);
+        ClasspathScanner scanner = new ClasspathScanner(filter);
+        scanner.scan(Arrays.asList(_directory.toURI().toURL(),
+                new File("./src/test/resources/classpathscan-test.jar").toURI().toURL()));
+        Assert.assertTrue(filter.getMatchedTypes().contains(CommandMap.class));
+        Assert.assertFalse(filter.getMatchedTypes().contains(Plain.class));
+    }
+
+    private static byte[] read(File file) throws IOException {
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+        InputStream in = new FileInputStream(file);
+        try {
+            byte[] buffer = new byte[4096];
+            int count;
+            while ((count = in.read(buffer)) != -1) {
+                bytes.write(buffer, 0, count);
+            }
+        } finally {
+            in.close();
+        }
+        return bytes.toByteArray();
+    }
+
+    private static void copy(File from, File to) throws IOException {
+        to.getParentFile().mkdirs();
+        InputStream in = new FileInputStream(from);
+        try {
+            OutputStream out = new FileOutputStream(to);
+            try {
+                byte[] buffer = new byte[4096];
+                int count;
+                while ((count = in.read(buffer)) != -1) {
+                    out.write(buffer, 0, count);
+                }
+            } finally {
+                out.close();
+            }
+        } finally {
+            in.close();
+        }
+    }
+
+    private static void delete(File file) {
+        File[] children = file.listFiles();
+        if (children != null) {
+            for (File child : children) {
+                delete(child);
+            }
+        }
+        file.delete();
+    }
+
+    @Deprecated
+    abstract static class Annotated implements Serializable {
+        private static final long serialVersionUID = 1L;
+        @Deprecated
+        private String _field;
+    }
+
+    static class Plain {
+    }
+}
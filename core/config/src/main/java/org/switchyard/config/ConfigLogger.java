@@ -37,4 +37,30 @@ public interface ConfigLogger {
     @LogMessage(level = WARN)
     @Message(id = 11801, value="missing component service [%s] for component [%s]")
     void missingComponentService(String componentServiceName, String componentName);
+
+    /**
+     * discardingModelSnapshot method definition.
+     * @param file file
+     * @param reason reason
+     */
+    @LogMessage(level = WARN)
+    @Message(id = 11802, value="Discarding unreadable configuration snapshot [%s]: %s")
+    void discardingModelSnapshot(String file, String reason);
+
+    /**
+     * unableToWriteModelSnapshot method definition.
+     * @param file file
+     * @param reason reason
+     */
+    @LogMessage(level = WARN)
+    @Message(id = 11803, value="Unable to write configuration snapshot [%s]: %s")
+    void unableToWriteModelSnapshot(String file, String reason);
+
+    /**
+     * modelSnapshotsDisabled method definition.
+     * @param reason reason
+     */
+    @LogMessage(level = WARN)
+    @Message(id = 11804, value="Configuration snapshots disabled, unable to digest the configuration schemas: %s")
+    void modelSnapshotsDisabled(String reason);
 }
@@ -0,0 +1,437 @@
+/*
+ * Copyright 2013 Red Hat Inc. and/or its affiliates and other contributors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * http://www.apache.org/licenses/LICENSE-2.0
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.switchyard.config.model;
+
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.File;
+import java.io.FileInputStream;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.net.URL;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Properties;
+import java.util.Set;
+import java.util.TreeSet;
+
+import javax.xml.parsers.DocumentBuilderFactory;
+import javax.xml.parsers.ParserConfigurationException;
+
+import org.switchyard.common.io.pull.ElementPuller;
+import org.switchyard.common.io.pull.PropertiesPuller;
+import org.switchyard.common.io.pull.Puller;
+import org.switchyard.common.lang.Strings;
+import org.switchyard.common.type.Classes;
+import org.switchyard.common.version.Versions;
+import org.switchyard.config.ConfigLogger;
+import org.w3c.dom.Attr;
+import org.w3c.dom.Document;
+import org.w3c.dom.Element;
+import org.w3c.dom.NamedNodeMap;
+import org.w3c.dom.Node;
+import org.w3c.dom.ProcessingInstruction;
+
+/**
+ * Pulls Models like a {@link ModelPuller}, keeping a compact binary snapshot
+ * of each parsed configuration in a cache directory.  Snapshots are keyed by
+ * a hash of the configuration content and the SwitchYard version, so a later
+ * pull of the same configuration rebuilds the Model from the snapshot instead
+ * of parsing the XML again.  When the SwitchYard version is unknown, e.g. in
+ * a development build, a digest of the configuration schemas stands in for
+ * it; if that cannot be computed either, the XML is always parsed.
+ * <p/>
+ * Snapshots which cannot be read, or which were written by another format or
+ * SwitchYard version, are discarded and the XML is parsed as usual.  Without
+ * a cache directory the XML is always parsed.
+ *
+ * @param <M> the Model type
+ */
+public class ModelCache<M extends Model> extends Puller<M> {
+
+    /**
+     * System property holding the cache directory used by the default constructor.
+     */
+    public static final String DIRECTORY_PROPERTY = "org.switchyard.config.cacheDir";
+
+    private static final int MAGIC = 0x53594D43;
+    private static final int FORMAT = 2;
+    private static final String SUFFIX = ".model";
+
+    private static final byte ELEMENT = 1;
+    private static final byte TEXT = 2;
+    private static final byte CDATA = 3;
+    private static final byte COMMENT = 4;
+    private static final byte PROCESSING_INSTRUCTION = 5;
+
+    private static String _buildStamp;
+    private static boolean _buildStampResolved;
+
+    private final File _directory;
+    private final ModelPuller<M> _puller;
+
+    /**
+     * Constructs a ModelCache using the directory named by the
+     * {@value #DIRECTORY_PROPERTY} system property, if any.
+     */
+    public ModelCache() {
+        this(getDefaultDirectory());
+    }
+
+    /**
+     * Constructs a ModelCache using the specified directory.
+     * @param directory the cache directory, or null to always parse
+     */
+    public ModelCache(File directory) {
+        this(directory, null);
+    }
+
+    /**
+     * Constructs a ModelCache using the specified directory and ModelPuller.
+     * @param directory the cache directory, or null to always parse
+     * @param puller the ModelPuller which builds the Models
+     */
+    public ModelCache(File directory, ModelPuller<M> puller) {
+        _directory = directory;
+        _puller = puller != null ? puller : new ModelPuller<M>();
+    }
+
+    /**
+     * Gets the cache directory.
+     * @return the cache directory, or null if snapshots are not used
+     */
+    public final File getDirectory() {
+        return _directory;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public M pull(InputStream stream) throws IOException {
+        String stamp = getBuildStamp();
+        if (_directory == null || stamp == null) {
+            return pull(new ElementPuller().pull(stream));
+        }
+        byte[] content = read(stream);
+        File file = new File(_directory, getKey(content, stamp) + SUFFIX);
+        if (file.isFile()) {
+            Element snapshot = null;
+            try {
+                snapshot = readSnapshot(file, stamp);
+            } catch (IOException ioe) {
+                ConfigLogger.ROOT_LOGGER.discardingModelSnapshot(file.getPath(), ioe.getMessage());
+            } catch (RuntimeException re) {
+                ConfigLogger.ROOT_LOGGER.discardingModelSnapshot(file.getPath(), re.toString());
+            }
+            if (snapshot != null) {
+                return pull(snapshot);
+            }
+            file.delete();
+        }
+        Element element = new ElementPuller().pull(new ByteArrayInputStream(content));
+        M model = pull(element);
+        if (model != null) {
+            writeSnapshot(file, stamp, element);
+        }
+        return model;
+    }
+
+    private M pull(Element element) {
+        return element != null ? _puller.pull(element) : null;
+    }
+
+    private Element readSnapshot(File file, String stamp) throws IOException {
+        DataInputStream in = new DataInputStream(new BufferedInputStream(new FileInputStream(file)));
+        try {
+            if (in.readInt() != MAGIC || in.readInt() != FORMAT || !stamp.equals(in.readUTF())) {
+                return null;
+            }
+            Document document = newDocument();
+            Node node = readNode(in, document, new ArrayList<String>());
+            if (!(node instanceof Element)) {
+                throw new IOException("snapshot does not hold an element");
+            }
+            document.appendChild(node);
+            return (Element) node;
+        } finally {
+            in.close();
+        }
+    }
+
+    private void writeSnapshot(File file, String stamp, Element element) {
+        File temp = null;
+        try {
+            if (!_directory.isDirectory() && !_directory.mkdirs()) {
+                throw new IOException("cannot create directory " + _directory);
+            }
+            ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+            DataOutputStream out = new DataOutputStream(bytes);
+            out.writeInt(MAGIC);
+            out.writeInt(FORMAT);
+            out.writeUTF(stamp);
+            writeNode(out, element, new HashMap<String, Integer>());
+            out.flush();
+            // written under another name first, so concurrent readers never see a partial snapshot
+            temp = File.createTempFile("snapshot", ".tmp", _directory);
+            BufferedOutputStream fos = new BufferedOutputStream(new FileOutputStream(temp));
+            try {
+                bytes.writeTo(fos);
+            } finally {
+                fos.close();
+            }
+            if (!temp.renameTo(file)) {
+                file.delete();
+                if (!temp.renameTo(file)) {
+                    throw new IOException("cannot rename " + temp + " to " + file);
+                }
+            }
+            temp = null;
+        } catch (IOException ioe) {
+            ConfigLogger.ROOT_LOGGER.unableToWriteModelSnapshot(file.getPath(), ioe.getMessage());
+        } finally {
+            if (temp != null) {
+                temp.delete();
+            }
+        }
+    }
+
+    private static void writeNode(DataOutputStream out, Node node, Map<String, Integer> strings) throws IOException {
+        switch (node.getNodeType()) {
+            case Node.ELEMENT_NODE:
+                out.writeByte(ELEMENT);
+                writeString(out, node.getNamespaceURI(), strings);
+                writeString(out, node.getNodeName(), strings);
+                NamedNodeMap attrs = node.getAttributes();
+                out.writeInt(attrs.getLength());
+                for (int i = 0; i < attrs.getLength(); i++) {
+                    Attr attr = (Attr) attrs.item(i);
+                    writeString(out, attr.getNamespaceURI(), strings);
+                    writeString(out, attr.getName(), strings);
+                    writeString(out, attr.getValue(), strings);
+                }
+                List<Node> children = new ArrayList<Node>();
+                for (Node child = node.getFirstChild(); child != null; child = child.getNextSibling()) {
+                    if (isSupported(child)) {
+                        children.add(child);
+                    }
+                }
+                out.writeInt(children.size());
+                for (Node child : children) {
+                    writeNode(out, child, strings);
+                }
+                break;
+            case Node.TEXT_NODE:
+                out.writeByte(TEXT);
+                writeString(out, node.getNodeValue(), strings);
+                break;
+            case Node.CDATA_SECTION_NODE:
+                out.writeByte(CDATA);
+                writeString(out, node.getNodeValue(), strings);
+                break;
+            case Node.COMMENT_NODE:
+                out.writeByte(COMMENT);
+                writeString(out, node.getNodeValue(), strings);
+                break;
+            case Node.PROCESSING_INSTRUCTION_NODE:
+                out.writeByte(PROCESSING_INSTRUCTION);
+                writeString(out, ((ProcessingInstruction) node).getTarget(), strings);
+                writeString(out, ((ProcessingInstruction) node).getData(), strings);
+                break;
+            default:
+                throw new IOException("unsupported node type " + node.getNodeType());
+        }
+    }
+
+    private static boolean isSupported(Node node) {
+        switch (node.getNodeType()) {
+            case Node.ELEMENT_NODE:
+            case Node.TEXT_NODE:
+            case Node.CDATA_SECTION_NODE:
+            case Node.COMMENT_NODE:
+            case Node.PROCESSING_INSTRUCTION_NODE:
+                return true;
+            default:
+                return false;
+        }
+    }
+
+    private static Node readNode(DataInputStream in, Document document, List<String> strings) throws IOException {
+        byte type = in.readByte();
+        switch (type) {
+            case ELEMENT:
+                Element element = document.createElementNS(readString(in, strings), readString(in, strings));
+                int attrs = in.readInt();
+                for (int i = 0; i < attrs; i++) {
+                    String namespace = readString(in, strings);
+                    String name = readString(in, strings);
+                    element.setAttributeNS(namespace, name, readString(in, strings));
+                }
+                int children = in.readInt();
+                for (int i = 0; i < children; i++) {
+                    element.appendChild(readNode(in, document, strings));
+                }
+                return element;
+            case TEXT:
+                return document.createTextNode(readString(in, strings));
+            case CDATA:
+                return document.createCDATASection(readString(in, strings));
+            case COMMENT:
+                return document.createComment(readString(in, strings));
+            case PROCESSING_INSTRUCTION:
+                return document.createProcessingInstruction(readString(in, strings), readString(in, strings));
+            default:
+                throw new IOException("unknown node type " + type);
+        }
+    }
+
+    // strings are written once; later occurrences refer to the index of the first one
+    private static void writeString(DataOutputStream out, String value, Map<String, Integer> strings) throws IOException {
+        if (value == null) {
+            out.writeInt(-1);
+            return;
+        }
+        Integer index = strings.get(value);
+        if (index != null) {
+            out.writeInt(index.intValue());
+            return;
+        }
+        strings.put(value, Integer.valueOf(strings.size()));
+        byte[] bytes = value.getBytes("UTF-8");
+        out.writeInt(-2);
+        out.writeInt(bytes.length);
+        out.write(bytes);
+    }
+
+    private static String readString(DataInputStream in, List<String> strings) throws IOException {
+        int index = in.readInt();
+        if (index == -1) {
+            return null;
+        }
+        if (index == -2) {
+            byte[] bytes = new byte[in.readInt()];
+            in.readFully(bytes);
+            String value = new String(bytes, "UTF-8");
+            strings.add(value);
+            return value;
+        }
+        if (index < 0 || index >= strings.size()) {
+            throw new IOException("invalid string reference " + index);
+        }
+        return strings.get(index);
+    }
+
+    private static Document newDocument() throws IOException {
+        DocumentBuilderFactory factory = DocumentBuilderFactory.newInstance();
+        factory.setNamespaceAware(true);
+        try {
+            return factory.newDocumentBuilder().newDocument();
+        } catch (ParserConfigurationException pce) {
+            throw new IOException(pce);
+        }
+    }
+
+    private static byte[] read(InputStream stream) throws IOException {
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+        byte[] buffer = new byte[8192];
+        int count;
+        while ((count = stream.read(buffer)) != -1) {
+            bytes.write(buffer, 0, count);
+        }
+        return bytes.toByteArray();
+    }
+
+    private static String getKey(byte[] content, String stamp) throws IOException {
+        try {
+            MessageDigest digest = MessageDigest.getInstance("SHA-256");
+            digest.update(content);
+            digest.update(stamp.getBytes("UTF-8"));
+            return toHex(digest.digest());
+        } catch (NoSuchAlgorithmException nsae) {
+            throw new IOException(nsae);
+        }
+    }
+
+    // the SwitchYard version, a digest of the schemas when it is unknown, or null
+    private static synchronized String getBuildStamp() {
+        if (!_buildStampResolved) {
+            String version = Versions.getSwitchYardVersion();
+            _buildStamp = version != null ? version : getSchemaDigest();
+            _buildStampResolved = true;
+        }
+        return _buildStamp;
+    }
+
+    private static String getSchemaDigest() {
+        try {
+            MessageDigest digest = MessageDigest.getInstance("SHA-256");
+            PropertiesPuller puller = new PropertiesPuller();
+            Set<String> namespaces = new TreeSet<String>();
+            for (URL url : Classes.getResources(Descriptor.DEFAULT_PROPERTIES, ModelCache.class)) {
+                digest.update(read(url));
+                Properties props = puller.pull(url);
+                for (String name : props.stringPropertyNames()) {
+                    if (name.endsWith('.' + Descriptor.NAMESPACE)) {
+                        namespaces.add(props.getProperty(name));
+                    }
+                }
+            }
+            Descriptor descriptor = new Descriptor(ModelCache.class);
+            for (String namespace : namespaces) {
+                String location = descriptor.getSchemaLocation(namespace);
+                URL url = location != null ? Classes.getResource(location, ModelCache.class) : null;
+                digest.update(namespace.getBytes("UTF-8"));
+                if (url != null) {
+                    digest.update(read(url));
+                }
+            }
+            return "schemas-" + toHex(digest.digest());
+        } catch (Exception e) {
+            ConfigLogger.ROOT_LOGGER.modelSnapshotsDisabled(e.toString());
+            return null;
+        }
+    }
+
+    private static byte[] read(URL url) throws IOException {
+        InputStream stream = url.openStream();
+        try {
+            return read(stream);
+        } finally {
+            stream.close();
+        }
+    }
+
+    private static String toHex(byte[] bytes) {
+        StringBuilder sb = new StringBuilder();
+        for (byte b : bytes) {
+            sb.append(Character.forDigit((b >> 4) & 0xF, 16));
+            sb.append(Character.forDigit(b & 0xF, 16));
+        }
+        return sb.toString();
+    }
+
+    private static File getDefaultDirectory() {
+        String directory = Strings.trimToNull(System.getProperty(DIRECTORY_PROPERTY));
+        return directory != null ? new File(directory) : null;
+    }
+}
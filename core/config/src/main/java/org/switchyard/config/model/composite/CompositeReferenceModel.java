@@ -99,5 +99,17 @@ public interface CompositeReferenceModel extends NamedModel {
      */
     public CompositeReferenceModel setInterface(InterfaceModel interfaze);
 
-}
+    /**
+     * Gets the child extensions model.
+     * @return the child extensions model
+     */
+    public ExtensionsModel getExtensions();
+
+    /**
+     * Sets the child extensions model.
+     * @param extensions child extensions model
+     * @return this CompositeReferenceModel (useful for chaining)
+     */
+    public CompositeReferenceModel setExtensions(ExtensionsModel extensions);
 
+}
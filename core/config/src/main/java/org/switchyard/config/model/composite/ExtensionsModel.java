@@ -14,6 +14,13 @@
 package org.switchyard.config.model.composite;
 
 import org.switchyard.config.model.Model;
+import org.switchyard.config.model.switchyard.AsyncDispatchModel;
+import org.switchyard.config.model.switchyard.BulkheadModel;
+import org.switchyard.config.model.switchyard.CachingModel;
+import org.switchyard.config.model.switchyard.CircuitBreakerModel;
+import org.switchyard.config.model.switchyard.CoalescingModel;
+import org.switchyard.config.model.switchyard.DeadlineModel;
+import org.switchyard.config.model.switchyard.PriorityModel;
 import org.switchyard.config.model.switchyard.ThrottlingModel;
 
 /**
@@ -38,4 +45,109 @@ public interface ExtensionsModel extends Model {
      * @return this ExtensionsModel (useful for chaining)
      */
     public ExtensionsModel setThrottling(ThrottlingModel throttling);
+
+    /**
+     * Gets the child caching model.
+     * 
+     * @return the child caching model
+     */
+    public CachingModel getCaching();
+
+    /**
+     * Sets the child caching model.
+     * 
+     * @param caching child caching model
+     * @return this ExtensionsModel (useful for chaining)
+     */
+    public ExtensionsModel setCaching(CachingModel caching);
+
+    /**
+     * Gets the child coalescing model.
+     * 
+     * @return the child coalescing model
+     */
+    public CoalescingModel getCoalescing();
+
+    /**
+     * Sets the child coalescing model.
+     * 
+     * @param coalescing child coalescing model
+     * @return this ExtensionsModel (useful for chaining)
+     */
+    public ExtensionsModel setCoalescing(CoalescingModel coalescing);
+
+    /**
+     * Gets the child bulkhead model.
+     * 
+     * @return the child bulkhead model
+     */
+    public BulkheadModel getBulkhead();
+
+    /**
+     * Sets the child bulkhead model.
+     * 
+     * @param bulkhead child bulkhead model
+     * @return this ExtensionsModel (useful for chaining)
+     */
+    public ExtensionsModel setBulkhead(BulkheadModel bulkhead);
+
+    /**
+     * Gets the child circuit breaker model.
+     * 
+     * @return the child circuit breaker model
+     */
+    public CircuitBreakerModel getCircuitBreaker();
+
+    /**
+     * Sets the child circuit breaker model.
+     * 
+     * @param circuitBreaker child circuit breaker model
+     * @return this ExtensionsModel (useful for chaining)
+     */
+    public ExtensionsModel setCircuitBreaker(CircuitBreakerModel circuitBreaker);
+
+    /**
+     * Gets the child deadline model.
+     * 
+     * @return the child deadline model
+     */
+    public DeadlineModel getDeadline();
+
+    /**
+     * Sets the child deadline model.
+     * 
+     * @param deadline child deadline model
+     * @return this ExtensionsModel (useful for chaining)
+     */
+    public ExtensionsModel setDeadline(DeadlineModel deadline);
+
+    /**
+     * Gets the child asynchronous dispatch model.
+     * 
+     * @return the child asynchronous dispatch model
+     */
+    public AsyncDispatchModel getAsyncDispatch();
+
+    /**
+     * Sets the child asynchronous dispatch model.
+     * 
+     * @param asyncDispatch child asynchronous dispatch model
+     * @return this ExtensionsModel (useful for chaining)
+     */
+    public ExtensionsModel setAsyncDispatch(AsyncDispatchModel asyncDispatch);
+
+    /**
+     * Gets the child priority model.
+     * 
+     * @return the child priority model
+     */
+    public PriorityModel getPriority();
+
+    /**
+     * Sets the child priority model.
+     * 
+     * @param priority child priority model
+     * @return this ExtensionsModel (useful for chaining)
+     */
+    public ExtensionsModel setPriority(PriorityModel priority);
 }
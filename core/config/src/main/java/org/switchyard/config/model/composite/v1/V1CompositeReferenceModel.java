@@ -28,6 +28,7 @@ import org.switchyard.config.model.composite.ComponentModel;
 import org.switchyard.config.model.composite.ComponentReferenceModel;
 import org.switchyard.config.model.composite.CompositeModel;
 import org.switchyard.config.model.composite.CompositeReferenceModel;
+import org.switchyard.config.model.composite.ExtensionsModel;
 import org.switchyard.config.model.composite.InterfaceModel;
 import org.switchyard.config.model.composite.SCANamespace;
 
@@ -40,6 +41,7 @@ public class V1CompositeReferenceModel extends BaseNamedModel implements Composi
 
     private List<BindingModel> _bindings = new ArrayList<BindingModel>();
     private InterfaceModel _interface;
+    private ExtensionsModel _extensions;
 
     /**
      * Constructs a new V1CompositeReferenceModel.
@@ -194,4 +196,25 @@ public class V1CompositeReferenceModel extends BaseNamedModel implements Composi
         return this;
     }
 
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public ExtensionsModel getExtensions() {
+        if (_extensions == null) {
+            _extensions = (ExtensionsModel)getFirstChildModel(ExtensionsModel.EXTENSIONS);
+        }
+        return _extensions;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public CompositeReferenceModel setExtensions(ExtensionsModel extensions) {
+        setChildModel(extensions);
+        _extensions = extensions;
+        return this;
+    }
+
 }
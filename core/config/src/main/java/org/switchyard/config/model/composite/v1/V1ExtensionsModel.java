@@ -21,6 +21,13 @@ import org.switchyard.config.model.BaseModel;
 import org.switchyard.config.model.Descriptor;
 import org.switchyard.config.model.composite.ExtensionsModel;
 import org.switchyard.config.model.composite.SCANamespace;
+import org.switchyard.config.model.switchyard.AsyncDispatchModel;
+import org.switchyard.config.model.switchyard.BulkheadModel;
+import org.switchyard.config.model.switchyard.CachingModel;
+import org.switchyard.config.model.switchyard.CircuitBreakerModel;
+import org.switchyard.config.model.switchyard.CoalescingModel;
+import org.switchyard.config.model.switchyard.DeadlineModel;
+import org.switchyard.config.model.switchyard.PriorityModel;
 import org.switchyard.config.model.switchyard.ThrottlingModel;
 
 /**
@@ -29,6 +36,13 @@ import org.switchyard.config.model.switchyard.ThrottlingModel;
 public class V1ExtensionsModel extends BaseModel implements ExtensionsModel {
 
     private ThrottlingModel _throttling;
+    private CachingModel _caching;
+    private CoalescingModel _coalescing;
+    private BulkheadModel _bulkhead;
+    private CircuitBreakerModel _circuitBreaker;
+    private DeadlineModel _deadline;
+    private AsyncDispatchModel _asyncDispatch;
+    private PriorityModel _priority;
 
     /**
      * Constructs a new V1ExtensionsModel.
@@ -61,4 +75,109 @@ public class V1ExtensionsModel extends BaseModel implements ExtensionsModel {
         return this;
     }
 
+    @Override
+    public CachingModel getCaching() {
+        if (_caching == null) {
+            _caching = (CachingModel) getFirstChildModel(CachingModel.CACHING);
+        }
+        return _caching;
+    }
+
+    @Override
+    public ExtensionsModel setCaching(CachingModel caching) {
+        setChildModel(caching);
+        _caching = caching;
+        return this;
+    }
+
+    @Override
+    public CoalescingModel getCoalescing() {
+        if (_coalescing == null) {
+            _coalescing = (CoalescingModel) getFirstChildModel(CoalescingModel.COALESCING);
+        }
+        return _coalescing;
+    }
+
+    @Override
+    public ExtensionsModel setCoalescing(CoalescingModel coalescing) {
+        setChildModel(coalescing);
+        _coalescing = coalescing;
+        return this;
+    }
+
+    @Override
+    public BulkheadModel getBulkhead() {
+        if (_bulkhead == null) {
+            _bulkhead = (BulkheadModel) getFirstChildModel(BulkheadModel.BULKHEAD);
+        }
+        return _bulkhead;
+    }
+
+    @Override
+    public ExtensionsModel setBulkhead(BulkheadModel bulkhead) {
+        setChildModel(bulkhead);
+        _bulkhead = bulkhead;
+        return this;
+    }
+
+    @Override
+    public CircuitBreakerModel getCircuitBreaker() {
+        if (_circuitBreaker == null) {
+            _circuitBreaker = (CircuitBreakerModel) getFirstChildModel(CircuitBreakerModel.CIRCUIT_BREAKER);
+        }
+        return _circuitBreaker;
+    }
+
+    @Override
+    public ExtensionsModel setCircuitBreaker(CircuitBreakerModel circuitBreaker) {
+        setChildModel(circuitBreaker);
+        _circuitBreaker = circuitBreaker;
+        return this;
+    }
+
+    @Override
+    public DeadlineModel getDeadline() {
+        if (_deadline == null) {
+            _deadline = (DeadlineModel) getFirstChildModel(DeadlineModel.DEADLINE);
+        }
+        return _deadline;
+    }
+
+    @Override
+    public ExtensionsModel setDeadline(DeadlineModel deadline) {
+        setChildModel(deadline);
+        _deadline = deadline;
+        return this;
+    }
+
+    @Override
+    public AsyncDispatchModel getAsyncDispatch() {
+        if (_asyncDispatch == null) {
+            _asyncDispatch = (AsyncDispatchModel) getFirstChildModel(AsyncDispatchModel.ASYNC_DISPATCH);
+        }
+        return _asyncDispatch;
+    }
+
+    @Override
+    public ExtensionsModel setAsyncDispatch(AsyncDispatchModel asyncDispatch) {
+        setChildModel(asyncDispatch);
+        _asyncDispatch = asyncDispatch;
+        return this;
+    }
+
+    @Override
+    public PriorityModel getPriority() {
+        if (_priority == null) {
+            _priority = (PriorityModel) getFirstChildModel(PriorityModel.PRIORITY);
+        }
+        return _priority;
+    }
+
+    @Override
+    public ExtensionsModel setPriority(PriorityModel priority) {
+        setChildModel(priority);
+        _priority = priority;
+        return this;
+    }
+
 }
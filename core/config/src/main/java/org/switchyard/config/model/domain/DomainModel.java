@@ -56,5 +56,18 @@ public interface DomainModel extends NamedModel {
      * @return this DomainModel (useful for chaining)
      */
     public DomainModel setSecurities(SecuritiesModel securities);
+
+    /**
+     * Gets the child thread pools model.
+     * @return the child thread pools model
+     */
+    public ThreadPoolsModel getThreadPools();
+
+    /**
+     * Sets the child thread pools model.
+     * @param threadPools the child thread pools model
+     * @return this DomainModel (useful for chaining)
+     */
+    public DomainModel setThreadPools(ThreadPoolsModel threadPools);
     
 }
@@ -0,0 +1,176 @@
+/*
+ * Copyright 2013 Red Hat Inc. and/or its affiliates and other contributors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * http://www.apache.org/licenses/LICENSE-2.0
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,  
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.switchyard.config.model.domain;
+
+import org.switchyard.config.model.NamedModel;
+
+/**
+ * The "threadPool" configuration model.
+ */
+public interface ThreadPoolModel extends NamedModel {
+
+    /** The "threadPool" name. */
+    public static final String THREAD_POOL = "threadPool";
+
+    /** The "coreSize" attribute. */
+    public static final String CORE_SIZE = "coreSize";
+
+    /** The "maxSize" attribute. */
+    public static final String MAX_SIZE = "maxSize";
+
+    /** The "keepAlive" attribute. */
+    public static final String KEEP_ALIVE = "keepAlive";
+
+    /** The "queueType" attribute. */
+    public static final String QUEUE_TYPE = "queueType";
+
+    /** The "queueSize" attribute. */
+    public static final String QUEUE_SIZE = "queueSize";
+
+    /** The "rejectionPolicy" attribute. */
+    public static final String REJECTION_POLICY = "rejectionPolicy";
+
+    /** The "perService" attribute. */
+    public static final String PER_SERVICE = "perService";
+
+    /** The "virtualThreads" attribute. */
+    public static final String VIRTUAL_THREADS = "virtualThreads";
+
+    /** The "factory" attribute. */
+    public static final String FACTORY = "factory";
+
+    /**
+     * Gets the parent thread pools model.
+     * @return the parent thread pools model
+     */
+    public ThreadPoolsModel getThreadPools();
+
+    /**
+     * Gets the coreSize attribute.
+     * @return the coreSize attribute
+     */
+    public Integer getCoreSize();
+
+    /**
+     * Sets the coreSize attribute.
+     * @param coreSize the coreSize attribute
+     * @return this ThreadPoolModel (useful for chaining)
+     */
+    public ThreadPoolModel setCoreSize(Integer coreSize);
+
+    /**
+     * Gets the maxSize attribute.
+     * @return the maxSize attribute
+     */
+    public Integer getMaxSize();
+
+    /**
+     * Sets the maxSize attribute.
+     * @param maxSize the maxSize attribute
+     * @return this ThreadPoolModel (useful for chaining)
+     */
+    public ThreadPoolModel setMaxSize(Integer maxSize);
+
+    /**
+     * Gets the keepAlive attribute, in milliseconds.
+     * @return the keepAlive attribute
+     */
+    public Long getKeepAlive();
+
+    /**
+     * Sets the keepAlive attribute, in milliseconds.
+     * @param keepAlive the keepAlive attribute
+     * @return this ThreadPoolModel (useful for chaining)
+     */
+    public ThreadPoolModel setKeepAlive(Long keepAlive);
+
+    /**
+     * Gets the queueType attribute: "bounded", "unbounded" or "synchronous".
+     * @return the queueType attribute
+     */
+    public String getQueueType();
+
+    /**
+     * Sets the queueType attribute.
+     * @param queueType the queueType attribute
+     * @return this ThreadPoolModel (useful for chaining)
+     */
+    public ThreadPoolModel setQueueType(String queueType);
+
+    /**
+     * Gets the queueSize attribute.
+     * @return the queueSize attribute
+     */
+    public Integer getQueueSize();
+
+    /**
+     * Sets the queueSize attribute.
+     * @param queueSize the queueSize attribute
+     * @return this ThreadPoolModel (useful for chaining)
+     */
+    public ThreadPoolModel setQueueSize(Integer queueSize);
+
+    /**
+     * Gets the rejectionPolicy attribute: "abort", "callerRuns", "discard" or "discardOldest".
+     * @return the rejectionPolicy attribute
+     */
+    public String getRejectionPolicy();
+
+    /**
+     * Sets the rejectionPolicy attribute.
+     * @param rejectionPolicy the rejectionPolicy attribute
+     * @return this ThreadPoolModel (useful for chaining)
+     */
+    public ThreadPoolModel setRejectionPolicy(String rejectionPolicy);
+
+    /**
+     * Gets the perService attribute.
+     * @return the perService attribute
+     */
+    public Boolean isPerService();
+
+    /**
+     * Sets the perService attribute.
+     * @param perService the perService attribute
+     * @return this ThreadPoolModel (useful for chaining)
+     */
+    public ThreadPoolModel setPerService(Boolean perService);
+
+    /**
+     * Gets the virtualThreads attribute.
+     * @return the virtualThreads attribute
+     */
+    public Boolean isVirtualThreads();
+
+    /**
+     * Sets the virtualThreads attribute.
+     * @param virtualThreads the virtualThreads attribute
+     * @return this ThreadPoolModel (useful for chaining)
+     */
+    public ThreadPoolModel setVirtualThreads(Boolean virtualThreads);
+
+    /**
+     * Gets the factory attribute, the class name of the executor factory.
+     * @return the factory attribute
+     */
+    public String getFactory();
+
+    /**
+     * Sets the factory attribute.
+     * @param factory the factory attribute
+     * @return this ThreadPoolModel (useful for chaining)
+     */
+    public ThreadPoolModel setFactory(String factory);
+
+}
@@ -18,6 +18,7 @@ import org.switchyard.config.model.BaseNamedModel;
 import org.switchyard.config.model.Descriptor;
 import org.switchyard.config.model.domain.DomainModel;
 import org.switchyard.config.model.domain.SecuritiesModel;
+import org.switchyard.config.model.domain.ThreadPoolsModel;
 import org.switchyard.config.model.property.PropertiesModel;
 import org.switchyard.config.model.switchyard.SwitchYardModel;
 import org.switchyard.config.model.transform.TransformsModel;
@@ -30,6 +31,7 @@ public class V1DomainModel extends BaseNamedModel implements DomainModel {
     
     private PropertiesModel _properties;
     private SecuritiesModel _securities;
+    private ThreadPoolsModel _threadPools;
     
     /**
      * Constructs a new V1DomainModel.
@@ -37,7 +39,8 @@ public class V1DomainModel extends BaseNamedModel implements DomainModel {
      */
     public V1DomainModel(String namespace) {
         super(namespace, DomainModel.DOMAIN);
-        setModelChildrenOrder(TransformsModel.TRANSFORMS, ValidatesModel.VALIDATES, PropertiesModel.PROPERTIES, SecuritiesModel.SECURITIES);
+        setModelChildrenOrder(TransformsModel.TRANSFORMS, ValidatesModel.VALIDATES, PropertiesModel.PROPERTIES, SecuritiesModel.SECURITIES,
+                ThreadPoolsModel.THREAD_POOLS);
     }
 
     /**
@@ -47,7 +50,8 @@ public class V1DomainModel extends BaseNamedModel implements DomainModel {
      */
     public V1DomainModel(Configuration config, Descriptor desc) {
         super(config, desc);
-        setModelChildrenOrder(TransformsModel.TRANSFORMS, ValidatesModel.VALIDATES, PropertiesModel.PROPERTIES, SecuritiesModel.SECURITIES);
+        setModelChildrenOrder(TransformsModel.TRANSFORMS, ValidatesModel.VALIDATES, PropertiesModel.PROPERTIES, SecuritiesModel.SECURITIES,
+                ThreadPoolsModel.THREAD_POOLS);
     }
     
     @Override
@@ -89,4 +93,19 @@ public class V1DomainModel extends BaseNamedModel implements DomainModel {
         return this;
     }
 
+    @Override
+    public ThreadPoolsModel getThreadPools() {
+        if (_threadPools == null) {
+            _threadPools = (ThreadPoolsModel)getFirstChildModel(ThreadPoolsModel.THREAD_POOLS);
+        }
+        return _threadPools;
+    }
+
+    @Override
+    public DomainModel setThreadPools(ThreadPoolsModel threadPools) {
+        setChildModel(threadPools);
+        _threadPools = threadPools;
+        return this;
+    }
+
 }
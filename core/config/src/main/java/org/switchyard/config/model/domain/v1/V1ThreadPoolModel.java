@@ -0,0 +1,211 @@
+/*
+ * Copyright 2013 Red Hat Inc. and/or its affiliates and other contributors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * http://www.apache.org/licenses/LICENSE-2.0
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,  
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.switchyard.config.model.domain.v1;
+
+import org.switchyard.config.Configuration;
+import org.switchyard.config.model.BaseNamedModel;
+import org.switchyard.config.model.Descriptor;
+import org.switchyard.config.model.domain.ThreadPoolModel;
+import org.switchyard.config.model.domain.ThreadPoolsModel;
+
+/**
+ * A version 1 ThreadPoolModel.
+ */
+public class V1ThreadPoolModel extends BaseNamedModel implements ThreadPoolModel {
+
+    /**
+     * Constructs a new V1ThreadPoolModel.
+     * @param namespace namespace
+     */
+    public V1ThreadPoolModel(String namespace) {
+        super(namespace, THREAD_POOL);
+    }
+
+    /**
+     * Constructs a new V1ThreadPoolModel with the specified Configuration and Descriptor.
+     * @param config the Configuration
+     * @param desc the Descriptor
+     */
+    public V1ThreadPoolModel(Configuration config, Descriptor desc) {
+        super(config, desc);
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public ThreadPoolsModel getThreadPools() {
+        return (ThreadPoolsModel)getModelParent();
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public Integer getCoreSize() {
+        final String value = getModelAttribute(CORE_SIZE);
+        return value == null ? null : Integer.valueOf(value);
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public ThreadPoolModel setCoreSize(Integer coreSize) {
+        setModelAttribute(CORE_SIZE, coreSize == null ? null : coreSize.toString());
+        return this;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public Integer getMaxSize() {
+        final String value = getModelAttribute(MAX_SIZE);
+        return value == null ? null : Integer.valueOf(value);
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public ThreadPoolModel setMaxSize(Integer maxSize) {
+        setModelAttribute(MAX_SIZE, maxSize == null ? null : maxSize.toString());
+        return this;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public Long getKeepAlive() {
+        final String value = getModelAttribute(KEEP_ALIVE);
+        return value == null ? null : Long.valueOf(value);
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public ThreadPoolModel setKeepAlive(Long keepAlive) {
+        setModelAttribute(KEEP_ALIVE, keepAlive == null ? null : keepAlive.toString());
+        return this;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public String getQueueType() {
+        return getModelAttribute(QUEUE_TYPE);
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public ThreadPoolModel setQueueType(String queueType) {
+        setModelAttribute(QUEUE_TYPE, queueType);
+        return this;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public Integer getQueueSize() {
+        final String value = getModelAttribute(QUEUE_SIZE);
+        return value == null ? null : Integer.valueOf(value);
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public ThreadPoolModel setQueueSize(Integer queueSize) {
+        setModelAttribute(QUEUE_SIZE, queueSize == null ? null : queueSize.toString());
+        return this;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public String getRejectionPolicy() {
+        return getModelAttribute(REJECTION_POLICY);
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public ThreadPoolModel setRejectionPolicy(String rejectionPolicy) {
+        setModelAttribute(REJECTION_POLICY, rejectionPolicy);
+        return this;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public Boolean isPerService() {
+        final String value = getModelAttribute(PER_SERVICE);
+        return value == null ? null : Boolean.valueOf(value);
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public ThreadPoolModel setPerService(Boolean perService) {
+        setModelAttribute(PER_SERVICE, perService == null ? null : perService.toString());
+        return this;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public Boolean isVirtualThreads() {
+        final String value = getModelAttribute(VIRTUAL_THREADS);
+        return value == null ? null : Boolean.valueOf(value);
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public ThreadPoolModel setVirtualThreads(Boolean virtualThreads) {
+        setModelAttribute(VIRTUAL_THREADS, virtualThreads == null ? null : virtualThreads.toString());
+        return this;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public String getFactory() {
+        return getModelAttribute(FACTORY);
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public ThreadPoolModel setFactory(String factory) {
+        setModelAttribute(FACTORY, factory);
+        return this;
+    }
+
+}
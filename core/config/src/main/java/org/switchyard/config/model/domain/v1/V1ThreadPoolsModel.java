@@ -0,0 +1,89 @@
+/*
+ * Copyright 2013 Red Hat Inc. and/or its affiliates and other contributors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * http://www.apache.org/licenses/LICENSE-2.0
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,  
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.switchyard.config.model.domain.v1;
+
+import static org.switchyard.config.model.domain.ThreadPoolModel.THREAD_POOL;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+
+import javax.xml.namespace.QName;
+
+import org.switchyard.config.Configuration;
+import org.switchyard.config.model.BaseModel;
+import org.switchyard.config.model.Descriptor;
+import org.switchyard.config.model.domain.DomainModel;
+import org.switchyard.config.model.domain.ThreadPoolModel;
+import org.switchyard.config.model.domain.ThreadPoolsModel;
+
+/**
+ * A version 1 ThreadPoolsModel.
+ */
+public class V1ThreadPoolsModel extends BaseModel implements ThreadPoolsModel {
+
+    private List<ThreadPoolModel> _threadPools = new ArrayList<ThreadPoolModel>();
+
+    /**
+     * Constructs a new V1ThreadPoolsModel.
+     * @param namespace namespace
+     */
+    public V1ThreadPoolsModel(String namespace) {
+        super(new QName(namespace, THREAD_POOLS));
+        setModelChildrenOrder(THREAD_POOL);
+    }
+
+    /**
+     * Constructs a new V1ThreadPoolsModel with the specified Configuration and Descriptor.
+     * @param config the Configuration
+     * @param desc the Descriptor
+     */
+    public V1ThreadPoolsModel(Configuration config, Descriptor desc) {
+        super(config, desc);
+        for (Configuration threadPool_config : config.getChildrenStartsWith(THREAD_POOL)) {
+            ThreadPoolModel threadPool = (ThreadPoolModel)readModel(threadPool_config);
+            if (threadPool != null) {
+                _threadPools.add(threadPool);
+            }
+        }
+        setModelChildrenOrder(THREAD_POOL);
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public DomainModel getDomain() {
+        return (DomainModel)getModelParent();
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public synchronized List<ThreadPoolModel> getThreadPools() {
+        return Collections.unmodifiableList(_threadPools);
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public synchronized ThreadPoolsModel addThreadPool(ThreadPoolModel threadPool) {
+        addChildModel(threadPool);
+        _threadPools.add(threadPool);
+        return this;
+    }
+
+}
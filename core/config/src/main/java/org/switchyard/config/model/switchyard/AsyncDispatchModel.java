@@ -0,0 +1,170 @@
+/*
+ * Copyright 2013 Red Hat Inc. and/or its affiliates and other contributors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * http://www.apache.org/licenses/LICENSE-2.0
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,  
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.switchyard.config.model.switchyard;
+
+import org.switchyard.config.model.Model;
+
+/**
+ * The "asyncDispatch" configuration model.
+ */
+public interface AsyncDispatchModel extends Model {
+
+    /** The "asyncDispatch" name. */
+    public static final String ASYNC_DISPATCH = "asyncDispatch";
+
+    /** The "queueSize" attribute. */
+    public static final String QUEUE_SIZE = "queueSize";
+
+    /** The "workers" attribute. */
+    public static final String WORKERS = "workers";
+
+    /** The "overflow" attribute. */
+    public static final String OVERFLOW = "overflow";
+
+    /** The "overflowTimeout" attribute. */
+    public static final String OVERFLOW_TIMEOUT = "overflowTimeout";
+
+    /** The "threadPool" attribute. */
+    public static final String THREAD_POOL = "threadPool";
+
+    /** The "journal" attribute. */
+    public static final String JOURNAL = "journal";
+
+    /** The "journalSegmentSize" attribute. */
+    public static final String JOURNAL_SEGMENT_SIZE = "journalSegmentSize";
+
+    /** The "journalSync" attribute. */
+    public static final String JOURNAL_SYNC = "journalSync";
+
+    /** The "journalMaxAttempts" attribute. */
+    public static final String JOURNAL_MAX_ATTEMPTS = "journalMaxAttempts";
+
+    /**
+     * Gets the queueSize attribute.
+     * @return the queueSize attribute
+     */
+    public Integer getQueueSize();
+
+    /**
+     * Sets the queueSize attribute.
+     * @param queueSize the queueSize attribute
+     * @return this AsyncDispatchModel (useful for chaining)
+     */
+    public AsyncDispatchModel setQueueSize(Integer queueSize);
+
+    /**
+     * Gets the workers attribute.
+     * @return the workers attribute
+     */
+    public Integer getWorkers();
+
+    /**
+     * Sets the workers attribute.
+     * @param workers the workers attribute
+     * @return this AsyncDispatchModel (useful for chaining)
+     */
+    public AsyncDispatchModel setWorkers(Integer workers);
+
+    /**
+     * Gets the overflow attribute.
+     * @return the overflow attribute
+     */
+    public String getOverflow();
+
+    /**
+     * Sets the overflow attribute.
+     * @param overflow the overflow attribute
+     * @return this AsyncDispatchModel (useful for chaining)
+     */
+    public AsyncDispatchModel setOverflow(String overflow);
+
+    /**
+     * Gets the overflowTimeout attribute.
+     * @return the overflowTimeout attribute
+     */
+    public Long getOverflowTimeout();
+
+    /**
+     * Sets the overflowTimeout attribute.
+     * @param overflowTimeout the overflowTimeout attribute
+     * @return this AsyncDispatchModel (useful for chaining)
+     */
+    public AsyncDispatchModel setOverflowTimeout(Long overflowTimeout);
+
+    /**
+     * Gets the threadPool attribute.
+     * @return the threadPool attribute
+     */
+    public String getThreadPool();
+
+    /**
+     * Sets the threadPool attribute.
+     * @param threadPool the threadPool attribute
+     * @return this AsyncDispatchModel (useful for chaining)
+     */
+    public AsyncDispatchModel setThreadPool(String threadPool);
+
+    /**
+     * Gets the journal attribute.
+     * @return the journal attribute
+     */
+    public String getJournal();
+
+    /**
+     * Sets the journal attribute.
+     * @param journal the journal attribute
+     * @return this AsyncDispatchModel (useful for chaining)
+     */
+    public AsyncDispatchModel setJournal(String journal);
+
+    /**
+     * Gets the journalSegmentSize attribute.
+     * @return the journalSegmentSize attribute
+     */
+    public Integer getJournalSegmentSize();
+
+    /**
+     * Sets the journalSegmentSize attribute.
+     * @param journalSegmentSize the journalSegmentSize attribute
+     * @return this AsyncDispatchModel (useful for chaining)
+     */
+    public AsyncDispatchModel setJournalSegmentSize(Integer journalSegmentSize);
+
+    /**
+     * Gets the journalSync attribute.
+     * @return the journalSync attribute
+     */
+    public Boolean isJournalSync();
+
+    /**
+     * Sets the journalSync attribute.
+     * @param journalSync the journalSync attribute
+     * @return this AsyncDispatchModel (useful for chaining)
+     */
+    public AsyncDispatchModel setJournalSync(Boolean journalSync);
+
+    /**
+     * Gets the journalMaxAttempts attribute.
+     * @return the journalMaxAttempts attribute
+     */
+    public Integer getJournalMaxAttempts();
+
+    /**
+     * Sets the journalMaxAttempts attribute.
+     * @param journalMaxAttempts the journalMaxAttempts attribute
+     * @return this AsyncDispatchModel (useful for chaining)
+     */
+    public AsyncDispatchModel setJournalMaxAttempts(Integer journalMaxAttempts);
+
+}
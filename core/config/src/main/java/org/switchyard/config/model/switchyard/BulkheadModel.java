@@ -0,0 +1,106 @@
+/*
+ * Copyright 2013 Red Hat Inc. and/or its affiliates and other contributors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * http://www.apache.org/licenses/LICENSE-2.0
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,  
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.switchyard.config.model.switchyard;
+
+import org.switchyard.config.model.Model;
+
+/**
+ * The "bulkhead" configuration model.
+ */
+public interface BulkheadModel extends Model {
+
+    /** The "bulkhead" name. */
+    public static final String BULKHEAD = "bulkhead";
+
+    /** The "maxConcurrent" attribute. */
+    public static final String MAX_CONCURRENT = "maxConcurrent";
+
+    /** The "minConcurrent" attribute. */
+    public static final String MIN_CONCURRENT = "minConcurrent";
+
+    /** The "maxQueued" attribute. */
+    public static final String MAX_QUEUED = "maxQueued";
+
+    /** The "queueTimeout" attribute. */
+    public static final String QUEUE_TIMEOUT = "queueTimeout";
+
+    /** The "limit" attribute. */
+    public static final String LIMIT = "limit";
+
+    /**
+     * Gets the maxConcurrent attribute.
+     * @return the maxConcurrent attribute
+     */
+    public Integer getMaxConcurrent();
+
+    /**
+     * Sets the maxConcurrent attribute.
+     * @param maxConcurrent the maxConcurrent attribute
+     * @return this BulkheadModel (useful for chaining)
+     */
+    public BulkheadModel setMaxConcurrent(Integer maxConcurrent);
+
+    /**
+     * Gets the minConcurrent attribute.
+     * @return the minConcurrent attribute
+     */
+    public Integer getMinConcurrent();
+
+    /**
+     * Sets the minConcurrent attribute.
+     * @param minConcurrent the minConcurrent attribute
+     * @return this BulkheadModel (useful for chaining)
+     */
+    public BulkheadModel setMinConcurrent(Integer minConcurrent);
+
+    /**
+     * Gets the maxQueued attribute.
+     * @return the maxQueued attribute
+     */
+    public Integer getMaxQueued();
+
+    /**
+     * Sets the maxQueued attribute.
+     * @param maxQueued the maxQueued attribute
+     * @return this BulkheadModel (useful for chaining)
+     */
+    public BulkheadModel setMaxQueued(Integer maxQueued);
+
+    /**
+     * Gets the queueTimeout attribute.
+     * @return the queueTimeout attribute
+     */
+    public Long getQueueTimeout();
+
+    /**
+     * Sets the queueTimeout attribute.
+     * @param queueTimeout the queueTimeout attribute
+     * @return this BulkheadModel (useful for chaining)
+     */
+    public BulkheadModel setQueueTimeout(Long queueTimeout);
+
+    /**
+     * Gets the limit attribute.
+     * @return the limit attribute
+     */
+    public String getLimit();
+
+    /**
+     * Sets the limit attribute.
+     * @param limit the limit attribute
+     * @return this BulkheadModel (useful for chaining)
+     */
+    public BulkheadModel setLimit(String limit);
+
+}
@@ -0,0 +1,90 @@
+/*
+ * Copyright 2013 Red Hat Inc. and/or its affiliates and other contributors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * http://www.apache.org/licenses/LICENSE-2.0
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,  
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.switchyard.config.model.switchyard;
+
+import org.switchyard.config.model.Model;
+
+/**
+ * The "caching" configuration model.
+ */
+public interface CachingModel extends Model {
+
+    /** The "caching" name. */
+    public static final String CACHING = "caching";
+
+    /** The "maxEntries" attribute. */
+    public static final String MAX_ENTRIES = "maxEntries";
+
+    /** The "timeToLive" attribute. */
+    public static final String TIME_TO_LIVE = "timeToLive";
+
+    /** The "key" attribute. */
+    public static final String KEY = "key";
+
+    /** The "operations" attribute. */
+    public static final String OPERATIONS = "operations";
+
+    /**
+     * Gets the maxEntries attribute.
+     * @return the maxEntries attribute
+     */
+    public Integer getMaxEntries();
+
+    /**
+     * Sets the maxEntries attribute.
+     * @param maxEntries the maxEntries attribute
+     * @return this CachingModel (useful for chaining)
+     */
+    public CachingModel setMaxEntries(Integer maxEntries);
+
+    /**
+     * Gets the timeToLive attribute.
+     * @return the timeToLive attribute
+     */
+    public Long getTimeToLive();
+
+    /**
+     * Sets the timeToLive attribute.
+     * @param timeToLive the timeToLive attribute
+     * @return this CachingModel (useful for chaining)
+     */
+    public CachingModel setTimeToLive(Long timeToLive);
+
+    /**
+     * Gets the key attribute.
+     * @return the key attribute
+     */
+    public String getKey();
+
+    /**
+     * Sets the key attribute.
+     * @param key the key attribute
+     * @return this CachingModel (useful for chaining)
+     */
+    public CachingModel setKey(String key);
+
+    /**
+     * Gets the operations attribute.
+     * @return the operations attribute
+     */
+    public String getOperations();
+
+    /**
+     * Sets the operations attribute.
+     * @param operations the operations attribute
+     * @return this CachingModel (useful for chaining)
+     */
+    public CachingModel setOperations(String operations);
+
+}
@@ -0,0 +1,138 @@
+/*
+ * Copyright 2013 Red Hat Inc. and/or its affiliates and other contributors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * http://www.apache.org/licenses/LICENSE-2.0
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,  
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.switchyard.config.model.switchyard;
+
+import org.switchyard.config.model.Model;
+
+/**
+ * The "circuitBreaker" configuration model.
+ */
+public interface CircuitBreakerModel extends Model {
+
+    /** The "circuitBreaker" name. */
+    public static final String CIRCUIT_BREAKER = "circuitBreaker";
+
+    /** The "failureRateThreshold" attribute. */
+    public static final String FAILURE_RATE_THRESHOLD = "failureRateThreshold";
+
+    /** The "slowCallRateThreshold" attribute. */
+    public static final String SLOW_CALL_RATE_THRESHOLD = "slowCallRateThreshold";
+
+    /** The "slowCallDuration" attribute. */
+    public static final String SLOW_CALL_DURATION = "slowCallDuration";
+
+    /** The "windowSize" attribute. */
+    public static final String WINDOW_SIZE = "windowSize";
+
+    /** The "minimumCalls" attribute. */
+    public static final String MINIMUM_CALLS = "minimumCalls";
+
+    /** The "openDuration" attribute. */
+    public static final String OPEN_DURATION = "openDuration";
+
+    /** The "halfOpenCalls" attribute. */
+    public static final String HALF_OPEN_CALLS = "halfOpenCalls";
+
+    /**
+     * Gets the failureRateThreshold attribute.
+     * @return the failureRateThreshold attribute
+     */
+    public Integer getFailureRateThreshold();
+
+    /**
+     * Sets the failureRateThreshold attribute.
+     * @param failureRateThreshold the failureRateThreshold attribute
+     * @return this CircuitBreakerModel (useful for chaining)
+     */
+    public CircuitBreakerModel setFailureRateThreshold(Integer failureRateThreshold);
+
+    /**
+     * Gets the slowCallRateThreshold attribute.
+     * @return the slowCallRateThreshold attribute
+     */
+    public Integer getSlowCallRateThreshold();
+
+    /**
+     * Sets the slowCallRateThreshold attribute.
+     * @param slowCallRateThreshold the slowCallRateThreshold attribute
+     * @return this CircuitBreakerModel (useful for chaining)
+     */
+    public CircuitBreakerModel setSlowCallRateThreshold(Integer slowCallRateThreshold);
+
+    /**
+     * Gets the slowCallDuration attribute.
+     * @return the slowCallDuration attribute
+     */
+    public Long getSlowCallDuration();
+
+    /**
+     * Sets the slowCallDuration attribute.
+     * @param slowCallDuration the slowCallDuration attribute
+     * @return this CircuitBreakerModel (useful for chaining)
+     */
+    public CircuitBreakerModel setSlowCallDuration(Long slowCallDuration);
+
+    /**
+     * Gets the windowSize attribute.
+     * @return the windowSize attribute
+     */
+    public Integer getWindowSize();
+
+    /**
+     * Sets the windowSize attribute.
+     * @param windowSize the windowSize attribute
+     * @return this CircuitBreakerModel (useful for chaining)
+     */
+    public CircuitBreakerModel setWindowSize(Integer windowSize);
+
+    /**
+     * Gets the minimumCalls attribute.
+     * @return the minimumCalls attribute
+     */
+    public Integer getMinimumCalls();
+
+    /**
+     * Sets the minimumCalls attribute.
+     * @param minimumCalls the minimumCalls attribute
+     * @return this CircuitBreakerModel (useful for chaining)
+     */
+    public CircuitBreakerModel setMinimumCalls(Integer minimumCalls);
+
+    /**
+     * Gets the openDuration attribute.
+     * @return the openDuration attribute
+     */
+    public Long getOpenDuration();
+
+    /**
+     * Sets the openDuration attribute.
+     * @param openDuration the openDuration attribute
+     * @return this CircuitBreakerModel (useful for chaining)
+     */
+    public CircuitBreakerModel setOpenDuration(Long openDuration);
+
+    /**
+     * Gets the halfOpenCalls attribute.
+     * @return the halfOpenCalls attribute
+     */
+    public Integer getHalfOpenCalls();
+
+    /**
+     * Sets the halfOpenCalls attribute.
+     * @param halfOpenCalls the halfOpenCalls attribute
+     * @return this CircuitBreakerModel (useful for chaining)
+     */
+    public CircuitBreakerModel setHalfOpenCalls(Integer halfOpenCalls);
+
+}
@@ -0,0 +1,74 @@
+/*
+ * Copyright 2013 Red Hat Inc. and/or its affiliates and other contributors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * http://www.apache.org/licenses/LICENSE-2.0
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,  
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.switchyard.config.model.switchyard;
+
+import org.switchyard.config.model.Model;
+
+/**
+ * The "coalescing" configuration model.
+ */
+public interface CoalescingModel extends Model {
+
+    /** The "coalescing" name. */
+    public static final String COALESCING = "coalescing";
+
+    /** The "timeout" attribute. */
+    public static final String TIMEOUT = "timeout";
+
+    /** The "key" attribute. */
+    public static final String KEY = "key";
+
+    /** The "operations" attribute. */
+    public static final String OPERATIONS = "operations";
+
+    /**
+     * Gets the timeout attribute.
+     * @return the timeout attribute
+     */
+    public Long getTimeout();
+
+    /**
+     * Sets the timeout attribute.
+     * @param timeout the timeout attribute
+     * @return this CoalescingModel (useful for chaining)
+     */
+    public CoalescingModel setTimeout(Long timeout);
+
+    /**
+     * Gets the key attribute.
+     * @return the key attribute
+     */
+    public String getKey();
+
+    /**
+     * Sets the key attribute.
+     * @param key the key attribute
+     * @return this CoalescingModel (useful for chaining)
+     */
+    public CoalescingModel setKey(String key);
+
+    /**
+     * Gets the operations attribute.
+     * @return the operations attribute
+     */
+    public String getOperations();
+
+    /**
+     * Sets the operations attribute.
+     * @param operations the operations attribute
+     * @return this CoalescingModel (useful for chaining)
+     */
+    public CoalescingModel setOperations(String operations);
+
+}
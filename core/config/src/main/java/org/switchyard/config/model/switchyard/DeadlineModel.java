@@ -0,0 +1,42 @@
+/*
+ * Copyright 2013 Red Hat Inc. and/or its affiliates and other contributors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * http://www.apache.org/licenses/LICENSE-2.0
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,  
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.switchyard.config.model.switchyard;
+
+import org.switchyard.config.model.Model;
+
+/**
+ * The "deadline" configuration model.
+ */
+public interface DeadlineModel extends Model {
+
+    /** The "deadline" name. */
+    public static final String DEADLINE = "deadline";
+
+    /** The "timeout" attribute. */
+    public static final String TIMEOUT = "timeout";
+
+    /**
+     * Gets the timeout attribute.
+     * @return the timeout attribute
+     */
+    public Long getTimeout();
+
+    /**
+     * Sets the timeout attribute.
+     * @param timeout the timeout attribute
+     * @return this DeadlineModel (useful for chaining)
+     */
+    public DeadlineModel setTimeout(Long timeout);
+
+}
@@ -0,0 +1,65 @@
+/*
+ * Copyright 2013 Red Hat Inc. and/or its affiliates and other contributors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * http://www.apache.org/licenses/LICENSE-2.0
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,  
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.switchyard.config.model.switchyard;
+
+import org.switchyard.config.model.Model;
+
+/**
+ * The "gateway" configuration model, the priority of exchanges entering
+ * through one gateway binding.
+ */
+public interface GatewayPriorityModel extends Model {
+
+    /** The "gateway" name. */
+    public static final String GATEWAY = "gateway";
+
+    /** The "name" attribute. */
+    public static final String NAME = "name";
+
+    /** The "level" attribute. */
+    public static final String LEVEL = "level";
+
+    /**
+     * Gets the parent priority model.
+     * @return the parent priority model
+     */
+    public PriorityModel getPriority();
+
+    /**
+     * Gets the name attribute.
+     * @return the name attribute
+     */
+    public String getName();
+
+    /**
+     * Sets the name attribute.
+     * @param name the name attribute
+     * @return this GatewayPriorityModel (useful for chaining)
+     */
+    public GatewayPriorityModel setName(String name);
+
+    /**
+     * Gets the level attribute.
+     * @return the level attribute
+     */
+    public String getLevel();
+
+    /**
+     * Sets the level attribute.
+     * @param level the level attribute
+     * @return this GatewayPriorityModel (useful for chaining)
+     */
+    public GatewayPriorityModel setLevel(String level);
+
+}
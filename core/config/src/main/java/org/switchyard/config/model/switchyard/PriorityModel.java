@@ -0,0 +1,57 @@
+/*
+ * Copyright 2013 Red Hat Inc. and/or its affiliates and other contributors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * http://www.apache.org/licenses/LICENSE-2.0
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,  
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.switchyard.config.model.switchyard;
+
+import java.util.List;
+
+import org.switchyard.config.model.Model;
+
+/**
+ * The "priority" configuration model.
+ */
+public interface PriorityModel extends Model {
+
+    /** The "priority" name. */
+    public static final String PRIORITY = "priority";
+
+    /** The "level" attribute. */
+    public static final String LEVEL = "level";
+
+    /**
+     * Gets the level attribute.
+     * @return the level attribute
+     */
+    public String getLevel();
+
+    /**
+     * Sets the level attribute.
+     * @param level the level attribute
+     * @return this PriorityModel (useful for chaining)
+     */
+    public PriorityModel setLevel(String level);
+
+    /**
+     * Gets the child gateway priority models.
+     * @return the child gateway priority models
+     */
+    public List<GatewayPriorityModel> getGateways();
+
+    /**
+     * Adds a child gateway priority model.
+     * @param gateway the child gateway priority model
+     * @return this PriorityModel (useful for chaining)
+     */
+    public PriorityModel addGateway(GatewayPriorityModel gateway);
+
+}
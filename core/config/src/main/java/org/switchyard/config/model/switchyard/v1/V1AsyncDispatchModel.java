@@ -0,0 +1,204 @@
+/*
+ * Copyright 2013 Red Hat Inc. and/or its affiliates and other contributors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * http://www.apache.org/licenses/LICENSE-2.0
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,  
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.switchyard.config.model.switchyard.v1;
+
+import javax.xml.namespace.QName;
+
+import org.switchyard.config.Configuration;
+import org.switchyard.config.model.BaseModel;
+import org.switchyard.config.model.Descriptor;
+import org.switchyard.config.model.switchyard.AsyncDispatchModel;
+
+/**
+ * Implementation of AsyncDispatchModel : v1.
+ */
+public class V1AsyncDispatchModel extends BaseModel implements AsyncDispatchModel {
+
+    /**
+     * Constructs a new V1AsyncDispatchModel.
+     * @param namespace namespace
+     */
+    public V1AsyncDispatchModel(String namespace) {
+        super(new QName(namespace, AsyncDispatchModel.ASYNC_DISPATCH));
+    }
+
+    /**
+     * Constructs a new V1AsyncDispatchModel with the specified Configuration and Descriptor.
+     * @param config the Configuration
+     * @param desc the Descriptor
+     */
+    public V1AsyncDispatchModel(Configuration config, Descriptor desc) {
+        super(config, desc);
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public Integer getQueueSize() {
+        final String value = getModelAttribute(AsyncDispatchModel.QUEUE_SIZE);
+        return value == null ? null : Integer.valueOf(value);
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public AsyncDispatchModel setQueueSize(Integer queueSize) {
+        setModelAttribute(AsyncDispatchModel.QUEUE_SIZE, queueSize == null ? null : queueSize.toString());
+        return this;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public Integer getWorkers() {
+        final String value = getModelAttribute(AsyncDispatchModel.WORKERS);
+        return value == null ? null : Integer.valueOf(value);
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public AsyncDispatchModel setWorkers(Integer workers) {
+        setModelAttribute(AsyncDispatchModel.WORKERS, workers == null ? null : workers.toString());
+        return this;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public String getOverflow() {
+        return getModelAttribute(AsyncDispatchModel.OVERFLOW);
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public AsyncDispatchModel setOverflow(String overflow) {
+        setModelAttribute(AsyncDispatchModel.OVERFLOW, overflow);
+        return this;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public Long getOverflowTimeout() {
+        final String value = getModelAttribute(AsyncDispatchModel.OVERFLOW_TIMEOUT);
+        return value == null ? null : Long.valueOf(value);
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public AsyncDispatchModel setOverflowTimeout(Long overflowTimeout) {
+        setModelAttribute(AsyncDispatchModel.OVERFLOW_TIMEOUT, overflowTimeout == null ? null : overflowTimeout.toString());
+        return this;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public String getThreadPool() {
+        return getModelAttribute(AsyncDispatchModel.THREAD_POOL);
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public AsyncDispatchModel setThreadPool(String threadPool) {
+        setModelAttribute(AsyncDispatchModel.THREAD_POOL, threadPool);
+        return this;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public String getJournal() {
+        return getModelAttribute(AsyncDispatchModel.JOURNAL);
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public AsyncDispatchModel setJournal(String journal) {
+        setModelAttribute(AsyncDispatchModel.JOURNAL, journal);
+        return this;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public Integer getJournalSegmentSize() {
+        final String value = getModelAttribute(AsyncDispatchModel.JOURNAL_SEGMENT_SIZE);
+        return value == null ? null : Integer.valueOf(value);
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public AsyncDispatchModel setJournalSegmentSize(Integer journalSegmentSize) {
+        setModelAttribute(AsyncDispatchModel.JOURNAL_SEGMENT_SIZE, journalSegmentSize == null ? null : journalSegmentSize.toString());
+        return this;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public Boolean isJournalSync() {
+        final String value = getModelAttribute(AsyncDispatchModel.JOURNAL_SYNC);
+        return value == null ? null : Boolean.valueOf(value);
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public AsyncDispatchModel setJournalSync(Boolean journalSync) {
+        setModelAttribute(AsyncDispatchModel.JOURNAL_SYNC, journalSync == null ? null : journalSync.toString());
+        return this;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public Integer getJournalMaxAttempts() {
+        final String value = getModelAttribute(AsyncDispatchModel.JOURNAL_MAX_ATTEMPTS);
+        return value == null ? null : Integer.valueOf(value);
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public AsyncDispatchModel setJournalMaxAttempts(Integer journalMaxAttempts) {
+        setModelAttribute(AsyncDispatchModel.JOURNAL_MAX_ATTEMPTS, journalMaxAttempts == null ? null : journalMaxAttempts.toString());
+        return this;
+    }
+
+}
@@ -0,0 +1,134 @@
+/*
+ * Copyright 2013 Red Hat Inc. and/or its affiliates and other contributors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * http://www.apache.org/licenses/LICENSE-2.0
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,  
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.switchyard.config.model.switchyard.v1;
+
+import javax.xml.namespace.QName;
+
+import org.switchyard.config.Configuration;
+import org.switchyard.config.model.BaseModel;
+import org.switchyard.config.model.Descriptor;
+import org.switchyard.config.model.switchyard.BulkheadModel;
+
+/**
+ * Implementation of BulkheadModel : v1.
+ */
+public class V1BulkheadModel extends BaseModel implements BulkheadModel {
+
+    /**
+     * Constructs a new V1BulkheadModel.
+     * @param namespace namespace
+     */
+    public V1BulkheadModel(String namespace) {
+        super(new QName(namespace, BulkheadModel.BULKHEAD));
+    }
+
+    /**
+     * Constructs a new V1BulkheadModel with the specified Configuration and Descriptor.
+     * @param config the Configuration
+     * @param desc the Descriptor
+     */
+    public V1BulkheadModel(Configuration config, Descriptor desc) {
+        super(config, desc);
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public Integer getMaxConcurrent() {
+        final String value = getModelAttribute(BulkheadModel.MAX_CONCURRENT);
+        return value == null ? null : Integer.valueOf(value);
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public BulkheadModel setMaxConcurrent(Integer maxConcurrent) {
+        setModelAttribute(BulkheadModel.MAX_CONCURRENT, maxConcurrent == null ? null : maxConcurrent.toString());
+        return this;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public Integer getMinConcurrent() {
+        final String value = getModelAttribute(BulkheadModel.MIN_CONCURRENT);
+        return value == null ? null : Integer.valueOf(value);
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public BulkheadModel setMinConcurrent(Integer minConcurrent) {
+        setModelAttribute(BulkheadModel.MIN_CONCURRENT, minConcurrent == null ? null : minConcurrent.toString());
+        return this;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public Integer getMaxQueued() {
+        final String value = getModelAttribute(BulkheadModel.MAX_QUEUED);
+        return value == null ? null : Integer.valueOf(value);
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public BulkheadModel setMaxQueued(Integer maxQueued) {
+        setModelAttribute(BulkheadModel.MAX_QUEUED, maxQueued == null ? null : maxQueued.toString());
+        return this;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public Long getQueueTimeout() {
+        final String value = getModelAttribute(BulkheadModel.QUEUE_TIMEOUT);
+        return value == null ? null : Long.valueOf(value);
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public BulkheadModel setQueueTimeout(Long queueTimeout) {
+        setModelAttribute(BulkheadModel.QUEUE_TIMEOUT, queueTimeout == null ? null : queueTimeout.toString());
+        return this;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public String getLimit() {
+        return getModelAttribute(BulkheadModel.LIMIT);
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public BulkheadModel setLimit(String limit) {
+        setModelAttribute(BulkheadModel.LIMIT, limit);
+        return this;
+    }
+
+}
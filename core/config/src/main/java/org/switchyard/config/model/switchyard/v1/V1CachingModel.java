@@ -0,0 +1,115 @@
+/*
+ * Copyright 2013 Red Hat Inc. and/or its affiliates and other contributors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * http://www.apache.org/licenses/LICENSE-2.0
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,  
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.switchyard.config.model.switchyard.v1;
+
+import javax.xml.namespace.QName;
+
+import org.switchyard.config.Configuration;
+import org.switchyard.config.model.BaseModel;
+import org.switchyard.config.model.Descriptor;
+import org.switchyard.config.model.switchyard.CachingModel;
+
+/**
+ * Implementation of CachingModel : v1.
+ */
+public class V1CachingModel extends BaseModel implements CachingModel {
+
+    /**
+     * Constructs a new V1CachingModel.
+     * @param namespace namespace
+     */
+    public V1CachingModel(String namespace) {
+        super(new QName(namespace, CachingModel.CACHING));
+    }
+
+    /**
+     * Constructs a new V1CachingModel with the specified Configuration and Descriptor.
+     * @param config the Configuration
+     * @param desc the Descriptor
+     */
+    public V1CachingModel(Configuration config, Descriptor desc) {
+        super(config, desc);
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public Integer getMaxEntries() {
+        final String value = getModelAttribute(CachingModel.MAX_ENTRIES);
+        return value == null ? null : Integer.valueOf(value);
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public CachingModel setMaxEntries(Integer maxEntries) {
+        setModelAttribute(CachingModel.MAX_ENTRIES, maxEntries == null ? null : maxEntries.toString());
+        return this;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public Long getTimeToLive() {
+        final String value = getModelAttribute(CachingModel.TIME_TO_LIVE);
+        return value == null ? null : Long.valueOf(value);
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public CachingModel setTimeToLive(Long timeToLive) {
+        setModelAttribute(CachingModel.TIME_TO_LIVE, timeToLive == null ? null : timeToLive.toString());
+        return this;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public String getKey() {
+        return getModelAttribute(CachingModel.KEY);
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public CachingModel setKey(String key) {
+        setModelAttribute(CachingModel.KEY, key);
+        return this;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public String getOperations() {
+        return getModelAttribute(CachingModel.OPERATIONS);
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public CachingModel setOperations(String operations) {
+        setModelAttribute(CachingModel.OPERATIONS, operations);
+        return this;
+    }
+
+}
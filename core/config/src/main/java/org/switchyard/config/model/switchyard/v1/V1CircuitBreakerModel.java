@@ -0,0 +1,171 @@
+/*
+ * Copyright 2013 Red Hat Inc. and/or its affiliates and other contributors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * http://www.apache.org/licenses/LICENSE-2.0
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,  
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.switchyard.config.model.switchyard.v1;
+
+import javax.xml.namespace.QName;
+
+import org.switchyard.config.Configuration;
+import org.switchyard.config.model.BaseModel;
+import org.switchyard.config.model.Descriptor;
+import org.switchyard.config.model.switchyard.CircuitBreakerModel;
+
+/**
+ * Implementation of CircuitBreakerModel : v1.
+ */
+public class V1CircuitBreakerModel extends BaseModel implements CircuitBreakerModel {
+
+    /**
+     * Constructs a new V1CircuitBreakerModel.
+     * @param namespace namespace
+     */
+    public V1CircuitBreakerModel(String namespace) {
+        super(new QName(namespace, CircuitBreakerModel.CIRCUIT_BREAKER));
+    }
+
+    /**
+     * Constructs a new V1CircuitBreakerModel with the specified Configuration and Descriptor.
+     * @param config the Configuration
+     * @param desc the Descriptor
+     */
+    public V1CircuitBreakerModel(Configuration config, Descriptor desc) {
+        super(config, desc);
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public Integer getFailureRateThreshold() {
+        final String value = getModelAttribute(CircuitBreakerModel.FAILURE_RATE_THRESHOLD);
+        return value == null ? null : Integer.valueOf(value);
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public CircuitBreakerModel setFailureRateThreshold(Integer failureRateThreshold) {
+        setModelAttribute(CircuitBreakerModel.FAILURE_RATE_THRESHOLD, failureRateThreshold == null ? null : failureRateThreshold.toString());
+        return this;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public Integer getSlowCallRateThreshold() {
+        final String value = getModelAttribute(CircuitBreakerModel.SLOW_CALL_RATE_THRESHOLD);
+        return value == null ? null : Integer.valueOf(value);
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public CircuitBreakerModel setSlowCallRateThreshold(Integer slowCallRateThreshold) {
+        setModelAttribute(CircuitBreakerModel.SLOW_CALL_RATE_THRESHOLD, slowCallRateThreshold == null ? null : slowCallRateThreshold.toString());
+        return this;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public Long getSlowCallDuration() {
+        final String value = getModelAttribute(CircuitBreakerModel.SLOW_CALL_DURATION);
+        return value == null ? null : Long.valueOf(value);
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public CircuitBreakerModel setSlowCallDuration(Long slowCallDuration) {
+        setModelAttribute(CircuitBreakerModel.SLOW_CALL_DURATION, slowCallDuration == null ? null : slowCallDuration.toString());
+        return this;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public Integer getWindowSize() {
+        final String value = getModelAttribute(CircuitBreakerModel.WINDOW_SIZE);
+        return value == null ? null : Integer.valueOf(value);
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public CircuitBreakerModel setWindowSize(Integer windowSize) {
+        setModelAttribute(CircuitBreakerModel.WINDOW_SIZE, windowSize == null ? null : windowSize.toString());
+        return this;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public Integer getMinimumCalls() {
+        final String value = getModelAttribute(CircuitBreakerModel.MINIMUM_CALLS);
+        return value == null ? null : Integer.valueOf(value);
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public CircuitBreakerModel setMinimumCalls(Integer minimumCalls) {
+        setModelAttribute(CircuitBreakerModel.MINIMUM_CALLS, minimumCalls == null ? null : minimumCalls.toString());
+        return this;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public Long getOpenDuration() {
+        final String value = getModelAttribute(CircuitBreakerModel.OPEN_DURATION);
+        return value == null ? null : Long.valueOf(value);
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public CircuitBreakerModel setOpenDuration(Long openDuration) {
+        setModelAttribute(CircuitBreakerModel.OPEN_DURATION, openDuration == null ? null : openDuration.toString());
+        return this;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public Integer getHalfOpenCalls() {
+        final String value = getModelAttribute(CircuitBreakerModel.HALF_OPEN_CALLS);
+        return value == null ? null : Integer.valueOf(value);
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public CircuitBreakerModel setHalfOpenCalls(Integer halfOpenCalls) {
+        setModelAttribute(CircuitBreakerModel.HALF_OPEN_CALLS, halfOpenCalls == null ? null : halfOpenCalls.toString());
+        return this;
+    }
+
+}
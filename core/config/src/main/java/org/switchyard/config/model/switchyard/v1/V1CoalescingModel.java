@@ -0,0 +1,97 @@
+/*
+ * Copyright 2013 Red Hat Inc. and/or its affiliates and other contributors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * http://www.apache.org/licenses/LICENSE-2.0
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,  
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.switchyard.config.model.switchyard.v1;
+
+import javax.xml.namespace.QName;
+
+import org.switchyard.config.Configuration;
+import org.switchyard.config.model.BaseModel;
+import org.switchyard.config.model.Descriptor;
+import org.switchyard.config.model.switchyard.CoalescingModel;
+
+/**
+ * Implementation of CoalescingModel : v1.
+ */
+public class V1CoalescingModel extends BaseModel implements CoalescingModel {
+
+    /**
+     * Constructs a new V1CoalescingModel.
+     * @param namespace namespace
+     */
+    public V1CoalescingModel(String namespace) {
+        super(new QName(namespace, CoalescingModel.COALESCING));
+    }
+
+    /**
+     * Constructs a new V1CoalescingModel with the specified Configuration and Descriptor.
+     * @param config the Configuration
+     * @param desc the Descriptor
+     */
+    public V1CoalescingModel(Configuration config, Descriptor desc) {
+        super(config, desc);
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public Long getTimeout() {
+        final String value = getModelAttribute(CoalescingModel.TIMEOUT);
+        return value == null ? null : Long.valueOf(value);
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public CoalescingModel setTimeout(Long timeout) {
+        setModelAttribute(CoalescingModel.TIMEOUT, timeout == null ? null : timeout.toString());
+        return this;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public String getKey() {
+        return getModelAttribute(CoalescingModel.KEY);
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public CoalescingModel setKey(String key) {
+        setModelAttribute(CoalescingModel.KEY, key);
+        return this;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public String getOperations() {
+        return getModelAttribute(CoalescingModel.OPERATIONS);
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public CoalescingModel setOperations(String operations) {
+        setModelAttribute(CoalescingModel.OPERATIONS, operations);
+        return this;
+    }
+
+}
@@ -0,0 +1,63 @@
+/*
+ * Copyright 2013 Red Hat Inc. and/or its affiliates and other contributors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * http://www.apache.org/licenses/LICENSE-2.0
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,  
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.switchyard.config.model.switchyard.v1;
+
+import javax.xml.namespace.QName;
+
+import org.switchyard.config.Configuration;
+import org.switchyard.config.model.BaseModel;
+import org.switchyard.config.model.Descriptor;
+import org.switchyard.config.model.switchyard.DeadlineModel;
+
+/**
+ * Implementation of DeadlineModel : v1.
+ */
+public class V1DeadlineModel extends BaseModel implements DeadlineModel {
+
+    /**
+     * Constructs a new V1DeadlineModel.
+     * @param namespace namespace
+     */
+    public V1DeadlineModel(String namespace) {
+        super(new QName(namespace, DeadlineModel.DEADLINE));
+    }
+
+    /**
+     * Constructs a new V1DeadlineModel with the specified Configuration and Descriptor.
+     * @param config the Configuration
+     * @param desc the Descriptor
+     */
+    public V1DeadlineModel(Configuration config, Descriptor desc) {
+        super(config, desc);
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public Long getTimeout() {
+        final String value = getModelAttribute(DeadlineModel.TIMEOUT);
+        return value == null ? null : Long.valueOf(value);
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public DeadlineModel setTimeout(Long timeout) {
+        setModelAttribute(DeadlineModel.TIMEOUT, timeout == null ? null : timeout.toString());
+        return this;
+    }
+
+}
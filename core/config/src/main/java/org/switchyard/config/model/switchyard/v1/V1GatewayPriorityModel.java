@@ -0,0 +1,88 @@
+/*
+ * Copyright 2013 Red Hat Inc. and/or its affiliates and other contributors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * http://www.apache.org/licenses/LICENSE-2.0
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,  
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.switchyard.config.model.switchyard.v1;
+
+import javax.xml.namespace.QName;
+
+import org.switchyard.config.Configuration;
+import org.switchyard.config.model.BaseModel;
+import org.switchyard.config.model.Descriptor;
+import org.switchyard.config.model.switchyard.GatewayPriorityModel;
+import org.switchyard.config.model.switchyard.PriorityModel;
+
+/**
+ * Implementation of GatewayPriorityModel : v1.
+ */
+public class V1GatewayPriorityModel extends BaseModel implements GatewayPriorityModel {
+
+    /**
+     * Constructs a new V1GatewayPriorityModel.
+     * @param namespace namespace
+     */
+    public V1GatewayPriorityModel(String namespace) {
+        super(new QName(namespace, GatewayPriorityModel.GATEWAY));
+    }
+
+    /**
+     * Constructs a new V1GatewayPriorityModel with the specified Configuration and Descriptor.
+     * @param config the Configuration
+     * @param desc the Descriptor
+     */
+    public V1GatewayPriorityModel(Configuration config, Descriptor desc) {
+        super(config, desc);
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public PriorityModel getPriority() {
+        return (PriorityModel)getModelParent();
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public String getName() {
+        return getModelAttribute(GatewayPriorityModel.NAME);
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public GatewayPriorityModel setName(String name) {
+        setModelAttribute(GatewayPriorityModel.NAME, name);
+        return this;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public String getLevel() {
+        return getModelAttribute(GatewayPriorityModel.LEVEL);
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public GatewayPriorityModel setLevel(String level) {
+        setModelAttribute(GatewayPriorityModel.LEVEL, level);
+        return this;
+    }
+
+}
@@ -0,0 +1,95 @@
+/*
+ * Copyright 2013 Red Hat Inc. and/or its affiliates and other contributors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * http://www.apache.org/licenses/LICENSE-2.0
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,  
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.switchyard.config.model.switchyard.v1;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+
+import javax.xml.namespace.QName;
+
+import org.switchyard.config.Configuration;
+import org.switchyard.config.model.BaseModel;
+import org.switchyard.config.model.Descriptor;
+import org.switchyard.config.model.switchyard.GatewayPriorityModel;
+import org.switchyard.config.model.switchyard.PriorityModel;
+
+/**
+ * Implementation of PriorityModel : v1.
+ */
+public class V1PriorityModel extends BaseModel implements PriorityModel {
+
+    private List<GatewayPriorityModel> _gateways = new ArrayList<GatewayPriorityModel>();
+
+    /**
+     * Constructs a new V1PriorityModel.
+     * @param namespace namespace
+     */
+    public V1PriorityModel(String namespace) {
+        super(new QName(namespace, PriorityModel.PRIORITY));
+        setModelChildrenOrder(GatewayPriorityModel.GATEWAY);
+    }
+
+    /**
+     * Constructs a new V1PriorityModel with the specified Configuration and Descriptor.
+     * @param config the Configuration
+     * @param desc the Descriptor
+     */
+    public V1PriorityModel(Configuration config, Descriptor desc) {
+        super(config, desc);
+        for (Configuration gateway_config : config.getChildren(GatewayPriorityModel.GATEWAY)) {
+            GatewayPriorityModel gateway = (GatewayPriorityModel)readModel(gateway_config);
+            if (gateway != null) {
+                _gateways.add(gateway);
+            }
+        }
+        setModelChildrenOrder(GatewayPriorityModel.GATEWAY);
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public String getLevel() {
+        return getModelAttribute(PriorityModel.LEVEL);
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public PriorityModel setLevel(String level) {
+        setModelAttribute(PriorityModel.LEVEL, level);
+        return this;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public synchronized List<GatewayPriorityModel> getGateways() {
+        return Collections.unmodifiableList(_gateways);
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public synchronized PriorityModel addGateway(GatewayPriorityModel gateway) {
+        addChildModel(gateway);
+        _gateways.add(gateway);
+        return this;
+    }
+
+}
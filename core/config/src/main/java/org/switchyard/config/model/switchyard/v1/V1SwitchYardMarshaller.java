@@ -21,9 +21,13 @@ import org.switchyard.config.model.composite.InterfaceModel;
 import org.switchyard.config.model.domain.DomainModel;
 import org.switchyard.config.model.domain.SecuritiesModel;
 import org.switchyard.config.model.domain.SecurityModel;
+import org.switchyard.config.model.domain.ThreadPoolModel;
+import org.switchyard.config.model.domain.ThreadPoolsModel;
 import org.switchyard.config.model.domain.v1.V1DomainModel;
 import org.switchyard.config.model.domain.v1.V1SecuritiesModel;
 import org.switchyard.config.model.domain.v1.V1SecurityModel;
+import org.switchyard.config.model.domain.v1.V1ThreadPoolModel;
+import org.switchyard.config.model.domain.v1.V1ThreadPoolsModel;
 import org.switchyard.config.model.property.PropertiesModel;
 import org.switchyard.config.model.property.PropertyModel;
 import org.switchyard.config.model.property.v1.V1PropertiesModel;
@@ -44,7 +48,15 @@ import org.switchyard.config.model.selector.v1.V1StaticOperationSelectorModel;
 import org.switchyard.config.model.selector.v1.V1XPathOperationSelectorModel;
 import org.switchyard.config.model.switchyard.ArtifactModel;
 import org.switchyard.config.model.switchyard.ArtifactsModel;
+import org.switchyard.config.model.switchyard.BulkheadModel;
+import org.switchyard.config.model.switchyard.CachingModel;
+import org.switchyard.config.model.switchyard.CircuitBreakerModel;
+import org.switchyard.config.model.switchyard.CoalescingModel;
+import org.switchyard.config.model.switchyard.AsyncDispatchModel;
+import org.switchyard.config.model.switchyard.DeadlineModel;
 import org.switchyard.config.model.switchyard.EsbInterfaceModel;
+import org.switchyard.config.model.switchyard.GatewayPriorityModel;
+import org.switchyard.config.model.switchyard.PriorityModel;
 import org.switchyard.config.model.switchyard.SwitchYardModel;
 import org.switchyard.config.model.switchyard.ThrottlingModel;
 import org.switchyard.config.model.transform.TransformsModel;
@@ -97,6 +109,10 @@ public class V1SwitchYardMarshaller extends BaseMarshaller {
             return new V1SecuritiesModel(config, desc);
         } else if (name.equals(SecurityModel.SECURITY)) {
             return new V1SecurityModel(config, desc);
+        } else if (name.equals(ThreadPoolsModel.THREAD_POOLS)) {
+            return new V1ThreadPoolsModel(config, desc);
+        } else if (name.equals(ThreadPoolModel.THREAD_POOL)) {
+            return new V1ThreadPoolModel(config, desc);
         } else if (name.equals(DomainModel.DOMAIN)) {
             return new V1DomainModel(config, desc);
         } else if (name.equals(ResourcesModel.RESOURCES)) {
@@ -107,6 +123,22 @@ public class V1SwitchYardMarshaller extends BaseMarshaller {
             return new V1ResourceDetailModel(config, desc);
         } else if (name.equals(ThrottlingModel.THROTTLING)) {
             return new V1ThrottlingModel(config, desc);
+        } else if (name.equals(CachingModel.CACHING)) {
+            return new V1CachingModel(config, desc);
+        } else if (name.equals(CoalescingModel.COALESCING)) {
+            return new V1CoalescingModel(config, desc);
+        } else if (name.equals(BulkheadModel.BULKHEAD)) {
+            return new V1BulkheadModel(config, desc);
+        } else if (name.equals(CircuitBreakerModel.CIRCUIT_BREAKER)) {
+            return new V1CircuitBreakerModel(config, desc);
+        } else if (name.equals(DeadlineModel.DEADLINE)) {
+            return new V1DeadlineModel(config, desc);
+        } else if (name.equals(AsyncDispatchModel.ASYNC_DISPATCH)) {
+            return new V1AsyncDispatchModel(config, desc);
+        } else if (name.equals(PriorityModel.PRIORITY)) {
+            return new V1PriorityModel(config, desc);
+        } else if (name.equals(GatewayPriorityModel.GATEWAY)) {
+            return new V1GatewayPriorityModel(config, desc);
         } else if (name.equals(INTERFACE_ESB)) {
             return new V1EsbInterfaceModel(config, desc);
         } else if (name.startsWith(OperationSelectorModel.OPERATION_SELECTOR)) {
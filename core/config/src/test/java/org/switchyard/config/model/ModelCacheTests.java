@@ -0,0 +1,95 @@
+/*
+ * Copyright 2013 Red Hat Inc. and/or its affiliates and other contributors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * http://www.apache.org/licenses/LICENSE-2.0
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.switchyard.config.model;
+
+import java.io.ByteArrayInputStream;
+import java.io.File;
+import java.io.FileOutputStream;
+
+import org.custommonkey.xmlunit.Diff;
+import org.custommonkey.xmlunit.XMLUnit;
+import org.junit.After;
+import org.junit.Assert;
+import org.junit.Before;
+import org.junit.Test;
+import org.switchyard.common.io.pull.StringPuller;
+import org.switchyard.config.model.switchyard.SwitchYardModel;
+
+/**
+ * ModelCacheTests.
+ */
+public class ModelCacheTests {
+
+    private static final String COMPLETE_XML = "/org/switchyard/config/model/switchyard/SwitchYardModelTests-Complete.xml";
+
+    private File _directory;
+    private String _xml;
+
+    @Before
+    public void before() throws Exception {
+        _directory = File.createTempFile("models", "");
+        _directory.delete();
+        _xml = new StringPuller().pull(COMPLETE_XML, getClass());
+        XMLUnit.setIgnoreWhitespace(true);
+    }
+
+    @After
+    public void after() throws Exception {
+        File[] files = _directory.listFiles();
+        if (files != null) {
+            for (File file : files) {
+                file.delete();
+            }
+        }
+        _directory.delete();
+    }
+
+    @Test
+    public void testSnapshotIsReused() throws Exception {
+        SwitchYardModel parsed = pull();
+        File[] snapshots = _directory.listFiles();
+        Assert.assertEquals(1, snapshots.length);
+        long modified = snapshots[0].lastModified();
+
+        SwitchYardModel cached = pull();
+        Assert.assertEquals("m1app", cached.getName());
+        Diff diff = XMLUnit.compareXML(parsed.toString(), cached.toString());
+        Assert.assertTrue(diff.toString(), diff.identical());
+        Assert.assertEquals(modified, _directory.listFiles()[0].lastModified());
+    }
+
+    @Test
+    public void testUnreadableSnapshotIsReplaced() throws Exception {
+        pull();
+        File snapshot = _directory.listFiles()[0];
+        FileOutputStream out = new FileOutputStream(snapshot);
+        out.write(new byte[] {0, 1, 2, 3});
+        out.close();
+
+        SwitchYardModel model = pull();
+        Diff diff = XMLUnit.compareXML(_xml, model.toString());
+        Assert.assertTrue(diff.toString(), diff.identical());
+        Assert.assertTrue(snapshot.length() > 4);
+    }
+
+    @Test
+    public void testNoDirectory() throws Exception {
+        SwitchYardModel model = new ModelCache<SwitchYardModel>((File) null).pull(new ByteArrayInputStream(_xml.getBytes("UTF-8")));
+        Assert.assertEquals("m1app", model.getName());
+    }
+
+    private SwitchYardModel pull() throws Exception {
+        return new ModelCache<SwitchYardModel>(_directory).pull(new ByteArrayInputStream(_xml.getBytes("UTF-8")));
+    }
+}
@@ -0,0 +1,75 @@
+/*
+ * Copyright 2013 Red Hat Inc. and/or its affiliates and other contributors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * http://www.apache.org/licenses/LICENSE-2.0
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,  
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.switchyard.config.model.switchyard;
+
+import junit.framework.Assert;
+
+import org.junit.Before;
+import org.junit.Test;
+import org.switchyard.config.model.ModelPuller;
+import org.switchyard.config.model.switchyard.v1.V1AsyncDispatchModel;
+
+/**
+ * AsyncDispatchExtensionTests.
+ */
+public class AsyncDispatchExtensionTests {
+
+    private static final String ASYNC_DISPATCH_XML = "/org/switchyard/config/model/switchyard/AsyncDispatchExtensionTests.xml";
+
+    private ModelPuller<SwitchYardModel> _puller;
+
+    @Before
+    public void before() throws Exception {
+        _puller = new ModelPuller<SwitchYardModel>();
+    }
+
+    @Test
+    public void testCreate() throws Exception {
+        AsyncDispatchModel asyncDispatch = new V1AsyncDispatchModel(SwitchYardNamespace.DEFAULT.uri());
+        asyncDispatch.setQueueSize(50).setWorkers(2).setOverflow("reject").setOverflowTimeout(10L).setThreadPool("shared");
+        asyncDispatch.setJournal("journal").setJournalSegmentSize(4096).setJournalSync(true).setJournalMaxAttempts(3);
+
+        Assert.assertEquals(Integer.valueOf(50), asyncDispatch.getQueueSize());
+        Assert.assertEquals(Integer.valueOf(2), asyncDispatch.getWorkers());
+        Assert.assertEquals("reject", asyncDispatch.getOverflow());
+        Assert.assertEquals(Long.valueOf(10L), asyncDispatch.getOverflowTimeout());
+        Assert.assertEquals("shared", asyncDispatch.getThreadPool());
+        Assert.assertEquals("journal", asyncDispatch.getJournal());
+        Assert.assertEquals(Integer.valueOf(4096), asyncDispatch.getJournalSegmentSize());
+        Assert.assertEquals(Boolean.TRUE, asyncDispatch.isJournalSync());
+        Assert.assertEquals(Integer.valueOf(3), asyncDispatch.getJournalMaxAttempts());
+    }
+
+    @Test
+    public void testRead() throws Exception {
+        SwitchYardModel switchyard = _puller.pull(ASYNC_DISPATCH_XML, getClass());
+        AsyncDispatchModel asyncDispatch = switchyard.getComposite().getServices().get(0).getExtensions().getAsyncDispatch();
+        Assert.assertEquals(Integer.valueOf(500), asyncDispatch.getQueueSize());
+        Assert.assertEquals(Integer.valueOf(4), asyncDispatch.getWorkers());
+        Assert.assertEquals("callerRuns", asyncDispatch.getOverflow());
+        Assert.assertEquals(Long.valueOf(100L), asyncDispatch.getOverflowTimeout());
+        Assert.assertEquals("inbound", asyncDispatch.getThreadPool());
+        Assert.assertEquals("target/journal", asyncDispatch.getJournal());
+        Assert.assertEquals(Integer.valueOf(1048576), asyncDispatch.getJournalSegmentSize());
+        Assert.assertEquals(Boolean.TRUE, asyncDispatch.isJournalSync());
+        Assert.assertEquals(Integer.valueOf(3), asyncDispatch.getJournalMaxAttempts());
+    }
+
+    @Test
+    public void testValidation() throws Exception {
+        SwitchYardModel switchyard = _puller.pull(ASYNC_DISPATCH_XML, getClass());
+        switchyard.assertModelValid();
+    }
+
+}
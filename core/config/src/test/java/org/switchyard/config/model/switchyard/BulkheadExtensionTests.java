@@ -0,0 +1,72 @@
+/*
+ * Copyright 2013 Red Hat Inc. and/or its affiliates and other contributors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * http://www.apache.org/licenses/LICENSE-2.0
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,  
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.switchyard.config.model.switchyard;
+
+import junit.framework.Assert;
+
+import org.junit.Before;
+import org.junit.Test;
+import org.switchyard.config.model.ModelPuller;
+import org.switchyard.config.model.composite.ExtensionsModel;
+import org.switchyard.config.model.switchyard.v1.V1BulkheadModel;
+
+/**
+ * BulkheadExtensionTests.
+ */
+public class BulkheadExtensionTests {
+
+    private static final String BULKHEAD_XML = "/org/switchyard/config/model/switchyard/BulkheadExtensionTests.xml";
+
+    private ModelPuller<SwitchYardModel> _puller;
+
+    @Before
+    public void before() throws Exception {
+        _puller = new ModelPuller<SwitchYardModel>();
+    }
+
+    @Test
+    public void testCreate() throws Exception {
+        BulkheadModel bulkhead = new V1BulkheadModel(SwitchYardNamespace.DEFAULT.uri());
+        bulkhead.setMaxConcurrent(20).setMinConcurrent(2).setMaxQueued(5).setQueueTimeout(250L).setLimit("aimd");
+
+        Assert.assertEquals(Integer.valueOf(20), bulkhead.getMaxConcurrent());
+        Assert.assertEquals(Integer.valueOf(2), bulkhead.getMinConcurrent());
+        Assert.assertEquals(Integer.valueOf(5), bulkhead.getMaxQueued());
+        Assert.assertEquals(Long.valueOf(250L), bulkhead.getQueueTimeout());
+        Assert.assertEquals("aimd", bulkhead.getLimit());
+    }
+
+    @Test
+    public void testRead() throws Exception {
+        SwitchYardModel switchyard = _puller.pull(BULKHEAD_XML, getClass());
+        BulkheadModel service = switchyard.getComposite().getServices().get(0).getExtensions().getBulkhead();
+        Assert.assertEquals(Integer.valueOf(10), service.getMaxConcurrent());
+        Assert.assertNull(service.getMaxQueued());
+        Assert.assertNull(service.getLimit());
+
+        BulkheadModel reference = switchyard.getComposite().getReferences().get(0).getExtensions().getBulkhead();
+        Assert.assertEquals(Integer.valueOf(50), reference.getMaxConcurrent());
+        Assert.assertEquals(Integer.valueOf(5), reference.getMinConcurrent());
+        Assert.assertEquals(Integer.valueOf(100), reference.getMaxQueued());
+        Assert.assertEquals(Long.valueOf(500L), reference.getQueueTimeout());
+        Assert.assertEquals("gradient", reference.getLimit());
+    }
+
+    @Test
+    public void testValidation() throws Exception {
+        SwitchYardModel switchyard = _puller.pull(BULKHEAD_XML, getClass());
+        switchyard.assertModelValid();
+    }
+
+}
@@ -0,0 +1,79 @@
+/*
+ * Copyright 2013 Red Hat Inc. and/or its affiliates and other contributors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * http://www.apache.org/licenses/LICENSE-2.0
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,  
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.switchyard.config.model.switchyard;
+
+import junit.framework.Assert;
+
+import org.junit.Before;
+import org.junit.Test;
+import org.switchyard.config.model.ModelPuller;
+import org.switchyard.config.model.composite.ExtensionsModel;
+import org.switchyard.config.model.switchyard.v1.V1CachingModel;
+
+/**
+ * CachingExtensionTests.
+ */
+public class CachingExtensionTests {
+
+    private static final String CACHING_XML = "/org/switchyard/config/model/switchyard/CachingExtensionTests.xml";
+
+    private ModelPuller<SwitchYardModel> _puller;
+
+    @Before
+    public void before() throws Exception {
+        _puller = new ModelPuller<SwitchYardModel>();
+    }
+
+    @Test
+    public void testCreate() throws Exception {
+        CachingModel caching = new V1CachingModel(SwitchYardNamespace.DEFAULT.uri());
+        caching.setMaxEntries(500).setTimeToLive(30000L).setKey("content").setOperations("lookup");
+
+        Assert.assertEquals(Integer.valueOf(500), caching.getMaxEntries());
+        Assert.assertEquals(Long.valueOf(30000L), caching.getTimeToLive());
+        Assert.assertEquals("content", caching.getKey());
+        Assert.assertEquals("lookup", caching.getOperations());
+    }
+
+    @Test
+    public void testReadService() throws Exception {
+        SwitchYardModel switchyard = _puller.pull(CACHING_XML, getClass());
+        ExtensionsModel extensions = switchyard.getComposite().getServices().get(0).getExtensions();
+        CachingModel caching = extensions.getCaching();
+
+        Assert.assertEquals(Integer.valueOf(500), caching.getMaxEntries());
+        Assert.assertEquals(Long.valueOf(30000L), caching.getTimeToLive());
+        Assert.assertEquals("content customerId", caching.getKey());
+        Assert.assertEquals("lookup find", caching.getOperations());
+    }
+
+    @Test
+    public void testReadReference() throws Exception {
+        SwitchYardModel switchyard = _puller.pull(CACHING_XML, getClass());
+        ExtensionsModel extensions = switchyard.getComposite().getReferences().get(0).getExtensions();
+        CachingModel caching = extensions.getCaching();
+
+        Assert.assertEquals(Integer.valueOf(100), caching.getMaxEntries());
+        Assert.assertNull(caching.getTimeToLive());
+        Assert.assertNull(caching.getKey());
+        Assert.assertNull(caching.getOperations());
+    }
+
+    @Test
+    public void testValidation() throws Exception {
+        SwitchYardModel switchyard = _puller.pull(CACHING_XML, getClass());
+        switchyard.assertModelValid();
+    }
+
+}
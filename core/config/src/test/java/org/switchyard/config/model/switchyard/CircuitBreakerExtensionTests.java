@@ -0,0 +1,76 @@
+/*
+ * Copyright 2013 Red Hat Inc. and/or its affiliates and other contributors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * http://www.apache.org/licenses/LICENSE-2.0
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,  
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.switchyard.config.model.switchyard;
+
+import junit.framework.Assert;
+
+import org.junit.Before;
+import org.junit.Test;
+import org.switchyard.config.model.ModelPuller;
+import org.switchyard.config.model.composite.ExtensionsModel;
+import org.switchyard.config.model.switchyard.v1.V1CircuitBreakerModel;
+import org.switchyard.config.model.switchyard.v1.V1DeadlineModel;
+
+/**
+ * CircuitBreakerExtensionTests.
+ */
+public class CircuitBreakerExtensionTests {
+
+    private static final String CIRCUIT_BREAKER_XML = "/org/switchyard/config/model/switchyard/CircuitBreakerExtensionTests.xml";
+
+    private ModelPuller<SwitchYardModel> _puller;
+
+    @Before
+    public void before() throws Exception {
+        _puller = new ModelPuller<SwitchYardModel>();
+    }
+
+    @Test
+    public void testCreate() throws Exception {
+        CircuitBreakerModel breaker = new V1CircuitBreakerModel(SwitchYardNamespace.DEFAULT.uri());
+        breaker.setFailureRateThreshold(25).setSlowCallDuration(2000L).setOpenDuration(10000L).setHalfOpenCalls(2);
+        Assert.assertEquals(Integer.valueOf(25), breaker.getFailureRateThreshold());
+        Assert.assertEquals(Long.valueOf(2000L), breaker.getSlowCallDuration());
+        Assert.assertEquals(Long.valueOf(10000L), breaker.getOpenDuration());
+        Assert.assertEquals(Integer.valueOf(2), breaker.getHalfOpenCalls());
+        Assert.assertNull(breaker.getWindowSize());
+
+        DeadlineModel deadline = new V1DeadlineModel(SwitchYardNamespace.DEFAULT.uri());
+        deadline.setTimeout(3000L);
+        Assert.assertEquals(Long.valueOf(3000L), deadline.getTimeout());
+    }
+
+    @Test
+    public void testRead() throws Exception {
+        SwitchYardModel switchyard = _puller.pull(CIRCUIT_BREAKER_XML, getClass());
+        DeadlineModel deadline = switchyard.getComposite().getServices().get(0).getExtensions().getDeadline();
+        Assert.assertEquals(Long.valueOf(5000L), deadline.getTimeout());
+
+        CircuitBreakerModel breaker = switchyard.getComposite().getReferences().get(0).getExtensions().getCircuitBreaker();
+        Assert.assertEquals(Integer.valueOf(40), breaker.getFailureRateThreshold());
+        Assert.assertEquals(Integer.valueOf(80), breaker.getSlowCallRateThreshold());
+        Assert.assertEquals(Long.valueOf(1500L), breaker.getSlowCallDuration());
+        Assert.assertEquals(Integer.valueOf(20), breaker.getWindowSize());
+        Assert.assertEquals(Integer.valueOf(5), breaker.getMinimumCalls());
+        Assert.assertEquals(Long.valueOf(30000L), breaker.getOpenDuration());
+        Assert.assertEquals(Integer.valueOf(3), breaker.getHalfOpenCalls());
+    }
+
+    @Test
+    public void testValidation() throws Exception {
+        SwitchYardModel switchyard = _puller.pull(CIRCUIT_BREAKER_XML, getClass());
+        switchyard.assertModelValid();
+    }
+
+}
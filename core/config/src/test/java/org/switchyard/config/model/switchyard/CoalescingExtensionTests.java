@@ -0,0 +1,66 @@
+/*
+ * Copyright 2013 Red Hat Inc. and/or its affiliates and other contributors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * http://www.apache.org/licenses/LICENSE-2.0
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,  
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.switchyard.config.model.switchyard;
+
+import junit.framework.Assert;
+
+import org.junit.Before;
+import org.junit.Test;
+import org.switchyard.config.model.ModelPuller;
+import org.switchyard.config.model.composite.ExtensionsModel;
+import org.switchyard.config.model.switchyard.v1.V1CoalescingModel;
+
+/**
+ * CoalescingExtensionTests.
+ */
+public class CoalescingExtensionTests {
+
+    private static final String COALESCING_XML = "/org/switchyard/config/model/switchyard/CoalescingExtensionTests.xml";
+
+    private ModelPuller<SwitchYardModel> _puller;
+
+    @Before
+    public void before() throws Exception {
+        _puller = new ModelPuller<SwitchYardModel>();
+    }
+
+    @Test
+    public void testCreate() throws Exception {
+        CoalescingModel coalescing = new V1CoalescingModel(SwitchYardNamespace.DEFAULT.uri());
+        coalescing.setTimeout(5000L).setKey("content").setOperations("lookup");
+
+        Assert.assertEquals(Long.valueOf(5000L), coalescing.getTimeout());
+        Assert.assertEquals("content", coalescing.getKey());
+        Assert.assertEquals("lookup", coalescing.getOperations());
+    }
+
+    @Test
+    public void testRead() throws Exception {
+        SwitchYardModel switchyard = _puller.pull(COALESCING_XML, getClass());
+        ExtensionsModel extensions = switchyard.getComposite().getReferences().get(0).getExtensions();
+        CoalescingModel coalescing = extensions.getCoalescing();
+
+        Assert.assertEquals(Long.valueOf(5000L), coalescing.getTimeout());
+        Assert.assertEquals("content customerId", coalescing.getKey());
+        Assert.assertEquals("lookup", coalescing.getOperations());
+        Assert.assertNull(extensions.getCaching());
+    }
+
+    @Test
+    public void testValidation() throws Exception {
+        SwitchYardModel switchyard = _puller.pull(COALESCING_XML, getClass());
+        switchyard.assertModelValid();
+    }
+
+}
@@ -0,0 +1,70 @@
+/*
+ * Copyright 2013 Red Hat Inc. and/or its affiliates and other contributors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * http://www.apache.org/licenses/LICENSE-2.0
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,  
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.switchyard.config.model.switchyard;
+
+import junit.framework.Assert;
+
+import org.junit.Before;
+import org.junit.Test;
+import org.switchyard.config.model.ModelPuller;
+import org.switchyard.config.model.switchyard.v1.V1GatewayPriorityModel;
+import org.switchyard.config.model.switchyard.v1.V1PriorityModel;
+
+/**
+ * PriorityExtensionTests.
+ */
+public class PriorityExtensionTests {
+
+    private static final String PRIORITY_XML = "/org/switchyard/config/model/switchyard/PriorityExtensionTests.xml";
+
+    private ModelPuller<SwitchYardModel> _puller;
+
+    @Before
+    public void before() throws Exception {
+        _puller = new ModelPuller<SwitchYardModel>();
+    }
+
+    @Test
+    public void testCreate() throws Exception {
+        String namespace = SwitchYardNamespace.DEFAULT.uri();
+        PriorityModel priority = new V1PriorityModel(namespace).setLevel("high")
+                .addGateway(new V1GatewayPriorityModel(namespace).setName("batch").setLevel("low"));
+
+        Assert.assertEquals("high", priority.getLevel());
+        Assert.assertEquals(1, priority.getGateways().size());
+        Assert.assertEquals("batch", priority.getGateways().get(0).getName());
+        Assert.assertEquals("low", priority.getGateways().get(0).getLevel());
+        Assert.assertEquals("high", priority.getGateways().get(0).getPriority().getLevel());
+    }
+
+    @Test
+    public void testRead() throws Exception {
+        SwitchYardModel switchyard = _puller.pull(PRIORITY_XML, getClass());
+        PriorityModel priority = switchyard.getComposite().getServices().get(0).getExtensions().getPriority();
+        Assert.assertEquals("low", priority.getLevel());
+        Assert.assertEquals(2, priority.getGateways().size());
+        Assert.assertEquals("soapGateway", priority.getGateways().get(0).getName());
+        Assert.assertEquals("high", priority.getGateways().get(0).getLevel());
+        Assert.assertEquals("filePoller", priority.getGateways().get(1).getName());
+        Assert.assertEquals("low", priority.getGateways().get(1).getLevel());
+    }
+
+    @Test
+    public void testValidation() throws Exception {
+        SwitchYardModel switchyard = _puller.pull(PRIORITY_XML, getClass());
+        switchyard.assertModelValid();
+    }
+
+}
@@ -0,0 +1,95 @@
+/*
+ * Copyright 2013 Red Hat Inc. and/or its affiliates and other contributors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * http://www.apache.org/licenses/LICENSE-2.0
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,  
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.switchyard.config.model.switchyard;
+
+import java.util.Iterator;
+
+import junit.framework.Assert;
+
+import org.junit.Before;
+import org.junit.Test;
+import org.switchyard.config.model.ModelPuller;
+import org.switchyard.config.model.domain.DomainModel;
+import org.switchyard.config.model.domain.ThreadPoolModel;
+import org.switchyard.config.model.domain.ThreadPoolsModel;
+import org.switchyard.config.model.domain.v1.V1ThreadPoolModel;
+import org.switchyard.config.model.domain.v1.V1ThreadPoolsModel;
+
+/**
+ * ThreadPoolsTests.
+ */
+public class ThreadPoolsTests {
+
+    private static final String THREAD_POOLS_XML = "/org/switchyard/config/model/switchyard/ThreadPoolsTests.xml";
+
+    private ModelPuller<SwitchYardModel> _puller;
+
+    @Before
+    public void before() throws Exception {
+        _puller = new ModelPuller<SwitchYardModel>();
+    }
+
+    @Test
+    public void testCreate() throws Exception {
+        String namespace = SwitchYardNamespace.DEFAULT.uri();
+        ThreadPoolsModel threadPools = new V1ThreadPoolsModel(namespace);
+        ThreadPoolModel threadPool = new V1ThreadPoolModel(namespace);
+        threadPool.setName("shared");
+        threadPool.setCoreSize(4).setMaxSize(8).setKeepAlive(30000L).setQueueType("unbounded").setRejectionPolicy("discard");
+        threadPools.addThreadPool(threadPool);
+
+        Assert.assertEquals(threadPools, threadPool.getThreadPools());
+        Assert.assertEquals("shared", threadPools.getThreadPools().get(0).getName());
+        Assert.assertEquals(Integer.valueOf(4), threadPool.getCoreSize());
+        Assert.assertEquals(Integer.valueOf(8), threadPool.getMaxSize());
+        Assert.assertEquals(Long.valueOf(30000L), threadPool.getKeepAlive());
+        Assert.assertEquals("unbounded", threadPool.getQueueType());
+        Assert.assertEquals("discard", threadPool.getRejectionPolicy());
+        Assert.assertNull(threadPool.isPerService());
+    }
+
+    @Test
+    public void testRead() throws Exception {
+        SwitchYardModel switchyard = _puller.pull(THREAD_POOLS_XML, getClass());
+        DomainModel domain = switchyard.getDomain();
+        ThreadPoolsModel threadPools = domain.getThreadPools();
+        Assert.assertEquals(domain, threadPools.getDomain());
+        Iterator<ThreadPoolModel> pools = threadPools.getThreadPools().iterator();
+
+        ThreadPoolModel shared = pools.next();
+        Assert.assertEquals("shared", shared.getName());
+        Assert.assertEquals(Integer.valueOf(4), shared.getCoreSize());
+        Assert.assertEquals(Integer.valueOf(8), shared.getMaxSize());
+        Assert.assertEquals(Long.valueOf(30000L), shared.getKeepAlive());
+        Assert.assertEquals("bounded", shared.getQueueType());
+        Assert.assertEquals(Integer.valueOf(100), shared.getQueueSize());
+        Assert.assertEquals("callerRuns", shared.getRejectionPolicy());
+        Assert.assertNull(shared.isPerService());
+
+        ThreadPoolModel isolated = pools.next();
+        Assert.assertEquals("isolated", isolated.getName());
+        Assert.assertNull(isolated.getMaxSize());
+        Assert.assertEquals("synchronous", isolated.getQueueType());
+        Assert.assertTrue(isolated.isPerService());
+        Assert.assertTrue(isolated.isVirtualThreads());
+        Assert.assertFalse(pools.hasNext());
+    }
+
+    @Test
+    public void testValidation() throws Exception {
+        SwitchYardModel switchyard = _puller.pull(THREAD_POOLS_XML, getClass());
+        switchyard.assertModelValid();
+    }
+
+}
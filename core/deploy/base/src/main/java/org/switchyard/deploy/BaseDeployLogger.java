@@ -88,4 +88,15 @@ public interface BaseDeployLogger {
     @LogMessage(level = INFO)
     @Message(id = 10907, value="Enforcing %s implementation policy as a dependency of %s")
     void enforcingImplementationPolicyDependency(String dependency, String subject);
+
+    /**
+     * deploymentStarted method definition.
+     * @param deployment deployment
+     * @param millis millis
+     * @param activations activations
+     * @param threads threads
+     */
+    @LogMessage(level = INFO)
+    @Message(id = 10908, value="Started deployment %s in %d ms (%d activations, %d activation threads)")
+    void deploymentStarted(String deployment, long millis, int activations, int threads);
 }
@@ -15,8 +15,10 @@
 package org.switchyard.deploy;
 
 import java.util.EventObject;
+import java.util.ArrayList;
 import java.util.Collections;
 import java.util.HashMap;
+import java.util.List;
 import java.util.Map;
 
 import javax.xml.namespace.QName;
@@ -28,6 +30,8 @@ import org.switchyard.common.camel.SwitchYardCamelContextImpl;
 import org.switchyard.config.model.domain.DomainModel;
 import org.switchyard.config.model.domain.SecuritiesModel;
 import org.switchyard.config.model.domain.SecurityModel;
+import org.switchyard.config.model.domain.ThreadPoolModel;
+import org.switchyard.config.model.domain.ThreadPoolsModel;
 import org.switchyard.config.model.property.PropertiesModel;
 import org.switchyard.config.model.switchyard.SwitchYardModel;
 import org.switchyard.internal.DefaultServiceRegistry;
@@ -35,6 +39,8 @@ import org.switchyard.internal.DomainImpl;
 import org.switchyard.internal.EventManager;
 import org.switchyard.internal.transform.BaseTransformerRegistry;
 import org.switchyard.internal.validate.BaseValidatorRegistry;
+import org.switchyard.runtime.executor.ExecutorRegistry;
+import org.switchyard.runtime.executor.ThreadPoolConfig;
 import org.switchyard.security.service.DefaultServiceDomainSecurity;
 import org.switchyard.security.service.DefaultServiceSecurity;
 import org.switchyard.security.service.ServiceDomainSecurity;
@@ -145,8 +151,9 @@ public class ServiceDomainManager {
 
         ServiceDomainSecurity serviceDomainSecurity = getServiceDomainSecurity(switchyardConfig);
 
+        DomainEventManager eventManager = new DomainEventManager();
         DomainImpl domain = new DomainImpl(
-            domainName, _registry, bus, transformerRegistry, validatorRegistry, new DomainEventManager(), serviceDomainSecurity);
+            domainName, _registry, bus, transformerRegistry, validatorRegistry, eventManager, serviceDomainSecurity);
         camelContext.setServiceDomain(domain);
 
         // set properties on the domain
@@ -155,6 +162,17 @@ public class ServiceDomainManager {
             domain.setProperty(property.getKey(), property.getValue());
         }
 
+        // register the domain thread pools; Camel routes refer to them by name
+        ExecutorRegistry executors = ExecutorRegistry.getRegistry(domain);
+        for (ThreadPoolConfig threadPool : getThreadPools(switchyardConfig)) {
+            executors.register(threadPool);
+            camelContext.getWritebleRegistry().put(threadPool.getName(), executors.getExecutor(threadPool.getName()));
+        }
+        String eventThreadPool = properties.get(ExecutorRegistry.EVENT_THREAD_POOL);
+        if (eventThreadPool != null) {
+            eventManager.setExecutor(executors.getExecutor(eventThreadPool));
+        }
+
         // now that all resources and properties are set, init the domain
         domain.init();
         return domain;
@@ -220,10 +238,48 @@ public class ServiceDomainManager {
         return Collections.<String, String>emptyMap();
     }
     
+    protected List<ThreadPoolConfig> getThreadPools(SwitchYardModel config) {
+        List<ThreadPoolConfig> threadPools = new ArrayList<ThreadPoolConfig>();
+        if (config != null) {
+            DomainModel domain = config.getDomain();
+            if (domain != null) {
+                ThreadPoolsModel threadPoolsModel = domain.getThreadPools();
+                if (threadPoolsModel != null) {
+                    for (ThreadPoolModel model : threadPoolsModel.getThreadPools()) {
+                        ThreadPoolConfig threadPool = new ThreadPoolConfig(model.getName())
+                            .setQueueType(ThreadPoolConfig.QueueType.fromValue(model.getQueueType()))
+                            .setRejectionPolicy(ThreadPoolConfig.RejectionPolicy.fromValue(model.getRejectionPolicy()))
+                            .setFactory(model.getFactory());
+                        if (model.getCoreSize() != null) {
+                            threadPool.setCoreSize(model.getCoreSize());
+                        }
+                        if (model.getMaxSize() != null) {
+                            threadPool.setMaxSize(model.getMaxSize());
+                        }
+                        if (model.getKeepAlive() != null) {
+                            threadPool.setKeepAlive(model.getKeepAlive());
+                        }
+                        if (model.getQueueSize() != null) {
+                            threadPool.setQueueSize(model.getQueueSize());
+                        }
+                        if (model.isPerService() != null) {
+                            threadPool.setPerService(model.isPerService());
+                        }
+                        if (model.isVirtualThreads() != null) {
+                            threadPool.setVirtualThreads(model.isVirtualThreads());
+                        }
+                        threadPools.add(threadPool);
+                    }
+                }
+            }
+        }
+        return threadPools;
+    }
+
     private final class DomainEventManager extends EventManager {
         @Override
-        public void publish(EventObject event) {
-            super.publish(event);
+        protected void deliver(EventObject event) {
+            super.deliver(event);
             _eventManager.publish(event);
         }
     }
@@ -0,0 +1,235 @@
+/*
+ * Copyright 2013 Red Hat Inc. and/or its affiliates and other contributors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * http://www.apache.org/licenses/LICENSE-2.0
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.switchyard.deploy.internal;
+
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.Callable;
+import java.util.concurrent.CompletionService;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorCompletionService;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.jboss.logging.Logger;
+import org.switchyard.SwitchYardException;
+import org.switchyard.common.type.Classes;
+
+/**
+ * Runs the activations of a deployment phase.  With a single thread the
+ * activations run one after another on the calling thread, in model order.
+ * With more threads they run on a bounded pool: an activation is submitted
+ * once the activations it depends on have completed, in model order among
+ * those which are ready.  Dependency cycles are broken in model order.
+ * <p/>
+ * When an activation fails, or the deploying thread is interrupted, no
+ * further activations are submitted; the ones in progress are allowed to
+ * finish so the deployment can undo them, and the first failure is
+ * rethrown.  An interrupt is re-asserted once they have finished.
+ */
+final class ActivationScheduler {
+
+    private static Logger _log = Logger.getLogger(ActivationScheduler.class);
+
+    private final int _threads;
+    private final Map<String, Long> _timings = new LinkedHashMap<String, Long>();
+    private ExecutorService _executor;
+
+    /**
+     * Create a new scheduler.
+     * @param threads number of activations which may run at the same time
+     */
+    ActivationScheduler(int threads) {
+        _threads = Math.max(1, threads);
+    }
+
+    /**
+     * Number of activations which may run at the same time.
+     * @return threads
+     */
+    int getThreads() {
+        return _threads;
+    }
+
+    /**
+     * Time each activation took in milliseconds, in order of completion.
+     * @return activation times
+     */
+    Map<String, Long> getTimings() {
+        synchronized (_timings) {
+            return new LinkedHashMap<String, Long>(_timings);
+        }
+    }
+
+    /**
+     * Runs the tasks and returns once all of them completed.
+     * @param tasks tasks in model order
+     */
+    void run(List<Task> tasks) {
+        if (_threads == 1 || tasks.size() < 2) {
+            for (Task task : tasks) {
+                task.execute();
+            }
+        } else {
+            runConcurrently(tasks);
+        }
+    }
+
+    /**
+     * Stops the pool threads.
+     */
+    void shutdown() {
+        if (_executor != null) {
+            _executor.shutdown();
+            _executor = null;
+        }
+    }
+
+    private void runConcurrently(List<Task> tasks) {
+        if (_executor == null) {
+            _executor = Executors.newFixedThreadPool(_threads, new ActivationThreadFactory());
+        }
+        final ClassLoader loader = Classes.getTCCL();
+        CompletionService<Task> completion = new ExecutorCompletionService<Task>(_executor);
+        List<Task> pending = new ArrayList<Task>(tasks);
+        Set<Task> completed = new HashSet<Task>();
+        RuntimeException failure = null;
+        boolean interrupted = false;
+        int running = 0;
+        while (!pending.isEmpty() || running > 0) {
+            if (failure == null) {
+                boolean submitted = false;
+                for (Iterator<Task> i = pending.iterator(); i.hasNext();) {
+                    Task task = i.next();
+                    if (completed.containsAll(task._dependencies)) {
+                        i.remove();
+                        completion.submit(new TaskRunner(task, loader));
+                        running++;
+                        submitted = true;
+                    }
+                }
+                if (!submitted && running == 0 && !pending.isEmpty()) {
+                    Task task = pending.remove(0);
+                    _log.debug("Dependency cycle, activating " + task.getName() + " in model order");
+                    completion.submit(new TaskRunner(task, loader));
+                    running++;
+                }
+            } else if (running == 0) {
+                break;
+            }
+            try {
+                Future<Task> done = completion.take();
+                running--;
+                completed.add(done.get());
+            } catch (InterruptedException ie) {
+                // the flag is cleared, so the remaining activations can be waited for
+                interrupted = true;
+                if (failure == null) {
+                    failure = new SwitchYardException(ie);
+                }
+                pending.clear();
+            } catch (ExecutionException ee) {
+                if (failure == null) {
+                    failure = ee.getCause() instanceof RuntimeException
+                            ? (RuntimeException) ee.getCause() : new SwitchYardException(ee.getCause());
+                }
+            }
+        }
+        if (interrupted) {
+            Thread.currentThread().interrupt();
+        }
+        if (failure != null) {
+            throw failure;
+        }
+    }
+
+    /**
+     * An activation of the deployment.
+     */
+    abstract class Task {
+        private final String _name;
+        private final Set<Task> _dependencies = new HashSet<Task>();
+
+        Task(String name) {
+            _name = name;
+        }
+
+        String getName() {
+            return _name;
+        }
+
+        Task dependsOn(Task task) {
+            if (task != this) {
+                _dependencies.add(task);
+            }
+            return this;
+        }
+
+        protected abstract void activate();
+
+        void execute() {
+            long start = System.nanoTime();
+            try {
+                activate();
+            } finally {
+                long millis = (System.nanoTime() - start) / 1000000L;
+                _log.debug("Activated " + _name + " in " + millis + " ms");
+                synchronized (_timings) {
+                    _timings.put(_name, millis);
+                }
+            }
+        }
+    }
+
+    private static final class TaskRunner implements Callable<Task> {
+        private final Task _task;
+        private final ClassLoader _loader;
+
+        private TaskRunner(Task task, ClassLoader loader) {
+            _task = task;
+            _loader = loader;
+        }
+
+        @Override
+        public Task call() {
+            ClassLoader original = Classes.setTCCL(_loader);
+            try {
+                _task.execute();
+                return _task;
+            } finally {
+                Classes.setTCCL(original);
+            }
+        }
+    }
+
+    private static final class ActivationThreadFactory implements ThreadFactory {
+        private final AtomicInteger _count = new AtomicInteger();
+
+        @Override
+        public Thread newThread(Runnable task) {
+            Thread thread = new Thread(task, "SwitchYard-activation-" + _count.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        }
+    }
+}
@@ -18,6 +18,7 @@ import java.io.IOException;
 import java.io.InputStream;
 import java.util.ArrayList;
 import java.util.Collection;
+import java.util.Collections;
 import java.util.HashMap;
 import java.util.HashSet;
 import java.util.LinkedList;
@@ -31,9 +32,11 @@ import org.switchyard.Service;
 import org.switchyard.ServiceMetadata;
 import org.switchyard.ServiceReference;
 import org.switchyard.SwitchYardException;
+import org.switchyard.common.lang.Strings;
 import org.switchyard.common.type.Classes;
+import org.switchyard.config.Configuration;
 import org.switchyard.config.model.Model;
-import org.switchyard.config.model.ModelPuller;
+import org.switchyard.config.model.ModelCache;
 import org.switchyard.config.model.composite.BindingModel;
 import org.switchyard.config.model.composite.ComponentImplementationModel;
 import org.switchyard.config.model.composite.ComponentModel;
@@ -44,7 +47,15 @@ import org.switchyard.config.model.composite.CompositeReferenceModel;
 import org.switchyard.config.model.composite.CompositeServiceModel;
 import org.switchyard.config.model.composite.ExtensionsModel;
 import org.switchyard.config.model.composite.InterfaceModel;
+import org.switchyard.config.model.switchyard.AsyncDispatchModel;
+import org.switchyard.config.model.switchyard.BulkheadModel;
+import org.switchyard.config.model.switchyard.CachingModel;
+import org.switchyard.config.model.switchyard.CircuitBreakerModel;
+import org.switchyard.config.model.switchyard.CoalescingModel;
+import org.switchyard.config.model.switchyard.DeadlineModel;
 import org.switchyard.config.model.switchyard.EsbInterfaceModel;
+import org.switchyard.config.model.switchyard.GatewayPriorityModel;
+import org.switchyard.config.model.switchyard.PriorityModel;
 import org.switchyard.config.model.switchyard.SwitchYardModel;
 import org.switchyard.config.model.switchyard.ThrottlingModel;
 import org.switchyard.config.model.transform.TransformsModel;
@@ -60,6 +71,7 @@ import org.switchyard.deploy.ServiceHandler;
 import org.switchyard.deploy.event.ApplicationDeployedEvent;
 import org.switchyard.deploy.event.ApplicationUndeployedEvent;
 import org.switchyard.extensions.java.JavaService;
+import org.switchyard.extensions.wsdl.WSDLCache;
 import org.switchyard.extensions.wsdl.WSDLReaderException;
 import org.switchyard.extensions.wsdl.WSDLService;
 import org.switchyard.metadata.InOnlyOperation;
@@ -68,6 +80,13 @@ import org.switchyard.metadata.InOutOperation;
 import org.switchyard.metadata.InOutService;
 import org.switchyard.metadata.ServiceInterface;
 import org.switchyard.metadata.ServiceMetadataBuilder;
+import org.switchyard.metadata.qos.AsyncDispatch;
+import org.switchyard.metadata.qos.Bulkhead;
+import org.switchyard.metadata.qos.Caching;
+import org.switchyard.metadata.qos.CircuitBreaker;
+import org.switchyard.metadata.qos.Coalescing;
+import org.switchyard.metadata.qos.Deadline;
+import org.switchyard.metadata.qos.Priority;
 import org.switchyard.metadata.qos.Throttling;
 import org.switchyard.policy.Policy;
 import org.switchyard.policy.Policy.PolicyType;
@@ -82,20 +101,34 @@ import org.switchyard.policy.PolicyFactory;
  */
 public class Deployment extends AbstractDeployment {
 
+    /**
+     * Domain property holding the number of activations which may run at the
+     * same time while the deployment starts.  Defaults to 1, which activates
+     * one artifact after another on the starting thread.  Only raise it when
+     * the activators used by the application can be called concurrently.
+     */
+    public static final String ACTIVATION_THREADS_PROPERTY = "org.switchyard.deploy.activationThreads";
+
     private static Logger _log = Logger.getLogger(Deployment.class);
 
+    // guards domain registrations and the activation lists while activations run concurrently
+    private final Object _activationLock = new Object();
+    private Map<String, Long> _activationTimes = Collections.emptyMap();
     private Map<String, Activator> _activators = new HashMap<String, Activator>();
     private List<Activation> _components = new LinkedList<Activation>();
     private List<Activation> _serviceBindings = new LinkedList<Activation>();
     private List<Activation> _referenceBindings = new LinkedList<Activation>();
     
     /**
-     * Create a new instance of Deployer from a configuration stream.
+     * Create a new instance of Deployer from a configuration stream.  The
+     * model is rebuilt from a snapshot when the
+     * {@link ModelCache#DIRECTORY_PROPERTY} system property names a cache
+     * directory holding one for the same configuration.
      * @param configStream stream containing switchyard config
      * @throws IOException Error reading configuration model.
      */
     public Deployment(InputStream configStream) throws IOException {
-        super(new ModelPuller<SwitchYardModel>().pull(configStream));
+        super(new ModelCache<SwitchYardModel>().pull(configStream));
     }
     
     /**
@@ -138,11 +171,16 @@ public class Deployment extends AbstractDeployment {
      */
     public void start() {
         _log.debug("Starting deployment " + getName());
+        long start = System.currentTimeMillis();
+        ActivationScheduler scheduler = new ActivationScheduler(getActivationThreads());
+        if (scheduler.getThreads() > 1) {
+            expand(getConfig().getModelConfiguration());
+        }
         // ordered startup lifecycle
         try {
-            deployReferenceBindings();
-            deployImplementations();
-            deployServiceBindings();
+            deployReferenceBindings(scheduler);
+            deployImplementations(scheduler);
+            deployServiceBindings(scheduler);
         } catch (RuntimeException e1) {
             // Undo partial deployment...
             _log.debug("Undeploying partially deployed artifacts of failed deployment " + getConfig().getQName());
@@ -154,7 +192,23 @@ public class Deployment extends AbstractDeployment {
             }
             // Rethrow the exception...
             throw e1;
+        } finally {
+            scheduler.shutdown();
+            _activationTimes = Collections.unmodifiableMap(scheduler.getTimings());
         }
+        BaseDeployLogger.ROOT_LOGGER.deploymentStarted(String.valueOf(getName()),
+                System.currentTimeMillis() - start, _activationTimes.size(), scheduler.getThreads());
+    }
+
+    /**
+     * Returns the time in milliseconds each activation took during the last
+     * start of the deployment, in order of completion.  Activations are named
+     * after the kind of artifact, the binding name if any, and the service,
+     * reference or component name.
+     * @return activation times
+     */
+    public Map<String, Long> getActivationTimes() {
+        return _activationTimes;
     }
 
     /**
@@ -182,6 +236,10 @@ public class Deployment extends AbstractDeployment {
         getValidatorRegistryLoader().unregisterValidators();
         getTransformerRegistryLoader().unregisterTransformers();
 
+        // Drop the WSDLs parsed on behalf of this application
+        ClassLoader loader = (ClassLoader) getDomain().getProperty(CLASSLOADER_PROPERTY);
+        WSDLCache.clear(loader != null ? loader : Classes.getTCCL());
+
         getDomain().getEventPublisher().publish(new ApplicationUndeployedEvent(this));
         getDomain().destroy();
     }
@@ -277,44 +335,65 @@ public class Deployment extends AbstractDeployment {
         getValidatorRegistryLoader().registerValidators(validates);
     }
 
-    private void deployReferenceBindings() {
+    private void deployReferenceBindings(ActivationScheduler scheduler) {
         _log.debug("Deploying reference bindings for deployment " + getName());
         // activate bindings for each service
         CompositeModel composite = getConfig().getComposite();
         if (composite == null) {
             return;
         }
-        for (CompositeReferenceModel reference : composite.getReferences()) {
+        List<ActivationScheduler.Task> tasks = new ArrayList<ActivationScheduler.Task>();
+        for (final CompositeReferenceModel reference : composite.getReferences()) {
             int bindingCount = 0;
-            for (BindingModel binding : reference.getBindings()) {
-                QName refQName = reference.getQName();
+            for (final BindingModel binding : reference.getBindings()) {
                 ++bindingCount;
                 if (binding.getName() == null) {
                     _log.debug("Initializing binding name for binding " + bindingCount + " for reference "
                             + reference.getQName() + " for deployment " + getName());
                     binding.setName("_" + reference.getName() + "_" + binding.getType() + "_" + bindingCount);
                 }
-                _log.debug("Deploying binding " + binding.getName() + " for reference " 
-                        + reference.getQName() + " for deployment " + getName());
                 
-                Activator activator = findActivator(binding.getType());
+                final Activator activator = findActivator(binding.getType());
                 if (activator == null) {
                     continue;
                 }
 
-                ServiceHandler handler = activator.activateBinding(reference.getQName(), binding);
-                Activation activation = new Activation(activator, reference.getQName(), binding, handler);
-                ServiceInterface si = getCompositeReferenceInterface(reference);
-                Binding bindingMetadata = new Binding(binding);
-                validateServiceRegistration(refQName);
-                ServiceMetadata metadata = ServiceMetadataBuilder.create().registrant(bindingMetadata).build();
-                Service svc = getDomain().registerService(refQName, si, handler, metadata);
-                activation.addService(svc);
-                _referenceBindings.add(activation);
-
-                handler.start();
+                tasks.add(scheduler.new Task("reference binding " + binding.getName() + " " + reference.getQName()) {
+                    @Override
+                    protected void activate() {
+                        deployReferenceBinding(activator, reference, binding);
+                    }
+                });
             }
         }
+        scheduler.run(tasks);
+    }
+
+    private void deployReferenceBinding(Activator activator, CompositeReferenceModel reference, BindingModel binding) {
+        QName refQName = reference.getQName();
+        _log.debug("Deploying binding " + binding.getName() + " for reference " 
+                + refQName + " for deployment " + getName());
+
+        ServiceHandler handler = activator.activateBinding(refQName, binding);
+        synchronized (_activationLock) {
+            Activation activation = new Activation(activator, refQName, binding, handler);
+            ServiceInterface si = getCompositeReferenceInterface(reference);
+            Binding bindingMetadata = new Binding(binding);
+            validateServiceRegistration(refQName);
+            ServiceMetadata metadata = ServiceMetadataBuilder.create()
+                    .caching(getCaching(reference.getExtensions()))
+                    .coalescing(getCoalescing(reference.getExtensions()))
+                    .bulkhead(getBulkhead(reference.getExtensions()))
+                    .circuitBreaker(getCircuitBreaker(reference.getExtensions()))
+                    .priority(getPriority(reference.getExtensions()))
+                    .registrant(bindingMetadata)
+                    .build();
+            Service svc = getDomain().registerService(refQName, si, handler, metadata);
+            activation.addService(svc);
+            _referenceBindings.add(activation);
+        }
+
+        handler.start();
     }
     
     private ServiceInterface getCompositeReferenceInterface(CompositeReferenceModel compositeRefModel) {
@@ -367,6 +446,172 @@ public class Deployment extends AbstractDeployment {
         return retVal;
     }
 
+    private Caching getCaching(ExtensionsModel extensions) {
+        if (extensions == null) {
+            return null;
+        }
+        final CachingModel caching = extensions.getCaching();
+        if (caching == null) {
+            return null;
+        }
+        final Caching retVal = new Caching();
+        if (caching.getMaxEntries() != null) {
+            retVal.setMaxEntries(caching.getMaxEntries());
+        }
+        if (caching.getTimeToLive() != null) {
+            retVal.setTimeToLive(caching.getTimeToLive());
+        }
+        if (caching.getKey() != null) {
+            retVal.setKey(Strings.splitTrimToNullArray(caching.getKey(), " \t\r\n"));
+        }
+        if (caching.getOperations() != null) {
+            retVal.setOperations(Strings.splitTrimToNullArray(caching.getOperations(), " \t\r\n"));
+        }
+        return retVal;
+    }
+
+    private Coalescing getCoalescing(ExtensionsModel extensions) {
+        if (extensions == null) {
+            return null;
+        }
+        final CoalescingModel coalescing = extensions.getCoalescing();
+        if (coalescing == null) {
+            return null;
+        }
+        final Coalescing retVal = new Coalescing();
+        if (coalescing.getTimeout() != null) {
+            retVal.setTimeout(coalescing.getTimeout());
+        }
+        if (coalescing.getKey() != null) {
+            retVal.setKey(Strings.splitTrimToNullArray(coalescing.getKey(), " \t\r\n"));
+        }
+        if (coalescing.getOperations() != null) {
+            retVal.setOperations(Strings.splitTrimToNullArray(coalescing.getOperations(), " \t\r\n"));
+        }
+        return retVal;
+    }
+
+    private Bulkhead getBulkhead(ExtensionsModel extensions) {
+        if (extensions == null) {
+            return null;
+        }
+        final BulkheadModel bulkhead = extensions.getBulkhead();
+        if (bulkhead == null || bulkhead.getMaxConcurrent() == null) {
+            return null;
+        }
+        final Bulkhead retVal = new Bulkhead().setMaxConcurrent(bulkhead.getMaxConcurrent());
+        if (bulkhead.getMinConcurrent() != null) {
+            retVal.setMinConcurrent(bulkhead.getMinConcurrent());
+        }
+        if (bulkhead.getMaxQueued() != null) {
+            retVal.setMaxQueued(bulkhead.getMaxQueued());
+        }
+        if (bulkhead.getQueueTimeout() != null) {
+            retVal.setQueueTimeout(bulkhead.getQueueTimeout());
+        }
+        if (bulkhead.getLimit() != null) {
+            retVal.setLimit(Bulkhead.Limit.valueOf(bulkhead.getLimit().trim().toUpperCase()));
+        }
+        return retVal;
+    }
+
+    private CircuitBreaker getCircuitBreaker(ExtensionsModel extensions) {
+        if (extensions == null) {
+            return null;
+        }
+        final CircuitBreakerModel breaker = extensions.getCircuitBreaker();
+        if (breaker == null) {
+            return null;
+        }
+        final CircuitBreaker retVal = new CircuitBreaker();
+        if (breaker.getFailureRateThreshold() != null) {
+            retVal.setFailureRateThreshold(breaker.getFailureRateThreshold());
+        }
+        if (breaker.getSlowCallRateThreshold() != null) {
+            retVal.setSlowCallRateThreshold(breaker.getSlowCallRateThreshold());
+        }
+        if (breaker.getSlowCallDuration() != null) {
+            retVal.setSlowCallDuration(breaker.getSlowCallDuration());
+        }
+        if (breaker.getWindowSize() != null) {
+            retVal.setWindowSize(breaker.getWindowSize());
+        }
+        if (breaker.getMinimumCalls() != null) {
+            retVal.setMinimumCalls(breaker.getMinimumCalls());
+        }
+        if (breaker.getOpenDuration() != null) {
+            retVal.setOpenDuration(breaker.getOpenDuration());
+        }
+        if (breaker.getHalfOpenCalls() != null) {
+            retVal.setHalfOpenCalls(breaker.getHalfOpenCalls());
+        }
+        return retVal;
+    }
+
+    private Deadline getDeadline(ExtensionsModel extensions) {
+        if (extensions == null) {
+            return null;
+        }
+        final DeadlineModel deadline = extensions.getDeadline();
+        if (deadline == null || deadline.getTimeout() == null) {
+            return null;
+        }
+        return new Deadline().setTimeout(deadline.getTimeout());
+    }
+
+    private AsyncDispatch getAsyncDispatch(ExtensionsModel extensions) {
+        if (extensions == null) {
+            return null;
+        }
+        final AsyncDispatchModel asyncDispatch = extensions.getAsyncDispatch();
+        if (asyncDispatch == null) {
+            return null;
+        }
+        final AsyncDispatch retVal = new AsyncDispatch().setThreadPool(asyncDispatch.getThreadPool());
+        if (asyncDispatch.getQueueSize() != null) {
+            retVal.setQueueSize(asyncDispatch.getQueueSize());
+        }
+        if (asyncDispatch.getWorkers() != null) {
+            retVal.setWorkers(asyncDispatch.getWorkers());
+        }
+        if (asyncDispatch.getOverflow() != null) {
+            String overflow = asyncDispatch.getOverflow().trim();
+            retVal.setOverflow("callerRuns".equalsIgnoreCase(overflow)
+                    ? AsyncDispatch.Overflow.CALLER_RUNS : AsyncDispatch.Overflow.valueOf(overflow.toUpperCase()));
+        }
+        if (asyncDispatch.getOverflowTimeout() != null) {
+            retVal.setOverflowTimeout(asyncDispatch.getOverflowTimeout());
+        }
+        if (asyncDispatch.getJournal() != null) {
+            retVal.setJournal(asyncDispatch.getJournal());
+        }
+        if (asyncDispatch.getJournalSegmentSize() != null) {
+            retVal.setJournalSegmentSize(asyncDispatch.getJournalSegmentSize());
+        }
+        if (asyncDispatch.isJournalSync() != null) {
+            retVal.setJournalSync(asyncDispatch.isJournalSync());
+        }
+        if (asyncDispatch.getJournalMaxAttempts() != null) {
+            retVal.setJournalMaxAttempts(asyncDispatch.getJournalMaxAttempts());
+        }
+        return retVal;
+    }
+
+    private Priority getPriority(ExtensionsModel extensions) {
+        if (extensions == null) {
+            return null;
+        }
+        final PriorityModel priority = extensions.getPriority();
+        if (priority == null) {
+            return null;
+        }
+        final Priority retVal = new Priority().setLevel(Priority.Level.fromValue(priority.getLevel()));
+        for (GatewayPriorityModel gateway : priority.getGateways()) {
+            retVal.setLevel(gateway.getName(), Priority.Level.fromValue(gateway.getLevel()));
+        }
+        return retVal;
+    }
+
     private boolean hasComponentReferenceInterface(ComponentReferenceModel componentRef) {
         return componentRef != null && componentRef.getInterface() != null; 
     }
@@ -451,87 +696,69 @@ public class Deployment extends AbstractDeployment {
         return InterfaceModel.JAVA.equals(type);
     }
     
-    private void deployImplementations() {
+    private void deployImplementations(ActivationScheduler scheduler) {
         if (getConfig().getComposite() == null) {
             return;
         }
-        for (ComponentModel component : getConfig().getComposite().getComponents()) {
-            Activator activator = findActivator(component);
+        List<ActivationScheduler.Task> tasks = new ArrayList<ActivationScheduler.Task>();
+        Map<QName, ActivationScheduler.Task> providers = new HashMap<QName, ActivationScheduler.Task>();
+        Map<ActivationScheduler.Task, ComponentModel> components = new HashMap<ActivationScheduler.Task, ComponentModel>();
+        for (final ComponentModel component : getConfig().getComposite().getComponents()) {
+            final Activator activator = findActivator(component);
             if (activator == null) {
                 continue;
             }
+            ActivationScheduler.Task task = scheduler.new Task("component " + component.getQName()) {
+                @Override
+                protected void activate() {
+                    deployImplementation(activator, component);
+                }
+            };
+            for (ComponentServiceModel service : component.getServices()) {
+                providers.put(service.getQName(), task);
+            }
+            components.put(task, component);
+            tasks.add(task);
+        }
+        // a component is started after the components providing the services it references
+        for (ActivationScheduler.Task task : tasks) {
+            ComponentModel component = components.get(task);
+            for (ComponentReferenceModel reference : component.getReferences()) {
+                ActivationScheduler.Task provider = providers.get(getWiredName(component, reference));
+                if (provider != null) {
+                    task.dependsOn(provider);
+                }
+            }
+        }
+        scheduler.run(tasks);
+    }
 
+    private void deployImplementation(Activator activator, ComponentModel component) {
+        List<ServiceReference> references = new LinkedList<ServiceReference>();
+        Implementation impl = new Implementation(component.getImplementation());
+        ComponentServiceModel service = null;
+        List<Policy> requires = null;
+        synchronized (_activationLock) {
             List<Policy> requiresImpl = null;
             try {
                 requiresImpl = getPolicyRequirements(component.getImplementation());
             } catch (Exception e) {
                 throw new SwitchYardException(e);
             }
-            
-            Implementation impl = new Implementation(component.getImplementation());
-            List<ServiceReference> references = new LinkedList<ServiceReference>();
-            
+
             // register a reference for each one declared in the component
             for (ComponentReferenceModel reference : component.getReferences()) {
-                // Create the reference name qualified with component name to ensure uniqueness
-                QName refName = ComponentNames.qualify(component.getQName(),  reference.getQName());
-                               
-                _log.debug("Registering reference " + refName + " for component " 
-                        + component.getImplementation().getType() + " for deployment " + getName());
-            
-                // Component Reference bindings not allowed, check to see if we find one and throw an exception
-                List<Model> models = reference.getModelChildren();
-                for (Model model : models) {
-                    if (BindingModel.class.isAssignableFrom(model.getClass())) {
-                        throw BaseDeployMessages.MESSAGES.componentReferenceBindingsNotAllowed(model.toString(), reference.toString());
-                    }
-                }
-                List<Policy> requires = null;
-                try {
-                    requires = getPolicyRequirements(reference);
-                } catch (Exception e) {
-                    throw BaseDeployMessages.MESSAGES.unableCollectRequirements(reference.toString(), e);
-                }
-                processPolicyDependency(requires, requiresImpl);
-                validatePolicy(requires, requiresImpl);
-
-                ServiceInterface refIntf = getComponentReferenceInterface(reference);
-                ServiceMetadata metadata = ServiceMetadataBuilder.create()
-                        .security(getDomain().getServiceSecurity(reference.getSecurity()))
-                        .requiredPolicies(requires).registrant(impl)
-                        .build();
-                ServiceReference svcRef = getDomain().registerServiceReference(refName, refIntf, null, metadata);
-
-                boolean wired = false;
-                // wire a reference if the name is different from promoted name
-                compositeReferenceLoop: for (CompositeReferenceModel compositeReference : getConfig().getComposite().getReferences()) {
-                    for (ComponentReferenceModel componentReference : compositeReference.getComponentReferences()) {
-                        if (componentReference != null && componentReference.equals(reference)) {
-                            if (!componentReference.getQName().equals(compositeReference.getQName())) {
-                                svcRef.wire(compositeReference.getQName());
-                                wired = true;
-                                break compositeReferenceLoop;
-                            }
-                        }
-                    }
-                }
-                
-                // if we didn't wire to a promoted reference, then default to unqualified service name
-                if (!wired) {
-                    svcRef.wire(ComponentNames.unqualify(svcRef));
-                }
-                references.add(svcRef);
+                references.add(registerReference(component, reference, impl, requiresImpl));
             }
-            
+
             // register a service for each one declared in the component
             if (component.getServices().size() > 1) {
                 throw BaseDeployMessages.MESSAGES.multipleServicesFound(component.getName());
             } else if (component.getServices().size() == 1) {
-                ComponentServiceModel service = component.getServices().get(0);
+                service = component.getServices().get(0);
                 _log.debug("Registering service " + service.getQName()
                        + " for component " + component.getImplementation().getType() + " for deployment " + getName());
 
-                
                 // Component Service bindings not allowed, check to see if we find one and throw an exception
                 List<Model> models = service.getModelChildren();
                 for (Model model : models) {
@@ -539,9 +766,7 @@ public class Deployment extends AbstractDeployment {
                         throw BaseDeployMessages.MESSAGES.componentServiceBindingsNotAllowed(model.toString(), service.toString());
                     }
                 }
-                
-                
-                List<Policy> requires = null;
+
                 try {
                     requires = getPolicyRequirements(service);
                     processPolicyDependency(requires, requiresImpl);
@@ -550,8 +775,12 @@ public class Deployment extends AbstractDeployment {
                     throw new SwitchYardException(e);
                 }
                 requires.addAll(requiresImpl);
+            }
+        }
 
-                ServiceHandler handler = activator.activateService(service.getQName(), component);
+        if (service != null) {
+            ServiceHandler handler = activator.activateService(service.getQName(), component);
+            synchronized (_activationLock) {
                 Activation activation = new Activation(activator, component.getQName(), null, handler);
                 ServiceInterface serviceIntf = getComponentServiceInterface(service);
                 ServiceMetadata metadata = ServiceMetadataBuilder.create()
@@ -559,11 +788,11 @@ public class Deployment extends AbstractDeployment {
                         .requiredPolicies(requires)
                         .registrant(impl)
                         .build();
-                
+
                 Service svc = getDomain().registerService(service.getQName(), serviceIntf, handler, metadata);
                 activation.addService(svc);
                 activation.addReferences(references);
-                
+
                 // register any service promotions
                 for (CompositeServiceModel compositeService : getConfig().getComposite().getServices()) {
                     ComponentServiceModel componentService = compositeService.getComponentService();
@@ -577,63 +806,161 @@ public class Deployment extends AbstractDeployment {
                         }
                     }
                 }
-                
+
                 _components.add(activation);
-                handler.start();
-
-            } else {
-                // we don't have a distinct call for activateReference right now,
-                // so this catches cases where an implementation has one or more
-                // references, but no services.  (this is pretty crappy)
-                _log.debug("Activating component " + component.getQName());
-                activator.activateService(null, component);
-                // while this is not a service, it will ensure that the component is deactivated
-                Activation activation = new Activation(activator, component.getQName(), null, null);
-                activation.addReferences(references);
+            }
+            handler.start();
+
+        } else {
+            // we don't have a distinct call for activateReference right now,
+            // so this catches cases where an implementation has one or more
+            // references, but no services.  (this is pretty crappy)
+            _log.debug("Activating component " + component.getQName());
+            activator.activateService(null, component);
+            // while this is not a service, it will ensure that the component is deactivated
+            Activation activation = new Activation(activator, component.getQName(), null, null);
+            activation.addReferences(references);
+            synchronized (_activationLock) {
                 _components.add(activation);
             }
         }
     }
 
-    private void deployServiceBindings() {
+    private ServiceReference registerReference(ComponentModel component, ComponentReferenceModel reference,
+            Implementation impl, List<Policy> requiresImpl) {
+        // Create the reference name qualified with component name to ensure uniqueness
+        QName refName = ComponentNames.qualify(component.getQName(),  reference.getQName());
+
+        _log.debug("Registering reference " + refName + " for component " 
+                + component.getImplementation().getType() + " for deployment " + getName());
+
+        // Component Reference bindings not allowed, check to see if we find one and throw an exception
+        List<Model> models = reference.getModelChildren();
+        for (Model model : models) {
+            if (BindingModel.class.isAssignableFrom(model.getClass())) {
+                throw BaseDeployMessages.MESSAGES.componentReferenceBindingsNotAllowed(model.toString(), reference.toString());
+            }
+        }
+        List<Policy> requires = null;
+        try {
+            requires = getPolicyRequirements(reference);
+        } catch (Exception e) {
+            throw BaseDeployMessages.MESSAGES.unableCollectRequirements(reference.toString(), e);
+        }
+        processPolicyDependency(requires, requiresImpl);
+        validatePolicy(requires, requiresImpl);
+
+        ServiceInterface refIntf = getComponentReferenceInterface(reference);
+        ServiceMetadata metadata = ServiceMetadataBuilder.create()
+                .security(getDomain().getServiceSecurity(reference.getSecurity()))
+                .requiredPolicies(requires).registrant(impl)
+                .build();
+        ServiceReference svcRef = getDomain().registerServiceReference(refName, refIntf, null, metadata);
+        svcRef.wire(getWiredName(component, reference));
+        return svcRef;
+    }
+
+    // a reference is wired to the composite reference promoting it under a different
+    // name, otherwise to the service with the unqualified reference name
+    private QName getWiredName(ComponentModel component, ComponentReferenceModel reference) {
+        for (CompositeReferenceModel compositeReference : getConfig().getComposite().getReferences()) {
+            for (ComponentReferenceModel componentReference : compositeReference.getComponentReferences()) {
+                if (componentReference != null && componentReference.equals(reference)) {
+                    if (!componentReference.getQName().equals(compositeReference.getQName())) {
+                        return compositeReference.getQName();
+                    }
+                }
+            }
+        }
+        return ComponentNames.unqualify(ComponentNames.qualify(component.getQName(), reference.getQName()));
+    }
+
+    private void deployServiceBindings(ActivationScheduler scheduler) {
         _log.debug("Deploying service bindings for deployment " + getName());
         if (getConfig().getComposite() == null) {
             return;
         }
+        List<ActivationScheduler.Task> tasks = new ArrayList<ActivationScheduler.Task>();
         // activate bindings for each service
-        for (CompositeServiceModel service : getConfig().getComposite().getServices()) {
+        for (final CompositeServiceModel service : getConfig().getComposite().getServices()) {
             // Create the reference for the composite service
             ServiceMetadata metadata = ServiceMetadataBuilder.create()
                     .throttling(getCompositeServiceThrottling(service))
+                    .caching(getCaching(service.getExtensions()))
+                    .bulkhead(getBulkhead(service.getExtensions()))
+                    .deadline(getDeadline(service.getExtensions()))
+                    .asyncDispatch(getAsyncDispatch(service.getExtensions()))
+                    .priority(getPriority(service.getExtensions()))
                     .registrant(new Binding(service.getBindings()))
                     .build();
-            ServiceReference reference = getDomain().registerServiceReference(
+            final ServiceReference reference = getDomain().registerServiceReference(
                     service.getQName(), getCompositeServiceInterface(service), null, metadata);
             
             int bindingCount = 0;
-            for (BindingModel binding : service.getBindings()) {
+            for (final BindingModel binding : service.getBindings()) {
                 ++bindingCount;
                 if (binding.getName() == null) {
                     _log.debug("Initializing binding name for binding " + bindingCount + " for service "
                             + service.getQName() + " for deployment " + getName());
                     binding.setName("_" + service.getName() + "_" + binding.getType() + "_" + bindingCount);
                 }
-                _log.debug("Deploying binding " + binding.getName() + " for service " 
-                        + service.getQName() + " for deployment " + getName());
                 
-                Activator activator = findActivator(binding.getType());
+                final Activator activator = findActivator(binding.getType());
                 if (activator == null) {
                     continue;
                 }
                 
-                ServiceHandler handler = activator.activateBinding(service.getQName(), binding);
-                Activation activation = new Activation(activator, service.getQName(), binding, handler);
-                activation.addReference(reference);
-                _serviceBindings.add(activation);
-                
-                handler.start();
+                tasks.add(scheduler.new Task("service binding " + binding.getName() + " " + service.getQName()) {
+                    @Override
+                    protected void activate() {
+                        deployServiceBinding(activator, service, binding, reference);
+                    }
+                });
+            }
+        }
+        scheduler.run(tasks);
+    }
+
+    private void deployServiceBinding(Activator activator, CompositeServiceModel service,
+            BindingModel binding, ServiceReference reference) {
+        _log.debug("Deploying binding " + binding.getName() + " for service " 
+                + service.getQName() + " for deployment " + getName());
+
+        ServiceHandler handler = activator.activateBinding(service.getQName(), binding);
+        synchronized (_activationLock) {
+            Activation activation = new Activation(activator, service.getQName(), binding, handler);
+            activation.addReference(reference);
+            _serviceBindings.add(activation);
+        }
+
+        handler.start();
+    }
+
+    // reads the whole configuration once so that activators running concurrently
+    // find it fully loaded
+    private static void expand(Configuration config) {
+        if (config == null) {
+            return;
+        }
+        config.getValue();
+        for (String name : config.getAttributeNames()) {
+            config.getAttribute(name);
+        }
+        for (Configuration child : config.getChildren()) {
+            expand(child);
+        }
+    }
+
+    private int getActivationThreads() {
+        Object threads = getDomain().getProperty(ACTIVATION_THREADS_PROPERTY);
+        if (threads != null) {
+            try {
+                return Integer.parseInt(threads.toString().trim());
+            } catch (NumberFormatException nfe) {
+                _log.debug("Ignoring invalid " + ACTIVATION_THREADS_PROPERTY + " value " + threads);
             }
         }
+        return 1;
     }
 
     private void undeployServiceBindings() {
@@ -0,0 +1,174 @@
+/*
+ * Copyright 2013 Red Hat Inc. and/or its affiliates and other contributors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * http://www.apache.org/licenses/LICENSE-2.0
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.switchyard.deploy.internal;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import org.junit.After;
+import org.junit.Assert;
+import org.junit.Test;
+import org.switchyard.SwitchYardException;
+
+public class ActivationSchedulerTest {
+
+    private ActivationScheduler _scheduler;
+    private final List<String> _activated = Collections.synchronizedList(new ArrayList<String>());
+
+    @After
+    public void tearDown() {
+        if (_scheduler != null) {
+            _scheduler.shutdown();
+        }
+    }
+
+    @Test
+    public void singleThreadKeepsModelOrder() {
+        _scheduler = new ActivationScheduler(1);
+        ActivationScheduler.Task a = new Recording("a");
+        ActivationScheduler.Task b = new Recording("b");
+        ActivationScheduler.Task c = new Recording("c");
+        _scheduler.run(Arrays.asList(a, b, c));
+        Assert.assertEquals(Arrays.asList("a", "b", "c"), _activated);
+        Assert.assertEquals(3, _scheduler.getTimings().size());
+    }
+
+    @Test
+    public void dependenciesCompleteFirst() {
+        _scheduler = new ActivationScheduler(4);
+        ActivationScheduler.Task a = new Recording("a");
+        ActivationScheduler.Task b = new Recording("b");
+        ActivationScheduler.Task c = new Recording("c");
+        a.dependsOn(b);
+        b.dependsOn(c);
+        _scheduler.run(Arrays.asList(a, b, c));
+        Assert.assertEquals(Arrays.asList("c", "b", "a"), _activated);
+    }
+
+    @Test
+    public void cyclesAreBrokenInModelOrder() {
+        _scheduler = new ActivationScheduler(4);
+        ActivationScheduler.Task a = new Recording("a");
+        ActivationScheduler.Task b = new Recording("b");
+        a.dependsOn(b);
+        b.dependsOn(a);
+        _scheduler.run(Arrays.asList(a, b));
+        Assert.assertEquals(Arrays.asList("a", "b"), _activated);
+    }
+
+    @Test
+    public void independentActivationsRunConcurrently() {
+        _scheduler = new ActivationScheduler(3);
+        final CountDownLatch started = new CountDownLatch(3);
+        List<ActivationScheduler.Task> tasks = new ArrayList<ActivationScheduler.Task>();
+        for (int i = 0; i < 3; i++) {
+            tasks.add(_scheduler.new Task("task" + i) {
+                @Override
+                protected void activate() {
+                    started.countDown();
+                    try {
+                        // only completes if all three run at the same time
+                        if (!started.await(5, TimeUnit.SECONDS)) {
+                            throw new IllegalStateException("activations did not overlap");
+                        }
+                    } catch (InterruptedException ie) {
+                        throw new IllegalStateException(ie);
+                    }
+                }
+            });
+        }
+        _scheduler.run(tasks);
+        Assert.assertEquals(3, _scheduler.getTimings().size());
+    }
+
+    @Test
+    public void failureStopsSchedulingAndIsRethrown() {
+        _scheduler = new ActivationScheduler(2);
+        ActivationScheduler.Task failing = _scheduler.new Task("failing") {
+            @Override
+            protected void activate() {
+                throw new SwitchYardException("boom");
+            }
+        };
+        ActivationScheduler.Task dependent = new Recording("dependent");
+        dependent.dependsOn(failing);
+        try {
+            _scheduler.run(Arrays.asList(failing, dependent));
+            Assert.fail("Expected the activation failure to be rethrown");
+        } catch (SwitchYardException sye) {
+            Assert.assertEquals("boom", sye.getMessage());
+        }
+        Assert.assertTrue(_activated.isEmpty());
+    }
+
+    @Test
+    public void interruptWaitsForRunningActivations() throws Exception {
+        _scheduler = new ActivationScheduler(2);
+        final CountDownLatch started = new CountDownLatch(1);
+        final CountDownLatch release = new CountDownLatch(1);
+        ActivationScheduler.Task slow = _scheduler.new Task("slow") {
+            @Override
+            protected void activate() {
+                started.countDown();
+                try {
+                    release.await(5, TimeUnit.SECONDS);
+                } catch (InterruptedException ie) {
+                    throw new IllegalStateException(ie);
+                }
+                _activated.add(getName());
+            }
+        };
+        ActivationScheduler.Task dependent = new Recording("dependent");
+        dependent.dependsOn(slow);
+        final List<Object> outcome = Collections.synchronizedList(new ArrayList<Object>());
+        final List<ActivationScheduler.Task> tasks = Arrays.asList(slow, dependent);
+        Thread deployer = new Thread(new Runnable() {
+            @Override
+            public void run() {
+                try {
+                    _scheduler.run(tasks);
+                    outcome.add("completed");
+                } catch (SwitchYardException sye) {
+                    outcome.add(sye);
+                }
+                outcome.add(Thread.currentThread().isInterrupted());
+            }
+        });
+        deployer.start();
+        Assert.assertTrue(started.await(5, TimeUnit.SECONDS));
+        deployer.interrupt();
+        release.countDown();
+        deployer.join(5000);
+        Assert.assertFalse("Deploying thread did not return", deployer.isAlive());
+        Assert.assertTrue(outcome.get(0) instanceof SwitchYardException);
+        Assert.assertEquals(Boolean.TRUE, outcome.get(1));
+        Assert.assertEquals(Arrays.asList("slow"), _activated);
+    }
+
+    private class Recording extends ActivationScheduler.Task {
+        Recording(String name) {
+            _scheduler.super(name);
+        }
+
+        @Override
+        protected void activate() {
+            _activated.add(getName());
+        }
+    }
+}
@@ -72,6 +72,33 @@ public class DeploymentTest {
         deployment.destroy();
     }
     
+    @Test
+    public void testConcurrentActivation() throws Exception {
+        InputStream swConfigStream = Classes.getResourceAsStream("/switchyard-config-mock-01.xml", getClass());
+        Deployment deployment = new Deployment(swConfigStream);
+        swConfigStream.close();
+
+        MockDomain serviceDomain = new MockDomain();
+        serviceDomain.setProperty(Deployment.ACTIVATION_THREADS_PROPERTY, "4");
+        deployment.init(serviceDomain, ActivatorLoader.createActivators(serviceDomain));
+        deployment.start();
+
+        Assert.assertEquals(1, serviceDomain.getServices(new QName("urn:test:config-mock-binding:1.0", "TestService")).size());
+        Assert.assertEquals(1, serviceDomain.getServices(new QName("urn:test:config-mock-binding:1.0", "PromotedTestService")).size());
+        Assert.assertNotNull(deployment.getGatwayLifecycle(new QName("urn:test:config-mock-binding:1.0", "PromotedTestService"), "binding1"));
+        Assert.assertNotNull(deployment.getGatwayLifecycle(new QName("urn:test:config-mock-binding:1.0", "PromotedTestService"), "binding2"));
+        // one reference binding, two components and two service bindings
+        Assert.assertEquals(5, deployment.getActivationTimes().size());
+        Assert.assertTrue(deployment.getActivationTimes().containsKey(
+                "component {urn:test:config-mock-binding:1.0}TestService"));
+
+        ServiceRegistry registry = serviceDomain.getServiceRegistry();
+        deployment.stop();
+        Assert.assertEquals(0, registry.getServices().size());
+        Assert.assertEquals(0, registry.getServiceReferences().size());
+        deployment.destroy();
+    }
+
     @Test
     public void testComponentReferenceBinding() throws Exception {
         InputStream swConfigStream = Classes.getResourceAsStream("/switchyard-config-component-reference-binding-01.xml", getClass());
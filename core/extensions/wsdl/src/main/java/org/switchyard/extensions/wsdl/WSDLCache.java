@@ -0,0 +1,273 @@
+/*
+ * Copyright 2013 Red Hat Inc. and/or its affiliates and other contributors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * http://www.apache.org/licenses/LICENSE-2.0
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.switchyard.extensions.wsdl;
+
+import java.io.File;
+import java.io.IOException;
+import java.net.URISyntaxException;
+import java.net.URL;
+import java.net.URLConnection;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.WeakHashMap;
+
+import org.jboss.logging.Logger;
+import org.switchyard.common.type.Classes;
+
+/**
+ * A bounded cache of parsed WSDL artifacts, shared by the WSDL readers of the
+ * runtime and of the gateways.  Entries are scoped by the thread context
+ * classloader, which is the deployment classloader while an application is
+ * deployed, and are keyed by the resolved URL of the WSDL document plus a
+ * reader specific key.
+ * <p/>
+ * An entry is only returned while the modification stamps of all the
+ * documents it was built from, the WSDL document and the documents it
+ * imports, are unchanged.  Documents read over HTTP have no stamp which can
+ * be checked cheaply, so entries built from them expire after the time given
+ * by the {@value #REMOTE_TTL_PROPERTY} system property in milliseconds
+ * (default 300000); a value of 0 keeps them out of the cache.
+ * <p/>
+ * The number of entries per classloader is bounded by the
+ * {@value #MAX_ENTRIES_PROPERTY} system property (default 64); a value of 0
+ * disables the cache.  Cached artifacts are shared by every caller, so they
+ * must not be modified.
+ */
+public final class WSDLCache {
+
+    /**
+     * System property holding the maximum number of entries per classloader.
+     */
+    public static final String MAX_ENTRIES_PROPERTY = "org.switchyard.wsdl.cacheSize";
+
+    /**
+     * System property holding the time in milliseconds entries built from
+     * remote documents are kept.
+     */
+    public static final String REMOTE_TTL_PROPERTY = "org.switchyard.wsdl.cacheRemoteTtl";
+
+    private static final Logger LOGGER = Logger.getLogger(WSDLCache.class);
+    private static final int DEFAULT_MAX_ENTRIES = 64;
+    private static final long DEFAULT_REMOTE_TTL = 300000L;
+    private static final long UNKNOWN = -1L;
+    private static final long REMOTE = -2L;
+
+    private static final Map<ClassLoader, Map<String, CacheEntry>> CACHES = new WeakHashMap<ClassLoader, Map<String, CacheEntry>>();
+
+    private WSDLCache() {
+    }
+
+    /**
+     * Returns a cached artifact.
+     *
+     * @param <T> artifact type
+     * @param url resolved URL of the WSDL document
+     * @param key reader specific key, e.g. a port name
+     * @param type artifact type
+     * @return the artifact, or null if it is not cached or the document changed
+     */
+    public static <T> T get(final URL url, final String key, final Class<T> type) {
+        if (getMaxEntries() <= 0) {
+            return null;
+        }
+        String cacheKey = cacheKey(url, key);
+        CacheEntry entry;
+        synchronized (CACHES) {
+            Map<String, CacheEntry> cache = CACHES.get(getScope());
+            entry = cache != null ? cache.get(cacheKey) : null;
+        }
+        if (entry == null || !type.isInstance(entry._value)) {
+            return null;
+        }
+        if (!entry.isValid()) {
+            synchronized (CACHES) {
+                Map<String, CacheEntry> cache = CACHES.get(getScope());
+                if (cache != null && cache.get(cacheKey) == entry) {
+                    cache.remove(cacheKey);
+                }
+            }
+            LOGGER.trace("Discarding stale WSDL cache entry for '" + cacheKey + "'");
+            return null;
+        }
+        return type.cast(entry._value);
+    }
+
+    /**
+     * Caches an artifact built from a single document.  Nothing is cached if
+     * the modification stamp of the document cannot be determined.
+     *
+     * @param url resolved URL of the WSDL document
+     * @param key reader specific key, e.g. a port name
+     * @param value the artifact
+     */
+    public static void put(final URL url, final String key, final Object value) {
+        put(url, key, value, Collections.singleton(url));
+    }
+
+    /**
+     * Caches an artifact built from several documents.  Nothing is cached if
+     * the modification stamp of one of the documents cannot be determined.
+     *
+     * @param url resolved URL of the WSDL document
+     * @param key reader specific key, e.g. a port name
+     * @param value the artifact
+     * @param documents resolved URLs of all the documents the artifact was
+     * built from, including the WSDL document
+     */
+    public static void put(final URL url, final String key, final Object value, final Collection<URL> documents) {
+        final int maxEntries = getMaxEntries();
+        if (maxEntries <= 0 || value == null) {
+            return;
+        }
+        long expires = Long.MAX_VALUE;
+        List<URL> stamped = new ArrayList<URL>(documents.size());
+        List<Long> stamps = new ArrayList<Long>(documents.size());
+        for (URL document : documents) {
+            long stamp = getStamp(document);
+            if (stamp == UNKNOWN) {
+                return;
+            } else if (stamp == REMOTE) {
+                long ttl = getRemoteTtl();
+                if (ttl <= 0) {
+                    return;
+                }
+                expires = Math.min(expires, System.currentTimeMillis() + ttl);
+            } else {
+                stamped.add(document);
+                stamps.add(stamp);
+            }
+        }
+        ClassLoader scope = getScope();
+        synchronized (CACHES) {
+            Map<String, CacheEntry> cache = CACHES.get(scope);
+            if (cache == null) {
+                cache = new LinkedHashMap<String, CacheEntry>(16, 0.75f, true) {
+                    private static final long serialVersionUID = 1L;
+                    @Override
+                    protected boolean removeEldestEntry(Map.Entry<String, CacheEntry> eldest) {
+                        return size() > maxEntries;
+                    }
+                };
+                CACHES.put(scope, cache);
+            }
+            cache.put(cacheKey(url, key), new CacheEntry(stamped, stamps, expires, value));
+        }
+    }
+
+    /**
+     * Discards the entries cached for a classloader.
+     *
+     * @param loader the classloader, usually that of an undeployed application
+     */
+    public static void clear(final ClassLoader loader) {
+        synchronized (CACHES) {
+            CACHES.remove(loader);
+        }
+    }
+
+    /**
+     * Discards all entries.
+     */
+    public static void clear() {
+        synchronized (CACHES) {
+            CACHES.clear();
+        }
+    }
+
+    /**
+     * Number of entries cached for the current classloader.
+     *
+     * @return number of entries
+     */
+    static int size() {
+        synchronized (CACHES) {
+            Map<String, CacheEntry> cache = CACHES.get(getScope());
+            return cache != null ? cache.size() : 0;
+        }
+    }
+
+    private static ClassLoader getScope() {
+        ClassLoader loader = Classes.getTCCL();
+        return loader != null ? loader : WSDLCache.class.getClassLoader();
+    }
+
+    private static int getMaxEntries() {
+        return Integer.getInteger(MAX_ENTRIES_PROPERTY, DEFAULT_MAX_ENTRIES).intValue();
+    }
+
+    private static long getRemoteTtl() {
+        return Long.getLong(REMOTE_TTL_PROPERTY, DEFAULT_REMOTE_TTL).longValue();
+    }
+
+    private static String cacheKey(final URL url, final String key) {
+        return url.toExternalForm() + '#' + key;
+    }
+
+    private static long getStamp(final URL url) {
+        String protocol = url.getProtocol();
+        if ("http".equals(protocol) || "https".equals(protocol)) {
+            return REMOTE;
+        }
+        try {
+            if ("jar".equals(protocol)) {
+                // the stamp of the archive, without opening it
+                String path = url.getPath();
+                int idx = path.indexOf("!/");
+                return idx > 0 ? getStamp(new URL(path.substring(0, idx))) : UNKNOWN;
+            }
+            if ("file".equals(protocol)) {
+                File file = new File(url.toURI());
+                return file.exists() ? file.lastModified() : UNKNOWN;
+            }
+            URLConnection connection = url.openConnection();
+            return connection.getLastModified();
+        } catch (IOException ioe) {
+            return UNKNOWN;
+        } catch (URISyntaxException use) {
+            return UNKNOWN;
+        } catch (IllegalArgumentException iae) {
+            return UNKNOWN;
+        }
+    }
+
+    private static final class CacheEntry {
+        private final List<URL> _documents;
+        private final List<Long> _stamps;
+        private final long _expires;
+        private final Object _value;
+
+        private CacheEntry(List<URL> documents, List<Long> stamps, long expires, Object value) {
+            _documents = documents;
+            _stamps = stamps;
+            _expires = expires;
+            _value = value;
+        }
+
+        private boolean isValid() {
+            if (System.currentTimeMillis() >= _expires) {
+                return false;
+            }
+            for (int i = 0; i < _documents.size(); i++) {
+                if (getStamp(_documents.get(i)) != _stamps.get(i).longValue()) {
+                    return false;
+                }
+            }
+            return true;
+        }
+    }
+}
@@ -19,6 +19,7 @@ import java.io.InputStream;
 import java.net.MalformedURLException;
 import java.net.URL;
 import java.util.ArrayList;
+import java.util.Collections;
 import java.util.HashMap;
 import java.util.HashSet;
 import java.util.List;
@@ -77,9 +78,11 @@ public class WSDLReader {
     private static final QName SOAP12_BINDING = new QName(SOAP12_URI, "binding");
     private static final String DOCUMENT = "document";
     private static final String RESPONSE = "Response";
+    private static final String OPERATIONS_KEY = "operations:";
 
     private Boolean _documentStyle;
     private String _wsdlURI;
+    private final List<URL> _documents = new ArrayList<URL>();
 
     /**
      * Read the WSDL document accessible via the specified
@@ -92,6 +95,25 @@ public class WSDLReader {
      */
     public HashSet<ServiceOperation> readWSDL(final String wsdlURI, final String portName) throws WSDLReaderException {
 
+        if (_wsdlURI == null) {
+            _wsdlURI = wsdlURI;
+        }
+        URL url;
+        try {
+            url = getURL(wsdlURI);
+        } catch (MalformedURLException mue) {
+            throw WSDLExtensionsMessages.MESSAGES.unableResolveWSDL(wsdlURI, mue);
+        }
+        // the operations are immutable, so the parsed set can be shared
+        String cacheKey = OPERATIONS_KEY + portName;
+        @SuppressWarnings("unchecked")
+        Set<ServiceOperation> cached = WSDLCache.get(url, cacheKey, Set.class);
+        if (cached != null) {
+            LOGGER.trace("Using cached operations of '" + wsdlURI + "' for port '" + portName + "'");
+            return new HashSet<ServiceOperation>(cached);
+        }
+
+        _documents.clear();
         Element defEl = readWSDL(wsdlURI);
         Map<String, String> namespaces = parseNamespaces(defEl);
         Element portType = getPortType(defEl, portName, namespaces);
@@ -107,6 +129,8 @@ public class WSDLReader {
         for (int i = 0; i < size; i++) {
             ops.add(createServiceOperation(operations.get(i), parts, namespaces));
         }
+        // revalidated against the imported documents too
+        WSDLCache.put(url, cacheKey, Collections.unmodifiableSet(new HashSet<ServiceOperation>(ops)), _documents);
 
         return ops;
     }
@@ -127,6 +151,7 @@ public class WSDLReader {
             }
             LOGGER.trace("Retrieving document at '" + wsdlURI + "'");
             URL url = getURL(wsdlURI);
+            _documents.add(url);
             InputStream inputStream = url.openStream();
             InputSource inputSource = new InputSource(inputStream);
             inputSource.setSystemId(url.toString());
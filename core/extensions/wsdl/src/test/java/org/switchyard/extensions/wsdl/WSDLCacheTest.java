@@ -0,0 +1,141 @@
+/*
+ * Copyright 2013 Red Hat Inc. and/or its affiliates and other contributors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * http://www.apache.org/licenses/LICENSE-2.0
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.switchyard.extensions.wsdl;
+
+import java.io.File;
+import java.io.FileWriter;
+import java.net.URL;
+import java.net.URLClassLoader;
+import java.util.Arrays;
+import java.util.Set;
+
+import org.junit.After;
+import org.junit.Assert;
+import org.junit.Before;
+import org.junit.Test;
+import org.switchyard.common.type.Classes;
+import org.switchyard.metadata.ServiceOperation;
+
+public class WSDLCacheTest {
+
+    private static final String ORDER_WSDL = "wsdl/OrderService.wsdl";
+
+    private File _file;
+    private URL _url;
+
+    @Before
+    public void setUp() throws Exception {
+        WSDLCache.clear();
+        _file = File.createTempFile("cache", ".wsdl");
+        FileWriter writer = new FileWriter(_file);
+        writer.write("<definitions/>");
+        writer.close();
+        _url = _file.toURI().toURL();
+    }
+
+    @After
+    public void tearDown() {
+        WSDLCache.clear();
+        System.clearProperty(WSDLCache.MAX_ENTRIES_PROPERTY);
+        System.clearProperty(WSDLCache.REMOTE_TTL_PROPERTY);
+        _file.delete();
+    }
+
+    @Test
+    public void readerReusesParsedOperations() throws Exception {
+        Set<ServiceOperation> first = new WSDLReader().readWSDL(ORDER_WSDL, "OrderService");
+        Assert.assertEquals(1, WSDLCache.size());
+        Set<ServiceOperation> second = new WSDLReader().readWSDL(ORDER_WSDL, "OrderService");
+        Assert.assertEquals(first, second);
+        Assert.assertSame(first.iterator().next(), second.iterator().next());
+        // callers get their own copy of the set
+        second.clear();
+        Assert.assertEquals(1, new WSDLReader().readWSDL(ORDER_WSDL, "OrderService").size());
+    }
+
+    @Test
+    public void modifiedDocumentIsReread() throws Exception {
+        Object value = new Object();
+        WSDLCache.put(_url, "key", value);
+        Assert.assertSame(value, WSDLCache.get(_url, "key", Object.class));
+        Assert.assertNull(WSDLCache.get(_url, "key", String.class));
+        Assert.assertTrue(_file.setLastModified(_file.lastModified() - 10000));
+        Assert.assertNull(WSDLCache.get(_url, "key", Object.class));
+        Assert.assertEquals(0, WSDLCache.size());
+    }
+
+    @Test
+    public void modifiedImportIsReread() throws Exception {
+        File imported = File.createTempFile("cache", ".xsd");
+        try {
+            Object value = new Object();
+            WSDLCache.put(_url, "key", value, Arrays.asList(_url, imported.toURI().toURL()));
+            Assert.assertSame(value, WSDLCache.get(_url, "key", Object.class));
+            Assert.assertTrue(imported.setLastModified(imported.lastModified() - 10000));
+            Assert.assertNull(WSDLCache.get(_url, "key", Object.class));
+        } finally {
+            imported.delete();
+        }
+    }
+
+    @Test
+    public void remoteEntriesExpire() throws Exception {
+        URL remote = new URL("http://localhost:1/OrderService?wsdl");
+        WSDLCache.put(remote, "key", "value");
+        Assert.assertEquals("value", WSDLCache.get(remote, "key", String.class));
+        System.setProperty(WSDLCache.REMOTE_TTL_PROPERTY, "1");
+        WSDLCache.put(remote, "key", "value");
+        Thread.sleep(10);
+        Assert.assertNull(WSDLCache.get(remote, "key", String.class));
+        System.setProperty(WSDLCache.REMOTE_TTL_PROPERTY, "0");
+        WSDLCache.put(remote, "key", "value");
+        Assert.assertNull(WSDLCache.get(remote, "key", String.class));
+    }
+
+    @Test
+    public void entriesAreScopedByClassLoader() throws Exception {
+        WSDLCache.put(_url, "key", "outer");
+        ClassLoader loader = new URLClassLoader(new URL[0], getClass().getClassLoader());
+        ClassLoader original = Classes.setTCCL(loader);
+        try {
+            Assert.assertNull(WSDLCache.get(_url, "key", String.class));
+            WSDLCache.put(_url, "key", "inner");
+            Assert.assertEquals("inner", WSDLCache.get(_url, "key", String.class));
+            WSDLCache.clear(loader);
+            Assert.assertNull(WSDLCache.get(_url, "key", String.class));
+        } finally {
+            Classes.setTCCL(original);
+        }
+        Assert.assertEquals("outer", WSDLCache.get(_url, "key", String.class));
+    }
+
+    @Test
+    public void cacheIsBounded() throws Exception {
+        System.setProperty(WSDLCache.MAX_ENTRIES_PROPERTY, "2");
+        WSDLCache.put(_url, "a", "a");
+        WSDLCache.put(_url, "b", "b");
+        WSDLCache.get(_url, "a", String.class);
+        WSDLCache.put(_url, "c", "c");
+        Assert.assertEquals(2, WSDLCache.size());
+        Assert.assertNull(WSDLCache.get(_url, "b", String.class));
+        Assert.assertEquals("a", WSDLCache.get(_url, "a", String.class));
+    }
+
+    @Test
+    public void cacheCanBeDisabled() throws Exception {
+        System.setProperty(WSDLCache.MAX_ENTRIES_PROPERTY, "0");
+        WSDLCache.put(_url, "key", "value");
+        Assert.assertNull(WSDLCache.get(_url, "key", String.class));
+    }
+}
@@ -29,6 +29,7 @@ import javax.xml.transform.stream.StreamResult;
 
 import org.jboss.logging.Logger;
 import org.switchyard.Property;
+import org.switchyard.PropertyVisitor;
 import org.switchyard.common.codec.Base64;
 import org.switchyard.remote.RemoteInvoker;
 import org.switchyard.remote.RemoteMessage;
@@ -99,9 +100,14 @@ public class HttpInvoker implements RemoteInvoker {
         conn = (HttpURLConnection)_endpoint.openConnection();
         conn.setDoOutput(true);
         conn.addRequestProperty(SERVICE_HEADER, request.getService().toString());
-        for (Property prop : request.getContext().getProperties(HttpInvokerLabel.HEADER.label())) {
-            conn.addRequestProperty(prop.getName(), prop.getValue().toString());
-        }
+        final HttpURLConnection headers = conn;
+        request.getContext().visitProperties(HttpInvokerLabel.HEADER.label(), new PropertyVisitor() {
+            @Override
+            public boolean visit(Property prop) {
+                headers.addRequestProperty(prop.getName(), prop.getValue().toString());
+                return true;
+            }
+        });
         setupAuthentication(conn);
         
         conn.connect();
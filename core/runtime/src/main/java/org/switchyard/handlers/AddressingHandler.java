@@ -22,6 +22,7 @@ import org.switchyard.HandlerException;
 import org.switchyard.Service;
 import org.switchyard.ServiceDomain;
 import org.switchyard.metadata.ServiceOperation;
+import org.switchyard.policy.CachingPolicy;
 import org.switchyard.policy.Policy;
 import org.switchyard.policy.PolicyUtil;
 import org.switchyard.runtime.RuntimeMessages;
@@ -79,6 +80,9 @@ public class AddressingHandler extends BaseHandler {
         for (Policy policy : service.getServiceMetadata().getRequiredPolicies()) {
             PolicyUtil.require(exchange, policy);
         }
+        if (ResponseCacheHandler.getCaching(exchange) != null) {
+            PolicyUtil.provide(exchange, CachingPolicy.RESPONSE_CACHING);
+        }
     }
 
 }
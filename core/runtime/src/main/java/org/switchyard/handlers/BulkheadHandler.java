@@ -0,0 +1,134 @@
+/*
+ * Copyright 2013 Red Hat Inc. and/or its affiliates and other contributors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * http://www.apache.org/licenses/LICENSE-2.0
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.switchyard.handlers;
+
+import javax.xml.namespace.QName;
+
+import org.switchyard.BaseHandler;
+import org.switchyard.Exchange;
+import org.switchyard.ExchangePattern;
+import org.switchyard.ExchangePhase;
+import org.switchyard.ExchangeState;
+import org.switchyard.HandlerException;
+import org.switchyard.Property;
+import org.switchyard.Scope;
+import org.switchyard.ServiceDomain;
+import org.switchyard.label.BehaviorLabel;
+import org.switchyard.metadata.qos.Bulkhead;
+import org.switchyard.metadata.qos.Priority;
+import org.switchyard.runtime.RuntimeMessages;
+import org.switchyard.runtime.qos.BulkheadRegistry;
+import org.switchyard.runtime.qos.ConcurrencyLimiter;
+import org.switchyard.runtime.qos.ExchangePriority;
+
+/**
+ * Limits the number of exchanges in flight on a service or reference with a
+ * bulkhead.  The handler is placed on both sides of the provider: in front of
+ * it a slot is acquired, rejecting the exchange if none becomes available in
+ * time; the slot is released once the reply or fault is seen, or after the
+ * provider returns for IN_ONLY exchanges.  Exchanges waiting for a slot are
+ * served by the weight of their priority class.
+ */
+public class BulkheadHandler extends BaseHandler {
+
+    /** Exchange property holding the slot acquired for an exchange. */
+    public static final String PERMIT_PROPERTY = "org.switchyard.exchange.bulkhead.permit";
+
+    private final BulkheadRegistry _registry;
+
+    /**
+     * Create a new BulkheadHandler for the specified domain.
+     * @param domain service domain
+     */
+    public BulkheadHandler(ServiceDomain domain) {
+        _registry = BulkheadRegistry.getRegistry(domain);
+    }
+
+    @Override
+    public void handleMessage(Exchange exchange) throws HandlerException {
+        if (ExchangePhase.IN != exchange.getPhase()) {
+            release(exchange, exchange.getState() == ExchangeState.OK);
+        } else if (exchange.getContext().getProperty(PERMIT_PROPERTY, Scope.EXCHANGE) == null) {
+            acquire(exchange);
+        } else if (exchange.getPattern() == ExchangePattern.IN_ONLY) {
+            // the provider has returned, there is no reply to wait for
+            release(exchange, true);
+        }
+    }
+
+    @Override
+    public void handleFault(Exchange exchange) {
+        release(exchange, false);
+    }
+
+    private void acquire(Exchange exchange) throws HandlerException {
+        QName name = null;
+        Bulkhead bulkhead = null;
+        if (exchange.getConsumer() != null) {
+            name = exchange.getConsumer().getName();
+            bulkhead = exchange.getConsumer().getServiceMetadata().getBulkhead();
+        }
+        if (bulkhead == null && exchange.getProvider() != null) {
+            name = exchange.getProvider().getName();
+            bulkhead = exchange.getProvider().getServiceMetadata().getBulkhead();
+        }
+        if (bulkhead == null || bulkhead.getMaxConcurrent() <= 0) {
+            return;
+        }
+
+        ConcurrencyLimiter limiter = _registry.getLimiter(name, bulkhead);
+        Priority.Level level = ExchangePriority.resolve(exchange);
+        long start;
+        try {
+            start = limiter.acquire(level);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new HandlerException(e);
+        }
+        if (start < 0) {
+            throw RuntimeMessages.MESSAGES.bulkheadRejected(name.toString(), limiter.getLimit());
+        }
+        exchange.getContext().setProperty(PERMIT_PROPERTY, new Permit(limiter, start, level), Scope.EXCHANGE)
+            .addLabels(BehaviorLabel.TRANSIENT.label());
+    }
+
+    private void release(Exchange exchange, boolean success) {
+        Property permit = exchange.getContext().getProperty(PERMIT_PROPERTY, Scope.EXCHANGE);
+        if (permit != null) {
+            exchange.getContext().removeProperty(permit);
+            ((Permit) permit.getValue()).release(success);
+        }
+    }
+
+    private static final class Permit {
+        private final ConcurrencyLimiter _limiter;
+        private final long _start;
+        private final Priority.Level _level;
+        private boolean _released;
+
+        private Permit(ConcurrencyLimiter limiter, long start, Priority.Level level) {
+            _limiter = limiter;
+            _start = start;
+            _level = level;
+        }
+
+        private synchronized void release(boolean success) {
+            if (!_released) {
+                _released = true;
+                _limiter.release(_start, success, _level);
+            }
+        }
+    }
+}
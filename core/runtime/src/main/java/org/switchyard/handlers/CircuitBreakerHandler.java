@@ -0,0 +1,110 @@
+/*
+ * Copyright 2013 Red Hat Inc. and/or its affiliates and other contributors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * http://www.apache.org/licenses/LICENSE-2.0
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.switchyard.handlers;
+
+import org.switchyard.BaseHandler;
+import org.switchyard.Exchange;
+import org.switchyard.ExchangePattern;
+import org.switchyard.ExchangePhase;
+import org.switchyard.ExchangeState;
+import org.switchyard.HandlerException;
+import org.switchyard.Property;
+import org.switchyard.Scope;
+import org.switchyard.ServiceDomain;
+import org.switchyard.label.BehaviorLabel;
+import org.switchyard.metadata.qos.CircuitBreaker;
+import org.switchyard.runtime.RuntimeMessages;
+import org.switchyard.runtime.qos.Circuit;
+import org.switchyard.runtime.qos.CircuitBreakerRegistry;
+
+/**
+ * Guards a service reference with a circuit breaker.  Like the
+ * {@link BulkheadHandler} it is placed on both sides of the provider: in front
+ * of it calls are rejected while the circuit is open, and the outcome and
+ * duration of each permitted call is recorded once the reply or fault is seen,
+ * or after the provider returns for IN_ONLY exchanges.
+ */
+public class CircuitBreakerHandler extends BaseHandler {
+
+    /** Exchange property holding the call permitted by the circuit. */
+    public static final String CALL_PROPERTY = "org.switchyard.exchange.circuitBreaker.call";
+
+    private final CircuitBreakerRegistry _registry;
+
+    /**
+     * Create a new CircuitBreakerHandler for the specified domain.
+     * @param domain service domain
+     */
+    public CircuitBreakerHandler(ServiceDomain domain) {
+        _registry = CircuitBreakerRegistry.getRegistry(domain);
+    }
+
+    @Override
+    public void handleMessage(Exchange exchange) throws HandlerException {
+        if (ExchangePhase.IN != exchange.getPhase()) {
+            record(exchange, exchange.getState() == ExchangeState.OK);
+        } else if (exchange.getContext().getProperty(CALL_PROPERTY, Scope.EXCHANGE) == null) {
+            acquire(exchange);
+        } else if (exchange.getPattern() == ExchangePattern.IN_ONLY) {
+            record(exchange, true);
+        }
+    }
+
+    @Override
+    public void handleFault(Exchange exchange) {
+        record(exchange, false);
+    }
+
+    private void acquire(Exchange exchange) throws HandlerException {
+        if (exchange.getProvider() == null) {
+            return;
+        }
+        CircuitBreaker config = exchange.getProvider().getServiceMetadata().getCircuitBreaker();
+        if (config == null) {
+            return;
+        }
+        Circuit circuit = _registry.getCircuit(exchange.getProvider().getName(), config);
+        if (!circuit.tryAcquire()) {
+            throw RuntimeMessages.MESSAGES.circuitOpen(exchange.getProvider().getName().toString());
+        }
+        exchange.getContext().setProperty(CALL_PROPERTY, new Call(circuit), Scope.EXCHANGE)
+            .addLabels(BehaviorLabel.TRANSIENT.label());
+    }
+
+    private void record(Exchange exchange, boolean success) {
+        Property call = exchange.getContext().getProperty(CALL_PROPERTY, Scope.EXCHANGE);
+        if (call != null) {
+            exchange.getContext().removeProperty(call);
+            ((Call) call.getValue()).complete(success);
+        }
+    }
+
+    private static final class Call {
+        private final Circuit _circuit;
+        private final long _start = System.currentTimeMillis();
+        private boolean _completed;
+
+        private Call(Circuit circuit) {
+            _circuit = circuit;
+        }
+
+        private synchronized void complete(boolean success) {
+            if (!_completed) {
+                _completed = true;
+                _circuit.record(System.currentTimeMillis() - _start, success);
+            }
+        }
+    }
+}
@@ -0,0 +1,44 @@
+/*
+ * Copyright 2013 Red Hat Inc. and/or its affiliates and other contributors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * http://www.apache.org/licenses/LICENSE-2.0
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.switchyard.handlers;
+
+import org.switchyard.BaseHandler;
+import org.switchyard.Exchange;
+import org.switchyard.ExchangePhase;
+import org.switchyard.HandlerException;
+import org.switchyard.metadata.qos.Deadline;
+import org.switchyard.runtime.RuntimeMessages;
+
+/**
+ * Enforces the {@link Exchange#DEADLINE} of an exchange.  The deadline is set
+ * by the service reference when the gateway creates the exchange, and any
+ * exchange which reaches its provider after the deadline has passed is
+ * dropped with a fault instead of being executed.
+ */
+public class DeadlineHandler extends BaseHandler {
+
+    @Override
+    public void handleMessage(Exchange exchange) throws HandlerException {
+        if (ExchangePhase.IN != exchange.getPhase()) {
+            return;
+        }
+        Long remaining = Deadline.getRemaining(exchange);
+        if (remaining != null && remaining < 0) {
+            String name = exchange.getProvider() != null
+                    ? exchange.getProvider().getName().toString() : exchange.getConsumer().getName().toString();
+            throw RuntimeMessages.MESSAGES.deadlineExpired(name, -remaining);
+        }
+    }
+}
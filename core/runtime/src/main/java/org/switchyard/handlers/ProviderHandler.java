@@ -18,6 +18,7 @@ import java.security.PrivilegedExceptionAction;
 
 import org.switchyard.BaseHandler;
 import org.switchyard.Exchange;
+import org.switchyard.ExchangePhase;
 import org.switchyard.HandlerException;
 import org.switchyard.Service;
 import org.switchyard.ServiceDomain;
@@ -51,6 +52,10 @@ public class ProviderHandler extends BaseHandler {
      */
     @Override
     public void handleMessage(final Exchange exchange) throws HandlerException {
+        // the reply may already have been sent, e.g. from a response cache
+        if (ExchangePhase.OUT == exchange.getPhase()) {
+            return;
+        }
         final Service service = exchange.getProvider();
         ServiceSecurity serviceSecurity = service.getServiceMetadata().getSecurity();
         if (serviceSecurity != null) {
@@ -0,0 +1,133 @@
+/*
+ * Copyright 2013 Red Hat Inc. and/or its affiliates and other contributors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * http://www.apache.org/licenses/LICENSE-2.0
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,  
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.switchyard.handlers;
+
+import java.util.Arrays;
+
+import org.switchyard.BaseHandler;
+import org.switchyard.Exchange;
+import org.switchyard.ExchangePattern;
+import org.switchyard.ExchangePhase;
+import org.switchyard.ExchangeState;
+import org.switchyard.HandlerException;
+import org.switchyard.Property;
+import org.switchyard.Scope;
+import org.switchyard.ServiceDomain;
+import org.switchyard.label.BehaviorLabel;
+import org.switchyard.metadata.qos.Coalescing;
+import org.switchyard.runtime.qos.ExchangeKeys;
+import org.switchyard.runtime.qos.RequestCoalescer;
+import org.switchyard.runtime.qos.RequestCoalescer.InFlightRequest;
+
+/**
+ * Coalesces concurrent, identical IN_OUT requests.  The first request (the
+ * leader) is passed on to the provider, identical requests arriving while it
+ * is in flight wait for its reply and receive a copy of it.  If the leader
+ * faults or does not reply within the configured timeout, waiting requests are
+ * passed on to the provider themselves.
+ */
+public class RequestCoalescingHandler extends BaseHandler {
+
+    /** Exchange property holding the in-flight request of a leader. */
+    public static final String COALESCING_KEY_PROPERTY = "org.switchyard.exchange.coalescing.key";
+
+    private final RequestCoalescer _coalescer;
+
+    /**
+     * Create a new RequestCoalescingHandler for the specified domain.
+     * @param domain service domain
+     */
+    public RequestCoalescingHandler(ServiceDomain domain) {
+        _coalescer = RequestCoalescer.getCoalescer(domain);
+    }
+
+    @Override
+    public void handleMessage(Exchange exchange) throws HandlerException {
+        if (exchange.getPattern() != ExchangePattern.IN_OUT) {
+            return;
+        }
+        if (ExchangePhase.IN == exchange.getPhase()) {
+            Coalescing coalescing = getCoalescing(exchange);
+            if (coalescing != null && exchange.getProvider() != null) {
+                handleRequest(exchange, coalescing);
+            }
+        } else {
+            Object reply = exchange.getState() == ExchangeState.OK ? exchange.getMessage().getContent() : null;
+            // waiting requests share a private copy, the consumer of the leader may change its reply
+            release(exchange, ExchangeKeys.copy(reply));
+        }
+    }
+
+    @Override
+    public void handleFault(Exchange exchange) {
+        release(exchange, null);
+    }
+
+    private void handleRequest(Exchange exchange, Coalescing coalescing) throws HandlerException {
+        if (exchange.getContext().getProperty(COALESCING_KEY_PROPERTY, Scope.EXCHANGE) != null) {
+            return;
+        }
+        String operation = exchange.getContract().getProviderOperation().getName();
+        if (!coalescing.isCoalesced(operation)) {
+            return;
+        }
+        Object content = ExchangeKeys.create(exchange, operation, coalescing.getKey());
+        if (content == null) {
+            return;
+        }
+
+        Object key = Arrays.asList(exchange.getProvider().getName(), content);
+        InFlightRequest request = new InFlightRequest(key);
+        InFlightRequest inFlight = _coalescer.join(request);
+        if (inFlight == null) {
+            // leader: remember the request so the reply can be handed out
+            exchange.getContext().setProperty(COALESCING_KEY_PROPERTY, request, Scope.EXCHANGE)
+                .addLabels(BehaviorLabel.TRANSIENT.label());
+            return;
+        }
+
+        try {
+            if (!inFlight.await(coalescing.getTimeout())) {
+                _coalescer.abandon(inFlight);
+                return;
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new HandlerException(e);
+        }
+        Object reply = inFlight.getReply();
+        if (reply != null) {
+            exchange.send(exchange.createMessage().setContent(ExchangeKeys.copy(reply)));
+        }
+    }
+
+    private void release(Exchange exchange, Object reply) {
+        Property request = exchange.getContext().getProperty(COALESCING_KEY_PROPERTY, Scope.EXCHANGE);
+        if (request != null) {
+            exchange.getContext().removeProperty(request);
+            _coalescer.complete((InFlightRequest) request.getValue(), reply);
+        }
+    }
+
+    private static Coalescing getCoalescing(Exchange exchange) {
+        if (exchange.getConsumer() != null) {
+            Coalescing coalescing = exchange.getConsumer().getServiceMetadata().getCoalescing();
+            if (coalescing != null) {
+                return coalescing;
+            }
+        }
+        return exchange.getProvider() != null ? exchange.getProvider().getServiceMetadata().getCoalescing() : null;
+    }
+}
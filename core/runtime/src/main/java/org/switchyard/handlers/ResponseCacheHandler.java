@@ -0,0 +1,140 @@
+/*
+ * Copyright 2013 Red Hat Inc. and/or its affiliates and other contributors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * http://www.apache.org/licenses/LICENSE-2.0
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,  
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.switchyard.handlers;
+
+import javax.xml.namespace.QName;
+
+import org.switchyard.BaseHandler;
+import org.switchyard.Exchange;
+import org.switchyard.ExchangePattern;
+import org.switchyard.ExchangePhase;
+import org.switchyard.ExchangeState;
+import org.switchyard.HandlerException;
+import org.switchyard.Property;
+import org.switchyard.Scope;
+import org.switchyard.ServiceDomain;
+import org.switchyard.label.BehaviorLabel;
+import org.switchyard.metadata.qos.Caching;
+import org.switchyard.runtime.qos.ExchangeKeys;
+import org.switchyard.runtime.qos.ResponseCache;
+import org.switchyard.runtime.qos.ResponseCacheRegistry;
+
+/**
+ * Serves replies to IN_OUT exchanges from a response cache.  The handler sits
+ * directly in front of the provider: on the IN phase a cached reply is sent
+ * back without invoking the provider, on the OUT phase the provider's reply
+ * is stored for subsequent requests.  Caching configured on the consumer takes
+ * precedence over caching configured on the provider.
+ */
+public class ResponseCacheHandler extends BaseHandler {
+
+    /** Exchange property holding the cache key of the current request. */
+    public static final String CACHE_KEY_PROPERTY = "org.switchyard.exchange.cache.key";
+    /** Exchange property set when the reply was served from the cache. */
+    public static final String CACHE_HIT_PROPERTY = "org.switchyard.exchange.cache.hit";
+
+    private final ResponseCacheRegistry _registry;
+
+    /**
+     * Create a new ResponseCacheHandler for the specified domain.
+     * @param domain service domain
+     */
+    public ResponseCacheHandler(ServiceDomain domain) {
+        _registry = ResponseCacheRegistry.getRegistry(domain);
+    }
+
+    /**
+     * Returns the caching configuration which applies to the specified exchange.
+     * @param exchange exchange
+     * @return caching configuration, or null if replies are not cached
+     */
+    public static Caching getCaching(Exchange exchange) {
+        if (exchange.getConsumer() != null) {
+            Caching caching = exchange.getConsumer().getServiceMetadata().getCaching();
+            if (caching != null) {
+                return caching;
+            }
+        }
+        if (exchange.getProvider() != null) {
+            return exchange.getProvider().getServiceMetadata().getCaching();
+        }
+        return null;
+    }
+
+    @Override
+    public void handleMessage(Exchange exchange) throws HandlerException {
+        if (exchange.getPattern() != ExchangePattern.IN_OUT) {
+            return;
+        }
+        Caching caching = getCaching(exchange);
+        if (caching == null || exchange.getProvider() == null) {
+            return;
+        }
+
+        if (ExchangePhase.IN == exchange.getPhase()) {
+            handleRequest(exchange, caching);
+        } else if (ExchangeState.OK == exchange.getState()) {
+            handleReply(exchange, caching);
+        }
+    }
+
+    private void handleRequest(Exchange exchange, Caching caching) {
+        if (exchange.getContext().getProperty(CACHE_KEY_PROPERTY, Scope.EXCHANGE) != null) {
+            return;
+        }
+        String operation = exchange.getContract().getProviderOperation().getName();
+        if (!caching.isCached(operation)) {
+            return;
+        }
+        Object key = ExchangeKeys.create(exchange, operation, caching.getKey());
+        if (key == null) {
+            return;
+        }
+
+        ResponseCache cache = _registry.getCache(getCacheName(exchange), caching);
+        // every hit gets its own copy, the cached reply is never handed out
+        Object reply = ExchangeKeys.copy(cache.get(key));
+        exchange.getContext().setProperty(CACHE_KEY_PROPERTY, key, Scope.EXCHANGE)
+            .addLabels(BehaviorLabel.TRANSIENT.label());
+        if (reply != null) {
+            exchange.getContext().setProperty(CACHE_HIT_PROPERTY, Boolean.TRUE, Scope.EXCHANGE)
+                .addLabels(BehaviorLabel.TRANSIENT.label());
+            exchange.send(exchange.createMessage().setContent(reply));
+        }
+    }
+
+    private void handleReply(Exchange exchange, Caching caching) {
+        Property key = exchange.getContext().getProperty(CACHE_KEY_PROPERTY, Scope.EXCHANGE);
+        if (key == null || exchange.getContext().getProperty(CACHE_HIT_PROPERTY, Scope.EXCHANGE) != null) {
+            return;
+        }
+        Object reply = exchange.getMessage().getContent();
+        if (!ExchangeKeys.isShareable(reply)) {
+            return;
+        }
+        // store a copy, so the consumer changing its reply does not change the cached one
+        Object copy = ExchangeKeys.copy(reply);
+        if (copy != null) {
+            _registry.getCache(getCacheName(exchange), caching).put(key.getValue(), copy);
+        }
+    }
+
+    private QName getCacheName(Exchange exchange) {
+        if (exchange.getConsumer() != null && exchange.getConsumer().getServiceMetadata().getCaching() != null) {
+            return exchange.getConsumer().getName();
+        }
+        return exchange.getProvider().getName();
+    }
+}
@@ -21,6 +21,7 @@ import java.util.Set;
 
 import org.switchyard.Context;
 import org.switchyard.Property;
+import org.switchyard.PropertyVisitor;
 import org.switchyard.Scope;
 import org.switchyard.serial.graph.AccessType;
 import org.switchyard.serial.graph.Strategy;
@@ -105,6 +106,35 @@ public class CompositeContext implements Context {
         return properties;
     }
 
+    @Override
+    public void visitProperties(PropertyVisitor visitor) {
+        StoppableVisitor stoppable = new StoppableVisitor(visitor);
+        for (Context ctx : _contexts.values()) {
+            ctx.visitProperties(stoppable);
+            if (stoppable.isStopped()) {
+                return;
+            }
+        }
+    }
+
+    @Override
+    public void visitProperties(Scope scope, PropertyVisitor visitor) {
+        if (_contexts.containsKey(scope)) {
+            _contexts.get(scope).visitProperties(visitor);
+        }
+    }
+
+    @Override
+    public void visitProperties(String label, PropertyVisitor visitor) {
+        StoppableVisitor stoppable = new StoppableVisitor(visitor);
+        for (Context ctx : _contexts.values()) {
+            ctx.visitProperties(label, stoppable);
+            if (stoppable.isStopped()) {
+                return;
+            }
+        }
+    }
+
     @Override
     public void removeProperty(Property property) {
         for (Entry<Scope, Context> entry : _contexts.entrySet()) {
@@ -156,4 +186,25 @@ public class CompositeContext implements Context {
         return this;
     }
 
+    /**
+     * Remembers whether the visitor ended the visit, so the other contexts are skipped.
+     */
+    private static final class StoppableVisitor implements PropertyVisitor {
+        private final PropertyVisitor _visitor;
+        private boolean _stopped;
+
+        private StoppableVisitor(PropertyVisitor visitor) {
+            _visitor = visitor;
+        }
+
+        @Override
+        public boolean visit(Property property) {
+            _stopped = !_visitor.visit(property);
+            return !_stopped;
+        }
+
+        private boolean isStopped() {
+            return _stopped;
+        }
+    }
 }
@@ -38,6 +38,8 @@ public class ContextProperty implements Property {
     private Scope _scope;
     private Object _value;
     private Set<String> _labels = Collections.synchronizedSet(new TreeSet<String>());
+    // context whose label index follows the labels of this property
+    private transient DefaultContext _owner;
     
     // Private ctor used for internal serialization only
     private ContextProperty() {
@@ -92,8 +94,8 @@ public class ContextProperty implements Property {
     public Property addLabels(String... labels) {
         for (String label : labels) {
             label = normalizeLabel(label);
-            if (label != null) {
-                _labels.add(label);
+            if (label != null && _labels.add(label) && _owner != null) {
+                _owner.labelAdded(_name, label);
             }
         }
         return this;
@@ -106,8 +108,8 @@ public class ContextProperty implements Property {
     public Property addLabels(Set<String> labels) {
         for (String label : labels) {
             label = normalizeLabel(label);
-            if (label != null) {
-                _labels.add(label);
+            if (label != null && _labels.add(label) && _owner != null) {
+                _owner.labelAdded(_name, label);
             }
         }
         return this;
@@ -120,8 +122,8 @@ public class ContextProperty implements Property {
     public Property removeLabels(String... labels) {
         for (String label : labels) {
             label = normalizeLabel(label);
-            if (label != null) {
-                _labels.remove(label);
+            if (label != null && _labels.remove(label) && _owner != null) {
+                _owner.labelRemoved(_name, label);
             }
         }
         return this;
@@ -136,7 +138,15 @@ public class ContextProperty implements Property {
         return label != null && _labels.contains(label);
     }
 
-    private String normalizeLabel(String label) {
+    DefaultContext getOwner() {
+        return _owner;
+    }
+
+    void setOwner(DefaultContext owner) {
+        _owner = owner;
+    }
+
+    static String normalizeLabel(String label) {
         label = Strings.trimToNull(label);
         if (label != null) {
             label = label.toLowerCase();
@@ -13,8 +13,12 @@
  */
 package org.switchyard.internal;
 
+import java.util.ArrayList;
+import java.util.List;
+
 import org.switchyard.Context;
 import org.switchyard.Property;
+import org.switchyard.PropertyVisitor;
 import org.switchyard.Scope;
 import org.switchyard.label.BehaviorLabel;
 import org.switchyard.runtime.RuntimeMessages;
@@ -28,18 +32,29 @@ public final class ContextUtil {
 
     /**
      * Copy properties from source context to destination context. Properties with
-     * TRANSIENT label will be skipped.
+     * TRANSIENT label will be skipped.  The properties are collected before
+     * any of them is set, as the contexts may share their properties.
      * 
      * @param source Source context.
      * @param destination Destination context.
      * @return Destination context.
      */
     public static Context copy(Context source, Context destination) {
-        for (Property property : source.getProperties()) {
-            if (!property.hasLabel(BehaviorLabel.TRANSIENT.label())) {
-                destination.setProperty(property.getName(), property.getValue())
-                    .addLabels(property.getLabels());
+        if (source == destination) {
+            return destination;
+        }
+        final List<Property> copied = new ArrayList<Property>();
+        source.visitProperties(new PropertyVisitor() {
+            @Override
+            public boolean visit(Property property) {
+                if (!property.hasLabel(BehaviorLabel.TRANSIENT.label())) {
+                    copied.add(property);
+                }
+                return true;
             }
+        });
+        for (Property property : copied) {
+            destination.setProperty(property.getName(), property.getValue()).addLabels(property.getLabels());
         }
         return destination;
     }
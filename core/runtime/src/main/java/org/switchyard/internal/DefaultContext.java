@@ -16,25 +16,40 @@ package org.switchyard.internal;
 
 import static org.switchyard.internal.ContextUtil.checkScope;
 
+import java.util.ArrayList;
 import java.util.HashMap;
 import java.util.HashSet;
+import java.util.List;
 import java.util.Map;
 import java.util.Set;
 
 import org.switchyard.Context;
 import org.switchyard.Property;
+import org.switchyard.PropertyVisitor;
 import org.switchyard.Scope;
 import org.switchyard.serial.graph.AccessType;
 import org.switchyard.serial.graph.Strategy;
 
 /**
  * Base context implementation.
+ * <br><br>
+ * Label queries go through an index of property names by label.  The index
+ * is built on the first write and then kept up to date by the writes and by
+ * the properties this context owns.  While the context holds properties it
+ * cannot follow, such as properties of another implementation or properties
+ * shared with another context, label queries look at every property instead.
+ * <br><br>
+ * Like the property map, the index is only changed by writes, which include
+ * adding labels to or removing labels from an owned property.  Reads may
+ * therefore run concurrently with each other, but not with writes.
  */
 @Strategy(access=AccessType.FIELD)
 public class DefaultContext implements Context {
 
     private Scope _scope;
     private final Map<String, Property> _properties;
+    private transient Map<String, Set<String>> _labelIndex;
+    private transient int _unindexed;
 
     /**
      * Create a new DefaultContext instance using the specified property map.
@@ -74,13 +89,18 @@ public class DefaultContext implements Context {
 
     @Override
     public void removeProperties() {
+        for (Property p : _properties.values()) {
+            release(p);
+        }
         _properties.clear();
+        _labelIndex = new HashMap<String, Set<String>>();
+        _unindexed = 0;
     }
 
     @Override
     public Context setProperties(Set<Property> properties) {
         for (Property p : properties) {
-            _properties.put(p.getName(), p);
+            put(p);
         }
         return this;
     }
@@ -90,10 +110,47 @@ public class DefaultContext implements Context {
         return new HashSet<Property>(_properties.values());
     }
 
+    @Override
+    public void visitProperties(PropertyVisitor visitor) {
+        for (Property p : _properties.values()) {
+            if (!visitor.visit(p)) {
+                return;
+            }
+        }
+    }
+
+    @Override
+    public void visitProperties(Scope scope, PropertyVisitor visitor) {
+        checkScope(_scope, scope);
+        visitProperties(visitor);
+    }
+
+    @Override
+    public void visitProperties(String label, PropertyVisitor visitor) {
+        Map<String, Set<String>> index = _labelIndex;
+        if (index == null || _unindexed > 0) {
+            for (Property p : _properties.values()) {
+                if (p.hasLabel(label) && !visitor.visit(p)) {
+                    return;
+                }
+            }
+            return;
+        }
+        Set<String> names = index.get(ContextProperty.normalizeLabel(label));
+        if (names != null) {
+            for (String name : names) {
+                if (!visitor.visit(_properties.get(name))) {
+                    return;
+                }
+            }
+        }
+    }
+
     @Override
     public void removeProperty(Property property) {
         checkScope(_scope, property.getScope());
-        _properties.remove(property.getName());
+        indexProperties();
+        release(_properties.remove(property.getName()));
     }
 
     @Override
@@ -103,9 +160,7 @@ public class DefaultContext implements Context {
 
     @Override
     public Property setProperty(String name, Object val) {
-        Property p = new ContextProperty(name, _scope, val);
-        _properties.put(p.getName(), p);
-        return p;
+        return put(new ContextProperty(name, _scope, val));
     }
 
     @Override
@@ -115,21 +170,29 @@ public class DefaultContext implements Context {
 
     @Override
     public Set<Property> getProperties(String label) {
-        Set<Property> props = new HashSet<Property>();
-        for (Property p : getProperties()) {
-            if (p.hasLabel(label)) {
-                props.add(p);
+        final Set<Property> props = new HashSet<Property>();
+        visitProperties(label, new PropertyVisitor() {
+            @Override
+            public boolean visit(Property property) {
+                props.add(property);
+                return true;
             }
-        }
+        });
         return props;
     }
 
     @Override
     public void removeProperties(String label) {
-        for (Property p : getProperties()) {
-            if (p.hasLabel(label)) {
-                removeProperty(p);
+        final List<Property> props = new ArrayList<Property>();
+        visitProperties(label, new PropertyVisitor() {
+            @Override
+            public boolean visit(Property property) {
+                props.add(property);
+                return true;
             }
+        });
+        for (Property p : props) {
+            removeProperty(p);
         }
     }
 
@@ -148,15 +211,13 @@ public class DefaultContext implements Context {
     @Override
     public void removeProperties(Scope scope) {
         checkScope(_scope, scope);
-        _properties.clear();
+        removeProperties();
     }
 
     @Override
     public Property setProperty(String name, Object val, Scope scope) {
         checkScope(_scope, scope);
-        ContextProperty value = new ContextProperty(name, scope, val);
-        _properties.put(name, value);
-        return value;
+        return put(new ContextProperty(name, scope, val));
     }
 
     /**
@@ -172,4 +233,76 @@ public class DefaultContext implements Context {
     public String toString() {
         return _properties.toString();
     }
+
+    void labelAdded(String name, String label) {
+        if (_labelIndex != null) {
+            Set<String> names = _labelIndex.get(label);
+            if (names == null) {
+                names = new HashSet<String>();
+                _labelIndex.put(label, names);
+            }
+            names.add(name);
+        }
+    }
+
+    void labelRemoved(String name, String label) {
+        if (_labelIndex != null) {
+            Set<String> names = _labelIndex.get(label);
+            if (names != null && names.remove(name) && names.isEmpty()) {
+                _labelIndex.remove(label);
+            }
+        }
+    }
+
+    private <P extends Property> P put(P property) {
+        indexProperties();
+        release(_properties.put(property.getName(), property));
+        if (claim(property)) {
+            for (String label : property.getLabels()) {
+                labelAdded(property.getName(), label);
+            }
+        } else {
+            _unindexed++;
+        }
+        return property;
+    }
+
+    private boolean claim(Property property) {
+        if (property instanceof ContextProperty) {
+            ContextProperty cp = (ContextProperty) property;
+            if (cp.getOwner() == null || cp.getOwner() == this) {
+                cp.setOwner(this);
+                return true;
+            }
+        }
+        return false;
+    }
+
+    private void release(Property property) {
+        if (property instanceof ContextProperty && ((ContextProperty) property).getOwner() == this) {
+            ((ContextProperty) property).setOwner(null);
+            for (String label : property.getLabels()) {
+                labelRemoved(property.getName(), label);
+            }
+        } else if (property != null && _labelIndex != null) {
+            _unindexed--;
+        }
+    }
+
+    // builds the index on the first write, e.g. after the context was deserialized
+    private void indexProperties() {
+        if (_labelIndex == null) {
+            _labelIndex = new HashMap<String, Set<String>>();
+            _unindexed = 0;
+            for (Property p : _properties.values()) {
+                if (claim(p)) {
+                    for (String label : p.getLabels()) {
+                        labelAdded(p.getName(), label);
+                    }
+                } else {
+                    _unindexed++;
+                }
+            }
+        }
+    }
 }
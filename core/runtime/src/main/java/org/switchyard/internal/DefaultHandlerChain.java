@@ -21,10 +21,12 @@ import java.util.List;
 import org.jboss.logging.Logger;
 import org.switchyard.Exchange;
 import org.switchyard.ExchangeHandler;
+import org.switchyard.ExchangePhase;
 import org.switchyard.ExchangeState;
 import org.switchyard.HandlerException;
 import org.switchyard.Message;
 import org.switchyard.runtime.RuntimeLogger;
+import org.switchyard.runtime.timing.StageTimings;
 
 /**
  * Default handler chain.
@@ -32,6 +34,7 @@ import org.switchyard.runtime.RuntimeLogger;
 public class DefaultHandlerChain implements HandlerChain {
     private static Logger _logger = Logger.getLogger(DefaultHandlerChain.class);
     private final LinkedList<HandlerRef> _chain = new LinkedList<HandlerRef>();
+    private volatile StageTimings _timings;
     
     /**
      * Create a new handler chain with no handlers in it.
@@ -113,6 +116,16 @@ public class DefaultHandlerChain implements HandlerChain {
         return handler;
     }
 
+    /**
+     * Record the time spent in each handler of this chain.  Handlers are
+     * timed only while stage timing is enabled for the domain.
+     * @param timings stage timings of the service using this chain, or null
+     * to stop timing handlers
+     */
+    public void setStageTimings(StageTimings timings) {
+        _timings = timings;
+    }
+
     @Override
     public void handle(Exchange exchange) {
         if (exchange.getState() == ExchangeState.FAULT) {
@@ -129,7 +142,7 @@ public class DefaultHandlerChain implements HandlerChain {
                 if (_logger.isDebugEnabled()) {
                     _logger.debug("Executing Fault ExchangeHandler (" + ref + ") on message Exchange instance (" + System.identityHashCode(exchange) + ").");
                 }
-                ref.getHandler().handleFault(exchange);
+                invoke(ref, exchange, true);
             } catch (Exception e) {
                 RuntimeLogger.ROOT_LOGGER.handlerFailedHandleFault(ref.getName(), e);
             }
@@ -145,7 +158,7 @@ public class DefaultHandlerChain implements HandlerChain {
                 if (_logger.isDebugEnabled()) {
                     _logger.debug("Executing ExchangeHandler (" + ref + ") on message Exchange instance (" + System.identityHashCode(exchange) + ").");
                 }
-                ref.getHandler().handleMessage(exchange);
+                invoke(ref, exchange, false);
 
                 if (exchange.getState() == ExchangeState.FAULT) {
                     // Exchange state has changed to FAULT.
@@ -192,6 +205,29 @@ public class DefaultHandlerChain implements HandlerChain {
         return _chain.toString();
     }
 
+    private void invoke(HandlerRef ref, Exchange exchange, boolean fault) throws HandlerException {
+        StageTimings timings = _timings;
+        if (timings == null || !timings.isEnabled()) {
+            call(ref.getHandler(), exchange, fault);
+            return;
+        }
+        ExchangePhase phase = exchange.getPhase();
+        long start = System.nanoTime();
+        try {
+            call(ref.getHandler(), exchange, fault);
+        } finally {
+            timings.record(phase, ref.getName(), System.nanoTime() - start);
+        }
+    }
+
+    private static void call(ExchangeHandler handler, Exchange exchange, boolean fault) throws HandlerException {
+        if (fault) {
+            handler.handleFault(exchange);
+        } else {
+            handler.handleMessage(exchange);
+        }
+    }
+
     private synchronized List<HandlerRef> listHandlers() {
         return new LinkedList<HandlerRef>(_chain);
     }
@@ -40,6 +40,7 @@ import org.switchyard.internal.transform.BaseTransformerRegistry;
 import org.switchyard.internal.validate.BaseValidatorRegistry;
 import org.switchyard.metadata.InOutService;
 import org.switchyard.metadata.ServiceInterface;
+import org.switchyard.runtime.executor.ExecutorRegistry;
 import org.switchyard.security.service.DefaultServiceDomainSecurity;
 import org.switchyard.security.service.SecureServiceDomain;
 import org.switchyard.security.service.ServiceDomainSecurity;
@@ -220,6 +221,10 @@ public class DomainImpl implements SecureServiceDomain {
     public void destroy() {
         _exchangeBus.stop();
         _eventManager.publish(new DomainShutdownEvent(this));
+        ExecutorRegistry executors = (ExecutorRegistry) getProperty(ExecutorRegistry.DOMAIN_PROPERTY);
+        if (executors != null) {
+            executors.shutdown();
+        }
     }
 
     @Override
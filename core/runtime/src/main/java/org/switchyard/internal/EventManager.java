@@ -20,19 +20,28 @@ import java.util.LinkedList;
 import java.util.List;
 import java.util.Map;
 import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executor;
+import java.util.concurrent.RejectedExecutionException;
 
 import org.jboss.logging.Logger;
 import org.switchyard.event.EventObserver;
 import org.switchyard.event.EventPublisher;
+import org.switchyard.runtime.RuntimeLogger;
+import org.switchyard.runtime.event.ExchangeCompletionEvent;
 
 /**
  * Handles registration and publication of events in a ServiceDomain.
+ * <br><br>
+ * Events are delivered on the publishing thread unless an executor is set,
+ * in which case exchange completion events, which are published once per
+ * exchange, are delivered on the executor instead.
  */
 public class EventManager implements EventPublisher {
 
     private static Logger _logger = Logger.getLogger(EventManager.class);
     
     private Map<Class<? extends EventObject>, List<EventObserver>> _observers;
+    private volatile Executor _executor;
     
     /**
      * Creates a new instance of EventManager.
@@ -41,8 +50,47 @@ public class EventManager implements EventPublisher {
         _observers = new ConcurrentHashMap<Class<? extends EventObject>, List<EventObserver>>();
     }
     
+    /**
+     * Sets the executor delivering exchange completion events.
+     * @param executor executor, or null to deliver every event on the publishing thread
+     * @return a reference to this EventManager for chaining calls
+     */
+    public EventManager setExecutor(Executor executor) {
+        _executor = executor;
+        return this;
+    }
+
+    /**
+     * @return the executor delivering exchange completion events, or null
+     */
+    public Executor getExecutor() {
+        return _executor;
+    }
+
     @Override
-    public void publish(EventObject event) {
+    public void publish(final EventObject event) {
+        Executor executor = _executor;
+        if (executor != null && event instanceof ExchangeCompletionEvent) {
+            try {
+                executor.execute(new Runnable() {
+                    @Override
+                    public void run() {
+                        deliver(event);
+                    }
+                });
+                return;
+            } catch (RejectedExecutionException ree) {
+                RuntimeLogger.ROOT_LOGGER.eventDeliveryRejected(event.getClass().getName());
+            }
+        }
+        deliver(event);
+    }
+
+    /**
+     * Notifies the observers of an event on the current thread.
+     * @param event event to deliver
+     */
+    protected void deliver(EventObject event) {
        if (_logger.isTraceEnabled()) {
            _logger.trace("Publishing event " + event);
        }
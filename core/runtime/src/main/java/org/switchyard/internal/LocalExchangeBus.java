@@ -14,6 +14,7 @@
 
 package org.switchyard.internal;
 
+import java.util.EventObject;
 import java.util.concurrent.ConcurrentHashMap;
 
 import javax.xml.namespace.QName;
@@ -24,15 +25,24 @@ import org.switchyard.ExchangeHandler;
 import org.switchyard.ExchangePattern;
 import org.switchyard.ServiceDomain;
 import org.switchyard.ServiceReference;
+import org.switchyard.event.EventObserver;
+import org.switchyard.event.ReferenceUnregistrationEvent;
 import org.switchyard.handlers.AddressingHandler;
 import org.switchyard.handlers.PolicyHandler;
 import org.switchyard.handlers.ProviderHandler;
+import org.switchyard.handlers.BulkheadHandler;
+import org.switchyard.handlers.CircuitBreakerHandler;
+import org.switchyard.handlers.DeadlineHandler;
+import org.switchyard.handlers.RequestCoalescingHandler;
+import org.switchyard.handlers.ResponseCacheHandler;
 import org.switchyard.handlers.SecurityHandler;
 import org.switchyard.handlers.SecurityHandler.SecurityAction;
 import org.switchyard.handlers.TransactionHandler;
 import org.switchyard.handlers.TransformHandler;
 import org.switchyard.handlers.ValidateHandler;
 import org.switchyard.runtime.RuntimeMessages;
+import org.switchyard.runtime.timing.StageTimingRegistry;
+import org.switchyard.runtime.timing.StageTimings;
 import org.switchyard.spi.Dispatcher;
 import org.switchyard.spi.ExchangeBus;
 
@@ -44,8 +54,8 @@ public class LocalExchangeBus implements ExchangeBus {
     private ConcurrentHashMap<QName, Dispatcher> _dispatchers = 
         new ConcurrentHashMap<QName, Dispatcher>();
     
-    private HandlerChain _requestChain;
-    private HandlerChain _replyChain;
+    private DefaultHandlerChain _requestChain;
+    private DefaultHandlerChain _replyChain;
     private ServiceDomain _domain;
     
     /**
@@ -60,6 +70,10 @@ public class LocalExchangeBus implements ExchangeBus {
         TransactionHandler transactionHandler = new TransactionHandler();
         TransformHandler transformHandler = new TransformHandler(domain.getTransformerRegistry());
         ValidateHandler validateHandler = new ValidateHandler(domain.getValidatorRegistry());
+        ResponseCacheHandler responseCacheHandler = new ResponseCacheHandler(domain);
+        RequestCoalescingHandler requestCoalescingHandler = new RequestCoalescingHandler(domain);
+        BulkheadHandler bulkheadHandler = new BulkheadHandler(domain);
+        CircuitBreakerHandler circuitBreakerHandler = new CircuitBreakerHandler(domain);
         
         // Build out the request and reply handler chains.
         _requestChain = new DefaultHandlerChain();
@@ -70,15 +84,33 @@ public class LocalExchangeBus implements ExchangeBus {
         _requestChain.addLast("validation-before-transform", validateHandler);
         _requestChain.addLast("transformation", transformHandler);
         _requestChain.addLast("validation-after-transform", validateHandler);
+        _requestChain.addLast("response-cache", responseCacheHandler);
+        _requestChain.addLast("request-coalescing", requestCoalescingHandler);
+        _requestChain.addLast("deadline", new DeadlineHandler());
+        _requestChain.addLast("circuit-breaker-acquire", circuitBreakerHandler);
+        _requestChain.addLast("bulkhead-acquire", bulkheadHandler);
         _requestChain.addLast("provider", new ProviderHandler(_domain));
+        _requestChain.addLast("bulkhead-release", bulkheadHandler);
+        _requestChain.addLast("circuit-breaker-release", circuitBreakerHandler);
         _requestChain.addLast("security-cleanup", new SecurityHandler(_domain, SecurityAction.CLEANUP));
         _requestChain.addLast("transaction-post-invoke", transactionHandler);
         
         _replyChain = new DefaultHandlerChain();
+        _replyChain.addLast("bulkhead", bulkheadHandler);
+        _replyChain.addLast("circuit-breaker", circuitBreakerHandler);
+        _replyChain.addLast("request-coalescing", requestCoalescingHandler);
+        _replyChain.addLast("response-cache", responseCacheHandler);
         _replyChain.addLast("validation-before-transform", validateHandler);
         _replyChain.addLast("transformation", transformHandler);
         _replyChain.addLast("validation-after-transform", validateHandler);
         _replyChain.addLast(HandlerChain.CONSUMER_HANDLER, new BaseHandler());
+
+        domain.addEventObserver(new EventObserver() {
+            @Override
+            public void notify(EventObject event) {
+                dropDispatcher(((ReferenceUnregistrationEvent) event).getReference());
+            }
+        }, ReferenceUnregistrationEvent.class);
     }
 
     @Override
@@ -88,13 +120,25 @@ public class LocalExchangeBus implements ExchangeBus {
 
     @Override
     public void stop() {
+        StageTimingRegistry timings = StageTimingRegistry.getRegistry(_domain);
+        for (QName name : _dispatchers.keySet()) {
+            timings.removeTimings(name);
+        }
         _dispatchers.clear();
     }
 
     @Override
     public synchronized Dispatcher createDispatcher(ServiceReference reference) {
-        HandlerChain requestChain = _requestChain.copy();
-        HandlerChain replyChain = _replyChain.copy();
+        DefaultHandlerChain requestChain = _requestChain.copy();
+        DefaultHandlerChain replyChain = _replyChain.copy();
+        StageTimingRegistry registry = StageTimingRegistry.getRegistry(_domain);
+        if (_dispatchers.containsKey(reference.getName())) {
+            // the replaced dispatcher's timings belong to the old reference
+            registry.removeTimings(reference.getName());
+        }
+        StageTimings timings = registry.getTimings(reference.getName());
+        requestChain.setStageTimings(timings);
+        replyChain.setStageTimings(timings);
         
         Dispatcher dispatcher = new LocalDispatcher(_domain, reference, requestChain, replyChain);
         _dispatchers.put(reference.getName(), dispatcher);
@@ -107,6 +151,16 @@ public class LocalExchangeBus implements ExchangeBus {
         return _dispatchers.get(reference.getName());
     }
 
+    private void dropDispatcher(ServiceReference reference) {
+        QName name = reference.getName();
+        Dispatcher dispatcher = _dispatchers.get(name);
+        // a reference registered later under the same name keeps its dispatcher
+        if (dispatcher != null && dispatcher.getServiceReference() == reference
+                && _dispatchers.remove(name, dispatcher)) {
+            StageTimingRegistry.getRegistry(_domain).removeTimings(name);
+        }
+    }
+
 }
 
 class LocalDispatcher implements Dispatcher {
@@ -20,6 +20,7 @@ import javax.xml.namespace.QName;
 
 import org.switchyard.Exchange;
 import org.switchyard.ExchangeHandler;
+import org.switchyard.Scope;
 import org.switchyard.ServiceDomain;
 import org.switchyard.ServiceMetadata;
 import org.switchyard.ServiceReference;
@@ -27,6 +28,7 @@ import org.switchyard.event.ReferenceUnregistrationEvent;
 import org.switchyard.metadata.ServiceInterface;
 import org.switchyard.metadata.ServiceMetadataBuilder;
 import org.switchyard.metadata.ServiceOperation;
+import org.switchyard.metadata.qos.Deadline;
 import org.switchyard.policy.Policy;
 import org.switchyard.policy.PolicyUtil;
 import org.switchyard.runtime.RuntimeMessages;
@@ -123,6 +125,13 @@ public class ServiceReferenceImpl implements ServiceReference {
         Exchange ex = _dispatcher.createExchange(handler, op.getExchangePattern());
         ex.consumer(this, op);
 
+        // the deadline starts when the exchange enters the service
+        Deadline deadline = _metadata.getDeadline();
+        if (deadline != null && deadline.getTimeout() > 0) {
+            ex.getContext().setProperty(Exchange.DEADLINE,
+                    System.currentTimeMillis() + deadline.getTimeout(), Scope.EXCHANGE);
+        }
+
         // propagate the security context
         _securityContextManager.propagateContext(ex);
 
@@ -1,6 +1,7 @@
 package org.switchyard.runtime;
 
 import static org.jboss.logging.Logger.Level.ERROR;
+import static org.jboss.logging.Logger.Level.INFO;
 import static org.jboss.logging.Logger.Level.WARN;
 
 import javax.transaction.SystemException;
@@ -73,4 +74,96 @@ public interface RuntimeLogger {
     @Message(id = 13805, value = "Failed to rollback the transaction which is in STATUS_ROLLEDBACK - this was required to clean up the transaction which is aborted by Narayana transaction reaper thread. See WFLY-4327.")
     void failedToRollbackOnStatusRolledback(@Cause SystemException e);
 
+    /**
+     * virtualThreadsUnavailable method definition.
+     * @param pool thread pool name
+     */
+    @LogMessage(level = WARN)
+    @Message(id = 13806, value = "Virtual threads are not supported by this JVM, thread pool %s uses platform threads.")
+    void virtualThreadsUnavailable(String pool);
+
+    /**
+     * unableToRegisterThreadPoolMBean method definition.
+     * @param name object name
+     * @param e e
+     */
+    @LogMessage(level = WARN)
+    @Message(id = 13807, value = "Unable to register thread pool MBean %s")
+    void unableToRegisterThreadPoolMBean(String name, @Cause Exception e);
+
+    /**
+     * eventDeliveryRejected method definition.
+     * @param event event type
+     */
+    @LogMessage(level = WARN)
+    @Message(id = 13808, value = "Event executor rejected %s, delivering it on the publishing thread.")
+    void eventDeliveryRejected(String event);
+
+    /**
+     * asyncDispatchFailed method definition.
+     * @param service service name
+     * @param e e
+     */
+    @LogMessage(level = ERROR)
+    @Message(id = 13809, value = "Asynchronous dispatch of an IN_ONLY exchange for %s failed")
+    void asyncDispatchFailed(String service, @Cause Throwable e);
+
+    /**
+     * asyncDispatchWorkerRejected method definition.
+     * @param service service name
+     * @param started workers started
+     * @param workers workers configured
+     */
+    @LogMessage(level = WARN)
+    @Message(id = 13810, value = "Thread pool for the dispatch queue of %s started %d of %d workers.")
+    void asyncDispatchWorkerRejected(String service, int started, int workers);
+
+    /**
+     * journalRecordCorrupt method definition.
+     * @param segment segment file
+     * @param position position of the record in the segment
+     */
+    @LogMessage(level = WARN)
+    @Message(id = 13811, value = "Journal segment %s ends with an incomplete record at position %d, the rest of the segment is ignored.")
+    void journalRecordCorrupt(String segment, int position);
+
+    /**
+     * journalRecovered method definition.
+     * @param records number of records recovered
+     * @param directory journal directory
+     */
+    @LogMessage(level = INFO)
+    @Message(id = 13812, value = "Replaying %d journaled exchanges from %s")
+    void journalRecovered(int records, String directory);
+
+    /**
+     * journalReplayFailed method definition.
+     * @param service service name
+     * @param e e
+     */
+    @LogMessage(level = WARN)
+    @Message(id = 13813, value = "Replay of a journaled exchange for %s failed, retrying")
+    void journalReplayFailed(String service, @Cause Throwable e);
+
+    /**
+     * journalRecordDeadLettered method definition.
+     * @param service service name
+     * @param attempts number of replays
+     * @param directory dead-letter journal directory
+     * @param e e
+     */
+    @LogMessage(level = ERROR)
+    @Message(id = 13814, value = "Replay of a journaled exchange for %s failed %d times, it is moved to the dead-letter journal in %s")
+    void journalRecordDeadLettered(String service, int attempts, String directory, @Cause Throwable e);
+
+    /**
+     * journalDeadLetterFailed method definition.
+     * @param service service name
+     * @param directory dead-letter journal directory
+     * @param e e
+     */
+    @LogMessage(level = WARN)
+    @Message(id = 13815, value = "Unable to move a journaled exchange for %s to the dead-letter journal in %s, retrying")
+    void journalDeadLetterFailed(String service, String directory, @Cause Throwable e);
+
 }
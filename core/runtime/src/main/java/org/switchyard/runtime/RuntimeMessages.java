@@ -340,5 +340,84 @@ public interface RuntimeMessages {
      */
     @Message(id = 14039, value = "Transaction was already rolled back somehow. It may be caused by the transaction timeout, or application did it before SwitchYard handled it.")
     HandlerException transactionAlreadyRolledBack();
-    
+
+    /**
+     * bulkheadRejected method definition.
+     * @param name service or reference name
+     * @param limit current concurrency limit
+     * @return HandlerException
+     */
+    @Message(id = 14040, value = "Exchange rejected by the bulkhead of %s: %d exchanges in flight and the wait queue is full or timed out.")
+    HandlerException bulkheadRejected(String name, int limit);
+
+    /**
+     * circuitOpen method definition.
+     * @param name reference name
+     * @return HandlerException
+     */
+    @Message(id = 14041, value = "Exchange rejected because the circuit breaker of %s is open.")
+    HandlerException circuitOpen(String name);
+
+    /**
+     * deadlineExpired method definition.
+     * @param name service or reference name
+     * @param overdue time in milliseconds since the deadline passed
+     * @return HandlerException
+     */
+    @Message(id = 14042, value = "Exchange for %s dropped, its deadline passed %d ms ago.")
+    HandlerException deadlineExpired(String name, long overdue);
+
+    /**
+     * unknownThreadPool method definition.
+     * @param name thread pool name
+     * @return SwitchYardException
+     */
+    @Message(id = 14043, value = "No thread pool named %s is configured in the service domain.")
+    SwitchYardException unknownThreadPool(String name);
+
+    /**
+     * invalidExecutorFactory method definition.
+     * @param factory factory class name
+     * @param pool thread pool name
+     * @param e cause
+     * @return SwitchYardException
+     */
+    @Message(id = 14044, value = "Unable to create executor factory %s for thread pool %s")
+    SwitchYardException invalidExecutorFactory(String factory, String pool, @Cause Throwable e);
+
+    /**
+     * asyncDispatchQueueFull method definition.
+     * @param service service name
+     * @param capacity queue capacity
+     * @return SwitchYardException
+     */
+    @Message(id = 14045, value = "IN_ONLY exchange for %s rejected, the dispatch queue of %d exchanges is full.")
+    SwitchYardException asyncDispatchQueueFull(String service, int capacity);
+
+    /**
+     * journalOpenFailed method definition.
+     * @param directory journal directory
+     * @param e cause
+     * @return SwitchYardException
+     */
+    @Message(id = 14046, value = "Unable to open the journal in %s")
+    SwitchYardException journalOpenFailed(String directory, @Cause Throwable e);
+
+    /**
+     * journalRecordTooLarge method definition.
+     * @param size record size
+     * @param segmentSize journal segment size
+     * @return SwitchYardException
+     */
+    @Message(id = 14047, value = "Journal record of %d bytes does not fit in a journal segment of %d bytes.")
+    SwitchYardException journalRecordTooLarge(int size, int segmentSize);
+
+    /**
+     * journalClosed method definition.
+     * @param directory journal directory
+     * @return SwitchYardException
+     */
+    @Message(id = 14048, value = "The journal in %s is closed.")
+    SwitchYardException journalClosed(String directory);
+
 }
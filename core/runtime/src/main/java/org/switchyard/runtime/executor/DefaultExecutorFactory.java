@@ -0,0 +1,139 @@
+/*
+ * Copyright 2013 Red Hat Inc. and/or its affiliates and other contributors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * http://www.apache.org/licenses/LICENSE-2.0
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,  
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.switchyard.runtime.executor;
+
+import java.lang.reflect.Method;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.RejectedExecutionHandler;
+import java.util.concurrent.SynchronousQueue;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+import org.switchyard.runtime.RuntimeLogger;
+
+/**
+ * Creates a {@link ThreadPoolExecutor} from the pool settings, or a
+ * virtual-thread-per-task executor when virtual threads are requested and the
+ * JVM provides them.  Virtual thread executors have no pool or queue, so the
+ * size and queue settings do not apply to them.
+ */
+public class DefaultExecutorFactory implements ExecutorFactory {
+
+    private static final Method NEW_VIRTUAL_THREAD_EXECUTOR;
+
+    static {
+        Method method = null;
+        try {
+            method = Executors.class.getMethod("newVirtualThreadPerTaskExecutor");
+        } catch (Exception e) {
+            // virtual threads are not available on this JVM
+            method = null;
+        }
+        NEW_VIRTUAL_THREAD_EXECUTOR = method;
+    }
+
+    /**
+     * @return true if the JVM supports virtual threads
+     */
+    public static boolean isVirtualThreadsSupported() {
+        return NEW_VIRTUAL_THREAD_EXECUTOR != null;
+    }
+
+    @Override
+    public ExecutorService createExecutor(ThreadPoolConfig config, ThreadFactory threadFactory) {
+        if (config.isVirtualThreads()) {
+            if (NEW_VIRTUAL_THREAD_EXECUTOR != null) {
+                try {
+                    return (ExecutorService) NEW_VIRTUAL_THREAD_EXECUTOR.invoke(null);
+                } catch (Exception e) {
+                    RuntimeLogger.ROOT_LOGGER.virtualThreadsUnavailable(config.getName());
+                }
+            } else {
+                RuntimeLogger.ROOT_LOGGER.virtualThreadsUnavailable(config.getName());
+            }
+        }
+
+        BlockingQueue<Runnable> queue;
+        switch (config.getQueueType()) {
+        case SYNCHRONOUS:
+            queue = new SynchronousQueue<Runnable>();
+            break;
+        case UNBOUNDED:
+            queue = new LinkedBlockingQueue<Runnable>();
+            break;
+        default:
+            queue = new ArrayBlockingQueue<Runnable>(Math.max(1, config.getQueueSize()));
+            break;
+        }
+        ThreadPoolExecutor executor = new ThreadPoolExecutor(config.getCoreSize(), config.getMaxSize(),
+                config.getKeepAlive(), TimeUnit.MILLISECONDS, queue, threadFactory,
+                new CountingRejectionHandler(createRejectionHandler(config.getRejectionPolicy())));
+        return executor;
+    }
+
+    /**
+     * Returns the number of tasks rejected by an executor created by this factory.
+     * @param executor executor
+     * @return number of rejected tasks, or -1 if the executor does not count them
+     */
+    public static long getRejectedCount(ExecutorService executor) {
+        if (executor instanceof ThreadPoolExecutor) {
+            RejectedExecutionHandler handler = ((ThreadPoolExecutor) executor).getRejectedExecutionHandler();
+            if (handler instanceof CountingRejectionHandler) {
+                return ((CountingRejectionHandler) handler).getCount();
+            }
+        }
+        return -1;
+    }
+
+    private static RejectedExecutionHandler createRejectionHandler(ThreadPoolConfig.RejectionPolicy policy) {
+        switch (policy) {
+        case CALLER_RUNS:
+            return new ThreadPoolExecutor.CallerRunsPolicy();
+        case DISCARD:
+            return new ThreadPoolExecutor.DiscardPolicy();
+        case DISCARD_OLDEST:
+            return new ThreadPoolExecutor.DiscardOldestPolicy();
+        default:
+            return new ThreadPoolExecutor.AbortPolicy();
+        }
+    }
+
+    private static final class CountingRejectionHandler implements RejectedExecutionHandler {
+
+        private final RejectedExecutionHandler _delegate;
+        private final AtomicLong _count = new AtomicLong();
+
+        CountingRejectionHandler(RejectedExecutionHandler delegate) {
+            _delegate = delegate;
+        }
+
+        long getCount() {
+            return _count.get();
+        }
+
+        @Override
+        public void rejectedExecution(Runnable task, ThreadPoolExecutor executor) {
+            _count.incrementAndGet();
+            _delegate.rejectedExecution(task, executor);
+        }
+    }
+}
@@ -0,0 +1,435 @@
+/*
+ * Copyright 2013 Red Hat Inc. and/or its affiliates and other contributors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * http://www.apache.org/licenses/LICENSE-2.0
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,  
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.switchyard.runtime.executor;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.Executor;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.locks.Condition;
+import java.util.concurrent.locks.ReentrantLock;
+
+import javax.management.ObjectName;
+import javax.xml.namespace.QName;
+
+import org.switchyard.ServiceDomain;
+import org.switchyard.metadata.qos.AsyncDispatch;
+import org.switchyard.metadata.qos.Priority;
+import org.switchyard.runtime.RuntimeLogger;
+import org.switchyard.runtime.RuntimeMessages;
+import org.switchyard.runtime.qos.PriorityStatistics;
+import org.switchyard.runtime.qos.WeightedFairQueue;
+
+/**
+ * A bounded queue of IN_ONLY dispatches to one service, worked off by a
+ * fixed number of worker threads.  The workers run on the domain thread pool
+ * named by the {@link AsyncDispatch} configuration, or on a pool of their own
+ * registered in the domain {@link ExecutorRegistry}, and hold their threads
+ * until the queue is stopped.
+ * <br><br>
+ * When the queue is full a dispatch waits for room, fails or runs on the
+ * sending thread, depending on the configured overflow handling.  Queue
+ * depth and the time exchanges spend queued are published as a
+ * {@link DispatchQueueMXBean}.
+ * <br><br>
+ * Dispatches carry the priority class of their exchange and are taken off
+ * the queue by weighted fair queuing between the classes, so background
+ * traffic only gets the workers' leftover capacity while latency sensitive
+ * traffic is waiting.  Queue times are also published per class.
+ */
+public class DispatchQueue implements DispatchQueueMXBean {
+
+    /** Prefix of the names of the pools created for queues without a configured pool. */
+    public static final String THREAD_POOL_PREFIX = "AsyncDispatch-";
+
+    private static final long POLL_INTERVAL = 500;
+
+    private final QName _service;
+    private final AsyncDispatch _config;
+    private final ReentrantLock _lock = new ReentrantLock();
+    private final Condition _notEmpty = _lock.newCondition();
+    private final Condition _notFull = _lock.newCondition();
+    private final WeightedFairQueue<Task> _queue = new WeightedFairQueue<Task>();
+    private final int _capacity;
+    private final PriorityStatistics _ages = new PriorityStatistics();
+    private final ExecutorRegistry _registry;
+    private final AtomicInteger _workers = new AtomicInteger();
+    private final AtomicInteger _pending = new AtomicInteger();
+    private final AtomicLong _enqueued = new AtomicLong();
+    private final AtomicLong _dispatched = new AtomicLong();
+    private final AtomicLong _rejected = new AtomicLong();
+    private final AtomicLong _callerRuns = new AtomicLong();
+    private final AtomicLong _totalAge = new AtomicLong();
+    private final AtomicLong _maxAge = new AtomicLong();
+    private ObjectName _objectName;
+    private volatile boolean _stopped;
+
+    /**
+     * Creates a dispatch queue and starts its workers.
+     * @param domain service domain
+     * @param service name of the service the queue dispatches to
+     * @param config asynchronous dispatch configuration
+     */
+    public DispatchQueue(ServiceDomain domain, QName service, AsyncDispatch config) {
+        this(ExecutorRegistry.getRegistry(domain), service, config);
+    }
+
+    DispatchQueue(ExecutorRegistry registry, QName service, AsyncDispatch config) {
+        _registry = registry;
+        _service = service;
+        _config = config;
+        _capacity = Math.max(1, config.getQueueSize());
+        start(workerExecutor(registry, service, config));
+        _objectName = _registry.registerMBean("DispatchQueue", null, service, this);
+    }
+
+    static Executor workerExecutor(ExecutorRegistry registry, QName service, AsyncDispatch config) {
+        if (config.getThreadPool() != null) {
+            return registry.getExecutor(config.getThreadPool(), service);
+        }
+        String name = THREAD_POOL_PREFIX + service;
+        if (!registry.hasThreadPool(name)) {
+            int workers = Math.max(1, config.getWorkers());
+            registry.register(new ThreadPoolConfig(name).setCoreSize(workers).setMaxSize(workers)
+                    .setQueueType(ThreadPoolConfig.QueueType.SYNCHRONOUS));
+        }
+        return registry.getExecutor(name);
+    }
+
+    private void start(Executor executor) {
+        int workers = Math.max(1, _config.getWorkers());
+        for (int i = 0; i < workers; i++) {
+            try {
+                executor.execute(new Worker());
+                _workers.incrementAndGet();
+            } catch (RejectedExecutionException ree) {
+                RuntimeLogger.ROOT_LOGGER.asyncDispatchWorkerRejected(_service.toString(), i, workers);
+                break;
+            }
+        }
+    }
+
+    /**
+     * Queues a dispatch of normal priority.
+     * @param task the dispatch
+     * @return true if the task was queued, false if it ran on the sending thread
+     * @throws org.switchyard.SwitchYardException if the queue is full and the
+     * overflow handling is to reject, or a blocked send timed out
+     * @see #dispatch(Runnable, Priority.Level)
+     */
+    public boolean dispatch(Runnable task) {
+        return dispatch(task, Priority.Level.NORMAL);
+    }
+
+    /**
+     * Queues a dispatch.  The task runs on the sending thread when the queue
+     * is full and the overflow handling is caller-runs, or when the queue has
+     * no worker to run it.
+     * @param task the dispatch
+     * @param level priority class of the exchange dispatched
+     * @return true if the task was queued, false if it ran on the sending thread
+     * @throws org.switchyard.SwitchYardException if the queue is full and the
+     * overflow handling is to reject, or a blocked send timed out
+     */
+    public boolean dispatch(Runnable task, Priority.Level level) {
+        if (_stopped || _workers.get() == 0) {
+            task.run();
+            return false;
+        }
+        Task queued = new Task(task, level);
+        boolean accepted;
+        _pending.incrementAndGet();
+        switch (_config.getOverflow()) {
+        case BLOCK:
+            try {
+                accepted = offer(queued, _config.getOverflowTimeout() > 0
+                        ? TimeUnit.MILLISECONDS.toNanos(_config.getOverflowTimeout()) : -1);
+            } catch (InterruptedException ie) {
+                Thread.currentThread().interrupt();
+                accepted = false;
+            }
+            break;
+        case CALLER_RUNS:
+            accepted = offer(queued);
+            if (!accepted) {
+                _pending.decrementAndGet();
+                _callerRuns.incrementAndGet();
+                task.run();
+                return false;
+            }
+            break;
+        default:
+            accepted = offer(queued);
+            break;
+        }
+        if (!accepted) {
+            _pending.decrementAndGet();
+            _rejected.incrementAndGet();
+            throw RuntimeMessages.MESSAGES.asyncDispatchQueueFull(_service.toString(), _config.getQueueSize());
+        }
+        _enqueued.incrementAndGet();
+        return true;
+    }
+
+    /**
+     * Stops the queue.  Workers dispatch the exchanges already queued and then
+     * return their threads; later dispatches run on the sending thread.
+     * @param timeout time in milliseconds to wait for the queued exchanges
+     * @return true if the queued exchanges were dispatched within the timeout
+     */
+    public boolean stop(long timeout) {
+        _stopped = true;
+        _registry.unregisterMBean(_objectName);
+        _objectName = null;
+        long deadline = System.currentTimeMillis() + timeout;
+        while (_pending.get() > 0) {
+            if (_workers.get() == 0 || System.currentTimeMillis() >= deadline) {
+                return false;
+            }
+            try {
+                Thread.sleep(10);
+            } catch (InterruptedException ie) {
+                Thread.currentThread().interrupt();
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * @return the asynchronous dispatch configuration of this queue
+     */
+    public AsyncDispatch getConfig() {
+        return _config;
+    }
+
+    @Override
+    public String getService() {
+        return _service.toString();
+    }
+
+    @Override
+    public int getCapacity() {
+        return _config.getQueueSize();
+    }
+
+    @Override
+    public int getDepth() {
+        _lock.lock();
+        try {
+            return _queue.size();
+        } finally {
+            _lock.unlock();
+        }
+    }
+
+    @Override
+    public Map<String, Integer> getDepthByPriority() {
+        Map<String, Integer> depths = new LinkedHashMap<String, Integer>();
+        _lock.lock();
+        try {
+            for (Priority.Level level : Priority.Level.values()) {
+                depths.put(level.name(), _queue.size(level));
+            }
+        } finally {
+            _lock.unlock();
+        }
+        return depths;
+    }
+
+    @Override
+    public long getOldestAge() {
+        long oldest = 0;
+        long now = System.nanoTime();
+        _lock.lock();
+        try {
+            for (Priority.Level level : Priority.Level.values()) {
+                Task task = _queue.peek(level);
+                if (task != null) {
+                    oldest = Math.max(oldest, now - task._enqueued);
+                }
+            }
+        } finally {
+            _lock.unlock();
+        }
+        return TimeUnit.NANOSECONDS.toMillis(oldest);
+    }
+
+    @Override
+    public long getMaxAge() {
+        return TimeUnit.NANOSECONDS.toMillis(_maxAge.get());
+    }
+
+    @Override
+    public long getMeanAge() {
+        long dispatched = _dispatched.get();
+        return dispatched == 0 ? 0 : TimeUnit.NANOSECONDS.toMillis(_totalAge.get() / dispatched);
+    }
+
+    @Override
+    public Map<String, Long> getMeanAgeByPriority() {
+        return _ages.getMeans();
+    }
+
+    /**
+     * @return the time dispatches waited in the queue, per priority class
+     */
+    public PriorityStatistics getAgeStatistics() {
+        return _ages;
+    }
+
+    @Override
+    public int getWorkers() {
+        return _workers.get();
+    }
+
+    @Override
+    public long getEnqueuedCount() {
+        return _enqueued.get();
+    }
+
+    @Override
+    public long getDispatchedCount() {
+        return _dispatched.get();
+    }
+
+    @Override
+    public long getRejectedCount() {
+        return _rejected.get();
+    }
+
+    @Override
+    public long getCallerRunsCount() {
+        return _callerRuns.get();
+    }
+
+    @Override
+    public void resetAges() {
+        _maxAge.set(0);
+        _totalAge.set(0);
+        _ages.reset();
+    }
+
+    private boolean offer(Task task) {
+        _lock.lock();
+        try {
+            if (_queue.size() >= _capacity) {
+                return false;
+            }
+            _queue.offer(task._level, task);
+            _notEmpty.signal();
+            return true;
+        } finally {
+            _lock.unlock();
+        }
+    }
+
+    private boolean offer(Task task, long timeout) throws InterruptedException {
+        _lock.lockInterruptibly();
+        try {
+            long remaining = timeout;
+            while (_queue.size() >= _capacity) {
+                if (timeout < 0) {
+                    _notFull.await();
+                } else if (remaining <= 0) {
+                    return false;
+                } else {
+                    remaining = _notFull.awaitNanos(remaining);
+                }
+            }
+            _queue.offer(task._level, task);
+            _notEmpty.signal();
+            return true;
+        } finally {
+            _lock.unlock();
+        }
+    }
+
+    private Task poll(long timeout) throws InterruptedException {
+        _lock.lockInterruptibly();
+        try {
+            long remaining = TimeUnit.MILLISECONDS.toNanos(timeout);
+            while (_queue.size() == 0) {
+                if (remaining <= 0) {
+                    return null;
+                }
+                remaining = _notEmpty.awaitNanos(remaining);
+            }
+            Task task = _queue.poll();
+            _notFull.signal();
+            return task;
+        } finally {
+            _lock.unlock();
+        }
+    }
+
+    private void record(long age) {
+        _totalAge.addAndGet(age);
+        long max = _maxAge.get();
+        while (age > max && !_maxAge.compareAndSet(max, age)) {
+            max = _maxAge.get();
+        }
+    }
+
+    private static final class Task {
+        private final Runnable _task;
+        private final Priority.Level _level;
+        private final long _enqueued = System.nanoTime();
+
+        Task(Runnable task, Priority.Level level) {
+            _task = task;
+            _level = level;
+        }
+    }
+
+    private final class Worker implements Runnable {
+        @Override
+        public void run() {
+            try {
+                while (true) {
+                    Task task;
+                    try {
+                        task = poll(POLL_INTERVAL);
+                    } catch (InterruptedException ie) {
+                        // the pool is shutting down
+                        return;
+                    }
+                    if (task == null) {
+                        if (_stopped) {
+                            return;
+                        }
+                        continue;
+                    }
+                    long age = System.nanoTime() - task._enqueued;
+                    record(age);
+                    _ages.record(task._level, age);
+                    try {
+                        task._task.run();
+                    } catch (Throwable t) {
+                        RuntimeLogger.ROOT_LOGGER.asyncDispatchFailed(_service.toString(), t);
+                    } finally {
+                        _dispatched.incrementAndGet();
+                        _pending.decrementAndGet();
+                    }
+                }
+            } finally {
+                _workers.decrementAndGet();
+            }
+        }
+    }
+}
@@ -0,0 +1,93 @@
+/*
+ * Copyright 2013 Red Hat Inc. and/or its affiliates and other contributors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * http://www.apache.org/licenses/LICENSE-2.0
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,  
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.switchyard.runtime.executor;
+
+import java.util.Map;
+
+/**
+ * Management interface of a {@link DispatchQueue}.
+ */
+public interface DispatchQueueMXBean {
+
+    /**
+     * @return name of the service the queue dispatches to
+     */
+    String getService();
+
+    /**
+     * @return capacity of the queue
+     */
+    int getCapacity();
+
+    /**
+     * @return number of exchanges waiting in the queue
+     */
+    int getDepth();
+
+    /**
+     * @return number of exchanges waiting in the queue, keyed by priority class
+     */
+    Map<String, Integer> getDepthByPriority();
+
+    /**
+     * @return time in milliseconds the oldest waiting exchange has been queued, 0 if the queue is empty
+     */
+    long getOldestAge();
+
+    /**
+     * @return longest time in milliseconds an exchange waited in the queue
+     */
+    long getMaxAge();
+
+    /**
+     * @return mean time in milliseconds exchanges waited in the queue
+     */
+    long getMeanAge();
+
+    /**
+     * @return mean time in milliseconds exchanges waited in the queue, keyed by priority class
+     */
+    Map<String, Long> getMeanAgeByPriority();
+
+    /**
+     * @return number of worker threads taking exchanges off the queue
+     */
+    int getWorkers();
+
+    /**
+     * @return number of exchanges put on the queue
+     */
+    long getEnqueuedCount();
+
+    /**
+     * @return number of exchanges taken off the queue and dispatched
+     */
+    long getDispatchedCount();
+
+    /**
+     * @return number of exchanges rejected because the queue was full
+     */
+    long getRejectedCount();
+
+    /**
+     * @return number of exchanges dispatched on the sending thread because the queue was full
+     */
+    long getCallerRunsCount();
+
+    /**
+     * Resets the age statistics.
+     */
+    void resetAges();
+}
@@ -0,0 +1,35 @@
+/*
+ * Copyright 2013 Red Hat Inc. and/or its affiliates and other contributors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * http://www.apache.org/licenses/LICENSE-2.0
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,  
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package org.switchyard.runtime.executor;
+
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.ThreadFactory;
+
+/**
+ * Creates the executors of an {@link ExecutorRegistry}.  A custom factory is
+ * selected with the factory attribute of a thread pool and needs a public
+ * no-argument constructor.
+ */
+public interface ExecutorFactory {
+
+    /**
+     * Creates an executor.
+     * @param config pool settings
+     * @param threadFactory factory naming the threads of the pool
+     * @return executor
+     */
+    ExecutorService createExecutor(ThreadPoolConfig config, ThreadFactory threadFactory);
+}
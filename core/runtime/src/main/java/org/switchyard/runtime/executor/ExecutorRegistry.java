@@ -0,0 +1,375 @@
+/*
+ * Copyright 2013 Red Hat Inc. and/or its affiliates and other contributors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * http://www.apache.org/licenses/LICENSE-2.0
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,  
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.switchyard.runtime.executor;
+
+import java.lang.management.ManagementFactory;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import javax.management.MBeanServer;
+import javax.management.ObjectName;
+import javax.xml.namespace.QName;
+
+import org.switchyard.ServiceDomain;
+import org.switchyard.common.type.Classes;
+import org.switchyard.runtime.RuntimeLogger;
+import org.switchyard.runtime.RuntimeMessages;
+
+/**
+ * Holds the named thread pools of a service domain.  Pools are configured in
+ * the domain section of switchyard.xml and created on first use; a pool
+ * configured per service gives every service asking for it an executor of
+ * its own, so a slow service cannot starve the others.  Each executor is
+ * registered as a {@link ThreadPoolMXBean} under {@link #OBJECT_NAME_DOMAIN}.
+ * <br><br>
+ * The registry is stored as a domain property, like the other domain-wide
+ * registries, and is shut down with the domain.
+ */
+public class ExecutorRegistry {
+
+    /** Domain property holding the registry. */
+    public static final String DOMAIN_PROPERTY = "org.switchyard.runtime.executor.executorRegistry";
+
+    /** Domain property naming the pool which delivers exchange completion events. */
+    public static final String EVENT_THREAD_POOL = "org.switchyard.events.threadPool";
+
+    /** JMX domain of the thread pool MBeans. */
+    public static final String OBJECT_NAME_DOMAIN = "org.switchyard";
+
+    private final String _domainName;
+    private final Map<String, ThreadPoolConfig> _configs = new ConcurrentHashMap<String, ThreadPoolConfig>();
+    private final Map<String, ExecutorService> _executors = new ConcurrentHashMap<String, ExecutorService>();
+    private final Map<String, ObjectName> _executorMBeans = new ConcurrentHashMap<String, ObjectName>();
+    private final List<ObjectName> _mbeans = new ArrayList<ObjectName>();
+    private volatile boolean _shutdown;
+
+    ExecutorRegistry(ServiceDomain domain) {
+        _domainName = domain == null || domain.getName() == null ? null : domain.getName().toString();
+    }
+
+    /**
+     * Returns the registry for the specified domain, creating it if necessary.
+     * @param domain service domain
+     * @return executor registry
+     */
+    public static ExecutorRegistry getRegistry(ServiceDomain domain) {
+        synchronized (domain) {
+            ExecutorRegistry registry = (ExecutorRegistry) domain.getProperty(DOMAIN_PROPERTY);
+            if (registry == null) {
+                registry = new ExecutorRegistry(domain);
+                domain.setProperty(DOMAIN_PROPERTY, registry);
+            }
+            return registry;
+        }
+    }
+
+    /**
+     * Adds a thread pool to the registry, replacing the settings of a pool
+     * with the same name which has not been used yet.
+     * @param config pool settings
+     * @return this registry (useful for chaining)
+     */
+    public ExecutorRegistry register(ThreadPoolConfig config) {
+        _configs.put(config.getName(), config);
+        return this;
+    }
+
+    /**
+     * @param name pool name
+     * @return true if a pool with this name is configured
+     */
+    public boolean hasThreadPool(String name) {
+        return _configs.containsKey(name);
+    }
+
+    /**
+     * @param name pool name
+     * @return the settings of the pool, or null if there is no such pool
+     */
+    public ThreadPoolConfig getConfig(String name) {
+        return _configs.get(name);
+    }
+
+    /**
+     * @return names of the configured pools
+     */
+    public Set<String> getThreadPoolNames() {
+        return Collections.unmodifiableSet(_configs.keySet());
+    }
+
+    /**
+     * Returns the shared executor of a pool.  A pool configured per service
+     * still has a shared executor, used by callers that are not a service.
+     * @param name pool name
+     * @return executor
+     * @throws org.switchyard.SwitchYardException if there is no such pool
+     */
+    public ExecutorService getExecutor(String name) {
+        return getExecutor(name, null);
+    }
+
+    /**
+     * Returns the executor of a pool for a service.  Services share the
+     * executor unless the pool is configured per service.
+     * @param name pool name
+     * @param service service name, may be null
+     * @return executor
+     * @throws org.switchyard.SwitchYardException if there is no such pool
+     */
+    public ExecutorService getExecutor(String name, QName service) {
+        ThreadPoolConfig config = _configs.get(name);
+        if (config == null) {
+            throw RuntimeMessages.MESSAGES.unknownThreadPool(name);
+        }
+        if (!config.isPerService()) {
+            service = null;
+        }
+        String key = service == null ? name : name + '/' + service;
+        ExecutorService executor = _executors.get(key);
+        if (executor == null) {
+            synchronized (this) {
+                executor = _executors.get(key);
+                if (executor == null) {
+                    executor = createExecutor(config, service, key);
+                    _executors.put(key, executor);
+                }
+            }
+        }
+        return executor;
+    }
+
+    /**
+     * Removes a thread pool, shutting down its executors and unregistering
+     * their MBeans.  Tasks already submitted are allowed to complete.  Used
+     * by components which register a pool for an endpoint of their own, once
+     * the endpoint stops.
+     * @param name pool name
+     */
+    public synchronized void remove(String name) {
+        _configs.remove(name);
+        Iterator<Map.Entry<String, ExecutorService>> executors = _executors.entrySet().iterator();
+        while (executors.hasNext()) {
+            Map.Entry<String, ExecutorService> entry = executors.next();
+            String key = entry.getKey();
+            if (key.equals(name) || key.startsWith(name + '/')) {
+                executors.remove();
+                entry.getValue().shutdown();
+                unregisterMBean(_executorMBeans.remove(key));
+            }
+        }
+    }
+
+    /**
+     * Shuts down every executor and unregisters their MBeans.  Tasks already
+     * submitted are allowed to complete.
+     */
+    public synchronized void shutdown() {
+        _shutdown = true;
+        for (ExecutorService executor : _executors.values()) {
+            executor.shutdown();
+        }
+        _executors.clear();
+        _executorMBeans.clear();
+        MBeanServer server = ManagementFactory.getPlatformMBeanServer();
+        for (ObjectName name : _mbeans) {
+            try {
+                if (server.isRegistered(name)) {
+                    server.unregisterMBean(name);
+                }
+            } catch (Exception e) {
+                // the MBean is gone already
+                continue;
+            }
+        }
+        _mbeans.clear();
+    }
+
+    /**
+     * @return true if the registry has been shut down
+     */
+    public boolean isShutdown() {
+        return _shutdown;
+    }
+
+    private ExecutorService createExecutor(ThreadPoolConfig config, QName service, String key) {
+        ExecutorFactory factory;
+        if (config.getFactory() != null) {
+            try {
+                factory = (ExecutorFactory) Classes.forName(config.getFactory(), getClass()).newInstance();
+            } catch (Throwable t) {
+                throw RuntimeMessages.MESSAGES.invalidExecutorFactory(config.getFactory(), config.getName(), t);
+            }
+        } else {
+            factory = new DefaultExecutorFactory();
+        }
+        String prefix = "SwitchYard-" + config.getName() + (service != null ? "-" + service.getLocalPart() : "");
+        ExecutorService executor = factory.createExecutor(config, new NamedThreadFactory(prefix));
+        ObjectName mbean = registerMBean("ThreadPool", config.getName(), service,
+            new ThreadPoolMonitor(config, service, executor));
+        if (mbean != null) {
+            _executorMBeans.put(key, mbean);
+        }
+        return executor;
+    }
+
+    /**
+     * Registers an MBean of this domain, which is unregistered when the
+     * registry shuts down.
+     * @param type MBean type
+     * @param name MBean name, may be null
+     * @param service service the MBean belongs to, may be null
+     * @param mbean the MBean
+     * @return the object name, or null if the MBean could not be registered
+     */
+    synchronized ObjectName registerMBean(String type, String name, QName service, Object mbean) {
+        StringBuilder objectName = new StringBuilder(OBJECT_NAME_DOMAIN).append(":type=").append(type);
+        if (_domainName != null) {
+            objectName.append(",domain=").append(ObjectName.quote(_domainName));
+        }
+        if (name != null) {
+            objectName.append(",name=").append(ObjectName.quote(name));
+        }
+        if (service != null) {
+            objectName.append(",service=").append(ObjectName.quote(service.toString()));
+        }
+        try {
+            MBeanServer server = ManagementFactory.getPlatformMBeanServer();
+            ObjectName registered = new ObjectName(objectName.toString());
+            if (!server.isRegistered(registered)) {
+                server.registerMBean(mbean, registered);
+                _mbeans.add(registered);
+                return registered;
+            }
+        } catch (Exception e) {
+            RuntimeLogger.ROOT_LOGGER.unableToRegisterThreadPoolMBean(objectName.toString(), e);
+        }
+        return null;
+    }
+
+    /**
+     * Unregisters an MBean registered with {@link #registerMBean}.
+     * @param name object name
+     */
+    synchronized void unregisterMBean(ObjectName name) {
+        if (name != null && _mbeans.remove(name)) {
+            try {
+                ManagementFactory.getPlatformMBeanServer().unregisterMBean(name);
+            } catch (Exception e) {
+                // the MBean is gone already
+                return;
+            }
+        }
+    }
+
+    private static final class NamedThreadFactory implements ThreadFactory {
+
+        private final String _prefix;
+        private final AtomicInteger _count = new AtomicInteger();
+
+        NamedThreadFactory(String prefix) {
+            _prefix = prefix;
+        }
+
+        @Override
+        public Thread newThread(Runnable task) {
+            Thread thread = new Thread(task, _prefix + "-" + _count.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        }
+    }
+
+    private static final class ThreadPoolMonitor implements ThreadPoolMXBean {
+
+        private final ThreadPoolConfig _config;
+        private final QName _service;
+        private final ExecutorService _executor;
+
+        ThreadPoolMonitor(ThreadPoolConfig config, QName service, ExecutorService executor) {
+            _config = config;
+            _service = service;
+            _executor = executor;
+        }
+
+        private ThreadPoolExecutor pool() {
+            return _executor instanceof ThreadPoolExecutor ? (ThreadPoolExecutor) _executor : null;
+        }
+
+        @Override
+        public String getName() {
+            return _config.getName();
+        }
+
+        @Override
+        public String getService() {
+            return _service == null ? null : _service.toString();
+        }
+
+        @Override
+        public int getCoreSize() {
+            ThreadPoolExecutor pool = pool();
+            return pool != null ? pool.getCorePoolSize() : -1;
+        }
+
+        @Override
+        public int getMaxSize() {
+            ThreadPoolExecutor pool = pool();
+            return pool != null ? pool.getMaximumPoolSize() : -1;
+        }
+
+        @Override
+        public int getPoolSize() {
+            ThreadPoolExecutor pool = pool();
+            return pool != null ? pool.getPoolSize() : -1;
+        }
+
+        @Override
+        public int getActiveCount() {
+            ThreadPoolExecutor pool = pool();
+            return pool != null ? pool.getActiveCount() : -1;
+        }
+
+        @Override
+        public int getLargestPoolSize() {
+            ThreadPoolExecutor pool = pool();
+            return pool != null ? pool.getLargestPoolSize() : -1;
+        }
+
+        @Override
+        public int getQueueSize() {
+            ThreadPoolExecutor pool = pool();
+            return pool != null ? pool.getQueue().size() : -1;
+        }
+
+        @Override
+        public long getCompletedTaskCount() {
+            ThreadPoolExecutor pool = pool();
+            return pool != null ? pool.getCompletedTaskCount() : -1;
+        }
+
+        @Override
+        public long getRejectedTaskCount() {
+            return DefaultExecutorFactory.getRejectedCount(_executor);
+        }
+    }
+}
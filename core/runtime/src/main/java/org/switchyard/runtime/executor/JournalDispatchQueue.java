@@ -0,0 +1,313 @@
+/*
+ * Copyright 2013 Red Hat Inc. and/or its affiliates and other contributors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * http://www.apache.org/licenses/LICENSE-2.0
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.switchyard.runtime.executor;
+
+import java.io.File;
+import java.io.IOException;
+import java.util.concurrent.Executor;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+import javax.management.ObjectName;
+import javax.xml.namespace.QName;
+
+import org.switchyard.ServiceDomain;
+import org.switchyard.metadata.qos.AsyncDispatch;
+import org.switchyard.runtime.RuntimeLogger;
+import org.switchyard.runtime.RuntimeMessages;
+import org.switchyard.runtime.journal.Journal;
+
+/**
+ * The journaled counterpart of a {@link DispatchQueue}.  Dispatches are
+ * serialized records written to a {@link Journal} in the directory named by
+ * the {@link AsyncDispatch} configuration, so a burst is bounded by disk
+ * rather than by memory, and workers replay them through a
+ * {@link RecordHandler} at the rate the service sustains.
+ * <br><br>
+ * A record is acknowledged once its handler returns; when the handler throws
+ * the record is retried with a growing pause between attempts.  After the
+ * configured number of attempts the record is moved to a dead-letter journal
+ * in the {@link #DEAD_LETTER_DIRECTORY} subdirectory of the journal and
+ * acknowledged, so a record which never succeeds does not stall its worker.
+ * Records not acknowledged when the queue stops are replayed when a queue is
+ * opened on the same journal again, so a record may be replayed more than
+ * once and its attempts are counted again from the start.
+ */
+public class JournalDispatchQueue implements JournalDispatchQueueMXBean {
+
+    /** Subdirectory of the journal holding records whose replay kept failing. */
+    public static final String DEAD_LETTER_DIRECTORY = "dead-letter";
+
+    private static final long POLL_INTERVAL = 500;
+    private static final long RETRY_INTERVAL = 1000;
+    private static final long MAX_RETRY_INTERVAL = 60000;
+
+    private final QName _service;
+    private final RecordHandler _handler;
+    private final Journal _journal;
+    private final AsyncDispatch _config;
+    private Journal _deadLetters;
+    private final ExecutorRegistry _registry;
+    private final AtomicInteger _workers = new AtomicInteger();
+    private final AtomicLong _journaled = new AtomicLong();
+    private final AtomicLong _dispatched = new AtomicLong();
+    private final AtomicLong _retried = new AtomicLong();
+    private final AtomicLong _deadLettered = new AtomicLong();
+    private ObjectName _objectName;
+    private volatile boolean _stopped;
+
+    /**
+     * Replays a journaled dispatch.
+     */
+    public interface RecordHandler {
+        /**
+         * Dispatches a record read from the journal.
+         * @param record the record
+         * @throws Exception the dispatch failed and should be retried
+         */
+        void handle(byte[] record) throws Exception;
+    }
+
+    /**
+     * Opens the journal of a service and starts the workers replaying it.
+     * @param domain service domain
+     * @param service name of the service the queue dispatches to
+     * @param config asynchronous dispatch configuration with a journal directory
+     * @param handler handler replaying the records
+     */
+    public JournalDispatchQueue(ServiceDomain domain, QName service, AsyncDispatch config, RecordHandler handler) {
+        this(ExecutorRegistry.getRegistry(domain), service, config, handler);
+    }
+
+    JournalDispatchQueue(ExecutorRegistry registry, QName service, AsyncDispatch config, RecordHandler handler) {
+        _registry = registry;
+        _service = service;
+        _handler = handler;
+        _config = config;
+        File directory = getDirectory(config, service);
+        try {
+            _journal = new Journal(directory, config.getJournalSegmentSize(), config.isJournalSync());
+        } catch (IOException ioe) {
+            throw RuntimeMessages.MESSAGES.journalOpenFailed(directory.getPath(), ioe);
+        }
+        if (_journal.getPending() > 0) {
+            RuntimeLogger.ROOT_LOGGER.journalRecovered(_journal.getPending(), directory.getPath());
+        }
+        start(DispatchQueue.workerExecutor(registry, service, config), Math.max(1, config.getWorkers()));
+        _objectName = _registry.registerMBean("JournalDispatchQueue", null, service, this);
+    }
+
+    /**
+     * Returns the journal directory of a service, a subdirectory of the
+     * configured journal directory named after the service.
+     * @param config asynchronous dispatch configuration
+     * @param service service name
+     * @return journal directory
+     */
+    public static File getDirectory(AsyncDispatch config, QName service) {
+        return new File(config.getJournal(), service.toString().replaceAll("[^A-Za-z0-9._-]", "_"));
+    }
+
+    private void start(Executor executor, int workers) {
+        for (int i = 0; i < workers; i++) {
+            try {
+                executor.execute(new Worker());
+                _workers.incrementAndGet();
+            } catch (RejectedExecutionException ree) {
+                RuntimeLogger.ROOT_LOGGER.asyncDispatchWorkerRejected(_service.toString(), i, workers);
+                break;
+            }
+        }
+    }
+
+    /**
+     * Writes a dispatch to the journal.
+     * @param record the serialized dispatch
+     * @throws org.switchyard.SwitchYardException the record could not be written
+     */
+    public void dispatch(byte[] record) {
+        _journal.append(record);
+        _journaled.incrementAndGet();
+    }
+
+    /**
+     * Stops the queue.  Workers finish the records they are replaying and
+     * return their threads, and the journal is closed with the records not
+     * replayed yet.
+     * @param timeout time in milliseconds to wait for the workers
+     * @return true if the workers stopped within the timeout
+     */
+    public boolean stop(long timeout) {
+        _stopped = true;
+        _registry.unregisterMBean(_objectName);
+        _objectName = null;
+        long deadline = System.currentTimeMillis() + timeout;
+        boolean stopped = true;
+        while (_workers.get() > 0) {
+            if (System.currentTimeMillis() >= deadline) {
+                stopped = false;
+                break;
+            }
+            try {
+                Thread.sleep(10);
+            } catch (InterruptedException ie) {
+                Thread.currentThread().interrupt();
+                stopped = false;
+                break;
+            }
+        }
+        _journal.close();
+        synchronized (this) {
+            if (_deadLetters != null) {
+                _deadLetters.close();
+                _deadLetters = null;
+            }
+        }
+        return stopped;
+    }
+
+    @Override
+    public String getService() {
+        return _service.toString();
+    }
+
+    @Override
+    public String getDirectory() {
+        return _journal.getDirectory().getPath();
+    }
+
+    @Override
+    public int getPending() {
+        return _journal.getPending();
+    }
+
+    @Override
+    public int getDepth() {
+        return _journal.getUnread();
+    }
+
+    @Override
+    public int getSegments() {
+        return _journal.getSegmentCount();
+    }
+
+    @Override
+    public int getWorkers() {
+        return _workers.get();
+    }
+
+    @Override
+    public long getJournaledCount() {
+        return _journaled.get();
+    }
+
+    @Override
+    public long getDispatchedCount() {
+        return _dispatched.get();
+    }
+
+    @Override
+    public long getRetriedCount() {
+        return _retried.get();
+    }
+
+    @Override
+    public long getDeadLetteredCount() {
+        return _deadLettered.get();
+    }
+
+    private boolean deadLetter(Journal.Record record, int attempts, Throwable cause) {
+        File directory = new File(_journal.getDirectory(), DEAD_LETTER_DIRECTORY);
+        try {
+            synchronized (this) {
+                if (_stopped) {
+                    return false;
+                }
+                if (_deadLetters == null) {
+                    _deadLetters = new Journal(directory, _config.getJournalSegmentSize(), _config.isJournalSync());
+                }
+                _deadLetters.append(record.getPayload());
+            }
+        } catch (Exception e) {
+            RuntimeLogger.ROOT_LOGGER.journalDeadLetterFailed(_service.toString(), directory.getPath(), e);
+            return false;
+        }
+        _deadLettered.incrementAndGet();
+        RuntimeLogger.ROOT_LOGGER.journalRecordDeadLettered(_service.toString(), attempts, directory.getPath(), cause);
+        return true;
+    }
+
+    private boolean pause(long timeout) {
+        long deadline = System.currentTimeMillis() + timeout;
+        long remaining;
+        while (!_stopped && (remaining = deadline - System.currentTimeMillis()) > 0) {
+            try {
+                Thread.sleep(Math.min(remaining, POLL_INTERVAL));
+            } catch (InterruptedException ie) {
+                return false;
+            }
+        }
+        return !_stopped;
+    }
+
+    private final class Worker implements Runnable {
+        @Override
+        public void run() {
+            try {
+                while (!_stopped) {
+                    Journal.Record record;
+                    try {
+                        record = _journal.poll(POLL_INTERVAL);
+                    } catch (InterruptedException ie) {
+                        // the pool is shutting down
+                        return;
+                    }
+                    if (record == null) {
+                        continue;
+                    }
+                    if (!replay(record)) {
+                        // left in the journal for the next start
+                        return;
+                    }
+                    _journal.ack(record);
+                }
+            } finally {
+                _workers.decrementAndGet();
+            }
+        }
+
+        private boolean replay(Journal.Record record) {
+            int maxAttempts = _config.getJournalMaxAttempts();
+            int attempts = 0;
+            while (true) {
+                try {
+                    _handler.handle(record.getPayload());
+                    _dispatched.incrementAndGet();
+                    return true;
+                } catch (Throwable t) {
+                    attempts++;
+                    if (maxAttempts > 0 && attempts >= maxAttempts && deadLetter(record, attempts, t)) {
+                        return true;
+                    }
+                    _retried.incrementAndGet();
+                    RuntimeLogger.ROOT_LOGGER.journalReplayFailed(_service.toString(), t);
+                }
+                if (!pause(Math.min(RETRY_INTERVAL << Math.min(attempts - 1, 6), MAX_RETRY_INTERVAL))) {
+                    return false;
+                }
+            }
+        }
+    }
+}
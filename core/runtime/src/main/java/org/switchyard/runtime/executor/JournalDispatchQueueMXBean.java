@@ -0,0 +1,72 @@
+/*
+ * Copyright 2013 Red Hat Inc. and/or its affiliates and other contributors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * http://www.apache.org/licenses/LICENSE-2.0
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,  
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.switchyard.runtime.executor;
+
+/**
+ * Management interface of a {@link JournalDispatchQueue}.
+ */
+public interface JournalDispatchQueueMXBean {
+
+    /**
+     * @return name of the service the queue dispatches to
+     */
+    String getService();
+
+    /**
+     * @return directory of the journal
+     */
+    String getDirectory();
+
+    /**
+     * @return number of journaled exchanges not dispatched yet
+     */
+    int getPending();
+
+    /**
+     * @return number of journaled exchanges no worker has taken yet
+     */
+    int getDepth();
+
+    /**
+     * @return number of segment files holding exchanges not dispatched yet
+     */
+    int getSegments();
+
+    /**
+     * @return number of worker threads replaying exchanges from the journal
+     */
+    int getWorkers();
+
+    /**
+     * @return number of exchanges written to the journal
+     */
+    long getJournaledCount();
+
+    /**
+     * @return number of exchanges replayed from the journal and dispatched
+     */
+    long getDispatchedCount();
+
+    /**
+     * @return number of replays that failed and were retried
+     */
+    long getRetriedCount();
+
+    /**
+     * @return number of exchanges moved to the dead-letter journal after
+     * their last replay attempt failed
+     */
+    long getDeadLetteredCount();
+}
@@ -0,0 +1,289 @@
+/*
+ * Copyright 2013 Red Hat Inc. and/or its affiliates and other contributors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * http://www.apache.org/licenses/LICENSE-2.0
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,  
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package org.switchyard.runtime.executor;
+
+/**
+ * Settings of a named thread pool managed by an {@link ExecutorRegistry}.
+ */
+public class ThreadPoolConfig {
+
+    /** Default number of core threads. */
+    public static final int DEFAULT_CORE_SIZE = 10;
+    /** Default keep alive of idle threads above the core size, in milliseconds. */
+    public static final long DEFAULT_KEEP_ALIVE = 60000L;
+    /** Default capacity of a bounded queue. */
+    public static final int DEFAULT_QUEUE_SIZE = 1000;
+
+    /**
+     * Queue holding tasks while all threads are busy.
+     */
+    public enum QueueType {
+        /** A queue with a fixed capacity. */
+        BOUNDED("bounded"),
+        /** A queue without capacity limit; the pool never grows past its core size. */
+        UNBOUNDED("unbounded"),
+        /** No queue; tasks are handed directly to a thread. */
+        SYNCHRONOUS("synchronous");
+
+        private final String _value;
+
+        QueueType(String value) {
+            _value = value;
+        }
+
+        /**
+         * Returns the queue type with the specified configuration value.
+         * @param value configuration value, may be null
+         * @return queue type, BOUNDED if the value is null
+         */
+        public static QueueType fromValue(String value) {
+            if (value == null) {
+                return BOUNDED;
+            }
+            for (QueueType type : values()) {
+                if (type._value.equalsIgnoreCase(value)) {
+                    return type;
+                }
+            }
+            throw new IllegalArgumentException(value);
+        }
+
+        @Override
+        public String toString() {
+            return _value;
+        }
+    }
+
+    /**
+     * What happens to a task submitted to a saturated pool.
+     */
+    public enum RejectionPolicy {
+        /** The submitter gets a RejectedExecutionException. */
+        ABORT("abort"),
+        /** The task runs on the submitting thread. */
+        CALLER_RUNS("callerRuns"),
+        /** The task is dropped. */
+        DISCARD("discard"),
+        /** The oldest queued task is dropped. */
+        DISCARD_OLDEST("discardOldest");
+
+        private final String _value;
+
+        RejectionPolicy(String value) {
+            _value = value;
+        }
+
+        /**
+         * Returns the policy with the specified configuration value.
+         * @param value configuration value, may be null
+         * @return rejection policy, ABORT if the value is null
+         */
+        public static RejectionPolicy fromValue(String value) {
+            if (value == null) {
+                return ABORT;
+            }
+            for (RejectionPolicy policy : values()) {
+                if (policy._value.equalsIgnoreCase(value)) {
+                    return policy;
+                }
+            }
+            throw new IllegalArgumentException(value);
+        }
+
+        @Override
+        public String toString() {
+            return _value;
+        }
+    }
+
+    private final String _name;
+    private int _coreSize = DEFAULT_CORE_SIZE;
+    private Integer _maxSize;
+    private long _keepAlive = DEFAULT_KEEP_ALIVE;
+    private QueueType _queueType = QueueType.BOUNDED;
+    private int _queueSize = DEFAULT_QUEUE_SIZE;
+    private RejectionPolicy _rejectionPolicy = RejectionPolicy.ABORT;
+    private boolean _perService;
+    private boolean _virtualThreads;
+    private String _factory;
+
+    /**
+     * Creates a new thread pool configuration.
+     * @param name pool name
+     */
+    public ThreadPoolConfig(String name) {
+        _name = name;
+    }
+
+    /**
+     * @return pool name
+     */
+    public String getName() {
+        return _name;
+    }
+
+    /**
+     * @return number of core threads
+     */
+    public int getCoreSize() {
+        return _coreSize;
+    }
+
+    /**
+     * @param coreSize number of core threads
+     * @return this config (useful for chaining)
+     */
+    public ThreadPoolConfig setCoreSize(int coreSize) {
+        _coreSize = coreSize;
+        return this;
+    }
+
+    /**
+     * @return maximum number of threads, the core size unless set
+     */
+    public int getMaxSize() {
+        return _maxSize != null ? Math.max(_maxSize, _coreSize) : _coreSize;
+    }
+
+    /**
+     * @param maxSize maximum number of threads
+     * @return this config (useful for chaining)
+     */
+    public ThreadPoolConfig setMaxSize(int maxSize) {
+        _maxSize = maxSize;
+        return this;
+    }
+
+    /**
+     * @return keep alive of idle threads above the core size, in milliseconds
+     */
+    public long getKeepAlive() {
+        return _keepAlive;
+    }
+
+    /**
+     * @param keepAlive keep alive of idle threads above the core size, in milliseconds
+     * @return this config (useful for chaining)
+     */
+    public ThreadPoolConfig setKeepAlive(long keepAlive) {
+        _keepAlive = keepAlive;
+        return this;
+    }
+
+    /**
+     * @return queue type
+     */
+    public QueueType getQueueType() {
+        return _queueType;
+    }
+
+    /**
+     * @param queueType queue type
+     * @return this config (useful for chaining)
+     */
+    public ThreadPoolConfig setQueueType(QueueType queueType) {
+        _queueType = queueType;
+        return this;
+    }
+
+    /**
+     * @return capacity of a bounded queue
+     */
+    public int getQueueSize() {
+        return _queueSize;
+    }
+
+    /**
+     * @param queueSize capacity of a bounded queue
+     * @return this config (useful for chaining)
+     */
+    public ThreadPoolConfig setQueueSize(int queueSize) {
+        _queueSize = queueSize;
+        return this;
+    }
+
+    /**
+     * @return rejection policy
+     */
+    public RejectionPolicy getRejectionPolicy() {
+        return _rejectionPolicy;
+    }
+
+    /**
+     * @param rejectionPolicy rejection policy
+     * @return this config (useful for chaining)
+     */
+    public ThreadPoolConfig setRejectionPolicy(RejectionPolicy rejectionPolicy) {
+        _rejectionPolicy = rejectionPolicy;
+        return this;
+    }
+
+    /**
+     * @return true if each service gets a pool of its own with these settings
+     */
+    public boolean isPerService() {
+        return _perService;
+    }
+
+    /**
+     * @param perService true if each service gets a pool of its own with these settings
+     * @return this config (useful for chaining)
+     */
+    public ThreadPoolConfig setPerService(boolean perService) {
+        _perService = perService;
+        return this;
+    }
+
+    /**
+     * @return true if tasks should run on virtual threads when the JVM supports them
+     */
+    public boolean isVirtualThreads() {
+        return _virtualThreads;
+    }
+
+    /**
+     * @param virtualThreads true if tasks should run on virtual threads when the JVM supports them
+     * @return this config (useful for chaining)
+     */
+    public ThreadPoolConfig setVirtualThreads(boolean virtualThreads) {
+        _virtualThreads = virtualThreads;
+        return this;
+    }
+
+    /**
+     * @return class name of the {@link ExecutorFactory} creating the pool, or null for the default
+     */
+    public String getFactory() {
+        return _factory;
+    }
+
+    /**
+     * @param factory class name of the {@link ExecutorFactory} creating the pool
+     * @return this config (useful for chaining)
+     */
+    public ThreadPoolConfig setFactory(String factory) {
+        _factory = factory;
+        return this;
+    }
+
+    @Override
+    public String toString() {
+        return "ThreadPoolConfig [name=" + _name + ", coreSize=" + _coreSize + ", maxSize=" + getMaxSize()
+                + ", keepAlive=" + _keepAlive + ", queueType=" + _queueType + ", queueSize=" + _queueSize
+                + ", rejectionPolicy=" + _rejectionPolicy + ", perService=" + _perService
+                + ", virtualThreads=" + _virtualThreads + "]";
+    }
+}
@@ -0,0 +1,72 @@
+/*
+ * Copyright 2013 Red Hat Inc. and/or its affiliates and other contributors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * http://www.apache.org/licenses/LICENSE-2.0
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,  
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.switchyard.runtime.executor;
+
+/**
+ * Management interface of a thread pool in an {@link ExecutorRegistry}.
+ * Counts which the executor does not track are reported as -1.
+ */
+public interface ThreadPoolMXBean {
+
+    /**
+     * @return pool name
+     */
+    String getName();
+
+    /**
+     * @return name of the service the pool is dedicated to, or null for a shared pool
+     */
+    String getService();
+
+    /**
+     * @return number of core threads
+     */
+    int getCoreSize();
+
+    /**
+     * @return maximum number of threads
+     */
+    int getMaxSize();
+
+    /**
+     * @return current number of threads
+     */
+    int getPoolSize();
+
+    /**
+     * @return number of threads running tasks
+     */
+    int getActiveCount();
+
+    /**
+     * @return largest number of threads the pool has had
+     */
+    int getLargestPoolSize();
+
+    /**
+     * @return number of tasks waiting in the queue
+     */
+    int getQueueSize();
+
+    /**
+     * @return number of completed tasks
+     */
+    long getCompletedTaskCount();
+
+    /**
+     * @return number of rejected tasks
+     */
+    long getRejectedTaskCount();
+}
@@ -0,0 +1,493 @@
+/*
+ * Copyright 2013 Red Hat Inc. and/or its affiliates and other contributors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * http://www.apache.org/licenses/LICENSE-2.0
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.switchyard.runtime.journal;
+
+import java.io.File;
+import java.io.FileFilter;
+import java.io.IOException;
+import java.io.RandomAccessFile;
+import java.nio.ByteBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.LinkedList;
+import java.util.List;
+import java.util.zip.CRC32;
+
+import org.switchyard.runtime.RuntimeLogger;
+import org.switchyard.runtime.RuntimeMessages;
+
+/**
+ * An append-only log of records kept in memory-mapped segment files.
+ * <br><br>
+ * Records are read back in the order they were appended and stay in the
+ * journal until they are acknowledged, so records that were appended but not
+ * acknowledged when the journal was closed, or when the process died, are
+ * read again when the journal is reopened.  A segment whose records have all
+ * been read and acknowledged is recycled for later appends; it is zeroed by
+ * the reading thread outside the journal lock, so appends never wait for a
+ * segment to be cleared.
+ * <br><br>
+ * A segment starts with a header holding its sequence number; each record is
+ * its size, the CRC-32 of its payload and the payload.  The size is written
+ * last, so a record torn by a crash is never read, and it is negated when
+ * the record is acknowledged.  Unless the journal is synchronous, records
+ * reach the disk when the operating system writes the mapped pages back,
+ * which survives a crash of the process but not of the operating system.
+ */
+public class Journal {
+
+    /** Suffix of segment file names. */
+    public static final String SEGMENT_SUFFIX = ".journal";
+
+    private static final int MAGIC = 0x53594a4c;
+    private static final int SEGMENT_HEADER_SIZE = 12;
+    private static final int RECORD_HEADER_SIZE = 8;
+    private static final int SPARE_SEGMENTS = 2;
+
+    private final File _directory;
+    private final int _segmentSize;
+    private final boolean _sync;
+    private final LinkedList<Segment> _segments = new LinkedList<Segment>();
+    private final LinkedList<Segment> _spare = new LinkedList<Segment>();
+    private final LinkedList<Segment> _recycled = new LinkedList<Segment>();
+    private int _clearing;
+    private Segment _write;
+    private Segment _read;
+    private int _readPosition;
+    private long _nextSequence;
+    private int _nextFile;
+    private int _pending;
+    private int _unread;
+    private boolean _closed;
+
+    /**
+     * Opens a journal, creating the directory if it does not exist.  Records
+     * left in the directory by an earlier journal are read first.
+     * @param directory directory of the segment files
+     * @param segmentSize size in bytes of a segment file
+     * @param sync true if appends and acknowledgements are forced to disk
+     * @throws IOException the directory or a segment could not be opened
+     */
+    public Journal(File directory, int segmentSize, boolean sync) throws IOException {
+        _directory = directory;
+        _segmentSize = segmentSize;
+        _sync = sync;
+        if (!directory.isDirectory() && !directory.mkdirs()) {
+            throw new IOException("Unable to create directory " + directory);
+        }
+        recover();
+        clearRecycled();
+    }
+
+    /**
+     * Appends a record.
+     * @param payload record content
+     * @throws org.switchyard.SwitchYardException the record does not fit in a
+     * segment, a new segment could not be created or the journal is closed
+     */
+    public synchronized void append(byte[] payload) {
+        if (_closed) {
+            throw RuntimeMessages.MESSAGES.journalClosed(_directory.getPath());
+        }
+        int size = RECORD_HEADER_SIZE + payload.length;
+        if (size > _segmentSize - SEGMENT_HEADER_SIZE) {
+            throw RuntimeMessages.MESSAGES.journalRecordTooLarge(payload.length, _segmentSize);
+        }
+        if (_write == null || _write._limit + size > _write.capacity()) {
+            roll();
+        }
+        Segment segment = _write;
+        int position = segment._limit;
+        CRC32 crc = new CRC32();
+        crc.update(payload);
+        segment._buffer.putInt(position + 4, (int) crc.getValue());
+        ByteBuffer content = segment._buffer.duplicate();
+        content.position(position + RECORD_HEADER_SIZE);
+        content.put(payload);
+        segment._buffer.putInt(position, size);
+        if (_sync) {
+            segment._buffer.force();
+        }
+        segment._limit = position + size;
+        segment._outstanding++;
+        _pending++;
+        _unread++;
+        notifyAll();
+    }
+
+    /**
+     * Reads the next record, waiting for one to be appended if all records
+     * have been read.
+     * @param timeout time in milliseconds to wait for a record
+     * @return the record, or null if none was appended within the timeout or
+     * the journal is closed
+     * @throws InterruptedException the thread was interrupted while waiting
+     */
+    public Record poll(long timeout) throws InterruptedException {
+        try {
+            return take(timeout);
+        } finally {
+            clearRecycled();
+        }
+    }
+
+    /**
+     * Acknowledges a record, so it is not read again when the journal is
+     * reopened.
+     * @param record a record read from this journal
+     */
+    public void ack(Record record) {
+        acknowledge(record);
+        clearRecycled();
+    }
+
+    private synchronized Record take(long timeout) throws InterruptedException {
+        long deadline = System.currentTimeMillis() + timeout;
+        while (!_closed) {
+            Record record = next();
+            if (record != null) {
+                return record;
+            }
+            long remaining = deadline - System.currentTimeMillis();
+            if (remaining <= 0) {
+                return null;
+            }
+            wait(remaining);
+        }
+        return null;
+    }
+
+    private synchronized void acknowledge(Record record) {
+        Segment segment = record._segment;
+        if (_closed || segment._sequence != record._sequence) {
+            return;
+        }
+        int size = segment._buffer.getInt(record._position);
+        if (size <= 0) {
+            return;
+        }
+        segment._buffer.putInt(record._position, -size);
+        if (_sync) {
+            segment._buffer.force();
+        }
+        segment._outstanding--;
+        _pending--;
+        release(segment);
+    }
+
+    /**
+     * Closes the journal.  Records not acknowledged stay in the segment files.
+     */
+    public synchronized void close() {
+        if (_closed) {
+            return;
+        }
+        _closed = true;
+        for (Segment segment : _segments) {
+            segment._buffer.force();
+        }
+        _segments.clear();
+        _spare.clear();
+        _recycled.clear();
+        _write = null;
+        _read = null;
+        notifyAll();
+    }
+
+    /**
+     * @return the directory of the segment files
+     */
+    public File getDirectory() {
+        return _directory;
+    }
+
+    /**
+     * @return the number of records not acknowledged yet
+     */
+    public synchronized int getPending() {
+        return _pending;
+    }
+
+    /**
+     * @return the number of records not read yet
+     */
+    public synchronized int getUnread() {
+        return _unread;
+    }
+
+    /**
+     * @return the number of segments holding records not acknowledged yet
+     */
+    public synchronized int getSegmentCount() {
+        return _segments.size();
+    }
+
+    /**
+     * @return true if the journal is closed
+     */
+    public synchronized boolean isClosed() {
+        return _closed;
+    }
+
+    private Record next() {
+        while (_read != null) {
+            if (_readPosition < _read._limit) {
+                int position = _readPosition;
+                int size = _read._buffer.getInt(position);
+                _readPosition += Math.abs(size);
+                if (size > 0) {
+                    byte[] payload = new byte[size - RECORD_HEADER_SIZE];
+                    ByteBuffer content = _read._buffer.duplicate();
+                    content.position(position + RECORD_HEADER_SIZE);
+                    content.get(payload);
+                    _unread--;
+                    return new Record(_read, position, payload);
+                }
+                continue;
+            }
+            if (_read == _write) {
+                return null;
+            }
+            int index = _segments.indexOf(_read);
+            if (index + 1 >= _segments.size()) {
+                return null;
+            }
+            Segment done = _read;
+            _read = _segments.get(index + 1);
+            _readPosition = SEGMENT_HEADER_SIZE;
+            release(done);
+        }
+        return null;
+    }
+
+    private void roll() {
+        // spare segments are already zeroed
+        Segment segment = _spare.poll();
+        try {
+            if (segment == null) {
+                segment = Segment.map(new File(_directory, (_nextFile++) + SEGMENT_SUFFIX), _segmentSize);
+            }
+        } catch (IOException ioe) {
+            throw RuntimeMessages.MESSAGES.journalOpenFailed(_directory.getPath(), ioe);
+        }
+        segment._sequence = _nextSequence++;
+        segment._buffer.putLong(4, segment._sequence);
+        segment._buffer.putInt(0, MAGIC);
+        segment._limit = SEGMENT_HEADER_SIZE;
+        segment._outstanding = 0;
+        if (_sync) {
+            segment._buffer.force();
+        }
+        Segment previous = _write;
+        _segments.add(segment);
+        _write = segment;
+        if (_read == null) {
+            _read = segment;
+            _readPosition = SEGMENT_HEADER_SIZE;
+        }
+        if (previous != null) {
+            release(previous);
+        }
+    }
+
+    private void release(Segment segment) {
+        if (segment._outstanding > 0 || segment == _write || segment == _read) {
+            return;
+        }
+        int index = _segments.indexOf(segment);
+        if (index < 0 || (_read != null && index > _segments.indexOf(_read))) {
+            return;
+        }
+        _segments.remove(index);
+        recycle(segment);
+    }
+
+    private void recycle(Segment segment) {
+        segment._buffer.putInt(0, 0);
+        segment._sequence = -1;
+        if (_spare.size() + _recycled.size() + _clearing < SPARE_SEGMENTS && segment.capacity() == _segmentSize) {
+            _recycled.add(segment);
+        } else {
+            segment._file.delete();
+        }
+    }
+
+    private void clearRecycled() {
+        while (true) {
+            Segment segment;
+            synchronized (this) {
+                segment = _recycled.poll();
+                if (segment == null) {
+                    return;
+                }
+                _clearing++;
+            }
+            segment.clear();
+            synchronized (this) {
+                _clearing--;
+                if (!_closed) {
+                    _spare.add(segment);
+                }
+            }
+        }
+    }
+
+    private void recover() throws IOException {
+        File[] files = _directory.listFiles(new FileFilter() {
+            @Override
+            public boolean accept(File file) {
+                return file.isFile() && file.getName().endsWith(SEGMENT_SUFFIX);
+            }
+        });
+        List<Segment> live = new ArrayList<Segment>();
+        List<Segment> consumed = new ArrayList<Segment>();
+        for (File file : files) {
+            String name = file.getName();
+            try {
+                int number = Integer.parseInt(name.substring(0, name.length() - SEGMENT_SUFFIX.length()));
+                _nextFile = Math.max(_nextFile, number + 1);
+            } catch (NumberFormatException nfe) {
+                continue;
+            }
+            if (file.length() < SEGMENT_HEADER_SIZE) {
+                file.delete();
+                continue;
+            }
+            Segment segment = Segment.map(file, (int) file.length());
+            if (segment._buffer.getInt(0) == MAGIC) {
+                segment._sequence = segment._buffer.getLong(4);
+                scan(segment);
+            }
+            if (segment._outstanding > 0) {
+                live.add(segment);
+            } else {
+                consumed.add(segment);
+            }
+        }
+        Collections.sort(live, new Comparator<Segment>() {
+            @Override
+            public int compare(Segment s1, Segment s2) {
+                return s1._sequence < s2._sequence ? -1 : (s1._sequence == s2._sequence ? 0 : 1);
+            }
+        });
+        for (Segment segment : consumed) {
+            _nextSequence = Math.max(_nextSequence, segment._sequence + 1);
+            recycle(segment);
+        }
+        for (Segment segment : live) {
+            _nextSequence = Math.max(_nextSequence, segment._sequence + 1);
+            _pending += segment._outstanding;
+            _segments.add(segment);
+        }
+        _unread = _pending;
+        // recovered segments are only read; appends go to a new segment
+        if (!_segments.isEmpty()) {
+            _read = _segments.getFirst();
+            _readPosition = SEGMENT_HEADER_SIZE;
+        }
+    }
+
+    private void scan(Segment segment) {
+        int position = SEGMENT_HEADER_SIZE;
+        int capacity = segment.capacity();
+        while (position + RECORD_HEADER_SIZE <= capacity) {
+            int size = segment._buffer.getInt(position);
+            if (size == 0) {
+                break;
+            }
+            int length = Math.abs(size);
+            if (length < RECORD_HEADER_SIZE || position + length > capacity
+                    || (size > 0 && !valid(segment, position, length))) {
+                RuntimeLogger.ROOT_LOGGER.journalRecordCorrupt(segment._file.getPath(), position);
+                break;
+            }
+            if (size > 0) {
+                segment._outstanding++;
+            }
+            position += length;
+        }
+        segment._limit = position;
+    }
+
+    private boolean valid(Segment segment, int position, int length) {
+        byte[] payload = new byte[length - RECORD_HEADER_SIZE];
+        ByteBuffer content = segment._buffer.duplicate();
+        content.position(position + RECORD_HEADER_SIZE);
+        content.get(payload);
+        CRC32 crc = new CRC32();
+        crc.update(payload);
+        return segment._buffer.getInt(position + 4) == (int) crc.getValue();
+    }
+
+    /**
+     * A record read from the journal.
+     */
+    public static final class Record {
+        private final Segment _segment;
+        private final long _sequence;
+        private final int _position;
+        private final byte[] _payload;
+
+        private Record(Segment segment, int position, byte[] payload) {
+            _segment = segment;
+            _sequence = segment._sequence;
+            _position = position;
+            _payload = payload;
+        }
+
+        /**
+         * @return the record content
+         */
+        public byte[] getPayload() {
+            return _payload;
+        }
+    }
+
+    private static final class Segment {
+        private final File _file;
+        private final MappedByteBuffer _buffer;
+        private long _sequence = -1;
+        private int _limit = SEGMENT_HEADER_SIZE;
+        private int _outstanding;
+
+        private Segment(File file, MappedByteBuffer buffer) {
+            _file = file;
+            _buffer = buffer;
+        }
+
+        static Segment map(File file, int size) throws IOException {
+            RandomAccessFile raf = new RandomAccessFile(file, "rw");
+            try {
+                raf.setLength(size);
+                // the mapping stays valid once the file is closed
+                return new Segment(file, raf.getChannel().map(FileChannel.MapMode.READ_WRITE, 0, size));
+            } finally {
+                raf.close();
+            }
+        }
+
+        int capacity() {
+            return _buffer.capacity();
+        }
+
+        void clear() {
+            for (int i = 0; i + 8 <= _buffer.capacity(); i += 8) {
+                _buffer.putLong(i, 0L);
+            }
+        }
+    }
+}
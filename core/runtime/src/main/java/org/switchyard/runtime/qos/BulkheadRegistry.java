@@ -0,0 +1,95 @@
+/*
+ * Copyright 2013 Red Hat Inc. and/or its affiliates and other contributors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * http://www.apache.org/licenses/LICENSE-2.0
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,  
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.switchyard.runtime.qos;
+
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+
+import javax.xml.namespace.QName;
+
+import org.switchyard.ServiceDomain;
+import org.switchyard.metadata.qos.Bulkhead;
+
+/**
+ * Holds the concurrency limiters of a service domain, keyed by the name of the
+ * service or service reference the bulkhead was configured on.  The registry
+ * is stored as a domain property so limits are shared by every exchange bus
+ * and can be inspected and changed through the management interfaces.
+ */
+public class BulkheadRegistry {
+
+    /** Domain property holding the registry. */
+    public static final String DOMAIN_PROPERTY = "org.switchyard.runtime.qos.bulkheadRegistry";
+
+    private final ConcurrentMap<QName, ConcurrencyLimiter> _limiters = new ConcurrentHashMap<QName, ConcurrencyLimiter>();
+
+    /**
+     * Returns the registry for the specified domain, creating it if necessary.
+     * @param domain service domain
+     * @return bulkhead registry
+     */
+    public static BulkheadRegistry getRegistry(ServiceDomain domain) {
+        synchronized (domain) {
+            BulkheadRegistry registry = (BulkheadRegistry) domain.getProperty(DOMAIN_PROPERTY);
+            if (registry == null) {
+                registry = new BulkheadRegistry();
+                domain.setProperty(DOMAIN_PROPERTY, registry);
+            }
+            return registry;
+        }
+    }
+
+    /**
+     * Returns the limiter for the specified name, creating it from the supplied
+     * configuration if necessary.  An existing limiter created from a different
+     * configuration is reconfigured in place, so exchanges in flight keep their
+     * slots.
+     * @param name service or reference name
+     * @param bulkhead bulkhead configuration
+     * @return concurrency limiter
+     */
+    public ConcurrencyLimiter getLimiter(QName name, Bulkhead bulkhead) {
+        ConcurrencyLimiter limiter = _limiters.get(name);
+        if (limiter == null) {
+            ConcurrencyLimiter created = new ConcurrencyLimiter(bulkhead);
+            limiter = _limiters.putIfAbsent(name, created);
+            if (limiter == null) {
+                return created;
+            }
+        }
+        if (limiter.getBulkhead() != bulkhead) {
+            limiter.configure(bulkhead);
+        }
+        return limiter;
+    }
+
+    /**
+     * Returns the limiter for the specified name.
+     * @param name service or reference name
+     * @return concurrency limiter, or null if no limiter has been created yet
+     */
+    public ConcurrencyLimiter getLimiter(QName name) {
+        return _limiters.get(name);
+    }
+
+    /**
+     * Removes the limiter for the specified name.
+     * @param name service or reference name
+     * @return the removed limiter, or null if there was none
+     */
+    public ConcurrencyLimiter removeLimiter(QName name) {
+        return _limiters.remove(name);
+    }
+}
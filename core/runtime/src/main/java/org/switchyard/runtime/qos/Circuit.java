@@ -0,0 +1,220 @@
+/*
+ * Copyright 2013 Red Hat Inc. and/or its affiliates and other contributors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * http://www.apache.org/licenses/LICENSE-2.0
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.switchyard.runtime.qos;
+
+import org.switchyard.metadata.qos.CircuitBreaker;
+
+/**
+ * State of the circuit breaker on a single service reference.  Outcomes of
+ * completed calls are kept in a ring buffer of the configured window size;
+ * the breaker opens once enough calls were seen and the failure rate or the
+ * slow call rate reaches its threshold.
+ */
+public class Circuit {
+
+    /**
+     * Circuit breaker states.
+     */
+    public enum State {
+        /** Calls pass through and their outcome is recorded. */
+        CLOSED,
+        /** Calls are rejected. */
+        OPEN,
+        /** A limited number of trial calls is let through. */
+        HALF_OPEN
+    }
+
+    private static final byte FAILED = 1;
+    private static final byte SLOW = 2;
+
+    private CircuitBreaker _config;
+    private State _state = State.CLOSED;
+    private long _openedAt;
+    private byte[] _window;
+    private int _next;
+    private int _calls;
+    private int _failures;
+    private int _slowCalls;
+    private int _trialsStarted;
+    private int _trialsSucceeded;
+    private long _rejected;
+    private long _opened;
+
+    /**
+     * Create a new circuit.
+     * @param config circuit breaker configuration
+     */
+    public Circuit(CircuitBreaker config) {
+        configure(config);
+    }
+
+    /**
+     * Applies a new configuration and closes the circuit.
+     * @param config circuit breaker configuration
+     */
+    public synchronized void configure(CircuitBreaker config) {
+        _config = config;
+        close();
+    }
+
+    /**
+     * Returns the current configuration.
+     * @return circuit breaker configuration
+     */
+    public synchronized CircuitBreaker getConfig() {
+        return _config;
+    }
+
+    /**
+     * Asks for permission to make a call.
+     * @return true if the call may proceed, false if it is rejected
+     */
+    public synchronized boolean tryAcquire() {
+        if (_state == State.OPEN) {
+            if (System.currentTimeMillis() - _openedAt < _config.getOpenDuration()) {
+                ++_rejected;
+                return false;
+            }
+            _state = State.HALF_OPEN;
+            _trialsStarted = 0;
+            _trialsSucceeded = 0;
+        }
+        if (_state == State.HALF_OPEN) {
+            if (_trialsStarted >= _config.getHalfOpenCalls()) {
+                ++_rejected;
+                return false;
+            }
+            ++_trialsStarted;
+        }
+        return true;
+    }
+
+    /**
+     * Records the outcome of a call which was permitted by {@link #tryAcquire()}.
+     * @param durationMS call duration in milliseconds
+     * @param success false if the call faulted
+     */
+    public synchronized void record(long durationMS, boolean success) {
+        boolean slow = durationMS >= _config.getSlowCallDuration();
+        switch (_state) {
+        case HALF_OPEN:
+            if (!success || slow) {
+                open();
+            } else if (++_trialsSucceeded >= _config.getHalfOpenCalls()) {
+                close();
+            }
+            break;
+        case CLOSED:
+            add((success ? 0 : FAILED) | (slow ? SLOW : 0));
+            if (_calls >= Math.max(1, _config.getMinimumCalls())
+                    && (rate(_failures) >= _config.getFailureRateThreshold()
+                        || rate(_slowCalls) >= _config.getSlowCallRateThreshold())) {
+                open();
+            }
+            break;
+        default:
+            // a call which started before the circuit opened
+            break;
+        }
+    }
+
+    /**
+     * Closes the circuit and clears the recorded calls.
+     */
+    public synchronized void reset() {
+        close();
+    }
+
+    /**
+     * Returns the current state.  An open circuit whose open duration has
+     * passed is still reported as open until the next call arrives.
+     * @return circuit state
+     */
+    public synchronized State getState() {
+        return _state;
+    }
+
+    /**
+     * Returns the failure rate in the current window.
+     * @return failure rate in percent
+     */
+    public synchronized float getFailureRate() {
+        return rate(_failures);
+    }
+
+    /**
+     * Returns the slow call rate in the current window.
+     * @return slow call rate in percent
+     */
+    public synchronized float getSlowCallRate() {
+        return rate(_slowCalls);
+    }
+
+    /**
+     * Returns the number of calls in the current window.
+     * @return calls in the window
+     */
+    public synchronized int getCallCount() {
+        return _calls;
+    }
+
+    /**
+     * Returns the number of calls rejected while the circuit was not closed.
+     * @return rejected calls
+     */
+    public synchronized long getRejectedCount() {
+        return _rejected;
+    }
+
+    /**
+     * Returns the number of times the circuit opened.
+     * @return open count
+     */
+    public synchronized long getOpenCount() {
+        return _opened;
+    }
+
+    private void add(int outcome) {
+        if (_calls == _window.length) {
+            byte evicted = _window[_next];
+            _failures -= evicted & FAILED;
+            _slowCalls -= (evicted & SLOW) >> 1;
+        } else {
+            ++_calls;
+        }
+        _window[_next] = (byte) outcome;
+        _failures += outcome & FAILED;
+        _slowCalls += (outcome & SLOW) >> 1;
+        _next = (_next + 1) % _window.length;
+    }
+
+    private float rate(int count) {
+        return _calls == 0 ? 0 : count * 100f / _calls;
+    }
+
+    private void open() {
+        _state = State.OPEN;
+        _openedAt = System.currentTimeMillis();
+        ++_opened;
+    }
+
+    private void close() {
+        _state = State.CLOSED;
+        _window = new byte[Math.max(1, _config.getWindowSize())];
+        _next = 0;
+        _calls = 0;
+        _failures = 0;
+        _slowCalls = 0;
+    }
+}
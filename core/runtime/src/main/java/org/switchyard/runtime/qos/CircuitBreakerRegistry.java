@@ -0,0 +1,95 @@
+/*
+ * Copyright 2013 Red Hat Inc. and/or its affiliates and other contributors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * http://www.apache.org/licenses/LICENSE-2.0
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,  
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.switchyard.runtime.qos;
+
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+
+import javax.xml.namespace.QName;
+
+import org.switchyard.ServiceDomain;
+import org.switchyard.metadata.qos.CircuitBreaker;
+
+/**
+ * Holds the circuits of a service domain, keyed by the name of the service
+ * reference the circuit breaker was configured on.  The registry is stored as
+ * a domain property so circuits are shared by every exchange bus and can be
+ * inspected through the management interfaces.
+ */
+public class CircuitBreakerRegistry {
+
+    /** Domain property holding the registry. */
+    public static final String DOMAIN_PROPERTY = "org.switchyard.runtime.qos.circuitBreakerRegistry";
+
+    private final ConcurrentMap<QName, Circuit> _circuits = new ConcurrentHashMap<QName, Circuit>();
+
+    /**
+     * Returns the registry for the specified domain, creating it if necessary.
+     * @param domain service domain
+     * @return circuit breaker registry
+     */
+    public static CircuitBreakerRegistry getRegistry(ServiceDomain domain) {
+        synchronized (domain) {
+            CircuitBreakerRegistry registry = (CircuitBreakerRegistry) domain.getProperty(DOMAIN_PROPERTY);
+            if (registry == null) {
+                registry = new CircuitBreakerRegistry();
+                domain.setProperty(DOMAIN_PROPERTY, registry);
+            }
+            return registry;
+        }
+    }
+
+    /**
+     * Returns the circuit for the specified name, creating it from the supplied
+     * configuration if necessary.  An existing circuit created from a different
+     * configuration, e.g. by an earlier deployment of the same application, is
+     * reconfigured and closed.
+     * @param name service or reference name
+     * @param config circuit breaker configuration
+     * @return circuit
+     */
+    public Circuit getCircuit(QName name, CircuitBreaker config) {
+        Circuit circuit = _circuits.get(name);
+        if (circuit == null) {
+            Circuit created = new Circuit(config);
+            circuit = _circuits.putIfAbsent(name, created);
+            if (circuit == null) {
+                return created;
+            }
+        }
+        if (circuit.getConfig() != config) {
+            circuit.configure(config);
+        }
+        return circuit;
+    }
+
+    /**
+     * Returns the circuit for the specified name.
+     * @param name service or reference name
+     * @return circuit, or null if no circuit has been created yet
+     */
+    public Circuit getCircuit(QName name) {
+        return _circuits.get(name);
+    }
+
+    /**
+     * Removes the circuit for the specified name.
+     * @param name service or reference name
+     * @return the removed circuit, or null if there was none
+     */
+    public Circuit removeCircuit(QName name) {
+        return _circuits.remove(name);
+    }
+}
@@ -0,0 +1,312 @@
+/*
+ * Copyright 2013 Red Hat Inc. and/or its affiliates and other contributors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * http://www.apache.org/licenses/LICENSE-2.0
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.switchyard.runtime.qos;
+
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.locks.Condition;
+import java.util.concurrent.locks.ReentrantLock;
+
+import org.switchyard.metadata.qos.Bulkhead;
+import org.switchyard.metadata.qos.Priority;
+
+/**
+ * Limits the number of exchanges in flight on a single service or reference.
+ * Exchanges which find the limit reached wait in a bounded queue for a free
+ * slot and are rejected once the queue is full or the queue timeout expires.
+ * <p/>
+ * With an adaptive limit the number of slots moves between the configured
+ * minimum and maximum based on the outcome and latency of completed exchanges.
+ * <p/>
+ * Waiting exchanges are kept in a {@link WeightedFairQueue}, so freed slots
+ * are shared between priority classes by weight rather than handed out in
+ * arrival order.  Wait and latency times are recorded per priority class.
+ */
+public class ConcurrencyLimiter {
+
+    /** Factor applied to an adaptive limit when an exchange fails. */
+    static final double BACKOFF_RATIO = 0.9;
+    /** Weight of a new gradient sample in the smoothed limit. */
+    static final double SMOOTHING = 0.2;
+    /** Number of samples after which the minimum latency is measured again. */
+    static final int MIN_LATENCY_WINDOW = 1000;
+
+    private final ReentrantLock _lock = new ReentrantLock();
+    private final WeightedFairQueue<Waiter> _waiters = new WeightedFairQueue<Waiter>();
+    private final AtomicLong _rejected = new AtomicLong();
+    private final PriorityStatistics _waits = new PriorityStatistics();
+    private final PriorityStatistics _latencies = new PriorityStatistics();
+
+    private volatile Bulkhead _bulkhead;
+    private volatile double _limit;
+    private int _inFlight;
+    private long _minLatency;
+    private int _samples;
+
+    /**
+     * Create a new limiter.
+     * @param bulkhead bulkhead configuration
+     */
+    public ConcurrencyLimiter(Bulkhead bulkhead) {
+        configure(bulkhead);
+    }
+
+    /**
+     * Applies a new configuration.  Exchanges in flight keep their slots, an
+     * adaptive limit is kept unless it no longer fits the configured bounds.
+     * @param bulkhead bulkhead configuration
+     */
+    public void configure(Bulkhead bulkhead) {
+        _lock.lock();
+        try {
+            boolean adaptive = _bulkhead != null && _bulkhead.getLimit() != Bulkhead.Limit.FIXED;
+            _bulkhead = bulkhead;
+            if (bulkhead.getLimit() == Bulkhead.Limit.FIXED) {
+                _limit = bulkhead.getMaxConcurrent();
+            } else if (!adaptive) {
+                // start adaptive limits half way so they can move either direction
+                _limit = bulkhead.getMaxConcurrent() / 2.0;
+            }
+            _limit = clamp(_limit);
+            grant();
+        } finally {
+            _lock.unlock();
+        }
+    }
+
+    /**
+     * Returns the current configuration.
+     * @return bulkhead configuration
+     */
+    public Bulkhead getBulkhead() {
+        return _bulkhead;
+    }
+
+    /**
+     * Acquires a slot for an exchange of normal priority, waiting in the
+     * queue if necessary.
+     * @return the start time of the exchange in nanoseconds, to be passed to
+     * {@link #release(long, boolean)}, or -1 if the exchange was rejected
+     * @throws InterruptedException if interrupted while waiting
+     */
+    public long acquire() throws InterruptedException {
+        return acquire(Priority.Level.NORMAL);
+    }
+
+    /**
+     * Acquires a slot, waiting in the queue of the priority class if necessary.
+     * @param level priority class of the exchange
+     * @return the start time of the exchange in nanoseconds, to be passed to
+     * {@link #release(long, boolean, Priority.Level)}, or -1 if the exchange
+     * was rejected
+     * @throws InterruptedException if interrupted while waiting
+     */
+    public long acquire(Priority.Level level) throws InterruptedException {
+        _lock.lock();
+        try {
+            if (_waiters.size() == 0 && _inFlight < getLimit()) {
+                ++_inFlight;
+                _waits.record(level, 0);
+                return System.nanoTime();
+            }
+            if (_waiters.size() >= _bulkhead.getMaxQueued()) {
+                _rejected.incrementAndGet();
+                return -1;
+            }
+            Waiter waiter = new Waiter(_lock.newCondition());
+            _waiters.offer(level, waiter);
+            long remaining = TimeUnit.MILLISECONDS.toNanos(_bulkhead.getQueueTimeout());
+            try {
+                while (!waiter._granted) {
+                    if (remaining <= 0) {
+                        _waiters.remove(level, waiter);
+                        _rejected.incrementAndGet();
+                        return -1;
+                    }
+                    remaining = waiter._condition.awaitNanos(remaining);
+                }
+            } catch (InterruptedException ie) {
+                if (waiter._granted) {
+                    // pass the slot on
+                    --_inFlight;
+                    grant();
+                } else {
+                    _waiters.remove(level, waiter);
+                }
+                throw ie;
+            }
+            long start = System.nanoTime();
+            _waits.record(level, start - waiter._since);
+            return start;
+        } finally {
+            _lock.unlock();
+        }
+    }
+
+    /**
+     * Releases a slot of an exchange of normal priority and feeds its outcome
+     * to an adaptive limit.
+     * @param start start time returned by {@link #acquire()}
+     * @param success false if the exchange faulted
+     */
+    public void release(long start, boolean success) {
+        release(start, success, Priority.Level.NORMAL);
+    }
+
+    /**
+     * Releases a slot and feeds the outcome of the exchange to an adaptive limit.
+     * @param start start time returned by {@link #acquire(Priority.Level)}
+     * @param success false if the exchange faulted
+     * @param level priority class of the exchange
+     */
+    public void release(long start, boolean success, Priority.Level level) {
+        long latency = System.nanoTime() - start;
+        _latencies.record(level, latency);
+        _lock.lock();
+        try {
+            --_inFlight;
+            switch (_bulkhead.getLimit()) {
+            case AIMD:
+                _limit = clamp(success ? _limit + 1.0 / _limit : _limit * BACKOFF_RATIO);
+                break;
+            case GRADIENT:
+                _limit = clamp(success ? gradient(latency) : _limit * BACKOFF_RATIO);
+                break;
+            default:
+                break;
+            }
+            grant();
+        } finally {
+            _lock.unlock();
+        }
+    }
+
+    /**
+     * Returns the current concurrency limit.
+     * @return concurrency limit
+     */
+    public int getLimit() {
+        return (int) _limit;
+    }
+
+    /**
+     * Returns the number of exchanges holding a slot.
+     * @return exchanges in flight
+     */
+    public int getInFlight() {
+        _lock.lock();
+        try {
+            return _inFlight;
+        } finally {
+            _lock.unlock();
+        }
+    }
+
+    /**
+     * Returns the number of exchanges waiting for a slot.
+     * @return queued exchanges
+     */
+    public int getQueued() {
+        _lock.lock();
+        try {
+            return _waiters.size();
+        } finally {
+            _lock.unlock();
+        }
+    }
+
+    /**
+     * Returns the number of exchanges of a priority class waiting for a slot.
+     * @param level priority class
+     * @return queued exchanges of the class
+     */
+    public int getQueued(Priority.Level level) {
+        _lock.lock();
+        try {
+            return _waiters.size(level);
+        } finally {
+            _lock.unlock();
+        }
+    }
+
+    /**
+     * Returns the time exchanges waited for a slot, per priority class.
+     * @return wait statistics
+     */
+    public PriorityStatistics getWaitStatistics() {
+        return _waits;
+    }
+
+    /**
+     * Returns the time exchanges held a slot, per priority class.
+     * @return latency statistics
+     */
+    public PriorityStatistics getLatencyStatistics() {
+        return _latencies;
+    }
+
+    /**
+     * Returns the number of rejected exchanges.
+     * @return rejected exchanges
+     */
+    public long getRejectedCount() {
+        return _rejected.get();
+    }
+
+    /**
+     * Resets the rejection count.
+     */
+    public void resetStatistics() {
+        _rejected.set(0);
+        _waits.reset();
+        _latencies.reset();
+    }
+
+    private void grant() {
+        while (_inFlight < getLimit()) {
+            Waiter waiter = _waiters.poll();
+            if (waiter == null) {
+                return;
+            }
+            waiter._granted = true;
+            ++_inFlight;
+            waiter._condition.signal();
+        }
+    }
+
+    private double gradient(long latency) {
+        if (_minLatency <= 0 || latency < _minLatency || ++_samples >= MIN_LATENCY_WINDOW) {
+            _minLatency = Math.max(latency, 1);
+            _samples = 0;
+        }
+        double gradient = Math.max(0.5, Math.min(1.0, (double) _minLatency / Math.max(latency, 1)));
+        double target = _limit * gradient + Math.sqrt(_limit);
+        return _limit * (1 - SMOOTHING) + target * SMOOTHING;
+    }
+
+    private double clamp(double limit) {
+        double min = Math.max(1, Math.min(_bulkhead.getMinConcurrent(), _bulkhead.getMaxConcurrent()));
+        return Math.max(min, Math.min(_bulkhead.getMaxConcurrent(), limit));
+    }
+
+    private static final class Waiter {
+        private final Condition _condition;
+        private final long _since = System.nanoTime();
+        private boolean _granted;
+
+        private Waiter(Condition condition) {
+            _condition = condition;
+        }
+    }
+}
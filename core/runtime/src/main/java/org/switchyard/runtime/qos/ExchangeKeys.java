@@ -0,0 +1,206 @@
+/*
+ * Copyright 2013 Red Hat Inc. and/or its affiliates and other contributors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * http://www.apache.org/licenses/LICENSE-2.0
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,  
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.switchyard.runtime.qos;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.ObjectInputStream;
+import java.io.ObjectOutputStream;
+import java.io.ObjectStreamClass;
+import java.io.Reader;
+import java.io.Serializable;
+import java.math.BigDecimal;
+import java.math.BigInteger;
+import java.nio.ByteBuffer;
+import java.util.ArrayList;
+import java.util.List;
+
+import javax.xml.namespace.QName;
+import javax.xml.transform.Source;
+
+import org.switchyard.Exchange;
+import org.switchyard.Property;
+import org.switchyard.common.xml.XMLHelper;
+import org.w3c.dom.Node;
+
+/**
+ * Utility methods for building keys which identify equivalent requests and
+ * for sharing reply content between exchanges.
+ * <br><br>
+ * Keys and shared replies never reference the content of an exchange: keys
+ * hold a snapshot of the content and context properties, and replies are deep copied when they are
+ * stored and every time they are handed out, so an exchange changing its
+ * content does not change the content of another exchange.  Content which is
+ * neither immutable, a DOM node, a byte array nor serializable is not shared.
+ */
+public final class ExchangeKeys {
+
+    /**
+     * Key token which refers to the content of the request message.
+     */
+    public static final String CONTENT = "content";
+
+    private ExchangeKeys() {
+    }
+
+    /**
+     * Creates a key for the current message of an exchange.  The key consists
+     * of the operation name followed by one value per token: a snapshot of the
+     * message content for {@link #CONTENT}, otherwise a snapshot of the value
+     * of the context property with that name.
+     * @param exchange exchange
+     * @param operation operation name
+     * @param tokens key tokens
+     * @return key, or null if the message content or a property value cannot
+     * be used in a key
+     */
+    public static Object create(Exchange exchange, String operation, List<String> tokens) {
+        List<Object> key = new ArrayList<Object>(tokens.size() + 1);
+        key.add(operation);
+        for (String token : tokens) {
+            boolean content = CONTENT.equals(token);
+            Object value;
+            if (content) {
+                value = exchange.getMessage().getContent();
+            } else {
+                Property property = exchange.getContext().getProperty(token);
+                value = property != null ? property.getValue() : null;
+            }
+            if (value != null && !isShareable(value)) {
+                // consuming a stream to build a key would break the provider
+                return null;
+            }
+            Object part;
+            if (value instanceof Node) {
+                // DOM nodes only support identity equality
+                part = content ? exchange.getMessage().getContent(String.class) : XMLHelper.toString((Node) value);
+            } else {
+                part = toKeyPart(value);
+            }
+            if (value != null && part == null) {
+                return null;
+            }
+            key.add(part);
+        }
+        return key;
+    }
+
+    /**
+     * Returns whether message content can be copied and therefore shared
+     * between exchanges.
+     * @param content message content
+     * @return true if the content is immutable, a DOM node, a byte array or
+     * serializable, and not a stream
+     */
+    public static boolean isShareable(Object content) {
+        if (content instanceof InputStream
+                || content instanceof Reader
+                || content instanceof Source) {
+            return false;
+        }
+        return isImmutable(content)
+                || content instanceof Node
+                || content instanceof byte[]
+                || content instanceof Serializable;
+    }
+
+    /**
+     * Returns a deep copy of shareable content which is safe to hand to
+     * another exchange.  Immutable content is returned as is, serializable
+     * content is copied by serializing it.
+     * @param content message content
+     * @return content copy, or null if the content cannot be copied
+     */
+    public static Object copy(Object content) {
+        if (content == null || isImmutable(content)) {
+            return content;
+        } else if (content instanceof Node) {
+            return ((Node) content).cloneNode(true);
+        } else if (content instanceof byte[]) {
+            return ((byte[]) content).clone();
+        } else if (!isShareable(content)) {
+            return null;
+        }
+        try {
+            return deserialize(serialize(content), content.getClass().getClassLoader());
+        } catch (IOException ioe) {
+            return null;
+        } catch (ClassNotFoundException cnfe) {
+            return null;
+        }
+    }
+
+    private static boolean isImmutable(Object content) {
+        return content instanceof String
+                || content instanceof Boolean
+                || content instanceof Character
+                || content instanceof Byte
+                || content instanceof Short
+                || content instanceof Integer
+                || content instanceof Long
+                || content instanceof Float
+                || content instanceof Double
+                || content instanceof BigInteger
+                || content instanceof BigDecimal
+                || content instanceof Enum
+                || content instanceof QName;
+    }
+
+    private static Object toKeyPart(Object value) {
+        if (value == null || isImmutable(value)) {
+            return value;
+        } else if (value instanceof byte[]) {
+            return ByteBuffer.wrap(((byte[]) value).clone());
+        }
+        // the serialized form, so the key does not change with the value
+        try {
+            return ByteBuffer.wrap(serialize(value));
+        } catch (IOException ioe) {
+            return null;
+        }
+    }
+
+    private static byte[] serialize(Object content) throws IOException {
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+        ObjectOutputStream out = new ObjectOutputStream(bytes);
+        out.writeObject(content);
+        out.close();
+        return bytes.toByteArray();
+    }
+
+    private static Object deserialize(byte[] bytes, final ClassLoader loader) throws IOException, ClassNotFoundException {
+        // resolve classes where the content came from rather than where this class came from
+        ObjectInputStream in = new ObjectInputStream(new ByteArrayInputStream(bytes)) {
+            @Override
+            protected Class<?> resolveClass(ObjectStreamClass desc) throws IOException, ClassNotFoundException {
+                if (loader != null) {
+                    try {
+                        return Class.forName(desc.getName(), false, loader);
+                    } catch (ClassNotFoundException cnfe) {
+                        cnfe.getMessage(); // ignore but keep checkstyle happy
+                    }
+                }
+                return super.resolveClass(desc);
+            }
+        };
+        try {
+            return in.readObject();
+        } finally {
+            in.close();
+        }
+    }
+}
@@ -0,0 +1,63 @@
+/*
+ * Copyright 2013 Red Hat Inc. and/or its affiliates and other contributors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * http://www.apache.org/licenses/LICENSE-2.0
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,  
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.switchyard.runtime.qos;
+
+import org.switchyard.Exchange;
+import org.switchyard.Property;
+import org.switchyard.Scope;
+import org.switchyard.metadata.qos.Priority;
+import org.switchyard.runtime.event.ExchangeCompletionEvent;
+
+/**
+ * Resolves the priority class of an exchange.
+ */
+public final class ExchangePriority {
+
+    private ExchangePriority() {
+    }
+
+    /**
+     * Returns the priority class of an exchange.  A class already carried in
+     * the {@link Priority#PROPERTY} context property wins; otherwise the
+     * priority configured on the consumer, then on the provider, applies,
+     * taking the gateway binding the exchange entered through into account.
+     * A resolved class is stored in the context so it follows the exchange.
+     * @param exchange exchange
+     * @return priority class, {@link Priority.Level#NORMAL} if none is configured
+     */
+    public static Priority.Level resolve(Exchange exchange) {
+        Property property = exchange.getContext().getProperty(Priority.PROPERTY, Scope.EXCHANGE);
+        if (property != null) {
+            Priority.Level level = Priority.Level.fromValue(property.getValue());
+            if (level != null) {
+                return level;
+            }
+        }
+        Priority priority = null;
+        if (exchange.getConsumer() != null) {
+            priority = exchange.getConsumer().getServiceMetadata().getPriority();
+        }
+        if (priority == null && exchange.getProvider() != null) {
+            priority = exchange.getProvider().getServiceMetadata().getPriority();
+        }
+        if (priority == null) {
+            return Priority.Level.NORMAL;
+        }
+        Property gateway = exchange.getContext().getProperty(ExchangeCompletionEvent.GATEWAY_NAME, Scope.EXCHANGE);
+        Priority.Level level = priority.getLevel(gateway == null ? null : (String) gateway.getValue());
+        exchange.getContext().setProperty(Priority.PROPERTY, level.name(), Scope.EXCHANGE);
+        return level;
+    }
+}
@@ -0,0 +1,97 @@
+/*
+ * Copyright 2013 Red Hat Inc. and/or its affiliates and other contributors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * http://www.apache.org/licenses/LICENSE-2.0
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,  
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.switchyard.runtime.qos;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLongArray;
+
+import org.switchyard.metadata.qos.Priority;
+
+/**
+ * Times recorded per {@link Priority.Level}, such as the time exchanges of
+ * each priority class wait in a queue or hold a bulkhead slot.
+ */
+public class PriorityStatistics {
+
+    private static final Priority.Level[] LEVELS = Priority.Level.values();
+
+    private final AtomicLongArray _count = new AtomicLongArray(LEVELS.length);
+    private final AtomicLongArray _total = new AtomicLongArray(LEVELS.length);
+    private final AtomicLongArray _max = new AtomicLongArray(LEVELS.length);
+
+    /**
+     * Records a time.
+     * @param level priority class
+     * @param nanos time in nanoseconds
+     */
+    public void record(Priority.Level level, long nanos) {
+        int i = level.ordinal();
+        _count.incrementAndGet(i);
+        _total.addAndGet(i, nanos);
+        long max = _max.get(i);
+        while (nanos > max && !_max.compareAndSet(i, max, nanos)) {
+            max = _max.get(i);
+        }
+    }
+
+    /**
+     * @param level priority class
+     * @return the number of times recorded for the class
+     */
+    public long getCount(Priority.Level level) {
+        return _count.get(level.ordinal());
+    }
+
+    /**
+     * @param level priority class
+     * @return the mean time in milliseconds recorded for the class
+     */
+    public long getMean(Priority.Level level) {
+        long count = _count.get(level.ordinal());
+        return count == 0 ? 0 : TimeUnit.NANOSECONDS.toMillis(_total.get(level.ordinal()) / count);
+    }
+
+    /**
+     * @param level priority class
+     * @return the longest time in milliseconds recorded for the class
+     */
+    public long getMax(Priority.Level level) {
+        return TimeUnit.NANOSECONDS.toMillis(_max.get(level.ordinal()));
+    }
+
+    /**
+     * @return the mean time in milliseconds of each priority class, keyed by class name
+     */
+    public Map<String, Long> getMeans() {
+        Map<String, Long> means = new LinkedHashMap<String, Long>();
+        for (Priority.Level level : LEVELS) {
+            means.put(level.name(), getMean(level));
+        }
+        return means;
+    }
+
+    /**
+     * Clears the recorded times.
+     */
+    public void reset() {
+        for (int i = 0; i < LEVELS.length; i++) {
+            _count.set(i, 0);
+            _total.set(i, 0);
+            _max.set(i, 0);
+        }
+    }
+}
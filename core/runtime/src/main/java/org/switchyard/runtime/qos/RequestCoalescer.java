@@ -0,0 +1,159 @@
+/*
+ * Copyright 2013 Red Hat Inc. and/or its affiliates and other contributors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * http://www.apache.org/licenses/LICENSE-2.0
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,  
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.switchyard.runtime.qos;
+
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+import org.switchyard.ServiceDomain;
+
+/**
+ * Tracks in-flight requests of a service domain so that concurrent, identical
+ * requests can wait for the reply of the first one instead of invoking the
+ * provider themselves.  The coalescer is stored as a domain property so it is
+ * shared by every exchange bus in the domain.
+ */
+public class RequestCoalescer {
+
+    /** Domain property holding the coalescer. */
+    public static final String DOMAIN_PROPERTY = "org.switchyard.runtime.qos.requestCoalescer";
+
+    private final ConcurrentMap<Object, InFlightRequest> _requests = new ConcurrentHashMap<Object, InFlightRequest>();
+    private final AtomicLong _coalesced = new AtomicLong();
+
+    /**
+     * Returns the coalescer for the specified domain, creating it if necessary.
+     * @param domain service domain
+     * @return request coalescer
+     */
+    public static RequestCoalescer getCoalescer(ServiceDomain domain) {
+        synchronized (domain) {
+            RequestCoalescer coalescer = (RequestCoalescer) domain.getProperty(DOMAIN_PROPERTY);
+            if (coalescer == null) {
+                coalescer = new RequestCoalescer();
+                domain.setProperty(DOMAIN_PROPERTY, coalescer);
+            }
+            return coalescer;
+        }
+    }
+
+    /**
+     * Registers a request.  If no identical request is in flight, the caller
+     * becomes the leader and must eventually call {@link #complete} with the
+     * request it registered.
+     * @param request the request of the caller
+     * @return the in-flight request to wait for, or null if the caller is the leader
+     */
+    public InFlightRequest join(InFlightRequest request) {
+        InFlightRequest inFlight = _requests.putIfAbsent(request.getKey(), request);
+        if (inFlight != null) {
+            _coalesced.incrementAndGet();
+        }
+        return inFlight;
+    }
+
+    /**
+     * Completes the in-flight request of a leader and releases all requests
+     * waiting for it.  A request which has been abandoned in the meantime is
+     * only released, the leader which replaced it is left in flight.
+     * @param request the request the leader registered
+     * @param reply reply content to hand out, or null if waiting requests have
+     * to invoke the provider themselves
+     */
+    public void complete(InFlightRequest request, Object reply) {
+        _requests.remove(request.getKey(), request);
+        request.complete(reply);
+    }
+
+    /**
+     * Stops tracking an in-flight request which did not complete in time, so
+     * that the next request becomes a new leader.
+     * @param request the request which timed out
+     */
+    public void abandon(InFlightRequest request) {
+        if (_requests.remove(request.getKey(), request)) {
+            request.complete(null);
+        }
+    }
+
+    /**
+     * Returns the number of requests currently in flight.
+     * @return in-flight count
+     */
+    public int getInFlightCount() {
+        return _requests.size();
+    }
+
+    /**
+     * Returns the number of requests which joined an identical in-flight request.
+     * @return coalesced count
+     */
+    public long getCoalescedCount() {
+        return _coalesced.get();
+    }
+
+    /**
+     * A request which is being processed by a leader exchange.
+     */
+    public static final class InFlightRequest {
+        private final Object _key;
+        private final CountDownLatch _done = new CountDownLatch(1);
+        private volatile Object _reply;
+
+        /**
+         * Creates a request.
+         * @param key request key
+         */
+        public InFlightRequest(Object key) {
+            _key = key;
+        }
+
+        /**
+         * Returns the key of the request.
+         * @return request key
+         */
+        public Object getKey() {
+            return _key;
+        }
+
+        /**
+         * Waits for the leader to complete.
+         * @param timeoutMS maximum time to wait in milliseconds
+         * @return true if the leader completed in time
+         * @throws InterruptedException if the current thread was interrupted
+         */
+        public boolean await(long timeoutMS) throws InterruptedException {
+            return _done.await(timeoutMS, TimeUnit.MILLISECONDS);
+        }
+
+        /**
+         * Returns the reply of the leader.
+         * @return reply content, or null if there is no reply to share
+         */
+        public Object getReply() {
+            return _reply;
+        }
+
+        synchronized void complete(Object reply) {
+            if (_done.getCount() > 0) {
+                _reply = reply;
+                _done.countDown();
+            }
+        }
+    }
+}
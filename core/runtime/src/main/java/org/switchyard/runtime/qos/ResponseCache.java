@@ -0,0 +1,185 @@
+/*
+ * Copyright 2013 Red Hat Inc. and/or its affiliates and other contributors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * http://www.apache.org/licenses/LICENSE-2.0
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,  
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.switchyard.runtime.qos;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicLong;
+
+import org.switchyard.metadata.qos.Caching;
+
+/**
+ * Bounded cache of reply content for a single service or service reference.
+ * Entries are evicted in least recently used order once the configured
+ * maximum is reached and are dropped on access once their time to live has
+ * elapsed.
+ */
+public class ResponseCache {
+
+    private final Caching _caching;
+    private final Map<Object, CacheEntry> _entries;
+
+    private final AtomicLong _hits = new AtomicLong();
+    private final AtomicLong _misses = new AtomicLong();
+    private final AtomicLong _evictions = new AtomicLong();
+    private final AtomicLong _expirations = new AtomicLong();
+
+    /**
+     * Create a new ResponseCache.
+     * @param caching cache configuration
+     */
+    public ResponseCache(Caching caching) {
+        _caching = caching;
+        final int maxEntries = caching.getMaxEntries();
+        _entries = new LinkedHashMap<Object, CacheEntry>(16, 0.75f, true) {
+            private static final long serialVersionUID = 1L;
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<Object, CacheEntry> eldest) {
+                if (size() > maxEntries) {
+                    _evictions.incrementAndGet();
+                    return true;
+                }
+                return false;
+            }
+        };
+    }
+
+    /**
+     * Returns the configuration this cache was created from.
+     * @return cache configuration
+     */
+    public Caching getCaching() {
+        return _caching;
+    }
+
+    /**
+     * Returns the cached reply for the specified key.
+     * @param key cache key
+     * @return cached reply content, or null if there is no valid entry
+     */
+    public Object get(Object key) {
+        CacheEntry entry;
+        synchronized (_entries) {
+            entry = _entries.get(key);
+            if (entry != null && entry.isExpired(System.currentTimeMillis())) {
+                _entries.remove(key);
+                _expirations.incrementAndGet();
+                entry = null;
+            }
+        }
+        if (entry == null) {
+            _misses.incrementAndGet();
+            return null;
+        }
+        _hits.incrementAndGet();
+        return entry.getValue();
+    }
+
+    /**
+     * Stores a reply in the cache.
+     * @param key cache key
+     * @param value reply content
+     */
+    public void put(Object key, Object value) {
+        if (key == null || value == null || _caching.getMaxEntries() <= 0) {
+            return;
+        }
+        long expires = _caching.getTimeToLive() > 0
+                ? System.currentTimeMillis() + _caching.getTimeToLive()
+                : Long.MAX_VALUE;
+        synchronized (_entries) {
+            _entries.put(key, new CacheEntry(value, expires));
+        }
+    }
+
+    /**
+     * Removes all entries from the cache.  Statistics are left untouched.
+     */
+    public void clear() {
+        synchronized (_entries) {
+            _entries.clear();
+        }
+    }
+
+    /**
+     * Returns the number of entries currently held in the cache.
+     * @return entry count
+     */
+    public int size() {
+        synchronized (_entries) {
+            return _entries.size();
+        }
+    }
+
+    /**
+     * Returns the number of lookups answered from the cache.
+     * @return hit count
+     */
+    public long getHitCount() {
+        return _hits.get();
+    }
+
+    /**
+     * Returns the number of lookups which had to be passed to the provider.
+     * @return miss count
+     */
+    public long getMissCount() {
+        return _misses.get();
+    }
+
+    /**
+     * Returns the number of entries removed to make room for new entries.
+     * @return eviction count
+     */
+    public long getEvictionCount() {
+        return _evictions.get();
+    }
+
+    /**
+     * Returns the number of entries removed because their time to live elapsed.
+     * @return expiration count
+     */
+    public long getExpirationCount() {
+        return _expirations.get();
+    }
+
+    /**
+     * Resets all statistics for this cache.
+     */
+    public void resetStatistics() {
+        _hits.set(0);
+        _misses.set(0);
+        _evictions.set(0);
+        _expirations.set(0);
+    }
+
+    private static final class CacheEntry {
+        private final Object _value;
+        private final long _expires;
+
+        CacheEntry(Object value, long expires) {
+            _value = value;
+            _expires = expires;
+        }
+
+        Object getValue() {
+            return _value;
+        }
+
+        boolean isExpired(long now) {
+            return now >= _expires;
+        }
+    }
+}
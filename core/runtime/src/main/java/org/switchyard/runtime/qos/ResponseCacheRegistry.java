@@ -0,0 +1,98 @@
+/*
+ * Copyright 2013 Red Hat Inc. and/or its affiliates and other contributors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * http://www.apache.org/licenses/LICENSE-2.0
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,  
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.switchyard.runtime.qos;
+
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+
+import javax.xml.namespace.QName;
+
+import org.switchyard.ServiceDomain;
+import org.switchyard.metadata.qos.Caching;
+
+/**
+ * Holds the response caches of a service domain, keyed by the name of the
+ * service or service reference the cache was configured on.  The registry is
+ * stored as a domain property so it is shared by every exchange bus in the
+ * domain.
+ */
+public class ResponseCacheRegistry {
+
+    /** Domain property holding the registry. */
+    public static final String DOMAIN_PROPERTY = "org.switchyard.runtime.qos.responseCacheRegistry";
+
+    private final ConcurrentMap<QName, ResponseCache> _caches = new ConcurrentHashMap<QName, ResponseCache>();
+
+    /**
+     * Returns the registry for the specified domain, creating it if necessary.
+     * @param domain service domain
+     * @return response cache registry
+     */
+    public static ResponseCacheRegistry getRegistry(ServiceDomain domain) {
+        synchronized (domain) {
+            ResponseCacheRegistry registry = (ResponseCacheRegistry) domain.getProperty(DOMAIN_PROPERTY);
+            if (registry == null) {
+                registry = new ResponseCacheRegistry();
+                domain.setProperty(DOMAIN_PROPERTY, registry);
+            }
+            return registry;
+        }
+    }
+
+    /**
+     * Returns the cache for the specified name, creating it from the supplied
+     * configuration if necessary.  An existing cache created from a different
+     * configuration, e.g. by an earlier deployment of the same application, is
+     * replaced.
+     * @param name service or reference name
+     * @param caching cache configuration
+     * @return response cache
+     */
+    public ResponseCache getCache(QName name, Caching caching) {
+        ResponseCache cache = _caches.get(name);
+        while (cache == null || cache.getCaching() != caching) {
+            ResponseCache created = new ResponseCache(caching);
+            if (cache == null) {
+                cache = _caches.putIfAbsent(name, created);
+                if (cache == null) {
+                    cache = created;
+                }
+            } else if (_caches.replace(name, cache, created)) {
+                cache = created;
+            } else {
+                cache = _caches.get(name);
+            }
+        }
+        return cache;
+    }
+
+    /**
+     * Returns the cache for the specified name.
+     * @param name service or reference name
+     * @return response cache, or null if no cache has been created yet
+     */
+    public ResponseCache getCache(QName name) {
+        return _caches.get(name);
+    }
+
+    /**
+     * Removes the cache for the specified name.
+     * @param name service or reference name
+     * @return the removed cache, or null if there was none
+     */
+    public ResponseCache removeCache(QName name) {
+        return _caches.remove(name);
+    }
+}
@@ -0,0 +1,126 @@
+/*
+ * Copyright 2013 Red Hat Inc. and/or its affiliates and other contributors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * http://www.apache.org/licenses/LICENSE-2.0
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,  
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.switchyard.runtime.qos;
+
+import java.util.ArrayDeque;
+import java.util.Deque;
+
+import org.switchyard.metadata.qos.Priority;
+
+/**
+ * A queue with one FIFO lane per {@link Priority.Level}, taken off by
+ * weighted fair queuing: while several lanes hold entries, each lane is
+ * served in proportion to the weight of its priority class, so lower
+ * classes are slowed down but never starved.  A lane which runs empty does
+ * not save up its share; it starts again level with the lanes being served.
+ * <br><br>
+ * The queue is not thread safe, callers hold their own lock.
+ *
+ * @param <T> entry type
+ */
+public class WeightedFairQueue<T> {
+
+    private static final Priority.Level[] LEVELS = Priority.Level.values();
+    private static final long STRIDE = 1L << 20;
+
+    private final Deque<T>[] _lanes;
+    private final long[] _pass = new long[LEVELS.length];
+    private long _current;
+    private int _size;
+
+    /**
+     * Create a new, empty queue.
+     */
+    @SuppressWarnings("unchecked")
+    public WeightedFairQueue() {
+        _lanes = new Deque[LEVELS.length];
+        for (int i = 0; i < LEVELS.length; i++) {
+            _lanes[i] = new ArrayDeque<T>();
+        }
+    }
+
+    /**
+     * Adds an entry at the end of the lane of its priority class.
+     * @param level priority class
+     * @param entry entry
+     */
+    public void offer(Priority.Level level, T entry) {
+        Deque<T> lane = _lanes[level.ordinal()];
+        if (lane.isEmpty()) {
+            _pass[level.ordinal()] = Math.max(_pass[level.ordinal()], _current);
+        }
+        lane.addLast(entry);
+        ++_size;
+    }
+
+    /**
+     * Takes the next entry off the queue.
+     * @return the entry at the head of the lane whose turn it is, or null if
+     * the queue is empty
+     */
+    public T poll() {
+        int next = -1;
+        for (int i = 0; i < LEVELS.length; i++) {
+            if (!_lanes[i].isEmpty() && (next < 0 || _pass[i] < _pass[next])) {
+                next = i;
+            }
+        }
+        if (next < 0) {
+            return null;
+        }
+        _current = _pass[next];
+        _pass[next] += STRIDE / LEVELS[next].getWeight();
+        --_size;
+        return _lanes[next].pollFirst();
+    }
+
+    /**
+     * Returns the entry at the head of a lane without removing it.
+     * @param level priority class
+     * @return the oldest entry of the class, or null if it has none
+     */
+    public T peek(Priority.Level level) {
+        return _lanes[level.ordinal()].peekFirst();
+    }
+
+    /**
+     * Removes an entry, for example one which gave up waiting.
+     * @param level priority class the entry was offered with
+     * @param entry entry
+     * @return true if the entry was in the queue
+     */
+    public boolean remove(Priority.Level level, T entry) {
+        if (_lanes[level.ordinal()].remove(entry)) {
+            --_size;
+            return true;
+        }
+        return false;
+    }
+
+    /**
+     * @return the number of entries in the queue
+     */
+    public int size() {
+        return _size;
+    }
+
+    /**
+     * @param level priority class
+     * @return the number of entries of a priority class
+     */
+    public int size(Priority.Level level) {
+        return _lanes[level.ordinal()].size();
+    }
+}
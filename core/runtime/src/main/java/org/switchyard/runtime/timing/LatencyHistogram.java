@@ -0,0 +1,136 @@
+/*
+ * Copyright 2013 Red Hat Inc. and/or its affiliates and other contributors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * http://www.apache.org/licenses/LICENSE-2.0
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.switchyard.runtime.timing;
+
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicLongArray;
+
+/**
+ * Lock-free histogram of latencies in nanoseconds.  Every power of two is
+ * split into four linear sub-buckets, so a percentile read from the histogram
+ * is within 25% of the recorded value while recording stays a handful of
+ * atomic increments.
+ */
+public class LatencyHistogram {
+
+    private static final int SUB_BUCKET_BITS = 2;
+    private static final int SUB_BUCKETS = 1 << SUB_BUCKET_BITS;
+    private static final int BUCKETS = (Long.SIZE - SUB_BUCKET_BITS) * SUB_BUCKETS;
+
+    private final AtomicLongArray _buckets = new AtomicLongArray(BUCKETS);
+    private final AtomicLong _count = new AtomicLong();
+    private final AtomicLong _total = new AtomicLong();
+    private final AtomicLong _max = new AtomicLong();
+
+    /**
+     * Records a latency.
+     * @param nanos latency in nanoseconds, negative values are recorded as zero
+     */
+    public void record(long nanos) {
+        long value = Math.max(0, nanos);
+        _buckets.incrementAndGet(indexOf(value));
+        _count.incrementAndGet();
+        _total.addAndGet(value);
+        long max = _max.get();
+        while (value > max && !_max.compareAndSet(max, value)) {
+            max = _max.get();
+        }
+    }
+
+    /**
+     * Returns the number of recorded latencies.
+     * @return count
+     */
+    public long getCount() {
+        return _count.get();
+    }
+
+    /**
+     * Returns the sum of all recorded latencies.
+     * @return total in nanoseconds
+     */
+    public long getTotal() {
+        return _total.get();
+    }
+
+    /**
+     * Returns the highest recorded latency.
+     * @return max in nanoseconds
+     */
+    public long getMax() {
+        return _max.get();
+    }
+
+    /**
+     * Returns the mean of the recorded latencies.
+     * @return mean in nanoseconds
+     */
+    public long getMean() {
+        long count = _count.get();
+        return count == 0 ? 0 : _total.get() / count;
+    }
+
+    /**
+     * Returns an estimate of the latency below which the given percentage of
+     * the recorded latencies fall.
+     * @param percentile percentile between 0 and 100
+     * @return latency in nanoseconds
+     */
+    public long getValueAtPercentile(double percentile) {
+        long count = _count.get();
+        if (count == 0) {
+            return 0;
+        }
+        long rank = Math.max(1, (long) Math.ceil(count * Math.min(100, percentile) / 100));
+        long seen = 0;
+        for (int i = 0; i < BUCKETS; i++) {
+            seen += _buckets.get(i);
+            if (seen >= rank) {
+                return Math.min(highestValueIn(i), _max.get());
+            }
+        }
+        return _max.get();
+    }
+
+    /**
+     * Clears the recorded latencies.
+     */
+    public void reset() {
+        for (int i = 0; i < BUCKETS; i++) {
+            _buckets.set(i, 0);
+        }
+        _count.set(0);
+        _total.set(0);
+        _max.set(0);
+    }
+
+    static int indexOf(long value) {
+        if (value < SUB_BUCKETS) {
+            return (int) value;
+        }
+        int exponent = (Long.SIZE - 1) - Long.numberOfLeadingZeros(value);
+        int subBucket = (int) (value >>> (exponent - SUB_BUCKET_BITS)) & (SUB_BUCKETS - 1);
+        return (exponent - SUB_BUCKET_BITS + 1) * SUB_BUCKETS + subBucket;
+    }
+
+    static long highestValueIn(int index) {
+        if (index < SUB_BUCKETS) {
+            return index;
+        }
+        int exponent = index / SUB_BUCKETS + SUB_BUCKET_BITS - 1;
+        long width = 1L << (exponent - SUB_BUCKET_BITS);
+        long lowest = (SUB_BUCKETS + index % SUB_BUCKETS) * width;
+        return lowest + width - 1;
+    }
+}
@@ -0,0 +1,117 @@
+/*
+ * Copyright 2013 Red Hat Inc. and/or its affiliates and other contributors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * http://www.apache.org/licenses/LICENSE-2.0
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.switchyard.runtime.timing;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+
+import javax.xml.namespace.QName;
+
+import org.switchyard.ServiceDomain;
+
+/**
+ * Holds the per-stage latency histograms of a service domain, keyed by the
+ * name of the service reference the exchanges were sent through.  Timing is
+ * off unless the {@link #ENABLED} domain property is set to true or it is
+ * switched on through the management interfaces.
+ */
+public class StageTimingRegistry {
+
+    /** Domain property used to enable stage timing. */
+    public static final String ENABLED = "org.switchyard.handlers.stageTiming.enabled";
+
+    /** Domain property holding the registry. */
+    public static final String DOMAIN_PROPERTY = "org.switchyard.runtime.timing.stageTimingRegistry";
+
+    private final ServiceDomain _domain;
+    private final ConcurrentMap<QName, StageTimings> _timings = new ConcurrentHashMap<QName, StageTimings>();
+    private volatile boolean _enabled;
+
+    StageTimingRegistry(ServiceDomain domain) {
+        _domain = domain;
+        Object enabled = domain == null ? null : domain.getProperty(ENABLED);
+        _enabled = enabled != null && Boolean.valueOf(enabled.toString());
+    }
+
+    /**
+     * Returns the registry for the specified domain, creating it if necessary.
+     * @param domain service domain
+     * @return stage timing registry
+     */
+    public static StageTimingRegistry getRegistry(ServiceDomain domain) {
+        synchronized (domain) {
+            StageTimingRegistry registry = (StageTimingRegistry) domain.getProperty(DOMAIN_PROPERTY);
+            if (registry == null) {
+                registry = new StageTimingRegistry(domain);
+                domain.setProperty(DOMAIN_PROPERTY, registry);
+            }
+            return registry;
+        }
+    }
+
+    /**
+     * Indicates whether stage latencies are recorded.
+     * @return true if stage timing is enabled
+     */
+    public boolean isEnabled() {
+        return _enabled;
+    }
+
+    /**
+     * Switches stage timing on or off for the whole domain.
+     * @param enabled true to record stage latencies
+     */
+    public void setEnabled(boolean enabled) {
+        _enabled = enabled;
+        if (_domain != null) {
+            _domain.setProperty(ENABLED, enabled);
+        }
+    }
+
+    /**
+     * Returns the timings for the specified service, creating them if necessary.
+     * @param service service reference name
+     * @return stage timings
+     */
+    public StageTimings getTimings(QName service) {
+        StageTimings timings = _timings.get(service);
+        if (timings == null) {
+            StageTimings created = new StageTimings(service, this);
+            timings = _timings.putIfAbsent(service, created);
+            if (timings == null) {
+                return created;
+            }
+        }
+        return timings;
+    }
+
+    /**
+     * Returns the timings of all services seen so far.
+     * @return stage timings
+     */
+    public List<StageTimings> getTimings() {
+        return new ArrayList<StageTimings>(_timings.values());
+    }
+
+    /**
+     * Removes the timings for the specified service.
+     * @param service service reference name
+     * @return the removed timings, or null if there were none
+     */
+    public StageTimings removeTimings(QName service) {
+        return _timings.remove(service);
+    }
+}
@@ -0,0 +1,151 @@
+/*
+ * Copyright 2013 Red Hat Inc. and/or its affiliates and other contributors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * http://www.apache.org/licenses/LICENSE-2.0
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.switchyard.runtime.timing;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+
+import javax.xml.namespace.QName;
+
+import org.switchyard.ExchangePhase;
+
+/**
+ * Latency histograms of the exchange bus stages for a single service.  Stages
+ * are kept per exchange phase, in the order in which they were first seen,
+ * which matches the order of the handler pipeline.
+ */
+public class StageTimings {
+
+    private final QName _service;
+    private final StageTimingRegistry _registry;
+    private final ConcurrentMap<String, Stage> _inStages = new ConcurrentHashMap<String, Stage>();
+    private final ConcurrentMap<String, Stage> _outStages = new ConcurrentHashMap<String, Stage>();
+    private final List<Stage> _stages = new ArrayList<Stage>();
+
+    StageTimings(QName service, StageTimingRegistry registry) {
+        _service = service;
+        _registry = registry;
+    }
+
+    /**
+     * Returns the name of the service the stages belong to.
+     * @return service name
+     */
+    public QName getService() {
+        return _service;
+    }
+
+    /**
+     * Indicates whether stage timing is enabled for the domain.  Callers check
+     * this before reading the clock, so disabled timing costs a volatile read.
+     * @return true if stage latencies should be recorded
+     */
+    public boolean isEnabled() {
+        return _registry.isEnabled();
+    }
+
+    /**
+     * Records the time spent in a stage.
+     * @param phase exchange phase the stage ran in
+     * @param stage stage name
+     * @param nanos elapsed time in nanoseconds
+     */
+    public void record(ExchangePhase phase, String stage, long nanos) {
+        getStage(phase, stage).getHistogram().record(nanos);
+    }
+
+    /**
+     * Returns the stage with the specified name, creating it if necessary.
+     * @param phase exchange phase the stage runs in
+     * @param stage stage name
+     * @return stage
+     */
+    public Stage getStage(ExchangePhase phase, String stage) {
+        ConcurrentMap<String, Stage> stages = phase == ExchangePhase.OUT ? _outStages : _inStages;
+        Stage existing = stages.get(stage);
+        if (existing == null) {
+            synchronized (_stages) {
+                existing = stages.get(stage);
+                if (existing == null) {
+                    existing = new Stage(stage, phase == null ? ExchangePhase.IN : phase);
+                    stages.put(stage, existing);
+                    _stages.add(existing);
+                }
+            }
+        }
+        return existing;
+    }
+
+    /**
+     * Returns all stages seen so far in pipeline order.
+     * @return stages
+     */
+    public List<Stage> getStages() {
+        synchronized (_stages) {
+            return Collections.unmodifiableList(new ArrayList<Stage>(_stages));
+        }
+    }
+
+    /**
+     * Clears the recorded latencies of all stages.
+     */
+    public void reset() {
+        for (Stage stage : getStages()) {
+            stage.getHistogram().reset();
+        }
+    }
+
+    /**
+     * A single stage of the pipeline.
+     */
+    public static final class Stage {
+        private final String _name;
+        private final ExchangePhase _phase;
+        private final LatencyHistogram _histogram = new LatencyHistogram();
+
+        private Stage(String name, ExchangePhase phase) {
+            _name = name;
+            _phase = phase;
+        }
+
+        /**
+         * @return the stage name
+         */
+        public String getName() {
+            return _name;
+        }
+
+        /**
+         * @return the exchange phase the stage runs in
+         */
+        public ExchangePhase getPhase() {
+            return _phase;
+        }
+
+        /**
+         * @return latencies recorded for the stage
+         */
+        public LatencyHistogram getHistogram() {
+            return _histogram;
+        }
+
+        @Override
+        public String toString() {
+            return _phase + ":" + _name;
+        }
+    }
+}
@@ -0,0 +1,142 @@
+/*
+ * Copyright 2013 Red Hat Inc. and/or its affiliates and other contributors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * http://www.apache.org/licenses/LICENSE-2.0
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.switchyard.handlers;
+
+import java.util.concurrent.atomic.AtomicInteger;
+
+import javax.xml.namespace.QName;
+
+import org.junit.Assert;
+import org.junit.Before;
+import org.junit.Test;
+import org.switchyard.BaseHandler;
+import org.switchyard.Exchange;
+import org.switchyard.HandlerException;
+import org.switchyard.MockDomain;
+import org.switchyard.MockHandler;
+import org.switchyard.Scope;
+import org.switchyard.ServiceReference;
+import org.switchyard.metadata.InOutService;
+import org.switchyard.metadata.ServiceMetadataBuilder;
+import org.switchyard.metadata.qos.CircuitBreaker;
+import org.switchyard.metadata.qos.Deadline;
+import org.switchyard.runtime.qos.Circuit;
+import org.switchyard.runtime.qos.CircuitBreakerRegistry;
+
+public class CircuitBreakerHandlerTest {
+
+    private static final QName SERVICE_NAME = new QName("GuardedService");
+
+    private MockDomain _domain;
+    private FailingProvider _provider;
+    private ServiceReference _reference;
+    private CircuitBreaker _breaker;
+
+    @Before
+    public void setUp() throws Exception {
+        _domain = new MockDomain();
+        _provider = new FailingProvider();
+        InOutService intf = new InOutService();
+        _breaker = new CircuitBreaker()
+            .setWindowSize(4)
+            .setMinimumCalls(4)
+            .setFailureRateThreshold(50)
+            .setOpenDuration(60000);
+        _domain.registerService(SERVICE_NAME, intf, _provider,
+                ServiceMetadataBuilder.create().circuitBreaker(_breaker).build());
+        _reference = _domain.registerServiceReference(SERVICE_NAME, intf);
+    }
+
+    @Test
+    public void circuitOpensOnFailureRate() throws Exception {
+        send(false);
+        send(true);
+        send(false);
+        Circuit circuit = CircuitBreakerRegistry.getRegistry(_domain).getCircuit(SERVICE_NAME);
+        Assert.assertEquals(Circuit.State.CLOSED, circuit.getState());
+        send(true);
+        Assert.assertEquals(Circuit.State.OPEN, circuit.getState());
+        Assert.assertEquals(4, _provider.getInvocations());
+
+        // rejected without reaching the provider
+        MockHandler reply = send(false);
+        Assert.assertEquals(1, reply.getFaults().size());
+        Assert.assertEquals(4, _provider.getInvocations());
+        Assert.assertEquals(1, circuit.getRejectedCount());
+    }
+
+    @Test
+    public void halfOpenCircuitClosesAfterTrialCalls() throws Exception {
+        _breaker.setOpenDuration(0).setHalfOpenCalls(2);
+        for (int i = 0; i < 4; i++) {
+            send(true);
+        }
+        Circuit circuit = CircuitBreakerRegistry.getRegistry(_domain).getCircuit(SERVICE_NAME);
+        Assert.assertEquals(Circuit.State.OPEN, circuit.getState());
+
+        send(false);
+        Assert.assertEquals(Circuit.State.HALF_OPEN, circuit.getState());
+        send(false);
+        Assert.assertEquals(Circuit.State.CLOSED, circuit.getState());
+    }
+
+    @Test
+    public void expiredExchangeIsDropped() throws Exception {
+        MockHandler reply = new MockHandler();
+        Exchange exchange = _reference.createExchange(reply);
+        exchange.getContext().setProperty(Exchange.DEADLINE, System.currentTimeMillis() - 1000, Scope.EXCHANGE);
+        exchange.send(exchange.createMessage().setContent("hello"));
+        reply.waitForFaultMessage();
+        Assert.assertEquals(0, _provider.getInvocations());
+    }
+
+    @Test
+    public void deadlineStartsWhenExchangeIsCreated() throws Exception {
+        ServiceReference reference = _domain.registerServiceReference(new QName("TimedReference"),
+                new InOutService(), null, ServiceMetadataBuilder.create().deadline(new Deadline().setTimeout(60000)).build());
+        Exchange exchange = reference.createExchange(new MockHandler());
+        Long remaining = Deadline.getRemaining(exchange);
+        Assert.assertNotNull(remaining);
+        Assert.assertTrue(remaining > 0 && remaining <= 60000);
+        Assert.assertEquals(Integer.valueOf(5000), Deadline.capTimeout(exchange, 5000));
+        Assert.assertNull(Deadline.getRemaining(_reference.createExchange(new MockHandler())));
+    }
+
+    private MockHandler send(boolean fail) {
+        MockHandler reply = new MockHandler();
+        Exchange exchange = _reference.createExchange(reply);
+        exchange.send(exchange.createMessage().setContent(fail ? "fail" : "hello"));
+        if (reply.getFaults().isEmpty()) {
+            reply.waitForOKMessage();
+        }
+        return reply;
+    }
+
+    private static class FailingProvider extends BaseHandler {
+        private final AtomicInteger _invocations = new AtomicInteger();
+
+        @Override
+        public void handleMessage(Exchange exchange) throws HandlerException {
+            _invocations.incrementAndGet();
+            if ("fail".equals(exchange.getMessage().getContent())) {
+                throw new HandlerException("backend down");
+            }
+            exchange.send(exchange.createMessage().setContent("reply"));
+        }
+
+        int getInvocations() {
+            return _invocations.get();
+        }
+    }
+}
@@ -0,0 +1,150 @@
+/*
+ * Copyright 2013 Red Hat Inc. and/or its affiliates and other contributors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * http://www.apache.org/licenses/LICENSE-2.0
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,  
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.switchyard.handlers;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import javax.xml.namespace.QName;
+
+import org.junit.Assert;
+import org.junit.Before;
+import org.junit.Test;
+import org.switchyard.BaseHandler;
+import org.switchyard.Exchange;
+import org.switchyard.HandlerException;
+import org.switchyard.MockDomain;
+import org.switchyard.MockHandler;
+import org.switchyard.ServiceReference;
+import org.switchyard.metadata.InOutService;
+import org.switchyard.metadata.ServiceMetadataBuilder;
+import org.switchyard.metadata.qos.Coalescing;
+import org.switchyard.runtime.qos.RequestCoalescer;
+
+public class RequestCoalescingHandlerTest {
+
+    private static final QName SERVICE_NAME = new QName("CoalescedService");
+
+    private MockDomain _domain;
+    private SlowProvider _provider;
+    private ServiceReference _reference;
+
+    @Before
+    public void setUp() throws Exception {
+        _domain = new MockDomain();
+        _provider = new SlowProvider();
+        InOutService intf = new InOutService();
+        _domain.registerService(SERVICE_NAME, intf, _provider,
+                ServiceMetadataBuilder.create().coalescing(new Coalescing().setTimeout(10000)).build());
+        _reference = _domain.registerServiceReference(SERVICE_NAME, intf);
+    }
+
+    @Test
+    public void concurrentRequestsShareOneInvocation() throws Exception {
+        List<MockHandler> replies = sendConcurrently("hello");
+
+        Assert.assertEquals(1, _provider.getInvocations());
+        for (MockHandler replyHandler : replies) {
+            replyHandler.waitForOKMessage();
+            Assert.assertEquals("hello", replyHandler.getMessages().peek().getMessage().getContent());
+        }
+        Assert.assertEquals(0, RequestCoalescer.getCoalescer(_domain).getInFlightCount());
+    }
+
+    @Test
+    public void coalescedRequestsGetTheirOwnReply() throws Exception {
+        List<MockHandler> replies = sendConcurrently(new ArrayList<String>(Arrays.asList("hello")));
+
+        Assert.assertEquals(1, _provider.getInvocations());
+        List<Object> contents = new ArrayList<Object>();
+        for (MockHandler replyHandler : replies) {
+            replyHandler.waitForOKMessage();
+            Object content = replyHandler.getMessages().peek().getMessage().getContent();
+            Assert.assertEquals(Arrays.asList("hello"), content);
+            for (Object other : contents) {
+                Assert.assertNotSame(other, content);
+            }
+            contents.add(content);
+        }
+    }
+
+    private List<MockHandler> sendConcurrently(final Object content) throws Exception {
+        List<Thread> threads = new ArrayList<Thread>();
+        final List<MockHandler> replies = new ArrayList<MockHandler>();
+        for (int i = 0; i < 3; i++) {
+            final MockHandler replyHandler = new MockHandler();
+            replies.add(replyHandler);
+            Thread thread = new Thread() {
+                public void run() {
+                    Exchange exchange = _reference.createExchange(replyHandler);
+                    exchange.send(exchange.createMessage().setContent(content));
+                }
+            };
+            threads.add(thread);
+            thread.start();
+        }
+
+        RequestCoalescer coalescer = RequestCoalescer.getCoalescer(_domain);
+        long deadline = System.currentTimeMillis() + 5000;
+        while (coalescer.getCoalescedCount() < 2 && System.currentTimeMillis() < deadline) {
+            Thread.sleep(10);
+        }
+        _provider.release();
+        for (Thread thread : threads) {
+            thread.join(5000);
+        }
+        return replies;
+    }
+
+    @Test
+    public void sequentialRequestsAreNotCoalesced() throws Exception {
+        _provider.release();
+        for (int i = 0; i < 2; i++) {
+            MockHandler replyHandler = new MockHandler();
+            Exchange exchange = _reference.createExchange(replyHandler);
+            exchange.send(exchange.createMessage().setContent("hello"));
+            replyHandler.waitForOKMessage();
+        }
+        Assert.assertEquals(2, _provider.getInvocations());
+    }
+
+    private static class SlowProvider extends BaseHandler {
+        private final CountDownLatch _release = new CountDownLatch(1);
+        private final AtomicInteger _invocations = new AtomicInteger();
+
+        @Override
+        public void handleMessage(Exchange exchange) throws HandlerException {
+            _invocations.incrementAndGet();
+            try {
+                _release.await(5, TimeUnit.SECONDS);
+            } catch (InterruptedException e) {
+                throw new HandlerException(e);
+            }
+            exchange.send(exchange.createMessage().setContent(exchange.getMessage().getContent()));
+        }
+
+        void release() {
+            _release.countDown();
+        }
+
+        int getInvocations() {
+            return _invocations.get();
+        }
+    }
+}
@@ -0,0 +1,167 @@
+/*
+ * Copyright 2013 Red Hat Inc. and/or its affiliates and other contributors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * http://www.apache.org/licenses/LICENSE-2.0
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,  
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.switchyard.handlers;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+import javax.xml.namespace.QName;
+
+import org.junit.Assert;
+import org.junit.Before;
+import org.junit.Test;
+import org.switchyard.Exchange;
+import org.switchyard.MockDomain;
+import org.switchyard.MockHandler;
+import org.switchyard.Scope;
+import org.switchyard.ServiceReference;
+import org.switchyard.metadata.InOutService;
+import org.switchyard.metadata.ServiceMetadataBuilder;
+import org.switchyard.metadata.qos.Caching;
+import org.switchyard.policy.CachingPolicy;
+import org.switchyard.policy.PolicyUtil;
+import org.switchyard.runtime.qos.ResponseCache;
+import org.switchyard.runtime.qos.ResponseCacheRegistry;
+
+public class ResponseCacheHandlerTest {
+
+    private static final QName SERVICE_NAME = new QName("CachedService");
+
+    private MockDomain _domain;
+    private MockHandler _provider;
+    private ServiceReference _reference;
+
+    @Before
+    public void setUp() throws Exception {
+        _domain = new MockDomain();
+        _provider = new MockHandler().forwardInToOut();
+        InOutService intf = new InOutService();
+        _domain.registerService(SERVICE_NAME, intf, _provider,
+                ServiceMetadataBuilder.create().caching(new Caching().setMaxEntries(10)).build());
+        _reference = _domain.registerServiceReference(SERVICE_NAME, intf);
+    }
+
+    @Test
+    public void replyServedFromCache() throws Exception {
+        Assert.assertEquals("hello", invoke("hello").getMessage().getContent());
+        Assert.assertEquals(1, _provider.getMessages().size());
+
+        Exchange cached = invoke("hello");
+        Assert.assertEquals("hello", cached.getMessage().getContent());
+        Assert.assertEquals(1, _provider.getMessages().size());
+        Assert.assertTrue(PolicyUtil.isProvided(cached, CachingPolicy.RESPONSE_CACHING));
+
+        ResponseCache cache = ResponseCacheRegistry.getRegistry(_domain).getCache(SERVICE_NAME);
+        Assert.assertEquals(1, cache.getHitCount());
+        Assert.assertEquals(1, cache.getMissCount());
+        Assert.assertEquals(1, cache.size());
+    }
+
+    @Test
+    public void differentContentMisses() throws Exception {
+        invoke("hello");
+        invoke("goodbye");
+        Assert.assertEquals(2, _provider.getMessages().size());
+        Assert.assertEquals(2, ResponseCacheRegistry.getRegistry(_domain).getCache(SERVICE_NAME).size());
+    }
+
+    @Test
+    public void faultsAreNotCached() throws Exception {
+        _provider.forwardInToFault();
+        invoke("hello");
+        invoke("hello");
+        Assert.assertEquals(2, _provider.getMessages().size());
+        Assert.assertEquals(0, ResponseCacheRegistry.getRegistry(_domain).getCache(SERVICE_NAME).size());
+    }
+
+    @Test
+    public void cachedReplyIsNotShared() throws Exception {
+        List<String> reply = getList(invoke(new ArrayList<String>(Arrays.asList("hello"))));
+        reply.add("changed");
+
+        List<String> cached = getList(invoke(new ArrayList<String>(Arrays.asList("hello"))));
+        Assert.assertEquals(Arrays.asList("hello"), cached);
+        Assert.assertEquals(1, _provider.getMessages().size());
+        cached.add("changed");
+        Assert.assertEquals(Arrays.asList("hello"), getList(invoke(new ArrayList<String>(Arrays.asList("hello")))));
+    }
+
+    @Test
+    public void keyIsNotChangedByContent() throws Exception {
+        byte[] request = "hello".getBytes("UTF-8");
+        invoke(request);
+        request[0] = 'j';
+
+        invoke("hello".getBytes("UTF-8"));
+        Assert.assertEquals(1, _provider.getMessages().size());
+    }
+
+    @Test
+    public void keyIsNotChangedByContextProperty() throws Exception {
+        QName name = new QName("TenantCachedService");
+        InOutService intf = new InOutService();
+        _domain.registerService(name, intf, _provider,
+                ServiceMetadataBuilder.create().caching(new Caching().setKey("content", "tenants")).build());
+        ServiceReference reference = _domain.registerServiceReference(name, intf);
+        List<String> tenants = new ArrayList<String>(Arrays.asList("acme"));
+        invoke(reference, "hello", tenants);
+        tenants.set(0, "other");
+
+        invoke(reference, "hello", new ArrayList<String>(Arrays.asList("acme")));
+        Assert.assertEquals(1, _provider.getMessages().size());
+        invoke(reference, "hello", new ArrayList<String>(Arrays.asList("other")));
+        Assert.assertEquals(2, _provider.getMessages().size());
+    }
+
+    @Test
+    public void uncopyableContextPropertyIsNotCached() throws Exception {
+        QName name = new QName("TenantCachedService");
+        InOutService intf = new InOutService();
+        _domain.registerService(name, intf, _provider,
+                ServiceMetadataBuilder.create().caching(new Caching().setKey("content", "tenants")).build());
+        ServiceReference reference = _domain.registerServiceReference(name, intf);
+        Object tenants = new Object();
+        invoke(reference, "hello", tenants);
+        invoke(reference, "hello", tenants);
+        Assert.assertEquals(2, _provider.getMessages().size());
+    }
+
+    @Test
+    public void uncopyableContentIsNotCached() throws Exception {
+        invoke(new Object());
+        invoke(new Object());
+        Assert.assertEquals(2, _provider.getMessages().size());
+    }
+
+    @SuppressWarnings("unchecked")
+    private List<String> getList(Exchange exchange) {
+        return (List<String>) exchange.getMessage().getContent();
+    }
+
+    private Exchange invoke(ServiceReference reference, Object content, Object tenants) {
+        Exchange exchange = reference.createExchange(new MockHandler());
+        exchange.getContext().setProperty("tenants", tenants, Scope.EXCHANGE);
+        exchange.send(exchange.createMessage().setContent(content));
+        return exchange;
+    }
+
+    private Exchange invoke(Object content) {
+        MockHandler replyHandler = new MockHandler();
+        Exchange exchange = _reference.createExchange(replyHandler);
+        exchange.send(exchange.createMessage().setContent(content));
+        return exchange;
+    }
+}
@@ -14,6 +14,9 @@
 
 package org.switchyard.internal;
 
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.Map;
 import java.util.Set;
 
 import org.junit.Assert;
@@ -21,6 +24,7 @@ import org.junit.Before;
 import org.junit.Test;
 import org.switchyard.Context;
 import org.switchyard.Property;
+import org.switchyard.PropertyVisitor;
 import org.switchyard.Scope;
 import org.switchyard.label.BehaviorLabel;
 
@@ -160,5 +164,119 @@ public class DefaultContextTest {
         Assert.assertNull(_context.getProperty("exchange"));
         Assert.assertNotNull(ctx.getProperty("exchange"));
     }
-    
+
+    @Test
+    public void testLabelIndexFollowsLabelChanges() {
+        _context.setProperty("a", "a").addLabels(TRANSIENT);
+        _context.setProperty("b", "b");
+        // the first write built the index
+        Assert.assertEquals(1, _context.getProperties(TRANSIENT).size());
+
+        _context.getProperty("b").addLabels(TRANSIENT.toUpperCase());
+        Assert.assertEquals(2, _context.getProperties(TRANSIENT).size());
+        _context.getProperty("a").removeLabels(TRANSIENT);
+        Assert.assertEquals(1, _context.getProperties(TRANSIENT).size());
+
+        // replacing a property drops the labels of the old one
+        _context.setProperty("b", "c");
+        Assert.assertEquals(0, _context.getProperties(TRANSIENT).size());
+        _context.setProperty("c", "c").addLabels(TRANSIENT);
+        _context.removeProperty(_context.getProperty("c"));
+        Assert.assertEquals(0, _context.getProperties(TRANSIENT).size());
+    }
+
+    @Test
+    public void testLabelQueryOnSharedProperties() {
+        _context.setProperty("a", "a").addLabels(TRANSIENT);
+        DefaultContext ctx = new DefaultContext(Scope.EXCHANGE);
+        ctx.setProperty("b", "b").addLabels(TRANSIENT);
+        ctx.setProperties(_context.getProperties());
+        Assert.assertEquals(2, ctx.getProperties(TRANSIENT).size());
+
+        // the shared property is still followed by the context which created it
+        _context.getProperty("a").removeLabels(TRANSIENT);
+        Assert.assertEquals(0, _context.getProperties(TRANSIENT).size());
+        Assert.assertEquals(1, ctx.getProperties(TRANSIENT).size());
+    }
+
+    @Test
+    public void testLabelIndexAfterSharedPropertyIsRemoved() {
+        _context.setProperty("a", "a").addLabels(TRANSIENT);
+        DefaultContext ctx = new DefaultContext(Scope.EXCHANGE);
+        ctx.setProperties(_context.getProperties());
+        ctx.setProperty("b", "b").addLabels(TRANSIENT);
+        ctx.removeProperty(ctx.getProperty("a"));
+        Assert.assertEquals(1, ctx.getProperties(TRANSIENT).size());
+        ctx.getProperty("b").removeLabels(TRANSIENT);
+        Assert.assertEquals(0, ctx.getProperties(TRANSIENT).size());
+    }
+
+    @Test
+    public void testLabelQueryDoesNotIndex() {
+        Map<String, Property> properties = new HashMap<String, Property>();
+        ContextProperty property = new ContextProperty("a", Scope.EXCHANGE, "a");
+        property.addLabels(TRANSIENT);
+        properties.put("a", property);
+        DefaultContext ctx = new DefaultContext(Scope.EXCHANGE, properties);
+        Assert.assertEquals(1, ctx.getProperties(TRANSIENT).size());
+        // reads leave the property unclaimed
+        Assert.assertNull(property.getOwner());
+        ctx.setProperty("b", "b");
+        Assert.assertSame(ctx, property.getOwner());
+        property.removeLabels(TRANSIENT);
+        Assert.assertEquals(0, ctx.getProperties(TRANSIENT).size());
+    }
+
+    @Test
+    public void testVisitProperties() {
+        _context.setProperty("a", "a").addLabels(TRANSIENT);
+        _context.setProperty("b", "b").addLabels(TRANSIENT);
+        _context.setProperty("c", "c");
+
+        final Set<String> visited = new HashSet<String>();
+        _context.visitProperties(new PropertyVisitor() {
+            @Override
+            public boolean visit(Property property) {
+                visited.add(property.getName());
+                return true;
+            }
+        });
+        Assert.assertEquals(3, visited.size());
+
+        visited.clear();
+        _context.visitProperties(TRANSIENT, new PropertyVisitor() {
+            @Override
+            public boolean visit(Property property) {
+                visited.add(property.getName());
+                return false;
+            }
+        });
+        Assert.assertEquals(1, visited.size());
+        Assert.assertTrue(_context.getProperty(visited.iterator().next()).hasLabel(TRANSIENT));
+    }
+
+    @Test
+    public void testMergeIntoItself() {
+        _context.setProperty("a", "a").addLabels("x");
+        _context.setProperty("b", "b");
+        _context.mergeInto(_context);
+        Assert.assertEquals(2, _context.getProperties().size());
+        Assert.assertTrue(_context.getProperty("a").hasLabel("x"));
+    }
+
+    @Test
+    public void testMergeIntoContextSharingProperties() {
+        Map<String, Property> properties = new HashMap<String, Property>();
+        DefaultContext source = new DefaultContext(Scope.EXCHANGE, properties);
+        DefaultContext destination = new DefaultContext(Scope.EXCHANGE, properties);
+        for (int i = 0; i < 20; i++) {
+            source.setProperty("p" + i, i).addLabels("x");
+        }
+        source.setProperty("t", "t").addLabels(TRANSIENT);
+        source.mergeInto(destination);
+        Assert.assertEquals(21, destination.getProperties().size());
+        Assert.assertEquals(20, destination.getProperties("x").size());
+        Assert.assertEquals(Integer.valueOf(7), destination.getPropertyValue("p7"));
+    }
+
 }
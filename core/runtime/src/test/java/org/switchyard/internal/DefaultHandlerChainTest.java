@@ -14,6 +14,8 @@
 
 package org.switchyard.internal;
 
+import java.util.List;
+
 import javax.xml.namespace.QName;
 
 import org.junit.Assert;
@@ -22,10 +24,13 @@ import org.junit.Test;
 import org.switchyard.BaseHandler;
 import org.switchyard.Exchange;
 import org.switchyard.ExchangeHandler;
+import org.switchyard.ExchangePhase;
 import org.switchyard.MockDomain;
 import org.switchyard.MockHandler;
 import org.switchyard.ServiceReference;
 import org.switchyard.metadata.InOnlyOperation;
+import org.switchyard.runtime.timing.StageTimingRegistry;
+import org.switchyard.runtime.timing.StageTimings;
 import org.switchyard.spi.Dispatcher;
 
 public class DefaultHandlerChainTest {
@@ -87,7 +92,33 @@ public class DefaultHandlerChainTest {
         
         Assert.assertEquals(m4, _chain.getHandlers().get(1));
     }
-}
+    
+    @Test
+    public void stageTimingRecordsEachHandler() throws Exception {
+        DefaultHandlerChain chain = new DefaultHandlerChain();
+        chain.addLast("first", new BaseHandler());
+        chain.addLast("second", new BaseHandler());
 
+        MockDomain domain = new MockDomain();
+        ServiceReference reference = domain.createInOnlyService(new QName("bar"));
+        Dispatcher dispatch = domain.getBus().createDispatcher(reference);
+        Exchange ex = new ExchangeImpl(domain, dispatch).consumer(reference, new InOnlyOperation("foo"));
+        StageTimingRegistry registry = StageTimingRegistry.getRegistry(domain);
+        StageTimings timings = registry.getTimings(reference.getName());
+        chain.setStageTimings(timings);
 
+        // off by default
+        chain.handleMessage(ex);
+        Assert.assertTrue(timings.getStages().isEmpty());
 
+        registry.setEnabled(true);
+        chain.handleMessage(ex);
+        chain.handleMessage(ex);
+        List<StageTimings.Stage> stages = timings.getStages();
+        Assert.assertEquals(2, stages.size());
+        Assert.assertEquals("first", stages.get(0).getName());
+        Assert.assertEquals("second", stages.get(1).getName());
+        Assert.assertEquals(ExchangePhase.IN, stages.get(0).getPhase());
+        Assert.assertEquals(2, stages.get(0).getHistogram().getCount());
+    }
+}
@@ -37,6 +37,8 @@ import org.switchyard.metadata.InOnlyService;
 import org.switchyard.metadata.InOutOperation;
 import org.switchyard.metadata.InOutService;
 import org.switchyard.metadata.ServiceInterface;
+import org.switchyard.runtime.timing.StageTimingRegistry;
+import org.switchyard.runtime.timing.StageTimings;
 
 /**
  *  Unit tests for the DomainImpl class.
@@ -118,6 +120,40 @@ public class DomainImplTest {
         _domain.getEventPublisher().publish(new ReferenceRegistrationEvent(_inOnlyReference));
         Assert.assertEquals(1, obs.count);
     }
+
+    @Test
+    public void testUnregisterDropsDispatcherAndTimings() {
+        StageTimingRegistry registry = StageTimingRegistry.getRegistry(_domain);
+        Assert.assertTrue(hasTimings(registry, IN_ONLY_SERVICE));
+        _inOnlyReference.unregister();
+        Assert.assertNull(_domain.getBus().getDispatcher(_inOnlyReference));
+        Assert.assertFalse(hasTimings(registry, IN_ONLY_SERVICE));
+        Assert.assertNotNull(_domain.getBus().getDispatcher(_inOutReference));
+        Assert.assertTrue(hasTimings(registry, IN_OUT_SERVICE));
+    }
+
+    @Test
+    public void testUnregisterKeepsDispatcherOfReplacement() {
+        ServiceReference replacement = _domain.registerServiceReference(IN_ONLY_SERVICE, new InOnlyService());
+        _inOnlyReference.unregister();
+        Assert.assertSame(replacement, _domain.getBus().getDispatcher(replacement).getServiceReference());
+        Assert.assertTrue(hasTimings(StageTimingRegistry.getRegistry(_domain), IN_ONLY_SERVICE));
+    }
+
+    @Test
+    public void testDestroyDropsTimings() {
+        _domain.destroy();
+        Assert.assertTrue(StageTimingRegistry.getRegistry(_domain).getTimings().isEmpty());
+    }
+
+    private static boolean hasTimings(StageTimingRegistry registry, QName service) {
+        for (StageTimings timings : registry.getTimings()) {
+            if (timings.getService().equals(service)) {
+                return true;
+            }
+        }
+        return false;
+    }
     
 }
 
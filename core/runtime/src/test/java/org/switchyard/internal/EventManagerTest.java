@@ -14,10 +14,21 @@
 
 package org.switchyard.internal;
 
+import java.util.EventObject;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+
 import junit.framework.Assert;
 
 import org.junit.Before;
 import org.junit.Test;
+import org.switchyard.MockExchange;
+import org.switchyard.event.EventObserver;
+import org.switchyard.runtime.event.ExchangeCompletionEvent;
+import org.switchyard.runtime.event.ExchangeInitiatedEvent;
 
 /**
  *  Unit tests for the EventManager class.
@@ -34,4 +45,34 @@ public class EventManagerTest {
     @Test
     public void testSomething() {
     }
+
+    @Test
+    public void testCompletionEventsUseExecutor() throws Exception {
+        final BlockingQueue<Thread> threads = new ArrayBlockingQueue<Thread>(2);
+        EventObserver observer = new EventObserver() {
+            @Override
+            public void notify(EventObject event) {
+                threads.add(Thread.currentThread());
+            }
+        };
+        _manager.addObserver(observer, ExchangeCompletionEvent.class);
+        _manager.addObserver(observer, ExchangeInitiatedEvent.class);
+        ExecutorService executor = Executors.newSingleThreadExecutor();
+        try {
+            _manager.setExecutor(executor);
+            _manager.publish(new ExchangeInitiatedEvent(new MockExchange()));
+            Assert.assertSame(Thread.currentThread(), threads.poll());
+            _manager.publish(new ExchangeCompletionEvent(new MockExchange()));
+            Thread delivering = threads.poll(5, TimeUnit.SECONDS);
+            Assert.assertNotNull(delivering);
+            Assert.assertNotSame(Thread.currentThread(), delivering);
+
+            // a rejected event is delivered on the publishing thread
+            executor.shutdown();
+            _manager.publish(new ExchangeCompletionEvent(new MockExchange()));
+            Assert.assertSame(Thread.currentThread(), threads.poll());
+        } finally {
+            executor.shutdownNow();
+        }
+    }
 }
@@ -0,0 +1,145 @@
+/*
+ * Copyright 2013 Red Hat Inc. and/or its affiliates and other contributors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * http://www.apache.org/licenses/LICENSE-2.0
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.switchyard.runtime.executor;
+
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicReference;
+
+import javax.xml.namespace.QName;
+
+import org.junit.After;
+import org.junit.Assert;
+import org.junit.Before;
+import org.junit.Test;
+import org.switchyard.metadata.qos.AsyncDispatch;
+import org.switchyard.metadata.qos.Priority;
+
+public class DispatchQueueTest {
+
+    private ExecutorRegistry _registry;
+
+    @Before
+    public void setUp() {
+        _registry = new ExecutorRegistry(null);
+    }
+
+    @After
+    public void tearDown() {
+        _registry.shutdown();
+    }
+
+    @Test
+    public void overflowRunsOnCaller() throws Exception {
+        final CountDownLatch started = new CountDownLatch(1);
+        final CountDownLatch release = new CountDownLatch(1);
+        DispatchQueue queue = new DispatchQueue(_registry, new QName("Sink"),
+                new AsyncDispatch().setQueueSize(1).setOverflow(AsyncDispatch.Overflow.CALLER_RUNS));
+        Assert.assertEquals(1, queue.getWorkers());
+
+        Assert.assertTrue(queue.dispatch(new Runnable() {
+            @Override
+            public void run() {
+                started.countDown();
+                try {
+                    release.await(5, TimeUnit.SECONDS);
+                } catch (InterruptedException ie) {
+                    Thread.currentThread().interrupt();
+                }
+            }
+        }));
+        Assert.assertTrue(started.await(5, TimeUnit.SECONDS));
+        Assert.assertTrue(queue.dispatch(new Runnable() {
+            @Override
+            public void run() {
+            }
+        }));
+        Assert.assertEquals(1, queue.getDepth());
+
+        final AtomicReference<Thread> ranOn = new AtomicReference<Thread>();
+        Assert.assertFalse(queue.dispatch(new Runnable() {
+            @Override
+            public void run() {
+                ranOn.set(Thread.currentThread());
+            }
+        }));
+        Assert.assertSame(Thread.currentThread(), ranOn.get());
+        Assert.assertEquals(1, queue.getCallerRunsCount());
+
+        release.countDown();
+        Assert.assertTrue(queue.stop(5000));
+        Assert.assertEquals(2, queue.getEnqueuedCount());
+        Assert.assertEquals(2, queue.getDispatchedCount());
+        Assert.assertEquals(0, queue.getDepth());
+    }
+
+    @Test
+    public void workersRunOnNamedPool() throws Exception {
+        _registry.register(new ThreadPoolConfig("inbound").setCoreSize(2));
+        DispatchQueue queue = new DispatchQueue(_registry, new QName("Sink"),
+                new AsyncDispatch().setWorkers(2).setThreadPool("inbound"));
+        Assert.assertEquals(2, queue.getWorkers());
+
+        final AtomicReference<String> thread = new AtomicReference<String>();
+        final CountDownLatch done = new CountDownLatch(1);
+        queue.dispatch(new Runnable() {
+            @Override
+            public void run() {
+                thread.set(Thread.currentThread().getName());
+                done.countDown();
+            }
+        });
+        Assert.assertTrue(done.await(5, TimeUnit.SECONDS));
+        Assert.assertTrue(thread.get(), thread.get().startsWith("SwitchYard-inbound"));
+        queue.stop(5000);
+    }
+
+    @Test
+    public void higherPriorityIsDispatchedFirst() throws Exception {
+        final CountDownLatch started = new CountDownLatch(1);
+        final CountDownLatch release = new CountDownLatch(1);
+        final List<Priority.Level> order = new CopyOnWriteArrayList<Priority.Level>();
+        DispatchQueue queue = new DispatchQueue(_registry, new QName("Sink"), new AsyncDispatch());
+        queue.dispatch(new Runnable() {
+            @Override
+            public void run() {
+                started.countDown();
+                try {
+                    release.await(5, TimeUnit.SECONDS);
+                } catch (InterruptedException ie) {
+                    Thread.currentThread().interrupt();
+                }
+            }
+        });
+        Assert.assertTrue(started.await(5, TimeUnit.SECONDS));
+        for (final Priority.Level level : new Priority.Level[] {Priority.Level.LOW, Priority.Level.LOW, Priority.Level.HIGH}) {
+            queue.dispatch(new Runnable() {
+                @Override
+                public void run() {
+                    order.add(level);
+                }
+            }, level);
+        }
+        Assert.assertEquals(Integer.valueOf(2), queue.getDepthByPriority().get("LOW"));
+        Assert.assertEquals(Integer.valueOf(1), queue.getDepthByPriority().get("HIGH"));
+
+        release.countDown();
+        Assert.assertTrue(queue.stop(5000));
+        Assert.assertEquals(Priority.Level.HIGH, order.get(0));
+        Assert.assertEquals(3, order.size());
+        Assert.assertEquals(2, queue.getAgeStatistics().getCount(Priority.Level.LOW));
+    }
+}
@@ -0,0 +1,128 @@
+/*
+ * Copyright 2013 Red Hat Inc. and/or its affiliates and other contributors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * http://www.apache.org/licenses/LICENSE-2.0
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.switchyard.runtime.executor;
+
+import java.lang.management.ManagementFactory;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+
+import javax.management.MBeanServer;
+import javax.management.ObjectName;
+import javax.xml.namespace.QName;
+
+import org.junit.After;
+import org.junit.Assert;
+import org.junit.Before;
+import org.junit.Test;
+import org.switchyard.SwitchYardException;
+import org.switchyard.runtime.executor.ThreadPoolConfig.QueueType;
+import org.switchyard.runtime.executor.ThreadPoolConfig.RejectionPolicy;
+
+public class ExecutorRegistryTest {
+
+    private ExecutorRegistry _registry;
+
+    @Before
+    public void setUp() {
+        _registry = new ExecutorRegistry(null);
+    }
+
+    @After
+    public void tearDown() {
+        _registry.shutdown();
+    }
+
+    @Test
+    public void poolIsCreatedFromItsSettings() {
+        _registry.register(new ThreadPoolConfig("shared").setCoreSize(2).setMaxSize(4)
+                .setQueueType(QueueType.SYNCHRONOUS).setRejectionPolicy(RejectionPolicy.CALLER_RUNS));
+        ThreadPoolExecutor executor = (ThreadPoolExecutor) _registry.getExecutor("shared");
+        Assert.assertEquals(2, executor.getCorePoolSize());
+        Assert.assertEquals(4, executor.getMaximumPoolSize());
+        Assert.assertEquals(0, executor.getQueue().remainingCapacity());
+        Assert.assertSame(executor, _registry.getExecutor("shared"));
+        Assert.assertSame(executor, _registry.getExecutor("shared", new QName("A")));
+    }
+
+    @Test
+    public void perServicePoolsAreIsolated() {
+        _registry.register(new ThreadPoolConfig("isolated").setCoreSize(1).setPerService(true));
+        ExecutorService a = _registry.getExecutor("isolated", new QName("A"));
+        ExecutorService b = _registry.getExecutor("isolated", new QName("B"));
+        Assert.assertNotSame(a, b);
+        Assert.assertSame(a, _registry.getExecutor("isolated", new QName("A")));
+    }
+
+    @Test(expected = SwitchYardException.class)
+    public void unknownPoolIsRejected() {
+        _registry.getExecutor("missing");
+    }
+
+    @Test
+    public void metricsArePublished() throws Exception {
+        _registry.register(new ThreadPoolConfig("monitored").setCoreSize(1).setQueueSize(1));
+        ExecutorService executor = _registry.getExecutor("monitored");
+        final CountDownLatch release = new CountDownLatch(1);
+        Runnable blocked = new Runnable() {
+            @Override
+            public void run() {
+                try {
+                    release.await(5, TimeUnit.SECONDS);
+                } catch (InterruptedException ie) {
+                    Thread.currentThread().interrupt();
+                }
+            }
+        };
+        executor.execute(blocked);
+        executor.execute(blocked);
+        try {
+            executor.execute(blocked);
+            Assert.fail("Saturated pool accepted a task");
+        } catch (RejectedExecutionException expected) {
+            Assert.assertNotNull(expected);
+        }
+
+        MBeanServer server = ManagementFactory.getPlatformMBeanServer();
+        ObjectName name = new ObjectName("org.switchyard:type=ThreadPool,name=\"monitored\"");
+        Assert.assertEquals(1L, server.getAttribute(name, "RejectedTaskCount"));
+        Assert.assertEquals(1, server.getAttribute(name, "QueueSize"));
+        Assert.assertEquals(1, server.getAttribute(name, "CoreSize"));
+        release.countDown();
+
+        _registry.shutdown();
+        Assert.assertFalse(server.isRegistered(name));
+        Assert.assertTrue(executor.isShutdown());
+    }
+
+    @Test
+    public void removedPoolIsShutDown() throws Exception {
+        _registry.register(new ThreadPoolConfig("endpoint").setPerService(true));
+        _registry.register(new ThreadPoolConfig("kept"));
+        ExecutorService shared = _registry.getExecutor("endpoint");
+        ExecutorService service = _registry.getExecutor("endpoint", new QName("A"));
+        ExecutorService kept = _registry.getExecutor("kept");
+
+        _registry.remove("endpoint");
+        Assert.assertFalse(_registry.hasThreadPool("endpoint"));
+        Assert.assertTrue(shared.isShutdown());
+        Assert.assertTrue(service.isShutdown());
+        MBeanServer server = ManagementFactory.getPlatformMBeanServer();
+        Assert.assertFalse(server.isRegistered(new ObjectName("org.switchyard:type=ThreadPool,name=\"endpoint\"")));
+        Assert.assertFalse(kept.isShutdown());
+        Assert.assertTrue(server.isRegistered(new ObjectName("org.switchyard:type=ThreadPool,name=\"kept\"")));
+    }
+}
@@ -0,0 +1,156 @@
+/*
+ * Copyright 2013 Red Hat Inc. and/or its affiliates and other contributors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * http://www.apache.org/licenses/LICENSE-2.0
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,  
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.switchyard.runtime.executor;
+
+import java.io.File;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import javax.xml.namespace.QName;
+
+import org.junit.After;
+import org.junit.Assert;
+import org.junit.Before;
+import org.junit.Test;
+import org.switchyard.metadata.qos.AsyncDispatch;
+import org.switchyard.runtime.journal.Journal;
+
+public class JournalDispatchQueueTest {
+
+    private ExecutorRegistry _registry;
+    private File _directory;
+    private AsyncDispatch _config;
+
+    @Before
+    public void setUp() throws Exception {
+        _registry = new ExecutorRegistry(null);
+        _directory = File.createTempFile("journal", "");
+        _directory.delete();
+        _config = new AsyncDispatch().setJournal(_directory.getPath()).setJournalSegmentSize(4096);
+    }
+
+    @After
+    public void tearDown() {
+        _registry.shutdown();
+        delete(_directory);
+    }
+
+    @Test
+    public void failedReplayIsRetried() throws Exception {
+        final AtomicInteger attempts = new AtomicInteger();
+        final CountDownLatch done = new CountDownLatch(1);
+        JournalDispatchQueue queue = new JournalDispatchQueue(_registry, new QName("Sink"), _config,
+                new JournalDispatchQueue.RecordHandler() {
+                    @Override
+                    public void handle(byte[] record) throws Exception {
+                        if (attempts.incrementAndGet() == 1) {
+                            throw new Exception("not yet");
+                        }
+                        done.countDown();
+                    }
+                });
+        queue.dispatch("hello".getBytes());
+        Assert.assertTrue(done.await(5, TimeUnit.SECONDS));
+        Assert.assertTrue(queue.stop(5000));
+        Assert.assertEquals(1, queue.getRetriedCount());
+        Assert.assertEquals(1, queue.getDispatchedCount());
+        Assert.assertEquals(0, queue.getPending());
+    }
+
+    @Test
+    public void poisonRecordIsDeadLettered() throws Exception {
+        final CountDownLatch done = new CountDownLatch(1);
+        _config.setJournalMaxAttempts(2);
+        JournalDispatchQueue queue = new JournalDispatchQueue(_registry, new QName("Sink"), _config,
+                new JournalDispatchQueue.RecordHandler() {
+                    @Override
+                    public void handle(byte[] record) throws Exception {
+                        if ("poison".equals(new String(record))) {
+                            throw new Exception("cannot be read");
+                        }
+                        done.countDown();
+                    }
+                });
+        queue.dispatch("poison".getBytes());
+        queue.dispatch("hello".getBytes());
+        Assert.assertTrue(done.await(10, TimeUnit.SECONDS));
+        Assert.assertTrue(queue.stop(5000));
+        Assert.assertEquals(1, queue.getRetriedCount());
+        Assert.assertEquals(1, queue.getDeadLetteredCount());
+        Assert.assertEquals(1, queue.getDispatchedCount());
+        Assert.assertEquals(0, queue.getPending());
+
+        File deadLetters = new File(JournalDispatchQueue.getDirectory(_config, new QName("Sink")),
+                JournalDispatchQueue.DEAD_LETTER_DIRECTORY);
+        Journal journal = new Journal(deadLetters, 4096, false);
+        try {
+            Assert.assertEquals(1, journal.getPending());
+            Assert.assertEquals("poison", new String(journal.poll(0).getPayload()));
+        } finally {
+            journal.close();
+        }
+    }
+
+    @Test
+    public void pendingRecordsAreReplayedOnRestart() throws Exception {
+        final CountDownLatch started = new CountDownLatch(1);
+        final CountDownLatch release = new CountDownLatch(1);
+        JournalDispatchQueue queue = new JournalDispatchQueue(_registry, new QName("Sink"), _config,
+                new JournalDispatchQueue.RecordHandler() {
+                    @Override
+                    public void handle(byte[] record) throws Exception {
+                        started.countDown();
+                        release.await(5, TimeUnit.SECONDS);
+                        throw new Exception("unavailable");
+                    }
+                });
+        queue.dispatch("first".getBytes());
+        queue.dispatch("second".getBytes());
+        Assert.assertTrue(started.await(5, TimeUnit.SECONDS));
+        Assert.assertEquals(2, queue.getPending());
+        Assert.assertEquals(1, queue.getDepth());
+        release.countDown();
+        Assert.assertTrue(queue.stop(5000));
+
+        final List<String> replayed = new CopyOnWriteArrayList<String>();
+        final CountDownLatch done = new CountDownLatch(2);
+        queue = new JournalDispatchQueue(_registry, new QName("Sink"), _config,
+                new JournalDispatchQueue.RecordHandler() {
+                    @Override
+                    public void handle(byte[] record) throws Exception {
+                        replayed.add(new String(record));
+                        done.countDown();
+                    }
+                });
+        Assert.assertTrue(done.await(5, TimeUnit.SECONDS));
+        Assert.assertTrue(queue.stop(5000));
+        Assert.assertEquals("first", replayed.get(0));
+        Assert.assertEquals("second", replayed.get(1));
+        Assert.assertEquals(0, queue.getPending());
+    }
+
+    private static void delete(File file) {
+        File[] files = file.listFiles();
+        if (files != null) {
+            for (File child : files) {
+                delete(child);
+            }
+        }
+        file.delete();
+    }
+}
@@ -0,0 +1,162 @@
+/*
+ * Copyright 2013 Red Hat Inc. and/or its affiliates and other contributors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * http://www.apache.org/licenses/LICENSE-2.0
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,  
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.switchyard.runtime.journal;
+
+import java.io.File;
+import java.io.RandomAccessFile;
+
+import org.junit.After;
+import org.junit.Assert;
+import org.junit.Before;
+import org.junit.Test;
+import org.switchyard.SwitchYardException;
+
+public class JournalTest {
+
+    private File _directory;
+
+    @Before
+    public void setUp() throws Exception {
+        _directory = File.createTempFile("journal", "");
+        _directory.delete();
+    }
+
+    @After
+    public void tearDown() {
+        File[] files = _directory.listFiles();
+        if (files != null) {
+            for (File file : files) {
+                file.delete();
+            }
+        }
+        _directory.delete();
+    }
+
+    @Test
+    public void recordsAreReadInOrder() throws Exception {
+        Journal journal = new Journal(_directory, 4096, false);
+        journal.append("one".getBytes());
+        journal.append("two".getBytes());
+        Assert.assertEquals(2, journal.getPending());
+
+        Journal.Record first = journal.poll(0);
+        Journal.Record second = journal.poll(0);
+        Assert.assertEquals("one", new String(first.getPayload()));
+        Assert.assertEquals("two", new String(second.getPayload()));
+        Assert.assertNull(journal.poll(10));
+        Assert.assertEquals(0, journal.getUnread());
+
+        journal.ack(second);
+        journal.ack(first);
+        journal.ack(first);
+        Assert.assertEquals(0, journal.getPending());
+        journal.close();
+    }
+
+    @Test
+    public void consumedSegmentsAreRecycled() throws Exception {
+        Journal journal = new Journal(_directory, 1024, false);
+        byte[] payload = new byte[300];
+        for (int i = 0; i < 20; i++) {
+            journal.append(payload);
+            journal.ack(journal.poll(0));
+        }
+        Assert.assertEquals(0, journal.getPending());
+        Assert.assertEquals(1, journal.getSegmentCount());
+        // the current segment and at most two spares
+        Assert.assertTrue(_directory.listFiles().length <= 3);
+        journal.close();
+    }
+
+    @Test
+    public void recycledSegmentsAreClearedBeforeReuse() throws Exception {
+        Journal journal = new Journal(_directory, 1024, false);
+        byte[] payload = new byte[300];
+        for (int i = 0; i < 9; i++) {
+            journal.append(payload);
+            journal.ack(journal.poll(0));
+        }
+        // a short record in a reused segment, followed by stale bytes if it was not cleared
+        journal.append("last".getBytes());
+        journal.close();
+
+        journal = new Journal(_directory, 1024, false);
+        Assert.assertEquals(1, journal.getPending());
+        Assert.assertEquals("last", new String(journal.poll(0).getPayload()));
+        Assert.assertNull(journal.poll(0));
+        journal.close();
+    }
+
+    @Test
+    public void unacknowledgedRecordsAreReplayed() throws Exception {
+        Journal journal = new Journal(_directory, 1024, false);
+        for (int i = 0; i < 10; i++) {
+            journal.append(("record-" + i).getBytes());
+        }
+        for (int i = 0; i < 4; i++) {
+            journal.ack(journal.poll(0));
+        }
+        // read but not acknowledged
+        journal.poll(0);
+        journal.close();
+
+        journal = new Journal(_directory, 1024, false);
+        Assert.assertEquals(6, journal.getPending());
+        for (int i = 4; i < 10; i++) {
+            Journal.Record record = journal.poll(0);
+            Assert.assertEquals("record-" + i, new String(record.getPayload()));
+            journal.ack(record);
+        }
+        journal.append("after".getBytes());
+        Assert.assertEquals("after", new String(journal.poll(0).getPayload()));
+        journal.close();
+    }
+
+    @Test
+    public void tornRecordIsIgnored() throws Exception {
+        Journal journal = new Journal(_directory, 1024, false);
+        journal.append("complete".getBytes());
+        journal.append("torn".getBytes());
+        journal.close();
+
+        // damage the payload of the second record
+        RandomAccessFile raf = new RandomAccessFile(_directory.listFiles()[0], "rw");
+        try {
+            raf.seek(12 + 8 + "complete".length() + 8);
+            raf.write('x');
+        } finally {
+            raf.close();
+        }
+
+        journal = new Journal(_directory, 1024, false);
+        Assert.assertEquals(1, journal.getPending());
+        Assert.assertEquals("complete", new String(journal.poll(0).getPayload()));
+        Assert.assertNull(journal.poll(0));
+        journal.close();
+    }
+
+    @Test
+    public void recordLargerThanSegmentIsRejected() throws Exception {
+        Journal journal = new Journal(_directory, 1024, false);
+        try {
+            journal.append(new byte[1024]);
+            Assert.fail("Record larger than a segment was appended");
+        } catch (SwitchYardException expected) {
+            Assert.assertNotNull(expected.getMessage());
+        } finally {
+            journal.close();
+        }
+    }
+}
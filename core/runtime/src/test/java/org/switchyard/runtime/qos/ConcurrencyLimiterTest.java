@@ -0,0 +1,195 @@
+/*
+ * Copyright 2013 Red Hat Inc. and/or its affiliates and other contributors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * http://www.apache.org/licenses/LICENSE-2.0
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.switchyard.runtime.qos;
+
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+
+import javax.xml.namespace.QName;
+
+import org.junit.Assert;
+import org.junit.Test;
+import org.switchyard.metadata.qos.Bulkhead;
+import org.switchyard.metadata.qos.Priority;
+
+public class ConcurrencyLimiterTest {
+
+    @Test
+    public void rejectsImmediatelyWithoutQueue() throws Exception {
+        ConcurrencyLimiter limiter = new ConcurrencyLimiter(new Bulkhead().setMaxConcurrent(1));
+        long start = limiter.acquire();
+        Assert.assertTrue(start >= 0);
+        Assert.assertEquals(-1, limiter.acquire());
+        Assert.assertEquals(1, limiter.getRejectedCount());
+        Assert.assertEquals(1, limiter.getInFlight());
+
+        limiter.release(start, true);
+        Assert.assertEquals(0, limiter.getInFlight());
+        Assert.assertTrue(limiter.acquire() >= 0);
+    }
+
+    @Test
+    public void queuedExchangeGetsReleasedSlot() throws Exception {
+        final ConcurrencyLimiter limiter = new ConcurrencyLimiter(
+                new Bulkhead().setMaxConcurrent(1).setMaxQueued(1).setQueueTimeout(5000));
+        long start = limiter.acquire();
+        ExecutorService executor = Executors.newSingleThreadExecutor();
+        try {
+            Future<Long> queued = executor.submit(new Callable<Long>() {
+                public Long call() throws Exception {
+                    return limiter.acquire();
+                }
+            });
+            while (limiter.getQueued() == 0) {
+                Thread.sleep(5);
+            }
+            // the queue is full, so a third exchange is turned away right away
+            Assert.assertEquals(-1, limiter.acquire());
+            limiter.release(start, true);
+            Assert.assertTrue(queued.get(5, TimeUnit.SECONDS) >= 0);
+            Assert.assertEquals(1, limiter.getInFlight());
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+    @Test
+    public void queuedExchangeTimesOut() throws Exception {
+        ConcurrencyLimiter limiter = new ConcurrencyLimiter(
+                new Bulkhead().setMaxConcurrent(1).setMaxQueued(1).setQueueTimeout(10));
+        limiter.acquire();
+        Assert.assertEquals(-1, limiter.acquire());
+        Assert.assertEquals(0, limiter.getQueued());
+        Assert.assertEquals(1, limiter.getRejectedCount());
+    }
+
+    @Test
+    public void aimdLimitGrowsAndBacksOff() throws Exception {
+        ConcurrencyLimiter limiter = new ConcurrencyLimiter(
+                new Bulkhead().setMaxConcurrent(10).setLimit(Bulkhead.Limit.AIMD));
+        Assert.assertEquals(5, limiter.getLimit());
+        for (int i = 0; i < 20; i++) {
+            limiter.release(limiter.acquire(), true);
+        }
+        int grown = limiter.getLimit();
+        Assert.assertTrue(grown > 5);
+        limiter.release(limiter.acquire(), false);
+        Assert.assertTrue(limiter.getLimit() < grown);
+    }
+
+    @Test
+    public void limitStaysWithinBounds() throws Exception {
+        ConcurrencyLimiter limiter = new ConcurrencyLimiter(
+                new Bulkhead().setMaxConcurrent(4).setMinConcurrent(2).setLimit(Bulkhead.Limit.GRADIENT));
+        for (int i = 0; i < 50; i++) {
+            limiter.release(limiter.acquire(), false);
+        }
+        Assert.assertEquals(2, limiter.getLimit());
+        for (int i = 0; i < 200; i++) {
+            limiter.release(limiter.acquire(), true);
+        }
+        Assert.assertTrue(limiter.getLimit() > 2);
+        Assert.assertTrue(limiter.getLimit() <= 4);
+    }
+
+    @Test
+    public void registryReconfiguresInPlace() throws Exception {
+        BulkheadRegistry registry = new BulkheadRegistry();
+        QName name = new QName("svc");
+        ConcurrencyLimiter limiter = registry.getLimiter(name, new Bulkhead().setMaxConcurrent(1));
+        limiter.acquire();
+        Assert.assertSame(limiter, registry.getLimiter(name, new Bulkhead().setMaxConcurrent(3)));
+        Assert.assertEquals(3, limiter.getLimit());
+        Assert.assertEquals(1, limiter.getInFlight());
+    }
+
+    @Test
+    public void higherPriorityGetsReleasedSlotFirst() throws Exception {
+        final ConcurrencyLimiter limiter = new ConcurrencyLimiter(
+                new Bulkhead().setMaxConcurrent(1).setMaxQueued(2).setQueueTimeout(5000));
+        long start = limiter.acquire();
+        ExecutorService executor = Executors.newFixedThreadPool(2);
+        try {
+            Future<Long> low = executor.submit(new Callable<Long>() {
+                public Long call() throws Exception {
+                    return limiter.acquire(Priority.Level.LOW);
+                }
+            });
+            while (limiter.getQueued(Priority.Level.LOW) == 0) {
+                Thread.sleep(5);
+            }
+            Future<Long> high = executor.submit(new Callable<Long>() {
+                public Long call() throws Exception {
+                    return limiter.acquire(Priority.Level.HIGH);
+                }
+            });
+            while (limiter.getQueued(Priority.Level.HIGH) == 0) {
+                Thread.sleep(5);
+            }
+
+            // the high priority exchange arrived last but is served first
+            limiter.release(start, true);
+            long highStart = high.get(5, TimeUnit.SECONDS);
+            Assert.assertTrue(highStart >= 0);
+            Assert.assertFalse(low.isDone());
+            limiter.release(highStart, true, Priority.Level.HIGH);
+            Assert.assertTrue(low.get(5, TimeUnit.SECONDS) >= 0);
+
+            Assert.assertEquals(1, limiter.getLatencyStatistics().getCount(Priority.Level.HIGH));
+            Assert.assertEquals(1, limiter.getWaitStatistics().getCount(Priority.Level.LOW));
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+    @Test
+    public void fairQueueSharesByWeight() {
+        WeightedFairQueue<Priority.Level> queue = new WeightedFairQueue<Priority.Level>();
+        for (int i = 0; i < 100; i++) {
+            queue.offer(Priority.Level.HIGH, Priority.Level.HIGH);
+            queue.offer(Priority.Level.NORMAL, Priority.Level.NORMAL);
+            queue.offer(Priority.Level.LOW, Priority.Level.LOW);
+        }
+        int[] served = new int[Priority.Level.values().length];
+        for (int i = 0; i < 42; i++) {
+            served[queue.poll().ordinal()]++;
+        }
+        // 16:4:1
+        Assert.assertEquals(32, served[Priority.Level.HIGH.ordinal()]);
+        Assert.assertEquals(8, served[Priority.Level.NORMAL.ordinal()]);
+        Assert.assertEquals(2, served[Priority.Level.LOW.ordinal()]);
+
+        // an idle lane does not save up its share
+        WeightedFairQueue<Priority.Level> idle = new WeightedFairQueue<Priority.Level>();
+        for (int i = 0; i < 50; i++) {
+            idle.offer(Priority.Level.LOW, Priority.Level.LOW);
+            idle.poll();
+        }
+        for (int i = 0; i < 16; i++) {
+            idle.offer(Priority.Level.HIGH, Priority.Level.HIGH);
+            idle.offer(Priority.Level.LOW, Priority.Level.LOW);
+        }
+        int low = 0;
+        for (int i = 0; i < 16; i++) {
+            if (idle.poll() == Priority.Level.LOW) {
+                low++;
+            }
+        }
+        Assert.assertTrue(low <= 1);
+        Assert.assertEquals(16, idle.size());
+    }
+}
@@ -0,0 +1,59 @@
+/*
+ * Copyright 2013 Red Hat Inc. and/or its affiliates and other contributors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * http://www.apache.org/licenses/LICENSE-2.0
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,  
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.switchyard.runtime.qos;
+
+import org.junit.Assert;
+import org.junit.Test;
+import org.switchyard.runtime.qos.RequestCoalescer.InFlightRequest;
+
+public class RequestCoalescerTest {
+
+    @Test
+    public void followerWaitsForLeader() throws Exception {
+        RequestCoalescer coalescer = new RequestCoalescer();
+        InFlightRequest leader = new InFlightRequest("key");
+        Assert.assertNull(coalescer.join(leader));
+        InFlightRequest inFlight = coalescer.join(new InFlightRequest("key"));
+        Assert.assertSame(leader, inFlight);
+
+        coalescer.complete(leader, "reply");
+        Assert.assertTrue(inFlight.await(0));
+        Assert.assertEquals("reply", inFlight.getReply());
+        Assert.assertEquals(0, coalescer.getInFlightCount());
+        Assert.assertEquals(1, coalescer.getCoalescedCount());
+    }
+
+    @Test
+    public void lateLeaderDoesNotCompleteNewLeader() throws Exception {
+        RequestCoalescer coalescer = new RequestCoalescer();
+        InFlightRequest late = new InFlightRequest("key");
+        coalescer.join(late);
+        // a follower times out and the next request becomes the leader
+        coalescer.abandon(coalescer.join(new InFlightRequest("key")));
+        InFlightRequest leader = new InFlightRequest("key");
+        Assert.assertNull(coalescer.join(leader));
+
+        coalescer.complete(late, "late");
+        Assert.assertNull(late.getReply());
+        Assert.assertEquals(1, coalescer.getInFlightCount());
+        InFlightRequest inFlight = coalescer.join(new InFlightRequest("key"));
+        Assert.assertSame(leader, inFlight);
+        Assert.assertFalse(inFlight.await(0));
+
+        coalescer.complete(leader, "reply");
+        Assert.assertEquals("reply", inFlight.getReply());
+        Assert.assertEquals(0, coalescer.getInFlightCount());
+    }
+}
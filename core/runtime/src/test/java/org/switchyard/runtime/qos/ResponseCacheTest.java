@@ -0,0 +1,61 @@
+/*
+ * Copyright 2013 Red Hat Inc. and/or its affiliates and other contributors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * http://www.apache.org/licenses/LICENSE-2.0
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,  
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.switchyard.runtime.qos;
+
+import javax.xml.namespace.QName;
+
+import org.junit.Assert;
+import org.junit.Test;
+import org.switchyard.metadata.qos.Caching;
+
+public class ResponseCacheTest {
+
+    @Test
+    public void leastRecentlyUsedIsEvicted() {
+        ResponseCache cache = new ResponseCache(new Caching().setMaxEntries(2));
+        cache.put("a", "A");
+        cache.put("b", "B");
+        // touch "a" so "b" becomes the eldest entry
+        Assert.assertEquals("A", cache.get("a"));
+        cache.put("c", "C");
+
+        Assert.assertEquals(2, cache.size());
+        Assert.assertEquals(1, cache.getEvictionCount());
+        Assert.assertNull(cache.get("b"));
+        Assert.assertEquals("A", cache.get("a"));
+        Assert.assertEquals("C", cache.get("c"));
+    }
+
+    @Test
+    public void expiredEntriesAreDropped() throws Exception {
+        ResponseCache cache = new ResponseCache(new Caching().setTimeToLive(1));
+        cache.put("a", "A");
+        Thread.sleep(10);
+        Assert.assertNull(cache.get("a"));
+        Assert.assertEquals(1, cache.getExpirationCount());
+        Assert.assertEquals(1, cache.getMissCount());
+        Assert.assertEquals(0, cache.size());
+    }
+
+    @Test
+    public void registryReplacesCacheOnNewConfiguration() {
+        ResponseCacheRegistry registry = new ResponseCacheRegistry();
+        QName name = new QName("svc");
+        Caching caching = new Caching();
+        ResponseCache first = registry.getCache(name, caching);
+        Assert.assertSame(first, registry.getCache(name, caching));
+        Assert.assertNotSame(first, registry.getCache(name, new Caching()));
+    }
+}
@@ -19,6 +19,9 @@ import java.lang.reflect.Method;
 import java.lang.reflect.Proxy;
 import java.util.HashMap;
 import java.util.Map;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
 
 import javax.activation.DataSource;
 import javax.xml.namespace.QName;
@@ -357,6 +360,48 @@ public class Invoker {
         return _operationName == null ? reference.createExchange() : reference.createExchange(_operationName);
     }
 
+    /**
+     * Creates a task sending its payloads to the target Service, for a {@link LoadDriver}.
+     * <p/>
+     * Unlike {@link #sendInOut(Object)}, the task registers its service reference
+     * once and is notified of each response as soon as it arrives.
+     * @param pattern the exchange pattern
+     * @return the task
+     */
+    LoadTask newLoadTask(final ExchangePattern pattern) {
+        ServiceOperation operation = _serviceOperation;
+        if (operation == null) {
+            if (ExchangePattern.IN_ONLY.equals(pattern)) {
+                operation = new InOnlyOperation(_operationName, _inputType);
+            } else {
+                operation = new InOutOperation(_operationName, _inputType, _expectedOutputType, _expectedFaultType);
+            }
+        }
+        final ServiceReference reference = _domain.registerServiceReference(_serviceName, new BaseService(operation));
+        return new LoadTask() {
+            @Override
+            public void execute(Object payload) throws Exception {
+                ResponseLatch response = new ResponseLatch();
+                Exchange exchange = _operationName == null
+                        ? reference.createExchange(response) : reference.createExchange(_operationName, response);
+                Message message = exchange.createMessage().setContent(payload);
+                setProperties(exchange, message);
+                addAttachments(message);
+                exchange.send(message);
+                if (ExchangePattern.IN_OUT.equals(pattern)) {
+                    if (!response._latch.await(_timeoutMillis, TimeUnit.MILLISECONDS)) {
+                        throw new TimeoutException("Timed out waiting on response from " + _serviceName);
+                    }
+                    if (response._isFault) {
+                        throw new InvocationFaultException(response._response);
+                    }
+                } else if (exchange.getState().equals(ExchangeState.FAULT)) {
+                    throw new InvocationFaultException(exchange.getMessage());
+                }
+            }
+        };
+    }
+
     private ExchangeHandlerProxy createHandlerProxy(ExchangeHandler handler) {
         ProxyInvocationHandler proxyInvocationHandler = new ProxyInvocationHandler(handler);
         ExchangeHandler exchangeHandlerProxy = (ExchangeHandler) Proxy.newProxyInstance(ExchangeHandler.class.getClassLoader(),
@@ -430,4 +475,24 @@ public class Invoker {
             _response = exchange.getMessage();
         }
     }
+
+    private static final class ResponseLatch implements ExchangeHandler {
+
+        private final CountDownLatch _latch = new CountDownLatch(1);
+        private volatile Message _response;
+        private volatile boolean _isFault;
+
+        @Override
+        public void handleMessage(Exchange exchange) throws HandlerException {
+            _response = exchange.getMessage();
+            _latch.countDown();
+        }
+
+        @Override
+        public void handleFault(Exchange exchange) {
+            _isFault = true;
+            _response = exchange.getMessage();
+            _latch.countDown();
+        }
+    }
 }
@@ -0,0 +1,109 @@
+/*
+ * Copyright 2013 Red Hat Inc. and/or its affiliates and other contributors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * http://www.apache.org/licenses/LICENSE-2.0
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.switchyard.test;
+
+/**
+ * Counts latencies in buckets of about 1.5% of their value, so percentiles
+ * can be computed over runs of any length in constant memory.
+ * <p/>
+ * Not thread-safe: every load thread records into its own histograms,
+ * which are added up when the run is over.
+ */
+final class LatencyHistogram {
+
+    private static final int LINEAR = 128;
+    private static final int SUB_BUCKETS = 64;
+    private static final int SUB_BITS = 6;
+
+    private final long[] _counts = new long[LINEAR + 56 * SUB_BUCKETS];
+    private long _count;
+    private long _sum;
+    private long _max;
+
+    /**
+     * Records a latency.
+     * @param micros the latency in microseconds
+     */
+    void record(long micros) {
+        long value = Math.max(0L, micros);
+        _counts[index(value)]++;
+        _count++;
+        _sum += value;
+        _max = Math.max(_max, value);
+    }
+
+    /**
+     * Adds the latencies recorded by another histogram.
+     * @param other the other histogram
+     */
+    void add(LatencyHistogram other) {
+        for (int i = 0; i < _counts.length; i++) {
+            _counts[i] += other._counts[i];
+        }
+        _count += other._count;
+        _sum += other._sum;
+        _max = Math.max(_max, other._max);
+    }
+
+    long getCount() {
+        return _count;
+    }
+
+    long getMax() {
+        return _max;
+    }
+
+    double getMean() {
+        return _count == 0 ? 0d : (double)_sum / _count;
+    }
+
+    /**
+     * The latency below or at which the given percentage of the recorded latencies fall.
+     * @param percentile the percentage, from 0 to 100
+     * @return the latency in microseconds, rounded up to its bucket
+     */
+    long getPercentile(double percentile) {
+        if (_count == 0) {
+            return 0L;
+        }
+        long rank = Math.max(1L, (long)Math.ceil(Math.min(100d, Math.max(0d, percentile)) / 100d * _count));
+        long seen = 0L;
+        for (int i = 0; i < _counts.length; i++) {
+            seen += _counts[i];
+            if (seen >= rank) {
+                return Math.min(highestValue(i), _max);
+            }
+        }
+        return _max;
+    }
+
+    private static int index(long value) {
+        if (value < LINEAR) {
+            return (int)value;
+        }
+        int shift = 63 - Long.numberOfLeadingZeros(value) - SUB_BITS;
+        return LINEAR + (shift - 1) * SUB_BUCKETS + (int)((value >>> shift) - SUB_BUCKETS);
+    }
+
+    private static long highestValue(int index) {
+        if (index < LINEAR) {
+            return index;
+        }
+        int shift = (index - LINEAR) / SUB_BUCKETS + 1;
+        long sub = (index - LINEAR) % SUB_BUCKETS + SUB_BUCKETS;
+        long value = ((sub + 1) << shift) - 1;
+        return value < 0 ? Long.MAX_VALUE : value;
+    }
+}
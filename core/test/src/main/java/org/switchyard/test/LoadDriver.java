@@ -0,0 +1,309 @@
+/*
+ * Copyright 2013 Red Hat Inc. and/or its affiliates and other contributors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * http://www.apache.org/licenses/LICENSE-2.0
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.switchyard.test;
+
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.locks.LockSupport;
+
+import org.jboss.logging.Logger;
+import org.junit.Assert;
+import org.switchyard.ExchangePattern;
+
+/**
+ * Drives concurrent load through a deployed application and reports
+ * throughput, errors and latency percentiles per operation.
+ * <p/>
+ * Operations are either {@link Invoker invokers} or any {@link LoadTask},
+ * for instance one sending requests to a gateway through a test mix-in.
+ * Each thread makes one request at a time, taking the operations in turn.
+ * <pre>
+ * testKit.newLoadDriver()
+ *     .threads(8).rate(500).warmup(2, TimeUnit.SECONDS).duration(10, TimeUnit.SECONDS)
+ *     .inOut(testKit.newInvoker("OrderService.submitOrder"), LoadDriver.constant(order))
+ *     .run()
+ *     .assertNoErrors()
+ *     .assertPercentileBelow(99, 50);
+ * </pre>
+ * When a rate is set, requests are scheduled at fixed intervals and their
+ * latency is measured from the time they were due, so a stall of the
+ * application shows up in the latencies of the requests it delayed.
+ */
+public class LoadDriver {
+
+    private static Logger _logger = Logger.getLogger(LoadDriver.class);
+
+    private final List<Operation> _operations = new ArrayList<Operation>();
+    private int _threads = 1;
+    private double _rate;
+    private long _durationNanos = TimeUnit.SECONDS.toNanos(10);
+    private long _warmupNanos;
+
+    /**
+     * Sets the number of threads making requests.
+     * <p/>
+     * Default is 1.
+     *
+     * @param threads the number of threads
+     * @return this driver
+     */
+    public LoadDriver threads(int threads) {
+        Assert.assertTrue("At least one load thread is needed", threads > 0);
+        _threads = threads;
+        return this;
+    }
+
+    /**
+     * Sets the target number of requests per second, over all threads and operations.
+     * <p/>
+     * Default is 0, making requests as fast as the threads allow.
+     *
+     * @param perSecond the target rate
+     * @return this driver
+     */
+    public LoadDriver rate(double perSecond) {
+        _rate = Math.max(0d, perSecond);
+        return this;
+    }
+
+    /**
+     * Sets how long requests are measured, after the warmup.
+     * <p/>
+     * Default is 10 seconds.
+     *
+     * @param duration the duration
+     * @param unit the duration unit
+     * @return this driver
+     */
+    public LoadDriver duration(long duration, TimeUnit unit) {
+        _durationNanos = unit.toNanos(duration);
+        return this;
+    }
+
+    /**
+     * Sets how long requests are made without being measured before the run starts.
+     * <p/>
+     * Default is 0.
+     *
+     * @param warmup the warmup
+     * @param unit the warmup unit
+     * @return this driver
+     */
+    public LoadDriver warmup(long warmup, TimeUnit unit) {
+        _warmupNanos = unit.toNanos(warmup);
+        return this;
+    }
+
+    /**
+     * Adds an operation.
+     * @param name the name the operation is reported under
+     * @param task the task making the requests
+     * @param payloads the payloads of the requests
+     * @return this driver
+     */
+    public LoadDriver operation(String name, LoadTask task, PayloadGenerator payloads) {
+        for (Operation operation : _operations) {
+            Assert.assertFalse("Duplicate load operation '" + name + "'", operation._name.equals(name));
+        }
+        _operations.add(new Operation(name, task, payloads));
+        return this;
+    }
+
+    /**
+     * Adds an operation sending IN_OUT exchanges through an invoker.  The
+     * request completes when the response arrives; faults count as errors.
+     * @param invoker the invoker
+     * @param payloads the payloads of the requests
+     * @return this driver
+     */
+    public LoadDriver inOut(Invoker invoker, PayloadGenerator payloads) {
+        return operation(getName(invoker), invoker.newLoadTask(ExchangePattern.IN_OUT), payloads);
+    }
+
+    /**
+     * Adds an operation sending IN_ONLY exchanges through an invoker.  The
+     * request completes when the exchange has been sent.
+     * @param invoker the invoker
+     * @param payloads the payloads of the requests
+     * @return this driver
+     */
+    public LoadDriver inOnly(Invoker invoker, PayloadGenerator payloads) {
+        return operation(getName(invoker), invoker.newLoadTask(ExchangePattern.IN_ONLY), payloads);
+    }
+
+    /**
+     * Creates a generator returning the same payload for every request.
+     * @param payload the payload
+     * @return the generator
+     */
+    public static PayloadGenerator constant(final Object payload) {
+        return new PayloadGenerator() {
+            @Override
+            public Object next(long sequence) {
+                return payload;
+            }
+        };
+    }
+
+    /**
+     * Runs the load and waits for it to finish.
+     * @return the report
+     */
+    public LoadReport run() {
+        Assert.assertFalse("No load operations to run", _operations.isEmpty());
+        long intervalNanos = _rate > 0 ? Math.max(1L, (long)(TimeUnit.SECONDS.toNanos(1) / _rate)) : 0L;
+        long start = System.nanoTime() + TimeUnit.MILLISECONDS.toNanos(10);
+        Schedule schedule = new Schedule(start, start + _warmupNanos, start + _warmupNanos + _durationNanos, intervalNanos);
+
+        CountDownLatch done = new CountDownLatch(_threads);
+        List<Worker> workers = new ArrayList<Worker>(_threads);
+        for (int i = 0; i < _threads; i++) {
+            Worker worker = new Worker(schedule, done);
+            workers.add(worker);
+            Thread thread = new Thread(worker, "SwitchYard-LoadDriver-" + i);
+            thread.setDaemon(true);
+            thread.start();
+        }
+        try {
+            done.await();
+        } catch (InterruptedException ie) {
+            Thread.currentThread().interrupt();
+            Assert.fail("Interrupted while waiting for the load to finish");
+        }
+        long elapsedMillis = TimeUnit.NANOSECONDS.toMillis(Math.max(System.nanoTime(), schedule._end) - schedule._measured);
+
+        Map<String, LoadReport.OperationReport> reports = new LinkedHashMap<String, LoadReport.OperationReport>();
+        for (int o = 0; o < _operations.size(); o++) {
+            LatencyHistogram latencies = new LatencyHistogram();
+            long errors = 0L;
+            Throwable firstError = null;
+            for (Worker worker : workers) {
+                latencies.add(worker._latencies[o]);
+                errors += worker._errors[o];
+                if (firstError == null) {
+                    firstError = worker._firstErrors[o];
+                }
+            }
+            String name = _operations.get(o)._name;
+            reports.put(name, new LoadReport.OperationReport(name, elapsedMillis, latencies, errors, firstError));
+        }
+        LoadReport report = new LoadReport(elapsedMillis, reports);
+        _logger.info("Load run with " + _threads + " thread(s) finished:\n" + report);
+        return report;
+    }
+
+    private static String getName(Invoker invoker) {
+        String name = invoker.getServiceName().getLocalPart();
+        return invoker.getOperationName() != null ? name + "." + invoker.getOperationName() : name;
+    }
+
+    private static final class Operation {
+        private final String _name;
+        private final LoadTask _task;
+        private final PayloadGenerator _payloads;
+        private final AtomicLong _sequence = new AtomicLong();
+
+        private Operation(String name, LoadTask task, PayloadGenerator payloads) {
+            _name = name;
+            _task = task;
+            _payloads = payloads;
+        }
+    }
+
+    private static final class Schedule {
+        private final long _measured;
+        private final long _end;
+        private final long _interval;
+        private final AtomicLong _next;
+        private final AtomicLong _requests = new AtomicLong();
+
+        private Schedule(long start, long measured, long end, long interval) {
+            _measured = measured;
+            _end = end;
+            _interval = interval;
+            _next = new AtomicLong(start);
+        }
+
+        /**
+         * Claims the time the next request is due, waiting for it, or returns -1 once the run is over.
+         */
+        private long nextStart() {
+            if (_interval == 0) {
+                long now = System.nanoTime();
+                return now < _end ? now : -1L;
+            }
+            long due = _next.getAndAdd(_interval);
+            if (due >= _end) {
+                return -1L;
+            }
+            long wait;
+            while ((wait = due - System.nanoTime()) > 0) {
+                LockSupport.parkNanos(wait);
+            }
+            return due;
+        }
+    }
+
+    private final class Worker implements Runnable {
+        private final Schedule _schedule;
+        private final CountDownLatch _done;
+        private final LatencyHistogram[] _latencies = new LatencyHistogram[_operations.size()];
+        private final long[] _errors = new long[_operations.size()];
+        private final Throwable[] _firstErrors = new Throwable[_operations.size()];
+
+        private Worker(Schedule schedule, CountDownLatch done) {
+            _schedule = schedule;
+            _done = done;
+            for (int i = 0; i < _latencies.length; i++) {
+                _latencies[i] = new LatencyHistogram();
+            }
+        }
+
+        @Override
+        public void run() {
+            try {
+                long start;
+                while ((start = _schedule.nextStart()) != -1L && !Thread.currentThread().isInterrupted()) {
+                    int index = (int)(_schedule._requests.getAndIncrement() % _operations.size());
+                    Operation operation = _operations.get(index);
+                    boolean failed = false;
+                    try {
+                        Object payload = operation._payloads != null ? operation._payloads.next(operation._sequence.getAndIncrement()) : null;
+                        operation._task.execute(payload);
+                    } catch (Throwable t) {
+                        failed = true;
+                        if (start >= _schedule._measured && _firstErrors[index] == null) {
+                            _firstErrors[index] = t;
+                        }
+                    }
+                    if (start >= _schedule._measured) {
+                        if (failed) {
+                            _errors[index]++;
+                        } else {
+                            _latencies[index].record(TimeUnit.NANOSECONDS.toMicros(System.nanoTime() - start));
+                        }
+                    }
+                }
+            } finally {
+                _done.countDown();
+            }
+        }
+    }
+}
@@ -0,0 +1,289 @@
+/*
+ * Copyright 2013 Red Hat Inc. and/or its affiliates and other contributors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * http://www.apache.org/licenses/LICENSE-2.0
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.switchyard.test;
+
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Set;
+
+import org.junit.Assert;
+
+/**
+ * What a {@link LoadDriver} run measured: throughput, errors and latency
+ * percentiles per operation, and assertions over them.
+ * <p/>
+ * Only requests started after the warmup count.
+ */
+public final class LoadReport {
+
+    /**
+     * Name of the figures added up over all operations.
+     */
+    public static final String TOTAL = "TOTAL";
+
+    private final long _elapsedMillis;
+    private final Map<String, OperationReport> _operations;
+    private final OperationReport _total;
+
+    LoadReport(long elapsedMillis, Map<String, OperationReport> operations) {
+        _elapsedMillis = elapsedMillis;
+        _operations = Collections.unmodifiableMap(new LinkedHashMap<String, OperationReport>(operations));
+        LatencyHistogram latencies = new LatencyHistogram();
+        long errors = 0L;
+        Throwable firstError = null;
+        for (OperationReport operation : operations.values()) {
+            latencies.add(operation._latencies);
+            errors += operation._errors;
+            if (firstError == null) {
+                firstError = operation._firstError;
+            }
+        }
+        _total = new OperationReport(TOTAL, elapsedMillis, latencies, errors, firstError);
+    }
+
+    /**
+     * The length of the measured part of the run.
+     * @return the elapsed time in milliseconds
+     */
+    public long getElapsedMillis() {
+        return _elapsedMillis;
+    }
+
+    /**
+     * The names of the operations, in the order they were added to the driver.
+     * @return the operation names
+     */
+    public Set<String> getOperationNames() {
+        return _operations.keySet();
+    }
+
+    /**
+     * The figures of an operation.
+     * @param name the operation name, or {@link #TOTAL}
+     * @return the figures
+     */
+    public OperationReport getOperation(String name) {
+        if (TOTAL.equals(name)) {
+            return _total;
+        }
+        OperationReport operation = _operations.get(name);
+        Assert.assertNotNull("Unknown load operation '" + name + "'", operation);
+        return operation;
+    }
+
+    /**
+     * The figures added up over all operations.
+     * @return the figures
+     */
+    public OperationReport getTotal() {
+        return _total;
+    }
+
+    /**
+     * Asserts that no request failed.
+     * @return this report
+     */
+    public LoadReport assertNoErrors() {
+        if (_total._errors > 0) {
+            AssertionError error = new AssertionError(_total._errors + " of " + _total.getRequests()
+                    + " requests failed\n" + this);
+            error.initCause(_total._firstError);
+            throw error;
+        }
+        return this;
+    }
+
+    /**
+     * Asserts that the ratio of failed requests is below a limit.
+     * @param ratio the limit, from 0 to 1
+     * @return this report
+     */
+    public LoadReport assertErrorRateBelow(double ratio) {
+        Assert.assertTrue("Error rate " + _total.getErrorRate() + " is not below " + ratio + "\n" + this,
+                _total.getErrorRate() < ratio);
+        return this;
+    }
+
+    /**
+     * Asserts that a latency percentile of every operation is below a limit,
+     * for instance {@code assertPercentileBelow(99, 50)} for "p99 &lt; 50ms".
+     * @param percentile the percentile, from 0 to 100
+     * @param millis the limit in milliseconds
+     * @return this report
+     */
+    public LoadReport assertPercentileBelow(double percentile, long millis) {
+        for (String name : _operations.keySet()) {
+            assertPercentileBelow(name, percentile, millis);
+        }
+        return this;
+    }
+
+    /**
+     * Asserts that a latency percentile of an operation is below a limit.
+     * @param name the operation name, or {@link #TOTAL}
+     * @param percentile the percentile, from 0 to 100
+     * @param millis the limit in milliseconds
+     * @return this report
+     */
+    public LoadReport assertPercentileBelow(String name, double percentile, long millis) {
+        double actual = getOperation(name).getPercentileMillis(percentile);
+        Assert.assertTrue(name + " p" + format(percentile) + " of " + format(actual) + "ms is not below " + millis + "ms\n" + this,
+                actual < millis);
+        return this;
+    }
+
+    /**
+     * Asserts that the successful requests per second over all operations are above a limit.
+     * @param perSecond the limit
+     * @return this report
+     */
+    public LoadReport assertThroughputAbove(double perSecond) {
+        Assert.assertTrue("Throughput of " + format(_total.getThroughput()) + "/s is not above " + format(perSecond) + "/s\n" + this,
+                _total.getThroughput() > perSecond);
+        return this;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public String toString() {
+        StringBuilder sb = new StringBuilder();
+        sb.append(String.format("%-30s %10s %8s %10s %9s %9s %9s %9s %9s%n",
+                "operation", "requests", "errors", "req/s", "mean(ms)", "p50(ms)", "p95(ms)", "p99(ms)", "max(ms)"));
+        for (OperationReport operation : _operations.values()) {
+            operation.appendTo(sb);
+        }
+        if (_operations.size() > 1) {
+            _total.appendTo(sb);
+        }
+        return sb.toString();
+    }
+
+    private static String format(double value) {
+        return String.format("%.2f", value);
+    }
+
+    /**
+     * The figures of one operation.
+     */
+    public static final class OperationReport {
+
+        private final String _name;
+        private final long _elapsedMillis;
+        private final LatencyHistogram _latencies;
+        private final long _errors;
+        private final Throwable _firstError;
+
+        OperationReport(String name, long elapsedMillis, LatencyHistogram latencies, long errors, Throwable firstError) {
+            _name = name;
+            _elapsedMillis = elapsedMillis;
+            _latencies = latencies;
+            _errors = errors;
+            _firstError = firstError;
+        }
+
+        /**
+         * The operation name.
+         * @return the name
+         */
+        public String getName() {
+            return _name;
+        }
+
+        /**
+         * The number of requests made, successful or not.
+         * @return the number of requests
+         */
+        public long getRequests() {
+            return _latencies.getCount() + _errors;
+        }
+
+        /**
+         * The number of failed requests.
+         * @return the number of errors
+         */
+        public long getErrors() {
+            return _errors;
+        }
+
+        /**
+         * The ratio of failed requests.
+         * @return the error rate, from 0 to 1
+         */
+        public double getErrorRate() {
+            long requests = getRequests();
+            return requests == 0 ? 0d : (double)_errors / requests;
+        }
+
+        /**
+         * The first failure, kept to explain the errors.
+         * @return the first failure, or null
+         */
+        public Throwable getFirstError() {
+            return _firstError;
+        }
+
+        /**
+         * The successful requests per second.
+         * @return the throughput
+         */
+        public double getThroughput() {
+            return _elapsedMillis == 0 ? 0d : _latencies.getCount() * 1000d / _elapsedMillis;
+        }
+
+        /**
+         * The mean latency of successful requests.
+         * @return the mean latency in milliseconds
+         */
+        public double getMeanMillis() {
+            return _latencies.getMean() / 1000d;
+        }
+
+        /**
+         * The highest latency of successful requests.
+         * @return the highest latency in milliseconds
+         */
+        public double getMaxMillis() {
+            return _latencies.getMax() / 1000d;
+        }
+
+        /**
+         * A latency percentile of successful requests.
+         * @param percentile the percentile, from 0 to 100
+         * @return the latency in milliseconds
+         */
+        public double getPercentileMillis(double percentile) {
+            return _latencies.getPercentile(percentile) / 1000d;
+        }
+
+        private void appendTo(StringBuilder sb) {
+            sb.append(String.format("%-30s %10d %8d %10.1f %9.2f %9.2f %9.2f %9.2f %9.2f%n",
+                    _name, getRequests(), _errors, getThroughput(), getMeanMillis(),
+                    getPercentileMillis(50), getPercentileMillis(95), getPercentileMillis(99), getMaxMillis()));
+        }
+
+        /**
+         * {@inheritDoc}
+         */
+        @Override
+        public String toString() {
+            StringBuilder sb = new StringBuilder();
+            appendTo(sb);
+            return sb.toString().trim();
+        }
+    }
+}
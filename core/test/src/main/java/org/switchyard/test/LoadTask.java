@@ -0,0 +1,32 @@
+/*
+ * Copyright 2013 Red Hat Inc. and/or its affiliates and other contributors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * http://www.apache.org/licenses/LICENSE-2.0
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.switchyard.test;
+
+/**
+ * A single request made by a {@link LoadDriver}.
+ * <p/>
+ * Tasks are called from several threads at the same time.  A task completes
+ * successfully by returning; any exception or error it throws, including a
+ * failed assertion, is counted as an error for its operation.
+ */
+public interface LoadTask {
+
+    /**
+     * Makes one request.
+     * @param payload the payload created for this request
+     * @throws Exception if the request fails
+     */
+    void execute(Object payload) throws Exception;
+}
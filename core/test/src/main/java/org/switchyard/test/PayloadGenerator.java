@@ -0,0 +1,30 @@
+/*
+ * Copyright 2013 Red Hat Inc. and/or its affiliates and other contributors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * http://www.apache.org/licenses/LICENSE-2.0
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.switchyard.test;
+
+/**
+ * Creates the payloads of the requests made by a {@link LoadDriver}.
+ * <p/>
+ * Generators are called from several threads at the same time.
+ */
+public interface PayloadGenerator {
+
+    /**
+     * Creates the payload of a request.
+     * @param sequence the number of the request within its operation, starting at 0
+     * @return the payload
+     */
+    Object next(long sequence);
+}
@@ -420,6 +420,15 @@ public class SwitchYardTestKit {
         return newInvoker(createQName(serviceName));
     }
 
+    /**
+     * Create a new {@link LoadDriver} instance for driving concurrent load through the
+     * Services in the test ServiceDomain, or through gateways using the test mix-ins.
+     * @return The load driver instance.
+     */
+    public LoadDriver newLoadDriver() {
+        return new LoadDriver();
+    }
+
     /**
      * Create a new {@link Transformer} instance from the specified {@link org.switchyard.config.model.transform.TransformModel}.
      * @param transformModel The TransformModel.
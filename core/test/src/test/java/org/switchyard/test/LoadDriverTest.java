@@ -0,0 +1,135 @@
+/*
+ * Copyright 2013 Red Hat Inc. and/or its affiliates and other contributors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * http://www.apache.org/licenses/LICENSE-2.0
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.switchyard.test;
+
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.junit.Assert;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.switchyard.BaseHandler;
+import org.switchyard.Exchange;
+import org.switchyard.HandlerException;
+
+/**
+ * Tests for the load driver.
+ */
+@RunWith(SwitchYardRunner.class)
+public class LoadDriverTest {
+
+    private SwitchYardTestKit _testKit;
+
+    @Test
+    public void testInvokerOperations() throws Exception {
+        final AtomicInteger received = new AtomicInteger();
+        _testKit.registerInOutService("Echo", new BaseHandler() {
+            @Override
+            public void handleMessage(Exchange exchange) throws HandlerException {
+                exchange.send(exchange.createMessage().setContent(exchange.getMessage().getContent()));
+            }
+        });
+        _testKit.registerInOnlyService("Sink", new BaseHandler() {
+            @Override
+            public void handleMessage(Exchange exchange) throws HandlerException {
+                received.incrementAndGet();
+            }
+        });
+
+        LoadReport report = _testKit.newLoadDriver()
+                .threads(4)
+                .warmup(100, TimeUnit.MILLISECONDS)
+                .duration(300, TimeUnit.MILLISECONDS)
+                .inOut(_testKit.newInvoker("Echo"), LoadDriver.constant("hello"))
+                .inOnly(_testKit.newInvoker("Sink"), new PayloadGenerator() {
+                    @Override
+                    public Object next(long sequence) {
+                        return "message-" + sequence;
+                    }
+                })
+                .run();
+
+        report.assertNoErrors().assertPercentileBelow(50, 1000);
+        Assert.assertTrue(report.getOperation("Echo").getRequests() > 0);
+        Assert.assertTrue(report.getOperation("Sink").getRequests() > 0);
+        Assert.assertTrue(received.get() > 0);
+        Assert.assertEquals(report.getOperation("Echo").getRequests() + report.getOperation("Sink").getRequests(),
+                report.getTotal().getRequests());
+    }
+
+    @Test
+    public void testErrorsAreCounted() {
+        final AtomicInteger calls = new AtomicInteger();
+        LoadReport report = _testKit.newLoadDriver()
+                .threads(2)
+                .duration(200, TimeUnit.MILLISECONDS)
+                .operation("flaky", new LoadTask() {
+                    @Override
+                    public void execute(Object payload) throws Exception {
+                        if (calls.incrementAndGet() % 2 == 0) {
+                            throw new Exception("failed");
+                        }
+                        Thread.sleep(1);
+                    }
+                }, null)
+                .run();
+
+        LoadReport.OperationReport flaky = report.getOperation("flaky");
+        Assert.assertTrue(flaky.getErrors() > 0);
+        Assert.assertEquals("failed", flaky.getFirstError().getMessage());
+        report.assertErrorRateBelow(0.6);
+        try {
+            report.assertNoErrors();
+            Assert.fail("Errors were not reported");
+        } catch (AssertionError expected) {
+            Assert.assertEquals("failed", expected.getCause().getMessage());
+        }
+    }
+
+    @Test
+    public void testRate() {
+        final AtomicInteger calls = new AtomicInteger();
+        LoadReport report = _testKit.newLoadDriver()
+                .threads(2)
+                .rate(200)
+                .warmup(100, TimeUnit.MILLISECONDS)
+                .duration(500, TimeUnit.MILLISECONDS)
+                .operation("counted", new LoadTask() {
+                    @Override
+                    public void execute(Object payload) throws Exception {
+                        calls.incrementAndGet();
+                    }
+                }, null)
+                .run();
+
+        // 20 requests in the warmup, 100 measured
+        Assert.assertEquals(120, calls.get());
+        Assert.assertEquals(100, report.getOperation("counted").getRequests());
+    }
+
+    @Test
+    public void testPercentiles() {
+        LatencyHistogram histogram = new LatencyHistogram();
+        for (long micros = 1; micros <= 100000; micros++) {
+            histogram.record(micros);
+        }
+        Assert.assertEquals(100000, histogram.getCount());
+        Assert.assertEquals(100000, histogram.getMax());
+        Assert.assertEquals(50000, histogram.getPercentile(50), 50000 * 0.02);
+        Assert.assertEquals(99000, histogram.getPercentile(99), 99000 * 0.02);
+        Assert.assertEquals(100000, histogram.getPercentile(100));
+        Assert.assertEquals(1, histogram.getPercentile(0));
+    }
+}
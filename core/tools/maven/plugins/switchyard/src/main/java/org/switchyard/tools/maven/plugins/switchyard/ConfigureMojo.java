@@ -37,6 +37,7 @@ import org.apache.maven.plugins.annotations.ResolutionScope;
 import org.codehaus.plexus.util.FileUtils;
 import org.codehaus.plexus.util.StringUtils;
 import org.switchyard.common.type.Classes;
+import org.switchyard.common.type.classpath.ClasspathIndex;
 import org.switchyard.config.OutputKey;
 import org.switchyard.config.model.MergeScanner;
 import org.switchyard.config.model.Model;
@@ -85,6 +86,9 @@ public class ConfigureMojo<M extends Model> extends AbstractMojo {
     @Parameter(alias="scannerClassNames")
     private String[] _scannerClassNames = new String[] {};
 
+    @Parameter(property="indexClasspath", alias="indexClasspath")
+    private boolean _indexClasspath = true;
+
     @Override
     public void execute() throws MojoExecutionException, MojoFailureException {
         final List<URL> mojoURLs = new ArrayList<URL>();
@@ -148,6 +152,11 @@ public class ConfigureMojo<M extends Model> extends AbstractMojo {
             getLog().info("SwitchYard configure plugin scanner URLs: " + scannerURLs);
             ScannerInput<M> scanner_input = new ScannerInput<M>().setCompositeName(_project_artifactId).setURLs(scannerURLs);
             M model = merge_scanner.scan(scanner_input).getModel();
+            if (_indexClasspath && _project_build_outputDirectory.isDirectory()) {
+                // lets the runtime and later builds reuse the class file information read by the scanners
+                File index = ClasspathIndex.persist(_project_build_outputDirectory);
+                getLog().info("Wrote SwitchYard classpath index to " + index.getAbsolutePath());
+            }
             if (_outputFile == null) {
                 File od = new File(_project_build_outputDirectory, SWITCHYARD_XML_DEFAULT_FOLDER);
                 if (!od.exists()) {
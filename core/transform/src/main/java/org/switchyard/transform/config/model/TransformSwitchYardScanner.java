@@ -20,6 +20,7 @@ import java.util.List;
 
 import org.switchyard.common.cdi.CDIUtil;
 import org.switchyard.common.type.classpath.AbstractTypeFilter;
+import org.switchyard.common.type.classpath.ClassInfo;
 import org.switchyard.common.type.classpath.ClasspathScanner;
 import org.switchyard.config.model.Scannable;
 import org.switchyard.config.model.Scanner;
@@ -89,14 +90,19 @@ public class TransformSwitchYardScanner implements Scanner<SwitchYardModel> {
         AbstractTypeFilter filter = new TransformerInstanceOfFilter();
         ClasspathScanner scanner = new ClasspathScanner(filter);
 
-        for (URL url : urls) {
-            scanner.scan(url);
-        }
+        scanner.scan(urls);
 
         return filter.getMatchedTypes();
     }
 
     private class TransformerInstanceOfFilter extends AbstractTypeFilter {
+        @Override
+        public boolean mayMatch(ClassInfo info) {
+            // a transformer implements Transformer or has @Transformer methods, possibly inherited
+            return !info.isInterface() && !info.isAbstract()
+                    && (!info.hasNoSuperTypes() || info.getMemberAnnotations().contains(org.switchyard.annotations.Transformer.class.getName()));
+        }
+
         @Override
         public boolean matches(Class<?> clazz) {
             Scannable scannable = clazz.getAnnotation(Scannable.class);
@@ -20,6 +20,7 @@ import java.util.List;
 
 import org.switchyard.common.cdi.CDIUtil;
 import org.switchyard.common.type.classpath.AbstractTypeFilter;
+import org.switchyard.common.type.classpath.ClassInfo;
 import org.switchyard.common.type.classpath.ClasspathScanner;
 import org.switchyard.config.model.Scannable;
 import org.switchyard.config.model.Scanner;
@@ -87,14 +88,19 @@ public class ValidateSwitchYardScanner implements Scanner<SwitchYardModel> {
     private List<Class<?>> scanForValidators(List<URL> urls) throws IOException {
         AbstractTypeFilter filter = new ValidatorInstanceOfFilter();
         ClasspathScanner scanner = new ClasspathScanner(filter);
-        for (URL url : urls) {
-            scanner.scan(url);
-        }
+        scanner.scan(urls);
 
         return filter.getMatchedTypes();
     }
 
     private class ValidatorInstanceOfFilter extends AbstractTypeFilter {
+        @Override
+        public boolean mayMatch(ClassInfo info) {
+            // a validator implements Validator or has @Validator methods, possibly inherited
+            return !info.isInterface() && !info.isAbstract()
+                    && (!info.hasNoSuperTypes() || info.getMemberAnnotations().contains(org.switchyard.annotations.Validator.class.getName()));
+        }
+
         @Override
         public boolean matches(Class<?> clazz) {
             Scannable scannable = clazz.getAnnotation(Scannable.class);
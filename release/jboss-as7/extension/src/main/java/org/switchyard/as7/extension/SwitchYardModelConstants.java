@@ -257,6 +257,22 @@ public final class SwitchYardModelConstants {
      * Constant for model key: timePeriod.
      */
     public static final String TIME_PERIOD = "timePeriod";
+    /**
+     * Constant for model key: maxConcurrent.
+     */
+    public static final String MAX_CONCURRENT = "maxConcurrent";
+    /**
+     * Constant for model key: concurrencyLimit.
+     */
+    public static final String CONCURRENCY_LIMIT = "concurrencyLimit";
+    /**
+     * Constant for model key: inFlightCount.
+     */
+    public static final String IN_FLIGHT_COUNT = "inFlightCount";
+    /**
+     * Constant for model key: rejectedCount.
+     */
+    public static final String REJECTED_COUNT = "rejectedCount";
 
     private SwitchYardModelConstants() {
     }
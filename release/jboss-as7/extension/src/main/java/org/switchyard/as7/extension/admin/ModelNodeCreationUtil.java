@@ -22,6 +22,7 @@ import static org.switchyard.as7.extension.SwitchYardModelConstants.APPLICATION;
 import static org.switchyard.as7.extension.SwitchYardModelConstants.ARTIFACTS;
 import static org.switchyard.as7.extension.SwitchYardModelConstants.AVERAGE_TIME;
 import static org.switchyard.as7.extension.SwitchYardModelConstants.COMPONENT_SERVICES;
+import static org.switchyard.as7.extension.SwitchYardModelConstants.CONCURRENCY_LIMIT;
 import static org.switchyard.as7.extension.SwitchYardModelConstants.CONFIGURATION;
 import static org.switchyard.as7.extension.SwitchYardModelConstants.ENABLED;
 import static org.switchyard.as7.extension.SwitchYardModelConstants.FAULT_COUNT;
@@ -29,6 +30,8 @@ import static org.switchyard.as7.extension.SwitchYardModelConstants.FROM;
 import static org.switchyard.as7.extension.SwitchYardModelConstants.GATEWAYS;
 import static org.switchyard.as7.extension.SwitchYardModelConstants.IMPLEMENTATION;
 import static org.switchyard.as7.extension.SwitchYardModelConstants.IMPLEMENTATION_CONFIGURATION;
+import static org.switchyard.as7.extension.SwitchYardModelConstants.IN_FLIGHT_COUNT;
+import static org.switchyard.as7.extension.SwitchYardModelConstants.MAX_CONCURRENT;
 import static org.switchyard.as7.extension.SwitchYardModelConstants.MAX_REQUESTS;
 import static org.switchyard.as7.extension.SwitchYardModelConstants.MAX_TIME;
 import static org.switchyard.as7.extension.SwitchYardModelConstants.MIN_TIME;
@@ -36,6 +39,7 @@ import static org.switchyard.as7.extension.SwitchYardModelConstants.OPERATIONS;
 import static org.switchyard.as7.extension.SwitchYardModelConstants.PROMOTED_REFERENCE;
 import static org.switchyard.as7.extension.SwitchYardModelConstants.PROMOTED_SERVICE;
 import static org.switchyard.as7.extension.SwitchYardModelConstants.REFERENCES;
+import static org.switchyard.as7.extension.SwitchYardModelConstants.REJECTED_COUNT;
 import static org.switchyard.as7.extension.SwitchYardModelConstants.SERVICES;
 import static org.switchyard.as7.extension.SwitchYardModelConstants.STATE;
 import static org.switchyard.as7.extension.SwitchYardModelConstants.SUCCESS_COUNT;
@@ -288,7 +292,11 @@ final public class ModelNodeCreationUtil {
      *      "throttling" =&gt; {
      *          "enabled" =&gt; "true",
      *          "maxRequests" =&gt; "maxRequests",
-     *          "timePeriod" =&gt; "timePeriod"
+     *          "timePeriod" =&gt; "timePeriod",
+     *          "maxConcurrent" =&gt; "maxConcurrent",
+     *          "concurrencyLimit" =&gt; "concurrencyLimit",
+     *          "inFlightCount" =&gt; "inFlightCount",
+     *          "rejectedCount" =&gt; "rejectedCount"
      *      }
      * </pre></code>
      * 
@@ -854,7 +862,11 @@ final public class ModelNodeCreationUtil {
      *      "throttling" =&gt; {
      *          "enabled" =&gt; "true",
      *          "maxRequests" =&gt; "maxRequests",
-     *          "timePeriod" =&gt; "timePeriod"
+     *          "timePeriod" =&gt; "timePeriod",
+     *          "maxConcurrent" =&gt; "maxConcurrent",
+     *          "concurrencyLimit" =&gt; "concurrencyLimit",
+     *          "inFlightCount" =&gt; "inFlightCount",
+     *          "rejectedCount" =&gt; "rejectedCount"
      *      }
      * </pre></code>
      * 
@@ -869,6 +881,10 @@ final public class ModelNodeCreationUtil {
         node.get(ENABLED).set(throttling.isEnabled());
         node.get(MAX_REQUESTS).set(throttling.getMaxRequests());
         node.get(TIME_PERIOD).set(throttling.getTimePeriod());
+        node.get(MAX_CONCURRENT).set(throttling.getMaxConcurrent());
+        node.get(CONCURRENCY_LIMIT).set(throttling.getConcurrencyLimit());
+        node.get(IN_FLIGHT_COUNT).set(throttling.getInFlightCount());
+        node.get(REJECTED_COUNT).set(throttling.getRejectedCount());
         return node;
     }
 
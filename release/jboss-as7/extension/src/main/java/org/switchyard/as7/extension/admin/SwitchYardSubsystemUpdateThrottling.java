@@ -15,6 +15,7 @@ package org.switchyard.as7.extension.admin;
 
 import static org.switchyard.as7.extension.SwitchYardModelConstants.APPLICATION_NAME;
 import static org.switchyard.as7.extension.SwitchYardModelConstants.ENABLED;
+import static org.switchyard.as7.extension.SwitchYardModelConstants.MAX_CONCURRENT;
 import static org.switchyard.as7.extension.SwitchYardModelConstants.MAX_REQUESTS;
 import static org.switchyard.as7.extension.SwitchYardModelConstants.SERVICE_NAME;
 import static org.switchyard.as7.extension.SwitchYardModelConstants.THROTTLING;
@@ -75,8 +76,10 @@ public final class SwitchYardSubsystemUpdateThrottling implements OperationStepH
                     if (throttlingNode != null) {
                         final ModelNode enabled = throttlingNode.get(ENABLED);
                         final ModelNode maxRequests = throttlingNode.get(MAX_REQUESTS);
+                        final ModelNode maxConcurrent = throttlingNode.get(MAX_CONCURRENT);
                         throttling.update(enabled == null || !enabled.isDefined() ? null : enabled.asBoolean(),
-                                maxRequests == null || !maxRequests.isDefined() ? null : maxRequests.asInt());
+                                maxRequests == null || !maxRequests.isDefined() ? null : maxRequests.asInt(),
+                                maxConcurrent == null || !maxConcurrent.isDefined() ? null : maxConcurrent.asInt());
                     }
                     context.stepCompleted();
                 } catch (Throwable e) {
@@ -27,7 +27,7 @@ import org.switchyard.as7.extension.SwitchYardDeploymentMarker;
 import org.switchyard.common.property.CompoundPropertyResolver;
 import org.switchyard.common.property.PropertyResolver;
 import org.switchyard.config.Configuration;
-import org.switchyard.config.model.ModelPuller;
+import org.switchyard.config.model.ModelCache;
 import org.switchyard.config.model.switchyard.SwitchYardModel;
 
 /**
@@ -56,7 +56,7 @@ public class SwitchYardConfigProcessor implements DeploymentUnitProcessor {
             final Module module = deploymentUnit.getAttachment(Attachments.MODULE);
             Thread.currentThread().setContextClassLoader(module.getClassLoader());
             is = switchYardMetaData.getSwitchYardFile().openStream();
-            SwitchYardModel switchyardModel = new ModelPuller<SwitchYardModel>().pull(is);
+            SwitchYardModel switchyardModel = new ModelCache<SwitchYardModel>().pull(is);
             JBossPropertyResolver.set(deploymentUnit, switchyardModel);
             switchYardMetaData.setSwitchYardModel(switchyardModel);
             LOG.debug("Successfully parsed SwitchYard configuration for deployment unit '" + deploymentUnit.getName() + "'.");
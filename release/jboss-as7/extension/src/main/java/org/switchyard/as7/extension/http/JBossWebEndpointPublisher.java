@@ -76,6 +76,7 @@ public class JBossWebEndpointPublisher implements EndpointPublisher {
             wrapper.setServletClass(HttpGatewayServlet.class.getName());
             wrapper.setServlet(new HttpGatewayServlet());
             wrapper.setLoadOnStartup(1);
+            wrapper.setAsyncSupported(true);
             serverContext.addChild(wrapper);
             serverContext.addServletMapping("/*", SERVLET_NAME);
 
@@ -77,6 +77,7 @@ public class JBossWebEndpointPublisher implements EndpointPublisher {
                 servletBuilder.setServletName(SERVLET_NAME);
                 servletBuilder.setServletClass(HttpGatewayServlet.class);
                 servletBuilder.setForceInit(true);
+                servletBuilder.setAsyncSupported(true);
                 servletBuilder.setServlet(servlet);
                 deployment.addServlet(servletBuilder);
 
@@ -71,6 +71,10 @@ final public class PrintUtil {
     private static final String ENABLED = "enabled";
     private static final String MAX_REQUESTS = "maxRequests";
     private static final String TIME_PERIOD = "timePeriod";
+    private static final String MAX_CONCURRENT = "maxConcurrent";
+    private static final String CONCURRENCY_LIMIT = "concurrencyLimit";
+    private static final String IN_FLIGHT_COUNT = "inFlightCount";
+    private static final String REJECTED_COUNT = "rejectedCount";
 
     /**
      * Creates output tree for the {@link Application}. The tree has the form: <br>
@@ -298,6 +302,10 @@ final public class PrintUtil {
      *          "enabled" = "true"
      *          "maxRequests" = "maxRequests"
      *          "timePeriod" = "timePeriod"
+     *          "maxConcurrent" = "maxConcurrent"
+     *          "concurrencyLimit" = "concurrencyLimit"
+     *          "inFlightCount" = "inFlightCount"
+     *          "rejectedCount" = "rejectedCount"
      *      ]
      *  ]
      * </pre></code>
@@ -885,6 +893,10 @@ final public class PrintUtil {
      *          "enabled" = "true"
      *          "maxRequests" = "maxRequests"
      *          "timePeriod" = "timePeriod"
+     *          "maxConcurrent" = "maxConcurrent"
+     *          "concurrencyLimit" = "concurrencyLimit"
+     *          "inFlightCount" = "inFlightCount"
+     *          "rejectedCount" = "rejectedCount"
      *      ]
      * </pre></code>
      * 
@@ -908,6 +920,14 @@ final public class PrintUtil {
                 .append(throttling.getMaxRequests()).append("\n");
         throttlingNode.append(indent(indentLevel)).append(TIME_PERIOD).append(" = ").append(throttling.getTimePeriod())
                 .append("\n");
+        throttlingNode.append(indent(indentLevel)).append(MAX_CONCURRENT).append(" = ")
+                .append(throttling.getMaxConcurrent()).append("\n");
+        throttlingNode.append(indent(indentLevel)).append(CONCURRENCY_LIMIT).append(" = ")
+                .append(throttling.getConcurrencyLimit()).append("\n");
+        throttlingNode.append(indent(indentLevel)).append(IN_FLIGHT_COUNT).append(" = ")
+                .append(throttling.getInFlightCount()).append("\n");
+        throttlingNode.append(indent(indentLevel)).append(REJECTED_COUNT).append(" = ")
+                .append(throttling.getRejectedCount()).append("\n");
 
         --indentLevel;
 
@@ -50,6 +50,9 @@ public class UpdateThrottlingCommand extends AbstractSwitchYardServiceCommand {
     @Option(name = "--maxRequests", description = "The maximum number of requests per period.")
     private Integer _maxRequests;
 
+    @Option(name = "--maxConcurrent", description = "The maximum number of requests in flight, 0 to remove the limit.")
+    private Integer _maxConcurrent;
+
     @Override
     protected Object doExecute(final SwitchYard switchYard) throws Exception {
         final Application application = switchYard.getApplication(QName.valueOf(_application));
@@ -63,7 +66,7 @@ public class UpdateThrottlingCommand extends AbstractSwitchYardServiceCommand {
             System.err.println("Could not locate service: " + _service);
             return null;
         }
-        service.getThrottling().update(_operation == OperationType.enable, _maxRequests);
+        service.getThrottling().update(_operation == OperationType.enable, _maxRequests, _maxConcurrent);
         return null;
     }
 